@@ -0,0 +1,208 @@
+import AST.Program;
+import Generator.Peephole;
+import Generator.Visitor.GeneratorVisitor;
+import Parser.parser;
+import Parser.sym;
+import Scanner.scanner;
+import Semantics.GlobalADT;
+import Semantics.Visitor.*;
+import java_cup.runtime.ComplexSymbolFactory;
+import java_cup.runtime.Symbol;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks of each phase of the compiler: the scanner, the parser, each of
+ * P1 to P6, and GeneratorVisitor, on every input program. A phase is timed
+ * alone, on a state that the phases before it have made.
+ *
+ * Usage: CompilerBenchmarks [options] [<inputs>]
+ * Inputs are files, directories and synthetic:<lines>[:<seed>], a program
+ * of that many lines from ProgramGenerator (by default with seed 1). The
+ * default is SamplePrograms/SampleMiniJavaPrograms.
+ *   -bm <regex>   only the benchmarks whose names match
+ *   -wi <n>, -i <n>    warmup and measured iterations (5 and 5)
+ *   -w <s>, -r <s>     seconds per warmup and measured iteration (1 and 1)
+ *   -tu <ns|us|ms|s>   unit of the scores (us)
+ *   -rff <file>   also write the results as JMH's JSON
+ */
+public class CompilerBenchmarks {
+
+    // A program after the phases before the one being measured
+    private record Checked(Program program, GlobalADT global) {}
+
+    private interface Phase {
+        Object run(Checked state);
+    }
+
+    private static final String SYNTHETIC = "synthetic:";
+
+    private static final Map<String, Phase> PHASES_AFTER_PARSE = new LinkedHashMap<>();
+    static {
+        PHASES_AFTER_PARSE.put("p1Table", s -> run(s, new P1TableVisitor()));
+        PHASES_AFTER_PARSE.put("p2Table", s -> run(s, new P2TableVisitor(s.global())));
+        PHASES_AFTER_PARSE.put("p3CyclicExtends", s -> run(s, new P3CyclicExtendsVisitor(s.global())));
+        PHASES_AFTER_PARSE.put("p4Overload", s -> run(s, new P4OverloadVisitor(s.global())));
+        PHASES_AFTER_PARSE.put("p5Offset", s -> run(s, new P5OffsetVisitor(s.global())));
+        PHASES_AFTER_PARSE.put("p6TypeCheck", s -> run(s, new P6TypeCheckingVisitor(s.global())));
+        PHASES_AFTER_PARSE.put("generate", s -> {
+            GeneratorVisitor gv = new GeneratorVisitor(s.global());
+            gv.peephole = new Peephole();
+            gv.output = Writer.nullWriter();
+            s.program().accept(gv);
+            return gv;
+        });
+    }
+
+    public static void main(String[] args) throws Exception {
+        Harness harness = new Harness();
+        Pattern only = Pattern.compile(".*");
+        Path json = null;
+        List<String> inputs = new ArrayList<>();
+        for (int k = 0; k < args.length; k++) {
+            String arg = args[k];
+            if (arg.startsWith("-") && k + 1 == args.length) usage();
+            switch (arg) {
+                case "-bm" -> only = Pattern.compile(args[++k]);
+                case "-wi" -> harness.warmupIterations = Integer.parseInt(args[++k]);
+                case "-i" -> harness.measurementIterations = Integer.parseInt(args[++k]);
+                case "-w" -> harness.warmupNanos = seconds(args[++k]);
+                case "-r" -> harness.measurementNanos = seconds(args[++k]);
+                case "-tu" -> harness.unit = unit(args[++k]);
+                case "-rff" -> json = Path.of(args[++k]);
+                default -> {
+                    if (arg.startsWith("-")) usage();
+                    inputs.add(arg);
+                }
+            }
+        }
+        if (inputs.isEmpty()) {
+            inputs.add("SamplePrograms/SampleMiniJavaPrograms");
+        }
+
+        List<String> files = new ArrayList<>();
+        for (String input : inputs) {
+            if (!input.startsWith(SYNTHETIC) && Files.isDirectory(Path.of(input))) {
+                try (Stream<Path> found = Files.walk(Path.of(input))) {
+                    found.map(Path::toString).filter(p -> p.endsWith(".java")).sorted().forEach(files::add);
+                }
+            } else {
+                files.add(input);
+            }
+        }
+
+        for (String file : files) {
+            String input;
+            String source;
+            if (file.startsWith(SYNTHETIC)) {
+                String[] spec = file.substring(SYNTHETIC.length()).split(":");
+                ProgramGenerator generator = new ProgramGenerator(spec.length > 1 ? Long.parseLong(spec[1]) : 1);
+                generator.classes = 1;
+                generator.lines = Integer.parseInt(spec[0]);
+                input = "synthetic" + spec[0] + (spec.length > 1 ? "s" + spec[1] : "");
+                source = generator.generate(input);
+            } else {
+                input = Path.of(file).getFileName().toString().replaceFirst("\\.java$", "");
+                source = Files.readString(Path.of(file));
+            }
+            check(source, PHASES_AFTER_PARSE.size() - 1, input);   // all but generate
+            if (only.matcher("scan").matches()) {
+                report(harness.measure("scan", input, () -> source, CompilerBenchmarks::scan), harness);
+            }
+            if (only.matcher("parse").matches()) {
+                report(harness.measure("parse", input, () -> source, CompilerBenchmarks::parse), harness);
+            }
+            int before = 0;
+            for (Map.Entry<String, Phase> phase : PHASES_AFTER_PARSE.entrySet()) {
+                int passes = before++;
+                if (only.matcher(phase.getKey()).matches()) {
+                    report(harness.measure(phase.getKey(), input,
+                            () -> check(source, passes, input), phase.getValue()::run), harness);
+                }
+            }
+        }
+
+        System.out.println();
+        harness.printTable(System.out);
+        if (json != null) {
+            try (Writer out = Files.newBufferedWriter(json)) {
+                harness.writeJson(out, "CompilerBenchmarks.");
+            }
+            System.out.println("\nResults written to " + json);
+        }
+    }
+
+    private static void report(Harness.Result r, Harness harness) {
+        System.out.printf("%s %s: %.3f %s%n", r.benchmark(), r.input(),
+                harness.scale(r.score()), harness.unitName());
+    }
+
+    // Number of tokens in the source
+    private static Object scan(String source) throws IOException {
+        scanner s = new scanner(new StringReader(source), new ComplexSymbolFactory());
+        int tokens = 0;
+        while (s.next_token().sym != sym.EOF) {
+            tokens++;
+        }
+        return tokens;
+    }
+
+    private static Program parse(String source) throws Exception {
+        ComplexSymbolFactory sf = new ComplexSymbolFactory();
+        Symbol root = new parser(new scanner(new StringReader(source), sf), sf).parse();
+        return Program.class.cast(root.value);
+    }
+
+    private static Object run(Checked state, AST.Visitor.Visitor v) {
+        state.program().accept(v);
+        return v;
+    }
+
+    // The program after the given number of phases that follow the parser
+    private static Checked check(String source, int passes, String input) throws Exception {
+        Checked state = new Checked(parse(source), null);
+        for (Phase phase : new ArrayList<>(PHASES_AFTER_PARSE.values()).subList(0, passes)) {
+            List<String> errors = switch (phase.run(state)) {
+                case P1TableVisitor v -> {
+                    state = new Checked(state.program(), v.getGlobalADT());
+                    yield v.getErrors();
+                }
+                case P2TableVisitor v -> v.getErrors();
+                case P3CyclicExtendsVisitor v -> v.getErrors();
+                case P4OverloadVisitor v -> v.getErrors();
+                case P6TypeCheckingVisitor v -> v.getErrors();
+                default -> List.of();
+            };
+            if (!errors.isEmpty()) {
+                throw new IllegalArgumentException(input + " does not type check: " + errors.get(0));
+            }
+        }
+        return state;
+    }
+
+    private static long seconds(String s) {
+        return (long) (Double.parseDouble(s) * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static TimeUnit unit(String s) {
+        return switch (s) {
+            case "ns" -> TimeUnit.NANOSECONDS;
+            case "us" -> TimeUnit.MICROSECONDS;
+            case "ms" -> TimeUnit.MILLISECONDS;
+            case "s" -> TimeUnit.SECONDS;
+            default -> usage();
+        };
+    }
+
+    private static <T> T usage() {
+        System.err.println("Usage: CompilerBenchmarks [-bm <regex>] [-wi <n>] [-i <n>] [-w <s>] [-r <s>]");
+        System.err.println("\t[-tu ns|us|ms|s] [-rff <file>] [<inputs>]");
+        System.exit(1);
+        return null;
+    }
+}
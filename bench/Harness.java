@@ -0,0 +1,188 @@
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures benchmarks the way JMH does in average time mode with a setup
+ * per invocation: warmup iterations, then measured iterations, each running
+ * the benchmark over and over for a fixed time, with only the benchmark
+ * itself timed. Results print as a table and can be written as JMH's JSON.
+ * There are no forks: every benchmark runs in this JVM, one after another.
+ */
+class Harness {
+
+    interface Setup<S> {
+        S create() throws Exception;
+    }
+
+    interface Benchmark<S> {
+        Object run(S state) throws Exception;
+    }
+
+    // One benchmark on one input: the score of each measured iteration, in ns/op
+    record Result(String benchmark, String input, double[] iterations) {
+
+        double score() {
+            return Arrays.stream(iterations).average().orElse(Double.NaN);
+        }
+
+        // Half the width of the 99.9% confidence interval, as JMH reports it
+        double error() {
+            int n = iterations.length;
+            if (n < 2) return Double.NaN;
+            double mean = score();
+            double squares = 0;
+            for (double x : iterations) {
+                squares += (x - mean) * (x - mean);
+            }
+            return studentT(n - 1) * Math.sqrt(squares / (n - 1) / n);
+        }
+    }
+
+    int warmupIterations = 5;
+    int measurementIterations = 5;
+    long warmupNanos = TimeUnit.SECONDS.toNanos(1);
+    long measurementNanos = TimeUnit.SECONDS.toNanos(1);
+    TimeUnit unit = TimeUnit.MICROSECONDS;
+
+    final List<Result> results = new ArrayList<>();
+
+    // results go here so the JIT cannot drop the work that makes them
+    static volatile Object sink;
+
+    <S> Result measure(String benchmark, String input, Setup<S> setup, Benchmark<S> body) throws Exception {
+        for (int k = 0; k < warmupIterations; k++) {
+            iteration(setup, body, warmupNanos);
+        }
+        double[] iterations = new double[measurementIterations];
+        for (int k = 0; k < measurementIterations; k++) {
+            iterations[k] = iteration(setup, body, measurementNanos);
+        }
+        Result result = new Result(benchmark, input, iterations);
+        results.add(result);
+        return result;
+    }
+
+    // Runs the benchmark, with a new state each time, for at least the given
+    // time and at least once, and returns the average ns per run
+    private static <S> double iteration(Setup<S> setup, Benchmark<S> body, long nanos) throws Exception {
+        long end = System.nanoTime() + nanos;
+        long timed = 0;
+        long ops = 0;
+        do {
+            S state = setup.create();
+            long start = System.nanoTime();
+            sink = body.run(state);
+            timed += System.nanoTime() - start;
+            ops++;
+        } while (System.nanoTime() < end);
+        return (double) timed / ops;
+    }
+
+    String unitName() {
+        return switch (unit) {
+            case NANOSECONDS -> "ns/op";
+            case MICROSECONDS -> "us/op";
+            case MILLISECONDS -> "ms/op";
+            default -> "s/op";
+        };
+    }
+
+    // ns/op in the chosen unit
+    double scale(double nanos) {
+        return nanos / unit.toNanos(1);
+    }
+
+    void printTable(PrintStream out) {
+        int name = "Benchmark".length();
+        int input = "(input)".length();
+        for (Result r : results) {
+            name = Math.max(name, r.benchmark().length());
+            input = Math.max(input, r.input().length());
+        }
+        String row = "%-" + name + "s  %" + input + "s  %4s  %3s  %12s  %2s  %10s  %s%n";
+        out.printf(row, "Benchmark", "(input)", "Mode", "Cnt", "Score", "", "Error", "Units");
+        for (Result r : results) {
+            out.printf(row, r.benchmark(), r.input(), "avgt", r.iterations().length,
+                    String.format("%.3f", scale(r.score())), "+-",
+                    String.format("%.3f", scale(r.error())), unitName());
+        }
+    }
+
+    // The results in the format of JMH's -rf json
+    void writeJson(Writer out, String prefix) throws IOException {
+        out.write("[\n");
+        for (int k = 0; k < results.size(); k++) {
+            Result r = results.get(k);
+            double score = scale(r.score());
+            double error = scale(r.error());
+            out.write("    {\n");
+            out.write("        \"benchmark\" : " + quote(prefix + r.benchmark()) + ",\n");
+            out.write("        \"mode\" : \"avgt\",\n");
+            out.write("        \"threads\" : 1,\n");
+            out.write("        \"forks\" : 0,\n");
+            out.write("        \"jvm\" : " + quote(System.getProperty("java.home")) + ",\n");
+            out.write("        \"jdkVersion\" : " + quote(System.getProperty("java.version")) + ",\n");
+            out.write("        \"warmupIterations\" : " + warmupIterations + ",\n");
+            out.write("        \"warmupTime\" : " + quote(seconds(warmupNanos)) + ",\n");
+            out.write("        \"measurementIterations\" : " + measurementIterations + ",\n");
+            out.write("        \"measurementTime\" : " + quote(seconds(measurementNanos)) + ",\n");
+            out.write("        \"params\" : {\n");
+            out.write("            \"input\" : " + quote(r.input()) + "\n");
+            out.write("        },\n");
+            out.write("        \"primaryMetric\" : {\n");
+            out.write("            \"score\" : " + number(score) + ",\n");
+            out.write("            \"scoreError\" : " + number(error) + ",\n");
+            out.write("            \"scoreConfidence\" : [ " + number(score - error) + ", "
+                    + number(score + error) + " ],\n");
+            out.write("            \"scoreUnit\" : " + quote(unitName()) + ",\n");
+            StringJoiner raw = new StringJoiner(", ", "[ [ ", " ] ]");
+            for (double x : r.iterations()) {
+                raw.add(number(scale(x)));
+            }
+            out.write("            \"rawData\" : " + raw + "\n");
+            out.write("        },\n");
+            out.write("        \"secondaryMetrics\" : {\n");
+            out.write("        }\n");
+            out.write(k + 1 < results.size() ? "    },\n" : "    }\n");
+        }
+        out.write("]\n");
+    }
+
+    private static String seconds(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos) / 1000.0 + " s";
+    }
+
+    private static String number(double x) {
+        return Double.isFinite(x) ? Double.toString(x) : "\"NaN\"";
+    }
+
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : s.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                default -> {
+                    if (c < ' ') {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    // two-sided 99.9% quantiles of Student's t distribution, by degrees of freedom
+    private static final double[] T_999 = {
+        Double.NaN, 636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587,
+        4.437, 4.318, 4.221, 4.140, 4.073, 4.015, 3.965, 3.922, 3.883, 3.850,
+        3.819, 3.792, 3.768, 3.745, 3.725, 3.707, 3.690, 3.674, 3.659, 3.646
+    };
+
+    private static double studentT(int df) {
+        return df < T_999.length ? T_999[df] : 3.291;
+    }
+}
@@ -0,0 +1,350 @@
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Writes random MiniJava programs, the same for the same seed and settings,
+ * to measure how the compiler scales. They parse, type check and are valid
+ * Java as well. Their size follows the settings: classes, inheritance depth,
+ * methods per class, statements per method, nesting of if and while,
+ * expression depth and the use of arrays.
+ * Calls only go to methods of earlier classes, or to this class's methods
+ * declared before the calling one, and every loop runs 3 times, so the
+ * programs terminate. They are not meant to be run, though: their run time
+ * grows much faster than their size.
+ *
+ * Usage: ProgramGenerator [-seed <n>] [-classes <n>] [-lines <n>] [-depth <n>]
+ *     [-methods <n>] [-statements <n>] [-nesting <n>] [-expr <n>] [-no-arrays]
+ *     [-o <file>]
+ * With -lines, classes are added until the program has that many lines.
+ */
+public class ProgramGenerator {
+
+    public int classes = 20;        // at least this many classes
+    public int lines = 0;           // and at least this many lines
+    public int depth = 3;           // longest chain of extends
+    public int methods = 4;         // new methods per class, not counting overrides
+    public int statements = 6;      // statements per block at the top of a method
+    public int nesting = 2;         // if and while inside each other
+    public int exprDepth = 3;       // operators and calls inside each other
+    public boolean arrays = true;   // int[] locals, parameters and lengths
+
+    private static final String[] TYPES = { "int", "boolean", "int[]" };
+    private static final int ARRAY_LENGTH = 16;
+    private static final int INT_LOCALS = 3, BOOLEAN_LOCALS = 2;
+
+    private record Method(String name, int index, List<String> params, String returns) {}
+
+    private static class Klass {
+        final String name;
+        final int depth;
+        final Map<String, Method> methods;      // own and inherited, by name
+        final Map<String, String> fields;       // own and inherited, name to type
+
+        Klass(String name, Klass parent) {
+            this.name = name;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+            this.methods = parent == null ? new LinkedHashMap<>() : new LinkedHashMap<>(parent.methods);
+            this.fields = parent == null ? new LinkedHashMap<>() : new LinkedHashMap<>(parent.fields);
+        }
+    }
+
+    private final Random random;
+    private final List<Klass> klasses = new ArrayList<>();
+    private int methodCount;
+
+    private StringBuilder out;
+    private int lineCount;
+    private int indent;
+
+    // what the method being written can see
+    private Klass klass;
+    private Method method;
+    private Map<String, String> params;
+
+    public ProgramGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws IOException {
+        long seed = 1;
+        Path file = null;
+        ProgramGenerator g = null;
+        Map<String, Integer> settings = new LinkedHashMap<>();
+        boolean noArrays = false;
+        for (int k = 0; k < args.length; k++) {
+            String arg = args[k];
+            if (arg.equals("-no-arrays")) {
+                noArrays = true;
+            } else if (arg.equals("-o") && k + 1 < args.length) {
+                file = Path.of(args[++k]);
+            } else if (arg.equals("-seed") && k + 1 < args.length) {
+                seed = Long.parseLong(args[++k]);
+            } else if (arg.startsWith("-") && k + 1 < args.length) {
+                settings.put(arg.substring(1), Integer.parseInt(args[++k]));
+            } else {
+                usage();
+            }
+        }
+        g = new ProgramGenerator(seed);
+        g.arrays = !noArrays;
+        for (Map.Entry<String, Integer> setting : settings.entrySet()) {
+            int n = setting.getValue();
+            switch (setting.getKey()) {
+                case "classes" -> g.classes = n;
+                case "lines" -> g.lines = n;
+                case "depth" -> g.depth = n;
+                case "methods" -> g.methods = n;
+                case "statements" -> g.statements = n;
+                case "nesting" -> g.nesting = n;
+                case "expr" -> g.exprDepth = n;
+                default -> usage();
+            }
+        }
+        if (g.classes < 1 || g.methods < 1) usage();
+
+        String name = file == null ? "Synthetic"
+                : file.getFileName().toString().replaceFirst("\\.java$", "");
+        String program = g.generate(name);
+        if (file == null) {
+            System.out.print(program);
+        } else {
+            Files.writeString(file, program);
+        }
+        System.err.println(g.klasses.size() + " classes, " + g.methodCount + " methods, "
+                + g.lineCount + " lines");
+    }
+
+    private static void usage() {
+        System.err.println("Usage: ProgramGenerator [-seed <n>] [-classes <n>] [-lines <n>] [-depth <n>]");
+        System.err.println("\t[-methods <n>] [-statements <n>] [-nesting <n>] [-expr <n>] [-no-arrays]");
+        System.err.println("\t[-o <file>]");
+        System.exit(1);
+    }
+
+    /**
+     * A program whose main class has the given name. Its main method prints
+     * what the first method of the last class returns.
+     */
+    public String generate(String mainName) {
+        out = new StringBuilder();
+        lineCount = 0;
+        while (klasses.size() < classes || lineCount < lines) {
+            classDecl();
+        }
+        String body = out.toString();
+        Klass last = klasses.get(klasses.size() - 1);
+        out = new StringBuilder();
+        line("class " + mainName + " {");
+        line("    public static void main(String[] a) {");
+        line("        System.out.println(new " + last.name + "().m" + (klasses.size() - 1) + "_0());");
+        line("    }");
+        line("}");
+        return out.append(body).toString();
+    }
+
+    private void classDecl() {
+        int i = klasses.size();
+        List<Klass> parents = new ArrayList<>();
+        for (Klass k : klasses) {
+            if (k.depth < depth) parents.add(k);
+        }
+        Klass parent = parents.isEmpty() || random.nextInt(3) == 0 ? null
+                : parents.get(random.nextInt(parents.size()));
+        klass = new Klass("C" + i, parent);
+        klasses.add(klass);
+
+        line("");
+        line("class " + klass.name + (parent == null ? "" : " extends " + parent.name) + " {");
+        indent++;
+        int fields = 1 + random.nextInt(3);
+        for (int f = 0; f < fields; f++) {
+            String type = random.nextBoolean() ? "int" : "boolean";
+            String name = "f" + i + "_" + f;
+            klass.fields.put(name, type);
+            line(type + " " + name + ";");
+        }
+
+        List<Method> declared = new ArrayList<>();
+        for (Method inherited : klass.methods.values()) {
+            if (random.nextInt(4) == 0) declared.add(inherited);
+        }
+        for (int t = 0; t < methods; t++) {
+            List<String> params = new ArrayList<>();
+            String returns = "int";
+            if (t > 0) {
+                int n = random.nextInt(4);
+                for (int p = 0; p < n; p++) {
+                    params.add(TYPES[random.nextInt(arrays ? 3 : 2)]);
+                }
+                returns = random.nextInt(4) == 0 ? "boolean" : "int";
+            }
+            Method m = new Method("m" + i + "_" + t, methodCount++, params, returns);
+            klass.methods.put(m.name(), m);
+            declared.add(m);
+        }
+        for (Method m : declared) {
+            line("");
+            methodDecl(m);
+        }
+        indent--;
+        line("}");
+    }
+
+    private void methodDecl(Method m) {
+        method = m;
+        params = new LinkedHashMap<>();
+        StringJoiner formals = new StringJoiner(", ");
+        for (int p = 0; p < m.params().size(); p++) {
+            params.put("p" + p, m.params().get(p));
+            formals.add(m.params().get(p) + " p" + p);
+        }
+        line("public " + m.returns() + " " + m.name() + "(" + formals + ") {");
+        indent++;
+        for (int k = 0; k < INT_LOCALS; k++) line("int l" + k + ";");
+        for (int k = 0; k < BOOLEAN_LOCALS; k++) line("boolean b" + k + ";");
+        for (int d = 0; d < nesting; d++) line("int c" + d + ";");
+        if (arrays) line("int[] a0;");
+        for (int k = 0; k < INT_LOCALS; k++) line("l" + k + " = " + random.nextInt(100) + ";");
+        for (int k = 0; k < BOOLEAN_LOCALS; k++) line("b" + k + " = " + random.nextBoolean() + ";");
+        if (arrays) line("a0 = new int[" + ARRAY_LENGTH + "];");
+        for (int s = 0; s < statements; s++) {
+            statement(0);
+        }
+        line("return " + expr(m.returns(), exprDepth) + ";");
+        indent--;
+        line("}");
+    }
+
+    private void statement(int level) {
+        int kinds = level < nesting ? 7 : 5;
+        switch (random.nextInt(kinds)) {
+            case 0, 1 -> line(anyOf("int") + " = " + expr("int", exprDepth) + ";");
+            case 2 -> line(anyOf("boolean") + " = " + expr("boolean", exprDepth) + ";");
+            case 3 -> {
+                if (arrays) {
+                    line(array() + "[" + random.nextInt(ARRAY_LENGTH) + "] = " + expr("int", exprDepth) + ";");
+                } else {
+                    line(anyOf("int") + " = " + expr("int", exprDepth) + ";");
+                }
+            }
+            case 4 -> line("System.out.println(" + expr("int", exprDepth) + ");");
+            case 5 -> {
+                line("if (" + expr("boolean", exprDepth) + ") {");
+                block(level + 1);
+                line("} else {");
+                block(level + 1);
+                line("}");
+            }
+            default -> {
+                String c = "c" + level;
+                line(c + " = 0;");
+                line("while (" + c + " < 3) {");
+                block(level + 1);
+                indent++;
+                line(c + " = " + c + " + 1;");
+                indent--;
+                line("}");
+            }
+        }
+    }
+
+    private void block(int level) {
+        indent++;
+        int n = 1 + random.nextInt(Math.max(1, statements / 2));
+        for (int s = 0; s < n; s++) {
+            statement(level);
+        }
+        indent--;
+    }
+
+    // An expression of the given type, with operators nested at most depth deep
+    private String expr(String type, int depth) {
+        if (type.equals("int[]")) {
+            return array();
+        }
+        if (depth > 0 && random.nextInt(3) > 0) {
+            if (random.nextInt(6) == 0) {
+                String call = call(type, depth - 1);
+                if (call != null) return call;
+            }
+            if (type.equals("int")) {
+                return switch (random.nextInt(3)) {
+                    case 0 -> "(" + expr("int", depth - 1) + " + " + expr("int", depth - 1) + ")";
+                    case 1 -> "(" + expr("int", depth - 1) + " - " + expr("int", depth - 1) + ")";
+                    default -> "(" + expr("int", depth - 1) + " * " + expr("int", depth - 1) + ")";
+                };
+            }
+            return switch (random.nextInt(3)) {
+                case 0 -> "(" + expr("int", depth - 1) + " < " + expr("int", depth - 1) + ")";
+                case 1 -> "(" + expr("boolean", depth - 1) + " && " + expr("boolean", depth - 1) + ")";
+                default -> "!" + expr("boolean", depth - 1);
+            };
+        }
+        if (type.equals("int")) {
+            return switch (random.nextInt(arrays ? 5 : 3)) {
+                case 0 -> Integer.toString(random.nextInt(100));
+                case 1, 2 -> anyOf("int");
+                case 3 -> array() + ".length";
+                default -> array() + "[" + random.nextInt(ARRAY_LENGTH) + "]";
+            };
+        }
+        return random.nextInt(4) == 0 ? Boolean.toString(random.nextBoolean()) : anyOf("boolean");
+    }
+
+    // A call that returns the given type, or null if there is no method to call
+    private String call(String type, int depth) {
+        List<String> receivers = new ArrayList<>();
+        List<Method> targets = new ArrayList<>();
+        for (Method m : klass.methods.values()) {
+            if (m.index() < method.index() && m.returns().equals(type)) {
+                receivers.add("this");
+                targets.add(m);
+            }
+        }
+        Klass other = klasses.size() > 1 ? klasses.get(random.nextInt(klasses.size() - 1)) : null;
+        if (other != null) {
+            for (Method m : other.methods.values()) {
+                if (m.returns().equals(type)) {
+                    receivers.add("new " + other.name + "()");
+                    targets.add(m);
+                }
+            }
+        }
+        if (targets.isEmpty()) return null;
+        int k = random.nextInt(targets.size());
+        Method m = targets.get(k);
+        StringJoiner args = new StringJoiner(", ");
+        for (String param : m.params()) {
+            args.add(expr(param, depth));
+        }
+        return receivers.get(k) + "." + m.name() + "(" + args + ")";
+    }
+
+    // A local, parameter or field of the given type that can be read and assigned
+    private String anyOf(String type) {
+        List<String> names = new ArrayList<>();
+        for (int k = 0; k < (type.equals("int") ? INT_LOCALS : BOOLEAN_LOCALS); k++) {
+            names.add((type.equals("int") ? "l" : "b") + k);
+        }
+        params.forEach((name, t) -> { if (t.equals(type)) names.add(name); });
+        klass.fields.forEach((name, t) -> { if (t.equals(type)) names.add(name); });
+        return names.get(random.nextInt(names.size()));
+    }
+
+    // An array of length ARRAY_LENGTH
+    private String array() {
+        List<String> names = new ArrayList<>(List.of("a0"));
+        params.forEach((name, t) -> { if (t.equals("int[]")) names.add(name); });
+        return names.get(random.nextInt(names.size()));
+    }
+
+    private void line(String s) {
+        if (!s.isEmpty()) {
+            out.append("    ".repeat(indent));
+        }
+        out.append(s).append('\n');
+        lineCount++;
+    }
+}
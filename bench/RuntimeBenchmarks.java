@@ -0,0 +1,264 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Benchmarks of the code the compiler makes: compiles each program, links it
+ * with boot.c the way the tests do, runs it once to check that it exits with
+ * status 0, then runs it again and again under perfrun (bench/perfrun.c).
+ * Reports the median wall time, CPU time, user mode cycles and instructions
+ * of the runs, and compares them with a baseline recorded earlier: a metric
+ * more than its threshold above the baseline is a regression, and so is
+ * output that is not the same as when the baseline was recorded. Cycles and
+ * instructions are only compared where both runs could count them. Without
+ * a baseline, the run records one instead, and succeeds.
+ *
+ * Usage: RuntimeBenchmarks [options] [<programs>]
+ * Programs are files and directories, by default bench/programs.
+ *   -n <n>             runs of each program (5)
+ *   -c <options>       options to compile with ("-O")
+ *   -baseline <file>   the baseline (bench/runtime-baseline.json)
+ *   -record            write the baseline instead of comparing with it (the
+ *                      default when there is no baseline yet)
+ *   -threshold <metric>=<percent>,...   regression thresholds of wall,
+ *                      cpu, cycles and instructions (10, 10, 5 and 2)
+ *   -perfrun <file>    the compiled perfrun (build/bench/perfrun)
+ * Exits with status 1 on a regression.
+ */
+public class RuntimeBenchmarks {
+
+    static final String[] METRICS = {"wall", "cpu", "cycles", "instructions"};
+
+    // Medians of the runs of one program, -1 for what could not be measured
+    record Result(String name, String checksum, long[] metrics) {}
+
+    private static final File WORK = new File("build/bench/runtime");
+    private static final String RUNTIME = "src/runtime/boot.c";
+
+    public static void main(String[] args) throws Exception {
+        int runs = 5;
+        String options = "-O";
+        Path baseline = Path.of("bench/runtime-baseline.json");
+        boolean record = false;
+        Map<String, Double> thresholds = new LinkedHashMap<>(Map.of(
+                "wall", 10.0, "cpu", 10.0, "cycles", 5.0, "instructions", 2.0));
+        String perfrun = "build/bench/perfrun";
+        List<String> inputs = new ArrayList<>();
+        for (int k = 0; k < args.length; k++) {
+            String arg = args[k];
+            if (arg.startsWith("-") && !arg.equals("-record") && k + 1 == args.length) usage();
+            switch (arg) {
+                case "-n" -> runs = Integer.parseInt(args[++k]);
+                case "-c" -> options = args[++k].trim();
+                case "-baseline" -> baseline = Path.of(args[++k]);
+                case "-record" -> record = true;
+                case "-threshold" -> {
+                    for (String t : args[++k].split(",")) {
+                        String[] metric = t.split("=");
+                        if (metric.length != 2 || !thresholds.containsKey(metric[0])) usage();
+                        thresholds.put(metric[0], Double.parseDouble(metric[1]));
+                    }
+                }
+                case "-perfrun" -> perfrun = args[++k];
+                default -> {
+                    if (arg.startsWith("-")) usage();
+                    inputs.add(arg);
+                }
+            }
+        }
+        if (runs < 1) usage();
+        if (inputs.isEmpty()) {
+            inputs.add("bench/programs");
+        }
+
+        List<Path> files = new ArrayList<>();
+        for (String input : inputs) {
+            if (Files.isDirectory(Path.of(input))) {
+                try (Stream<Path> found = Files.walk(Path.of(input))) {
+                    found.filter(p -> p.toString().endsWith(".java")).sorted().forEach(files::add);
+                }
+            } else {
+                files.add(Path.of(input));
+            }
+        }
+
+        Map<String, Result> before = new HashMap<>();
+        if (!record && !Files.exists(baseline)) {
+            System.out.println("No baseline " + baseline + " yet: recording one, runs after this one compare with it");
+            record = true;
+        }
+        if (!record) {
+            String recorded = readBaseline(baseline, before);
+            if (!recorded.equals(options)) {
+                System.err.println("The baseline was compiled with \"" + recorded + "\", not \"" + options + "\"");
+                System.exit(1);
+            }
+        }
+
+        WORK.mkdirs();
+        List<Result> results = new ArrayList<>();
+        for (Path file : files) {
+            Result r = measure(file, options, runs, perfrun);
+            System.out.printf("%s: %.3f ms%n", r.name(), r.metrics()[0] / 1e6);
+            results.add(r);
+        }
+
+        System.out.println();
+        boolean regressed = printTable(System.out, results, before, thresholds);
+        if (record) {
+            try (Writer out = Files.newBufferedWriter(baseline)) {
+                writeBaseline(out, options, runs, results);
+            }
+            System.out.println("\nBaseline written to " + baseline);
+        } else if (regressed) {
+            System.out.println("\nRegressions against " + baseline);
+            System.exit(1);
+        }
+    }
+
+    // Compiles, links and runs the program
+    static Result measure(Path file, String options, int runs, String perfrun) throws Exception {
+        String name = file.getFileName().toString().replaceFirst("\\.java$", "");
+        File asm = new File(WORK, name + ".s");
+        File exe = new File(WORK, name);
+        List<String> compile = new ArrayList<>(List.of(options.isEmpty() ? new String[0] : options.split("\\s+")));
+        compile.addAll(List.of("-o", asm.getPath(), file.toString()));
+        if (MiniJava.run(compile.toArray(new String[0]), null) != 0) {
+            throw new IllegalArgumentException(file + " does not compile");
+        }
+        Output linked = exec(List.of("gcc", "-o", exe.getPath(), asm.getPath(), RUNTIME));
+        if (linked.status() != 0) {
+            throw new IllegalStateException("gcc failed on " + asm + ":\n" + linked.text());
+        }
+
+        Output first = exec(List.of(exe.getPath()));
+        if (first.status() != 0) {
+            throw new IllegalStateException(name + " exited with status " + first.status() + ":\n" + first.text());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(first.text().getBytes(StandardCharsets.UTF_8));
+
+        long[][] samples = new long[METRICS.length][runs];
+        for (int k = 0; k < runs; k++) {
+            Output run = exec(List.of(perfrun, exe.getPath()));
+            String[] fields = run.text().trim().split(" ");
+            if (run.status() != 0 || fields.length != 6 || !fields[0].equals("0")) {
+                throw new IllegalStateException(name + " failed under perfrun: " + run.text());
+            }
+            samples[0][k] = Long.parseLong(fields[1]);
+            samples[1][k] = Long.parseLong(fields[2]) + Long.parseLong(fields[3]);
+            samples[2][k] = Long.parseLong(fields[4]);
+            samples[3][k] = Long.parseLong(fields[5]);
+        }
+        long[] medians = new long[METRICS.length];
+        for (int m = 0; m < METRICS.length; m++) {
+            Arrays.sort(samples[m]);
+            medians[m] = samples[m][0] < 0 ? -1 : samples[m][runs / 2];
+        }
+        return new Result(name, String.format("%08x", crc.getValue()), medians);
+    }
+
+    private record Output(int status, String text) {}
+
+    // Runs the command with standard error going to standard output
+    private static Output exec(List<String> command) throws IOException, InterruptedException {
+        Process p = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String text = new String(p.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        return new Output(p.waitFor(), text);
+    }
+
+    // Prints the results, and their change from the baseline if there is one;
+    // returns whether anything regressed
+    static boolean printTable(PrintStream out, List<Result> results, Map<String, Result> before,
+                              Map<String, Double> thresholds) {
+        int width = "Program".length();
+        for (Result r : results) {
+            width = Math.max(width, r.name().length());
+        }
+        String row = "%-" + width + "s  %10s %8s  %10s %8s  %12s %8s  %12s %8s  %s%n";
+        out.printf(row, "Program", "wall ms", "", "cpu ms", "", "Mcycles", "", "Minstr", "", "");
+        boolean regressed = false;
+        for (Result r : results) {
+            Result b = before.get(r.name());
+            List<String> cells = new ArrayList<>(List.of(r.name()));
+            List<String> worse = new ArrayList<>();
+            for (int m = 0; m < METRICS.length; m++) {
+                long x = r.metrics()[m];
+                cells.add(x < 0 ? "n/a" : String.format("%.3f", x / 1e6));
+                if (b == null || x < 0 || b.metrics()[m] <= 0) {
+                    cells.add("");
+                    continue;
+                }
+                double change = 100.0 * (x - b.metrics()[m]) / b.metrics()[m];
+                cells.add(String.format("%+.1f%%", change));
+                if (change > thresholds.get(METRICS[m])) {
+                    worse.add(METRICS[m]);
+                }
+            }
+            String note = "";
+            if (!before.isEmpty() && b == null) {
+                note = "not in baseline";
+            } else if (b != null && !b.checksum().equals(r.checksum())) {
+                note = "OUTPUT CHANGED";
+                regressed = true;
+            } else if (!worse.isEmpty()) {
+                note = "REGRESSION: " + String.join(", ", worse);
+                regressed = true;
+            }
+            cells.add(note);
+            out.printf(row, cells.toArray());
+        }
+        return regressed;
+    }
+
+    static void writeBaseline(Writer out, String options, int runs, List<Result> results) throws IOException {
+        out.write("{\n  \"options\" : \"" + options.replace("\\", "\\\\").replace("\"", "\\\"") + "\",\n");
+        out.write("  \"runs\" : " + runs + ",\n  \"programs\" : [\n");
+        for (int k = 0; k < results.size(); k++) {
+            Result r = results.get(k);
+            StringBuilder sb = new StringBuilder("    { \"name\" : \"" + r.name() + "\", \"checksum\" : \""
+                    + r.checksum() + "\"");
+            for (int m = 0; m < METRICS.length; m++) {
+                sb.append(", \"").append(METRICS[m]).append("\" : ").append(r.metrics()[m]);
+            }
+            out.write(sb + (k + 1 < results.size() ? " },\n" : " }\n"));
+        }
+        out.write("  ]\n}\n");
+    }
+
+    private static final Pattern OPTIONS = Pattern.compile("\"options\" : \"((?:[^\"\\\\]|\\\\.)*)\"");
+    private static final Pattern PROGRAM = Pattern.compile(
+            "\\{ \"name\" : \"([^\"]*)\", \"checksum\" : \"([0-9a-f]*)\", \"wall\" : (-?\\d+), "
+                    + "\"cpu\" : (-?\\d+), \"cycles\" : (-?\\d+), \"instructions\" : (-?\\d+) \\}");
+
+    // Reads the results of a baseline that writeBaseline wrote, by name, and
+    // returns the options it was compiled with
+    static String readBaseline(Path file, Map<String, Result> results) throws IOException {
+        String text = Files.readString(file);
+        Matcher options = OPTIONS.matcher(text);
+        if (!options.find()) {
+            throw new IOException(file + " is not a baseline");
+        }
+        Matcher m = PROGRAM.matcher(text);
+        while (m.find()) {
+            long[] metrics = new long[METRICS.length];
+            for (int k = 0; k < METRICS.length; k++) {
+                metrics[k] = Long.parseLong(m.group(3 + k));
+            }
+            results.put(m.group(1), new Result(m.group(1), m.group(2), metrics));
+        }
+        return options.group(1).replaceAll("\\\\(.)", "$1");
+    }
+
+    private static void usage() {
+        System.err.println("Usage: RuntimeBenchmarks [-n <runs>] [-c <options>] [-baseline <file>] [-record]");
+        System.err.println("\t[-threshold <metric>=<percent>,...] [-perfrun <file>] [<programs>]");
+        System.exit(1);
+    }
+}
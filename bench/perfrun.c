@@ -0,0 +1,99 @@
+/*
+ * perfrun <program> [args...]
+ *
+ * Runs the program with its standard output and error going to /dev/null
+ * and prints one line on standard output:
+ *
+ *   <exit status> <wall ns> <user ns> <sys ns> <cycles> <instructions>
+ *
+ * cycles and instructions are counted in user mode by perf_event_open, for
+ * the program alone (counting starts at exec), and are -1 where the kernel
+ * or the machine does not allow it. Used by RuntimeBenchmarks.
+ */
+
+#define _GNU_SOURCE
+#include <fcntl.h>
+#include <linux/perf_event.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <string.h>
+#include <sys/ioctl.h>
+#include <sys/resource.h>
+#include <sys/syscall.h>
+#include <sys/wait.h>
+#include <time.h>
+#include <unistd.h>
+
+// A counter of the given hardware event for pid, started at its exec, or -1
+static int open_counter(pid_t pid, uint64_t event) {
+    struct perf_event_attr attr;
+    memset(&attr, 0, sizeof attr);
+    attr.size = sizeof attr;
+    attr.type = PERF_TYPE_HARDWARE;
+    attr.config = event;
+    attr.disabled = 1;
+    attr.enable_on_exec = 1;
+    attr.exclude_kernel = 1;
+    attr.exclude_hv = 1;
+    attr.inherit = 1;
+    return (int) syscall(SYS_perf_event_open, &attr, pid, -1, -1, 0);
+}
+
+static long long read_counter(int fd) {
+    long long value;
+    if (fd < 0 || read(fd, &value, sizeof value) != sizeof value) return -1;
+    return value;
+}
+
+static long long nanos(struct timeval t) {
+    return t.tv_sec * 1000000000LL + t.tv_usec * 1000LL;
+}
+
+int main(int argc, char **argv) {
+    if (argc < 2) {
+        fprintf(stderr, "Usage: perfrun <program> [args...]\n");
+        return 2;
+    }
+
+    // the child waits on the pipe until its counters are open
+    int go[2];
+    if (pipe(go) != 0) {
+        perror("pipe");
+        return 2;
+    }
+    struct timespec start, end;
+    clock_gettime(CLOCK_MONOTONIC, &start);
+    pid_t pid = fork();
+    if (pid < 0) {
+        perror("fork");
+        return 2;
+    }
+    if (pid == 0) {
+        char c;
+        close(go[1]);
+        if (read(go[0], &c, 1) < 0) _exit(127);
+        int null = open("/dev/null", O_WRONLY);
+        dup2(null, 1);
+        dup2(null, 2);
+        execv(argv[1], argv + 1);
+        _exit(127);
+    }
+    close(go[0]);
+    int cycles = open_counter(pid, PERF_COUNT_HW_CPU_CYCLES);
+    int instructions = open_counter(pid, PERF_COUNT_HW_INSTRUCTIONS);
+    close(go[1]);
+
+    int status;
+    struct rusage usage;
+    if (wait4(pid, &status, 0, &usage) < 0) {
+        perror("wait4");
+        return 2;
+    }
+    clock_gettime(CLOCK_MONOTONIC, &end);
+    long long wall = (end.tv_sec - start.tv_sec) * 1000000000LL + (end.tv_nsec - start.tv_nsec);
+    int exit_status = WIFEXITED(status) ? WEXITSTATUS(status) : 128 + WTERMSIG(status);
+    printf("%d %lld %lld %lld %lld %lld\n", exit_status, wall,
+           nanos(usage.ru_utime), nanos(usage.ru_stime),
+           read_counter(cycles), read_counter(instructions));
+    return 0;
+}
@@ -0,0 +1,63 @@
+// Allocates and walks complete binary trees, most of them short-lived,
+// alongside one long-lived tree
+class BinaryTrees {
+    public static void main(String[] a) {
+        System.out.println(new Trees().run(16, 400));
+    }
+}
+
+class Trees {
+    public int run(int depth, int times) {
+        Node longLived;
+        Node t;
+        int k;
+        int nodes;
+        longLived = this.make(depth);
+        nodes = 0;
+        k = 0;
+        while (k < times) {
+            t = this.make(12);
+            nodes = nodes + t.count();
+            k = k + 1;
+        }
+        return nodes + longLived.count();
+    }
+
+    public Node make(int depth) {
+        Node n;
+        Node left;
+        Node right;
+        int dummy;
+        n = new Node();
+        if (0 < depth) {
+            left = this.make(depth - 1);
+            right = this.make(depth - 1);
+            dummy = n.init(left, right);
+        } else {
+        }
+        return n;
+    }
+}
+
+class Node {
+    Node left;
+    Node right;
+    boolean leaf;
+
+    public int init(Node l, Node r) {
+        left = l;
+        right = r;
+        leaf = true;
+        return 0;
+    }
+
+    public int count() {
+        int n;
+        if (leaf) {
+            n = 1 + left.count() + right.count();
+        } else {
+            n = 1;
+        }
+        return n;
+    }
+}
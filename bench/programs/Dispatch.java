@@ -0,0 +1,87 @@
+// Calls overridden methods on a list of objects of three classes, so that
+// most calls cannot be bound statically
+class Dispatch {
+    public static void main(String[] a) {
+        System.out.println(new Shapes().run(999, 20000));
+    }
+}
+
+class Shapes {
+    public int run(int n, int times) {
+        Shape first;
+        Shape s;
+        int i;
+        int k;
+        int total;
+        int dummy;
+        first = new Shape();
+        i = 1;
+        while (i < n) {
+            s = new Square();
+            dummy = s.setNext(first);
+            first = s;
+            s = new Triangle();
+            dummy = s.setNext(first);
+            first = s;
+            s = new Shape();
+            dummy = s.setNext(first);
+            first = s;
+            i = i + 3;
+        }
+        total = 0;
+        k = 0;
+        while (k < times) {
+            total = 0;
+            s = first;
+            i = 0;
+            while (i < n) {
+                total = total + s.area() + s.sides();
+                s = s.next();
+                i = i + 1;
+            }
+            k = k + 1;
+        }
+        return total;
+    }
+}
+
+class Shape {
+    Shape next;
+
+    public int setNext(Shape s) {
+        next = s;
+        return 0;
+    }
+
+    public Shape next() {
+        return next;
+    }
+
+    public int area() {
+        return 0;
+    }
+
+    public int sides() {
+        return 0;
+    }
+}
+
+class Square extends Shape {
+    public int area() {
+        return 4;
+    }
+
+    public int sides() {
+        return 4;
+    }
+}
+
+class Triangle extends Shape {
+    public int area() {
+        return 2;
+    }
+
+    public int sides() {
+        return 3;
+    }
+}
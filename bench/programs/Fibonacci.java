@@ -0,0 +1,18 @@
+// Computes fib(35) by naive recursion: thirty million calls
+class Fibonacci {
+    public static void main(String[] a) {
+        System.out.println(new Fib().fib(35));
+    }
+}
+
+class Fib {
+    public int fib(int n) {
+        int r;
+        if (n < 2) {
+            r = n;
+        } else {
+            r = this.fib(n - 1) + this.fib(n - 2);
+        }
+        return r;
+    }
+}
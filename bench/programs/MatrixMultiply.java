@@ -0,0 +1,68 @@
+// Multiplies two 160 by 160 matrices, stored by rows, 8 times
+class MatrixMultiply {
+    public static void main(String[] a) {
+        System.out.println(new Matrices().run(160, 8));
+    }
+}
+
+class Matrices {
+    public int run(int n, int times) {
+        int[] x;
+        int[] y;
+        int[] z;
+        int i;
+        int j;
+        int k;
+        int trace;
+        x = new int[n * n];
+        y = new int[n * n];
+        i = 0;
+        while (i < n) {
+            j = 0;
+            while (j < n) {
+                x[i * n + j] = i + j;
+                y[i * n + j] = i - j + n;
+                j = j + 1;
+            }
+            i = i + 1;
+        }
+        trace = 0;
+        k = 0;
+        while (k < times) {
+            z = this.multiply(x, y, n);
+            trace = 0;
+            i = 0;
+            while (i < n) {
+                trace = trace + z[i * n + i];
+                i = i + 1;
+            }
+            k = k + 1;
+        }
+        return trace;
+    }
+
+    public int[] multiply(int[] x, int[] y, int n) {
+        int[] z;
+        int i;
+        int j;
+        int k;
+        int sum;
+        z = new int[n * n];
+        i = 0;
+        while (i < n) {
+            j = 0;
+            while (j < n) {
+                sum = 0;
+                k = 0;
+                while (k < n) {
+                    sum = sum + x[i * n + k] * y[k * n + j];
+                    k = k + 1;
+                }
+                z[i * n + j] = sum;
+                j = j + 1;
+            }
+            i = i + 1;
+        }
+        return z;
+    }
+}
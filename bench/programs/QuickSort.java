@@ -0,0 +1,81 @@
+// Sorts 300000 pseudo-random numbers with quicksort, 3 times,
+// and checks the result
+class QuickSort {
+    public static void main(String[] a) {
+        System.out.println(new Sorter().run(300000, 3));
+    }
+}
+
+class Sorter {
+    int[] data;
+    int seed;
+
+    public int run(int n, int times) {
+        int k;
+        int i;
+        int ok;
+        int dummy;
+        ok = 0;
+        seed = 12345;
+        k = 0;
+        while (k < times) {
+            data = new int[n];
+            i = 0;
+            while (i < n) {
+                data[i] = this.random();
+                i = i + 1;
+            }
+            dummy = this.sort(0, n - 1);
+            ok = 1;
+            i = 1;
+            while (i < n) {
+                if (data[i] < data[i - 1]) {
+                    ok = 0;
+                } else {
+                }
+                i = i + 1;
+            }
+            k = k + 1;
+        }
+        return ok + data[n - 1] - data[0];
+    }
+
+    // A linear congruential generator modulo 1000003
+    public int random() {
+        seed = seed * 3 + 7;
+        while (1000002 < seed) {
+            seed = seed - 1000003;
+        }
+        return seed;
+    }
+
+    public int sort(int lo, int hi) {
+        int pivot;
+        int i;
+        int j;
+        int t;
+        int dummy;
+        if (lo < hi) {
+            pivot = data[hi];
+            i = lo;
+            j = lo;
+            while (j < hi) {
+                if (data[j] < pivot) {
+                    t = data[i];
+                    data[i] = data[j];
+                    data[j] = t;
+                    i = i + 1;
+                } else {
+                }
+                j = j + 1;
+            }
+            t = data[i];
+            data[i] = data[hi];
+            data[hi] = t;
+            dummy = this.sort(lo, i - 1);
+            dummy = this.sort(i + 1, hi);
+        } else {
+        }
+        return 0;
+    }
+}
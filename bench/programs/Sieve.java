@@ -0,0 +1,43 @@
+// Counts the primes below 2000000 with the sieve of Eratosthenes, twice
+class Sieve {
+    public static void main(String[] a) {
+        System.out.println(new Primes().run(2000000, 2));
+    }
+}
+
+class Primes {
+    public int run(int n, int times) {
+        int k;
+        int count;
+        count = 0;
+        k = 0;
+        while (k < times) {
+            count = this.count(n);
+            k = k + 1;
+        }
+        return count;
+    }
+
+    public int count(int n) {
+        int[] composite;
+        int i;
+        int j;
+        int count;
+        composite = new int[n];
+        count = 0;
+        i = 2;
+        while (i < n) {
+            if (composite[i] < 1) {
+                count = count + 1;
+                j = i + i;
+                while (j < n) {
+                    composite[j] = 1;
+                    j = j + i;
+                }
+            } else {
+            }
+            i = i + 1;
+        }
+        return count;
+    }
+}
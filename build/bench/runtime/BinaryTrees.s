@@ -0,0 +1,560 @@
+	.text
+	.globl asm_main
+	.data 1
+	.globl mj_stackmaps
+mj_stackmaps:
+	.text
+
+asm_main:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	pushq %r14
+	pushq %r15
+	subq $56,%rsp
+	call Trees$Trees
+.Lasm_main$gc1:
+	movq %rax,%rbx
+	movq %rbx,-48(%rbp)
+	call Node$Node
+.Lasm_main$gc2:
+	movq -48(%rbp),%rbx
+	movq %rax,%r12
+	movq %rbx,%rdi
+	movq $15,%rsi
+	movq %rbx,-48(%rbp)
+	movq %r12,-56(%rbp)
+	call Trees$make
+.Lasm_main$gc3:
+	movq -48(%rbp),%rbx
+	movq -56(%rbp),%r12
+	movq %rax,%r13
+	movq %rbx,%rdi
+	movq $15,%rsi
+	movq %rbx,-48(%rbp)
+	movq %r12,-56(%rbp)
+	movq %r13,-64(%rbp)
+	call Trees$make
+.Lasm_main$gc4:
+	movq -48(%rbp),%rbx
+	movq -56(%rbp),%r12
+	movq -64(%rbp),%r13
+	movq %rax,%rcx
+	movq %r13,8(%r12)
+	movq %r12,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq %rcx,16(%r12)
+	movq %r12,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq $1,24(%r12)
+	xorl %r13d,%r13d
+	movq $0,-88(%rbp)
+	jmp .Lasm_main$4
+.Lasm_main$3:
+	movq %rbx,-48(%rbp)
+	movq %r12,-56(%rbp)
+	call Node$Node
+.Lasm_main$gc5:
+	movq -48(%rbp),%rbx
+	movq -56(%rbp),%r12
+	movq %rax,%r15
+	movq %rbx,%rdi
+	movq $11,%rsi
+	movq %rbx,-48(%rbp)
+	movq %r12,-56(%rbp)
+	movq %r15,-72(%rbp)
+	call Trees$make
+.Lasm_main$gc6:
+	movq -48(%rbp),%rbx
+	movq -56(%rbp),%r12
+	movq -72(%rbp),%r15
+	movq %rax,%r14
+	movq %rbx,%rdi
+	movq $11,%rsi
+	movq %rbx,-48(%rbp)
+	movq %r12,-56(%rbp)
+	movq %r15,-72(%rbp)
+	movq %r14,-80(%rbp)
+	call Trees$make
+.Lasm_main$gc7:
+	movq -48(%rbp),%rbx
+	movq -56(%rbp),%r12
+	movq -72(%rbp),%r15
+	movq -80(%rbp),%r14
+	movq %rax,%rcx
+	movq %r14,8(%r15)
+	movq %r15,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq %rcx,16(%r15)
+	movq %r15,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq $1,24(%r15)
+	movq 24(%r15),%rcx
+	cmpq $0,%rcx
+	je .Lasm_main$21
+.Lasm_main$20:
+	movq 8(%r15),%rcx
+	movq %rcx,%rdi
+	movq %rbx,-48(%rbp)
+	movq %r12,-56(%rbp)
+	movq %r15,-72(%rbp)
+	call Node$count
+.Lasm_main$gc8:
+	movq -48(%rbp),%rbx
+	movq -56(%rbp),%r12
+	movq -72(%rbp),%r15
+	movq %rax,%rcx
+	movq $1,%r14
+	addq %rcx,%r14
+	movq 16(%r15),%rcx
+	movq %rcx,%rdi
+	movq %rbx,-48(%rbp)
+	movq %r12,-56(%rbp)
+	call Node$count
+.Lasm_main$gc9:
+	movq -48(%rbp),%rbx
+	movq -56(%rbp),%r12
+	movq %rax,%rcx
+	addq %r14,%rcx
+	jmp .Lasm_main$22
+.Lasm_main$21:
+	movq $1,%rcx
+.Lasm_main$22:
+	addq -88(%rbp),%rcx
+	movq %r13,%rdx
+	addq $1,%rdx
+	movq %rdx,%r13
+	movq %rcx,-88(%rbp)
+.Lasm_main$4:
+	cmpq $400,%r13
+	jl .Lasm_main$3
+.Lasm_main$5:
+	movq 24(%r12),%rdx
+	cmpq $0,%rdx
+	je .Lasm_main$26
+.Lasm_main$25:
+	movq 8(%r12),%rdx
+	movq %rdx,%rdi
+	movq %r12,-56(%rbp)
+	call Node$count
+.Lasm_main$gc10:
+	movq -56(%rbp),%r12
+	movq %rax,%rdx
+	movq $1,%r13
+	addq %rdx,%r13
+	movq 16(%r12),%rdx
+	movq %rdx,%rdi
+	call Node$count
+.Lasm_main$gc11:
+	movq %rax,%rdx
+	addq %r13,%rdx
+	jmp .Lasm_main$27
+.Lasm_main$26:
+	movq $1,%rdx
+.Lasm_main$27:
+	addq -88(%rbp),%rdx
+	movq %rdx,%rdi
+	call put
+	leaq -40(%rbp),%rsp
+	popq %r15
+	popq %r14
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+	.data 1
+	.quad .Lasm_main$gc1,0
+	.quad .Lasm_main$gc2,1,-48
+	.quad .Lasm_main$gc3,2,-48,-56
+	.quad .Lasm_main$gc4,3,-48,-56,-64
+	.quad .Lasm_main$gc5,2,-48,-56
+	.quad .Lasm_main$gc6,3,-48,-56,-72
+	.quad .Lasm_main$gc7,4,-48,-56,-72,-80
+	.quad .Lasm_main$gc8,3,-48,-56,-72
+	.quad .Lasm_main$gc9,2,-48,-56
+	.quad .Lasm_main$gc10,1,-56
+	.quad .Lasm_main$gc11,0
+	.text
+
+Trees$run:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	pushq %r14
+	pushq %r15
+	subq $56,%rsp
+	movq %rdi,%rbx
+	movq %rsi,%r12
+	movq %rdx,%r13
+	movq %rbx,-48(%rbp)
+	call Node$Node
+.LTrees$run$gc1:
+	movq -48(%rbp),%rbx
+	movq %rax,-56(%rbp)
+	cmpq $0,%r12
+	jle .LTrees$run$7
+.LTrees$run$6:
+	movq %r12,%rcx
+	subq $1,%rcx
+	movq %rbx,%rdi
+	movq %rcx,%rsi
+	movq %rbx,-48(%rbp)
+	call Trees$make
+.LTrees$run$gc2:
+	movq -48(%rbp),%rbx
+	movq %rax,%r15
+	movq %r12,%rcx
+	subq $1,%rcx
+	movq %rbx,%rdi
+	movq %rcx,%rsi
+	movq %rbx,-48(%rbp)
+	movq %r15,-64(%rbp)
+	call Trees$make
+.LTrees$run$gc3:
+	movq -48(%rbp),%rbx
+	movq -64(%rbp),%r15
+	movq %rax,%rcx
+	movq -56(%rbp),%rax
+	movq %r15,8(%rax)
+	movq -56(%rbp),%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq -56(%rbp),%rax
+	movq %rcx,16(%rax)
+	movq -56(%rbp),%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq -56(%rbp),%rax
+	movq $1,24(%rax)
+.LTrees$run$7:
+	xorl %r15d,%r15d
+	movq $0,-80(%rbp)
+	jmp .LTrees$run$2
+.LTrees$run$1:
+	movq %rbx,-48(%rbp)
+	call Node$Node
+.LTrees$run$gc4:
+	movq -48(%rbp),%rbx
+	movq %rax,%r12
+	movq %rbx,%rdi
+	movq $11,%rsi
+	movq %rbx,-48(%rbp)
+	movq %r12,-72(%rbp)
+	call Trees$make
+.LTrees$run$gc5:
+	movq -48(%rbp),%rbx
+	movq -72(%rbp),%r12
+	movq %rax,%r14
+	movq %rbx,%rdi
+	movq $11,%rsi
+	movq %rbx,-48(%rbp)
+	movq %r12,-72(%rbp)
+	movq %r14,-88(%rbp)
+	call Trees$make
+.LTrees$run$gc6:
+	movq -48(%rbp),%rbx
+	movq -72(%rbp),%r12
+	movq -88(%rbp),%r14
+	movq %rax,%rcx
+	movq %r14,8(%r12)
+	movq %r12,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq %rcx,16(%r12)
+	movq %r12,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq $1,24(%r12)
+	movq 24(%r12),%rcx
+	cmpq $0,%rcx
+	je .LTrees$run$19
+.LTrees$run$18:
+	movq 8(%r12),%rcx
+	movq %rcx,%rdi
+	movq %rbx,-48(%rbp)
+	movq %r12,-72(%rbp)
+	call Node$count
+.LTrees$run$gc7:
+	movq -48(%rbp),%rbx
+	movq -72(%rbp),%r12
+	movq %rax,%rcx
+	movq $1,%r14
+	addq %rcx,%r14
+	movq 16(%r12),%rcx
+	movq %rcx,%rdi
+	movq %rbx,-48(%rbp)
+	call Node$count
+.LTrees$run$gc8:
+	movq -48(%rbp),%rbx
+	movq %rax,%rcx
+	addq %r14,%rcx
+	jmp .LTrees$run$20
+.LTrees$run$19:
+	movq $1,%rcx
+.LTrees$run$20:
+	addq -80(%rbp),%rcx
+	movq %r15,%rdx
+	addq $1,%rdx
+	movq %rdx,%r15
+	movq %rcx,-80(%rbp)
+.LTrees$run$2:
+	cmpq %r13,%r15
+	jl .LTrees$run$1
+.LTrees$run$3:
+	movq -56(%rbp),%rax
+	movq 24(%rax),%rdx
+	cmpq $0,%rdx
+	je .LTrees$run$24
+.LTrees$run$23:
+	movq -56(%rbp),%rax
+	movq 8(%rax),%rdx
+	movq %rdx,%rdi
+	call Node$count
+.LTrees$run$gc9:
+	movq %rax,%rdx
+	movq $1,%r15
+	addq %rdx,%r15
+	movq -56(%rbp),%rax
+	movq 16(%rax),%rdx
+	movq %rdx,%rdi
+	call Node$count
+.LTrees$run$gc10:
+	movq %rax,%rdx
+	addq %r15,%rdx
+	jmp .LTrees$run$25
+.LTrees$run$24:
+	movq $1,%rdx
+.LTrees$run$25:
+	addq -80(%rbp),%rdx
+	movq %rdx,%rax
+	leaq -40(%rbp),%rsp
+	popq %r15
+	popq %r14
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+	.data 1
+	.quad .LTrees$run$gc1,1,-48
+	.quad .LTrees$run$gc2,2,-48,-56
+	.quad .LTrees$run$gc3,3,-48,-56,-64
+	.quad .LTrees$run$gc4,2,-48,-56
+	.quad .LTrees$run$gc5,3,-48,-56,-72
+	.quad .LTrees$run$gc6,4,-48,-56,-72,-88
+	.quad .LTrees$run$gc7,3,-48,-56,-72
+	.quad .LTrees$run$gc8,2,-48,-56
+	.quad .LTrees$run$gc9,1,-56
+	.quad .LTrees$run$gc10,0
+	.text
+
+Trees$make:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	pushq %r14
+	subq $32,%rsp
+	movq %rdi,%rbx
+	movq %rsi,%r12
+	movq %rbx,-40(%rbp)
+	call Node$Node
+.LTrees$make$gc1:
+	movq -40(%rbp),%rbx
+	movq %rax,%r13
+	cmpq $0,%r12
+	jle .LTrees$make$3
+.LTrees$make$1:
+	movq %r12,%rcx
+	subq $1,%rcx
+	movq %rbx,%rdi
+	movq %rcx,%rsi
+	movq %rbx,-40(%rbp)
+	movq %r13,-48(%rbp)
+	call Trees$make
+.LTrees$make$gc2:
+	movq -40(%rbp),%rbx
+	movq -48(%rbp),%r13
+	movq %rax,%r14
+	movq %r12,%rcx
+	subq $1,%rcx
+	movq %rbx,%rdi
+	movq %rcx,%rsi
+	movq %r13,-48(%rbp)
+	movq %r14,-56(%rbp)
+	call Trees$make
+.LTrees$make$gc3:
+	movq -48(%rbp),%r13
+	movq -56(%rbp),%r14
+	movq %rax,%rcx
+	movq %r14,8(%r13)
+	movq %r13,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq %rcx,16(%r13)
+	movq %r13,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq $1,24(%r13)
+.LTrees$make$3:
+	movq %r13,%rax
+	leaq -32(%rbp),%rsp
+	popq %r14
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+	.data 1
+	.quad .LTrees$make$gc1,1,-40
+	.quad .LTrees$make$gc2,2,-40,-48
+	.quad .LTrees$make$gc3,2,-48,-56
+	.text
+
+Node$init:
+	pushq %rbp
+	movq %rsp,%rbp
+	movq %rsi,8(%rdi)
+	movq %rdi,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq %rdx,16(%rdi)
+	movq %rdi,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq $1,24(%rdi)
+	xorl %eax,%eax
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+
+Node$count:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	subq $16,%rsp
+	movq %rdi,%rbx
+	movq 24(%rbx),%rcx
+	cmpq $0,%rcx
+	je .LNode$count$2
+.LNode$count$1:
+	movq 8(%rbx),%rcx
+	movq %rcx,%rdi
+	movq %rbx,-24(%rbp)
+	call Node$count
+.LNode$count$gc1:
+	movq -24(%rbp),%rbx
+	movq %rax,%rcx
+	movq $1,%r12
+	addq %rcx,%r12
+	movq 16(%rbx),%rcx
+	movq %rcx,%rdi
+	call Node$count
+.LNode$count$gc2:
+	movq %rax,%rcx
+	addq %r12,%rcx
+	jmp .LNode$count$3
+.LNode$count$2:
+	movq $1,%rcx
+.LNode$count$3:
+	movq %rcx,%rax
+	leaq -16(%rbp),%rsp
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+	.data 1
+	.quad .LNode$count$gc1,1,-24
+	.quad .LNode$count$gc2,0
+	.text
+Trees$Trees:
+	movq mj_heap_ptr(%rip),%rax
+	leaq 16(%rax),%rdx
+	cmpq mj_heap_limit(%rip),%rdx
+	ja .LTrees$Trees$slow
+	movq %rdx,mj_heap_ptr(%rip)
+	leaq Trees$$gc(%rip),%rdx
+	movq %rdx,(%rax)
+	addq $8,%rax
+.LTrees$Trees$alloced:
+	leaq Trees$$(%rip),%rdx
+	movq %rdx,(%rax)
+	ret
+.LTrees$Trees$slow:
+	pushq %rbp
+	movq %rsp,%rbp
+	leaq Trees$$gc(%rip),%rdi
+	call mjnew
+.LTrees$Trees$gc1:
+	popq %rbp
+	jmp .LTrees$Trees$alloced
+	.data 1
+	.quad .LTrees$Trees$gc1,0
+	.text
+Node$Node:
+	movq mj_heap_ptr(%rip),%rax
+	leaq 40(%rax),%rdx
+	cmpq mj_heap_limit(%rip),%rdx
+	ja .LNode$Node$slow
+	movq %rdx,mj_heap_ptr(%rip)
+	leaq Node$$gc(%rip),%rdx
+	movq %rdx,(%rax)
+	addq $8,%rax
+.LNode$Node$alloced:
+	leaq Node$$(%rip),%rdx
+	movq %rdx,(%rax)
+	ret
+.LNode$Node$slow:
+	pushq %rbp
+	movq %rsp,%rbp
+	leaq Node$$gc(%rip),%rdi
+	call mjnew
+.LNode$Node$gc1:
+	popq %rbp
+	jmp .LNode$Node$alloced
+	.data 1
+	.quad .LNode$Node$gc1,0
+	.text
+
+	.data
+Trees$$:
+	.quad 0
+	.quad Trees$Trees
+	.quad Trees$run
+	.quad Trees$make
+Trees$$gc:
+	.quad 8,0
+Node$$:
+	.quad 0
+	.quad Node$Node
+	.quad Node$init
+	.quad Node$count
+Node$$gc:
+	.quad 32,2,8,16
+	.data 1
+	.quad 0
+	.section .note.GNU-stack,"",@progbits
+
@@ -0,0 +1,350 @@
+	.text
+	.globl asm_main
+	.data 1
+	.globl mj_stackmaps
+mj_stackmaps:
+	.text
+
+asm_main:
+	pushq %rbp
+	movq %rsp,%rbp
+	call Shapes$Shapes
+.Lasm_main$gc1:
+	movq %rax,%rcx
+	movq %rcx,%rdi
+	movq $999,%rsi
+	movq $20000,%rdx
+	call Shapes$run
+.Lasm_main$gc2:
+	movq %rax,%rcx
+	movq %rcx,%rdi
+	call put
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+	.data 1
+	.quad .Lasm_main$gc1,0
+	.quad .Lasm_main$gc2,0
+	.text
+
+Shapes$run:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	pushq %r14
+	pushq %r15
+	subq $56,%rsp
+	movq %rsi,-72(%rbp)
+	movq %rdx,-96(%rbp)
+	call Shape$Shape
+.LShapes$run$gc1:
+	movq %rax,%rcx
+	movq $1,%r13
+	movq %rcx,-48(%rbp)
+	jmp .LShapes$run$2
+.LShapes$run$1:
+	call Square$Square
+.LShapes$run$gc2:
+	movq %rax,%r15
+	movq -48(%rbp),%r11
+	movq %r11,8(%r15)
+	movq %r15,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq %r15,-56(%rbp)
+	call Triangle$Triangle
+.LShapes$run$gc3:
+	movq -56(%rbp),%r15
+	movq %rax,%rbx
+	movq %r15,8(%rbx)
+	movq %rbx,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq %rbx,-64(%rbp)
+	call Shape$Shape
+.LShapes$run$gc4:
+	movq -64(%rbp),%rbx
+	movq %rax,%rcx
+	movq %rbx,8(%rcx)
+	movq %rcx,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	movq %r13,%rdx
+	addq $3,%rdx
+	movq %rdx,%r13
+	movq %rcx,-48(%rbp)
+.LShapes$run$2:
+	cmpq -72(%rbp),%r13
+	jl .LShapes$run$1
+.LShapes$run$3:
+	xorl %r13d,%r13d
+	movq $0,-88(%rbp)
+	jmp .LShapes$run$5
+.LShapes$run$4:
+	xorl %r15d,%r15d
+	movq -48(%rbp),%rbx
+	xorl %r12d,%r12d
+	jmp .LShapes$run$8
+.LShapes$run$7:
+	movq %rbx,%rdi
+	movq (%rdi),%rax
+	movq %rbx,-80(%rbp)
+	call *32(%rax)
+.LShapes$run$gc5:
+	movq -80(%rbp),%rbx
+	movq %rax,%rdx
+	movq %r15,%r14
+	addq %rdx,%r14
+	movq %rbx,%rdi
+	movq (%rdi),%rax
+	movq %rbx,-80(%rbp)
+	call *40(%rax)
+.LShapes$run$gc6:
+	movq -80(%rbp),%rbx
+	movq %rax,%rdx
+	addq %r14,%rdx
+	movq 8(%rbx),%rcx
+	movq %r12,%rsi
+	addq $1,%rsi
+	movq %rdx,%r15
+	movq %rcx,%rbx
+	movq %rsi,%r12
+.LShapes$run$8:
+	cmpq -72(%rbp),%r12
+	jl .LShapes$run$7
+.LShapes$run$9:
+	movq %r13,%rsi
+	addq $1,%rsi
+	movq %rsi,%r13
+	movq %r15,-88(%rbp)
+.LShapes$run$5:
+	cmpq -96(%rbp),%r13
+	jl .LShapes$run$4
+.LShapes$run$6:
+	movq -88(%rbp),%rax
+	leaq -40(%rbp),%rsp
+	popq %r15
+	popq %r14
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+	.data 1
+	.quad .LShapes$run$gc1,0
+	.quad .LShapes$run$gc2,1,-48
+	.quad .LShapes$run$gc3,1,-56
+	.quad .LShapes$run$gc4,1,-64
+	.quad .LShapes$run$gc5,2,-48,-80
+	.quad .LShapes$run$gc6,2,-48,-80
+	.text
+
+Shape$setNext:
+	pushq %rbp
+	movq %rsp,%rbp
+	movq %rsi,8(%rdi)
+	movq %rdi,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	xorl %eax,%eax
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+
+Shape$next:
+	pushq %rbp
+	movq %rsp,%rbp
+	movq 8(%rdi),%rdi
+	movq %rdi,%rax
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+
+Shape$area:
+	pushq %rbp
+	movq %rsp,%rbp
+	xorl %eax,%eax
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+
+Shape$sides:
+	pushq %rbp
+	movq %rsp,%rbp
+	xorl %eax,%eax
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+
+Square$area:
+	pushq %rbp
+	movq %rsp,%rbp
+	movq $4,%rax
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+
+Square$sides:
+	pushq %rbp
+	movq %rsp,%rbp
+	movq $4,%rax
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+
+Triangle$area:
+	pushq %rbp
+	movq %rsp,%rbp
+	movq $2,%rax
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+
+Triangle$sides:
+	pushq %rbp
+	movq %rsp,%rbp
+	movq $3,%rax
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+Shapes$Shapes:
+	movq mj_heap_ptr(%rip),%rax
+	leaq 16(%rax),%rdx
+	cmpq mj_heap_limit(%rip),%rdx
+	ja .LShapes$Shapes$slow
+	movq %rdx,mj_heap_ptr(%rip)
+	leaq Shapes$$gc(%rip),%rdx
+	movq %rdx,(%rax)
+	addq $8,%rax
+.LShapes$Shapes$alloced:
+	leaq Shapes$$(%rip),%rdx
+	movq %rdx,(%rax)
+	ret
+.LShapes$Shapes$slow:
+	pushq %rbp
+	movq %rsp,%rbp
+	leaq Shapes$$gc(%rip),%rdi
+	call mjnew
+.LShapes$Shapes$gc1:
+	popq %rbp
+	jmp .LShapes$Shapes$alloced
+	.data 1
+	.quad .LShapes$Shapes$gc1,0
+	.text
+Shape$Shape:
+	movq mj_heap_ptr(%rip),%rax
+	leaq 24(%rax),%rdx
+	cmpq mj_heap_limit(%rip),%rdx
+	ja .LShape$Shape$slow
+	movq %rdx,mj_heap_ptr(%rip)
+	leaq Shape$$gc(%rip),%rdx
+	movq %rdx,(%rax)
+	addq $8,%rax
+.LShape$Shape$alloced:
+	leaq Shape$$(%rip),%rdx
+	movq %rdx,(%rax)
+	ret
+.LShape$Shape$slow:
+	pushq %rbp
+	movq %rsp,%rbp
+	leaq Shape$$gc(%rip),%rdi
+	call mjnew
+.LShape$Shape$gc1:
+	popq %rbp
+	jmp .LShape$Shape$alloced
+	.data 1
+	.quad .LShape$Shape$gc1,0
+	.text
+Square$Square:
+	movq mj_heap_ptr(%rip),%rax
+	leaq 24(%rax),%rdx
+	cmpq mj_heap_limit(%rip),%rdx
+	ja .LSquare$Square$slow
+	movq %rdx,mj_heap_ptr(%rip)
+	leaq Square$$gc(%rip),%rdx
+	movq %rdx,(%rax)
+	addq $8,%rax
+.LSquare$Square$alloced:
+	leaq Square$$(%rip),%rdx
+	movq %rdx,(%rax)
+	ret
+.LSquare$Square$slow:
+	pushq %rbp
+	movq %rsp,%rbp
+	leaq Square$$gc(%rip),%rdi
+	call mjnew
+.LSquare$Square$gc1:
+	popq %rbp
+	jmp .LSquare$Square$alloced
+	.data 1
+	.quad .LSquare$Square$gc1,0
+	.text
+Triangle$Triangle:
+	movq mj_heap_ptr(%rip),%rax
+	leaq 24(%rax),%rdx
+	cmpq mj_heap_limit(%rip),%rdx
+	ja .LTriangle$Triangle$slow
+	movq %rdx,mj_heap_ptr(%rip)
+	leaq Triangle$$gc(%rip),%rdx
+	movq %rdx,(%rax)
+	addq $8,%rax
+.LTriangle$Triangle$alloced:
+	leaq Triangle$$(%rip),%rdx
+	movq %rdx,(%rax)
+	ret
+.LTriangle$Triangle$slow:
+	pushq %rbp
+	movq %rsp,%rbp
+	leaq Triangle$$gc(%rip),%rdi
+	call mjnew
+.LTriangle$Triangle$gc1:
+	popq %rbp
+	jmp .LTriangle$Triangle$alloced
+	.data 1
+	.quad .LTriangle$Triangle$gc1,0
+	.text
+
+	.data
+Shapes$$:
+	.quad 0
+	.quad Shapes$Shapes
+	.quad Shapes$run
+Shapes$$gc:
+	.quad 8,0
+Shape$$:
+	.quad 0
+	.quad Shape$Shape
+	.quad Shape$setNext
+	.quad Shape$next
+	.quad Shape$area
+	.quad Shape$sides
+Shape$$gc:
+	.quad 16,1,8
+Square$$:
+	.quad Shape$$
+	.quad Square$Square
+	.quad Shape$setNext
+	.quad Shape$next
+	.quad Square$area
+	.quad Square$sides
+Square$$gc:
+	.quad 16,1,8
+Triangle$$:
+	.quad Shape$$
+	.quad Triangle$Triangle
+	.quad Shape$setNext
+	.quad Shape$next
+	.quad Triangle$area
+	.quad Triangle$sides
+Triangle$$gc:
+	.quad 16,1,8
+	.data 1
+	.quad 0
+	.section .note.GNU-stack,"",@progbits
+
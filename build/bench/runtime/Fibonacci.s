@@ -0,0 +1,125 @@
+	.text
+	.globl asm_main
+	.data 1
+	.globl mj_stackmaps
+mj_stackmaps:
+	.text
+
+asm_main:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	subq $16,%rsp
+	call Fib$Fib
+.Lasm_main$gc1:
+	movq %rax,%rbx
+	movq %rbx,%rdi
+	movq $34,%rsi
+	movq %rbx,-24(%rbp)
+	call Fib$fib
+.Lasm_main$gc2:
+	movq -24(%rbp),%rbx
+	movq %rax,%r12
+	movq %rbx,%rdi
+	movq $33,%rsi
+	call Fib$fib
+.Lasm_main$gc3:
+	movq %rax,%rcx
+	addq %r12,%rcx
+	movq %rcx,%rdi
+	call put
+	leaq -16(%rbp),%rsp
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+	.data 1
+	.quad .Lasm_main$gc1,0
+	.quad .Lasm_main$gc2,1,-24
+	.quad .Lasm_main$gc3,0
+	.text
+
+Fib$fib:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	pushq %r14
+	subq $16,%rsp
+	movq %rdi,%rbx
+	movq %rsi,%r12
+	cmpq $2,%r12
+	jge .LFib$fib$2
+.LFib$fib$1:
+	movq %r12,%r13
+	jmp .LFib$fib$3
+.LFib$fib$2:
+	movq %r12,%rcx
+	subq $1,%rcx
+	movq %rbx,%rdi
+	movq %rcx,%rsi
+	movq %rbx,-40(%rbp)
+	call Fib$fib
+.LFib$fib$gc1:
+	movq -40(%rbp),%rbx
+	movq %rax,%r14
+	movq %r12,%rcx
+	subq $2,%rcx
+	movq %rbx,%rdi
+	movq %rcx,%rsi
+	call Fib$fib
+.LFib$fib$gc2:
+	movq %rax,%rcx
+	addq %r14,%rcx
+	movq %rcx,%r13
+.LFib$fib$3:
+	movq %r13,%rax
+	leaq -32(%rbp),%rsp
+	popq %r14
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+	.data 1
+	.quad .LFib$fib$gc1,1,-40
+	.quad .LFib$fib$gc2,0
+	.text
+Fib$Fib:
+	movq mj_heap_ptr(%rip),%rax
+	leaq 16(%rax),%rdx
+	cmpq mj_heap_limit(%rip),%rdx
+	ja .LFib$Fib$slow
+	movq %rdx,mj_heap_ptr(%rip)
+	leaq Fib$$gc(%rip),%rdx
+	movq %rdx,(%rax)
+	addq $8,%rax
+.LFib$Fib$alloced:
+	leaq Fib$$(%rip),%rdx
+	movq %rdx,(%rax)
+	ret
+.LFib$Fib$slow:
+	pushq %rbp
+	movq %rsp,%rbp
+	leaq Fib$$gc(%rip),%rdi
+	call mjnew
+.LFib$Fib$gc1:
+	popq %rbp
+	jmp .LFib$Fib$alloced
+	.data 1
+	.quad .LFib$Fib$gc1,0
+	.text
+
+	.data
+Fib$$:
+	.quad 0
+	.quad Fib$Fib
+	.quad Fib$fib
+Fib$$gc:
+	.quad 8,0
+	.data 1
+	.quad 0
+	.section .note.GNU-stack,"",@progbits
+
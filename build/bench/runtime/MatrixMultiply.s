@@ -0,0 +1,307 @@
+	.text
+	.globl asm_main
+	.data 1
+	.globl mj_stackmaps
+mj_stackmaps:
+	.text
+
+asm_main:
+	pushq %rbp
+	movq %rsp,%rbp
+	call Matrices$Matrices
+.Lasm_main$gc1:
+	movq %rax,%rcx
+	movq %rcx,%rdi
+	movq $160,%rsi
+	movq $8,%rdx
+	call Matrices$run
+.Lasm_main$gc2:
+	movq %rax,%rcx
+	movq %rcx,%rdi
+	call put
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+	.data 1
+	.quad .Lasm_main$gc1,0
+	.quad .Lasm_main$gc2,0
+	.text
+
+Matrices$run:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	pushq %r14
+	pushq %r15
+	subq $40,%rsp
+	movq %rdi,%rbx
+	movq %rsi,%r12
+	movq %rdx,%r13
+	movq %r12,%r14
+	imulq %r12,%r14
+	movq %r14,%rdi
+	movq %rbx,-48(%rbp)
+	call mjcalloc
+.LMatrices$run$gc1:
+	movq -48(%rbp),%rbx
+	movq %rax,%r15
+	movq %r14,0(%r15)
+	movq %r12,%r14
+	imulq %r12,%r14
+	movq %r14,%rdi
+	movq %rbx,-48(%rbp)
+	movq %r15,-56(%rbp)
+	call mjcalloc
+.LMatrices$run$gc2:
+	movq -48(%rbp),%rbx
+	movq -56(%rbp),%r15
+	movq %rax,-64(%rbp)
+	movq %r14,0(%rax)
+	xorl %ecx,%ecx
+	jmp .LMatrices$run$2
+.LMatrices$run$1:
+	xorl %edx,%edx
+	jmp .LMatrices$run$5
+.LMatrices$run$4:
+	movq %rcx,%rsi
+	imulq %r12,%rsi
+	addq %rdx,%rsi
+	movq %rcx,%rdi
+	addq %rdx,%rdi
+	movq 0(%r15),%r8
+	cmpq %r8,%rsi
+	jae .LMatrices$run$bounds0
+	movq %rdi,8(%r15,%rsi,8)
+	movq %rcx,%r8
+	imulq %r12,%r8
+	addq %rdx,%r8
+	movq %rcx,%rdi
+	subq %rdx,%rdi
+	addq %r12,%rdi
+	movq -64(%rbp),%rax
+	movq 0(%rax),%rsi
+	cmpq %rsi,%r8
+	jae .LMatrices$run$bounds1
+	movq -64(%rbp),%rax
+	movq %rdi,8(%rax,%r8,8)
+	movq %rdx,%rsi
+	addq $1,%rsi
+	movq %rsi,%rdx
+.LMatrices$run$5:
+	cmpq %r12,%rdx
+	jl .LMatrices$run$4
+.LMatrices$run$6:
+	movq %rcx,%rsi
+	addq $1,%rsi
+	movq %rsi,%rcx
+.LMatrices$run$2:
+	cmpq %r12,%rcx
+	jl .LMatrices$run$1
+.LMatrices$run$3:
+	xorl %r14d,%r14d
+	movq $0,-72(%rbp)
+	jmp .LMatrices$run$8
+.LMatrices$run$7:
+	movq %rbx,%rdi
+	movq %r15,%rsi
+	movq -64(%rbp),%rdx
+	movq %r12,%rcx
+	movq %rbx,-48(%rbp)
+	movq %r15,-56(%rbp)
+	call Matrices$multiply
+.LMatrices$run$gc3:
+	movq -48(%rbp),%rbx
+	movq -56(%rbp),%r15
+	movq %rax,%rsi
+	xorl %ecx,%ecx
+	xorl %edx,%edx
+	jmp .LMatrices$run$11
+.LMatrices$run$10:
+	movq %rdx,%rdi
+	imulq %r12,%rdi
+	addq %rdx,%rdi
+	movq 0(%rsi),%r8
+	cmpq %r8,%rdi
+	jae .LMatrices$run$bounds2
+	movq 8(%rsi,%rdi,8),%r8
+	addq %rcx,%r8
+	movq %rdx,%rdi
+	addq $1,%rdi
+	movq %r8,%rcx
+	movq %rdi,%rdx
+.LMatrices$run$11:
+	cmpq %r12,%rdx
+	jl .LMatrices$run$10
+.LMatrices$run$12:
+	movq %r14,%rdi
+	addq $1,%rdi
+	movq %rdi,%r14
+	movq %rcx,-72(%rbp)
+.LMatrices$run$8:
+	cmpq %r13,%r14
+	jl .LMatrices$run$7
+.LMatrices$run$9:
+	movq -72(%rbp),%rax
+	leaq -40(%rbp),%rsp
+	popq %r15
+	popq %r14
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+.LMatrices$run$bounds0:
+	movq %rsi,%rdi
+	movq %r8,%rsi
+	call mjbounds
+.LMatrices$run$bounds1:
+	movq %r8,%rdi
+	call mjbounds
+.LMatrices$run$bounds2:
+	movq %r8,%rsi
+	call mjbounds
+	.data 1
+	.quad .LMatrices$run$gc1,1,-48
+	.quad .LMatrices$run$gc2,2,-48,-56
+	.quad .LMatrices$run$gc3,3,-48,-56,-64
+	.text
+
+Matrices$multiply:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	pushq %r14
+	subq $16,%rsp
+	movq %rsi,%rbx
+	movq %rdx,%r12
+	movq %rcx,%r13
+	movq %r13,%r14
+	imulq %r13,%r14
+	movq %r14,%rdi
+	movq %rbx,-40(%rbp)
+	movq %r12,-48(%rbp)
+	call mjcalloc
+.LMatrices$multiply$gc1:
+	movq -40(%rbp),%rbx
+	movq -48(%rbp),%r12
+	movq %rax,%rcx
+	movq %r14,0(%rcx)
+	xorl %edx,%edx
+	jmp .LMatrices$multiply$2
+.LMatrices$multiply$1:
+	xorl %esi,%esi
+	jmp .LMatrices$multiply$5
+.LMatrices$multiply$4:
+	xorl %edi,%edi
+	xorl %r8d,%r8d
+	jmp .LMatrices$multiply$8
+.LMatrices$multiply$7:
+	movq %rdx,%r9
+	imulq %r13,%r9
+	addq %rdi,%r9
+	movq 0(%rbx),%r10
+	cmpq %r10,%r9
+	jae .LMatrices$multiply$bounds0
+	movq 8(%rbx,%r9,8),%r10
+	movq %rdi,%r9
+	imulq %r13,%r9
+	addq %rsi,%r9
+	movq 0(%r12),%r14
+	cmpq %r14,%r9
+	jae .LMatrices$multiply$bounds1
+	movq 8(%r12,%r9,8),%r9
+	imulq %r10,%r9
+	addq %r8,%r9
+	movq %rdi,%r10
+	addq $1,%r10
+	movq %r10,%rdi
+	movq %r9,%r8
+.LMatrices$multiply$8:
+	cmpq %r13,%rdi
+	jl .LMatrices$multiply$7
+.LMatrices$multiply$9:
+	movq %rdx,%r10
+	imulq %r13,%r10
+	addq %rsi,%r10
+	movq 0(%rcx),%r9
+	cmpq %r9,%r10
+	jae .LMatrices$multiply$bounds2
+	movq %r8,8(%rcx,%r10,8)
+	movq %rsi,%r9
+	addq $1,%r9
+	movq %r9,%rsi
+.LMatrices$multiply$5:
+	cmpq %r13,%rsi
+	jl .LMatrices$multiply$4
+.LMatrices$multiply$6:
+	movq %rdx,%r9
+	addq $1,%r9
+	movq %r9,%rdx
+.LMatrices$multiply$2:
+	cmpq %r13,%rdx
+	jl .LMatrices$multiply$1
+.LMatrices$multiply$3:
+	movq %rcx,%rax
+	leaq -32(%rbp),%rsp
+	popq %r14
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+.LMatrices$multiply$bounds0:
+	movq %r9,%rdi
+	movq %r10,%rsi
+	call mjbounds
+.LMatrices$multiply$bounds1:
+	movq %r9,%rdi
+	movq %r14,%rsi
+	call mjbounds
+.LMatrices$multiply$bounds2:
+	movq %r10,%rdi
+	movq %r9,%rsi
+	call mjbounds
+	.data 1
+	.quad .LMatrices$multiply$gc1,2,-40,-48
+	.text
+Matrices$Matrices:
+	movq mj_heap_ptr(%rip),%rax
+	leaq 16(%rax),%rdx
+	cmpq mj_heap_limit(%rip),%rdx
+	ja .LMatrices$Matrices$slow
+	movq %rdx,mj_heap_ptr(%rip)
+	leaq Matrices$$gc(%rip),%rdx
+	movq %rdx,(%rax)
+	addq $8,%rax
+.LMatrices$Matrices$alloced:
+	leaq Matrices$$(%rip),%rdx
+	movq %rdx,(%rax)
+	ret
+.LMatrices$Matrices$slow:
+	pushq %rbp
+	movq %rsp,%rbp
+	leaq Matrices$$gc(%rip),%rdi
+	call mjnew
+.LMatrices$Matrices$gc1:
+	popq %rbp
+	jmp .LMatrices$Matrices$alloced
+	.data 1
+	.quad .LMatrices$Matrices$gc1,0
+	.text
+
+	.data
+Matrices$$:
+	.quad 0
+	.quad Matrices$Matrices
+	.quad Matrices$run
+	.quad Matrices$multiply
+Matrices$$gc:
+	.quad 8,0
+	.data 1
+	.quad 0
+	.section .note.GNU-stack,"",@progbits
+
@@ -0,0 +1,402 @@
+	.text
+	.globl asm_main
+	.data 1
+	.globl mj_stackmaps
+mj_stackmaps:
+	.text
+
+asm_main:
+	pushq %rbp
+	movq %rsp,%rbp
+	call Sorter$Sorter
+.Lasm_main$gc1:
+	movq %rax,%rcx
+	movq %rcx,%rdi
+	movq $300000,%rsi
+	movq $3,%rdx
+	call Sorter$run
+.Lasm_main$gc2:
+	movq %rax,%rcx
+	movq %rcx,%rdi
+	call put
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+	.data 1
+	.quad .Lasm_main$gc1,0
+	.quad .Lasm_main$gc2,0
+	.text
+
+Sorter$run:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	pushq %r14
+	pushq %r15
+	subq $8,%rsp
+	movq %rdi,%rbx
+	movq %rsi,%r12
+	movq %rdx,%r13
+	movq $12345,16(%rbx)
+	xorl %r14d,%r14d
+	xorl %r15d,%r15d
+	jmp .LSorter$run$2
+.LSorter$run$1:
+	movq %r12,%rdi
+	movq %rbx,-48(%rbp)
+	call mjcalloc
+.LSorter$run$gc1:
+	movq -48(%rbp),%rbx
+	movq %rax,%rcx
+	movq %r12,0(%rcx)
+	movq %rcx,8(%rbx)
+	movq %rbx,%rax
+	shrq $9,%rax
+	addq mj_card_bias(%rip),%rax
+	movb $1,(%rax)
+	xorl %ecx,%ecx
+	jmp .LSorter$run$5
+.LSorter$run$4:
+	movq 8(%rbx),%rdx
+	movq 16(%rbx),%rsi
+	imulq $3,%rsi
+	addq $7,%rsi
+	movq %rsi,16(%rbx)
+	jmp .LSorter$run$16
+.LSorter$run$15:
+	movq 16(%rbx),%rsi
+	subq $1000003,%rsi
+	movq %rsi,16(%rbx)
+.LSorter$run$16:
+	movq 16(%rbx),%rsi
+	cmpq $1000002,%rsi
+	jg .LSorter$run$15
+.LSorter$run$17:
+	movq 16(%rbx),%rsi
+	movq 0(%rdx),%rdi
+	cmpq %rdi,%rcx
+	jae .LSorter$run$bounds0
+	movq %rsi,8(%rdx,%rcx,8)
+	movq %rcx,%rdi
+	addq $1,%rdi
+	movq %rdi,%rcx
+.LSorter$run$5:
+	cmpq %r12,%rcx
+	jl .LSorter$run$4
+.LSorter$run$6:
+	movq %r12,%rdi
+	subq $1,%rdi
+	xorl %esi,%esi
+	movq %rdi,%rdx
+	movq %rbx,%rdi
+	movq %rbx,-48(%rbp)
+	call Sorter$sort
+.LSorter$run$gc2:
+	movq -48(%rbp),%rbx
+	movq %rax,%rdi
+	movq $1,%rdi
+	movq $1,%rcx
+	jmp .LSorter$run$8
+.LSorter$run$7:
+	movq 8(%rbx),%rsi
+	movq 0(%rsi),%rdx
+	cmpq %rdx,%rdi
+	jae .LSorter$run$bounds1
+	movq 8(%rsi,%rdi,8),%rdx
+	movq 8(%rbx),%rsi
+	movq %rdi,%r8
+	subq $1,%r8
+	movq 0(%rsi),%r9
+	cmpq %r9,%r8
+	jae .LSorter$run$bounds2
+	movq 8(%rsi,%r8,8),%r9
+	cmpq %r9,%rdx
+	jl .LSorter$run$10
+.LSorter$run$18:
+	movq %rcx,%r9
+	jmp .LSorter$run$12
+.LSorter$run$10:
+	xorl %r9d,%r9d
+.LSorter$run$12:
+	movq %rdi,%rdx
+	addq $1,%rdx
+	movq %rdx,%rdi
+	movq %r9,%rcx
+.LSorter$run$8:
+	cmpq %r12,%rdi
+	jl .LSorter$run$7
+.LSorter$run$9:
+	movq %r14,%rdx
+	addq $1,%rdx
+	movq %rdx,%r14
+	movq %rcx,%r15
+.LSorter$run$2:
+	cmpq %r13,%r14
+	jl .LSorter$run$1
+.LSorter$run$3:
+	movq 8(%rbx),%rdx
+	movq %r12,%rcx
+	subq $1,%rcx
+	movq 0(%rdx),%r9
+	cmpq %r9,%rcx
+	jae .LSorter$run$bounds3
+	movq 8(%rdx,%rcx,8),%r9
+	addq %r15,%r9
+	movq 8(%rbx),%rcx
+	movq 0(%rcx),%rdx
+	cmpq $0,%rdx
+	jbe .LSorter$run$bounds4
+	movq 8(%rcx),%rdx
+	movq %r9,%rax
+	subq %rdx,%rax
+	movq %rax,%rdx
+	movq %rdx,%rax
+	leaq -40(%rbp),%rsp
+	popq %r15
+	popq %r14
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+.LSorter$run$bounds0:
+	movq %rdi,%rsi
+	movq %rcx,%rdi
+	call mjbounds
+.LSorter$run$bounds1:
+	movq %rdx,%rsi
+	call mjbounds
+.LSorter$run$bounds2:
+	movq %r8,%rdi
+	movq %r9,%rsi
+	call mjbounds
+.LSorter$run$bounds3:
+	movq %rcx,%rdi
+	movq %r9,%rsi
+	call mjbounds
+.LSorter$run$bounds4:
+	xorl %edi,%edi
+	movq %rdx,%rsi
+	call mjbounds
+	.data 1
+	.quad .LSorter$run$gc1,1,-48
+	.quad .LSorter$run$gc2,1,-48
+	.text
+
+Sorter$random:
+	pushq %rbp
+	movq %rsp,%rbp
+	movq 16(%rdi),%rcx
+	imulq $3,%rcx
+	addq $7,%rcx
+	movq %rcx,16(%rdi)
+	jmp .LSorter$random$2
+.LSorter$random$1:
+	movq 16(%rdi),%rcx
+	subq $1000003,%rcx
+	movq %rcx,16(%rdi)
+.LSorter$random$2:
+	movq 16(%rdi),%rcx
+	cmpq $1000002,%rcx
+	jg .LSorter$random$1
+.LSorter$random$3:
+	movq 16(%rdi),%rcx
+	movq %rcx,%rax
+	movq %rbp,%rsp
+	popq %rbp
+	ret
+
+Sorter$sort:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	pushq %r14
+	subq $16,%rsp
+	movq %rdi,%rbx
+	movq %rdx,%r12
+	cmpq %r12,%rsi
+	jge .LSorter$sort$3
+.LSorter$sort$1:
+	movq 8(%rbx),%rcx
+	movq 0(%rcx),%rdx
+	cmpq %rdx,%r12
+	jae .LSorter$sort$bounds0
+	movq 8(%rcx,%r12,8),%rdx
+	movq %rsi,%rcx
+	movq %rsi,%r13
+	jmp .LSorter$sort$5
+.LSorter$sort$4:
+	movq 8(%rbx),%rdi
+	movq 0(%rdi),%r8
+	cmpq %r8,%rcx
+	jae .LSorter$sort$bounds1
+	movq 8(%rdi,%rcx,8),%r8
+	cmpq %rdx,%r8
+	jl .LSorter$sort$7
+.LSorter$sort$10:
+	movq %r13,%r8
+	jmp .LSorter$sort$9
+.LSorter$sort$7:
+	movq 8(%rbx),%rdi
+	movq 0(%rdi),%r9
+	cmpq %r9,%r13
+	jae .LSorter$sort$bounds2
+	movq 8(%rdi,%r13,8),%r9
+	movq 8(%rbx),%rdi
+	movq 8(%rbx),%r10
+	movq 0(%r10),%r14
+	cmpq %r14,%rcx
+	jae .LSorter$sort$bounds3
+	movq 8(%r10,%rcx,8),%r10
+	movq 0(%rdi),%r14
+	cmpq %r14,%r13
+	jae .LSorter$sort$bounds4
+	movq %r10,8(%rdi,%r13,8)
+	movq 8(%rbx),%r10
+	movq 0(%r10),%rdi
+	cmpq %rdi,%rcx
+	jae .LSorter$sort$bounds5
+	movq %r9,8(%r10,%rcx,8)
+	movq %r13,%rdi
+	addq $1,%rdi
+	movq %rdi,%r8
+.LSorter$sort$9:
+	movq %rcx,%rdi
+	addq $1,%rdi
+	movq %rdi,%rcx
+	movq %r8,%r13
+.LSorter$sort$5:
+	cmpq %r12,%rcx
+	jl .LSorter$sort$4
+.LSorter$sort$6:
+	movq 8(%rbx),%rdi
+	movq 0(%rdi),%r8
+	cmpq %r8,%r13
+	jae .LSorter$sort$bounds6
+	movq 8(%rdi,%r13,8),%r8
+	movq 8(%rbx),%rdi
+	movq 8(%rbx),%rcx
+	movq 0(%rcx),%rdx
+	cmpq %rdx,%r12
+	jae .LSorter$sort$bounds7
+	movq 8(%rcx,%r12,8),%rdx
+	movq 0(%rdi),%rcx
+	cmpq %rcx,%r13
+	jae .LSorter$sort$bounds8
+	movq %rdx,8(%rdi,%r13,8)
+	movq 8(%rbx),%rcx
+	movq 0(%rcx),%rdx
+	cmpq %rdx,%r12
+	jae .LSorter$sort$bounds9
+	movq %r8,8(%rcx,%r12,8)
+	movq %r13,%rdx
+	subq $1,%rdx
+	movq %rbx,%rdi
+	movq %rbx,-40(%rbp)
+	call Sorter$sort
+.LSorter$sort$gc1:
+	movq -40(%rbp),%rbx
+	movq %rax,%rdx
+	movq %r13,%rdx
+	addq $1,%rdx
+	movq %rbx,%rdi
+	movq %rdx,%rsi
+	movq %r12,%rdx
+	call Sorter$sort
+.LSorter$sort$gc2:
+	movq %rax,%rdx
+.LSorter$sort$3:
+	xorl %eax,%eax
+	leaq -32(%rbp),%rsp
+	popq %r14
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+.LSorter$sort$bounds0:
+	movq %r12,%rdi
+	movq %rdx,%rsi
+	call mjbounds
+.LSorter$sort$bounds1:
+	movq %rcx,%rdi
+	movq %r8,%rsi
+	call mjbounds
+.LSorter$sort$bounds2:
+	movq %r13,%rdi
+	movq %r9,%rsi
+	call mjbounds
+.LSorter$sort$bounds3:
+	movq %rcx,%rdi
+	movq %r14,%rsi
+	call mjbounds
+.LSorter$sort$bounds4:
+	movq %r13,%rdi
+	movq %r14,%rsi
+	call mjbounds
+.LSorter$sort$bounds5:
+	movq %rdi,%rsi
+	movq %rcx,%rdi
+	call mjbounds
+.LSorter$sort$bounds6:
+	movq %r13,%rdi
+	movq %r8,%rsi
+	call mjbounds
+.LSorter$sort$bounds7:
+	movq %r12,%rdi
+	movq %rdx,%rsi
+	call mjbounds
+.LSorter$sort$bounds8:
+	movq %r13,%rdi
+	movq %rcx,%rsi
+	call mjbounds
+.LSorter$sort$bounds9:
+	movq %r12,%rdi
+	movq %rdx,%rsi
+	call mjbounds
+	.data 1
+	.quad .LSorter$sort$gc1,1,-40
+	.quad .LSorter$sort$gc2,0
+	.text
+Sorter$Sorter:
+	movq mj_heap_ptr(%rip),%rax
+	leaq 32(%rax),%rdx
+	cmpq mj_heap_limit(%rip),%rdx
+	ja .LSorter$Sorter$slow
+	movq %rdx,mj_heap_ptr(%rip)
+	leaq Sorter$$gc(%rip),%rdx
+	movq %rdx,(%rax)
+	addq $8,%rax
+.LSorter$Sorter$alloced:
+	leaq Sorter$$(%rip),%rdx
+	movq %rdx,(%rax)
+	ret
+.LSorter$Sorter$slow:
+	pushq %rbp
+	movq %rsp,%rbp
+	leaq Sorter$$gc(%rip),%rdi
+	call mjnew
+.LSorter$Sorter$gc1:
+	popq %rbp
+	jmp .LSorter$Sorter$alloced
+	.data 1
+	.quad .LSorter$Sorter$gc1,0
+	.text
+
+	.data
+Sorter$$:
+	.quad 0
+	.quad Sorter$Sorter
+	.quad Sorter$run
+	.quad Sorter$random
+	.quad Sorter$sort
+Sorter$$gc:
+	.quad 24,1,8
+	.data 1
+	.quad 0
+	.section .note.GNU-stack,"",@progbits
+
@@ -0,0 +1,198 @@
+	.text
+	.globl asm_main
+	.data 1
+	.globl mj_stackmaps
+mj_stackmaps:
+	.text
+
+asm_main:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	subq $8,%rsp
+	call Primes$Primes
+.Lasm_main$gc1:
+	movq %rax,%rbx
+	xorl %r12d,%r12d
+	xorl %r13d,%r13d
+	jmp .Lasm_main$4
+.Lasm_main$3:
+	movq %rbx,%rdi
+	movq $2000000,%rsi
+	movq %rbx,-32(%rbp)
+	call Primes$count
+.Lasm_main$gc2:
+	movq -32(%rbp),%rbx
+	movq %rax,%rcx
+	movq %r12,%rdx
+	addq $1,%rdx
+	movq %rdx,%r12
+	movq %rcx,%r13
+.Lasm_main$4:
+	cmpq $2,%r12
+	jl .Lasm_main$3
+.Lasm_main$5:
+	movq %r13,%rdi
+	call put
+	leaq -24(%rbp),%rsp
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+	.data 1
+	.quad .Lasm_main$gc1,0
+	.quad .Lasm_main$gc2,1,-32
+	.text
+
+Primes$run:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	pushq %r12
+	pushq %r13
+	pushq %r14
+	pushq %r15
+	subq $8,%rsp
+	movq %rdi,%rbx
+	movq %rsi,%r12
+	movq %rdx,%r13
+	xorl %r14d,%r14d
+	xorl %r15d,%r15d
+	jmp .LPrimes$run$2
+.LPrimes$run$1:
+	movq %rbx,%rdi
+	movq %r12,%rsi
+	movq %rbx,-48(%rbp)
+	call Primes$count
+.LPrimes$run$gc1:
+	movq -48(%rbp),%rbx
+	movq %rax,%rcx
+	movq %r14,%rdx
+	addq $1,%rdx
+	movq %rdx,%r14
+	movq %rcx,%r15
+.LPrimes$run$2:
+	cmpq %r13,%r14
+	jl .LPrimes$run$1
+.LPrimes$run$3:
+	movq %r15,%rax
+	leaq -40(%rbp),%rsp
+	popq %r15
+	popq %r14
+	popq %r13
+	popq %r12
+	popq %rbx
+	popq %rbp
+	ret
+	.data 1
+	.quad .LPrimes$run$gc1,1,-48
+	.text
+
+Primes$count:
+	pushq %rbp
+	movq %rsp,%rbp
+	pushq %rbx
+	subq $8,%rsp
+	movq %rsi,%rbx
+	movq %rbx,%rdi
+	call mjcalloc
+.LPrimes$count$gc1:
+	movq %rax,%rcx
+	movq %rbx,0(%rcx)
+	movq $2,%rdx
+	xorl %esi,%esi
+	jmp .LPrimes$count$2
+.LPrimes$count$1:
+	movq 0(%rcx),%rdi
+	cmpq %rdi,%rdx
+	jae .LPrimes$count$bounds0
+	movq 8(%rcx,%rdx,8),%rdi
+	cmpq $1,%rdi
+	jl .LPrimes$count$4
+.LPrimes$count$10:
+	movq %rsi,%rdi
+	jmp .LPrimes$count$6
+.LPrimes$count$4:
+	movq %rsi,%r8
+	addq $1,%r8
+	movq %rdx,%r9
+	addq %rdx,%r9
+	jmp .LPrimes$count$8
+.LPrimes$count$7:
+	movq 0(%rcx),%r10
+	cmpq %r10,%r9
+	jae .LPrimes$count$bounds1
+	movq $1,8(%rcx,%r9,8)
+	movq %r9,%r10
+	addq %rdx,%r10
+	movq %r10,%r9
+.LPrimes$count$8:
+	cmpq %rbx,%r9
+	jl .LPrimes$count$7
+.LPrimes$count$11:
+	movq %r8,%rdi
+.LPrimes$count$6:
+	movq %rdx,%r10
+	addq $1,%r10
+	movq %r10,%rdx
+	movq %rdi,%rsi
+.LPrimes$count$2:
+	cmpq %rbx,%rdx
+	jl .LPrimes$count$1
+.LPrimes$count$3:
+	movq %rsi,%rax
+	leaq -8(%rbp),%rsp
+	popq %rbx
+	popq %rbp
+	ret
+.LPrimes$count$bounds0:
+	movq %rdi,%rsi
+	movq %rdx,%rdi
+	call mjbounds
+.LPrimes$count$bounds1:
+	movq %r9,%rdi
+	movq %r10,%rsi
+	call mjbounds
+	.data 1
+	.quad .LPrimes$count$gc1,0
+	.text
+Primes$Primes:
+	movq mj_heap_ptr(%rip),%rax
+	leaq 16(%rax),%rdx
+	cmpq mj_heap_limit(%rip),%rdx
+	ja .LPrimes$Primes$slow
+	movq %rdx,mj_heap_ptr(%rip)
+	leaq Primes$$gc(%rip),%rdx
+	movq %rdx,(%rax)
+	addq $8,%rax
+.LPrimes$Primes$alloced:
+	leaq Primes$$(%rip),%rdx
+	movq %rdx,(%rax)
+	ret
+.LPrimes$Primes$slow:
+	pushq %rbp
+	movq %rsp,%rbp
+	leaq Primes$$gc(%rip),%rdi
+	call mjnew
+.LPrimes$Primes$gc1:
+	popq %rbp
+	jmp .LPrimes$Primes$alloced
+	.data 1
+	.quad .LPrimes$Primes$gc1,0
+	.text
+
+	.data
+Primes$$:
+	.quad 0
+	.quad Primes$Primes
+	.quad Primes$run
+	.quad Primes$count
+Primes$$gc:
+	.quad 8,0
+	.data 1
+	.quad 0
+	.section .note.GNU-stack,"",@progbits
+
@@ -0,0 +1,8 @@
+#!/bin/bash
+# Compiles many files or directories in one JVM:
+# minijava-batch.sh [-threads=<n>] [-d <dir>] [<options>] <files or directories>
+if [ "$OSTYPE" == "msys" ]; then
+  java -cp "build/classes;lib/java-cup-11b.jar" BatchCompile "$@"
+else
+  java -cp build/classes:lib/java-cup-11b.jar BatchCompile "$@"
+fi
@@ -0,0 +1,5 @@
+#!/bin/bash
+# Same arguments and output as minijava.sh, compiled by a running minijava-server.sh
+# (on $MINIJAVA_SOCKET if set); the client JVM only needs to start quickly
+OPTS="-XX:TieredStopAtLevel=1 -XX:+UseSerialGC -Xshare:auto -XX:-UsePerfData"
+java $OPTS -cp build/classes CompileClient "$@"
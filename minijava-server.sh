@@ -0,0 +1,7 @@
+#!/bin/bash
+# Runs a compile server for minijava-client.sh: minijava-server.sh [-threads=<n>] [<socket>]
+if [ "$OSTYPE" == "msys" ]; then
+  java -cp "build/classes;lib/java-cup-11b.jar" CompileServer "$@"
+else
+  java -cp build/classes:lib/java-cup-11b.jar CompileServer "$@"
+fi
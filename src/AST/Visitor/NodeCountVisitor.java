@@ -0,0 +1,225 @@
+package AST.Visitor;
+
+import AST.*;
+
+// Counts the nodes of an AST, and how many of them are statements and expressions
+// (lists are not nodes of their own)
+public class NodeCountVisitor implements Visitor {
+
+    public int nodes, statements, expressions;
+
+    private void count(ASTNode n) {
+        nodes++;
+        if (n instanceof Statement) statements++;
+        if (n instanceof Exp) expressions++;
+    }
+
+    public void visit(Program n) {
+        count(n);
+        n.m.accept(this);
+        for (int i = 0; i < n.cl.size(); i++) {
+            n.cl.get(i).accept(this);
+        }
+    }
+
+    public void visit(MainClass n) {
+        count(n);
+        n.i1.accept(this);
+        n.i2.accept(this);
+        n.s.accept(this);
+    }
+
+    public void visit(ClassDeclSimple n) {
+        count(n);
+        n.i.accept(this);
+        for (int i = 0; i < n.vl.size(); i++) {
+            n.vl.get(i).accept(this);
+        }
+        for (int i = 0; i < n.ml.size(); i++) {
+            n.ml.get(i).accept(this);
+        }
+    }
+
+    public void visit(ClassDeclExtends n) {
+        count(n);
+        n.i.accept(this);
+        n.j.accept(this);
+        for (int i = 0; i < n.vl.size(); i++) {
+            n.vl.get(i).accept(this);
+        }
+        for (int i = 0; i < n.ml.size(); i++) {
+            n.ml.get(i).accept(this);
+        }
+    }
+
+    public void visit(VarDecl n) {
+        count(n);
+        n.t.accept(this);
+        n.i.accept(this);
+    }
+
+    public void visit(MethodDecl n) {
+        count(n);
+        n.t.accept(this);
+        n.i.accept(this);
+        for (int i = 0; i < n.fl.size(); i++) {
+            n.fl.get(i).accept(this);
+        }
+        for (int i = 0; i < n.vl.size(); i++) {
+            n.vl.get(i).accept(this);
+        }
+        for (int i = 0; i < n.sl.size(); i++) {
+            n.sl.get(i).accept(this);
+        }
+        n.e.accept(this);
+    }
+
+    public void visit(Formal n) {
+        count(n);
+        n.t.accept(this);
+        n.i.accept(this);
+    }
+
+    public void visit(IntArrayType n) {
+        count(n);
+    }
+
+    public void visit(BooleanType n) {
+        count(n);
+    }
+
+    public void visit(IntegerType n) {
+        count(n);
+    }
+
+    public void visit(IdentifierType n) {
+        count(n);
+    }
+
+    public void visit(Block n) {
+        count(n);
+        for (int i = 0; i < n.sl.size(); i++) {
+            n.sl.get(i).accept(this);
+        }
+    }
+
+    public void visit(If n) {
+        count(n);
+        n.e.accept(this);
+        n.s1.accept(this);
+        n.s2.accept(this);
+    }
+
+    public void visit(While n) {
+        count(n);
+        n.e.accept(this);
+        n.s.accept(this);
+    }
+
+    public void visit(Print n) {
+        count(n);
+        n.e.accept(this);
+    }
+
+    public void visit(Assign n) {
+        count(n);
+        n.i.accept(this);
+        n.e.accept(this);
+    }
+
+    public void visit(ArrayAssign n) {
+        count(n);
+        n.i.accept(this);
+        n.e1.accept(this);
+        n.e2.accept(this);
+    }
+
+    public void visit(And n) {
+        count(n);
+        n.e1.accept(this);
+        n.e2.accept(this);
+    }
+
+    public void visit(LessThan n) {
+        count(n);
+        n.e1.accept(this);
+        n.e2.accept(this);
+    }
+
+    public void visit(Plus n) {
+        count(n);
+        n.e1.accept(this);
+        n.e2.accept(this);
+    }
+
+    public void visit(Minus n) {
+        count(n);
+        n.e1.accept(this);
+        n.e2.accept(this);
+    }
+
+    public void visit(Times n) {
+        count(n);
+        n.e1.accept(this);
+        n.e2.accept(this);
+    }
+
+    public void visit(ArrayLookup n) {
+        count(n);
+        n.e1.accept(this);
+        n.e2.accept(this);
+    }
+
+    public void visit(ArrayLength n) {
+        count(n);
+        n.e.accept(this);
+    }
+
+    public void visit(Call n) {
+        count(n);
+        n.e.accept(this);
+        n.i.accept(this);
+        for (int i = 0; i < n.el.size(); i++) {
+            n.el.get(i).accept(this);
+        }
+    }
+
+    public void visit(IntegerLiteral n) {
+        count(n);
+    }
+
+    public void visit(True n) {
+        count(n);
+    }
+
+    public void visit(False n) {
+        count(n);
+    }
+
+    public void visit(IdentifierExp n) {
+        count(n);
+    }
+
+    public void visit(This n) {
+        count(n);
+    }
+
+    public void visit(NewArray n) {
+        count(n);
+        n.e.accept(this);
+    }
+
+    public void visit(NewObject n) {
+        count(n);
+        n.i.accept(this);
+    }
+
+    public void visit(Not n) {
+        count(n);
+        n.e.accept(this);
+    }
+
+    public void visit(Identifier n) {
+        count(n);
+    }
+}
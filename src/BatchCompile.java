@@ -0,0 +1,170 @@
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+/**
+ * Compiles many MiniJava files in one JVM, several at a time, into one .s
+ * per file: next to the file, or in the directory given with -d. Prints a
+ * line per file, in the order given, with its status and time and anything
+ * the compile printed, then a summary. Exits with 1 if any file failed.
+ * A directory stands for every .java file under it.
+ */
+public class BatchCompile {
+
+    // What compiling one file gave
+    private record Result(int exitCode, long nanos, String printed) {}
+
+    public static void main(String[] args) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path outDir = null;
+        List<String> options = new ArrayList<>();
+        List<Path> inputs = new ArrayList<>();
+        boolean valid = true;
+        for (int k = 0; k < args.length; k++) {
+            String arg = args[k];
+            if (arg.startsWith("-threads=")) {
+                try {
+                    threads = Integer.parseInt(arg.substring("-threads=".length()));
+                } catch (NumberFormatException e) {
+                    valid = false;
+                }
+            } else if (arg.equals("-d") && k + 1 < args.length && outDir == null) {
+                outDir = Path.of(args[++k]);
+            } else if (arg.startsWith("-")) {
+                options.add(arg);
+            } else {
+                inputs.add(Path.of(arg));
+            }
+        }
+        if (!valid || threads < 1 || inputs.isEmpty() || !isCodeGen(options)) {
+            printUsage();
+            System.exit(1);
+        }
+
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> found = Files.walk(input)) {
+                    found.filter(p -> p.toString().endsWith(".java") && Files.isRegularFile(p))
+                         .sorted()
+                         .forEach(files::add);
+                }
+            } else {
+                files.add(input);
+            }
+        }
+        Map<Path, Path> outputs = new LinkedHashMap<>();
+        for (Path file : files) {
+            Path s = output(file, outDir);
+            if (outputs.containsValue(s)) {
+                System.err.println("Two files would be compiled into " + s);
+                System.exit(1);
+            }
+            outputs.put(file, s);
+        }
+        if (outDir != null) {
+            Files.createDirectories(outDir);
+        }
+        System.exit(compile(outputs, options, threads));
+    }
+
+    /**
+     * Compiles each file into its output with the given MiniJava options on
+     * a pool of threads, and prints the report. Returns 1 if any file
+     * failed, else 0.
+     */
+    static int compile(Map<Path, Path> outputs, List<String> options, int threads) {
+        PerThreadOutput.install();
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        int failed = 0;
+        try {
+            List<Future<Result>> results = new ArrayList<>();
+            for (Map.Entry<Path, Path> io : outputs.entrySet()) {
+                List<String> args = new ArrayList<>(options);
+                args.addAll(List.of("-o", io.getValue().toString(), io.getKey().toString()));
+                results.add(pool.submit(() -> compile(io.getValue(), args.toArray(new String[0]))));
+            }
+            int k = 0;
+            for (Map.Entry<Path, Path> io : outputs.entrySet()) {
+                Result result = join(results.get(k++));
+                boolean ok = result.exitCode() == 0;
+                if (!ok) failed++;
+                System.out.printf("%-6s %6d ms  %s%n", ok ? "ok" : "FAILED",
+                        millis(result.nanos()), ok ? io.getKey() + " -> " + io.getValue() : io.getKey());
+                for (String line : result.printed().lines().toList()) {
+                    System.out.println("    " + line);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        System.out.printf("%d files, %d failed, %d ms on %d threads%n",
+                outputs.size(), failed, millis(System.nanoTime() - start), threads);
+        return failed == 0 ? 0 : 1;
+    }
+
+    // Runs MiniJava on the calling thread, keeping what it prints
+    @SuppressWarnings("CallToPrintStackTrace")
+    private static Result compile(Path output, String[] args) throws IOException {
+        Files.deleteIfExists(output);   // no .s from an earlier run if this one fails
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        int exitCode;
+        PerThreadOutput.start((stream, b, off, len) -> printed.write(b, off, len));
+        try {
+            exitCode = MiniJava.run(args, null);
+        } catch (RuntimeException | Error e) {
+            System.err.println("Unexpected internal compiler error: " + e);
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            PerThreadOutput.stop();
+        }
+        return new Result(exitCode, System.nanoTime() - start, printed.toString());
+    }
+
+    private static Result join(Future<Result> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            return new Result(1, 0, "Cannot write the output: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Whether MiniJava with the given options generates assembly
+    private static boolean isCodeGen(List<String> options) {
+        List<String> args = new ArrayList<>(options);
+        args.add("File.java");
+        Options opts = Options.parse(args.toArray(new String[0]));
+        return opts != null && !(opts.is_S || opts.is_P || opts.is_A || opts.is_T || opts.is_I)
+                && opts.outFile == null;
+    }
+
+    // Foo.java -> Foo.s, next to it or in outDir
+    private static Path output(Path file, Path outDir) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(".java")) {
+            name = name.substring(0, name.length() - ".java".length());
+        }
+        Path dir = outDir != null ? outDir : file.toAbsolutePath().getParent();
+        return dir.resolve(name + ".s").normalize();
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: BatchCompile [-threads=<n>] [-d <dir>] [<options>] <files or directories>");
+        System.out.println("\t<options>: MiniJava options for code generation, such as -O or -X...");
+        System.out.println("\t-d <dir>: where the .s files go, instead of next to each file");
+        System.out.println("\t-threads=<n>: files compiled at once, by default one per core");
+    }
+}
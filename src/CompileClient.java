@@ -0,0 +1,76 @@
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+/**
+ * Takes the same arguments as MiniJava and has a CompileServer run them:
+ * prints what the compile prints and exits with its exit code. The socket is
+ * $MINIJAVA_SOCKET if set, or defaultSocket().
+ */
+public class CompileClient {
+
+    public static void main(String[] args) {
+        String env = System.getenv("MINIJAVA_SOCKET");
+        Path socket = env == null ? defaultSocket() : Path.of(env);
+        int exitCode;
+        try {
+            exitCode = compile(socket, new File(System.getProperty("user.dir")), args,
+                    System.out, System.err);
+        } catch (IOException e) {
+            System.err.println("Cannot reach the compile server on " + socket + ": " + e.getMessage());
+            exitCode = 1;
+        }
+        System.out.flush();
+        System.exit(exitCode);
+    }
+
+    // The socket of this user's server
+    static Path defaultSocket() {
+        return Path.of(System.getProperty("java.io.tmpdir"),
+                "minijava-" + System.getProperty("user.name") + ".sock");
+    }
+
+    // Whether a server accepts connections on the socket
+    static boolean isListening(Path socket) {
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            return channel.isConnected();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs MiniJava with the given arguments on the server, with relative
+     * paths starting at dir. Copies what it prints to out and err and returns
+     * its exit code.
+     */
+    public static int compile(Path socket, File dir, String[] args,
+                              OutputStream out, OutputStream err) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            DataOutputStream request = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel)));
+            request.writeUTF(dir.getAbsolutePath());
+            request.writeInt(args.length);
+            for (String arg : args) {
+                request.writeUTF(arg);
+            }
+            request.flush();
+
+            DataInputStream response = new DataInputStream(
+                    new BufferedInputStream(Channels.newInputStream(channel)));
+            while (true) {
+                int tag = response.readByte();
+                if (tag == CompileServer.EXIT) {
+                    return response.readInt();
+                }
+                byte[] bytes = new byte[response.readInt()];
+                response.readFully(bytes);
+                (tag == CompileServer.STDOUT ? out : err).write(bytes);
+            }
+        }
+    }
+}
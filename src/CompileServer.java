@@ -0,0 +1,165 @@
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps one JVM, with the compiler loaded and warmed up, running for many
+ * compiles. Listens on a Unix-domain socket (by default the one CompileClient
+ * uses) and runs each request as MiniJava.run on a pool of threads, so several
+ * compiles run at once.
+ * A request is the client's working directory, which relative paths start
+ * at, and the arguments to MiniJava. The response is what the compile prints,
+ * as frames of (STDOUT or STDERR, length, bytes) in the order it was printed,
+ * then EXIT and the exit code.
+ * What a compile prints goes to its response through PerThreadOutput.
+ */
+public class CompileServer {
+
+    // response frame tags
+    static final int EXIT = 0;
+    static final int STDOUT = PerThreadOutput.STDOUT;
+    static final int STDERR = PerThreadOutput.STDERR;
+
+    // largest frame sent while a compile is still printing
+    private static final int FRAME_SIZE = 1 << 16;
+
+    public static void main(String[] args) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path socket = null;
+        for (String arg : args) {
+            if (arg.startsWith("-threads=")) {
+                try {
+                    threads = Integer.parseInt(arg.substring("-threads=".length()));
+                } catch (NumberFormatException e) {
+                    threads = 0;
+                }
+            } else if (!arg.startsWith("-") && socket == null) {
+                socket = Path.of(arg);
+            } else {
+                threads = 0;
+            }
+        }
+        if (threads < 1) {
+            System.out.println("Usage: CompileServer [-threads=<n>] [<socket>]");
+            System.out.println("\tdefault socket: " + CompileClient.defaultSocket());
+            return;
+        }
+        if (socket == null) {
+            socket = CompileClient.defaultSocket();
+        }
+        serve(socket, threads);
+    }
+
+    // Serves requests on the socket until the JVM is stopped
+    static void serve(Path socket, int threads) throws IOException {
+        if (Files.exists(socket)) {
+            if (CompileClient.isListening(socket)) {
+                System.err.println("A server is already listening on " + socket);
+                System.exit(1);
+            }
+            Files.delete(socket);   // left behind by a server that was killed
+        }
+        PrintStream console = System.err;
+        PerThreadOutput.install();
+
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socket));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                Files.deleteIfExists(socket);
+            } catch (IOException ignored) {
+            }
+        }));
+        console.println("Listening on " + socket + " with " + threads + " threads");
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        while (true) {
+            SocketChannel client = server.accept();
+            pool.execute(() -> handle(client, console));
+        }
+    }
+
+    // Runs one request on the calling thread
+    @SuppressWarnings("CallToPrintStackTrace")
+    private static void handle(SocketChannel client, PrintStream console) {
+        try (client) {
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Channels.newInputStream(client)));
+            File dir = new File(in.readUTF());
+            String[] args = new String[in.readInt()];
+            for (int k = 0; k < args.length; k++) {
+                args[k] = in.readUTF();
+            }
+            Response response = new Response(new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(client))));
+            int exitCode;
+            PerThreadOutput.start(response);
+            try {
+                exitCode = MiniJava.run(args, dir);
+            } catch (RuntimeException | Error e) {
+                System.err.println("Unexpected internal compiler error: " + e);
+                e.printStackTrace();
+                exitCode = 1;
+            } finally {
+                PerThreadOutput.stop();
+            }
+            response.exit(exitCode);
+        } catch (IOException e) {
+            console.println("Lost a client: " + e.getMessage());
+        }
+    }
+
+    /**
+     * The frames sent back for one request. Bytes printed to the same stream
+     * in a row go out together, so that the client prints them in order.
+     */
+    private static class Response implements PerThreadOutput.Sink {
+
+        private final DataOutputStream out;
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private int pendingTag = STDOUT;
+        private IOException failure;
+
+        Response(DataOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public synchronized void write(int tag, byte[] b, int off, int len) {
+            if (tag != pendingTag || pending.size() >= FRAME_SIZE) {
+                send();
+                pendingTag = tag;
+            }
+            pending.write(b, off, len);
+        }
+
+        synchronized void exit(int exitCode) throws IOException {
+            send();
+            if (failure != null) throw failure;
+            out.writeByte(EXIT);
+            out.writeInt(exitCode);
+            out.flush();
+        }
+
+        // Sends the pending bytes; the compile goes on if the client is gone
+        private void send() {
+            if (pending.size() > 0 && failure == null) {
+                try {
+                    out.writeByte(pendingTag);
+                    out.writeInt(pending.size());
+                    pending.writeTo(out);
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            pending.reset();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package Generator;
+
+import java.io.*;
+import java.util.*;
+import java.util.regex.*;
+
+/**
+ * Assembly as a list of lines (instructions, labels, directives) instead of
+ * text, so that it can be rewritten (see Peephole) before it is printed.
+ * Instructions use AT&T syntax: op src,dst.
+ */
+public class Asm {
+
+    public enum Kind { INSTR, LABEL, DIRECTIVE, BLANK }
+
+    // for INSTR op is the mnemonic, for LABEL the name, for DIRECTIVE the
+    // whole text; args are the operands of an INSTR
+    public record Line(Kind kind, String op, List<String> args) {
+
+        public boolean isInstr() {
+            return kind == Kind.INSTR;
+        }
+
+        public boolean is(String op, int nargs) {
+            return kind == Kind.INSTR && this.op.equals(op) && args.size() == nargs;
+        }
+
+        public String arg(int k) {
+            return args.get(k);
+        }
+
+        @Override
+        public String toString() {
+            return switch (kind) {
+                case INSTR -> "\t" + op + (args.isEmpty() ? "" : " " + String.join(",", args));
+                case LABEL -> op + ":";
+                case DIRECTIVE -> "\t" + op;
+                case BLANK -> "";
+            };
+        }
+    }
+
+    public final List<Line> lines = new ArrayList<>();
+
+    public static Line instrLine(String op, String... args) {
+        return new Line(Kind.INSTR, op, List.of(args));
+    }
+
+    public void instr(String op, String... args) {
+        lines.add(instrLine(op, args));
+    }
+
+    public void label(String name) {
+        lines.add(new Line(Kind.LABEL, name, List.of()));
+    }
+
+    public void directive(String text) {
+        lines.add(new Line(Kind.DIRECTIVE, text, List.of()));
+    }
+
+    public void blank() {
+        lines.add(new Line(Kind.BLANK, "", List.of()));
+    }
+
+    // number of instructions
+    public int size() {
+        int n = 0;
+        for (Line l : lines) {
+            if (l.isInstr()) n++;
+        }
+        return n;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder();
+        for (Line l : lines) {
+            str.append(l).append("\n");
+        }
+        return str.toString();
+    }
+
+    // prints the lines to out as toString() would, then forgets them
+    public void writeTo(Writer out) {
+        try {
+            for (Line l : lines) {
+                out.write(l.toString());
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lines.clear();
+    }
+
+    // Operands
+
+    private static final Pattern REG = Pattern.compile("%(\\w+)");
+
+    // 64-bit name of a register given by any of its names (%eax, %al -> %rax)
+    public static String reg64(String r) {
+        String n = r.substring(1);
+        if (n.matches("r\\d+[dwb]?")) return "%" + n.replaceAll("[dwb]$", "");
+        if (n.matches("[re]?[abcd]x|[abcd][lh]")) return "%r" + n.charAt(n.length() == 3 ? 1 : 0) + "x";
+        if (n.matches("[re]?(si|di|sp|bp)l?")) return "%r" + n.replaceAll("^[re]|l$", "");
+        return r;
+    }
+
+    // 32-bit name of a 64-bit register (%rax -> %eax, %r8 -> %r8d)
+    public static String reg32(String r) {
+        return r.matches("%r\\d+") ? r + "d" : "%e" + r.substring(2);
+    }
+
+    public static boolean isReg(String s) {
+        return s.startsWith("%");
+    }
+
+    public static boolean isMem(String s) {
+        return s.endsWith(")");
+    }
+
+    public static boolean isImm(String s) {
+        return s.startsWith("$");
+    }
+
+    // whether operand reads or names any part of register r
+    public static boolean mentions(String operand, String r) {
+        Matcher m = REG.matcher(operand);
+        while (m.find()) {
+            if (reg64(m.group()).equals(reg64(r))) return true;
+        }
+        return false;
+    }
+}
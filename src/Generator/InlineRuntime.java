@@ -0,0 +1,80 @@
+package Generator;
+
+import java.util.function.Function;
+
+/**
+ * Inline fast paths of runtime functions (see boot.c), shared by both code
+ * generators. Each generator supplies fresh labels and the instructions
+ * that call the runtime function itself when the fast path cannot be taken.
+ */
+public class InlineRuntime {
+
+    // longest line put writes: "-9223372036854775808\n"
+    public static final int LINE_MAX = 21;
+
+    /**
+     * Prints the value in %rdi the way put does, formatting it straight into
+     * the runtime's output buffer (mj_out_ptr up to mj_out_end) and running
+     * callPut only when fewer than LINE_MAX bytes are left. Digits come from
+     * multiplying by 2^67 / 10 rounded up, which divides any unsigned 64-bit
+     * value by 10 exactly, and are written backwards, then reversed.
+     * Clobbers %rax, %rcx, %rdx, %rsi, %r8 and %r9, but not %rdi.
+     */
+    public static void print(Asm asm, Function<String, String> newLabel, Runnable callPut) {
+        String fast = newLabel.apply("printFast");
+        String digits = newLabel.apply("printDigits");
+        String digit = newLabel.apply("printDigit");
+        String reverse = newLabel.apply("printReverse");
+        String done = newLabel.apply("printDone");
+
+        asm.instr("movq", "mj_out_ptr(%rip)", "%rsi");
+        asm.instr("leaq", LINE_MAX + "(%rsi)", "%rax");
+        asm.instr("cmpq", "mj_out_end(%rip)", "%rax");
+        asm.instr("jbe", fast);
+        callPut.run();
+        asm.instr("jmp", done);
+
+        // sign, then the magnitude as an unsigned number
+        asm.label(fast);
+        asm.instr("movq", "%rdi", "%rax");
+        asm.instr("testq", "%rax", "%rax");
+        asm.instr("jns", digits);
+        asm.instr("movb", "$45", "(%rsi)");     // '-'
+        asm.instr("incq", "%rsi");
+        asm.instr("negq", "%rax");
+        asm.label(digits);
+        asm.instr("movq", "%rsi", "%r8");
+        asm.instr("movabsq", "$0xCCCCCCCCCCCCCCCD", "%rcx");
+
+        // least significant digit first: %rax = %rax / 10, remainder in %r9
+        asm.label(digit);
+        asm.instr("movq", "%rax", "%r9");
+        asm.instr("mulq", "%rcx");
+        asm.instr("shrq", "$3", "%rdx");
+        asm.instr("movq", "%rdx", "%rax");
+        asm.instr("leaq", "(%rdx,%rdx,4)", "%rdx");
+        asm.instr("addq", "%rdx", "%rdx");
+        asm.instr("subq", "%rdx", "%r9");
+        asm.instr("addl", "$48", "%r9d");       // '0'
+        asm.instr("movb", "%r9b", "(%rsi)");
+        asm.instr("incq", "%rsi");
+        asm.instr("testq", "%rax", "%rax");
+        asm.instr("jne", digit);
+        asm.instr("movb", "$10", "(%rsi)");     // '\n'
+        asm.instr("leaq", "1(%rsi)", "%rax");
+        asm.instr("movq", "%rax", "mj_out_ptr(%rip)");
+
+        // swap the digits in [%r8, %rsi] from both ends
+        asm.label(reverse);
+        asm.instr("decq", "%rsi");
+        asm.instr("cmpq", "%rsi", "%r8");
+        asm.instr("jae", done);
+        asm.instr("movb", "(%r8)", "%al");
+        asm.instr("movb", "(%rsi)", "%dl");
+        asm.instr("movb", "%dl", "(%r8)");
+        asm.instr("movb", "%al", "(%rsi)");
+        asm.instr("incq", "%r8");
+        asm.instr("jmp", reverse);
+        asm.label(done);
+    }
+}
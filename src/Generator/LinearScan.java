@@ -0,0 +1,217 @@
+package Generator;
+
+import IR.*;
+import Semantics.MethodADT;
+import java.util.*;
+
+/**
+ * Linear-scan register allocation (Poletto & Sarkar) over one CFG.
+ * Every Temp gets a single live interval spanning all positions where it is
+ * live in layout order. Intervals that are live across a call may only use
+ * callee-saved registers; the others prefer caller-saved ones. When no
+ * register is free, the interval ending furthest away is spilled to a slot
+ * below %rbp.
+ * References (Temp.ref) live across a call also get a slot, where they are
+ * kept during the calls they live across (gcTemps), so that the collector
+ * can find and update them through the stack maps of those calls.
+ * Parameters prefer the register they arrive in (MethodADT.ARG_REGS), so
+ * that the emitter does not have to move them on entry.
+ * %rax and %r11 are never allocated: the emitter uses them as scratch.
+ */
+public class LinearScan {
+
+    public static final String[] CALLER_SAVED = { "%rcx", "%rdx", "%rsi", "%rdi", "%r8", "%r9", "%r10" };
+    public static final String[] CALLEE_SAVED = { "%rbx", "%r12", "%r13", "%r14", "%r15" };
+
+    public final Liveness live;
+    private final Map<Temp, String> reg = new HashMap<>();
+    private final Map<Temp, Integer> slot = new HashMap<>();
+    private final Map<Temp, String> hint = new HashMap<>();
+    private final List<Integer> calls = new ArrayList<>();
+    private final Map<Integer, Temp> byId = new HashMap<>();
+    private final Map<Instr, List<Temp>> gcTemps = new HashMap<>();
+    private int numSlots = 0;
+
+    private static class Interval {
+        final Temp t;
+        int start = Integer.MAX_VALUE;
+        int end = -1;
+        boolean crossesCall;
+
+        Interval(Temp t) { this.t = t; }
+
+        void extend(int pos) {
+            start = Math.min(start, pos);
+            end = Math.max(end, pos);
+        }
+    }
+
+    public LinearScan(CFG cfg) {
+        live = new Liveness(cfg);
+        for (int k = 0; k < cfg.params.size() && k < MethodADT.ARG_REGS.length; k++) {
+            hint.put(cfg.params.get(k), MethodADT.ARG_REGS[k]);
+        }
+        allocate(buildIntervals(cfg));
+        mapCalls(cfg);
+    }
+
+    // Results
+
+    public int numSlots() {
+        return numSlots;
+    }
+
+    // callee-saved registers in use, in CALLEE_SAVED order
+    public List<String> usedCalleeSaved() {
+        List<String> res = new ArrayList<>();
+        for (String r : CALLEE_SAVED) {
+            if (reg.containsValue(r)) res.add(r);
+        }
+        return res;
+    }
+
+    // register name, or null if t lives in a stack slot (or nowhere)
+    public String reg(Temp t) {
+        return reg.get(t);
+    }
+
+    // stack slot index, or -1 if t is in a register (or nowhere)
+    public int slot(Temp t) {
+        return slot.getOrDefault(t, -1);
+    }
+
+    // the Temp numbered id
+    public Temp temp(int id) {
+        return byId.get(id);
+    }
+
+    // the references live across call i (but not its result), all of which
+    // have a slot
+    public List<Temp> gcTemps(Instr i) {
+        return gcTemps.get(i);
+    }
+
+    // Interval construction
+
+    private Collection<Interval> buildIntervals(CFG cfg) {
+        Map<Temp, Interval> intervals = new LinkedHashMap<>();
+        for (BasicBlock b : cfg.blocks) {
+            for (Instr i : b.instrs) {
+                for (Temp t : i.uses()) byId.put(t.id, t);
+                if (i.def() != null) byId.put(i.def().id, i.def());
+            }
+        }
+        for (Temp t : cfg.params) byId.put(t.id, t);
+
+        // instruction k reads its operands at 2k and writes its result (and
+        // clobbers caller-saved registers, if a call) at 2k+1
+        int pos = 0;
+        for (BasicBlock b : cfg.blocks) {
+            int first = 2 * pos;
+            int last = 2 * (pos + b.instrs.size() - 1) + 1;
+            BitSet in = live.liveIn.get(b);
+            for (int id = in.nextSetBit(0); id >= 0; id = in.nextSetBit(id + 1)) {
+                intervals.computeIfAbsent(byId.get(id), Interval::new).extend(first);
+            }
+            BitSet out = live.liveOut.get(b);
+            for (int id = out.nextSetBit(0); id >= 0; id = out.nextSetBit(id + 1)) {
+                intervals.computeIfAbsent(byId.get(id), Interval::new).extend(last);
+            }
+            for (Instr i : b.instrs) {
+                for (Temp t : i.uses()) {
+                    intervals.computeIfAbsent(t, Interval::new).extend(2 * pos);
+                }
+                if (i.def() != null) {
+                    intervals.computeIfAbsent(i.def(), Interval::new).extend(2 * pos + 1);
+                }
+                if (i.isCall()) calls.add(2 * pos + 1);
+                pos++;
+            }
+        }
+
+        // live across a call if some call lies strictly inside the interval
+        for (Interval iv : intervals.values()) {
+            int k = Collections.binarySearch(calls, iv.start + 1);
+            if (k < 0) k = -k - 1;
+            iv.crossesCall = k < calls.size() && calls.get(k) < iv.end;
+        }
+        return intervals.values();
+    }
+
+    // Allocation
+
+    private void allocate(Collection<Interval> intervals) {
+        List<Interval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparingInt((Interval iv) -> iv.start).thenComparingInt(iv -> iv.t.id));
+
+        Deque<String> freeCaller = new ArrayDeque<>(Arrays.asList(CALLER_SAVED));
+        Deque<String> freeCallee = new ArrayDeque<>(Arrays.asList(CALLEE_SAVED));
+        Set<String> calleeSaved = new HashSet<>(Arrays.asList(CALLEE_SAVED));
+        List<Interval> active = new ArrayList<>();
+
+        for (Interval cur : sorted) {
+            // expire intervals that ended before cur starts
+            Iterator<Interval> it = active.iterator();
+            while (it.hasNext()) {
+                Interval a = it.next();
+                if (a.end < cur.start) {
+                    String r = reg.get(a.t);
+                    if (calleeSaved.contains(r)) freeCallee.addFirst(r);
+                    else freeCaller.addFirst(r);
+                    it.remove();
+                }
+            }
+
+            if (cur.t.ref && cur.crossesCall) {
+                slot.put(cur.t, numSlots++);
+            }
+            String r = null;
+            if (!cur.crossesCall) {
+                r = freeCaller.remove(hint.get(cur.t)) ? hint.get(cur.t) : freeCaller.poll();
+            }
+            if (r == null) r = freeCallee.poll();
+            if (r != null) {
+                reg.put(cur.t, r);
+                active.add(cur);
+                continue;
+            }
+
+            // spill whichever usable interval ends last
+            Interval victim = null;
+            for (Interval a : active) {
+                if (cur.crossesCall && !calleeSaved.contains(reg.get(a.t))) continue;
+                if (victim == null || a.end > victim.end) victim = a;
+            }
+            if (victim != null && victim.end > cur.end) {
+                reg.put(cur.t, reg.remove(victim.t));
+                slot.computeIfAbsent(victim.t, t -> numSlots++);
+                active.remove(victim);
+                active.add(cur);
+            } else {
+                slot.computeIfAbsent(cur.t, t -> numSlots++);
+            }
+        }
+    }
+
+    // Stack maps
+
+    // walks each block backwards from its live-out set to find what lives
+    // across every call
+    private void mapCalls(CFG cfg) {
+        for (BasicBlock b : cfg.blocks) {
+            BitSet after = (BitSet) live.liveOut.get(b).clone();
+            for (int k = b.instrs.size() - 1; k >= 0; k--) {
+                Instr i = b.instrs.get(k);
+                if (i.def() != null) after.clear(i.def().id);
+                if (i.isCall()) {
+                    List<Temp> refs = new ArrayList<>();
+                    for (int id = after.nextSetBit(0); id >= 0; id = after.nextSetBit(id + 1)) {
+                        if (byId.get(id).ref) refs.add(byId.get(id));
+                    }
+                    gcTemps.put(i, refs);
+                }
+                for (Temp t : i.uses()) after.set(t.id);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package Generator;
+
+import Generator.Asm.Line;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Peephole optimizer over emitted assembly. Slides a window over the
+ * instructions and replaces it whenever one of the rules matches, then backs
+ * up so that rewrites can cascade. Windows never span labels or directives.
+ * Rules are pluggable (add()) and counted per hit.
+ * Each run of instructions between labels and directives is rewritten on its
+ * own, so the cost stays linear in the size of the program, and the code
+ * generators can run the same Peephole on several methods at once.
+ * Flags are taken to be dead at labels, jumps, calls and returns: neither
+ * code generator keeps a comparison live across them.
+ */
+public class Peephole {
+
+    // a rule replaces a window of size() instructions, or returns null
+    public interface Rule {
+        String name();
+
+        int size();
+
+        List<Line> rewrite(Window w);
+    }
+
+    // instructions code[at .. at+size), with a look at what follows
+    public record Window(List<Line> code, int at, int size) {
+
+        public Line get(int k) {
+            return code.get(at + k);
+        }
+
+        // whether no instruction after the window reads the flags it leaves
+        public boolean flagsDead() {
+            for (int k = at + size; k < code.size(); k++) {
+                Line l = code.get(k);
+                if (!l.isInstr() || l.op().equals("jmp") || l.op().equals("call") || l.op().equals("ret")) return true;
+                if (readsFlags(l.op())) return false;
+                if (writesFlags(l.op())) return true;
+            }
+            return true;
+        }
+    }
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Integer> hits = new LinkedHashMap<>();
+    private int before, after;  // instructions
+
+    public Peephole() {
+        for (Rule r : DEFAULT_RULES) add(r);
+    }
+
+    public final Peephole add(Rule r) {
+        rules.add(r);
+        hits.put(r.name(), 0);
+        return this;
+    }
+
+    public synchronized Map<String, Integer> hits() {
+        return new LinkedHashMap<>(hits);
+    }
+
+    public void run(Asm asm) {
+        Map<String, Integer> counts = new HashMap<>();
+        List<Line> res = new ArrayList<>(asm.lines.size());
+        List<Line> code = new ArrayList<>();
+        int n = 0;
+        for (Line l : asm.lines) {
+            if (l.isInstr()) {
+                code.add(l);
+                n++;
+                continue;
+            }
+            run(code, counts);
+            res.addAll(code);
+            code.clear();
+            res.add(l);
+        }
+        run(code, counts);
+        res.addAll(code);
+        asm.lines.clear();
+        asm.lines.addAll(res);
+
+        synchronized (this) {
+            counts.forEach((name, k) -> hits.merge(name, k, Integer::sum));
+            before += n;
+            after += asm.size();
+        }
+    }
+
+    // rewrites a run of instructions, counting the hits into counts
+    private void run(List<Line> code, Map<String, Integer> counts) {
+        int back = 0;
+        for (Rule r : rules) back = Math.max(back, r.size() - 1);
+        int at = 0;
+        while (at < code.size()) {
+            Rule fired = null;
+            for (Rule r : rules) {
+                if (!fits(code, at, r.size())) continue;
+                List<Line> rep = r.rewrite(new Window(code, at, r.size()));
+                if (rep == null) continue;
+                code.subList(at, at + r.size()).clear();
+                code.addAll(at, rep);
+                fired = r;
+                break;
+            }
+            if (fired == null) {
+                at++;
+            } else {
+                counts.merge(fired.name(), 1, Integer::sum);
+                at = Math.max(0, at - back);
+            }
+        }
+    }
+
+    public synchronized void printHits(PrintStream out) {
+        for (Map.Entry<String, Integer> e : hits.entrySet()) {
+            out.println("peephole " + e.getKey() + ": " + e.getValue());
+        }
+        out.println("peephole instructions: " + before + " -> " + after);
+    }
+
+    private static boolean fits(List<Line> code, int at, int size) {
+        if (at + size > code.size()) return false;
+        for (int k = at; k < at + size; k++) {
+            if (!code.get(k).isInstr()) return false;
+        }
+        return true;
+    }
+
+    // Flags
+
+    private static boolean readsFlags(String op) {
+        return op.startsWith("j") || op.startsWith("set") || op.startsWith("cmov")
+            || op.startsWith("adc") || op.startsWith("sbb");
+    }
+
+    // inc and dec keep the carry flag, so they do not count
+    private static boolean writesFlags(String op) {
+        for (String p : new String[] { "cmp", "test", "add", "sub", "and", "or", "xor", "imul", "neg", "sh", "sa" }) {
+            if (op.startsWith(p)) return true;
+        }
+        return false;
+    }
+
+    // Rules
+
+    private static Rule rule(String name, int size, Function<Window, List<Line>> f) {
+        record Named(String name, int size, Function<Window, List<Line>> f) implements Rule {
+            public List<Line> rewrite(Window w) {
+                return f.apply(w);
+            }
+        }
+        return new Named(name, size, f);
+    }
+
+    private static boolean isMove(Line l) {
+        return l.is("movq", 2);
+    }
+
+    public static final List<Rule> DEFAULT_RULES = List.of(
+
+        // movq x,x
+        rule("self-move", 1, w ->
+            isMove(w.get(0)) && w.get(0).arg(0).equals(w.get(0).arg(1)) ? List.of() : null),
+
+        // pushq x; popq y  =>  movq x,y
+        rule("push-pop", 2, w -> {
+            Line push = w.get(0), pop = w.get(1);
+            if (!push.is("pushq", 1) || !pop.is("popq", 1)) return null;
+            String x = push.arg(0), y = pop.arg(0);
+            if (Asm.isMem(x) && Asm.isMem(y) || Asm.mentions(x, "%rsp") || Asm.mentions(y, "%rsp")) return null;
+            return x.equals(y) ? List.of() : List.of(Asm.instrLine("movq", x, y));
+        }),
+
+        // pushq r; movq v,r; popq s  =>  movq r,s; movq v,r
+        rule("push-load-pop", 3, w -> {
+            Line push = w.get(0), mov = w.get(1), pop = w.get(2);
+            if (!push.is("pushq", 1) || !isMove(mov) || !pop.is("popq", 1)) return null;
+            String r = push.arg(0), v = mov.arg(0), s = pop.arg(0);
+            if (!Asm.isReg(r) || !mov.arg(1).equals(r) || !Asm.isReg(s) || s.equals(r)
+                    || Asm.mentions(v, s) || Asm.mentions(v, "%rsp") || Asm.mentions(s, "%rsp")) return null;
+            return List.of(Asm.instrLine("movq", r, s), mov);
+        }),
+
+        // pushq r; movq v,r; movq r,s; popq r  =>  movq v,s
+        rule("push-move-pop", 4, w -> {
+            Line push = w.get(0), load = w.get(1), mov = w.get(2), pop = w.get(3);
+            if (!push.is("pushq", 1) || !isMove(load) || !isMove(mov) || !pop.is("popq", 1)) return null;
+            String r = push.arg(0), v = load.arg(0), s = mov.arg(1);
+            if (!Asm.isReg(r) || !load.arg(1).equals(r) || !mov.arg(0).equals(r) || !pop.arg(0).equals(r)
+                    || !Asm.isReg(s) || s.equals(r) || Asm.mentions(v, "%rsp") || Asm.mentions(s, "%rsp")) return null;
+            return List.of(Asm.instrLine("movq", v, s));
+        }),
+
+        // movq v,r; movq r,s; movq u,r  =>  movq v,s; movq u,r
+        rule("move-reload", 3, w -> {
+            Line first = w.get(0), copy = w.get(1), reload = w.get(2);
+            if (!isMove(first) || !isMove(copy) || !isMove(reload)) return null;
+            String r = first.arg(1), s = copy.arg(1), u = reload.arg(0);
+            if (!Asm.isReg(r) || !copy.arg(0).equals(r) || !reload.arg(1).equals(r)
+                    || !Asm.isReg(s) || s.equals(r) || Asm.mentions(u, r)) return null;
+            return List.of(Asm.instrLine("movq", first.arg(0), s), reload);
+        }),
+
+        // movq r,m; movq m,s  =>  movq r,m; movq r,s
+        rule("store-load", 2, w -> {
+            Line st = w.get(0), ld = w.get(1);
+            if (!isMove(st) || !isMove(ld)) return null;
+            String r = st.arg(0), m = st.arg(1);
+            if (!Asm.isReg(r) || !Asm.isMem(m) || !ld.arg(0).equals(m)) return null;
+            return List.of(st, Asm.instrLine("movq", r, ld.arg(1)));
+        }),
+
+        // movq $0,r  =>  xorl r32,r32 (shorter, but clobbers the flags)
+        rule("zero-xor", 1, w -> {
+            Line mov = w.get(0);
+            if (!isMove(mov) || !mov.arg(0).equals("$0") || !Asm.isReg(mov.arg(1)) || !w.flagsDead()) return null;
+            String r = Asm.reg32(mov.arg(1));
+            return List.of(Asm.instrLine("xorl", r, r));
+        })
+    );
+}
@@ -0,0 +1,105 @@
+package Generator;
+
+/**
+ * The code -profile adds to every method, shared by both code generators.
+ * Each method gets a record, listed in mj_profile: calls, self and total
+ * time in ticks of the time stamp counter, the number of its activations
+ * still running, and its name. Its entry pushes a frame (start time, time
+ * spent in callees, record) on the runtime's shadow stack at mj_prof_top,
+ * and its exit pops the frame and charges the time since the start, so
+ * boot.c can print a flat profile when the program exits. Recursive
+ * activations add to the total only once, when the outermost one returns.
+ * Constructors are not profiled.
+ */
+public class Profile {
+
+    // bytes of a record and of a frame (see boot.c)
+    private static final int SELF = 8, TOTAL = 16, ACTIVE = 24;  // calls at 0
+    private static final int FRAME = 24;
+
+    /**
+     * Starts the table of records, in subsection 2 of .data (after the
+     * stack maps), and goes back to .text.
+     */
+    public static void tableStart(Asm asm) {
+        asm.directive(".data 2");
+        asm.directive(".globl mj_profile");
+        asm.label("mj_profile");
+        asm.directive(".text");
+    }
+
+    public static void tableEnd(Asm asm) {
+        asm.directive(".data 2");
+        asm.directive(".quad 0");
+    }
+
+    /**
+     * Counts the call and pushes a frame, at the entry of method. Clobbers
+     * %rax and %r11, but not the argument registers.
+     */
+    public static void enter(Asm asm, String method) {
+        String record = record(method);
+        asm.instr("incq", record + "(%rip)");
+        asm.instr("movq", "%rdx", "%r11");
+        asm.instr("rdtsc");
+        asm.instr("shlq", "$32", "%rdx");
+        asm.instr("orq", "%rdx", "%rax");
+        asm.instr("movq", "mj_prof_top(%rip)", "%rdx");
+        asm.instr("addq", "$" + FRAME, "%rdx");
+        asm.instr("movq", "%rdx", "mj_prof_top(%rip)");
+        asm.instr("movq", "%rax", "(%rdx)");
+        asm.instr("movq", "$0", "8(%rdx)");
+        asm.instr("leaq", record + "(%rip)", "%rax");
+        asm.instr("movq", "%rax", "16(%rdx)");
+        asm.instr("incq", record + "+" + ACTIVE + "(%rip)");
+        asm.instr("movq", "%r11", "%rdx");
+    }
+
+    /**
+     * Pops the frame of method and charges its time, just before it returns.
+     * Clobbers %rdx and %r11, but not the result in %rax. outermost is a
+     * fresh label.
+     */
+    public static void exit(Asm asm, String method, String outermost) {
+        String record = record(method);
+        asm.instr("movq", "%rax", "%r11");
+        asm.instr("rdtsc");
+        asm.instr("shlq", "$32", "%rdx");
+        asm.instr("orq", "%rdx", "%rax");
+        asm.instr("movq", "mj_prof_top(%rip)", "%rdx");
+        asm.instr("subq", "(%rdx)", "%rax");    // ticks since the entry
+        asm.instr("addq", "%rax", (8 - FRAME) + "(%rdx)");    // to the caller's callees
+        asm.instr("addq", "%rax", record + "+" + SELF + "(%rip)");
+        asm.instr("decq", record + "+" + ACTIVE + "(%rip)");
+        asm.instr("jnz", outermost);
+        asm.instr("addq", "%rax", record + "+" + TOTAL + "(%rip)");
+        asm.label(outermost);
+        asm.instr("movq", "8(%rdx)", "%rax");
+        asm.instr("subq", "%rax", record + "+" + SELF + "(%rip)");
+        asm.instr("subq", "$" + FRAME, "%rdx");
+        asm.instr("movq", "%rdx", "mj_prof_top(%rip)");
+        asm.instr("movq", "%r11", "%rax");
+    }
+
+    /**
+     * The record of method and its entry in the table, after its code; goes
+     * back to .text.
+     */
+    public static void record(Asm asm, String method) {
+        String record = record(method);
+        asm.directive(".section .rodata");
+        asm.label(record + "$name");
+        asm.directive(".asciz \"" + (method.equals("asm_main") ? "main" : method) + "\"");
+        asm.directive(".data");
+        asm.directive(".balign 8");
+        asm.label(record);
+        asm.directive(".quad 0,0,0,0," + record + "$name");
+        asm.directive(".data 2");
+        asm.directive(".quad " + record);
+        asm.directive(".text");
+    }
+
+    private static String record(String method) {
+        return method + "$$prof";
+    }
+}
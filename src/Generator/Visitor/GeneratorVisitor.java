@@ -2,52 +2,110 @@ package Generator.Visitor;
 
 import AST.*;
 import AST.Visitor.Visitor;
+import Generator.Asm;
+import Generator.InlineRuntime;
+import Generator.Peephole;
+import Generator.Profile;
+import Generator.Workers;
 import Semantics.*;
+import java.io.Writer;
 import java.util.*;
-
+import java.util.function.Consumer;
+
+/**
+ * Generates code straight from the type-checked AST. Each method, and each
+ * class' constructor and tables, is generated as a separate part by its own
+ * visitor, with labels local to that method, possibly on several threads
+ * (threads), and goes through the peephole optimizer right away. The parts
+ * are put together in source order, so the output does not depend on the
+ * number of threads. With an output, each part is written out as soon as
+ * it and the parts before it are done, and then dropped.
+ */
 public class GeneratorVisitor implements Visitor {
 
-    private final StringBuilder str;
+    private final Asm asm;
     private final GlobalADT global;
+    private final ClassHierarchy cha;
     private ADT st;
-    private static final String TAB = "\t";
     private int stackBytes; // number of bytes currently allocated on stack
+    private static final int CHEAP = 5;    // largest pure And operand evaluated without a branch
+
+    // %rbp offsets of the frame slots that currently hold heap pointers,
+    // and the stack map recorded at every call site (see boot.c)
+    private Set<Integer> refSlots = new HashSet<>();
+    private final List<String> stackMaps = new ArrayList<>();
 
     private Map<String,Integer> labels = new HashMap<>();
+    private String scope;   // label of the method or constructor being generated
+
+    public boolean inlinePrint = false;     // format in the generated code (-Xinline-print)
+    public boolean profile = false;     // count calls and time every method (-profile)
+    public int threads = 1;     // parts generated at once (-Xcodegen-threads)
+    public Peephole peephole;   // run on every part, unless null
+    public Writer output;       // where to stream the code, or null to keep it all in getCode()
+
+    // For a part: what it generates. For the whole program: the parts.
+    private final Consumer<GeneratorVisitor> part;
+    private final List<GeneratorVisitor> parts = new ArrayList<>();
 
     // Constructor
     public GeneratorVisitor(GlobalADT global) {
-        str = new StringBuilder();
+        asm = new Asm();
         this.global = global;
+        cha = new ClassHierarchy(global);
         st = global;
         stackBytes = 0;
+        part = null;
+    }
+
+    // a part of the program that program generates, in scope st
+    private GeneratorVisitor(GeneratorVisitor program, Consumer<GeneratorVisitor> part) {
+        asm = new Asm();
+        global = program.global;
+        cha = program.cha;
+        st = program.st;
+        stackBytes = 0;
+        inlinePrint = program.inlinePrint;
+        profile = program.profile;
+        this.part = part;
+    }
+
+    private void fork(Consumer<GeneratorVisitor> part) {
+        parts.add(new GeneratorVisitor(this, part));
     }
 
     @Override
     public String toString() {
-        return str.toString();
+        return asm.toString();
+    }
+
+    // the generated code, before it is printed
+    public Asm getCode() {
+        return asm;
     }
 
     private void println() {
-        str.append("\n");
+        asm.blank();
+    }
+
+    private void label(String l) {
+        asm.label(l);
     }
 
-    private void println(String s) {
-        str.append(s);
-        println();
+    private void directive(String d) {
+        asm.directive(d);
     }
 
-    private void gen(String s) {
-        str.append(TAB);
-        println(s);
+    private void gen(String inst) {
+        asm.instr(inst);
     }
 
     private void gen(String inst, String i) {
-        gen(inst + " " + i);
+        asm.instr(inst, i);
     }
 
     private void gen(String inst, String i, String j) {
-        gen(inst + " " + i + "," + j);
+        asm.instr(inst, i, j);
     }
 
     private void gen(String inst, int c, String i) {
@@ -55,12 +113,19 @@ public class GeneratorVisitor implements Visitor {
     }
 
     private void push(String r) {
+        push(r, false);
+    }
+
+    // ref: r is a heap pointer, which the collector must find while pushed
+    private void push(String r, boolean ref) {
         gen("pushq", r);
         stackBytes += 8;
+        if (ref) refSlots.add(-stackBytes);
     }
 
     private void pop(String r) {
         gen("popq", r);
+        refSlots.remove(-stackBytes);
         stackBytes -= 8;
     }
 
@@ -85,55 +150,154 @@ public class GeneratorVisitor implements Visitor {
 
     private void call(String f) {
         boolean align = pushalign("%rax");
-        gen("call", f);
+        gcCall(f);
         if (align) pop("%rdx");
     }
 
+    // calls f and labels the return address with the frame's pointer
+    // slots, so that the collector can find them if it runs inside f
+    private void gcCall(String f) {
+        gen("call", f);
+        String site = ".L" + scope + "$gc" + (stackMaps.size() + 1);
+        label(site);
+        List<Integer> offsets = new ArrayList<>(refSlots);
+        Collections.sort(offsets);
+        StringBuilder map = new StringBuilder(".quad " + site + "," + offsets.size());
+        for (int offset : offsets) {
+            map.append(",").append(offset);
+        }
+        stackMaps.add(map.toString());
+    }
+
     private void call(String c, String m) {
 		call(c + "$" + m);
 	}
 
+    // evaluates e1 into %rax and e2 into %rdx, in that order
+    // why push e1? evaluating e2 can clobber any other register
+    private void operands(Exp e1, Exp e2) {
+        e1.accept(this);
+        push("%rax");
+        e2.accept(this);
+        gen("movq", "%rax", "%rdx");
+        pop("%rax");
+    }
+
+    // calls mjbounds unless 0 <= index < length of array (unsigned compare)
+    private void boundsCheck(String index, String array) {
+        String inBounds = getLabel("inBounds");
+        gen("cmpq", "(" + array + ")", index);
+        gen("jb", inBounds);
+        gen("movq", index, "%rdi");
+        gen("movq", "(" + array + ")", "%rsi");
+        call("mjbounds");   // does not return
+        label(inBounds);
+    }
+
+    // a new label in the current method: .L<scope>$<s><count>
     private String getLabel(String s) {
 		if(labels.containsKey(s)) {
 			int count = labels.get(s);
 			labels.put(s, count+1);
-			return s + (count + 1);
+			return ".L" + scope + "$" + s + (count + 1);
 		}
 		labels.put(s, 1);
-		return s + 1;
+		return ".L" + scope + "$" + s + 1;
 	}
 
     @Override
     public void visit(Print n) {
         n.e.accept(this);
-        push("%rdi");
+        push("%rdi", true);
         gen("movq", "%rax", "%rdi");
-        call("put");
+        if (inlinePrint) {
+            InlineRuntime.print(asm, this::getLabel, () -> call("put"));
+        } else {
+            call("put");
+        }
         pop("%rdi");
     }
 
     @Override
     public void visit(Program n) {
-        gen(".text");
-        gen(".globl asm_main");
-		n.m.accept(this);
+        directive(".text");
+        directive(".globl asm_main");
+        // stack maps: return address, number of pointer slots, their offsets;
+        // every part appends its own to this table, in subsection 1 of .data
+		directive(".data 1");
+		directive(".globl mj_stackmaps");
+		label("mj_stackmaps");
+        if (profile) Profile.tableStart(asm);
+        flush();
+
+		fork(v -> n.m.accept(v));
 		for (int i = 0; i < n.cl.size(); i++) {
 			n.cl.get(i).accept(this);
 		}
+        List<Runnable> tasks = new ArrayList<>();
+        for (GeneratorVisitor p : parts) {
+            tasks.add(() -> {
+                p.part.accept(p);
+                if (peephole != null) peephole.run(p.asm);
+                p.stackMapTable();
+            });
+        }
+        Workers.run(tasks, threads, k -> emit(parts.get(k).asm));
+        parts.clear();
+
+		directive(".data 1");
+		directive(".quad 0");
+        if (profile) Profile.tableEnd(asm);
+		directive(".section .note.GNU-stack,\"\",@progbits");
+        flush();
+    }
+
+    // the stack maps of this part, for the end of the table so far
+    private void stackMapTable() {
+        if (stackMaps.isEmpty()) return;
+        directive(".data 1");
+        for (String map : stackMaps) {
+            directive(map);
+        }
+        stackMaps.clear();
+    }
+
+    // adds a finished part to the code, or writes it out when streaming
+    private void emit(Asm part) {
+        if (output != null) {
+            part.writeTo(output);
+        } else {
+            asm.lines.addAll(part.lines);
+        }
+    }
+
+    // writes out the code so far when streaming
+    private void flush() {
+        if (output != null) asm.writeTo(output);
     }
 
     @Override
     public void visit(MainClass n) {
-		println("asm_main:");
+        directive(".text");
+		label("asm_main");
+        scope = "asm_main";
 
         prologue();
+        stackBytes = 0;
+        refSlots = new HashSet<>();
+        if (profile) Profile.enter(asm, scope);
+        // no "this" in main, but %rdi is pushed as one around calls
+		gen("xorl", "%edi", "%edi");
 		n.s.accept(this);
+        if (profile) Profile.exit(asm, scope, getLabel("profiled"));
         epilogue();
+        if (profile) Profile.record(asm, scope);
 
         // vtable
 		println();
-		gen(".data");
-		println(n.i1.s + "$$: " + ".quad 0");
+		directive(".data");
+		label(n.i1.s + "$$");
+		directive(".quad 0");
 		println();
     }
 
@@ -141,35 +305,61 @@ public class GeneratorVisitor implements Visitor {
         ClassADT c = (ClassADT) st;
         String cid = c.name;
         int mem = 8 + 8 * c.deepFields.size();
+        scope = cid + "$" + cid;
 
 		// 1. Generate constructor
-		println(cid + "$" + cid + ":");
+        directive(".text");
+		label(cid + "$" + cid);
 		prologue();
-		push("%rdi");
-		gen("movq", mem, "%rdi");
-		call("mjcalloc");    // %rax points to obj
-		pop("%rdi");
+        stackBytes = 0;
+        refSlots = new HashSet<>();
+        String slow = getLabel("allocSlow");
+        String alloced = getLabel("alloced");
+        // bump mj_heap_ptr past header and object if there is room (see boot.c) ...
+		gen("movq", "mj_heap_ptr(%rip)", "%rax");
+		gen("leaq", (mem + 8) + "(%rax)", "%rdx");
+		gen("cmpq", "mj_heap_limit(%rip)", "%rdx");
+		gen("ja", slow);
+		gen("movq", "%rdx", "mj_heap_ptr(%rip)");
+		gen("leaq", cid + "$$gc(%rip)", "%rdx");
+		gen("movq", "%rdx", "(%rax)");  // header: class descriptor
+		gen("addq", 8, "%rax");
+		label(alloced);    // %rax points to obj, fields already zero
 
 		// set pointer to base class dispatch table. 
-		gen("leaq", cid + "$$", "%rdx");
+		gen("leaq", cid + "$$(%rip)", "%rdx");
 		gen("movq", "%rdx", "(%rax)");
-
-		// zero-initialize
-		for(int i = 8; i < mem; i += 8) { 
-			gen("movq", 0, i + "(%rax)");
-		}
 		epilogue(); 
 
+        // ... else let the runtime find room, collecting garbage if needed
+		label(slow);
+        stackBytes = 0;     // as after the prologue
+		push("%rdi", true);
+		gen("leaq", cid + "$$gc(%rip)", "%rdi");
+		call("mjnew");
+		pop("%rdi");
+		gen("jmp", alloced);
+
 		println();
 
         // 2. Generate vtable
-		gen(".data");
+		directive(".data");
         String parent = c.parent == null ? "0" : c.parent.name + "$$";
-        println(c.name + "$$: .quad " + parent);
-		gen(".quad " + c.name + "$" + c.name);
+        label(c.name + "$$");
+        directive(".quad " + parent);
+		directive(".quad " + c.name + "$" + c.name);
 		for(MethodADT m : c.deepMethods.values()) {
-			gen(".quad " +  m.getClassADT().name + "$" + m.name);
+			directive(".quad " +  m.getClassADT().name + "$" + m.name);
 		}
+
+        // 3. Generate descriptor for the collector: size, pointer fields
+        List<Integer> refs = c.refFieldOffsets();
+        StringBuilder desc = new StringBuilder(".quad " + mem + "," + refs.size());
+        for (int offset : refs) {
+            desc.append(",").append(offset);
+        }
+		label(c.name + "$$gc");
+		directive(desc.toString());
 		println();
     }
 
@@ -177,9 +367,10 @@ public class GeneratorVisitor implements Visitor {
     public void visit(ClassDeclSimple n) {
         st = global.get(n.i.s);
         for (int i = 0; i < n.ml.size(); i++) {
-			n.ml.get(i).accept(this);
+            MethodDecl md = n.ml.get(i);
+			fork(v -> md.accept(v));
 		}
-        vtable();
+        fork(GeneratorVisitor::vtable);
         st = st.prev;
     }
 
@@ -187,9 +378,10 @@ public class GeneratorVisitor implements Visitor {
     public void visit(ClassDeclExtends n) {
         st = global.get(n.i.s);
 		for (int i = 0; i < n.ml.size(); i++) {
-			n.ml.get(i).accept(this);
+            MethodDecl md = n.ml.get(i);
+			fork(v -> md.accept(v));
 		}
-		vtable();
+		fork(GeneratorVisitor::vtable);
 		st = st.prev;
     }
 
@@ -200,18 +392,41 @@ public class GeneratorVisitor implements Visitor {
         st = m;
 
 		// generate method label
-        gen(".text");
-		println(c.name + "$" + m.name + ":");   // "class$method:"
+        directive(".text");
+        scope = c.name + "$" + m.name;
+		label(scope);   // "class$method:"
 
 		prologue();
-		if (n.vl.size() > 0) {
-            gen("subq", 8 * n.vl.size(), "%rsp");
+        stackBytes = 0;    // %rsp is 16-byte aligned here
+        if (profile) Profile.enter(asm, scope);
+
+        // frame for register params and locals, kept 16-byte aligned
+        int frame = 8 * m.numSlots + (m.numSlots % 2 == 1 ? 8 : 0);
+		if (frame > 0) {
+            gen("subq", frame, "%rsp");
+            stackBytes += frame;
+        }
+        // spill register params to their slots
+        for (int i = 0; i < n.fl.size() && i < MethodADT.REG_PARAMS; i++) {
+            gen("movq", MethodADT.ARG_REGS[i + 1], m.varToOffset(n.fl.get(i).i.s) + "(%rbp)");
+        }
+        // params and locals holding heap pointers; locals start out null
+        refSlots = new HashSet<>();
+        int k = 0;
+        for (String name : m.varNames()) {
+            if (m.get(name).isReference()) {
+                refSlots.add(m.varToOffset(name));
+                if (k >= m.numParams) gen("movq", 0, m.varToOffset(name) + "(%rbp)");
+            }
+            k++;
         }
 		for (int i = 0; i < n.sl.size(); i++) {
 			n.sl.get(i).accept(this);
 		}
 		n.e.accept(this); 
+        if (profile) Profile.exit(asm, scope, getLabel("profiled"));
 		epilogue();
+        if (profile) Profile.record(asm, scope);
 
 		st = st.prev;
     }
@@ -232,20 +447,17 @@ public class GeneratorVisitor implements Visitor {
     public void visit(If n) {
         String elseIf = getLabel("elseIf");
         String doneIf = getLabel("doneIf");
-        // evaluate condition and put it into %rax
-        n.e.accept(this);
         // test condition, if false jump to else
-        gen("cmpq", 0, "%rax");
-        gen("je", elseIf);
-        // generate else code
+        cond(n.e, elseIf, false);
+        // generate then code
         n.s1.accept(this);
         // jump to end of if (skip else)
         gen("jmp", doneIf);
         // label else and generate else code
-        gen(elseIf + ":");
+        label(elseIf);
         n.s2.accept(this);
         // label end of if else stmnt
-        gen(doneIf + ":");
+        label(doneIf);
     }
 
     @Override
@@ -254,14 +466,52 @@ public class GeneratorVisitor implements Visitor {
         String loopWhile = getLabel("loopWhile");
         gen("jmp", testWhile);
         /// label and generate loop code
-        gen(loopWhile + ":");
+        label(loopWhile);
         n.s.accept(this);
-        // label test and generate code evaluating test
-        gen(testWhile + ":");
-        n.e.accept(this);
-        // jump back to loop if test is true
-        gen("cmpq", 1, "%rax");
-        gen("je", loopWhile);
+        // label test, jump back to loop if test is true
+        label(testWhile);
+        cond(n.e, loopWhile, true);
+    }
+
+    // compiles e as a jump to target if e == jump, falling through otherwise;
+    // comparisons branch on the flags directly and And short-circuits
+    private void cond(Exp e, String target, boolean jump) {
+        switch (e) {
+            case LessThan lt -> {
+                if (lt.e2 instanceof IntegerLiteral k) {
+                    lt.e1.accept(this);
+                    gen("cmpq", k.i, "%rax");
+                } else {
+                    operands(lt.e1, lt.e2);
+                    gen("cmpq", "%rdx", "%rax");
+                }
+                gen(jump ? "jl" : "jge", target);
+            }
+            case And and -> {
+                if (jump) {
+                    // both must hold: skip the jump as soon as one fails
+                    String falseAnd = getLabel("falseAnd");
+                    cond(and.e1, falseAnd, false);
+                    cond(and.e2, target, true);
+                    label(falseAnd);
+                } else {
+                    cond(and.e1, target, false);
+                    cond(and.e2, target, false);
+                }
+            }
+            case Not not -> cond(not.e, target, !jump);
+            case True t -> {
+                if (jump) gen("jmp", target);
+            }
+            case False f -> {
+                if (!jump) gen("jmp", target);
+            }
+            default -> {
+                e.accept(this);
+                gen("testq", "%rax", "%rax");
+                gen(jump ? "jne" : "je", target);
+            }
+        }
     }
 
     @Override
@@ -275,9 +525,21 @@ public class GeneratorVisitor implements Visitor {
             ClassADT c = m.getClassADT();
             int offset = c.fieldToOffset(n.i.s);
             gen("movq", "%rax", offset + "(%rdi)");
+            if (c.deepgetField(n.i.s).isReference()) {
+                cardMark("%rdi");
+            }
         }
     }
 
+    // write barrier: dirty the card of the object in r, whose field now may
+    // point into the nursery (see boot.c); int[] elements need none
+    private void cardMark(String r) {
+        gen("movq", r, "%rdx");
+        gen("shrq", "$9", "%rdx");
+        gen("addq", "mj_card_bias(%rip)", "%rdx");
+        gen("movb", "$1", "(%rdx)");
+    }
+
     @Override
     public void visit(ArrayAssign n) {  // i[e1] = e2
         // eval e1 and e2
@@ -297,66 +559,86 @@ public class GeneratorVisitor implements Visitor {
         }
 
         // assign
+        boundsCheck("%rdx", "%rcx");
         gen("movq", "%rax", "8(%rcx,%rdx,8)");
     }
 
     @Override
     public void visit(And n) {
-        n.e2.accept(this);
-        gen("movq", "%rax", "%rdx");
+        if (cost(n.e2) >= 0 && cost(n.e2) <= CHEAP) {
+            // e2 can neither fail nor have effects: and both, no branch
+            operands(n.e1, n.e2);
+            gen("andq", "%rdx", "%rax");
+            return;
+        }
+        // only evaluate e2 if e1 is true, else %rax is already false
+        String doneAnd = getLabel("doneAnd");
         n.e1.accept(this);
-        gen("andq", "%rdx", "%rax");
+        gen("testq", "%rax", "%rax");
+        gen("je", doneAnd);
+        n.e2.accept(this);
+        label(doneAnd);
+    }
+
+    // number of nodes in e, or -1 if evaluating e can have an effect or fail
+    // (calls, allocation, array accesses)
+    private static int cost(Exp e) {
+        int a, b;
+        switch (e) {
+            case IntegerLiteral x -> { return 1; }
+            case True x -> { return 1; }
+            case False x -> { return 1; }
+            case IdentifierExp x -> { return 1; }
+            case This x -> { return 1; }
+            case Not x -> {
+                a = cost(x.e);
+                return a < 0 ? -1 : a + 1;
+            }
+            case And x -> { a = cost(x.e1); b = cost(x.e2); }
+            case LessThan x -> { a = cost(x.e1); b = cost(x.e2); }
+            case Plus x -> { a = cost(x.e1); b = cost(x.e2); }
+            case Minus x -> { a = cost(x.e1); b = cost(x.e2); }
+            case Times x -> { a = cost(x.e1); b = cost(x.e2); }
+            default -> { return -1; }
+        }
+        return a < 0 || b < 0 ? -1 : a + b + 1;
     }
 
     @Override
     public void visit(LessThan n) {
-        String trueLessThan = getLabel("trueLessThan");
-        String doneLessThan = getLabel("doneLessThan");
-        n.e2.accept(this);
-        gen("movq", "%rax", "%rdx");
-        n.e1.accept(this);
+        operands(n.e1, n.e2);
         // sets codes with rax - rdx ie e1 - e2
         gen("cmpq", "%rdx", "%rax");
-        // jump to lessThan if e1 is less than e2
-        gen("jl", trueLessThan);
-        // move false to rax if e1 isn't less than e2
-        gen("movq", 0, "%rax");
-        gen("jmp", doneLessThan);
-        gen(trueLessThan + ":");
-        gen("movq", 1, "%rax");
-        gen(doneLessThan + ":");
+        // %rax = 1 if e1 is less than e2, else 0
+        gen("setl", "%al");
+        gen("movzbq", "%al", "%rax");
     }
 
     @Override
     public void visit(Plus n) {
-       n.e2.accept(this);
-       gen("movq", "%rax", "%rdx");
-       n.e1.accept(this);
-       gen("addq", "%rdx", "%rax");
+        operands(n.e1, n.e2);
+        gen("addq", "%rdx", "%rax");
     }
 
     @Override
     public void visit(Minus n) {
-        n.e2.accept(this);
-        gen("movq", "%rax", "%rdx");
-        n.e1.accept(this);
+        operands(n.e1, n.e2);
         gen("subq", "%rdx", "%rax");
     }
 
     @Override
     public void visit(Times n) {
-        n.e2.accept(this);
-        gen("movq", "%rax", "%rdx");
-        n.e1.accept(this);
+        operands(n.e1, n.e2);
         gen("imulq", "%rdx", "%rax");
     }
 
     @Override
     public void visit(ArrayLookup n) {
 		n.e1.accept(this);
-		push("%rax");
+		push("%rax", true);
 		n.e2.accept(this);
 		pop("%rdx");
+        boundsCheck("%rax", "%rdx");
 		gen("movq", "8(%rdx,%rax,8)", "%rax");
     }
 
@@ -369,39 +651,59 @@ public class GeneratorVisitor implements Visitor {
     @Override
     public void visit(Call n) { // e.i(el);
         ClassADT c = (ClassADT) n.e.type;
-		MethodADT m = (MethodADT) c.getMethod(n.i.s);
-
-        push("%rdi");   // push "this"
-	
-        // align before pushing args
-        // why before? only then we know the args immediately
-        //     precede callee's stack frame
-        boolean align = (stackBytes + 8*n.el.size()) % 16 != 0;
-		if (align) push("%rax"); 
-
-        // push arguments
-		for (int i = 0; i < n.el.size(); i++) {
-			n.el.get(i).accept(this);
-			push("%rax");
-		}
+		MethodADT m = c.deepgetMethod(n.i.s);
+        int nargs = n.el.size();
+        int nstack = Math.max(0, nargs - MethodADT.REG_PARAMS);
+
+        push("%rdi", true);   // push "this"
+
+        // reserve the outgoing stack args right where the callee expects
+        // them, padded so that %rsp is aligned at the call
+        int reserve = 8 * nstack;
+        if ((stackBytes + reserve) % 16 != 0) reserve += 8;
+        if (reserve > 0) {
+            gen("subq", reserve, "%rsp");
+            stackBytes += reserve;
+        }
 
-        // place e at %rdi after pushing args
-        // why after? otherwise, below can modify %rdi such that
-        //     an arg like "this" wouldn't have the same meaning
+        // evaluate receiver and args in order, keeping them on the stack
+        // why not in registers right away? evaluating a later arg can
+        //     clobber them (e.g. by another call)
         n.e.accept(this);
-        gen("movq", "%rax", "%rdi");
+        push("%rax", true);
+		for (int i = 0; i < nargs; i++) {
+			n.el.get(i).accept(this);
+			push("%rax", n.el.get(i).type.isReference());
+		}
 
-        // actually call
-        gen("movq", "(%rdi)", "%rax");
-		gen("lea", 8 + c.methodToOffset(m) + "(%rax)", "%rax");
-		gen("call", "*(%rax)");  
+        // move args into their registers or reserved slots
+        for (int i = nargs - 1; i >= 0; i--) {
+            if (i < MethodADT.REG_PARAMS) {
+                pop(MethodADT.ARG_REGS[i + 1]);
+            } else {
+                // above %rsp: receiver and args 0..i-1, then args REG_PARAMS..i-1
+                pop("%rax");
+                gen("movq", "%rax", 8 * (i + 1) + 8 * (i - MethodADT.REG_PARAMS) + "(%rsp)");
+            }
+        }
+        pop("%rdi");
 
-        // pop arguments
-		for (int i = 0; i < n.el.size(); i++) {
-            pop("%rdx");
+        // actually call, directly if no subclass overrides m
+        if (cha.uniqueTarget(c, n.i.s) != null) {
+            // still load the vtable, so that a null receiver faults here
+            // rather than running m with this == 0 (this and new objects are
+            // never null)
+            if (!(n.e instanceof This || n.e instanceof NewObject)) gen("movq", "(%rdi)", "%rax");
+            gcCall(ClassHierarchy.label(m));
+        } else {
+            gen("movq", "(%rdi)", "%rax");
+            gcCall("*" + (8 + c.methodToOffset(m)) + "(%rax)");
         }
 
-		if (align) pop("%rdx");
+		if (reserve > 0) {
+            gen("addq", reserve, "%rsp");
+            stackBytes -= reserve;
+        }
 		pop("%rdi");    // pop "this"
     }
 
@@ -445,47 +747,13 @@ public class GeneratorVisitor implements Visitor {
     public void visit(NewArray n) {
         // 1. Evaluate array length
         n.e.accept(this);           // %rax = len
-        push("%rax");               // push len
-		gen("incq", "%rax");        // %rax = len + 1 (so that arr[0] = len) 
-		gen("shlq", 3, "%rax");     // %rax = 8 * (len + 1)
 
-        // 1. Allocate array of 8 * (e + 1) bytes
-		push("%rdi");
-        gen("movq", "%rax", "%rdi");    // %rdi = 8 * (len + 1)
+        // 2. Allocate the array, already zeroed, with arr[0] = len; the
+        // runtime rejects negative lengths and sizes that overflow
+		push("%rdi", true);
+        gen("movq", "%rax", "%rdi");    // %rdi = len
 		call("mjcalloc");               // %rax = arr_ptr
 		pop("%rdi");
-    
-        // 2. Ready for for-loop
-		pop("%rdx");                    // pop len
-		gen("movq", "%rdx", "(%rax)");  // (%rax) = len
-		gen("movq", 8, "%rcx");         // index = 1
-		push("%rax");                   // push array ptr to stack
-
-        String len = "%rdx";
-        String index = "%rcx";
-        String arr = "%rax";
-		
-        // 3. Execute for-loop
-		String done = getLabel("doneNewArray");
-		String test = getLabel("testNewArray");
-		gen(test + ":");
-
-		// test
-		gen("testq", 0, len);
-		gen("je", done);
-        // end test
-
-		// body
-		gen("addq", index, arr);            // arr[index]
-		gen("movq", 0, "(" + arr + ")");    // arr[index] = 0
-		gen("shlq", 2, index);              // index++
-		gen("decq", len);	                // len--
-		// end body
-
-		gen("jmp", test);
-		gen(done + ":");
-
-		pop("%rax");    // return arr ptr
     }
 
     @Override
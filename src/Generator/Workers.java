@@ -0,0 +1,55 @@
+package Generator;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs independent tasks, such as the methods of a program that the code
+ * generators emit into separate Asms, on a pool of threads. Callers put the
+ * results together in their own order, so that it does not depend on the
+ * number of threads.
+ */
+public class Workers {
+
+    // Same as run(tasks, threads, done), with nothing to do in order
+    public static void run(List<Runnable> tasks, int threads) {
+        run(tasks, threads, k -> {});
+    }
+
+    /**
+     * Runs every task, in order on the calling thread if threads <= 1, and
+     * returns once all have finished. Rethrows the first failure. After
+     * task k, and every task before it, has finished, done(k) runs on the
+     * calling thread, so that results can be consumed in order while later
+     * tasks still run. Only a few tasks per thread run ahead of done.
+     */
+    public static void run(List<Runnable> tasks, int threads, IntConsumer done) {
+        if (threads <= 1) {
+            for (int k = 0; k < tasks.size(); k++) {
+                tasks.get(k).run();
+                done.accept(k);
+            }
+            return;
+        }
+        int ahead = 4 * threads;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<ForkJoinTask<?>> running = new ArrayList<>();
+            for (int k = 0; k < tasks.size() && k < ahead; k++) {
+                running.add(pool.submit(tasks.get(k)));
+            }
+            for (int k = 0; k < tasks.size(); k++) {
+                running.get(k).join();
+                running.set(k, null);
+                if (k + ahead < tasks.size()) {
+                    running.add(pool.submit(tasks.get(k + ahead)));
+                }
+                done.accept(k);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
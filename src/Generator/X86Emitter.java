@@ -0,0 +1,586 @@
+package Generator;
+
+import IR.*;
+import Semantics.*;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Emits x86-64 assembly from an IRProgram, keeping Temps in the registers
+ * chosen by LinearScan. Object layout, vtables and the calling convention
+ * (MethodADT.ARG_REGS, then the stack) are the same as in GeneratorVisitor,
+ * and so is what the collector needs (see boot.c): every call that may
+ * collect is followed by a stack map of the frame slots that hold the
+ * references live across it (LinearScan gives those a slot, which a
+ * reference in a register is stored to before the call and reloaded from
+ * after it), and a store of a reference into an object dirties its card.
+ */
+public class X86Emitter {
+
+
+    private final Asm asm;
+    private final IRProgram program;
+
+    public boolean inlinePrint = false;     // format in the generated code (-Xinline-print)
+    public boolean profile = false;     // count calls and time every method (-profile)
+    public int threads = 1;     // methods emitted at once (-Xcodegen-threads)
+    public Peephole peephole;   // run on every method and constructor, unless null
+    public Writer output;       // where to stream the code, or null to keep it all in getCode()
+
+    // per-method state
+    private CFG cfg;
+    private LinearScan alloc;
+    private List<String> saved;
+    private BasicBlock next;    // block laid out after the current one
+    private List<Instr> failedChecks;   // BOUNDS whose error path is emitted after the method
+    private final List<String> stackMaps = new ArrayList<>();   // of this part, for mj_stackmaps
+    private int printCount;
+    private int returnCount;
+
+    public X86Emitter(IRProgram program) {
+        this.asm = new Asm();
+        this.program = program;
+    }
+
+    @Override
+    public String toString() {
+        return asm.toString();
+    }
+
+    // the generated code, before it is printed
+    public Asm getCode() {
+        return asm;
+    }
+
+    private void println() {
+        asm.blank();
+    }
+
+    private void label(String l) {
+        asm.label(l);
+    }
+
+    private void directive(String d) {
+        asm.directive(d);
+    }
+
+    private void gen(String inst) {
+        asm.instr(inst);
+    }
+
+    private void gen(String inst, String i) {
+        asm.instr(inst, i);
+    }
+
+    private void gen(String inst, String i, String j) {
+        asm.instr(inst, i, j);
+    }
+
+    // Program
+
+    public void emit() {
+        directive(".text");
+        directive(".globl asm_main");
+        // stack maps: return address, number of pointer slots, their offsets;
+        // every part appends its own to this table, in subsection 1 of .data
+        directive(".data 1");
+        directive(".globl mj_stackmaps");
+        label("mj_stackmaps");
+        directive(".text");
+        if (profile) Profile.tableStart(asm);
+        // each method and constructor into an Asm of its own, all labels
+        // being local to it, then put together (or written out) in order
+        List<X86Emitter> parts = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (CFG m : program.methods) {
+            X86Emitter part = new X86Emitter(program);
+            part.inlinePrint = inlinePrint;
+            part.profile = profile;
+            parts.add(part);
+            tasks.add(() -> part.emitPart(() -> part.method(m), peephole));
+        }
+        for (ClassADT c : program.classes) {
+            X86Emitter part = new X86Emitter(program);
+            parts.add(part);
+            tasks.add(() -> part.emitPart(() -> part.constructor(c), peephole));
+        }
+        if (output != null) asm.writeTo(output);
+        Workers.run(tasks, threads, k -> {
+            Asm part = parts.get(k).asm;
+            if (output != null) {
+                part.writeTo(output);
+            } else {
+                asm.lines.addAll(part.lines);
+            }
+        });
+        println();
+        directive(".data");
+        for (ClassADT c : program.classes) {
+            vtable(c);
+        }
+        directive(".data 1");
+        directive(".quad 0");
+        if (profile) Profile.tableEnd(asm);
+        directive(".section .note.GNU-stack,\"\",@progbits");
+        if (output != null) asm.writeTo(output);
+    }
+
+    private void emitPart(Runnable emit, Peephole peephole) {
+        emit.run();
+        if (peephole != null) peephole.run(asm);
+        if (!stackMaps.isEmpty()) {
+            directive(".data 1");
+            for (String map : stackMaps) {
+                directive(map);
+            }
+            directive(".text");
+        }
+    }
+
+    // calls f and labels the return address with the %rbp offsets of the
+    // frame's pointer slots, so that the collector can find them if it
+    // runs inside f
+    private void gcCall(String f, String scope, List<Integer> offsets) {
+        gen("call", f);
+        String site = ".L" + scope + "$gc" + (stackMaps.size() + 1);
+        label(site);
+        StringBuilder map = new StringBuilder(".quad " + site + "," + offsets.size());
+        for (int offset : offsets) {
+            map.append(",").append(offset);
+        }
+        stackMaps.add(map.toString());
+    }
+
+    // a call from a method, with the references live across it in their
+    // slots, as the collector may move what they point to
+    private void gcCall(String f, Instr i) {
+        List<Temp> refs = alloc.gcTemps(i);
+        List<Integer> offsets = new ArrayList<>();
+        for (Temp t : refs) {
+            offsets.add(offset(alloc.slot(t)));
+            if (alloc.reg(t) != null) gen("movq", alloc.reg(t), offset(alloc.slot(t)) + "(%rbp)");
+        }
+        gcCall(f, cfg.name, offsets);
+        for (Temp t : refs) {
+            if (alloc.reg(t) != null) gen("movq", offset(alloc.slot(t)) + "(%rbp)", alloc.reg(t));
+        }
+    }
+
+    // bumps mj_heap_ptr (see boot.c) past header and object, and only
+    // calls mjnew when the current chunk is full; storage comes zeroed
+    private void constructor(ClassADT c) {
+        String name = c.name + "$" + c.name;
+        int size = 8 + 8 * c.deepFields.size();
+        label(name);
+        gen("movq", "mj_heap_ptr(%rip)", "%rax");
+        gen("leaq", (size + 8) + "(%rax)", "%rdx");
+        gen("cmpq", "mj_heap_limit(%rip)", "%rdx");
+        gen("ja", ".L" + name + "$slow");
+        gen("movq", "%rdx", "mj_heap_ptr(%rip)");
+        gen("leaq", c.name + "$$gc(%rip)", "%rdx");
+        gen("movq", "%rdx", "(%rax)");  // header: class descriptor
+        gen("addq", "$8", "%rax");
+        label(".L" + name + "$alloced");
+        gen("leaq", c.name + "$$(%rip)", "%rdx");
+        gen("movq", "%rdx", "(%rax)");
+        gen("ret");
+        label(".L" + name + "$slow");
+        gen("pushq", "%rbp");
+        gen("movq", "%rsp", "%rbp");
+        gen("leaq", c.name + "$$gc(%rip)", "%rdi");
+        gcCall("mjnew", name, List.of());
+        gen("popq", "%rbp");
+        gen("jmp", ".L" + name + "$alloced");
+    }
+
+    private void vtable(ClassADT c) {
+        String parent = c.parent == null ? "0" : c.parent.name + "$$";
+        label(c.name + "$$");
+        directive(".quad " + parent);
+        directive(".quad " + c.name + "$" + c.name);
+        for (MethodADT m : c.deepMethods.values()) {
+            directive(".quad " + m.getClassADT().name + "$" + m.name);
+        }
+        // descriptor for the runtime: size, pointer fields
+        List<Integer> refs = c.refFieldOffsets();
+        StringBuilder desc = new StringBuilder(".quad " + (8 + 8 * c.deepFields.size()) + "," + refs.size());
+        for (int offset : refs) {
+            desc.append(",").append(offset);
+        }
+        label(c.name + "$$gc");
+        directive(desc.toString());
+    }
+
+    // Methods
+
+    private void method(CFG m) {
+        cfg = m;
+        alloc = new LinearScan(m);
+        saved = alloc.usedCalleeSaved();
+
+        println();
+        label(m.name);
+        if (profile) Profile.enter(asm, m.name);
+        gen("pushq", "%rbp");
+        gen("movq", "%rsp", "%rbp");
+        for (String r : saved) {
+            gen("pushq", r);
+        }
+        int frame = 8 * alloc.numSlots();
+        if ((8 * saved.size() + frame) % 16 != 0) frame += 8;
+        if (frame > 0) {
+            gen("subq", "$" + frame, "%rsp");
+        }
+
+        // move incoming parameters to their allocated homes
+        BitSet in = alloc.live.liveIn.get(m.entry());
+        List<String> dsts = new ArrayList<>();
+        List<String> srcs = new ArrayList<>();
+        for (int k = 0; k < m.params.size(); k++) {
+            Temp t = m.params.get(k);
+            if (!in.get(t.id)) continue;
+            dsts.add(loc(t));
+            srcs.add(k < MethodADT.ARG_REGS.length
+                    ? MethodADT.ARG_REGS[k]
+                    : m.methodADT.varToOffset(t.name) + "(%rbp)");
+        }
+        parallelMove(dsts, srcs);
+
+        // references read before they are set (uninitialized locals) start
+        // out null, as the collector may look at them
+        for (int id = in.nextSetBit(0); id >= 0; id = in.nextSetBit(id + 1)) {
+            Temp t = alloc.temp(id);
+            if (t.ref && !m.params.contains(t)) {
+                gen("movq", "$0", loc(t));
+            }
+        }
+
+        failedChecks = new ArrayList<>();
+        printCount = 0;
+        returnCount = 0;
+        for (int k = 0; k < m.blocks.size(); k++) {
+            BasicBlock b = m.blocks.get(k);
+            next = k + 1 < m.blocks.size() ? m.blocks.get(k + 1) : null;
+            if (k > 0) label(b.label);
+            for (Instr i : b.instrs) {
+                instr(i);
+            }
+        }
+
+        // out-of-line error paths of the bounds checks
+        for (int k = 0; k < failedChecks.size(); k++) {
+            Instr i = failedChecks.get(k);
+            label(boundsLabel(k));
+            parallelMove(List.of("%rdi", "%rsi"), List.of(operand(i.a), operand(i.b)));
+            gen("call", "mjbounds");
+        }
+        if (profile) Profile.record(asm, m.name);
+    }
+
+    private String boundsLabel(int k) {
+        return ".L" + cfg.name + "$bounds" + k;
+    }
+
+    private void epilogue() {
+        if (saved.isEmpty()) {
+            gen("movq", "%rbp", "%rsp");
+        } else {
+            gen("leaq", -8 * saved.size() + "(%rbp)", "%rsp");
+        }
+        for (int k = saved.size() - 1; k >= 0; k--) {
+            gen("popq", saved.get(k));
+        }
+        gen("popq", "%rbp");
+        gen("ret");
+    }
+
+    // Operands
+
+    private String loc(Temp t) {
+        String r = alloc.reg(t);
+        if (r != null) return r;
+        int s = alloc.slot(t);
+        if (s < 0) throw new IllegalStateException("No location for " + t + " in " + cfg.name);
+        return offset(s) + "(%rbp)";
+    }
+
+    // of stack slot s from %rbp, below the saved registers
+    private int offset(int s) {
+        return -8 * (saved.size() + s + 1);
+    }
+
+    private static boolean isReg(String s) {
+        return s.startsWith("%");
+    }
+
+    private static boolean isMem(String s) {
+        return s.endsWith(")");
+    }
+
+    private static boolean fitsImm32(long c) {
+        return c == (int) c;
+    }
+
+    // operand as an assembly source; large constants go through scratch
+    private String val(Operand o, String scratch) {
+        if (o instanceof Temp t) return loc(t);
+        long c = ((Const) o).value;
+        if (fitsImm32(c)) return "$" + c;
+        gen("movabsq", "$" + c, scratch);
+        return scratch;
+    }
+
+    // operand as a move source without emitting anything
+    private String operand(Operand o) {
+        if (o instanceof Temp t) return loc(t);
+        return "$" + ((Const) o).value;
+    }
+
+    // operand forced into a register
+    private String inReg(Operand o, String scratch) {
+        String s = val(o, scratch);
+        if (isReg(s)) return s;
+        gen("movq", s, scratch);
+        return scratch;
+    }
+
+    private void move(String from, String to) {
+        if (from.equals(to)) return;
+        if (from.startsWith("$") && !fitsImm32(Long.parseLong(from.substring(1)))) {
+            if (isReg(to)) {
+                gen("movabsq", from, to);
+                return;
+            }
+            gen("movabsq", from, "%rax");
+            from = "%rax";
+        }
+        if (isMem(from) && isMem(to)) {
+            gen("movq", from, "%rax");
+            from = "%rax";
+        }
+        gen("movq", from, to);
+    }
+
+    // performs all dsts[k] = srcs[k] at once, using %r11 to break cycles
+    private void parallelMove(List<String> dsts, List<String> srcs) {
+        List<String> d = new ArrayList<>();
+        List<String> s = new ArrayList<>();
+        for (int k = 0; k < dsts.size(); k++) {
+            if (!dsts.get(k).equals(srcs.get(k))) {
+                d.add(dsts.get(k));
+                s.add(srcs.get(k));
+            }
+        }
+        while (!d.isEmpty()) {
+            int ready = -1;
+            for (int k = 0; k < d.size() && ready < 0; k++) {
+                if (!s.contains(d.get(k))) ready = k;
+            }
+            if (ready < 0) {
+                String old = d.get(0);
+                gen("movq", old, "%r11");
+                s.replaceAll(x -> x.equals(old) ? "%r11" : x);
+                ready = 0;
+            }
+            move(s.remove(ready), d.remove(ready));
+        }
+    }
+
+    private String address(Instr i) {
+        String base = inReg(i.a, "%rax");
+        long disp = i.disp;
+        if (i.b == null) {
+            return disp + "(" + base + ")";
+        }
+        if (i.b instanceof Const c && fitsImm32(disp + 8 * c.value)) {
+            return disp + 8 * c.value + "(" + base + ")";
+        }
+        String index = inReg(i.b, "%r11");
+        return disp + "(" + base + "," + index + ",8)";
+    }
+
+    private static String cc(Instr.Cond c) {
+        return switch (c) {
+            case LT -> "l";
+            case GE -> "ge";
+            case GT -> "g";
+            case LE -> "le";
+            case EQ -> "e";
+            case NE -> "ne";
+        };
+    }
+
+    // Instructions
+
+    private void instr(Instr i) {
+        switch (i.op) {
+            case MOVE -> move(val(i.a, "%rax"), loc(i.dst));
+            case ADD -> binop("addq", i, true);
+            case SUB -> binop("subq", i, false);
+            case MUL -> binop("imulq", i, true);
+            case AND -> binop("andq", i, true);
+            case LT -> {
+                Instr.Cond cond = compare(i.a, i.b) ? Instr.Cond.LT : Instr.Cond.GT;
+                gen("set" + cc(cond), "%al");
+                String d = loc(i.dst);
+                if (isReg(d)) {
+                    gen("movzbq", "%al", d);
+                } else {
+                    gen("movzbq", "%al", "%rax");
+                    gen("movq", "%rax", d);
+                }
+            }
+            case NOT -> {
+                String d = loc(i.dst);
+                move(val(i.a, "%rax"), d);
+                gen("xorq", "$1", d);
+            }
+            case LOAD -> {
+                String d = loc(i.dst);
+                String addr = address(i);
+                if (isReg(d)) {
+                    gen("movq", addr, d);
+                } else {
+                    gen("movq", addr, "%rax");
+                    gen("movq", "%rax", d);
+                }
+            }
+            case STORE -> {
+                String addr = address(i);
+                String v = i.c instanceof Temp t ? loc(t) : null;
+                if (i.c instanceof Const c && fitsImm32(c.value)) {
+                    v = "$" + c.value;
+                } else if (v == null || isMem(v)) {
+                    // value needs a scratch register of its own
+                    if (addr.contains("%r11")) {
+                        gen("leaq", addr, "%rax");
+                        addr = "(%rax)";
+                    }
+                    v = inReg(i.c, "%r11");
+                }
+                gen("movq", v, addr);
+                if (i.c instanceof Temp t && t.ref) cardMark(i.a);
+            }
+            case CALL -> {
+                List<Operand> args = new ArrayList<>(List.of(i.a));
+                args.addAll(i.args);
+                int pop = passArgs(args);
+                gen("movq", "(%rdi)", "%rax");
+                gcCall("*" + i.disp + "(%rax)", i);
+                if (pop > 0) gen("addq", "$" + pop, "%rsp");
+                if (i.dst != null) move("%rax", loc(i.dst));
+            }
+            case CALLRT -> {
+                int pop = passArgs(i.args);
+                if (inlinePrint && i.label.equals("put")) {
+                    // caller-saved registers are free here, as across any call
+                    int n = printCount++;
+                    InlineRuntime.print(asm, s -> ".L" + cfg.name + "$" + s + n, () -> gen("call", "put"));
+                } else if (i.label.equals("put")) {
+                    gen("call", "put");     // never collects
+                } else {
+                    gcCall(i.label, i);
+                }
+                if (pop > 0) gen("addq", "$" + pop, "%rsp");
+                if (i.dst != null) move("%rax", loc(i.dst));
+            }
+            case JUMP -> {
+                if (i.target != next) gen("jmp", i.target.label);
+            }
+            case CJUMP -> cjump(i);
+            case RET -> {
+                if (i.a != null) move(val(i.a, "%rax"), "%rax");
+                if (profile) Profile.exit(asm, cfg.name, ".L" + cfg.name + "$profiled" + returnCount++);
+                epilogue();
+            }
+            case BOUNDS -> {
+                // unsigned, so that negative indices fail as well
+                String fail = boundsLabel(failedChecks.size());
+                failedChecks.add(i);
+                gen(compare(i.a, i.b) ? "jae" : "jbe", fail);
+            }
+            case PHI -> throw new IllegalStateException("Phi in " + cfg.name + " must be removed before emission.");
+        }
+    }
+
+    // write barrier: dirty the card of the object o, whose field now may
+    // point into the nursery (see boot.c); int[] elements need none
+    private void cardMark(Operand o) {
+        move(val(o, "%rax"), "%rax");
+        gen("shrq", "$9", "%rax");
+        gen("addq", "mj_card_bias(%rip)", "%rax");
+        gen("movb", "$1", "(%rax)");
+    }
+
+    // puts args in ARG_REGS and the rest on the stack (last one pushed
+    // first); returns the number of bytes to pop after the call
+    private int passArgs(List<Operand> args) {
+        int n = args.size();
+        int nregs = MethodADT.ARG_REGS.length;
+        int nstack = Math.max(0, n - nregs);
+        int pad = nstack % 2 == 1 ? 8 : 0;
+        if (pad > 0) gen("subq", "$8", "%rsp");
+        for (int k = n - 1; k >= nregs; k--) {
+            gen("pushq", val(args.get(k), "%rax"));
+        }
+        List<String> dsts = new ArrayList<>();
+        List<String> srcs = new ArrayList<>();
+        for (int k = 0; k < n && k < nregs; k++) {
+            dsts.add(MethodADT.ARG_REGS[k]);
+            srcs.add(operand(args.get(k)));
+        }
+        parallelMove(dsts, srcs);
+        return 8 * nstack + pad;
+    }
+
+    // dst = a op b, respecting x86's two-address form
+    private void binop(String inst, Instr i, boolean commutative) {
+        String d = loc(i.dst);
+        String b = val(i.b, "%r11");
+        if (isReg(d) && !(d.equals(b) && !commutative)) {
+            if (d.equals(b)) {
+                gen(inst, val(i.a, "%rax"), d);
+            } else {
+                move(val(i.a, "%rax"), d);
+                gen(inst, b, d);
+            }
+        } else {
+            move(val(i.a, "%rax"), "%rax");
+            gen(inst, b, "%rax");
+            gen("movq", "%rax", d);
+        }
+    }
+
+    // sets flags for a - b; returns false if operands had to be swapped
+    private boolean compare(Operand a, Operand b) {
+        boolean swapped = false;
+        if (a instanceof Const && b instanceof Temp) {
+            Operand t = a; a = b; b = t;
+            swapped = true;
+        }
+        String x = val(a, "%rax");
+        String y = val(b, "%r11");
+        if (!isReg(x) && (isMem(y) || !isMem(x))) {
+            gen("movq", x, "%rax");
+            x = "%rax";
+        }
+        gen("cmpq", y, x);
+        return !swapped;
+    }
+
+    private void cjump(Instr i) {
+        Instr.Cond cond = i.cond;
+        if (i.a instanceof Const a && i.b instanceof Const b) {
+            BasicBlock t = cond.eval(a.value, b.value) ? i.target : i.alt;
+            if (t != next) gen("jmp", t.label);
+            return;
+        }
+        if (!compare(i.a, i.b)) cond = cond.swap();
+        if (i.target == next) {
+            gen("j" + cc(cond.negate()), i.alt.label);
+        } else {
+            gen("j" + cc(cond), i.target.label);
+            if (i.alt != next) gen("jmp", i.alt.label);
+        }
+    }
+}
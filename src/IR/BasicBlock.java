@@ -0,0 +1,35 @@
+package IR;
+
+import java.util.*;
+
+/**
+ * Straight-line sequence of instructions ending in exactly one terminator
+ * (JUMP, CJUMP or RET). Edges are recomputed by CFG.computeEdges().
+ */
+public class BasicBlock {
+    public final String label;
+    public final List<Instr> instrs = new ArrayList<>();
+    public final List<BasicBlock> preds = new ArrayList<>();
+    public final List<BasicBlock> succs = new ArrayList<>();
+
+    public BasicBlock(String label) {
+        this.label = label;
+    }
+
+    public void add(Instr i) {
+        instrs.add(i);
+    }
+
+    public boolean isTerminated() {
+        return !instrs.isEmpty() && last().isTerminator();
+    }
+
+    public Instr last() {
+        return instrs.get(instrs.size() - 1);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,118 @@
+package IR;
+
+import Semantics.*;
+import java.util.*;
+
+/**
+ * Control-flow graph of a single method. blocks.get(0) is the entry block
+ * and the order of blocks is the layout order used by the emitter.
+ * params.get(0) is "this" (absent for asm_main).
+ */
+public class CFG {
+    public final String name;           // assembly label, e.g. "Fac$ComputeFac"
+    public final ClassADT classADT;     // null for asm_main
+    public final MethodADT methodADT;
+    public final List<Temp> params = new ArrayList<>();
+    public final List<BasicBlock> blocks = new ArrayList<>();
+    public boolean ssa = false;     // set while the CFG is in SSA form
+    private int numTemps = 0;
+    private int numBlocks = 0;
+
+    public CFG(String name, ClassADT classADT, MethodADT methodADT) {
+        this.name = name;
+        this.classADT = classADT;
+        this.methodADT = methodADT;
+    }
+
+    public Temp newTemp() {
+        return new Temp(numTemps++, null, false);
+    }
+
+    public Temp newTemp(String name, boolean ref) {
+        return new Temp(numTemps++, name, ref);
+    }
+
+    // a fresh Temp for the same variable and kind of value as t
+    public Temp newTemp(Temp t) {
+        return newTemp(t.name, t.ref);
+    }
+
+    public int numTemps() {
+        return numTemps;
+    }
+
+    // creates a block without placing it in the layout
+    public BasicBlock newBlock() {
+        return new BasicBlock(".L" + name + "$" + numBlocks++);
+    }
+
+    public BasicBlock entry() {
+        return blocks.get(0);
+    }
+
+    public int size() {
+        int n = 0;
+        for (BasicBlock b : blocks) {
+            n += b.instrs.size();
+        }
+        return n;
+    }
+
+    // independent copy of the blocks and instructions (Temps are shared)
+    public CFG copy() {
+        CFG res = new CFG(name, classADT, methodADT);
+        res.params.addAll(params);
+        res.ssa = ssa;
+        res.numTemps = numTemps;
+        res.numBlocks = numBlocks;
+        Map<BasicBlock, BasicBlock> map = new HashMap<>();
+        for (BasicBlock b : blocks) {
+            map.put(b, new BasicBlock(b.label));
+        }
+        for (BasicBlock b : blocks) {
+            BasicBlock nb = map.get(b);
+            for (Instr i : b.instrs) {
+                Instr c = i.copy();
+                if (c.target != null) c.target = map.get(c.target);
+                if (c.alt != null) c.alt = map.get(c.alt);
+                if (c.phiPreds != null) c.phiPreds.replaceAll(map::get);
+                nb.add(c);
+            }
+            res.blocks.add(nb);
+        }
+        res.computeEdges();
+        return res;
+    }
+
+    public void computeEdges() {
+        for (BasicBlock b : blocks) {
+            b.preds.clear();
+            b.succs.clear();
+        }
+        for (BasicBlock b : blocks) {
+            for (BasicBlock s : b.last().targets()) {
+                if (!b.succs.contains(s)) {
+                    b.succs.add(s);
+                    s.preds.add(b);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(name + "(");
+        for (int i = 0; i < params.size(); i++) {
+            if (i > 0) s.append(", ");
+            s.append(params.get(i));
+        }
+        s.append("):\n");
+        for (BasicBlock b : blocks) {
+            s.append(b.label).append(":\n");
+            for (Instr i : b.instrs) {
+                s.append(SymbolTable.TAB).append(i).append("\n");
+            }
+        }
+        return s.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package IR;
+
+public class Const extends Operand {
+    public final long value;
+
+    public Const(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Const c && c.value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
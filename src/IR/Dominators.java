@@ -0,0 +1,119 @@
+package IR;
+
+import java.util.*;
+
+/**
+ * Dominator tree and dominance frontiers of a CFG, computed with the
+ * iterative algorithm of Cooper, Harvey & Kennedy ("A Simple, Fast Dominance
+ * Algorithm"). Only blocks reachable from the entry are considered.
+ */
+public class Dominators {
+    public final List<BasicBlock> rpo = new ArrayList<>();      // reverse postorder
+    private final Map<BasicBlock, Integer> order = new HashMap<>();
+    private final Map<BasicBlock, BasicBlock> idom = new HashMap<>();
+    private final Map<BasicBlock, List<BasicBlock>> children = new HashMap<>();
+    private final Map<BasicBlock, Set<BasicBlock>> frontier = new HashMap<>();
+
+    public Dominators(CFG cfg) {
+        cfg.computeEdges();
+        postorder(cfg.entry());
+        for (int k = 0; k < rpo.size(); k++) {
+            order.put(rpo.get(k), k);
+            children.put(rpo.get(k), new ArrayList<>());
+            frontier.put(rpo.get(k), new LinkedHashSet<>());
+        }
+
+        BasicBlock entry = cfg.entry();
+        idom.put(entry, entry);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int k = 1; k < rpo.size(); k++) {
+                BasicBlock b = rpo.get(k);
+                BasicBlock d = null;
+                for (BasicBlock p : b.preds) {
+                    if (!idom.containsKey(p)) continue;     // not processed yet
+                    d = d == null ? p : intersect(p, d);
+                }
+                if (d != idom.get(b)) {
+                    idom.put(b, d);
+                    changed = true;
+                }
+            }
+        }
+        for (int k = 1; k < rpo.size(); k++) {
+            children.get(idom.get(rpo.get(k))).add(rpo.get(k));
+        }
+
+        // a join point is in the frontier of every block on the way up from
+        // each predecessor to its immediate dominator
+        for (BasicBlock b : rpo) {
+            if (b.preds.size() < 2) continue;
+            for (BasicBlock p : b.preds) {
+                if (!order.containsKey(p)) continue;
+                for (BasicBlock r = p; r != idom.get(b); r = idom.get(r)) {
+                    frontier.get(r).add(b);
+                }
+            }
+        }
+    }
+
+    private void postorder(BasicBlock entry) {
+        Set<BasicBlock> seen = new HashSet<>();
+        Deque<Iterator<BasicBlock>> stack = new ArrayDeque<>();
+        Deque<BasicBlock> path = new ArrayDeque<>();
+        seen.add(entry);
+        stack.push(entry.succs.iterator());
+        path.push(entry);
+        while (!stack.isEmpty()) {
+            Iterator<BasicBlock> it = stack.peek();
+            if (it.hasNext()) {
+                BasicBlock s = it.next();
+                if (seen.add(s)) {
+                    stack.push(s.succs.iterator());
+                    path.push(s);
+                }
+            } else {
+                stack.pop();
+                rpo.add(path.pop());
+            }
+        }
+        Collections.reverse(rpo);
+    }
+
+    private BasicBlock intersect(BasicBlock a, BasicBlock b) {
+        while (a != b) {
+            while (order.get(a) > order.get(b)) a = idom.get(a);
+            while (order.get(b) > order.get(a)) b = idom.get(b);
+        }
+        return a;
+    }
+
+    // Queries
+
+    public boolean reachable(BasicBlock b) {
+        return order.containsKey(b);
+    }
+
+    // immediate dominator; the entry is its own
+    public BasicBlock idom(BasicBlock b) {
+        return idom.get(b);
+    }
+
+    public List<BasicBlock> children(BasicBlock b) {
+        return children.get(b);
+    }
+
+    public Set<BasicBlock> frontier(BasicBlock b) {
+        return frontier.get(b);
+    }
+
+    public boolean dominates(BasicBlock a, BasicBlock b) {
+        while (true) {
+            if (a == b) return true;
+            BasicBlock d = idom.get(b);
+            if (d == b) return false;
+            b = d;
+        }
+    }
+}
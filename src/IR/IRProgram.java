@@ -0,0 +1,27 @@
+package IR;
+
+import Semantics.*;
+import java.util.*;
+
+/**
+ * Whole program in IR form: one CFG per method (asm_main first) and the
+ * classes, in source order, whose constructors and vtables must be emitted.
+ */
+public class IRProgram {
+    public final GlobalADT global;
+    public final List<CFG> methods = new ArrayList<>();
+    public final List<ClassADT> classes = new ArrayList<>();
+
+    public IRProgram(GlobalADT global) {
+        this.global = global;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        for (CFG cfg : methods) {
+            s.append(cfg).append("\n");
+        }
+        return s.toString();
+    }
+}
@@ -0,0 +1,280 @@
+package IR;
+
+import Semantics.ClassADT;
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * Three-address instruction. One class covers every opcode; which fields
+ * are meaningful depends on op:
+ *
+ *   MOVE    dst = a
+ *   ADD     dst = a + b        (SUB, MUL, AND likewise)
+ *   LT      dst = a < b
+ *   NOT     dst = !a
+ *   LOAD    dst = [a + b*8 + disp]          (b may be null)
+ *   STORE   [a + b*8 + disp] = c            (b may be null)
+ *   CALL    dst = a.vtable[disp](args)      (a is the receiver, of static class
+ *                                            cls; label is the method name)
+ *   CALLRT  dst = label(args)               (runtime function, constructor, or
+ *                                            direct method call with the
+ *                                            receiver as args.get(0))
+ *   JUMP    goto target
+ *   CJUMP   if (a cond b) goto target else goto alt
+ *   RET     return a                        (a may be null)
+ *   BOUNDS  trap unless 0 <= a < b          (a is an index, b an array length)
+ *   PHI     dst = phi(args)                 (args.get(k) flows in from phiPreds.get(k))
+ */
+public class Instr {
+
+    public enum Op { MOVE, ADD, SUB, MUL, AND, LT, NOT, LOAD, STORE, CALL, CALLRT, JUMP, CJUMP, RET, PHI, BOUNDS }
+
+    public enum Cond {
+        LT("<"), GE(">="), GT(">"), LE("<="), EQ("=="), NE("!=");
+
+        private final String s;
+
+        Cond(String s) { this.s = s; }
+
+        public Cond negate() {
+            return switch (this) {
+                case LT -> GE;
+                case GE -> LT;
+                case GT -> LE;
+                case LE -> GT;
+                case EQ -> NE;
+                case NE -> EQ;
+            };
+        }
+
+        // condition that holds for (b, a) whenever this holds for (a, b)
+        public Cond swap() {
+            return switch (this) {
+                case LT -> GT;
+                case GT -> LT;
+                case GE -> LE;
+                case LE -> GE;
+                default -> this;
+            };
+        }
+
+        public boolean eval(long a, long b) {
+            return switch (this) {
+                case LT -> a < b;
+                case GE -> a >= b;
+                case GT -> a > b;
+                case LE -> a <= b;
+                case EQ -> a == b;
+                case NE -> a != b;
+            };
+        }
+
+        @Override
+        public String toString() { return s; }
+    }
+
+    public Op op;
+    public Temp dst;
+    public Operand a, b, c;
+    public long disp;
+    public String label;
+    public List<Operand> args;
+    public Cond cond;
+    public BasicBlock target, alt;
+    public List<BasicBlock> phiPreds;
+    public ClassADT cls;
+
+    private Instr(Op op) {
+        this.op = op;
+    }
+
+    // Factories
+
+    public static Instr move(Temp dst, Operand a) {
+        Instr i = new Instr(Op.MOVE);
+        i.dst = dst; i.a = a;
+        return i;
+    }
+
+    public static Instr binop(Op op, Temp dst, Operand a, Operand b) {
+        Instr i = new Instr(op);
+        i.dst = dst; i.a = a; i.b = b;
+        return i;
+    }
+
+    public static Instr not(Temp dst, Operand a) {
+        Instr i = new Instr(Op.NOT);
+        i.dst = dst; i.a = a;
+        return i;
+    }
+
+    public static Instr load(Temp dst, Operand base, Operand index, long disp) {
+        Instr i = new Instr(Op.LOAD);
+        i.dst = dst; i.a = base; i.b = index; i.disp = disp;
+        return i;
+    }
+
+    public static Instr store(Operand base, Operand index, long disp, Operand value) {
+        Instr i = new Instr(Op.STORE);
+        i.a = base; i.b = index; i.disp = disp; i.c = value;
+        return i;
+    }
+
+    public static Instr call(Temp dst, Operand receiver, ClassADT cls, String method, long slot, List<Operand> args) {
+        Instr i = new Instr(Op.CALL);
+        i.dst = dst; i.a = receiver; i.cls = cls; i.label = method; i.disp = slot; i.args = args;
+        return i;
+    }
+
+    public static Instr callRuntime(Temp dst, String label, List<Operand> args) {
+        Instr i = new Instr(Op.CALLRT);
+        i.dst = dst; i.label = label; i.args = args;
+        return i;
+    }
+
+    public static Instr jump(BasicBlock target) {
+        Instr i = new Instr(Op.JUMP);
+        i.target = target;
+        return i;
+    }
+
+    public static Instr cjump(Cond cond, Operand a, Operand b, BasicBlock target, BasicBlock alt) {
+        Instr i = new Instr(Op.CJUMP);
+        i.cond = cond; i.a = a; i.b = b; i.target = target; i.alt = alt;
+        return i;
+    }
+
+    public static Instr ret(Operand a) {
+        Instr i = new Instr(Op.RET);
+        i.a = a;
+        return i;
+    }
+
+    public static Instr bounds(Operand index, Operand length) {
+        Instr i = new Instr(Op.BOUNDS);
+        i.a = index; i.b = length;
+        return i;
+    }
+
+    public static Instr phi(Temp dst, List<BasicBlock> preds) {
+        Instr i = new Instr(Op.PHI);
+        i.dst = dst;
+        i.phiPreds = new ArrayList<>(preds);
+        i.args = new ArrayList<>();
+        for (int k = 0; k < preds.size(); k++) {
+            i.args.add(dst);
+        }
+        return i;
+    }
+
+    // same instruction with its own argument lists (operands are shared)
+    public Instr copy() {
+        Instr i = new Instr(op);
+        i.dst = dst; i.a = a; i.b = b; i.c = c; i.disp = disp; i.label = label;
+        i.args = args == null ? null : new ArrayList<>(args);
+        i.cond = cond; i.target = target; i.alt = alt;
+        i.phiPreds = phiPreds == null ? null : new ArrayList<>(phiPreds);
+        i.cls = cls;
+        return i;
+    }
+
+    // Queries
+
+    public boolean isTerminator() {
+        return op == Op.JUMP || op == Op.CJUMP || op == Op.RET;
+    }
+
+    public boolean isCall() {
+        return op == Op.CALL || op == Op.CALLRT;
+    }
+
+    // no side effects besides defining dst
+    public boolean isPure() {
+        return switch (op) {
+            case MOVE, ADD, SUB, MUL, AND, LT, NOT, LOAD, PHI -> true;
+            default -> false;
+        };
+    }
+
+    public Temp def() {
+        return dst;
+    }
+
+    public List<Temp> uses() {
+        List<Temp> res = new ArrayList<>();
+        for (Operand o : srcs()) {
+            if (o instanceof Temp t) res.add(t);
+        }
+        return res;
+    }
+
+    public List<Operand> srcs() {
+        List<Operand> res = new ArrayList<>();
+        if (a != null) res.add(a);
+        if (b != null) res.add(b);
+        if (c != null) res.add(c);
+        if (args != null) res.addAll(args);
+        return res;
+    }
+
+    // rewrite every source operand in place (used by renaming and folding)
+    public void mapSrcs(UnaryOperator<Operand> f) {
+        if (a != null) a = f.apply(a);
+        if (b != null) b = f.apply(b);
+        if (c != null) c = f.apply(c);
+        if (args != null) args.replaceAll(f);
+    }
+
+    public List<BasicBlock> targets() {
+        return switch (op) {
+            case JUMP -> List.of(target);
+            case CJUMP -> List.of(target, alt);
+            default -> List.of();
+        };
+    }
+
+    @Override
+    public String toString() {
+        return switch (op) {
+            case MOVE -> dst + " = " + a;
+            case ADD -> dst + " = " + a + " + " + b;
+            case SUB -> dst + " = " + a + " - " + b;
+            case MUL -> dst + " = " + a + " * " + b;
+            case AND -> dst + " = " + a + " & " + b;
+            case LT -> dst + " = " + a + " < " + b;
+            case NOT -> dst + " = !" + a;
+            case LOAD -> dst + " = " + address();
+            case STORE -> address() + " = " + c;
+            case CALL -> (dst == null ? "" : dst + " = ") + a + "." + label + "[" + disp + "](" + argString() + ")";
+            case CALLRT -> (dst == null ? "" : dst + " = ") + label + "(" + argString() + ")";
+            case JUMP -> "goto " + target.label;
+            case CJUMP -> "if " + a + " " + cond + " " + b + " goto " + target.label + " else " + alt.label;
+            case RET -> a == null ? "return" : "return " + a;
+            case BOUNDS -> "check 0 <= " + a + " < " + b;
+            case PHI -> {
+                StringBuilder s = new StringBuilder(dst + " = phi(");
+                for (int k = 0; k < args.size(); k++) {
+                    if (k > 0) s.append(", ");
+                    s.append(args.get(k)).append(" [").append(phiPreds.get(k).label).append("]");
+                }
+                yield s.append(")").toString();
+            }
+        };
+    }
+
+    private String address() {
+        String s = "[" + a;
+        if (b != null) s += " + " + b + "*8";
+        if (disp != 0) s += " + " + disp;
+        return s + "]";
+    }
+
+    private String argString() {
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < args.size(); i++) {
+            if (i > 0) s.append(", ");
+            s.append(args.get(i));
+        }
+        return s.toString();
+    }
+}
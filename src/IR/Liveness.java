@@ -0,0 +1,52 @@
+package IR;
+
+import java.util.*;
+
+/**
+ * Backward live-variable analysis over a CFG. Sets are indexed by Temp.id.
+ */
+public class Liveness {
+    public final Map<BasicBlock, BitSet> liveIn = new HashMap<>();
+    public final Map<BasicBlock, BitSet> liveOut = new HashMap<>();
+
+    public Liveness(CFG cfg) {
+        cfg.computeEdges();
+        Map<BasicBlock, BitSet> use = new HashMap<>();
+        Map<BasicBlock, BitSet> def = new HashMap<>();
+        for (BasicBlock b : cfg.blocks) {
+            BitSet u = new BitSet();
+            BitSet d = new BitSet();
+            for (Instr i : b.instrs) {
+                for (Temp t : i.uses()) {
+                    if (!d.get(t.id)) u.set(t.id);
+                }
+                if (i.def() != null) d.set(i.def().id);
+            }
+            use.put(b, u);
+            def.put(b, d);
+            liveIn.put(b, new BitSet());
+            liveOut.put(b, new BitSet());
+        }
+
+        // iterate in reverse layout order until nothing changes
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int k = cfg.blocks.size() - 1; k >= 0; k--) {
+                BasicBlock b = cfg.blocks.get(k);
+                BitSet out = new BitSet();
+                for (BasicBlock s : b.succs) {
+                    out.or(liveIn.get(s));
+                }
+                BitSet in = (BitSet) out.clone();
+                in.andNot(def.get(b));
+                in.or(use.get(b));
+                if (!in.equals(liveIn.get(b)) || !out.equals(liveOut.get(b))) {
+                    liveIn.put(b, in);
+                    liveOut.put(b, out);
+                    changed = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package IR;
+
+/**
+ * Source operand of a three-address instruction: either a virtual
+ * register (Temp) or an integer constant (Const).
+ */
+public abstract class Operand {
+
+    @Override
+    public abstract String toString();
+}
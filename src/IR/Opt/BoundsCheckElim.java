@@ -0,0 +1,175 @@
+package IR.Opt;
+
+import IR.*;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Removes array bounds checks that a simple range analysis proves redundant.
+ * A check "0 <= i < a.length" goes away when both halves hold:
+ * (1) i is non-negative: a non-negative constant, an array length, or built
+ *     from such values by phis and by adding a small constant to a value
+ *     that a dominating test keeps below an array length (so induction
+ *     variables counting up from 0 qualify). Arithmetic wraps, so a sum
+ *     only stays non-negative when its operand is bounded; products never
+ *     count;
+ * (2) i is below the length of a: the check is dominated by the branch of
+ *     an "i < a.length" test (on the same array value) that it can only be
+ *     reached through, as in while (i < a.length) { ... a[i] ... }. For an
+ *     array made by new int[n] in the same method, n is its length too, and
+ *     bounds sums in (1) like a length does.
+ * SSA form makes both facts hold for the whole region the branch dominates.
+ * ! Requires SSA form (run ToSSA first); best run after SCCP.
+ */
+public class BoundsCheckElim implements Pass {
+
+    public PrintStream log;     // checks eliminated per method if not null
+
+    private Map<Temp, Instr> defs;
+    private Map<Instr, BasicBlock> blocks;
+    private List<Instr> allocations;    // new int[n]
+    private Dominators dom;
+
+    // largest constant added to a bounded value; lengths are far below 2^62
+    private static final long SMALL = 1 << 16;
+
+    @Override
+    public String name() {
+        return "BoundsCheckElim";
+    }
+
+    @Override
+    public void run(CFG cfg) {
+        if (!cfg.ssa) {
+            throw new IllegalStateException("BoundsCheckElim requires SSA form; run ToSSA first.");
+        }
+        dom = new Dominators(cfg);
+        defs = new HashMap<>();
+        blocks = new HashMap<>();
+        allocations = new ArrayList<>();
+        for (BasicBlock b : cfg.blocks) {
+            for (Instr i : b.instrs) {
+                if (i.def() != null) defs.put(i.def(), i);
+                blocks.put(i, b);
+                if (i.op == Instr.Op.CALLRT && i.label.equals("mjcalloc")) allocations.add(i);
+            }
+        }
+
+        int total = 0;
+        int removed = 0;
+        for (BasicBlock b : cfg.blocks) {
+            Iterator<Instr> it = b.instrs.iterator();
+            while (it.hasNext()) {
+                Instr i = it.next();
+                if (i.op != Instr.Op.BOUNDS) continue;
+                total++;
+                if (nonNegative(i.a, new HashSet<>()) && belowLength(i.a, i.b, b)) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        if (log != null && total > 0) {
+            log.println(cfg.name + ": eliminated " + removed + " of " + total + " bounds checks");
+        }
+    }
+
+    // Lower bound
+
+    // assumes Temps under consideration are non-negative, so that loops
+    // that only ever add non-negative values are accepted
+    private boolean nonNegative(Operand o, Set<Temp> assumed) {
+        if (o instanceof Const c) return c.value >= 0;
+        Temp t = (Temp) o;
+        Instr d = defs.get(t);
+        if (d == null) return false;    // parameter or value on entry
+        if (!assumed.add(t)) return true;
+        return switch (d.op) {
+            case MOVE -> nonNegative(d.a, assumed);
+            case ADD -> isSmall(d.b) ? boundedSum(d.a, d, assumed)
+                    : isSmall(d.a) && boundedSum(d.b, d, assumed);
+            case AND -> nonNegative(d.a, assumed) || nonNegative(d.b, assumed);
+            case LT, NOT -> true;       // booleans
+            case LOAD -> isLength(t);
+            case PHI -> d.args.stream().allMatch(x -> nonNegative(x, assumed));
+            default -> false;
+        };
+    }
+
+    private static boolean isSmall(Operand o) {
+        return o instanceof Const c && c.value >= 0 && c.value <= SMALL;
+    }
+
+    // x + (a small constant), as computed by add, does not wrap
+    private boolean boundedSum(Operand x, Instr add, Set<Temp> assumed) {
+        return nonNegative(x, assumed) && belowAnyLength(x, add);
+    }
+
+    // Upper bound
+
+    private boolean belowLength(Operand index, Operand length, BasicBlock b) {
+        if (index instanceof Const i && allocated(length) instanceof Const n) {
+            return i.value < n.value;
+        }
+        return decidedBelow(index, b, bound -> sameLength(bound, length));
+    }
+
+    // index is below the length of some array where add runs, so adding a
+    // small constant to it cannot wrap
+    private boolean belowAnyLength(Operand index, Instr add) {
+        return decidedBelow(index, blocks.get(add), bound -> bound instanceof Temp t && isLength(t)
+                || bound instanceof Const c && c.value <= Long.MAX_VALUE / 2
+                || allocatedBefore(bound, add));
+    }
+
+    // an array of length n was allocated before add runs (the runtime
+    // stops the program for lengths that are negative or too large)
+    private boolean allocatedBefore(Operand n, Instr add) {
+        BasicBlock b = blocks.get(add);
+        for (Instr d : allocations) {
+            BasicBlock a = blocks.get(d);
+            if (d.args.get(0).equals(n)
+                    && (a == b ? b.instrs.indexOf(d) < b.instrs.indexOf(add) : dom.dominates(a, b))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // walks up the dominator tree from b looking for a branch that decided
+    // index < bound for a bound that isBound accepts
+    private boolean decidedBelow(Operand index, BasicBlock b, Predicate<Operand> isBound) {
+        for (BasicBlock d = b; d != dom.idom(d); d = dom.idom(d)) {
+            BasicBlock p = dom.idom(d);
+            Instr br = p.last();
+            if (d.preds.size() != 1 || br.op != Instr.Op.CJUMP || br.target == br.alt) continue;
+            Instr.Cond cond = br.target == d ? br.cond : br.cond.negate();
+            if (cond == Instr.Cond.LT && br.a.equals(index) && isBound.test(br.b)) return true;
+            if (cond == Instr.Cond.GT && br.b.equals(index) && isBound.test(br.a)) return true;
+        }
+        return false;
+    }
+
+    // the length word of an array
+    private boolean isLength(Temp t) {
+        Instr d = defs.get(t);
+        return d != null && d.op == Instr.Op.LOAD && d.b == null && d.disp == 0;
+    }
+
+    // both are the length of the same array (lengths never change)
+    private boolean sameLength(Operand x, Operand y) {
+        if (x.equals(y) || allocated(x).equals(allocated(y))) return true;
+        return x instanceof Temp s && y instanceof Temp t && isLength(s) && isLength(t)
+                && defs.get(s).a.equals(defs.get(t).a);
+    }
+
+    // the n of new int[n] if o is the length word of that array, else o
+    private Operand allocated(Operand o) {
+        if (o instanceof Temp t && isLength(t) && defs.get(defs.get(t).a) instanceof Instr d
+                && d.op == Instr.Op.CALLRT && d.label.equals("mjcalloc")) {
+            return d.args.get(0);
+        }
+        return o;
+    }
+}
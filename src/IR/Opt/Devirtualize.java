@@ -0,0 +1,65 @@
+package IR.Opt;
+
+import IR.*;
+import Semantics.*;
+import java.util.*;
+
+/**
+ * Turns virtual calls that class hierarchy analysis proves monomorphic into
+ * direct calls (CALLRT to "Class$method" with the receiver as first
+ * argument), which skip the vtable call and can be inlined. Unless the
+ * receiver is "this" or a new object, the vtable is still loaded before the
+ * call, so that a null receiver faults there as it did on the virtual call
+ * instead of running the method with this == 0.
+ */
+public class Devirtualize implements Pass {
+
+    private ClassHierarchy cha;
+
+    @Override
+    public String name() {
+        return "Devirtualize";
+    }
+
+    @Override
+    public void run(IRProgram program) {
+        cha = new ClassHierarchy(program.global);
+        Pass.super.run(program);
+    }
+
+    @Override
+    public void run(CFG cfg) {
+        if (cha == null) {
+            cha = new ClassHierarchy((GlobalADT) cfg.classADT.prev);
+        }
+        // receivers that are never null: "this" (never assigned) and new objects
+        Set<Operand> nonNull = new HashSet<>();
+        if (!cfg.params.isEmpty()) nonNull.add(cfg.params.get(0));
+        for (BasicBlock b : cfg.blocks) {
+            for (Instr i : b.instrs) {
+                if (isNew(i)) nonNull.add(i.dst);
+            }
+        }
+        for (BasicBlock b : cfg.blocks) {
+            for (int k = 0; k < b.instrs.size(); k++) {
+                Instr i = b.instrs.get(k);
+                if (i.op != Instr.Op.CALL) continue;
+                MethodADT m = cha.uniqueTarget(i.cls, i.label);
+                if (m == null) continue;
+                List<Operand> args = new ArrayList<>(List.of(i.a));
+                args.addAll(i.args);
+                b.instrs.set(k, Instr.callRuntime(i.dst, ClassHierarchy.label(m), args));
+                if (!nonNull.contains(i.a)) {
+                    b.instrs.add(k++, Instr.load(cfg.newTemp("vtable", false), i.a, null, 0));
+                }
+            }
+        }
+    }
+
+    // new C() is CALLRT C$C into a temp of its own
+    private static boolean isNew(Instr i) {
+        if (i.op != Instr.Op.CALLRT || i.dst == null) return false;
+        int d = i.label.indexOf('$');
+        return d > 0 && i.label.equals(i.label.substring(0, d + 1) + i.label.substring(0, d));
+    }
+}
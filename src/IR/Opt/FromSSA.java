@@ -0,0 +1,97 @@
+package IR.Opt;
+
+import IR.*;
+import java.util.*;
+
+/**
+ * Takes a CFG out of SSA form by replacing phis with copies at the end of
+ * each predecessor (Briggs et al., "Practical Improvements to the
+ * Construction and Destruction of Static Single Assignment Form"):
+ * (1) Critical edges into blocks with phis are split, so that the copies for
+ *     one edge never run on another (the "lost copy" problem).
+ * (2) The copies for one edge happen in parallel; they are ordered so that
+ *     no source is overwritten before it is read, breaking cycles with a
+ *     fresh Temp (the "swap" problem).
+ */
+public class FromSSA implements Pass {
+
+    @Override
+    public String name() {
+        return "FromSSA";
+    }
+
+    @Override
+    public void run(CFG cfg) {
+        if (!cfg.ssa) return;
+        cfg.computeEdges();
+        for (BasicBlock b : new ArrayList<>(cfg.blocks)) {
+            List<Instr> phis = new ArrayList<>();
+            for (Instr i : b.instrs) {
+                if (i.op != Instr.Op.PHI) break;
+                phis.add(i);
+            }
+            if (phis.isEmpty()) continue;
+            b.instrs.subList(0, phis.size()).clear();
+
+            if (b.preds.size() == 1) {
+                // the sources are all defined before b, so plain moves will do
+                for (int k = phis.size() - 1; k >= 0; k--) {
+                    b.instrs.add(0, Instr.move(phis.get(k).dst, phis.get(k).args.get(0)));
+                }
+                continue;
+            }
+            for (BasicBlock p : new ArrayList<>(b.preds)) {
+                BasicBlock from = p.succs.size() > 1 ? split(cfg, p, b) : p;
+                List<Temp> dsts = new ArrayList<>();
+                List<Operand> srcs = new ArrayList<>();
+                for (Instr phi : phis) {
+                    dsts.add(phi.dst);
+                    srcs.add(phi.args.get(phi.phiPreds.indexOf(p)));
+                }
+                from.instrs.addAll(from.instrs.size() - 1, sequentialize(cfg, dsts, srcs));
+            }
+        }
+        cfg.ssa = false;
+        cfg.computeEdges();
+    }
+
+    // places a new block on the edge p -> b, right after p in the layout
+    private static BasicBlock split(CFG cfg, BasicBlock p, BasicBlock b) {
+        BasicBlock n = cfg.newBlock();
+        n.add(Instr.jump(b));
+        Instr last = p.last();
+        if (last.target == b) last.target = n;
+        if (last.alt == b) last.alt = n;
+        cfg.blocks.add(cfg.blocks.indexOf(p) + 1, n);
+        return n;
+    }
+
+    // orders the parallel copies dsts[k] = srcs[k] into a sequence of moves
+    private static List<Instr> sequentialize(CFG cfg, List<Temp> dsts, List<Operand> srcs) {
+        List<Instr> res = new ArrayList<>();
+        List<Temp> d = new ArrayList<>();
+        List<Operand> s = new ArrayList<>();
+        for (int k = 0; k < dsts.size(); k++) {
+            if (dsts.get(k) != srcs.get(k)) {
+                d.add(dsts.get(k));
+                s.add(srcs.get(k));
+            }
+        }
+        while (!d.isEmpty()) {
+            int ready = -1;
+            for (int k = 0; k < d.size() && ready < 0; k++) {
+                if (!s.contains(d.get(k))) ready = k;
+            }
+            if (ready < 0) {
+                // every destination is still to be read: save one and retry
+                Temp old = d.get(0);
+                Temp save = cfg.newTemp(null, old.ref);
+                res.add(Instr.move(save, old));
+                s.replaceAll(o -> o == old ? save : o);
+                ready = 0;
+            }
+            res.add(Instr.move(d.remove(ready), s.remove(ready)));
+        }
+        return res;
+    }
+}
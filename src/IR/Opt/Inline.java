@@ -0,0 +1,166 @@
+package IR.Opt;
+
+import IR.*;
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * Replaces direct method calls (left by Devirtualize) with a copy of the
+ * callee's body. A call is inlined when
+ * (1) the callee's cost is at most maxSize, where cost is its size in
+ *     instructions minus what the call itself costs (argument moves and the
+ *     call) and a bonus for every constant argument SCCP can fold into it;
+ * (2) it sits at most maxDepth levels deep in already inlined bodies;
+ * (3) the callee occurs at most maxRecursion times on that chain;
+ * (4) the caller grows by at most maxGrowth instructions in total.
+ * Callee bodies are taken from a snapshot made before the pass, so every
+ * decision is based on the original methods.
+ * ! Must run before ToSSA.
+ */
+public class Inline implements Pass {
+
+    public int maxSize = 20;
+    public int maxDepth = 3;
+    public int maxRecursion = 0;
+    public int maxGrowth = 500;
+    public PrintStream log;     // one line per decision if not null
+
+    private static final int CONST_ARG_BONUS = 2;
+
+    private Map<String, CFG> originals;
+
+    // call site, with the methods whose inlined bodies it came from
+    private record Site(Instr call, List<String> chain) { }
+
+    @Override
+    public String name() {
+        return "Inline";
+    }
+
+    @Override
+    public void run(IRProgram program) {
+        originals = new HashMap<>();
+        for (CFG m : program.methods) {
+            originals.put(m.name, m.copy());
+        }
+        for (CFG m : program.methods) {
+            run(m);
+        }
+    }
+
+    @Override
+    public void run(CFG cfg) {
+        if (originals == null || cfg.ssa) return;
+        Map<Instr, BasicBlock> where = new HashMap<>();
+        Deque<Site> work = new ArrayDeque<>();
+        for (BasicBlock b : cfg.blocks) {
+            for (Instr i : b.instrs) {
+                where.put(i, b);
+                if (isMethodCall(i)) work.add(new Site(i, List.of(cfg.name)));
+            }
+        }
+
+        int growth = 0;
+        while (!work.isEmpty()) {
+            Site site = work.poll();
+            CFG callee = originals.get(site.call.label);
+            String reason = reject(site, callee, growth);
+            if (log != null) {
+                log.println("  ".repeat(site.chain.size() - 1) + site.chain.get(site.chain.size() - 1)
+                        + " -> " + callee.name + ": " + (reason == null ? "inlined (cost " + cost(site.call, callee) + ")"
+                                                                        : "not inlined, " + reason));
+            }
+            if (reason != null) continue;
+            growth += callee.size();
+            List<String> chain = new ArrayList<>(site.chain);
+            chain.add(callee.name);
+            // depth first, so that the log reads as a call tree
+            List<Instr> calls = inline(cfg, site.call, callee, where);
+            for (int k = calls.size() - 1; k >= 0; k--) {
+                work.push(new Site(calls.get(k), chain));
+            }
+        }
+    }
+
+    private boolean isMethodCall(Instr i) {
+        return i.op == Instr.Op.CALLRT && originals.containsKey(i.label);
+    }
+
+    private static int cost(Instr call, CFG callee) {
+        int cost = callee.size() - (call.args.size() + 1);
+        for (Operand o : call.args) {
+            if (o instanceof Const) cost -= CONST_ARG_BONUS;
+        }
+        return cost;
+    }
+
+    // why the call should not be inlined, or null if it should
+    private String reject(Site site, CFG callee, int growth) {
+        if (Collections.frequency(site.chain, callee.name) > maxRecursion) {
+            return "recursive";
+        }
+        if (site.chain.size() > maxDepth) {
+            return "too deep (" + site.chain.size() + " > " + maxDepth + ")";
+        }
+        int cost = cost(site.call, callee);
+        if (cost > maxSize) {
+            return "too large (cost " + cost + " > " + maxSize + ")";
+        }
+        if (growth + callee.size() > maxGrowth) {
+            return "caller too large";
+        }
+        return null;
+    }
+
+    // splices a fresh copy of callee in place of call; returns the method
+    // calls in the copy
+    private List<Instr> inline(CFG cfg, Instr call, CFG callee, Map<Instr, BasicBlock> where) {
+        BasicBlock b = where.get(call);
+        int k = b.instrs.indexOf(call);
+
+        // everything after the call continues in a new block
+        BasicBlock cont = cfg.newBlock();
+        List<Instr> rest = b.instrs.subList(k + 1, b.instrs.size());
+        cont.instrs.addAll(rest);
+        for (Instr i : rest) where.put(i, cont);
+        b.instrs.subList(k, b.instrs.size()).clear();
+
+        Map<Temp, Temp> temps = new HashMap<>();
+        Map<BasicBlock, BasicBlock> blocks = new LinkedHashMap<>();
+        for (BasicBlock cb : callee.blocks) {
+            blocks.put(cb, cfg.newBlock());
+        }
+        for (int j = 0; j < callee.params.size(); j++) {
+            Temp p = cfg.newTemp(callee.params.get(j));
+            temps.put(callee.params.get(j), p);
+            b.add(Instr.move(p, call.args.get(j)));
+        }
+        b.add(Instr.jump(blocks.get(callee.entry())));
+
+        List<Instr> calls = new ArrayList<>();
+        for (BasicBlock cb : callee.blocks) {
+            BasicBlock nb = blocks.get(cb);
+            for (Instr i : cb.instrs) {
+                Instr c = i.copy();
+                c.mapSrcs(o -> o instanceof Temp t ? temps.computeIfAbsent(t, x -> cfg.newTemp(x)) : o);
+                if (c.dst != null) c.dst = temps.computeIfAbsent(c.dst, x -> cfg.newTemp(x));
+                if (c.target != null) c.target = blocks.get(c.target);
+                if (c.alt != null) c.alt = blocks.get(c.alt);
+                if (c.op == Instr.Op.RET) {
+                    if (call.dst != null && c.a != null) nb.add(Instr.move(call.dst, c.a));
+                    nb.add(Instr.jump(cont));
+                } else {
+                    nb.add(c);
+                    if (isMethodCall(c)) calls.add(c);
+                }
+            }
+            for (Instr i : nb.instrs) where.put(i, nb);
+        }
+
+        int at = cfg.blocks.indexOf(b) + 1;
+        List<BasicBlock> placed = new ArrayList<>(blocks.values());
+        placed.add(cont);
+        cfg.blocks.addAll(at, placed);
+        return calls;
+    }
+}
@@ -0,0 +1,195 @@
+package IR.Opt;
+
+import IR.*;
+import java.util.*;
+
+/**
+ * Sparse conditional constant propagation (Wegman & Zadeck) on SSA form.
+ * Every Temp starts out undetermined and can only move down the lattice
+ * undetermined -> constant -> varying. Only edges found to be executable
+ * feed phis, so a branch on a constant never makes the other arm's values
+ * varying. Afterwards:
+ * (1) Uses of constant Temps become Consts and their definitions are dropped.
+ * (2) Copies between Temps are folded away, which SSA makes safe.
+ * (3) Conditional jumps on constants become jumps.
+ * (4) Blocks that can no longer be reached are removed.
+ * ! Requires SSA form (run ToSSA first).
+ */
+public class SCCP implements Pass {
+
+    // lattice value: undetermined (TOP), a constant, or varying (BOTTOM)
+    private record Value(int kind, long c) {
+        static final Value TOP = new Value(0, 0);
+        static final Value BOTTOM = new Value(2, 0);
+
+        static Value of(long c) {
+            return new Value(1, c);
+        }
+
+        boolean isConst() {
+            return kind == 1;
+        }
+
+        Value meet(Value o) {
+            if (this == TOP) return o;
+            if (o == TOP) return this;
+            return this.equals(o) ? this : BOTTOM;
+        }
+    }
+
+    private Map<Temp, Value> values;
+    private Map<Temp, List<Instr>> users;
+    private Map<Instr, BasicBlock> blockOf;
+    private Set<BasicBlock> executable;
+    private Set<List<BasicBlock>> executableEdges;
+    private Deque<BasicBlock[]> flowWork;
+    private Deque<Instr> ssaWork;
+
+    @Override
+    public String name() {
+        return "SCCP";
+    }
+
+    @Override
+    public void run(CFG cfg) {
+        if (!cfg.ssa) {
+            throw new IllegalStateException("SCCP requires SSA form; run ToSSA first.");
+        }
+        cfg.computeEdges();
+        values = new HashMap<>();
+        users = new HashMap<>();
+        blockOf = new HashMap<>();
+        executable = new HashSet<>();
+        executableEdges = new HashSet<>();
+        flowWork = new ArrayDeque<>();
+        ssaWork = new ArrayDeque<>();
+        for (BasicBlock b : cfg.blocks) {
+            for (Instr i : b.instrs) {
+                blockOf.put(i, b);
+                if (i.def() != null) values.put(i.def(), Value.TOP);
+                for (Temp t : i.uses()) {
+                    users.computeIfAbsent(t, k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        flowWork.add(new BasicBlock[] { null, cfg.entry() });
+        while (!flowWork.isEmpty() || !ssaWork.isEmpty()) {
+            if (!flowWork.isEmpty()) {
+                BasicBlock[] e = flowWork.poll();
+                if (!executableEdges.add(Arrays.asList(e))) continue;
+                BasicBlock b = e[1];
+                boolean first = executable.add(b);
+                for (Instr i : b.instrs) {
+                    if (i.op == Instr.Op.PHI || first) visit(i);
+                }
+            } else {
+                Instr i = ssaWork.poll();
+                if (executable.contains(blockOf.get(i))) visit(i);
+            }
+        }
+
+        rewrite(cfg);
+    }
+
+    // Propagation
+
+    // Temps without a definition (parameters, values on entry) are varying
+    private Value value(Operand o) {
+        if (o instanceof Const c) return Value.of(c.value);
+        return values.getOrDefault((Temp) o, Value.BOTTOM);
+    }
+
+    private void addEdge(BasicBlock from, BasicBlock to) {
+        flowWork.add(new BasicBlock[] { from, to });
+    }
+
+    private void visit(Instr i) {
+        BasicBlock b = blockOf.get(i);
+        switch (i.op) {
+            case JUMP -> addEdge(b, i.target);
+            case CJUMP -> {
+                Value x = value(i.a);
+                Value y = value(i.b);
+                if (x.isConst() && y.isConst()) {
+                    addEdge(b, i.cond.eval(x.c, y.c) ? i.target : i.alt);
+                } else if (x == Value.BOTTOM || y == Value.BOTTOM) {
+                    addEdge(b, i.target);
+                    addEdge(b, i.alt);
+                }
+            }
+            case RET, STORE -> { }
+            default -> {
+                if (i.dst == null) return;
+                Value v = values.get(i.dst).meet(eval(i, b));
+                if (!v.equals(values.get(i.dst))) {
+                    values.put(i.dst, v);
+                    ssaWork.addAll(users.getOrDefault(i.dst, List.of()));
+                }
+            }
+        }
+    }
+
+    private Value eval(Instr i, BasicBlock b) {
+        switch (i.op) {
+            case PHI -> {
+                Value v = Value.TOP;
+                for (int k = 0; k < i.args.size(); k++) {
+                    if (executableEdges.contains(Arrays.asList(i.phiPreds.get(k), b))) {
+                        v = v.meet(value(i.args.get(k)));
+                    }
+                }
+                return v;
+            }
+            case MOVE -> {
+                return value(i.a);
+            }
+            case NOT -> {
+                Value x = value(i.a);
+                return x.isConst() ? Value.of(x.c ^ 1) : x;
+            }
+            case ADD, SUB, MUL, AND, LT -> {
+                Value x = value(i.a);
+                Value y = value(i.b);
+                if (x == Value.BOTTOM || y == Value.BOTTOM) return Value.BOTTOM;
+                if (x == Value.TOP || y == Value.TOP) return Value.TOP;
+                return Value.of(switch (i.op) {
+                    case ADD -> x.c + y.c;
+                    case SUB -> x.c - y.c;
+                    case MUL -> x.c * y.c;
+                    case AND -> x.c & y.c;
+                    default -> x.c < y.c ? 1 : 0;
+                });
+            }
+            default -> {
+                return Value.BOTTOM;     // memory and calls
+            }
+        }
+    }
+
+    // Rewriting
+
+    private void rewrite(CFG cfg) {
+        Map<Temp, Temp> copyOf = new HashMap<>();
+        for (BasicBlock b : cfg.blocks) {
+            for (Instr i : b.instrs) {
+                if (i.op == Instr.Op.MOVE && i.a instanceof Temp src) copyOf.put(i.dst, src);
+            }
+        }
+        for (BasicBlock b : cfg.blocks) {
+            b.instrs.removeIf(i -> i.isPure() && value(i.dst).isConst() || copyOf.containsKey(i.dst));
+            for (Instr i : b.instrs) {
+                i.mapSrcs(o -> {
+                    if (!(o instanceof Temp t)) return o;
+                    while (copyOf.containsKey(t)) t = copyOf.get(t);
+                    return value(t).isConst() ? new Const(value(t).c) : t;
+                });
+            }
+            Instr last = b.last();
+            if (last.op == Instr.Op.CJUMP && last.a instanceof Const x && last.b instanceof Const y) {
+                b.instrs.set(b.instrs.size() - 1, Instr.jump(last.cond.eval(x.value, y.value) ? last.target : last.alt));
+            }
+        }
+        SimplifyCFG.removeUnreachable(cfg);
+    }
+}
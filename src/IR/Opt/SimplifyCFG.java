@@ -0,0 +1,104 @@
+package IR.Opt;
+
+import IR.*;
+import java.util.*;
+
+/**
+ * Cleans up the CFG left behind by lowering (and later passes):
+ * (1) Retargets jumps to blocks that only jump elsewhere.
+ * (2) Turns conditional jumps with identical targets into jumps.
+ * (3) Removes blocks unreachable from the entry.
+ * (4) Merges a block into its only predecessor when that predecessor
+ *     unconditionally jumps to it.
+ * In SSA form only (3) is done, since the others would have to rewrite phis.
+ */
+public class SimplifyCFG implements Pass {
+
+    @Override
+    public String name() {
+        return "SimplifyCFG";
+    }
+
+    @Override
+    public void run(CFG cfg) {
+        if (cfg.ssa) {
+            removeUnreachable(cfg);
+            return;
+        }
+        threadJumps(cfg);
+        removeUnreachable(cfg);
+        mergeBlocks(cfg);
+    }
+
+    // final destination of a chain of empty forwarding blocks
+    private static BasicBlock forward(BasicBlock b, BasicBlock entry) {
+        Set<BasicBlock> seen = new HashSet<>();
+        while (b != entry && b.instrs.size() == 1 && b.last().op == Instr.Op.JUMP && seen.add(b)) {
+            b = b.last().target;
+        }
+        return b;
+    }
+
+    private static void threadJumps(CFG cfg) {
+        for (BasicBlock b : cfg.blocks) {
+            Instr last = b.last();
+            if (last.op == Instr.Op.JUMP) {
+                last.target = forward(last.target, cfg.entry());
+            } else if (last.op == Instr.Op.CJUMP) {
+                last.target = forward(last.target, cfg.entry());
+                last.alt = forward(last.alt, cfg.entry());
+                if (last.target == last.alt) {
+                    b.instrs.set(b.instrs.size() - 1, Instr.jump(last.target));
+                }
+            }
+        }
+    }
+
+    public static void removeUnreachable(CFG cfg) {
+        Set<BasicBlock> reached = new HashSet<>();
+        Deque<BasicBlock> work = new ArrayDeque<>();
+        work.push(cfg.entry());
+        reached.add(cfg.entry());
+        while (!work.isEmpty()) {
+            for (BasicBlock s : work.pop().last().targets()) {
+                if (reached.add(s)) work.push(s);
+            }
+        }
+        cfg.blocks.removeIf(b -> !reached.contains(b));
+        cfg.computeEdges();
+
+        // phis forget the values that flowed in along removed edges
+        for (BasicBlock b : cfg.blocks) {
+            for (Instr phi : b.instrs) {
+                if (phi.op != Instr.Op.PHI) break;
+                for (int k = phi.phiPreds.size() - 1; k >= 0; k--) {
+                    if (!b.preds.contains(phi.phiPreds.get(k))) {
+                        phi.phiPreds.remove(k);
+                        phi.args.remove(k);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void mergeBlocks(CFG cfg) {
+        cfg.computeEdges();
+        Set<BasicBlock> merged = new HashSet<>();
+        for (BasicBlock b : cfg.blocks) {
+            if (merged.contains(b)) continue;
+            while (b.last().op == Instr.Op.JUMP) {
+                BasicBlock s = b.last().target;
+                if (s == b || s == cfg.entry() || s.preds.size() != 1) break;
+                b.instrs.remove(b.instrs.size() - 1);
+                b.instrs.addAll(s.instrs);
+                b.succs.clear();
+                b.succs.addAll(s.succs);
+                for (BasicBlock t : s.succs) {
+                    t.preds.replaceAll(p -> p == s ? b : p);
+                }
+                merged.add(s);
+            }
+        }
+        cfg.blocks.removeIf(merged::contains);
+    }
+}
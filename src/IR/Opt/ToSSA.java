@@ -0,0 +1,122 @@
+package IR.Opt;
+
+import IR.*;
+import java.util.*;
+
+/**
+ * Puts a CFG into pruned SSA form (Cytron et al.):
+ * (1) Places phis at the iterated dominance frontier of every block that
+ *     defines a variable, but only where the variable is live on entry.
+ * (2) Renames every definition to a fresh Temp while walking the dominator
+ *     tree, and points each use at the reaching definition.
+ * Only Temps with several definitions (or that are also live on entry, like
+ * reassigned parameters) are renamed; expression temporaries already have a
+ * single definition that dominates all of their uses. The original Temp
+ * stands for the value on entry, so parameters keep their incoming value and
+ * uninitialized locals keep reading whatever their home holds.
+ */
+public class ToSSA implements Pass {
+
+    // marks where the definitions pushed by a dominator subtree go out of scope
+    private static final BasicBlock POP = new BasicBlock("pop");
+
+    @Override
+    public String name() {
+        return "ToSSA";
+    }
+
+    @Override
+    public void run(CFG cfg) {
+        if (cfg.ssa) return;
+        SimplifyCFG.removeUnreachable(cfg);
+        Liveness live = new Liveness(cfg);
+        Dominators dom = new Dominators(cfg);
+        BitSet liveOnEntry = live.liveIn.get(cfg.entry());
+
+        // definition sites of every Temp
+        Map<Temp, Set<BasicBlock>> defSites = new LinkedHashMap<>();
+        Map<Temp, Integer> numDefs = new HashMap<>();
+        for (BasicBlock b : cfg.blocks) {
+            for (Instr i : b.instrs) {
+                if (i.def() == null) continue;
+                defSites.computeIfAbsent(i.def(), t -> new LinkedHashSet<>()).add(b);
+                numDefs.merge(i.def(), 1, Integer::sum);
+            }
+        }
+        Set<Temp> vars = new LinkedHashSet<>();
+        for (Temp t : defSites.keySet()) {
+            if (numDefs.get(t) > 1 || liveOnEntry.get(t.id)) vars.add(t);
+        }
+
+        Map<Instr, Temp> phiVar = placePhis(cfg, dom, live, defSites, vars);
+        rename(cfg, dom, vars, phiVar);
+        cfg.ssa = true;
+    }
+
+    private static Map<Instr, Temp> placePhis(CFG cfg, Dominators dom, Liveness live,
+                                              Map<Temp, Set<BasicBlock>> defSites, Set<Temp> vars) {
+        Map<Instr, Temp> phiVar = new HashMap<>();
+        for (Temp v : vars) {
+            Set<BasicBlock> hasPhi = new HashSet<>();
+            Deque<BasicBlock> work = new ArrayDeque<>(defSites.get(v));
+            work.add(cfg.entry());      // the value on entry counts as a definition
+            Set<BasicBlock> queued = new HashSet<>(work);
+            while (!work.isEmpty()) {
+                for (BasicBlock y : dom.frontier(work.pop())) {
+                    if (hasPhi.contains(y) || !live.liveIn.get(y).get(v.id)) continue;
+                    Instr phi = Instr.phi(v, y.preds);
+                    y.instrs.add(0, phi);
+                    phiVar.put(phi, v);
+                    hasPhi.add(y);
+                    if (queued.add(y)) work.add(y);
+                }
+            }
+        }
+        return phiVar;
+    }
+
+    private static void rename(CFG cfg, Dominators dom, Set<Temp> vars, Map<Instr, Temp> phiVar) {
+        Map<Temp, Deque<Temp>> stacks = new HashMap<>();
+        for (Temp v : vars) {
+            stacks.put(v, new ArrayDeque<>(List.of(v)));
+        }
+
+        // preorder walk of the dominator tree
+        Deque<BasicBlock> work = new ArrayDeque<>();
+        Deque<List<Temp>> pushed = new ArrayDeque<>();
+        work.push(cfg.entry());
+        while (!work.isEmpty()) {
+            BasicBlock b = work.pop();
+            if (b == POP) {
+                for (Temp v : pushed.pop()) stacks.get(v).pop();
+                continue;
+            }
+            List<Temp> defs = new ArrayList<>();
+            for (Instr i : b.instrs) {
+                if (i.op != Instr.Op.PHI) {
+                    i.mapSrcs(o -> o instanceof Temp t && stacks.containsKey(t) ? stacks.get(t).peek() : o);
+                }
+                Temp v = i.op == Instr.Op.PHI ? phiVar.get(i) : i.def();
+                if (v != null && stacks.containsKey(v)) {
+                    Temp fresh = cfg.newTemp(v);
+                    stacks.get(v).push(fresh);
+                    defs.add(v);
+                    i.dst = fresh;
+                }
+            }
+            for (BasicBlock s : b.succs) {
+                for (Instr phi : s.instrs) {
+                    if (phi.op != Instr.Op.PHI) break;
+                    int k = phi.phiPreds.indexOf(b);
+                    phi.args.set(k, stacks.get(phiVar.get(phi)).peek());
+                }
+            }
+            pushed.push(defs);
+            work.push(POP);
+            List<BasicBlock> kids = dom.children(b);
+            for (int k = kids.size() - 1; k >= 0; k--) {
+                work.push(kids.get(k));
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package IR;
+
+/**
+ * A transformation over the IR. Most passes work one method at a time;
+ * whole-program passes override run(IRProgram).
+ */
+public interface Pass {
+
+    String name();
+
+    void run(CFG cfg);
+
+    default void run(IRProgram program) {
+        for (CFG cfg : program.methods) {
+            run(cfg);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package IR;
+
+import java.util.*;
+
+/**
+ * Runs a pipeline of passes over a program, checking the IR after each one.
+ */
+public class PassManager {
+    private final List<Pass> passes = new ArrayList<>();
+
+    public PassManager add(Pass p) {
+        passes.add(p);
+        return this;
+    }
+
+    public List<Pass> passes() {
+        return passes;
+    }
+
+    public void run(IRProgram program) {
+        for (Pass p : passes) {
+            p.run(program);
+            for (CFG cfg : program.methods) {
+                Verifier.verify(cfg, p.name());
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package IR;
+
+/**
+ * Virtual register. Every MiniJava parameter and local gets one Temp for
+ * its whole lifetime; intermediate values get fresh Temps.
+ */
+public class Temp extends Operand {
+    public final int id;
+    public final String name;   // source variable name, or null for temporaries
+    public final boolean ref;   // holds a heap pointer, which the collector must find
+
+    public Temp(int id, String name, boolean ref) {
+        this.id = id;
+        this.name = name;
+        this.ref = ref;
+    }
+
+    @Override
+    public String toString() {
+        return name == null ? "t" + id : name + "." + id;
+    }
+}
@@ -0,0 +1,67 @@
+package IR;
+
+import java.util.*;
+
+/**
+ * Structural sanity checks on a CFG. Throws IllegalStateException naming the
+ * pass that broke the IR.
+ */
+public class Verifier {
+
+    public static void verify(CFG cfg, String after) {
+        if (cfg.blocks.isEmpty()) {
+            fail(cfg, after, "no entry block");
+        }
+        Set<BasicBlock> placed = new HashSet<>(cfg.blocks);
+        for (BasicBlock b : cfg.blocks) {
+            if (!b.isTerminated()) {
+                fail(cfg, after, b.label + " does not end in a terminator");
+            }
+            for (int k = 0; k < b.instrs.size() - 1; k++) {
+                if (b.instrs.get(k).isTerminator()) {
+                    fail(cfg, after, b.label + " has a terminator before its end");
+                }
+            }
+            for (BasicBlock t : b.last().targets()) {
+                if (!placed.contains(t)) {
+                    fail(cfg, after, b.label + " jumps to " + t.label + ", which is not in the method");
+                }
+            }
+        }
+        cfg.computeEdges();
+        Set<Temp> defined = new HashSet<>();
+        for (BasicBlock b : cfg.blocks) {
+            phis(cfg, after, b);
+            if (!cfg.ssa) continue;
+            for (Instr i : b.instrs) {
+                if (i.def() != null && !defined.add(i.def())) {
+                    fail(cfg, after, i.def() + " is defined more than once in SSA form");
+                }
+            }
+        }
+    }
+
+    // phis come first and have exactly one argument per predecessor
+    private static void phis(CFG cfg, String after, BasicBlock b) {
+        boolean body = false;
+        for (Instr i : b.instrs) {
+            if (i.op != Instr.Op.PHI) {
+                body = true;
+                continue;
+            }
+            if (!cfg.ssa) {
+                fail(cfg, after, b.label + " has a phi outside SSA form");
+            }
+            if (body) {
+                fail(cfg, after, b.label + " has a phi after a non-phi instruction");
+            }
+            if (i.args.size() != i.phiPreds.size() || !new HashSet<>(i.phiPreds).equals(new HashSet<>(b.preds))) {
+                fail(cfg, after, i.dst + " in " + b.label + " does not match the block's predecessors");
+            }
+        }
+    }
+
+    private static void fail(CFG cfg, String after, String msg) {
+        throw new IllegalStateException("Malformed IR in " + cfg.name + " after " + after + ": " + msg);
+    }
+}
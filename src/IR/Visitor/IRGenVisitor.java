@@ -0,0 +1,389 @@
+package IR.Visitor;
+
+import AST.*;
+import AST.Visitor.Visitor;
+import IR.*;
+import Semantics.*;
+import java.util.*;
+
+/**
+ * Lowers a type-checked AST into one CFG per method.
+ * Parameters and locals become Temps (marked ref if they hold objects or
+ * arrays), fields become LOAD/STORE relative to "this", and conditions of
+ * If/While are compiled straight into CJUMPs with short-circuit evaluation
+ * of &&.
+ * ! Must run after P6TypeCheckingVisitor (relies on ASTNode.type and offsets).
+ */
+public class IRGenVisitor implements Visitor {
+
+    private final GlobalADT global;
+    private final IRProgram program;
+
+    private ClassADT c;
+    private MethodADT m;
+    private CFG cfg;
+    private BasicBlock cur;
+    private Temp self;
+    private Map<String, Temp> vars;
+    private Operand res;    // result of the last visited expression
+
+    public IRGenVisitor(GlobalADT global) {
+        this.global = global;
+        this.program = new IRProgram(global);
+    }
+
+    public IRProgram getProgram() {
+        return program;
+    }
+
+    // Helpers
+
+    private Operand eval(Exp e) {
+        e.accept(this);
+        return res;
+    }
+
+    private void emit(Instr i) {
+        cur.add(i);
+    }
+
+    // appends b to the layout, falling through from the current block
+    private void place(BasicBlock b) {
+        if (!cur.isTerminated()) {
+            emit(Instr.jump(b));
+        }
+        cfg.blocks.add(b);
+        cur = b;
+    }
+
+    private void startMethod(String name, ClassADT c, MethodADT m) {
+        this.c = c;
+        this.m = m;
+        cfg = new CFG(name, c, m);
+        vars = new HashMap<>();
+        cur = cfg.newBlock();
+        cfg.blocks.add(cur);
+        program.methods.add(cfg);
+    }
+
+    private Operand loadVar(String s) {
+        if (m.get(s) != null) {
+            return vars.get(s);
+        }
+        Temp t = cfg.newTemp(null, c.deepgetField(s).isReference());
+        emit(Instr.load(t, self, null, c.fieldToOffset(s)));
+        return t;
+    }
+
+    private void storeVar(String s, Operand v) {
+        if (m.get(s) != null) {
+            emit(Instr.move(vars.get(s), v));
+        } else {
+            emit(Instr.store(self, null, c.fieldToOffset(s), v));
+        }
+    }
+
+    // compiles e as a branch to t (if true) or f (if false)
+    private void cond(Exp e, BasicBlock t, BasicBlock f) {
+        switch (e) {
+            case LessThan lt -> {
+                Operand a = eval(lt.e1);
+                Operand b = eval(lt.e2);
+                emit(Instr.cjump(Instr.Cond.LT, a, b, t, f));
+            }
+            case And and -> {
+                BasicBlock rhs = cfg.newBlock();
+                cond(and.e1, rhs, f);
+                place(rhs);
+                cond(and.e2, t, f);
+            }
+            case Not not -> cond(not.e, f, t);
+            case True tr -> emit(Instr.jump(t));
+            case False fa -> emit(Instr.jump(f));
+            default -> emit(Instr.cjump(Instr.Cond.NE, eval(e), new Const(0), t, f));
+        }
+    }
+
+    private Operand binop(Instr.Op op, Exp e1, Exp e2) {
+        Operand a = eval(e1);
+        Operand b = eval(e2);
+        Temp t = cfg.newTemp();
+        emit(Instr.binop(op, t, a, b));
+        return t;
+    }
+
+    // arrays are [length][elements...]
+    private void checkBounds(Operand arr, Operand index) {
+        Temp len = cfg.newTemp();
+        emit(Instr.load(len, arr, null, 0));
+        emit(Instr.bounds(index, len));
+    }
+
+    // Declarations
+
+    @Override
+    public void visit(Program n) {
+        n.m.accept(this);
+        for (int i = 0; i < n.cl.size(); i++) {
+            n.cl.get(i).accept(this);
+        }
+    }
+
+    @Override
+    public void visit(MainClass n) {
+        ClassADT main = (ClassADT) global.get(ADT.MAIN_NAME);
+        startMethod("asm_main", main, (MethodADT) main.getMethod(ADT.MAIN_NAME));
+        self = null;
+        n.s.accept(this);
+        emit(Instr.ret(null));
+    }
+
+    @Override
+    public void visit(ClassDeclSimple n) {
+        ClassADT cls = (ClassADT) global.get(n.i.s);
+        program.classes.add(cls);
+        for (int i = 0; i < n.ml.size(); i++) {
+            c = cls;
+            n.ml.get(i).accept(this);
+        }
+    }
+
+    @Override
+    public void visit(ClassDeclExtends n) {
+        ClassADT cls = (ClassADT) global.get(n.i.s);
+        program.classes.add(cls);
+        for (int i = 0; i < n.ml.size(); i++) {
+            c = cls;
+            n.ml.get(i).accept(this);
+        }
+    }
+
+    @Override
+    public void visit(MethodDecl n) {
+        ClassADT cls = c;
+        startMethod(cls.name + "$" + n.i.s, cls, (MethodADT) cls.getMethod(n.i.s));
+        self = cfg.newTemp("this", true);
+        cfg.params.add(self);
+        for (int i = 0; i < n.fl.size(); i++) {
+            String s = n.fl.get(i).i.s;
+            Temp t = cfg.newTemp(s, m.get(s).isReference());
+            vars.put(s, t);
+            cfg.params.add(t);
+        }
+        for (int i = 0; i < n.vl.size(); i++) {
+            String s = n.vl.get(i).i.s;
+            vars.put(s, cfg.newTemp(s, m.get(s).isReference()));
+        }
+        for (int i = 0; i < n.sl.size(); i++) {
+            n.sl.get(i).accept(this);
+        }
+        emit(Instr.ret(eval(n.e)));
+    }
+
+    // Statements
+
+    @Override
+    public void visit(Block n) {
+        for (int i = 0; i < n.sl.size(); i++) {
+            n.sl.get(i).accept(this);
+        }
+    }
+
+    @Override
+    public void visit(If n) {
+        BasicBlock thenB = cfg.newBlock();
+        BasicBlock elseB = cfg.newBlock();
+        BasicBlock done = cfg.newBlock();
+        cond(n.e, thenB, elseB);
+        place(thenB);
+        n.s1.accept(this);
+        emit(Instr.jump(done));
+        place(elseB);
+        n.s2.accept(this);
+        place(done);
+    }
+
+    @Override
+    public void visit(While n) {
+        BasicBlock body = cfg.newBlock();
+        BasicBlock test = cfg.newBlock();
+        BasicBlock exit = cfg.newBlock();
+        emit(Instr.jump(test));
+        place(body);
+        n.s.accept(this);
+        place(test);
+        cond(n.e, body, exit);
+        place(exit);
+    }
+
+    @Override
+    public void visit(Print n) {
+        Operand v = eval(n.e);
+        emit(Instr.callRuntime(null, "put", new ArrayList<>(List.of(v))));
+    }
+
+    @Override
+    public void visit(Assign n) {
+        storeVar(n.i.s, eval(n.e));
+    }
+
+    @Override
+    public void visit(ArrayAssign n) {
+        Operand arr = loadVar(n.i.s);
+        Operand index = eval(n.e1);
+        Operand v = eval(n.e2);
+        checkBounds(arr, index);
+        emit(Instr.store(arr, index, 8, v));
+    }
+
+    // Expressions
+
+    @Override
+    public void visit(And n) {
+        Temp t = cfg.newTemp();
+        BasicBlock rhs = cfg.newBlock();
+        BasicBlock done = cfg.newBlock();
+        emit(Instr.move(t, eval(n.e1)));
+        emit(Instr.cjump(Instr.Cond.NE, t, new Const(0), rhs, done));
+        place(rhs);
+        emit(Instr.move(t, eval(n.e2)));
+        place(done);
+        res = t;
+    }
+
+    @Override
+    public void visit(LessThan n) {
+        res = binop(Instr.Op.LT, n.e1, n.e2);
+    }
+
+    @Override
+    public void visit(Plus n) {
+        res = binop(Instr.Op.ADD, n.e1, n.e2);
+    }
+
+    @Override
+    public void visit(Minus n) {
+        res = binop(Instr.Op.SUB, n.e1, n.e2);
+    }
+
+    @Override
+    public void visit(Times n) {
+        res = binop(Instr.Op.MUL, n.e1, n.e2);
+    }
+
+    @Override
+    public void visit(ArrayLookup n) {
+        Operand arr = eval(n.e1);
+        Operand index = eval(n.e2);
+        checkBounds(arr, index);
+        Temp t = cfg.newTemp();
+        emit(Instr.load(t, arr, index, 8));
+        res = t;
+    }
+
+    @Override
+    public void visit(ArrayLength n) {
+        Operand arr = eval(n.e);
+        Temp t = cfg.newTemp();
+        emit(Instr.load(t, arr, null, 0));
+        res = t;
+    }
+
+    @Override
+    public void visit(Call n) {
+        ClassADT cls = (ClassADT) n.e.type;
+        Operand receiver = eval(n.e);
+        List<Operand> args = new ArrayList<>();
+        for (int i = 0; i < n.el.size(); i++) {
+            args.add(eval(n.el.get(i)));
+        }
+        Temp t = cfg.newTemp(null, n.type.isReference());
+        // vtable = [parent, constructor, methods...]
+        emit(Instr.call(t, receiver, cls, n.i.s, 8 + cls.methodToOffset(n.i.s), args));
+        res = t;
+    }
+
+    @Override
+    public void visit(IntegerLiteral n) {
+        res = new Const(n.i);
+    }
+
+    @Override
+    public void visit(True n) {
+        res = new Const(1);
+    }
+
+    @Override
+    public void visit(False n) {
+        res = new Const(0);
+    }
+
+    @Override
+    public void visit(IdentifierExp n) {
+        res = loadVar(n.s);
+    }
+
+    @Override
+    public void visit(This n) {
+        res = self;
+    }
+
+    @Override
+    public void visit(NewArray n) {
+        Operand len = eval(n.e);
+        Temp arr = cfg.newTemp(null, true);
+        // the runtime checks len and stores it at offset 0, elements from offset 8
+        emit(Instr.callRuntime(arr, "mjcalloc", new ArrayList<>(List.of(len))));
+        res = arr;
+    }
+
+    @Override
+    public void visit(NewObject n) {
+        Temp t = cfg.newTemp(null, true);
+        emit(Instr.callRuntime(t, n.i.s + "$" + n.i.s, new ArrayList<>()));
+        res = t;
+    }
+
+    @Override
+    public void visit(Not n) {
+        Operand a = eval(n.e);
+        Temp t = cfg.newTemp();
+        emit(Instr.not(t, a));
+        res = t;
+    }
+
+    @Override
+    public void visit(VarDecl n) {
+        throw new IllegalStateException("Unreachable code.");
+    }
+
+    @Override
+    public void visit(Formal n) {
+        throw new IllegalStateException("Unreachable code.");
+    }
+
+    @Override
+    public void visit(Identifier n) {
+        throw new IllegalStateException("Unreachable code.");
+    }
+
+    @Override
+    public void visit(IntArrayType n) {
+        throw new IllegalStateException("Unreachable code.");
+    }
+
+    @Override
+    public void visit(BooleanType n) {
+        throw new IllegalStateException("Unreachable code.");
+    }
+
+    @Override
+    public void visit(IntegerType n) {
+        throw new IllegalStateException("Unreachable code.");
+    }
+
+    @Override
+    public void visit(IdentifierType n) {
+        throw new IllegalStateException("Unreachable code.");
+    }
+}
@@ -1,4 +1,9 @@
+import Generator.Peephole;
+import Generator.X86Emitter;
 import Generator.Visitor.GeneratorVisitor;
+import IR.*;
+import IR.Opt.*;
+import IR.Visitor.IRGenVisitor;
 import Scanner.*;
 import Parser.*;
 import AST.*;
@@ -25,58 +30,69 @@ class Truple <A, B, C> {
 class MiniJava {
 
 
-    public static void main(String[] args) throws FileNotFoundException {
-        boolean is_S, is_P, is_A, is_T;
-        String fpath;
-        if(args.length == 1) {
-            is_S = false;
-            is_P = false;
-            is_A = false;
-            is_T = false;
-            fpath = args[0];
-        } else {
-            if (args.length != 2) {
-                printUsage();
-                return;
-            }
-
-            String option = args[0];
-            fpath = args[1];
+    public static void main(String[] args) {
+        int exitCode = run(args, null);
+        System.exit(exitCode);
+    }
 
-            is_S = option.equals("-S");
-            is_P = option.equals("-P");
-            is_A = option.equals("-A");
-            is_T = option.equals("-T");
-            if (!isValidOption(is_S, is_P, is_A, is_T)) {
-                printUsage();
-                return;
-            }
+    // Does what main does with relative paths starting at dir (null for the
+    // working directory), and returns the exit code instead of exiting
+    static int run(String[] args, File dir) {
+        Options opts = Options.parse(args);
+        if (opts == null) {
+            printUsage();
+            return 0;
         }
-        Reader in = new BufferedReader(new FileReader(fpath));
-        int exitCode = executeOption(is_S, is_P, is_A, is_T, in);
-        System.exit(exitCode);
+        opts.dir = dir;
+        if (opts.time) {
+            opts.timer = new PhaseTimer(true);
+        }
+        Reader in;
+        try {
+            in = new BufferedReader(new FileReader(opts.resolve(opts.fpath)));
+        } catch (FileNotFoundException e) {
+            System.err.println("File not found: " + opts.fpath);
+            return 1;
+        }
+        int exitCode;
+        try (in) {
+            exitCode = executeOption(opts, in);
+        } catch (IOException e) {
+            exitCode = 1;   // only from closing the file, after the output is done
+        }
+        return reportTimes(opts) ? exitCode : 1;
     }
 
-    // Validates whether at least one option is selected
-    private static boolean isValidOption(boolean is_S, boolean is_P, boolean is_A, boolean is_T) {
-        return is_S || is_P || is_A || is_T;
+    // Prints what -Xtime measured, returns false if the JSON cannot be written
+    private static boolean reportTimes(Options opts) {
+        if (!opts.time) return true;
+        opts.timer.printTable(System.err);
+        if (opts.timeJson != null) {
+            try (Writer out = new BufferedWriter(new FileWriter(opts.resolve(opts.timeJson)))) {
+                opts.timer.writeJson(out);
+            } catch (IOException e) {
+                System.err.println("Cannot write " + opts.timeJson + ": " + e.getMessage());
+                return false;
+            }
+        }
+        return true;
     }
 
     // Executes the selected option and returns the exit code
     @SuppressWarnings("CallToPrintStackTrace")
-    private static int executeOption(boolean is_S, boolean is_P, boolean is_A, boolean is_T, Reader in) {
+    private static int executeOption(Options opts, Reader in) {
         int exitCode = 0;
         try {
-            if (is_S) {
+            if (opts.is_S) {
                 exitCode = runScanner(in);
-            } else if (is_P) {
+            } else if (opts.is_P) {
                 exitCode = runParserPretty(in);
-            } else if (is_A) {
+            } else if (opts.is_A) {
                 exitCode = runParserAbstract(in);
-            } else if (is_T) {
-                exitCode = runTypeChecker(in, true).first;
+            } else if (opts.is_T) {
+                exitCode = runTypeChecker(in, true, opts).first;
             } else {
-                exitCode = runCodeGen(in);
+                exitCode = runCodeGen(in, opts);
             }
         } catch (IOException e) {
             System.err.println("Unexpected internal compiler error: " + e);
@@ -129,18 +145,20 @@ class MiniJava {
         return 0;
     }
 
-    // Type-Check functionality
+    // Type-Check functionality (with -Xfused-check, P2 to P6 run as the steps of a FusedChecker)
     @SuppressWarnings("CallToPrintStackTrace")
-    private static Truple<Integer, Symbol, GlobalADT> runTypeChecker(Reader in, boolean printTables) {
+    private static Truple<Integer, Symbol, GlobalADT> runTypeChecker(Reader in, boolean printTables, Options opts) {
+        boolean fused = opts.fusedCheck;
         ComplexSymbolFactory sf = new ComplexSymbolFactory();
         scanner s = new scanner(in, sf);
         parser p = new parser(s, sf);
         String indent = "  ";
 
         // Run parser
+        PhaseTimer timer = opts.timer;
         Symbol root;
         try {
-            root = p.parse();
+            root = timer.isOn() ? scanThenParse(s, sf, timer) : p.parse();
         } catch (Exception e) {
             System.err.println("Unexpected parser error: " + e.toString());
             e.printStackTrace();
@@ -149,16 +167,26 @@ class MiniJava {
 
         // Run type-checking visitors
         Program program = (Program) root.value;
+        if (timer.isOn()) {
+            NodeCountVisitor nodes = new NodeCountVisitor();
+            program.accept(nodes);
+            timer.count("astNodes", nodes.nodes);
+            timer.count("statements", nodes.statements);
+            timer.count("expressions", nodes.expressions);
+        }
 
         // P1
         if(printTables) {
             System.out.print("[1/6] Running P1TableVisitor...");
         }
 
+        timer.start();
         P1TableVisitor visitorP1 = new P1TableVisitor();
         program.accept(visitorP1);
+        timer.stop("P1");
         GlobalADT global = visitorP1.getGlobalADT();
         List<String> errorsP1 = visitorP1.getErrors();
+        FusedChecker fusedChecker = fused ? new FusedChecker(program, global) : null;
         if (errorsP1.isEmpty()) {
             if(printTables) {
                 System.out.println("\tpassed");
@@ -176,9 +204,16 @@ class MiniJava {
         if(printTables) {
             System.out.print("[2/6] Running P2TableVisitor...");
         }
-        P2TableVisitor visitorP2 = new P2TableVisitor(global);
-        program.accept(visitorP2);
-        List<String> errorsP2 = visitorP2.getErrors();
+        List<String> errorsP2;
+        timer.start();
+        if (fused) {
+            errorsP2 = fusedChecker.declareMembers();
+        } else {
+            P2TableVisitor visitorP2 = new P2TableVisitor(global);
+            program.accept(visitorP2);
+            errorsP2 = visitorP2.getErrors();
+        }
+        timer.stop("P2");
         if (errorsP2.isEmpty()) {
             if(printTables) {
                 System.out.println("\tpassed");
@@ -196,9 +231,16 @@ class MiniJava {
         if(printTables) {
             System.out.print("[3/6] Running P3CyclicExtendsVisitor...");
         }
-        P3CyclicExtendsVisitor visitorP3 = new P3CyclicExtendsVisitor(global);
-        program.accept(visitorP3);
-        List<String> errorsP3 = visitorP3.getErrors();
+        List<String> errorsP3;
+        timer.start();
+        if (fused) {
+            errorsP3 = fusedChecker.checkExtends();
+        } else {
+            P3CyclicExtendsVisitor visitorP3 = new P3CyclicExtendsVisitor(global);
+            program.accept(visitorP3);
+            errorsP3 = visitorP3.getErrors();
+        }
+        timer.stop("P3");
         if (errorsP3.isEmpty()) {
             if(printTables) {
                 System.out.println("\tpassed");
@@ -216,9 +258,16 @@ class MiniJava {
         if(printTables) {
             System.out.print("[4/6] Running P4OverloadVisitor...");
         }
-        P4OverloadVisitor visitorP4 = new P4OverloadVisitor(global);
-        program.accept(visitorP4);
-        List<String> errorsP4 = visitorP4.getErrors();
+        List<String> errorsP4;
+        timer.start();
+        if (fused) {
+            errorsP4 = fusedChecker.checkOverloads();
+        } else {
+            P4OverloadVisitor visitorP4 = new P4OverloadVisitor(global);
+            program.accept(visitorP4);
+            errorsP4 = visitorP4.getErrors();
+        }
+        timer.stop("P4");
         if (errorsP4.isEmpty()) {
             if(printTables) {
                 System.out.println("\tpassed");
@@ -236,8 +285,14 @@ class MiniJava {
         if(printTables) {
             System.out.print("[5/6] Running P5OffsetVisitor...");
         }
-        P5OffsetVisitor visitorP5 = new P5OffsetVisitor(global);
-        program.accept(visitorP5);  // impossible to get an error
+        timer.start();
+        if (fused) {
+            fusedChecker.assignOffsets();
+        } else {
+            P5OffsetVisitor visitorP5 = new P5OffsetVisitor(global);
+            program.accept(visitorP5);  // impossible to get an error
+        }
+        timer.stop("P5");
         if(printTables) {
             System.out.println("\tpassed");
         }
@@ -246,9 +301,21 @@ class MiniJava {
         if(printTables) {
             System.out.print("[6/6] Running P6TypeCheckingVisitor...");
         }
-        P6TypeCheckingVisitor visitorP6 = new P6TypeCheckingVisitor(global);
-        program.accept(visitorP6);
-        List<String> errorsP6 = visitorP6.getErrors();
+        List<String> errorsP6;
+        timer.start();
+        if (fused) {
+            errorsP6 = fusedChecker.typeCheck(opts.parallelCheck);
+        } else {
+            P6TypeCheckingVisitor visitorP6 = new P6TypeCheckingVisitor(global);
+            if (opts.parallelCheck) {
+                visitorP6.checkInParallel(program);
+            } else {
+                program.accept(visitorP6);
+            }
+            errorsP6 = visitorP6.getErrors();
+        }
+        timer.stop("P6");
+        countSymbols(global, timer);
         if (errorsP6.isEmpty()) {
             if(printTables) {
                 System.out.println("\tpassed");
@@ -268,11 +335,52 @@ class MiniJava {
         return new Truple(0, root, global);
     }
 
+    // The parse of -Xtime, which scans all of the input first to time scanner
+    // and parser apart (so scanner errors come before any syntax error)
+    private static Symbol scanThenParse(scanner s, ComplexSymbolFactory sf, PhaseTimer timer) throws Exception {
+        timer.start();
+        List<Symbol> tokens = new ArrayList<>();
+        Symbol t;
+        do {
+            t = s.next_token();
+            tokens.add(t);
+        } while (t.sym != sym.EOF);
+        timer.stop("scan");
+        timer.count("tokens", tokens.size() - 1);
+        Iterator<Symbol> next = tokens.iterator();
+        timer.start();
+        Symbol root = new parser(() -> next.hasNext() ? next.next() : sf.newSymbol("EOF", sym.EOF), sf).parse();
+        timer.stop("parse");
+        return root;
+    }
+
+    // The sizes of the symbol table, for -Xtime
+    private static void countSymbols(GlobalADT global, PhaseTimer timer) {
+        if (!timer.isOn()) return;
+        long classes = 0, fields = 0, methods = 0, variables = 0;
+        for (String name : global.classNames()) {
+            if (global.get(name) instanceof ClassADT c) {
+                classes++;
+                fields += c.fieldNames().size();
+                for (String m : c.methodNames()) {
+                    methods++;
+                    if (c.getMethod(m) instanceof MethodADT method) {
+                        variables += method.varNames().size();
+                    }
+                }
+            }
+        }
+        timer.count("classes", classes);
+        timer.count("fields", fields);
+        timer.count("methods", methods);
+        timer.count("variables", variables);
+    }
+
     // Code-Gen functionality
     @SuppressWarnings("CallToPrintStackTrace")
-    private static int runCodeGen(Reader in) {
+    private static int runCodeGen(Reader in, Options opts) throws IOException {
         //run typechecking ()
-        Truple<Integer, Symbol, GlobalADT> tmp = runTypeChecker(in, false);
+        Truple<Integer, Symbol, GlobalADT> tmp = runTypeChecker(in, false, opts);
         int exitCode = tmp.first;
         if(exitCode == 1) {
             return 1;
@@ -280,19 +388,131 @@ class MiniJava {
         Program program = (Program) tmp.second.value;
         GlobalADT global = tmp.third;
         //run code-gen
-        GeneratorVisitor gv = new GeneratorVisitor(global);
-        program.accept(gv);
-        System.out.println(gv.toString());
+        IRProgram ir = null;
+        if (opts.is_I || opts.is_O) {
+            ir = runIR(program, global, opts);
+            if (opts.is_I) {
+                System.out.print(ir.toString());
+                return 0;
+            }
+        }
+        // the generators write each method out as soon as it is done
+        Writer out;
+        try {
+            out = new BufferedWriter(opts.outFile == null
+                    ? new OutputStreamWriter(System.out)
+                    : new FileWriter(opts.resolve(opts.outFile)), 1 << 16);
+        } catch (IOException e) {
+            System.err.println("Cannot write " + opts.outFile + ": " + e.getMessage());
+            return 1;
+        }
+        Peephole peephole = peephole(opts);
+        opts.timer.start();
+        try {
+            if (ir != null) {
+                X86Emitter emitter = new X86Emitter(ir);
+                emitter.inlinePrint = opts.inlinePrint;
+                emitter.profile = opts.profile;
+                if (opts.codegenThreads != null) emitter.threads = opts.codegenThreads;
+                emitter.peephole = peephole;
+                emitter.output = out;
+                emitter.emit();
+            } else {
+                GeneratorVisitor gv = new GeneratorVisitor(global);
+                gv.inlinePrint = opts.inlinePrint;
+                gv.profile = opts.profile;
+                if (opts.codegenThreads != null) gv.threads = opts.codegenThreads;
+                gv.peephole = peephole;
+                gv.output = out;
+                program.accept(gv);
+            }
+            out.write('\n');   // as println of the whole program used to end
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            if (opts.outFile == null) {
+                out.flush();
+            } else {
+                out.close();
+            }
+        }
+        opts.timer.stop("codegen");
+        logPeephole(peephole, opts);
         return 0;
     }
 
+    // The peephole optimizer for the code generators to run, or null if disabled
+    private static Peephole peephole(Options opts) {
+        return opts.noPeephole ? null : new Peephole();
+    }
+
+    private static void logPeephole(Peephole p, Options opts) {
+        if (p != null && opts.peepholeLog) {
+            p.printHits(System.err);
+        }
+    }
+
+    // Lowers the type-checked program to IR and runs the optimization pipeline
+    private static IRProgram runIR(Program program, GlobalADT global, Options opts) {
+        PhaseTimer timer = opts.timer;
+        timer.start();
+        IRGenVisitor irv = new IRGenVisitor(global);
+        program.accept(irv);
+        IRProgram ir = irv.getProgram();
+        timer.stop("IR");
+        Inline inline = new Inline();
+        if (opts.inlineSize != null) inline.maxSize = opts.inlineSize;
+        if (opts.inlineDepth != null) inline.maxDepth = opts.inlineDepth;
+        if (opts.inlineRecursion != null) inline.maxRecursion = opts.inlineRecursion;
+        if (opts.inlineLog) inline.log = System.err;
+        BoundsCheckElim bce = new BoundsCheckElim();
+        if (opts.boundsLog) bce.log = System.err;
+        PassManager pm = new PassManager();
+        pm.add(new Devirtualize())
+          .add(new SimplifyCFG())
+          .add(inline)
+          .add(new SimplifyCFG())
+          .add(new ToSSA())
+          .add(new SCCP())
+          .add(bce)
+          .add(new FromSSA())
+          .add(new SimplifyCFG());
+        timer.start();
+        pm.run(ir);
+        timer.stop("optimize");
+        if (timer.isOn()) {
+            long blocks = 0, instrs = 0;
+            for (CFG cfg : ir.methods) {
+                blocks += cfg.blocks.size();
+                instrs += cfg.size();
+            }
+            timer.count("irBlocks", blocks);
+            timer.count("irInstrs", instrs);
+        }
+        return ir;
+    }
+
     // Prints usage information for the command-line tool
     private static void printUsage() {
         System.out.println("Usage:");
-        System.out.println("\tScanner: MiniJava.java <filename>");
+        System.out.println("\tCodeGen: MiniJava.java <filename>");
+        System.out.println("\tCodeGen (register allocation): MiniJava.java -O <filename>");
+        System.out.println("\tCodeGen into a file instead of standard output: -o <file>");
+        System.out.println("\tCodeGen with calls and time of each method printed at exit: -profile");
         System.out.println("\tScanner: MiniJava.java -S <filename>");
         System.out.println("\tParser (Pretty-Print): MiniJava.java -P <filename>");
         System.out.println("\tParser (Abstract-Print): MiniJava.java -A <filename>");
         System.out.println("\tTypeChecker: MiniJava.java -T <filename>");
+        System.out.println("\tIR (after optimization): MiniJava.java -I <filename>");
+        System.out.println("\tInlining (with -O or -I): -Xinline-log, -Xinline-size=<n>,");
+        System.out.println("\t\t-Xinline-depth=<n>, -Xinline-recursion=<n>");
+        System.out.println("\tBounds checks removed per method (with -O or -I): -Xbounds-log");
+        System.out.println("\tPeephole optimizer: -Xno-peephole, -Xpeephole-log (hits per rule)");
+        System.out.println("\tPrint without calling the runtime until its buffer is full: -Xinline-print");
+        System.out.println("\tType check P2 to P6 in fewer walks over the AST: -Xfused-check");
+        System.out.println("\tType check method bodies on all cores: -Xparallel-check");
+        System.out.println("\tGenerate methods on <n> threads (same output for any <n>): -Xcodegen-threads=<n>");
+        System.out.println("\tTime, CPU, allocation and sizes per phase on standard error: -Xtime,");
+        System.out.println("\t\tand as JSON in <file>: -Xtime-json=<file>");
     }
 }
@@ -0,0 +1,103 @@
+import java.io.File;
+
+/**
+ * The command-line options of MiniJava, shared with BatchCompile.
+ */
+class Options {
+    public boolean is_S, is_P, is_A, is_T, is_I, is_O;
+    public String fpath;
+    public String outFile;  // -o <file>: where the assembly goes instead of standard output
+    public File dir;        // where relative paths start, null for the working directory
+    public boolean profile; // -profile: the program prints a flat profile of its methods when it exits
+
+    // -X options (tuning of the IR pipeline and code generation), null when not given
+    public boolean inlineLog, boundsLog, noPeephole, peepholeLog, inlinePrint, fusedCheck, parallelCheck;
+    public Integer inlineSize, inlineDepth, inlineRecursion, codegenThreads;
+    public boolean time;        // -Xtime: phase times and sizes on standard error
+    public String timeJson;     // -Xtime-json=<file>: and as JSON in the file
+    public PhaseTimer timer = PhaseTimer.OFF;
+
+    // Parses command-line arguments, returns null if they are invalid
+    static Options parse(String[] args) {
+        Options opts = new Options();
+        for (int k = 0; k < args.length; k++) {
+            String arg = args[k];
+            switch (arg) {
+                case "-S" -> opts.is_S = true;
+                case "-P" -> opts.is_P = true;
+                case "-A" -> opts.is_A = true;
+                case "-T" -> opts.is_T = true;
+                case "-I" -> opts.is_I = true;
+                case "-O" -> opts.is_O = true;
+                case "-profile" -> opts.profile = true;
+                case "-o" -> {
+                    if (k + 1 == args.length || opts.outFile != null) return null;
+                    opts.outFile = args[++k];
+                }
+                case "-Xinline-log" -> opts.inlineLog = true;
+                case "-Xbounds-log" -> opts.boundsLog = true;
+                case "-Xno-peephole" -> opts.noPeephole = true;
+                case "-Xpeephole-log" -> opts.peepholeLog = true;
+                case "-Xinline-print" -> opts.inlinePrint = true;
+                case "-Xfused-check" -> opts.fusedCheck = true;
+                case "-Xparallel-check" -> opts.parallelCheck = true;
+                case "-Xtime" -> opts.time = true;
+                default -> {
+                    if (arg.startsWith("-Xtime-json=")) {
+                        opts.time = true;
+                        opts.timeJson = arg.substring("-Xtime-json=".length());
+                        continue;
+                    }
+                    if (arg.startsWith("-X")) {
+                        if (!opts.parseX(arg)) return null;
+                        continue;
+                    }
+                    if (arg.startsWith("-") || opts.fpath != null) {
+                        return null;
+                    }
+                    opts.fpath = arg;
+                }
+            }
+        }
+        if (opts.fpath == null || !opts.isValidOption()) {
+            return null;
+        }
+        return opts;
+    }
+
+    // Parses -X<name>=<n>, returns false if it is not a known option
+    private boolean parseX(String arg) {
+        int eq = arg.indexOf('=');
+        if (eq < 0) return false;
+        int n;
+        try {
+            n = Integer.parseInt(arg.substring(eq + 1));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        switch (arg.substring(0, eq)) {
+            case "-Xinline-size" -> inlineSize = n;
+            case "-Xinline-depth" -> inlineDepth = n;
+            case "-Xinline-recursion" -> inlineRecursion = n;
+            case "-Xcodegen-threads" -> codegenThreads = n;
+            default -> { return false; }
+        }
+        return true;
+    }
+
+    // The file at the given path, relative to dir
+    File resolve(String path) {
+        File file = new File(path);
+        return dir == null || file.isAbsolute() ? file : new File(dir, path);
+    }
+
+    // Validates that at most one of the output-selecting options is given,
+    // and -o and -profile only for assembly
+    private boolean isValidOption() {
+        int n = 0;
+        for (boolean b : new boolean[] { is_S, is_P, is_A, is_T, is_I }) {
+            if (b) n++;
+        }
+        return n == 0 || (n == 1 && outFile == null && !profile);
+    }
+}
@@ -0,0 +1,1152 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.11b 20160615 (GIT 4ac7450)
+//----------------------------------------------------
+
+package Parser;
+
+import AST.*;
+import java.util.*;
+import java_cup.runtime.*;
+import java_cup.runtime.ComplexSymbolFactory.Location;
+import java_cup.runtime.XMLElement;
+
+/** CUP v0.11b 20160615 (GIT 4ac7450) generated parser.
+  */
+@SuppressWarnings({"rawtypes"})
+public class parser extends java_cup.runtime.lr_parser {
+
+ public final Class getSymbolContainer() {
+    return sym.class;
+}
+
+  /** Default constructor. */
+  @Deprecated
+  public parser() {super();}
+
+  /** Constructor which sets the default scanner. */
+  @Deprecated
+  public parser(java_cup.runtime.Scanner s) {super(s);}
+
+  /** Constructor which sets the default scanner. */
+  public parser(java_cup.runtime.Scanner s, java_cup.runtime.SymbolFactory sf) {super(s,sf);}
+
+  /** Production table. */
+  protected static final short _production_table[][] = 
+    unpackFromStrings(new String[] {
+    "\000\070\000\002\002\004\000\002\002\004\000\002\003" +
+    "\023\000\002\004\010\000\002\004\012\000\002\005\004" +
+    "\000\002\005\002\000\002\006\005\000\002\007\004\000" +
+    "\002\007\002\000\002\010\017\000\002\011\004\000\002" +
+    "\011\002\000\002\012\006\000\002\012\011\000\002\012" +
+    "\007\000\002\012\011\000\002\012\007\000\002\012\005" +
+    "\000\002\013\003\000\002\013\004\000\002\014\003\000" +
+    "\002\014\002\000\002\015\003\000\002\015\005\000\002" +
+    "\015\005\000\002\015\005\000\002\015\005\000\002\015" +
+    "\005\000\002\015\005\000\002\015\004\000\002\015\003" +
+    "\000\002\015\003\000\002\015\003\000\002\015\006\000" +
+    "\002\015\003\000\002\015\003\000\002\015\007\000\002" +
+    "\015\010\000\002\015\003\000\002\016\003\000\002\016" +
+    "\005\000\002\017\003\000\002\017\002\000\002\020\004" +
+    "\000\002\021\003\000\002\021\005\000\002\022\003\000" +
+    "\002\022\002\000\002\023\006\000\002\024\005\000\002" +
+    "\025\003\000\002\025\003\000\002\025\003\000\002\025" +
+    "\005\000\002\026\003" });
+
+  /** Access to production table. */
+  public short[][] production_table() {return _production_table;}
+
+  /** Parse-action table. */
+  protected static final short[][] _action_table = 
+    unpackFromStrings(new String[] {
+    "\000\216\000\004\032\006\001\002\000\004\002\220\001" +
+    "\002\000\006\002\ufffb\032\ufffb\001\002\000\004\050\007" +
+    "\001\002\000\024\013\uffca\014\uffca\015\uffca\016\uffca\020" +
+    "\uffca\022\uffca\023\uffca\040\uffca\050\uffca\001\002\000\004" +
+    "\016\011\001\002\000\004\033\012\001\002\000\004\034" +
+    "\013\001\002\000\004\035\014\001\002\000\004\036\015" +
+    "\001\002\000\004\014\016\001\002\000\004\037\017\001" +
+    "\002\000\004\020\020\001\002\000\004\021\021\001\002" +
+    "\000\004\050\007\001\002\000\004\015\023\001\002\000" +
+    "\004\016\024\001\002\000\014\004\026\016\025\042\030" +
+    "\043\031\050\007\001\002\000\016\004\026\016\025\017" +
+    "\uffeb\042\030\043\031\050\007\001\002\000\004\014\133" +
+    "\001\002\000\004\017\131\001\002\000\004\014\125\001" +
+    "\002\000\004\014\117\001\002\000\006\013\033\020\034" +
+    "\001\002\000\022\012\044\014\047\026\037\027\041\030" +
+    "\042\031\036\047\035\050\043\001\002\000\022\012\044" +
+    "\014\047\026\037\027\041\030\042\031\036\047\035\050" +
+    "\043\001\002\000\030\005\uffda\006\uffda\007\uffda\010\uffda" +
+    "\011\uffda\015\uffda\020\uffda\021\uffda\022\uffda\023\uffda\045" +
+    "\uffda\001\002\000\006\025\107\050\007\001\002\000\030" +
+    "\005\uffe2\006\uffe2\007\uffe2\010\uffe2\011\uffe2\015\uffe2\020" +
+    "\uffe2\021\uffe2\022\uffe2\023\uffe2\045\uffe2\001\002\000\022" +
+    "\005\054\006\055\007\051\010\056\011\053\020\057\021" +
+    "\102\045\060\001\002\000\030\005\uffe1\006\uffe1\007\uffe1" +
+    "\010\uffe1\011\uffe1\015\uffe1\020\uffe1\021\uffe1\022\uffe1\023" +
+    "\uffe1\045\uffe1\001\002\000\030\005\uffe0\006\uffe0\007\uffe0" +
+    "\010\uffe0\011\uffe0\015\uffe0\020\uffe0\021\uffe0\022\uffe0\023" +
+    "\uffe0\045\uffe0\001\002\000\030\005\uffea\006\uffea\007\uffea" +
+    "\010\uffea\011\uffea\015\uffea\020\uffea\021\uffea\022\uffea\023" +
+    "\uffea\045\uffea\001\002\000\022\012\044\014\047\026\037" +
+    "\027\041\030\042\031\036\047\035\050\043\001\002\000" +
+    "\030\005\uffde\006\uffde\007\uffde\010\uffde\011\uffde\015\uffde" +
+    "\020\uffde\021\uffde\022\uffde\023\uffde\045\uffde\001\002\000" +
+    "\030\005\uffdd\006\uffdd\007\uffdd\010\uffdd\011\uffdd\015\uffdd" +
+    "\020\uffdd\021\uffdd\022\uffdd\023\uffdd\045\uffdd\001\002\000" +
+    "\022\012\044\014\047\026\037\027\041\030\042\031\036" +
+    "\047\035\050\043\001\002\000\022\005\054\006\055\007" +
+    "\051\010\056\011\053\015\052\020\057\045\060\001\002" +
+    "\000\022\012\044\014\047\026\037\027\041\030\042\031" +
+    "\036\047\035\050\043\001\002\000\030\005\uffe4\006\uffe4" +
+    "\007\uffe4\010\uffe4\011\uffe4\015\uffe4\020\uffe4\021\uffe4\022" +
+    "\uffe4\023\uffe4\045\uffe4\001\002\000\022\012\044\014\047" +
+    "\026\037\027\041\030\042\031\036\047\035\050\043\001" +
+    "\002\000\022\012\044\014\047\026\037\027\041\030\042" +
+    "\031\036\047\035\050\043\001\002\000\022\012\044\014" +
+    "\047\026\037\027\041\030\042\031\036\047\035\050\043" +
+    "\001\002\000\022\012\044\014\047\026\037\027\041\030" +
+    "\042\031\036\047\035\050\043\001\002\000\022\012\044" +
+    "\014\047\026\037\027\041\030\042\031\036\047\035\050" +
+    "\043\001\002\000\006\046\061\050\007\001\002\000\030" +
+    "\005\uffcf\006\uffcf\007\uffcf\010\uffcf\011\uffcf\015\uffcf\020" +
+    "\uffcf\021\uffcf\022\uffcf\023\uffcf\045\uffcf\001\002\000\004" +
+    "\014\063\001\002\000\024\012\044\014\047\015\uffd6\026" +
+    "\037\027\041\030\042\031\036\047\035\050\043\001\002" +
+    "\000\006\015\uffd7\023\070\001\002\000\024\005\054\006" +
+    "\055\007\051\010\056\011\053\015\uffd9\020\057\023\uffd9" +
+    "\045\060\001\002\000\004\015\067\001\002\000\030\005" +
+    "\uffdb\006\uffdb\007\uffdb\010\uffdb\011\uffdb\015\uffdb\020\uffdb" +
+    "\021\uffdb\022\uffdb\023\uffdb\045\uffdb\001\002\000\022\012" +
+    "\044\014\047\026\037\027\041\030\042\031\036\047\035" +
+    "\050\043\001\002\000\024\005\054\006\055\007\051\010" +
+    "\056\011\053\015\uffd8\020\057\023\uffd8\045\060\001\002" +
+    "\000\022\005\054\006\055\007\051\010\056\011\053\020" +
+    "\057\021\073\045\060\001\002\000\030\005\uffd0\006\uffd0" +
+    "\007\uffd0\010\uffd0\011\uffd0\015\uffd0\020\uffd0\021\uffd0\022" +
+    "\uffd0\023\uffd0\045\uffd0\001\002\000\030\005\054\006\055" +
+    "\007\051\010\uffe6\011\uffe6\015\uffe6\020\057\021\uffe6\022" +
+    "\uffe6\023\uffe6\045\060\001\002\000\030\005\uffe8\006\uffe8" +
+    "\007\051\010\uffe8\011\uffe8\015\uffe8\020\057\021\uffe8\022" +
+    "\uffe8\023\uffe8\045\060\001\002\000\030\005\uffe9\006\uffe9" +
+    "\007\051\010\uffe9\011\uffe9\015\uffe9\020\057\021\uffe9\022" +
+    "\uffe9\023\uffe9\045\060\001\002\000\026\005\054\006\055" +
+    "\007\051\010\056\015\uffe5\020\057\021\uffe5\022\uffe5\023" +
+    "\uffe5\045\060\001\002\000\030\005\uffe7\006\uffe7\007\uffe7" +
+    "\010\uffe7\011\uffe7\015\uffe7\020\057\021\uffe7\022\uffe7\023" +
+    "\uffe7\045\060\001\002\000\030\005\uffe3\006\uffe3\007\uffe3" +
+    "\010\uffe3\011\uffe3\015\uffe3\020\057\021\uffe3\022\uffe3\023" +
+    "\uffe3\045\060\001\002\000\004\013\103\001\002\000\022" +
+    "\012\044\014\047\026\037\027\041\030\042\031\036\047" +
+    "\035\050\043\001\002\000\022\005\054\006\055\007\051" +
+    "\010\056\011\053\020\057\022\105\045\060\001\002\000" +
+    "\022\004\ufff1\016\ufff1\017\ufff1\041\ufff1\042\ufff1\043\ufff1" +
+    "\044\ufff1\050\ufff1\001\002\000\004\014\113\001\002\000" +
+    "\004\020\110\001\002\000\022\012\044\014\047\026\037" +
+    "\027\041\030\042\031\036\047\035\050\043\001\002\000" +
+    "\022\005\054\006\055\007\051\010\056\011\053\020\057" +
+    "\021\112\045\060\001\002\000\030\005\uffdc\006\uffdc\007" +
+    "\uffdc\010\uffdc\011\uffdc\015\uffdc\020\uffdc\021\uffdc\022\uffdc" +
+    "\023\uffdc\045\uffdc\001\002\000\004\015\114\001\002\000" +
+    "\030\005\uffdf\006\uffdf\007\uffdf\010\uffdf\011\uffdf\015\uffdf" +
+    "\020\uffdf\021\uffdf\022\uffdf\023\uffdf\045\uffdf\001\002\000" +
+    "\022\005\054\006\055\007\051\010\056\011\053\020\057" +
+    "\022\116\045\060\001\002\000\022\004\ufff4\016\ufff4\017" +
+    "\ufff4\041\ufff4\042\ufff4\043\ufff4\044\ufff4\050\ufff4\001\002" +
+    "\000\022\012\044\014\047\026\037\027\041\030\042\031" +
+    "\036\047\035\050\043\001\002\000\022\005\054\006\055" +
+    "\007\051\010\056\011\053\015\121\020\057\045\060\001" +
+    "\002\000\014\004\026\016\025\042\030\043\031\050\007" +
+    "\001\002\000\004\044\123\001\002\000\014\004\026\016" +
+    "\025\042\030\043\031\050\007\001\002\000\022\004\ufff3" +
+    "\016\ufff3\017\ufff3\041\ufff3\042\ufff3\043\ufff3\044\ufff3\050" +
+    "\ufff3\001\002\000\022\012\044\014\047\026\037\027\041" +
+    "\030\042\031\036\047\035\050\043\001\002\000\022\005" +
+    "\054\006\055\007\051\010\056\011\053\015\127\020\057" +
+    "\045\060\001\002\000\014\004\026\016\025\042\030\043" +
+    "\031\050\007\001\002\000\022\004\ufff0\016\ufff0\017\ufff0" +
+    "\041\ufff0\042\ufff0\043\ufff0\044\ufff0\050\ufff0\001\002\000" +
+    "\004\017\132\001\002\000\006\002\uffff\032\uffff\001\002" +
+    "\000\022\012\044\014\047\026\037\027\041\030\042\031" +
+    "\036\047\035\050\043\001\002\000\022\005\054\006\055" +
+    "\007\051\010\056\011\053\015\135\020\057\045\060\001" +
+    "\002\000\004\022\136\001\002\000\022\004\ufff2\016\ufff2" +
+    "\017\ufff2\041\ufff2\042\ufff2\043\ufff2\044\ufff2\050\ufff2\001" +
+    "\002\000\004\017\143\001\002\000\020\004\026\016\025" +
+    "\017\uffec\041\uffec\042\030\043\031\050\007\001\002\000" +
+    "\020\004\uffee\016\uffee\017\uffee\041\uffee\042\uffee\043\uffee" +
+    "\050\uffee\001\002\000\020\004\uffed\016\uffed\017\uffed\041" +
+    "\uffed\042\uffed\043\uffed\050\uffed\001\002\000\022\004\uffef" +
+    "\016\uffef\017\uffef\041\uffef\042\uffef\043\uffef\044\uffef\050" +
+    "\uffef\001\002\000\006\002\001\032\146\001\002\000\006" +
+    "\002\ufffc\032\ufffc\001\002\000\004\050\007\001\002\000" +
+    "\006\016\150\040\151\001\002\000\014\017\ufff8\024\ufff8" +
+    "\025\ufff8\033\ufff8\050\ufff8\001\002\000\004\050\007\001" +
+    "\002\000\004\016\153\001\002\000\014\017\ufff8\024\ufff8" +
+    "\025\ufff8\033\ufff8\050\ufff8\001\002\000\014\017\ufff5\024" +
+    "\160\025\162\033\ufff5\050\007\001\002\000\004\050\007" +
+    "\001\002\000\006\017\165\033\167\001\002\000\026\004" +
+    "\ufff9\016\ufff9\017\ufff9\024\ufff9\025\ufff9\033\ufff9\041\ufff9" +
+    "\042\ufff9\043\ufff9\050\ufff9\001\002\000\004\050\uffcd\001" +
+    "\002\000\004\050\uffcc\001\002\000\006\020\163\050\uffce" +
+    "\001\002\000\004\021\164\001\002\000\004\050\uffcb\001" +
+    "\002\000\006\002\ufffd\032\ufffd\001\002\000\006\017\ufff6" +
+    "\033\ufff6\001\002\000\010\024\160\025\162\050\007\001" +
+    "\002\000\004\050\007\001\002\000\004\014\172\001\002" +
+    "\000\012\015\uffd1\024\160\025\162\050\007\001\002\000" +
+    "\004\015\202\001\002\000\004\050\007\001\002\000\006" +
+    "\015\uffd2\023\177\001\002\000\006\015\uffd4\023\uffd4\001" +
+    "\002\000\010\024\160\025\162\050\007\001\002\000\006" +
+    "\015\uffd3\023\uffd3\001\002\000\006\015\uffd5\023\uffd5\001" +
+    "\002\000\004\016\203\001\002\000\022\004\ufff8\016\ufff8" +
+    "\024\ufff8\025\ufff8\041\ufff8\042\ufff8\043\ufff8\050\ufff8\001" +
+    "\002\000\022\004\026\016\025\024\160\025\162\041\uffeb" +
+    "\042\030\043\031\050\007\001\002\000\004\041\207\001" +
+    "\002\000\010\013\033\020\034\050\uffcc\001\002\000\022" +
+    "\012\044\014\047\026\037\027\041\030\042\031\036\047" +
+    "\035\050\043\001\002\000\022\005\054\006\055\007\051" +
+    "\010\056\011\053\020\057\022\211\045\060\001\002\000" +
+    "\004\017\212\001\002\000\006\017\ufff7\033\ufff7\001\002" +
+    "\000\004\022\214\001\002\000\026\004\ufffa\016\ufffa\017" +
+    "\ufffa\024\ufffa\025\ufffa\033\ufffa\041\ufffa\042\ufffa\043\ufffa" +
+    "\050\ufffa\001\002\000\014\017\ufff5\024\160\025\162\033" +
+    "\ufff5\050\007\001\002\000\006\017\217\033\167\001\002" +
+    "\000\006\002\ufffe\032\ufffe\001\002\000\004\002\000\001" +
+    "\002" });
+
+  /** Access to parse-action table. */
+  public short[][] action_table() {return _action_table;}
+
+  /** <code>reduce_goto</code> table. */
+  protected static final short[][] _reduce_table = 
+    unpackFromStrings(new String[] {
+    "\000\216\000\006\002\003\003\004\001\001\000\002\001" +
+    "\001\000\004\005\143\001\001\000\004\026\007\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\026\021\001\001\000\002\001\001\000\002" +
+    "\001\001\000\006\012\026\026\031\001\001\000\012\012" +
+    "\140\013\137\014\136\026\031\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\010\015\114\023\045\024\044\001\001" +
+    "\000\010\015\037\023\045\024\044\001\001\000\002\001" +
+    "\001\000\004\026\105\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\010\015\100\023\045\024\044\001\001\000\002" +
+    "\001\001\000\002\001\001\000\010\015\047\023\045\024" +
+    "\044\001\001\000\002\001\001\000\010\015\077\023\045" +
+    "\024\044\001\001\000\002\001\001\000\010\015\076\023" +
+    "\045\024\044\001\001\000\010\015\075\023\045\024\044" +
+    "\001\001\000\010\015\074\023\045\024\044\001\001\000" +
+    "\010\015\073\023\045\024\044\001\001\000\010\015\071" +
+    "\023\045\024\044\001\001\000\004\026\061\001\001\000" +
+    "\002\001\001\000\002\001\001\000\014\015\064\016\063" +
+    "\017\065\023\045\024\044\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\010" +
+    "\015\070\023\045\024\044\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\010\015\103" +
+    "\023\045\024\044\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\010\015\110" +
+    "\023\045\024\044\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\010\015\117\023\045\024\044\001" +
+    "\001\000\002\001\001\000\006\012\121\026\031\001\001" +
+    "\000\002\001\001\000\006\012\123\026\031\001\001\000" +
+    "\002\001\001\000\010\015\125\023\045\024\044\001\001" +
+    "\000\002\001\001\000\006\012\127\026\031\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\010" +
+    "\015\133\023\045\024\044\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\006" +
+    "\012\141\026\031\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\004\144\001\001\000\002" +
+    "\001\001\000\004\026\146\001\001\000\002\001\001\000" +
+    "\004\007\214\001\001\000\004\026\151\001\001\000\002" +
+    "\001\001\000\004\007\153\001\001\000\012\006\156\011" +
+    "\155\025\154\026\160\001\001\000\004\026\212\001\001" +
+    "\000\004\010\165\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\006\025\167\026\160\001\001\000\004\026\170\001\001" +
+    "\000\002\001\001\000\014\020\175\021\174\022\172\025" +
+    "\173\026\160\001\001\000\002\001\001\000\004\026\200" +
+    "\001\001\000\002\001\001\000\002\001\001\000\010\020" +
+    "\177\025\173\026\160\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\007\203\001\001\000" +
+    "\016\006\156\012\140\013\137\014\204\025\154\026\205" +
+    "\001\001\000\002\001\001\000\002\001\001\000\010\015" +
+    "\207\023\045\024\044\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\012\006\156\011\215\025\154\026\160\001\001" +
+    "\000\004\010\165\001\001\000\002\001\001\000\002\001" +
+    "\001" });
+
+  /** Access to <code>reduce_goto</code> table. */
+  public short[][] reduce_table() {return _reduce_table;}
+
+  /** Instance of action encapsulation class. */
+  protected CUP$parser$actions action_obj;
+
+  /** Action encapsulation object initializer. */
+  protected void init_actions()
+    {
+      action_obj = new CUP$parser$actions(this);
+    }
+
+  /** Invoke a user supplied parse action. */
+  public java_cup.runtime.Symbol do_action(
+    int                        act_num,
+    java_cup.runtime.lr_parser parser,
+    java.util.Stack            stack,
+    int                        top)
+    throws java.lang.Exception
+  {
+    /* call code in generated class */
+    return action_obj.CUP$parser$do_action(act_num, parser, stack, top);
+  }
+
+  /** Indicates start state. */
+  public int start_state() {return 0;}
+  /** Indicates start production. */
+  public int start_production() {return 1;}
+
+  /** <code>EOF</code> Symbol index. */
+  public int EOF_sym() {return 0;}
+
+  /** <code>error</code> Symbol index. */
+  public int error_sym() {return 1;}
+
+
+/** Cup generated class to encapsulate user supplied action code.*/
+@SuppressWarnings({"rawtypes", "unchecked", "unused"})
+class CUP$parser$actions {
+  private final parser parser;
+
+  /** Constructor */
+  CUP$parser$actions(parser parser) {
+    this.parser = parser;
+  }
+
+  /** Method 0 with the actual generated action code for actions 0 to 300. */
+  public final java_cup.runtime.Symbol CUP$parser$do_action_part00000000(
+    int                        CUP$parser$act_num,
+    java_cup.runtime.lr_parser CUP$parser$parser,
+    java.util.Stack            CUP$parser$stack,
+    int                        CUP$parser$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$parser$result;
+
+      /* select the action based on the action number */
+      switch (CUP$parser$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 0: // Program ::= MainClass ClassDeclList 
+            {
+              Program RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		MainClass c = (MainClass)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location csxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location csxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ClassDeclList cs = (ClassDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Program(c, cs, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Program",0, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 1: // $START ::= Program EOF 
+            {
+              Object RESULT =null;
+		Location start_valxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location start_valxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Program start_val = (Program)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		RESULT = start_val;
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("$START",0, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          /* ACCEPT */
+          CUP$parser$parser.done_parsing();
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 2: // MainClass ::= CLASS Identifier LBRACE PUBLIC STATIC VOID MAIN LPAREN STRING LBRACKET RBRACKET Identifier RPAREN LBRACE Statement RBRACE RBRACE 
+            {
+              MainClass RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-15)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-15)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-15)).value;
+		Location argsxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location argsxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Identifier args = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new MainClass(id, args, s, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MainClass",1, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-16)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 3: // ClassDecl ::= CLASS Identifier LBRACE VarDeclList MethodDeclList RBRACE 
+            {
+              ClassDecl RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location vsxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location vsxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		VarDeclList vs = (VarDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location msxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location msxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		MethodDeclList ms = (MethodDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ClassDeclSimple(id, vs, ms, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDecl",2, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 4: // ClassDecl ::= CLASS Identifier EXTENDS Identifier LBRACE VarDeclList MethodDeclList RBRACE 
+            {
+              ClassDecl RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location parentxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location parentxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Identifier parent = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location vsxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location vsxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		VarDeclList vs = (VarDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location msxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location msxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		MethodDeclList ms = (MethodDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ClassDeclExtends(id, parent, vs, ms, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDecl",2, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 5: // ClassDeclList ::= ClassDeclList ClassDecl 
+            {
+              ClassDeclList RESULT =null;
+		Location csxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location csxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		ClassDeclList cs = (ClassDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ClassDecl c = (ClassDecl)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = cs; cs.add(c); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclList",3, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 6: // ClassDeclList ::= 
+            {
+              ClassDeclList RESULT =null;
+		 RESULT = new ClassDeclList(new Location(0, 0)); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclList",3, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 7: // VarDecl ::= Type Identifier SEMICOLON 
+            {
+              VarDecl RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new VarDecl(t, id, txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("VarDecl",4, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 8: // VarDeclList ::= VarDeclList VarDecl 
+            {
+              VarDeclList RESULT =null;
+		Location vsxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location vsxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		VarDeclList vs = (VarDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location vxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location vxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		VarDecl v = (VarDecl)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = vs; vs.add(v); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("VarDeclList",5, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 9: // VarDeclList ::= 
+            {
+              VarDeclList RESULT =null;
+		 RESULT = new VarDeclList(new Location(0, 0)); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("VarDeclList",5, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 10: // MethodDecl ::= PUBLIC Type Identifier LPAREN FormalList RPAREN LBRACE VarDeclList StatementList RETURN Exp SEMICOLON RBRACE 
+            {
+              MethodDecl RESULT =null;
+		Location pxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-12)).xleft;
+		Location pxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-12)).xright;
+		Object p = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-12)).value;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-11)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-11)).xright;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-11)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-10)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-10)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-10)).value;
+		Location paramsxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).xleft;
+		Location paramsxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).xright;
+		FormalList params = (FormalList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-8)).value;
+		Location vsxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location vsxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		VarDeclList vs = (VarDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location ssxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location ssxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		StatementList ss = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location rvxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location rvxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Exp rv = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new MethodDecl(t, id, params, vs, ss, rv, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MethodDecl",6, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-12)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 11: // MethodDeclList ::= MethodDeclList MethodDecl 
+            {
+              MethodDeclList RESULT =null;
+		Location msxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location msxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		MethodDeclList ms = (MethodDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location mxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location mxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		MethodDecl m = (MethodDecl)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = ms; ms.add(m); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MethodDeclList",7, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 12: // MethodDeclList ::= 
+            {
+              MethodDeclList RESULT =null;
+		 RESULT = new MethodDeclList(new Location(0, 0)); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MethodDeclList",7, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 13: // Statement ::= Identifier BECOMES Exp SEMICOLON 
+            {
+              Statement RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new Assign(id, e, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",8, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 14: // Statement ::= IF LPAREN Exp RPAREN Statement ELSE Statement 
+            {
+              Statement RESULT =null;
+		Location xIfxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location xIfxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Object xIf = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location sIfxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location sIfxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Statement sIf = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location sElsexleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sElsexright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement sElse = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new If(e, sIf, sElse, xIfxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",8, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 15: // Statement ::= PRINT LPAREN Exp RPAREN SEMICOLON 
+            {
+              Statement RESULT =null;
+		Location xPrintxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location xPrintxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object xPrint = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new Print(e, xPrintxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",8, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 16: // Statement ::= Identifier LBRACKET Exp RBRACKET BECOMES Exp SEMICOLON 
+            {
+              Statement RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location vxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location vxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Exp v = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ArrayAssign(id, e, v, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",8, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 17: // Statement ::= WHILE LPAREN Exp RPAREN Statement 
+            {
+              Statement RESULT =null;
+		Location xWhilexleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location xWhilexright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object xWhile = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new While(e, s, xWhilexleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",8, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 18: // Statement ::= LBRACE StatementList RBRACE 
+            {
+              Statement RESULT =null;
+		Location ssxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location ssxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		StatementList ss = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new Block(ss, ssxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",8, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 19: // NonemptyStatementList ::= Statement 
+            {
+              StatementList RESULT =null;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new StatementList(sxleft); RESULT.add(s); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("NonemptyStatementList",9, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 20: // NonemptyStatementList ::= NonemptyStatementList Statement 
+            {
+              StatementList RESULT =null;
+		Location ssxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location ssxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		StatementList ss = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = ss; RESULT.add(s); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("NonemptyStatementList",9, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 21: // StatementList ::= NonemptyStatementList 
+            {
+              StatementList RESULT =null;
+		Location ssxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location ssxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		StatementList ss = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = ss; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("StatementList",10, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 22: // StatementList ::= 
+            {
+              StatementList RESULT =null;
+		 RESULT = new StatementList(new Location(0, 0)); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("StatementList",10, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 23: // Exp ::= IDENTIFIER 
+            {
+              Exp RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		String id = (String)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new IdentifierExp(id, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 24: // Exp ::= Exp PLUS Exp 
+            {
+              Exp RESULT =null;
+		Location arg1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location arg1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Exp arg1 = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location arg2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location arg2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Exp arg2 = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Plus(arg1, arg2, arg1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 25: // Exp ::= Exp MINUS Exp 
+            {
+              Exp RESULT =null;
+		Location arg1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location arg1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Exp arg1 = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location arg2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location arg2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Exp arg2 = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Minus(arg1, arg2, arg1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 26: // Exp ::= Exp MULT Exp 
+            {
+              Exp RESULT =null;
+		Location arg1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location arg1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Exp arg1 = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location arg2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location arg2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Exp arg2 = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Times(arg1, arg2, arg1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 27: // Exp ::= Exp LESS Exp 
+            {
+              Exp RESULT =null;
+		Location arg1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location arg1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Exp arg1 = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location arg2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location arg2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Exp arg2 = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new LessThan(arg1, arg2, arg1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 28: // Exp ::= Exp AND Exp 
+            {
+              Exp RESULT =null;
+		Location arg1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location arg1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Exp arg1 = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location arg2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location arg2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Exp arg2 = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new And(arg1, arg2, arg1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 29: // Exp ::= LPAREN Exp RPAREN 
+            {
+              Exp RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = e; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 30: // Exp ::= NOT Exp 
+            {
+              Exp RESULT =null;
+		Location notxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location notxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object not = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Not(e, notxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 31: // Exp ::= TRUE 
+            {
+              Exp RESULT =null;
+		Location xTruexleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location xTruexright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object xTrue = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new True(xTruexleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 32: // Exp ::= FALSE 
+            {
+              Exp RESULT =null;
+		Location xFalsexleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location xFalsexright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object xFalse = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new False(xFalsexleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 33: // Exp ::= THIS 
+            {
+              Exp RESULT =null;
+		Location xThisxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location xThisxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object xThis = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new This(xThisxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 34: // Exp ::= NEW Identifier LPAREN RPAREN 
+            {
+              Exp RESULT =null;
+		Location xNewxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location xNewxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Object xNew = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new NewObject(id, xNewxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 35: // Exp ::= ArrayLength 
+            {
+              Exp RESULT =null;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ArrayLength l = (ArrayLength)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = l; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 36: // Exp ::= ArrayLookup 
+            {
+              Exp RESULT =null;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ArrayLookup l = (ArrayLookup)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = l; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 37: // Exp ::= NEW INT LBRACKET Exp RBRACKET 
+            {
+              Exp RESULT =null;
+		Location xNewxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location xNewxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object xNew = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new NewArray(e, xNewxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 38: // Exp ::= Exp DOT Identifier LPAREN ExpList RPAREN 
+            {
+              Exp RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location argsxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location argsxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		ExpList args = (ExpList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new Call(e, id, args, exleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 39: // Exp ::= INTEGER 
+            {
+              Exp RESULT =null;
+		Location ixleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location ixright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		int i = (int)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new IntegerLiteral(i, ixleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Exp",11, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 40: // NonemptyExpList ::= Exp 
+            {
+              ExpList RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new ExpList(exleft); RESULT.add(e); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("NonemptyExpList",12, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 41: // NonemptyExpList ::= NonemptyExpList COMMA Exp 
+            {
+              ExpList RESULT =null;
+		Location esxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location esxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		ExpList es = (ExpList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Exp e = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = es; RESULT.add(e); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("NonemptyExpList",12, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 42: // ExpList ::= NonemptyExpList 
+            {
+              ExpList RESULT =null;
+		Location esxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location esxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ExpList es = (ExpList)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = es; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ExpList",13, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 43: // ExpList ::= 
+            {
+              ExpList RESULT =null;
+		 RESULT = new ExpList(new Location(0, 0)); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ExpList",13, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 44: // Formal ::= Type Identifier 
+            {
+              Formal RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Formal(t, id, txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Formal",14, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 45: // NonemptyFormalList ::= Formal 
+            {
+              FormalList RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Formal f = (Formal)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new FormalList(fxleft); RESULT.add(f); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("NonemptyFormalList",15, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 46: // NonemptyFormalList ::= NonemptyFormalList COMMA Formal 
+            {
+              FormalList RESULT =null;
+		Location fsxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location fsxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		FormalList fs = (FormalList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Formal f = (Formal)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = fs; fs.add(f); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("NonemptyFormalList",15, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 47: // FormalList ::= NonemptyFormalList 
+            {
+              FormalList RESULT =null;
+		Location fsxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location fsxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		FormalList fs = (FormalList)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = fs; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("FormalList",16, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 48: // FormalList ::= 
+            {
+              FormalList RESULT =null;
+		 RESULT = new FormalList(new Location(0, 0)); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("FormalList",16, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 49: // ArrayLookup ::= Exp LBRACKET Exp RBRACKET 
+            {
+              ArrayLookup RESULT =null;
+		Location arrayxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location arrayxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Exp array = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location indexxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location indexxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Exp index = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ArrayLookup(array, index, arrayxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ArrayLookup",17, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 50: // ArrayLength ::= Exp DOT LENGTH 
+            {
+              ArrayLength RESULT =null;
+		Location arrayxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location arrayxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Exp array = (Exp)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new ArrayLength(array, arrayxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ArrayLength",18, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 51: // Type ::= INT 
+            {
+              Type RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object t = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new IntegerType(txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Type",19, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 52: // Type ::= BOOLEAN 
+            {
+              Type RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object t = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new BooleanType(txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Type",19, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 53: // Type ::= Identifier 
+            {
+              Type RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new IdentifierType(id.s, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Type",19, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 54: // Type ::= INT LBRACKET RBRACKET 
+            {
+              Type RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object t = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new IntArrayType(txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Type",19, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 55: // Identifier ::= IDENTIFIER 
+            {
+              Identifier RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		String id = (String)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Identifier(id, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Identifier",20, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /* . . . . . .*/
+          default:
+            throw new Exception(
+               "Invalid action number "+CUP$parser$act_num+"found in internal parse table");
+
+        }
+    } /* end of method */
+
+  /** Method splitting the generated action code into several parts. */
+  public final java_cup.runtime.Symbol CUP$parser$do_action(
+    int                        CUP$parser$act_num,
+    java_cup.runtime.lr_parser CUP$parser$parser,
+    java.util.Stack            CUP$parser$stack,
+    int                        CUP$parser$top)
+    throws java.lang.Exception
+    {
+              return CUP$parser$do_action_part00000000(
+                               CUP$parser$act_num,
+                               CUP$parser$parser,
+                               CUP$parser$stack,
+                               CUP$parser$top);
+    }
+}
+
+}
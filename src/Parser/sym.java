@@ -0,0 +1,92 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.11b 20160615 (GIT 4ac7450)
+//----------------------------------------------------
+
+package Parser;
+
+/** CUP generated class containing symbol constants. */
+public class sym {
+  /* terminals */
+  public static final int LBRACKET = 14;
+  public static final int MULT = 5;
+  public static final int INTEGER = 37;
+  public static final int LPAREN = 10;
+  public static final int INT = 19;
+  public static final int LESS = 6;
+  public static final int MINUS = 4;
+  public static final int STATIC = 26;
+  public static final int RPAREN = 11;
+  public static final int NOT = 8;
+  public static final int SEMICOLON = 16;
+  public static final int AND = 7;
+  public static final int COMMA = 17;
+  public static final int CLASS = 24;
+  public static final int PLUS = 3;
+  public static final int MAIN = 28;
+  public static final int IF = 33;
+  public static final int THIS = 22;
+  public static final int DOT = 35;
+  public static final int EOF = 0;
+  public static final int BOOLEAN = 18;
+  public static final int RETURN = 31;
+  public static final int RBRACKET = 15;
+  public static final int TRUE = 20;
+  public static final int NEW = 23;
+  public static final int error = 1;
+  public static final int BECOMES = 9;
+  public static final int VOID = 27;
+  public static final int LBRACE = 12;
+  public static final int ELSE = 34;
+  public static final int WHILE = 32;
+  public static final int PUBLIC = 25;
+  public static final int RBRACE = 13;
+  public static final int EXTENDS = 30;
+  public static final int STRING = 29;
+  public static final int FALSE = 21;
+  public static final int LENGTH = 36;
+  public static final int PRINT = 2;
+  public static final int IDENTIFIER = 38;
+  public static final String[] terminalNames = new String[] {
+  "EOF",
+  "error",
+  "PRINT",
+  "PLUS",
+  "MINUS",
+  "MULT",
+  "LESS",
+  "AND",
+  "NOT",
+  "BECOMES",
+  "LPAREN",
+  "RPAREN",
+  "LBRACE",
+  "RBRACE",
+  "LBRACKET",
+  "RBRACKET",
+  "SEMICOLON",
+  "COMMA",
+  "BOOLEAN",
+  "INT",
+  "TRUE",
+  "FALSE",
+  "THIS",
+  "NEW",
+  "CLASS",
+  "PUBLIC",
+  "STATIC",
+  "VOID",
+  "MAIN",
+  "STRING",
+  "EXTENDS",
+  "RETURN",
+  "WHILE",
+  "IF",
+  "ELSE",
+  "DOT",
+  "LENGTH",
+  "INTEGER",
+  "IDENTIFIER"
+  };
+}
+
@@ -0,0 +1,78 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * System.out and System.err for running several compiles in one JVM. Once
+ * installed, what a thread prints between start and stop goes to the Sink it
+ * started with, and what other threads print goes to the original streams.
+ */
+class PerThreadOutput {
+
+    // which stream a Sink is given bytes from
+    static final int STDOUT = 1;
+    static final int STDERR = 2;
+
+    interface Sink {
+        void write(int stream, byte[] b, int off, int len);
+    }
+
+    private static final ThreadLocal<Sink> current = new ThreadLocal<>();
+
+    // the streams install made, null before
+    private static PrintStream out, err;
+
+    // Replaces System.out and System.err, unless they are the replacements
+    static synchronized void install() {
+        if (System.out != out) {
+            out = new PrintStream(new Route(System.out, STDOUT), true);
+            System.setOut(out);
+        }
+        if (System.err != err) {
+            err = new PrintStream(new Route(System.err, STDERR), true);
+            System.setErr(err);
+        }
+    }
+
+    static void start(Sink sink) {
+        current.set(sink);
+    }
+
+    static void stop() {
+        System.out.flush();
+        System.err.flush();
+        current.remove();
+    }
+
+    private static class Route extends OutputStream {
+
+        private final PrintStream original;
+        private final int stream;
+
+        Route(PrintStream original, int stream) {
+            this.original = original;
+            this.stream = stream;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            Sink sink = current.get();
+            if (sink == null) {
+                original.write(b, off, len);
+            } else {
+                sink.write(stream, b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (current.get() == null) {
+                original.flush();
+            }
+        }
+    }
+}
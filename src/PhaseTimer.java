@@ -0,0 +1,94 @@
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * What -Xtime reports: wall time, CPU time and allocated bytes of each phase
+ * of a compile, and the sizes of what the phases made (tokens, AST nodes,
+ * symbol table entries, IR). CPU time and allocations are the compiling
+ * thread's, so they leave out the threads of -Xparallel-check and
+ * -Xcodegen-threads. A timer that is off ignores everything.
+ */
+class PhaseTimer {
+
+    record Phase(String name, long wallNanos, long cpuNanos, long allocatedBytes) {}
+
+    static final PhaseTimer OFF = new PhaseTimer(false);
+
+    private final boolean on;
+    private final com.sun.management.ThreadMXBean threads;
+    private final List<Phase> phases = new ArrayList<>();
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+
+    // when the current phase started
+    private long wall, cpu, allocated;
+
+    PhaseTimer(boolean on) {
+        this.on = on;
+        this.threads = on ? (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean() : null;
+    }
+
+    boolean isOn() {
+        return on;
+    }
+
+    void start() {
+        if (!on) return;
+        allocated = threads.getCurrentThreadAllocatedBytes();
+        cpu = threads.getCurrentThreadCpuTime();
+        wall = System.nanoTime();
+    }
+
+    // Ends the phase that start began
+    void stop(String name) {
+        if (!on) return;
+        long wallNow = System.nanoTime();
+        long cpuNow = threads.getCurrentThreadCpuTime();
+        long allocatedNow = threads.getCurrentThreadAllocatedBytes();
+        phases.add(new Phase(name, wallNow - wall, cpuNow - cpu, allocatedNow - allocated));
+    }
+
+    void count(String what, long n) {
+        if (!on) return;
+        counts.put(what, n);
+    }
+
+    List<Phase> phases() {
+        return phases;
+    }
+
+    void printTable(PrintStream out) {
+        out.printf("%-10s %10s %10s %12s%n", "phase", "wall ms", "cpu ms", "alloc MB");
+        long wall = 0, cpu = 0, allocated = 0;
+        for (Phase p : phases) {
+            printRow(out, p.name(), p.wallNanos(), p.cpuNanos(), p.allocatedBytes());
+            wall += p.wallNanos();
+            cpu += p.cpuNanos();
+            allocated += p.allocatedBytes();
+        }
+        printRow(out, "total", wall, cpu, allocated);
+        StringJoiner sizes = new StringJoiner(", ");
+        counts.forEach((what, n) -> sizes.add(what + " " + n));
+        if (counts.size() > 0) {
+            out.println(sizes);
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, long wall, long cpu, long allocated) {
+        out.printf("%-10s %10.3f %10.3f %12.3f%n", name, wall / 1e6, cpu / 1e6, allocated / (double) (1 << 20));
+    }
+
+    void writeJson(Writer out) throws IOException {
+        out.write("{\n  \"phases\" : [\n");
+        for (int k = 0; k < phases.size(); k++) {
+            Phase p = phases.get(k);
+            out.write("    { \"name\" : \"" + p.name() + "\", \"wallNanos\" : " + p.wallNanos()
+                    + ", \"cpuNanos\" : " + p.cpuNanos() + ", \"allocatedBytes\" : " + p.allocatedBytes()
+                    + (k + 1 < phases.size() ? " },\n" : " }\n"));
+        }
+        out.write("  ],\n  \"counts\" : {");
+        StringJoiner entries = new StringJoiner(",\n", "\n", "\n  ").setEmptyValue(" ");
+        counts.forEach((what, n) -> entries.add("    \"" + what + "\" : " + n));
+        out.write(entries + "}\n}\n");
+    }
+}
@@ -13,6 +13,11 @@ public abstract class ADT {
         return o == this;
     }
 
+    // values of this type are heap pointers (traced by the collector)
+    public boolean isReference() {
+        return this instanceof ClassADT || this == BaseADT.INT_ARRAY;
+    }
+
     @Override
     public abstract String toString();          // type info
 }
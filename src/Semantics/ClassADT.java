@@ -148,4 +148,16 @@ public class ClassADT extends ADT {
 		assert(hasOffset);
 		return fieldToOffset.get(s);
 	}
+
+	// offsets of the fields that hold heap pointers, for the collector
+	public List<Integer> refFieldOffsets() {
+		assert(hasOffset);
+		List<Integer> res = new ArrayList<>();
+		for (Map.Entry<String, ADT> e : deepFields.entrySet()) {
+			if (e.getValue().isReference()) {
+				res.add(fieldToOffset(e.getKey()));
+			}
+		}
+		return res;
+	}
 }
@@ -0,0 +1,60 @@
+package Semantics;
+
+import java.util.*;
+
+/**
+ * Class hierarchy analysis over the closed world of a type-checked program.
+ * A call o.m(...) with o statically of class C can only reach the versions
+ * of m that C or one of its subclasses inherits; when that is a single
+ * method the call is monomorphic and can be made directly.
+ * ! Must be built after P5OffsetVisitor (relies on deepMethods).
+ */
+public class ClassHierarchy {
+    private final Map<ClassADT, List<ClassADT>> subclasses = new HashMap<>();
+    private final Map<ClassADT, Map<String, MethodADT>> targets = new HashMap<>();
+
+    public ClassHierarchy(GlobalADT global) {
+        for (String name : global.classNames()) {
+            if (global.get(name) instanceof ClassADT c && !name.equals(ADT.MAIN_NAME)) {
+                subclasses.computeIfAbsent(c, k -> new ArrayList<>());
+                if (c.parent != null) {
+                    subclasses.computeIfAbsent(c.parent, k -> new ArrayList<>()).add(c);
+                }
+            }
+        }
+    }
+
+    // c and every class that (transitively) extends it
+    public List<ClassADT> subtree(ClassADT c) {
+        List<ClassADT> res = new ArrayList<>();
+        Deque<ClassADT> work = new ArrayDeque<>(List.of(c));
+        while (!work.isEmpty()) {
+            ClassADT d = work.pop();
+            res.add(d);
+            work.addAll(subclasses.getOrDefault(d, List.of()));
+        }
+        return res;
+    }
+
+    // the only method a call to m on a receiver of static class c can reach,
+    // or null if subclasses override it (synchronized: code generation
+    // may ask from several threads)
+    public synchronized MethodADT uniqueTarget(ClassADT c, String m) {
+        Map<String, MethodADT> known = targets.computeIfAbsent(c, k -> new HashMap<>());
+        if (known.containsKey(m)) return known.get(m);
+        MethodADT res = c.deepgetMethod(m);
+        for (ClassADT d : subtree(c)) {
+            if (d.deepgetMethod(m) != res) {
+                res = null;
+                break;
+            }
+        }
+        known.put(m, res);
+        return res;
+    }
+
+    // assembly label of a method
+    public static String label(MethodADT m) {
+        return m.getClassADT().name + "$" + m.name;
+    }
+}
@@ -111,4 +111,13 @@ public class MethodADT extends ADT {
 	 */
 	public Map<String, Integer> varToOffset = new HashMap<>();
 	public int varToOffset(String s) { return varToOffset.get(s); }
+	public int numSlots;	// 8-byte slots below %rbp: register params, then locals
+
+	/**
+	 * Calling convention (System V registers): "this" and the first
+	 * REG_PARAMS params arrive in ARG_REGS, the rest on the stack with the
+	 * first of them right above the return address.
+	 */
+	public static final String[] ARG_REGS = { "%rdi", "%rsi", "%rdx", "%rcx", "%r8", "%r9" };
+	public static final int REG_PARAMS = ARG_REGS.length - 1;
 }
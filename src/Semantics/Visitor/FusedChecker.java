@@ -0,0 +1,106 @@
+package Semantics.Visitor;
+
+import AST.*;
+import Semantics.*;
+import java.util.*;
+
+/**
+ * Runs P2 to P6 with as few walks over the AST as their order allows, for
+ * use after P1TableVisitor has declared every class:
+ * (1) declareMembers walks the class declarations once. It builds the
+ *     member tables as P2 does, gives method variables their offsets as P5
+ *     does, and records every class in a worklist.
+ * (2) checkExtends, checkOverloads and assignOffsets only look at that
+ *     worklist, never at the AST.
+ * (3) typeCheck walks the method bodies once, as P6 does, or checks them
+ *     in parallel.
+ * Each step produces the same errors, in the same order, as the visitor it
+ * replaces, so runTypeChecker can report them the same way.
+ * ! Steps are meant to be run in order, each only if the previous one passed.
+ */
+public class FusedChecker {
+
+    private final Program program;
+    private final GlobalADT global;
+
+    // every class except main in declaration order, and the subset that extends
+    private final List<ClassADT> classes;
+    private final List<ClassADT> extending;
+
+    public FusedChecker(Program program, GlobalADT global) {
+        this.program = program;
+        this.global = global;
+        classes = new ArrayList<>();
+        extending = new ArrayList<>();
+    }
+
+    public List<String> declareMembers() {
+        P2TableVisitor tables = new P2TableVisitor(global);
+        program.m.accept(tables);
+        for (int i = 0; i < program.cl.size(); i++) {
+            ClassDecl cd = program.cl.get(i);
+            cd.accept(tables);
+            MethodDeclList ml;
+            ClassADT c;
+            switch (cd) {
+                case ClassDeclSimple s -> {
+                    ml = s.ml;
+                    c = (ClassADT) global.get(s.i.s);
+                }
+                case ClassDeclExtends e -> {
+                    ml = e.ml;
+                    c = (ClassADT) global.get(e.i.s);
+                    extending.add(c);
+                }
+                default -> throw new IllegalStateException();
+            }
+            classes.add(c);
+            for (int j = 0; j < ml.size(); j++) {
+                P5OffsetVisitor.assignSlots((MethodADT) c.getMethod(ml.get(j).i.s));
+            }
+        }
+        return tables.getErrors();
+    }
+
+    public List<String> checkExtends() {
+        Set<ClassADT> okay = new HashSet<>();
+        for (ClassADT c : extending) {
+            String error = P3CyclicExtendsVisitor.checkCyclicExtends(c, okay);
+            if (error != null) return List.of(error);
+        }
+        return List.of();
+    }
+
+    public List<String> checkOverloads() {
+        List<String> errors = new ArrayList<>();
+        for (ClassADT leaf : leafs(extending)) {
+            P4OverloadVisitor.checkOverload(leaf, errors);
+        }
+        return errors;
+    }
+
+    public void assignOffsets() {
+        for (ClassADT leaf : leafs(classes)) {
+            P5OffsetVisitor.assignOffset(leaf);
+        }
+    }
+
+    public List<String> typeCheck(boolean parallel) {
+        P6TypeCheckingVisitor types = new P6TypeCheckingVisitor(global);
+        if (parallel) {
+            types.checkInParallel(program);
+        } else {
+            program.accept(types);
+        }
+        return types.getErrors();
+    }
+
+    // The given classes minus every superclass of an extending class
+    private Set<ClassADT> leafs(List<ClassADT> from) {
+        Set<ClassADT> leafs = new LinkedHashSet<>(from);
+        for (ClassADT c : extending) {
+            leafs.remove(c.parent);
+        }
+        return leafs;
+    }
+}
@@ -45,13 +45,18 @@ public class P3CyclicExtendsVisitor implements Visitor {
 
     @Override
     public void visit(ClassDeclExtends n) {
-        ClassADT c0 = (ClassADT) global.get(n.i.s);
+        String error = checkCyclicExtends((ClassADT) global.get(n.i.s), okay);
+        if (error != null) errors.add(error);
+    }
+
+    // Returns the error for c0 if its chain of superclasses loops, otherwise
+    // adds every class on the chain to okay and returns null
+    static String checkCyclicExtends(ClassADT c0, Set<ClassADT> okay) {
         if (!okay.contains(c0)) {
             Set<ClassADT> visited = new HashSet<>();
             for (ClassADT c = c0; c.parent != null; c = c.parent) {
                 if (visited.contains(c)) {
-                    errors.add("CyclicExtendsError: Cyclic extends detected at " + c + ".");
-                    return;
+                    return "CyclicExtendsError: Cyclic extends detected at " + c + ".";
                 }
                 visited.add(c);
             }
@@ -59,6 +64,7 @@ public class P3CyclicExtendsVisitor implements Visitor {
                 okay.add(c);
             }
         }
+        return null;
     }
 
     @Override
@@ -25,7 +25,7 @@ public class P4OverloadVisitor implements Visitor {
 
     @Override
     public void visit(Program n) {
-        Set<ClassADT> leafs = new HashSet<>();
+        Set<ClassADT> leafs = new LinkedHashSet<>();
 
         // Add all leaf classes with parents
         for (int i = 0; i < n.cl.size(); i++) {
@@ -45,11 +45,13 @@ public class P4OverloadVisitor implements Visitor {
 
         // Visit every leaf class
         for (ClassADT leaf : leafs) {
-            checkOverload(leaf);
+            checkOverload(leaf, errors);
         }
     }
 
-    private void checkOverload(ClassADT cl) {
+    // Adds an error for every method of cl or its superclasses that overloads
+    // a method of the same name further down the chain
+    static void checkOverload(ClassADT cl, List<String> errors) {
         Map<String, MethodADT> visited = new HashMap<>();
         for (ClassADT c = cl; c != null; c = c.parent) {
             for (String name : c.methodNames()) {
@@ -49,7 +49,7 @@ public class P5OffsetVisitor implements Visitor {
         }
     }
 
-    private void assignOffset(ClassADT c) {
+    static void assignOffset(ClassADT c) {
         if (c.hasOffset) { return; }
 
         int i;
@@ -105,20 +105,26 @@ public class P5OffsetVisitor implements Visitor {
     @Override
     public void visit(MethodDecl n) {
         ClassADT c = (ClassADT) st;
-        MethodADT m = (MethodADT) c.getMethod(n.i.s);
+        assignSlots((MethodADT) c.getMethod(n.i.s));
+    }
+
+    // Gives every parameter and local of m its offset from %rbp
+    static void assignSlots(MethodADT m) {
         int i = 0;
+        int slot = 0;
         for (String name : m.varNames()) {
-            if (i < m.numParams) {
-                // name is param (located before %rbp)
-                int j = m.numParams - i;
-                m.varToOffset.put(name, 8 + 8*j);
+            if (i >= MethodADT.REG_PARAMS && i < m.numParams) {
+                // name is stack param (located before %rbp, after return address)
+                int j = i - MethodADT.REG_PARAMS;
+                m.varToOffset.put(name, 16 + 8*j);
             } else {
-                // name is local (located after %rbp)
-                int j = i - m.numParams;
-                m.varToOffset.put(name, -8 - 8*j);
+                // name is register param or local (located after %rbp)
+                m.varToOffset.put(name, -8 - 8*slot);
+                slot++;
             }
             i++;
         }
+        m.numSlots = slot;
     }
 
     @Override
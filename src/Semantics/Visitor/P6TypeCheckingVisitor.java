@@ -4,11 +4,20 @@ import AST.*;
 import AST.Visitor.Visitor;
 import Semantics.*;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Note: For every expression that involves an operator,
  * if the type of the operator is well-defined (e.g., return type of PLUS is always an integer),
  * we take that type even if the operands are undefined
+ *
+ * checkInParallel type checks the main method, the fields of each class and
+ * every method on their own, on the common fork-join pool. Those parts only
+ * read the symbol tables and write the types of their own subtree, except
+ * for the undefined names that the first use declares (and reports). Parts
+ * therefore look names up without declaring them, and their errors are
+ * merged in source order, declaring names as they go, so the errors, the
+ * maxErrors cap and the tables end up as after a sequential visit.
  */
 public class P6TypeCheckingVisitor implements Visitor {
 
@@ -16,11 +25,33 @@ public class P6TypeCheckingVisitor implements Visitor {
     private final int maxErrors;
     private ADT st;
     private final LinkedList<String> errors;
+
+    // For a part checked in parallel (null otherwise): the check to run, the
+    // name declared by each error or null, and the names declared so far
+    private final Consumer<P6TypeCheckingVisitor> part;
+    private List<Declaration> declarations;
+    private Set<Declaration> declared;
+    private Declaration declaring;  // declared by the next error
+    private int plainErrors;
+    private RuntimeException failure;
+
+    // name declared as undefined in the global table, a class' methods or a method's variables
+    private record Declaration(ADT scope, String name) {}
+
     public P6TypeCheckingVisitor(GlobalADT global) {
+        this(global, global, null);
+    }
+
+    private P6TypeCheckingVisitor(GlobalADT global, ADT st, Consumer<P6TypeCheckingVisitor> part) {
         this.global = global;
-        this.st = global;
+        this.st = st;
         this.errors = new LinkedList<>();
         this.maxErrors = 15;
+        this.part = part;
+        if (part != null) {
+            declarations = new ArrayList<>();
+            declared = new HashSet<>();
+        }
     }
 
     public List<String> getErrors() {
@@ -39,6 +70,72 @@ public class P6TypeCheckingVisitor implements Visitor {
         }
     }
 
+    /**
+     * Same as visiting n, with the parts of n checked in parallel.
+     */
+    public void checkInParallel(Program n) {
+        List<P6TypeCheckingVisitor> parts = new ArrayList<>();
+        n.m.type = n.m.i1.type = global.get(ADT.MAIN_NAME);
+        MainClass m = n.m;
+        parts.add(new P6TypeCheckingVisitor(global,
+                ((ClassADT) m.type).getMethod(ADT.MAIN_NAME), v -> m.s.accept(v)));
+        for (int i = 0; i < n.cl.size(); i++) {
+            VarDeclList vl;
+            MethodDeclList ml;
+            switch (n.cl.get(i)) {
+                case ClassDeclSimple c -> {
+                    c.i.type = c.type = global.get(c.i.s);
+                    vl = c.vl;
+                    ml = c.ml;
+                }
+                case ClassDeclExtends c -> {
+                    c.i.type = c.type = global.get(c.i.s);
+                    c.j.type = global.get(c.j.s);
+                    vl = c.vl;
+                    ml = c.ml;
+                }
+                default -> throw new AssertionError();
+            }
+            ADT c = n.cl.get(i).type;
+            parts.add(new P6TypeCheckingVisitor(global, c, v -> {
+                for (int j = 0; j < vl.size(); j++) {
+                    vl.get(j).accept(v);
+                }
+            }));
+            for (int j = 0; j < ml.size(); j++) {
+                MethodDecl md = ml.get(j);
+                parts.add(new P6TypeCheckingVisitor(global, c, v -> md.accept(v)));
+            }
+        }
+
+        parts.parallelStream().forEach(P6TypeCheckingVisitor::runPart);
+
+        try {
+            for (P6TypeCheckingVisitor p : parts) {
+                for (int i = 0; i < p.errors.size(); i++) {
+                    Declaration d = p.declarations.get(i);
+                    // skip the error if an earlier part already declared the name
+                    if (d == null || getOrDeclare(d.scope, d.name) == null) {
+                        addError(p.errors.get(i));
+                    }
+                }
+                if (p.failure != null) throw p.failure;
+            }
+        } catch (IllegalStateException e) {
+            // hit max allowable errors
+        }
+    }
+
+    private void runPart() {
+        try {
+            part.accept(this);
+        } catch (IllegalStateException e) {
+            // hit max allowable errors
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+    }
+
     @Override
     public void visit(MainClass n) {
         // ! Ignores n.i2.s (String[] args) entirely
@@ -144,7 +241,7 @@ public class P6TypeCheckingVisitor implements Visitor {
 
     @Override
     public void visit(IdentifierType n) {
-        n.type = global.getOrDeclare(n.s);  // ClassADT, Undefined, or null
+        n.type = getOrDeclare(global, n.s);  // ClassADT, Undefined, or null
         if (n.type == null) {
             n.type = UndefinedADT.UNDEFINED;
             addError("Class " + n.s + " is not defined. Error on line " + n.line_number);
@@ -325,7 +422,10 @@ public class P6TypeCheckingVisitor implements Visitor {
         }
         ClassADT e = (ClassADT) n.e.type;   // now we know e is ClassADT
 
-        n.i.type = e.deepgetMethodOrDeclare(n.i.s); // MethodADT, Undefined, or null
+        n.i.type = e.deepgetMethod(n.i.s);
+        if (n.i.type == null) {
+            n.i.type = getOrDeclare(e, n.i.s);  // Undefined or null
+        }
         // if i is not MethodADT
         if (!(n.i.type instanceof MethodADT)) {
             // throw error (unless i is undefined, whose error should've been handled during previous call to e.i)
@@ -394,7 +494,7 @@ public class P6TypeCheckingVisitor implements Visitor {
 
     @Override
     public void visit(NewObject n) {    // new i()
-        ADT i = global.getOrDeclare(n.i.s); // either ClassADT, Undefined, or null
+        ADT i = getOrDeclare(global, n.i.s); // either ClassADT, Undefined, or null
         if (i != null) {
             n.type = n.i.type = i;
         } else {
@@ -415,7 +515,10 @@ public class P6TypeCheckingVisitor implements Visitor {
     @Override
     public void visit(IdentifierExp n) {
         if (!(st instanceof MethodADT m)) { throw new AssertionError(); }
-        ADT t = m.deepgetVarOrDeclare(n.s);
+        ADT t = m.deepgetVar(n.s);
+        if (t == null) {
+            t = getOrDeclare(m, n.s);   // Undefined or null
+        }
         if (t == null) {
             addError(n.s + " isn't declared. In line " + n.line_number);
             n.type = UndefinedADT.UNDEFINED;
@@ -427,7 +530,10 @@ public class P6TypeCheckingVisitor implements Visitor {
     @Override
     public void visit(Identifier n) {
         if (!(st instanceof MethodADT m)) { throw new AssertionError(); }
-        ADT t = m.deepgetVarOrDeclare(n.s);
+        ADT t = m.deepgetVar(n.s);
+        if (t == null) {
+            t = getOrDeclare(m, n.s);   // Undefined or null
+        }
         if (t == null) {
             addError(n.s + " isn't declared. In line " + n.line_number);
             n.type = UndefinedADT.UNDEFINED;
@@ -436,8 +542,42 @@ public class P6TypeCheckingVisitor implements Visitor {
         }
     }
 
+    // Returns the entry for name in scope, or declares it as undefined and
+    // returns null. Parts only declare it for themselves, until the merge.
+    private ADT getOrDeclare(ADT scope, String name) {
+        if (part == null) {
+            return switch (scope) {
+                case GlobalADT g -> g.getOrDeclare(name);
+                case ClassADT c -> c.getMethodOrDeclare(name);
+                case MethodADT m -> m.getOrDeclare(name);
+                default -> throw new AssertionError();
+            };
+        }
+        ADT t = switch (scope) {
+            case GlobalADT g -> g.get(name);
+            case ClassADT c -> c.getMethod(name);
+            case MethodADT m -> m.get(name);
+            default -> throw new AssertionError();
+        };
+        if (t != null) return t;
+        Declaration d = new Declaration(scope, name);
+        if (!declared.add(d)) return UndefinedADT.UNDEFINED;
+        declaring = d;
+        return null;
+    }
+
     private void addError(String s) {
         this.errors.add(s);
+        if (part != null) {
+            // only errors that declare nothing are sure to survive the merge
+            declarations.add(declaring);
+            if (declaring == null) plainErrors++;
+            declaring = null;
+            if (plainErrors > maxErrors - 1) {
+                throw new IllegalStateException();
+            }
+            return;
+        }
         if (this.errors.size() > maxErrors - 1) {
             throw new IllegalStateException();
         }
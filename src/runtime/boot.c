@@ -6,8 +6,13 @@
  *
  *  Contents:
  *    Main program that calls the compiled code as a function
- *    Function put that can be used by compiled code for integer output
- *    Function mjcalloc to allocate zeroed bytes for minijava's new operator
+ *    Function put that can be used by compiled code for integer output,
+ *      buffered in mj_out_buf (compiled code may fill it inline, see put)
+ *    Functions mjcalloc and mjnew to allocate arrays and objects in a
+ *      garbage-collected heap (compiled constructors inline the common
+ *      case, see mj_heap_ptr)
+ *    Function mjbounds to report an array index out of bounds
+ *    Flat profile of code compiled with -profile, printed at exit
  *
  *  Additional functions used by compiled code can be added as desired.
  */
@@ -16,29 +21,831 @@
 #include <stdlib.h>
 #include <stdint.h>
 #include <inttypes.h>
+#include <stddef.h>
+#include <string.h>
+#include <time.h>
+#include <errno.h>
+#include <unistd.h>
+#include <sys/mman.h>
+#include <sys/resource.h>
+#include <x86intrin.h>
 
 extern void asm_main();   /* main function in compiled code */
                           /* change function name if your   */
                           /* compiled main has a different label */
 
+/*
+ *  Output goes through mj_out_buf, which is written out when it is full,
+ *  when asm_main returns and before the program exits with an error.
+ *  Code compiled with -Xinline-print formats numbers into it itself, and
+ *  only calls put when fewer than MJ_LINE_MAX bytes are left:
+ *
+ *      movq mj_out_ptr(%rip),%rsi
+ *      leaq 21(%rsi),%rax
+ *      cmpq mj_out_end(%rip),%rax
+ *      jbe  fast                       # else calls put(x)
+ */
+
+#define MJ_OUT_BYTES 65536
+#define MJ_LINE_MAX 21          /* "-9223372036854775808\n" */
+
+char mj_out_buf[MJ_OUT_BYTES];
+char *mj_out_ptr = mj_out_buf;
+char *mj_out_end = mj_out_buf + MJ_OUT_BYTES;
+
+static void flush_output(void) {
+  char *p = mj_out_buf;
+  while (p < mj_out_ptr) {
+    ssize_t n = write(STDOUT_FILENO, p, mj_out_ptr - p);
+    if (n < 0 && errno == EINTR) continue;
+    if (n < 0) break;
+    p += n;
+  }
+  mj_out_ptr = mj_out_buf;
+}
+
 /* Write x to standard output followed by a newline */
 void put(int64_t x) {
-  printf("%" PRId64 "\n", x);
+  char digits[20], *d = digits + sizeof digits;
+  uint64_t u = x < 0 ? -(uint64_t) x : (uint64_t) x;
+  if (mj_out_end - mj_out_ptr < MJ_LINE_MAX) flush_output();
+  do {
+    *--d = '0' + u % 10;
+    u /= 10;
+  } while (u != 0);
+  if (x < 0) *mj_out_ptr++ = '-';
+  size_t n = digits + sizeof digits - d;
+  memcpy(mj_out_ptr, d, n);
+  mj_out_ptr[n] = '\n';
+  mj_out_ptr += n + 1;
 }
 
 /*
- *  mjcalloc returns a pointer to a chunk of memory with at least
- *  num_bytes available.  Returned storage has been zeroed out.
- *  Return NULL if attempt to allocate memory fails or if num_bytes
- *  is 0.
+ *  The heap lives in one range of reserved address space: the nursery at
+ *  its bottom, then the chunks of the old space, which are taken from it
+ *  as needed. Only int[] blocks of large_bytes or more are mapped on their
+ *  own: objects that large are allocated in the old space, where the card
+ *  table and minor collections can see their fields. Every block starts with a header word, and pointers held by
+ *  compiled code point just past the header:
+ *    object   address of its class descriptor C$$gc (size, then the number
+ *             and offsets of its pointer fields)
+ *    int[]    size of the block in bytes | MJ_ARRAY (never scanned)
+ *    free     size of the block in bytes | MJ_FREE
+ *  Bit 0 is the mark bit of the old space. In the nursery it means the
+ *  block has been copied, and the rest of the header is its new address.
+ *  Bits 56-63 count the minor collections a nursery block has survived.
+ *
+ *  Blocks are allocated by bumping mj_heap_ptr towards mj_heap_limit
+ *  through the zeroed eden. Compiled constructors do the bump themselves
+ *  and only call mjnew once the eden is full:
+ *
+ *      movq mj_heap_ptr(%rip),%rax
+ *      leaq SIZE+8(%rax),%rdx
+ *      cmpq mj_heap_limit(%rip),%rdx
+ *      ja   slow                       # calls mjnew(C$$gc)
+ *      movq %rdx,mj_heap_ptr(%rip)
+ *      (store C$$gc at (%rax), object starts at 8(%rax))
+ *
+ *  A minor collection then copies the blocks of the nursery reachable
+ *  from the roots into the empty survivor space, and scans the copies in
+ *  order (Cheney). Blocks that have survived MJ_TENURE collections, or no
+ *  longer fit, are promoted to the old space instead. The roots are
+ *  - the stack, found with the stack maps of the compiled code
+ *    (mj_stackmaps: for each return address, the %rbp offsets of the
+ *    frame slots holding pointers) by following the %rbp chain from the
+ *    frame that called the runtime;
+ *  - the objects on dirty cards of the old space. Compiled code dirties
+ *    the 512-byte card of an object after it stores a pointer in it:
+ *
+ *      movq %rax,OFFSET(%rdi)
+ *      movq %rdi,%rdx
+ *      shrq $9,%rdx
+ *      addq mj_card_bias(%rip),%rdx
+ *      movb $1,(%rdx)
+ *
+ *    and the crossing map gives the first object with pointer fields
+ *    on each card, from which the blocks of the card can be walked.
+ *  A card stays dirty while one of its objects points into the nursery.
+ *
+ *  The old space is collected by mark-sweep, after a minor collection
+ *  that promotes everything, when promotion would grow it past its target
+ *  size. Its free blocks next to each other become free spans, which
+ *  promotion bumps through. Programs without stack maps are never
+ *  collected, and allocate straight from old space chunks.
+ *
+ *  Tuning (sizes in bytes, with an optional k, m or g suffix):
+ *    MJ_NURSERY_SIZE  size of the eden (default 8m); each survivor space
+ *                     is an eighth of it
+ *    MJ_TENURE        minor collections survived before promotion
+ *                     (default 2)
+ *    MJ_HEAP_SIZE     old space size before the first major collection
+ *                     (default 64m); afterwards the target is at least
+ *                     twice the live data
+ *    MJ_HEAP_MAX      OutOfMemoryError beyond this old space size
+ *                     (default 64g)
+ *    MJ_GC_VERBOSE    if set, print a line per collection to stderr
  */
 
-void * mjcalloc(size_t num_bytes) {
-  return (calloc(1, num_bytes));
+#define MJ_MARK  ((uint64_t) 1)
+#define MJ_ARRAY ((uint64_t) 2)
+#define MJ_FREE  ((uint64_t) 4)
+#define MJ_TAGS  ((uint64_t) 7)
+#define MJ_AGE_SHIFT 56
+#define MJ_AGE   ((uint64_t) 0xff << MJ_AGE_SHIFT)
+
+#define CARD_SHIFT 9
+#define CARD_BYTES ((size_t) 1 << CARD_SHIFT)
+#define NO_BLOCK 0xffff
+#define PAGE_BYTES ((size_t) 4096)
+
+typedef struct {        /* C$$gc, emitted for each class */
+  int64_t size;         /* bytes of an object, without header */
+  int64_t nrefs;
+  int64_t refs[];       /* offsets of its pointer fields */
+} mjclass;
+
+typedef struct mjchunk {
+  char *start, *end;
+  int large;            /* holds a single large block */
+  struct mjchunk *next;
+} mjchunk;
+
+extern const int64_t mj_stackmaps[] __attribute__((weak));
+
+char *mj_heap_ptr;      /* next free byte in the eden */
+char *mj_heap_limit;    /* end of the eden */
+uint8_t *mj_card_bias;  /* card of address p at mj_card_bias[p >> CARD_SHIFT] */
+char *mj_gc_fp;         /* %rbp and return address of the compiled */
+char *mj_gc_ra;         /* code that called into the runtime */
+
+static char *region_start, *region_top, *region_end;
+static uint8_t *cards;          /* per card of the region: 1 if dirty */
+static uint16_t *crossing;      /* per card: offset of its first object with
+                                   pointer fields (past the header), or NO_BLOCK */
+static char *eden_start, *nursery_end;
+static char *survivor[2];
+static size_t survivor_bytes;
+static int to_space;            /* index of the empty survivor space */
+static char *to_start, *to_top, *to_end;
+static int tenure, promote_all, major_due;
+static size_t promoted;
+
+static mjchunk *chunks;
+static char *old_ptr, *old_limit;       /* current span of the old space */
+static char *free_spans;        /* list linked through word 1 of free blocks */
+static size_t chunk_bytes, large_bytes;
+static size_t heap_mapped, heap_target, heap_max;
+static int can_collect, gc_verbose, minor_count, major_count;
+static const int64_t **maps;    /* stack map entries sorted by address */
+static size_t nmaps;
+static char **mark_stack;
+static size_t mark_top, mark_cap;
+
+static void out_of_memory(void) {
+  flush_output();
+  fprintf(stderr, "Exception in thread \"main\" java.lang.OutOfMemoryError: Java heap space\n");
+  exit(1);
+}
+
+static size_t env_size(const char *name, size_t dflt) {
+  char *s = getenv(name), *end;
+  if (s == NULL || *s == '\0') return dflt;
+  size_t n = strtoull(s, &end, 10);
+  switch (*end) {
+    case 'k': case 'K': n <<= 10; break;
+    case 'm': case 'M': n <<= 20; break;
+    case 'g': case 'G': n <<= 30; break;
+  }
+  return n;
+}
+
+static size_t round_pages(size_t n) {
+  return (n + PAGE_BYTES - 1) & ~(PAGE_BYTES - 1);
+}
+
+static double elapsed_ms(struct timespec *t0) {
+  struct timespec t1;
+  clock_gettime(CLOCK_MONOTONIC, &t1);
+  return (t1.tv_sec - t0->tv_sec) * 1e3 + (t1.tv_nsec - t0->tv_nsec) / 1e6;
+}
+
+/* Take num_bytes (a multiple of the page size) from the reserved range */
+static char *carve(size_t num_bytes) {
+  if ((size_t) (region_end - region_top) < num_bytes) return NULL;
+  if (mprotect(region_top, num_bytes, PROT_READ | PROT_WRITE) != 0) return NULL;
+  char *p = region_top;
+  region_top += num_bytes;
+  if (crossing != NULL) {
+    memset(crossing + ((p - region_start) >> CARD_SHIFT), 0xff,
+           (num_bytes >> CARD_SHIFT) * sizeof(uint16_t));
+  }
+  return p;
+}
+
+static void *map_table(size_t num_bytes) {
+  void *p = mmap(NULL, num_bytes, PROT_READ | PROT_WRITE,
+                 MAP_PRIVATE | MAP_ANONYMOUS | MAP_NORESERVE, -1, 0);
+  if (p == MAP_FAILED) out_of_memory();
+  return p;
+}
+
+static void heap_init(void) {
+  can_collect = mj_stackmaps != NULL;
+  heap_target = env_size("MJ_HEAP_SIZE", (size_t) 64 << 20);
+  heap_max = env_size("MJ_HEAP_MAX", (size_t) 64 << 30);
+  tenure = (int) env_size("MJ_TENURE", 2);
+  if (tenure > 255) tenure = 255;
+  gc_verbose = getenv("MJ_GC_VERBOSE") != NULL;
+  chunk_bytes = heap_target / 4;
+  if (chunk_bytes < ((size_t) 256 << 10)) chunk_bytes = (size_t) 256 << 10;
+  if (chunk_bytes > ((size_t) 32 << 20)) chunk_bytes = (size_t) 32 << 20;
+  chunk_bytes = round_pages(chunk_bytes);
+  large_bytes = chunk_bytes / 4;
+
+  size_t eden_bytes = 0;
+  if (can_collect) {
+    eden_bytes = round_pages(env_size("MJ_NURSERY_SIZE", (size_t) 8 << 20));
+    if (eden_bytes < ((size_t) 256 << 10)) eden_bytes = (size_t) 256 << 10;
+    survivor_bytes = round_pages(eden_bytes / 8);
+    if (large_bytes > eden_bytes / 4) large_bytes = eden_bytes / 4;
+  }
+  size_t nursery_bytes = eden_bytes + 2 * survivor_bytes;
+
+  /* reserve address space only; it is committed as it is carved */
+  size_t region_bytes = round_pages(nursery_bytes + heap_max);
+  void *p;
+  while ((p = mmap(NULL, region_bytes, PROT_NONE,
+                   MAP_PRIVATE | MAP_ANONYMOUS | MAP_NORESERVE, -1, 0)) == MAP_FAILED) {
+    region_bytes = round_pages(region_bytes / 2);
+    if (region_bytes < nursery_bytes + chunk_bytes) out_of_memory();
+  }
+  region_start = region_top = p;
+  region_end = region_start + region_bytes;
+  if (!can_collect) return;
+
+  size_t ncards = region_bytes >> CARD_SHIFT;
+  cards = map_table(ncards);
+  crossing = map_table(ncards * sizeof(uint16_t));
+  mj_card_bias = cards - ((uintptr_t) region_start >> CARD_SHIFT);
+  eden_start = carve(nursery_bytes);
+  if (eden_start == NULL) out_of_memory();
+  survivor[0] = eden_start + eden_bytes;
+  survivor[1] = survivor[0] + survivor_bytes;
+  nursery_end = survivor[1] + survivor_bytes;
+  mj_heap_ptr = eden_start;
+  mj_heap_limit = survivor[0];
+}
+
+static mjclass *class_of(uint64_t h) {
+  return (mjclass *) (h & ~(MJ_TAGS | MJ_AGE));
+}
+
+static size_t block_size(char *b) {
+  uint64_t h = *(uint64_t *) b & ~MJ_AGE;
+  if (h & (MJ_ARRAY | MJ_FREE)) return h & ~MJ_TAGS;
+  return class_of(h)->size + 8;
+}
+
+/* Whether b is an object that may hold pointers */
+static int has_refs(char *b) {
+  uint64_t h = *(uint64_t *) b;
+  return !(h & (MJ_ARRAY | MJ_FREE)) && class_of(h)->nrefs > 0;
+}
+
+static void make_free(char *b, size_t size) {
+  if (size > 0) *(uint64_t *) b = size | MJ_FREE;
+}
+
+static size_t card_index(char *p) {
+  return (size_t) (p - region_start) >> CARD_SHIFT;
+}
+
+/* Record a block that card scanning must find (see has_refs) */
+static void note_block(char *b) {
+  size_t c = card_index(b + 8);
+  uint16_t off = (uint16_t) ((b + 8 - region_start) & (CARD_BYTES - 1));
+  if (crossing[c] == NO_BLOCK || off < crossing[c]) crossing[c] = off;
+}
+
+/* Map a chunk of at least num_bytes, or return NULL past MJ_HEAP_MAX */
+static mjchunk *map_chunk(size_t num_bytes, int large) {
+  if (heap_mapped + num_bytes > heap_max) return NULL;
+  char *p;
+  if (large) {
+    p = mmap(NULL, num_bytes, PROT_READ | PROT_WRITE,
+             MAP_PRIVATE | MAP_ANONYMOUS, -1, 0);
+    if (p == MAP_FAILED) return NULL;
+  } else if ((p = carve(num_bytes)) == NULL) {
+    return NULL;
+  }
+  mjchunk *c = malloc(sizeof(mjchunk));
+  if (c == NULL) return NULL;
+  c->start = p;
+  c->end = c->start + num_bytes;
+  c->large = large;
+  c->next = chunks;
+  chunks = c;
+  heap_mapped += num_bytes;
+  return c;
+}
+
+/* Old space: the rest of the current span is always a free block, so
+   that the chunks can be walked at any time */
+
+static void use_span(char *start, char *end) {
+  old_ptr = start;
+  old_limit = end;
+  make_free(start, end - start);
+}
+
+/* Move to the first free span with room for num_bytes; small ones that
+   are too short are dropped from the list (but stay free in the heap) */
+static int next_span(size_t num_bytes) {
+  char **link = &free_spans;
+  while (*link != NULL) {
+    char *s = *link;
+    size_t size = block_size(s);
+    if (size >= num_bytes || size < 256) {
+      *link = *(char **) (s + 8);
+      if (size >= num_bytes) {
+        use_span(s, s + size);
+        return 1;
+      }
+    } else {
+      link = (char **) (s + 8);
+    }
+  }
+  return 0;
+}
+
+/* Room in the old space for a block of num_bytes, which the caller fills
+   in; asks for a major collection once the space outgrows its target */
+static char *old_alloc(size_t num_bytes) {
+  if (old_limit - old_ptr < (ptrdiff_t) num_bytes && !next_span(num_bytes)) {
+    size_t size = num_bytes > chunk_bytes ? round_pages(num_bytes) : chunk_bytes;
+    if (heap_mapped + size > heap_target) major_due = 1;
+    mjchunk *c = map_chunk(size, 0);
+    if (c == NULL) out_of_memory();
+    use_span(c->start, c->end);
+  }
+  char *b = old_ptr;
+  old_ptr += num_bytes;
+  make_free(old_ptr, old_limit - old_ptr);
+  return b;
+}
+
+/* Stack maps */
+
+static int map_cmp(const void *a, const void *b) {
+  const int64_t *x = *(const int64_t **) a, *y = *(const int64_t **) b;
+  return x[0] < y[0] ? -1 : x[0] > y[0];
+}
+
+static void index_maps(void) {
+  const int64_t *m;
+  for (m = mj_stackmaps; m[0] != 0; m += 2 + m[1]) nmaps++;
+  maps = malloc(nmaps * sizeof(int64_t *));
+  if (maps == NULL) out_of_memory();
+  nmaps = 0;
+  for (m = mj_stackmaps; m[0] != 0; m += 2 + m[1]) maps[nmaps++] = m;
+  qsort(maps, nmaps, sizeof(int64_t *), map_cmp);
+}
+
+static const int64_t *find_map(char *ra) {
+  size_t lo = 0, hi = nmaps;
+  while (lo < hi) {
+    size_t mid = (lo + hi) / 2;
+    if (maps[mid][0] == (int64_t) ra) return maps[mid];
+    if (maps[mid][0] < (int64_t) ra) lo = mid + 1; else hi = mid;
+  }
+  return NULL;
+}
+
+/* Call visit on every stack slot holding a pointer */
+static void walk_stack(void (*visit)(char **slot)) {
+  char *fp = mj_gc_fp, *ra = mj_gc_ra;
+  const int64_t *m;
+  if (maps == NULL) index_maps();
+  while ((m = find_map(ra)) != NULL) {
+    for (int64_t k = 0; k < m[1]; k++) {
+      visit((char **) (fp + m[2 + k]));
+    }
+    ra = ((char **) fp)[1];
+    fp = ((char **) fp)[0];
+  }
+}
+
+static void push_mark_stack(char *p) {
+  if (mark_top == mark_cap) {
+    mark_cap = mark_cap ? 2 * mark_cap : 1024;
+    mark_stack = realloc(mark_stack, mark_cap * sizeof(char *));
+    if (mark_stack == NULL) out_of_memory();
+  }
+  mark_stack[mark_top++] = p;
+}
+
+/* Minor collection */
+
+static int in_nursery(char *p) {
+  return p >= eden_start && p < nursery_end;
+}
+
+/* New address of the nursery block at p, copying it the first time */
+static char *forward(char *p) {
+  if (!in_nursery(p) || (p >= to_start && p < to_end)) return p;
+  uint64_t *h = (uint64_t *) (p - 8);
+  if (*h & MJ_MARK) return (char *) (*h & ~MJ_MARK);
+  size_t size = block_size(p - 8);
+  uint64_t age = (*h >> MJ_AGE_SHIFT) + 1;
+  char *b;
+  if (!promote_all && age < (uint64_t) tenure && to_top + size <= to_end) {
+    b = to_top;
+    to_top += size;
+    memcpy(b, p - 8, size);
+    *(uint64_t *) b = (*h & ~MJ_AGE) | (age << MJ_AGE_SHIFT);
+  } else {
+    b = old_alloc(size);
+    memcpy(b, p - 8, size);
+    *(uint64_t *) b = *h & ~MJ_AGE;
+    promoted += size;
+    if (has_refs(b)) {
+      note_block(b);
+      push_mark_stack(b + 8);
+    }
+  }
+  *h = (uint64_t) (b + 8) | MJ_MARK;
+  return b + 8;
+}
+
+static void forward_slot(char **slot) {
+  *slot = forward(*slot);
+}
+
+/* Forward the fields of the block at b; returns whether one of them
+   still points into the nursery */
+static int forward_fields(char *b) {
+  if (*(uint64_t *) b & (MJ_ARRAY | MJ_FREE)) return 0;
+  mjclass *c = class_of(*(uint64_t *) b);
+  int young = 0;
+  for (int64_t k = 0; k < c->nrefs; k++) {
+    char **f = (char **) (b + 8 + c->refs[k]);
+    *f = forward(*f);
+    young |= in_nursery(*f);
+  }
+  return young;
+}
+
+static void scan_cards(mjchunk *c) {
+  for (size_t i = card_index(c->start); i < card_index(c->end); i++) {
+    if (!cards[i] || crossing[i] == NO_BLOCK) continue;
+    char *card = region_start + (i << CARD_SHIFT);
+    int young = 0;
+    for (char *b = card + crossing[i] - 8; b < c->end && b + 8 < card + CARD_BYTES;
+         b += block_size(b)) {
+      young |= forward_fields(b);
+    }
+    cards[i] = young;
+  }
+}
+
+static void minor(int all) {
+  struct timespec t0;
+  clock_gettime(CLOCK_MONOTONIC, &t0);
+  promote_all = all;
+  promoted = 0;
+  to_start = to_top = survivor[to_space];
+  to_end = to_start + survivor_bytes;
+
+  walk_stack(forward_slot);
+  for (mjchunk *c = chunks; c != NULL; c = c->next) {
+    if (!c->large) scan_cards(c);
+  }
+  char *scan = to_start;
+  while (scan < to_top || mark_top > 0) {
+    if (scan < to_top) {
+      forward_fields(scan);
+      scan += block_size(scan);
+    } else {
+      char *p = mark_stack[--mark_top];
+      if (forward_fields(p - 8)) mj_card_bias[(uintptr_t) p >> CARD_SHIFT] = 1;
+    }
+  }
+
+  memset(eden_start, 0, mj_heap_ptr - eden_start);
+  mj_heap_ptr = eden_start;
+  to_space ^= 1;
+  minor_count++;
+  if (gc_verbose) {
+    fprintf(stderr, "[gc minor %d: %zuK survived, %zuK promoted, %.3f ms]\n",
+            minor_count, (size_t) (to_top - to_start) >> 10, promoted >> 10, elapsed_ms(&t0));
+  }
+}
+
+/* Major collection: marking */
+
+static void mark(char *p) {
+  if (p == NULL) return;
+  uint64_t *h = (uint64_t *) (p - 8);
+  if (*h & MJ_MARK) return;
+  *h |= MJ_MARK;
+  if (*h & MJ_ARRAY) return;
+  push_mark_stack(p);
+}
+
+static void mark_slot(char **slot) {
+  mark(*slot);
+}
+
+static void mark_roots(void) {
+  walk_stack(mark_slot);
+  while (mark_top > 0) {
+    char *p = mark_stack[--mark_top];
+    mjclass *c = class_of(*(uint64_t *) (p - 8));
+    for (int64_t k = 0; k < c->nrefs; k++) {
+      mark(*(char **) (p + c->refs[k]));
+    }
+  }
+}
+
+/* Sweeping: free blocks next to each other become one span. The nursery
+   is empty, so no card stays dirty, and the crossing map is rebuilt */
+
+static size_t sweep(void) {
+  size_t live = 0;
+  char **tail = &free_spans;
+  mjchunk **link = &chunks;
+  free_spans = NULL;
+  old_ptr = old_limit = NULL;
+  while (*link != NULL) {
+    mjchunk *c = *link;
+    if (c->large) {
+      if (*(uint64_t *) c->start & MJ_MARK) {
+        *(uint64_t *) c->start &= ~MJ_MARK;
+        live += c->end - c->start;
+        link = &c->next;
+      } else {
+        *link = c->next;
+        heap_mapped -= c->end - c->start;
+        munmap(c->start, c->end - c->start);
+        free(c);
+      }
+      continue;
+    }
+    size_t first = card_index(c->start), n = card_index(c->end) - first;
+    memset(cards + first, 0, n);
+    memset(crossing + first, 0xff, n * sizeof(uint16_t));
+    char *run = NULL;
+    for (char *b = c->start; b <= c->end; ) {
+      int used = b < c->end && (*(uint64_t *) b & MJ_MARK);
+      if ((used || b == c->end) && run != NULL) {
+        make_free(run, b - run);
+        if (b - run >= 16) {
+          *tail = run;
+          tail = (char **) (run + 8);
+        }
+        run = NULL;
+      }
+      if (b == c->end) break;
+      size_t size = block_size(b);
+      if (used) {
+        *(uint64_t *) b &= ~MJ_MARK;
+        live += size;
+        if (has_refs(b)) note_block(b);
+      } else if (run == NULL) {
+        run = b;
+      }
+      b += size;
+    }
+    link = &c->next;
+  }
+  *tail = NULL;
+  return live;
+}
+
+static void major(void) {
+  struct timespec t0;
+  minor(1);
+  clock_gettime(CLOCK_MONOTONIC, &t0);
+  mark_roots();
+  size_t before = heap_mapped;
+  size_t live = sweep();
+  if (heap_target < 2 * live) heap_target = 2 * live;
+  major_due = 0;
+  major_count++;
+  if (gc_verbose) {
+    fprintf(stderr, "[gc major %d: %zuK live, %zuK heap (was %zuK), %.3f ms]\n",
+            major_count, live >> 10, heap_mapped >> 10, before >> 10, elapsed_ms(&t0));
+  }
+}
+
+/* Room for a block of num_bytes (a multiple of 8), header included, for
+   an int[] if array is set and else for an object */
+static char *alloc_block(size_t num_bytes, int array) {
+  if (region_start == NULL) heap_init();
+  if (num_bytes >= large_bytes && array) {
+    if (can_collect && heap_mapped + num_bytes > heap_target) major();
+    mjchunk *c = map_chunk(num_bytes, 1);
+    if (c == NULL && can_collect) {
+      major();
+      c = map_chunk(num_bytes, 1);
+    }
+    if (c == NULL) out_of_memory();
+    return c->start;
+  }
+  if (num_bytes >= large_bytes) {
+    /* a free span is not zeroed, and the caller only sets the header */
+    if (can_collect && heap_mapped + num_bytes > heap_target) major();
+    char *b = old_alloc(num_bytes);
+    memset(b, 0, num_bytes);
+    return b;
+  }
+  if (mj_heap_limit - mj_heap_ptr < (ptrdiff_t) num_bytes) {
+    if (can_collect) {
+      minor(0);
+      if (major_due) major();
+    } else {
+      mjchunk *c = map_chunk(chunk_bytes, 0);
+      if (c == NULL) out_of_memory();
+      mj_heap_ptr = c->start;
+      mj_heap_limit = c->end;
+    }
+  }
+  char *p = mj_heap_ptr;
+  mj_heap_ptr += num_bytes;
+  return p;
+}
+
+/*
+ *  mjcalloc returns a pointer to a zeroed int[] of the given length: the
+ *  length word, then the elements. Like Java, it stops the program with
+ *  NegativeArraySizeException for a negative length, and OutOfMemoryError
+ *  for one whose size in bytes would not fit in a block header (or in
+ *  the heap).
+ *  mjnew returns a pointer to a zeroed object of class c.
+ *  Both may collect garbage. They are entered through the stubs below,
+ *  which record the frame of the compiled code that called them.
+ */
+
+/* longest int[], whose block size (header, length, elements) stays below
+   the age bits of the header */
+#define MJ_ARRAY_MAX (((int64_t) 1 << (MJ_AGE_SHIFT - 3)) - 2)
+
+__attribute__((used))
+void * mjcalloc_entry(int64_t length) {
+  if (length < 0) {
+    flush_output();
+    fprintf(stderr, "Exception in thread \"main\" java.lang.NegativeArraySizeException: %" PRId64 "\n",
+            length);
+    exit(1);
+  }
+  if (length > MJ_ARRAY_MAX) {
+    flush_output();
+    fprintf(stderr, "Exception in thread \"main\" java.lang.OutOfMemoryError: "
+            "Requested array size exceeds VM limit\n");
+    exit(1);
+  }
+  size_t num_bytes = ((size_t) length + 2) * 8;
+  char *b = alloc_block(num_bytes, 1);
+  *(uint64_t *) b = num_bytes | MJ_ARRAY;
+  *(int64_t *) (b + 8) = length;
+  return b + 8;
+}
+
+__attribute__((used))
+void * mjnew_entry(mjclass *c) {
+  char *b = alloc_block(c->size + 8, 0);
+  *(uint64_t *) b = (uint64_t) c;
+  if (can_collect && c->size + 8 >= large_bytes && c->nrefs > 0) note_block(b);
+  return b + 8;
+}
+
+__asm__(
+  "\t.text\n"
+  "\t.globl mjcalloc\n"
+  "mjcalloc:\n"
+  "\tmovq %rbp, mj_gc_fp(%rip)\n"
+  "\tmovq (%rsp), %rax\n"
+  "\tmovq %rax, mj_gc_ra(%rip)\n"
+  "\tjmp mjcalloc_entry\n"
+  "\t.globl mjnew\n"
+  "mjnew:\n"
+  "\tmovq %rbp, mj_gc_fp(%rip)\n"
+  "\tmovq (%rsp), %rax\n"
+  "\tmovq %rax, mj_gc_ra(%rip)\n"
+  "\tjmp mjnew_entry\n");
+
+/*
+ *  mjbounds reports an array access at index i of an array of length n
+ *  the way Java does, and exits. Compiled code calls it when a bounds
+ *  check fails; it may be called with a misaligned stack.
+ */
+
+__attribute__((force_align_arg_pointer))
+void mjbounds(int64_t i, int64_t n) {
+  flush_output();
+  fprintf(stderr, "Exception in thread \"main\" java.lang.ArrayIndexOutOfBoundsException: "
+          "Index %" PRId64 " out of bounds for length %" PRId64 "\n", i, n);
+  exit(1);
+}
+
+/*
+ *  Code compiled with -profile counts the calls of each method and times
+ *  them with the time stamp counter (see Generator/Profile.java). Every
+ *  method has a record, listed in mj_profile, and keeps a frame on a
+ *  shadow stack at mj_prof_top while it runs:
+ *    entry  calls++, active++; push {rdtsc, 0, record}
+ *    exit   t = rdtsc - start; self += t - callees; caller's callees += t;
+ *           if (--active == 0) total += t; pop
+ *  so that self time leaves out the methods it called, and total time
+ *  counts recursive activations once. Time spent in the runtime (put,
+ *  allocation, collection) is charged to the method that called it.
+ *  At exit the methods that are still running (after mjbounds, say) are
+ *  charged up to now, and the flat profile goes to standard error, or to
+ *  the file named by MJ_PROFILE_OUT, most self time first. Ticks become
+ *  milliseconds by the rate of the counter over the whole run.
+ */
+
+typedef struct {
+  int64_t calls, self, total, active;
+  const char *name;
+} mjprof;
+
+typedef struct {
+  uint64_t start, callees;
+  mjprof *record;
+} mjframe;
+
+extern mjprof *const mj_profile[] __attribute__((weak));
+
+mjframe *mj_prof_top;
+static mjframe *prof_bottom;
+static uint64_t prof_start_ticks;
+static struct timespec prof_start_time;
+
+static int by_self(const void *a, const void *b) {
+  const mjprof *x = *(mjprof *const *) a, *y = *(mjprof *const *) b;
+  if (x->self != y->self) return x->self < y->self ? 1 : -1;
+  return strcmp(x->name, y->name);
+}
+
+static void profile_report(void) {
+  uint64_t now = __rdtsc();
+  double ms = elapsed_ms(&prof_start_time);
+  for (; mj_prof_top > prof_bottom; mj_prof_top--) {
+    int64_t t = now - mj_prof_top->start;
+    mjprof *r = mj_prof_top->record;
+    r->self += t - mj_prof_top->callees;
+    mj_prof_top[-1].callees += t;
+    if (--r->active == 0) r->total += t;
+  }
+
+  size_t n = 0;
+  while (mj_profile[n] != NULL) n++;
+  mjprof **sorted = malloc(n * sizeof(mjprof *));
+  if (sorted == NULL) return;
+  memcpy(sorted, mj_profile, n * sizeof(mjprof *));
+  qsort(sorted, n, sizeof(mjprof *), by_self);
+
+  char *name = getenv("MJ_PROFILE_OUT");
+  FILE *out = name != NULL && *name != '\0' ? fopen(name, "w") : stderr;
+  if (out == NULL) {
+    perror(name);
+    return;
+  }
+  uint64_t ticks = now - prof_start_ticks;
+  double ms_per_tick = ticks > 0 ? ms / ticks : 0;
+  fprintf(out, "Flat profile: %.3f ms, %" PRIu64 " ticks\n", ms, ticks);
+  fprintf(out, "%7s %12s %12s %12s  %s\n", "%self", "self ms", "total ms", "calls", "method");
+  for (size_t k = 0; k < n; k++) {
+    mjprof *r = sorted[k];
+    if (r->calls == 0) continue;
+    fprintf(out, "%7.2f %12.3f %12.3f %12" PRId64 "  %s\n",
+            ticks > 0 ? 100.0 * r->self / ticks : 0.0,
+            r->self * ms_per_tick, r->total * ms_per_tick, r->calls, r->name);
+  }
+  if (out != stderr) fclose(out);
+  free(sorted);
+}
+
+/* The shadow stack holds at most one frame for every two words of the
+   machine stack, so it is reserved as large as the stack can grow */
+static void profile_init(void) {
+  struct rlimit stack;
+  size_t num_bytes = (size_t) 1 << 30;
+  if (getrlimit(RLIMIT_STACK, &stack) == 0 && stack.rlim_cur != RLIM_INFINITY
+      && stack.rlim_cur < num_bytes) {
+    num_bytes = round_pages(stack.rlim_cur / 16 * sizeof(mjframe) + PAGE_BYTES);
+  }
+  prof_bottom = mj_prof_top = map_table(num_bytes);
+  atexit(profile_report);
+  clock_gettime(CLOCK_MONOTONIC, &prof_start_time);
+  prof_start_ticks = __rdtsc();
 }
 
 /* Execute compiled program asm_main */
 int main() {
+  if (mj_profile != NULL) profile_init();
   asm_main();
+  flush_output();
   return 0;
 }
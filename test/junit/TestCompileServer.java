@@ -0,0 +1,108 @@
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+
+/*
+    Runs a CompileServer in another JVM and checks that compiling through
+    CompileClient prints the same output, with the same exit code, as
+    running MiniJava directly.
+*/
+public class TestCompileServer {
+
+    public static final String TEST_FILES_LOCATION = "test/resources/MiniJavaCodeGenTests/";
+    public static final String SAMPLE_FILES_LOCATION = "SamplePrograms/SampleMiniJavaPrograms/";
+
+    private static Path socket;
+    private static Process server;
+
+    @BeforeClass
+    public static void startServer() throws IOException, InterruptedException {
+        socket = Files.createTempDirectory("testserver-").resolve("minijava.sock");
+        String classpath = String.join(File.pathSeparator, "build/classes", "lib/java-cup-11b.jar");
+        server = new ProcessBuilder("java", "-cp", classpath, "CompileServer", "-threads=4", socket.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        for (int k = 0; k < 300 && !Files.exists(socket); k++) {
+            assertTrue("the server stopped", server.isAlive());
+            Thread.sleep(100);
+        }
+        assertTrue("the server is not listening", Files.exists(socket));
+    }
+
+    @AfterClass
+    public static void stopServer() throws InterruptedException {
+        server.destroy();
+        server.waitFor();
+    }
+
+    private static ExecutionResult compileOnServer(File dir, String... args) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        try {
+            int exitCode = CompileClient.compile(socket, dir, args, out, err);
+            return new ExecutionResult(exitCode, out.toString(), err.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+        Every kind of output, with errors and without, from requests that
+        the server runs at the same time
+    */
+    @Test
+    public void testSameAsMiniJava() throws InterruptedException, ExecutionException {
+        File dir = new File(System.getProperty("user.dir"));
+        List<String[]> requests = new ArrayList<>();
+        for (String option : List.of("-S", "-P", "-A", "-T", "-I", "-O", "-Xcodegen-threads=2")) {
+            for (String file : List.of(
+                    SAMPLE_FILES_LOCATION + "BinaryTree.java",
+                    SAMPLE_FILES_LOCATION + "TreeVisitor.java",
+                    TEST_FILES_LOCATION + "TypeErrors.java")) {
+                requests.add(new String[] { option, file });
+            }
+        }
+        requests.add(new String[] { TEST_FILES_LOCATION + "Missing.java" });
+        requests.add(new String[] { "-S", "-P" });
+
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ExecutionResult>> results = new ArrayList<>();
+            for (String[] args : requests) {
+                results.add(clients.submit(() -> compileOnServer(dir, args)));
+            }
+            for (int k = 0; k < requests.size(); k++) {
+                String[] args = requests.get(k);
+                ExecutionResult expected = CSE401TestUtils.runCatchingExit(() -> MiniJava.main(args));
+                assertEquals("MiniJava " + List.of(args), expected, results.get(k).get());
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    /*
+        Relative paths start at the client's working directory, not the
+        server's
+    */
+    @Test
+    public void testClientDirectory() throws IOException {
+        Path dir = Files.createTempDirectory("testclient-");
+        Files.copy(Path.of(SAMPLE_FILES_LOCATION, "Factorial.java"), dir.resolve("Factorial.java"));
+        ExecutionResult result = compileOnServer(dir.toFile(), "-o", "Factorial.s", "Factorial.java");
+        assertEquals(new ExecutionResult(0, "", ""), result);
+        ExecutionResult direct = CSE401TestUtils.runCatchingExit(
+                () -> MiniJava.main(new String[] { SAMPLE_FILES_LOCATION + "Factorial.java" }));
+        assertEquals(direct.systemOut(), Files.readString(dir.resolve("Factorial.s")));
+    }
+}
@@ -0,0 +1,572 @@
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+
+/*
+    Compiles MiniJava programs with both code generators and checks that the
+    compiled programs print the same output as when run with Java.
+*/
+public class TestMiniJavaCodeGen {
+
+    public static final String TEST_FILES_LOCATION = "test/resources/MiniJavaCodeGenTests/";
+    public static final String SAMPLE_FILES_LOCATION = "SamplePrograms/SampleMiniJavaPrograms/";
+    public static final String TEST_FILES_INPUT_EXTENSION = ".java";
+
+    private void runCodeGenTestCase(String location, String testCaseName, String... options) {
+        try {
+            new MiniJavaTestBuilder()
+                    .withCompilerOptions(options)
+                    .testCompiledProgramOutputMatchesJava(
+                            Path.of(location, testCaseName + TEST_FILES_INPUT_EXTENSION));
+        } catch (IOException | InterruptedException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    // with a heap far smaller than what the program allocates, so that it
+    // only finishes if its garbage is collected (minor and major collections)
+    private void runSmallHeapTestCase(String testCaseName, String... options) {
+        try {
+            new MiniJavaTestBuilder()
+                    .withCompilerOptions(options)
+                    .withEnvironment("MJ_NURSERY_SIZE", "256k")
+                    .withEnvironment("MJ_HEAP_SIZE", "1m")
+                    .withEnvironment("MJ_HEAP_MAX", "32m")
+                    .testCompiledProgramOutputMatchesJava(
+                            Path.of(TEST_FILES_LOCATION, testCaseName + TEST_FILES_INPUT_EXTENSION));
+        } catch (IOException | InterruptedException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    private void runSampleTestCase(String testCaseName) {
+        runCodeGenTestCase(SAMPLE_FILES_LOCATION, testCaseName);
+        runCodeGenTestCase(SAMPLE_FILES_LOCATION, testCaseName, "-O");
+    }
+
+    @Test
+    public void testBinarySearch() {
+        runSampleTestCase("BinarySearch");
+    }
+
+    @Test
+    public void testBinaryTree() {
+        runSampleTestCase("BinaryTree");
+    }
+
+    @Test
+    public void testBubbleSort() {
+        runSampleTestCase("BubbleSort");
+    }
+
+    @Test
+    public void testFactorial() {
+        runSampleTestCase("Factorial");
+    }
+
+    @Test
+    public void testLinearSearch() {
+        runSampleTestCase("LinearSearch");
+    }
+
+    @Test
+    public void testLinkedList() {
+        runSampleTestCase("LinkedList");
+    }
+
+    @Test
+    public void testQuickSort() {
+        runSampleTestCase("QuickSort");
+    }
+
+    @Test
+    public void testTreeVisitor() {
+        runSampleTestCase("TreeVisitor");
+    }
+
+    /*
+        More live values than registers, across calls: forces spilling
+    */
+    @Test
+    public void testRegisterPressure() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "RegisterPressure", "-O");
+    }
+
+    /*
+        Phis that copy into each other and branches on constants
+    */
+    @Test
+    public void testSSAForms() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "SSAForms");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "SSAForms", "-O");
+
+        // without inlining, so that Run stays in one piece: k is 3 wherever
+        // it is used, and the branches on debug and on k < 4 are gone
+        String file = Path.of(TEST_FILES_LOCATION, "SSAForms" + TEST_FILES_INPUT_EXTENSION).toString();
+        ExecutionResult ir = CSE401TestUtils.runCatchingExit(() -> MiniJava.main(
+                new String[] { "-I", "-Xinline-depth=0", file }));
+        assertEquals("exit status", 0, ir.exitStatus());
+        String run = ir.systemOut().substring(ir.systemOut().indexOf("Forms$Run("),
+                ir.systemOut().indexOf("Forms$Param(this"));
+        assertTrue("x + k folded to x + 3", run.matches("(?s).*\n  t\\d+ = x\\.\\d+ \\+ 3\n.*"));
+        assertTrue("k printed as 3", run.contains("\n  put(3)\n"));
+        assertFalse("k left in " + run, run.contains(" k."));
+        assertFalse("branch on k < 4 left in " + run, run.contains("< 4"));
+    }
+
+    /*
+        Register and stack arguments, nested calls and inherited methods
+    */
+    @Test
+    public void testManyArgs() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "ManyArgs");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "ManyArgs", "-O");
+    }
+
+    /*
+        Overridden methods called through a base class, and direct calls
+    */
+    @Test
+    public void testDispatch() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Dispatch");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Dispatch", "-O");
+
+        // without inlining, so that the calls stay calls: only p.Name() and
+        // p.Twice(3) have one possible target
+        String file = Path.of(TEST_FILES_LOCATION, "Dispatch" + TEST_FILES_INPUT_EXTENSION).toString();
+        ExecutionResult ir = CSE401TestUtils.runCatchingExit(() -> MiniJava.main(
+                new String[] { "-I", "-Xinline-depth=0", file }));
+        assertEquals("exit status", 0, ir.exitStatus());
+        String out = ir.systemOut();
+        assertTrue("p.Name() made direct", out.matches("(?s).*\n  t\\d+ = Puppy\\$Name\\(t\\d+\\)\n.*"));
+        assertTrue("p.Twice(3) made direct", out.matches("(?s).*\n  t\\d+ = Animal\\$Twice\\(t\\d+, 3\\)\n.*"));
+        assertEquals("virtual calls of Name", 3, out.split("\\.Name\\[16\\]\\(\\)", -1).length - 1);
+        assertEquals("virtual calls of Legs", 2, out.split("\\.Legs\\[24\\]\\(\\)", -1).length - 1);
+    }
+
+    /*
+        Inlined accessors, parameters and bounded recursive inlining
+    */
+    @Test
+    public void testInlining() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Inlining", "-O");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Inlining", "-O", "-Xinline-size=100", "-Xinline-recursion=2");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Inlining", "-O", "-Xinline-size=0");
+
+        // each limit shows up in the log: Run is too large for main by
+        // default, Fib never inlines itself without -Xinline-recursion, and
+        // with it the copies of Fib stop at the depth limit
+        String file = Path.of(TEST_FILES_LOCATION, "Inlining" + TEST_FILES_INPUT_EXTENSION).toString();
+        ExecutionResult limited = CSE401TestUtils.runCatchingExit(() -> MiniJava.main(
+                new String[] { "-I", "-Xinline-log", file }));
+        assertEquals("exit status", 0, limited.exitStatus());
+        String log = limited.systemErr();
+        assertTrue(log, log.startsWith("asm_main -> Counter$Run: not inlined, too large (cost 27 > 20)\n"
+                + "Counter$Run -> Counter$SetNext: inlined (cost -1)\n"));
+        assertTrue(log, log.contains("\nCounter$Run -> Counter$Fib: inlined (cost 6)\n"
+                + "  Counter$Fib -> Counter$Fib: not inlined, recursive\n"));
+        assertTrue(log, log.endsWith("\nCounter$Fib -> Counter$Fib: not inlined, recursive\n"));
+        assertFalse(log, log.contains("too deep"));
+
+        ExecutionResult unrolled = CSE401TestUtils.runCatchingExit(() -> MiniJava.main(
+                new String[] { "-I", "-Xinline-log", "-Xinline-size=100", "-Xinline-recursion=2", file }));
+        assertEquals("exit status", 0, unrolled.exitStatus());
+        log = unrolled.systemErr();
+        assertTrue(log, log.startsWith("asm_main -> Counter$Run: inlined (cost 27)\n"));
+        assertTrue(log, log.contains("\n  Counter$Run -> Counter$Fib: inlined (cost 6)\n"
+                + "    Counter$Fib -> Counter$Fib: inlined (cost 8)\n"
+                + "      Counter$Fib -> Counter$Fib: not inlined, too deep (4 > 3)\n"));
+        assertTrue(log, log.contains("\n    Counter$Fib -> Counter$Fib: inlined (cost 8)\n"
+                + "      Counter$Fib -> Counter$Fib: not inlined, recursive\n"));
+        assertFalse(log, log.contains("too large"));
+    }
+
+    /*
+        Nested operands, with and without the peephole pass
+    */
+    @Test
+    public void testNestedExpressions() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "NestedExpressions");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "NestedExpressions", "-Xno-peephole");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "NestedExpressions", "-O");
+    }
+
+    /*
+        How often each peephole rule fires, on the code of both generators
+    */
+    @Test
+    public void testPeepholeLog() {
+        String nested = Path.of(TEST_FILES_LOCATION, "NestedExpressions" + TEST_FILES_INPUT_EXTENSION).toString();
+        ExecutionResult stack = CSE401TestUtils.runCatchingExit(() -> MiniJava.main(
+                new String[] { "-Xpeephole-log", nested }));
+        assertEquals("exit status", 0, stack.exitStatus());
+        assertEquals("peephole log", "peephole self-move: 0\n"
+                + "peephole push-pop: 3\n"
+                + "peephole push-load-pop: 3\n"
+                + "peephole push-move-pop: 17\n"
+                + "peephole move-reload: 3\n"
+                + "peephole store-load: 0\n"
+                + "peephole zero-xor: 3\n"
+                + "peephole instructions: 318 -> 258\n", stack.systemErr());
+
+        // self-move and store-load, which NestedExpressions never needs
+        String conditions = Path.of(TEST_FILES_LOCATION, "Conditions" + TEST_FILES_INPUT_EXTENSION).toString();
+        ExecutionResult stackConditions = CSE401TestUtils.runCatchingExit(() -> MiniJava.main(
+                new String[] { "-Xpeephole-log", conditions }));
+        assertEquals("exit status", 0, stackConditions.exitStatus());
+        assertTrue(stackConditions.systemErr(), stackConditions.systemErr().startsWith("peephole self-move: 1\n"));
+        assertTrue(stackConditions.systemErr(), stackConditions.systemErr().contains("\npeephole store-load: 1\n"));
+
+        // the register allocated code leaves only zeroing to the rules
+        ExecutionResult registers = CSE401TestUtils.runCatchingExit(() -> MiniJava.main(
+                new String[] { "-O", "-Xpeephole-log", conditions }));
+        assertEquals("exit status", 0, registers.exitStatus());
+        assertTrue(registers.systemErr(), registers.systemErr().contains("\npeephole zero-xor: 12\n"));
+        assertTrue(registers.systemErr(), registers.systemErr().endsWith("\npeephole instructions: 166 -> 166\n"));
+    }
+
+    /*
+        Branching on <, !, && and boolean values, with short-circuiting
+    */
+    @Test
+    public void testConditions() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Conditions");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Conditions", "-O");
+    }
+
+    /*
+        && as a value, with and without side effects on the right
+    */
+    @Test
+    public void testShortCircuit() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "ShortCircuit");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "ShortCircuit", "-O");
+    }
+
+    /*
+        Many small objects and a large array from the bump allocator
+    */
+    @Test
+    public void testAllocation() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Allocation");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Allocation", "-O");
+    }
+
+    /*
+        Garbage well beyond the default heap size, with live data in every
+        kind of root (for -O, frame slots and registers saved around calls),
+        also in a heap too small to hold it all
+    */
+    @Test
+    public void testGarbageCollection() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "GarbageCollection");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "GarbageCollection", "-O");
+        runSmallHeapTestCase("GarbageCollection");
+        runSmallHeapTestCase("GarbageCollection", "-O");
+    }
+
+    /*
+        Promoted objects whose fields keep receiving new objects, which
+        the write barrier must record for minor collections, also in a heap
+        too small to hold them all
+    */
+    @Test
+    public void testGenerational() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Generational");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Generational", "-O");
+        runSmallHeapTestCase("Generational");
+        runSmallHeapTestCase("Generational", "-O");
+        runSmallHeapTestCase("Generational", "-O", "-Xinline-size=0");
+    }
+
+    /*
+        An object too large for the nursery, whose fields point into it
+    */
+    @Test
+    public void testLargeObject() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "LargeObject");
+        runSmallHeapTestCase("LargeObject");
+        runSmallHeapTestCase("LargeObject", "-O");
+    }
+
+    /*
+        More output than the runtime buffers at once, printed by the
+        runtime and by the inline fast path of both backends
+    */
+    @Test
+    public void testBufferedPrint() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "BufferedPrint");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "BufferedPrint", "-Xinline-print");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "BufferedPrint", "-O", "-Xinline-print");
+    }
+
+    private void assertSameTypeCheck(Path path, String... options) {
+        String file = path.toString();
+        List<String> args = new ArrayList<>(List.of("-T"));
+        args.addAll(List.of(options));
+        args.add(file);
+        ExecutionResult passes = CSE401TestUtils.runCatchingExit(
+                () -> MiniJava.main(new String[] { "-T", file }));
+        ExecutionResult result = CSE401TestUtils.runCatchingExit(
+                () -> MiniJava.main(args.toArray(new String[0])));
+        assertEquals("type checking " + file + " with " + List.of(options), passes, result);
+    }
+
+    /*
+        The fused type checker prints the same tables and errors as the
+        separate passes
+    */
+    @Test
+    public void testFusedCheck() {
+        for (Path path : List.of(
+                Path.of(SAMPLE_FILES_LOCATION, "TreeVisitor" + TEST_FILES_INPUT_EXTENSION),
+                Path.of(TEST_FILES_LOCATION, "Dispatch" + TEST_FILES_INPUT_EXTENSION),
+                Path.of(TEST_FILES_LOCATION, "Overloads" + TEST_FILES_INPUT_EXTENSION))) {
+            assertSameTypeCheck(path, "-Xfused-check");
+        }
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Dispatch", "-Xfused-check");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Dispatch", "-O", "-Xfused-check");
+    }
+
+    /*
+        Method bodies checked in parallel give the same tables and errors,
+        up to the same cap, as the sequential checker
+    */
+    @Test
+    public void testParallelCheck() {
+        for (Path path : List.of(
+                Path.of(SAMPLE_FILES_LOCATION, "TreeVisitor" + TEST_FILES_INPUT_EXTENSION),
+                Path.of(TEST_FILES_LOCATION, "TypeErrors" + TEST_FILES_INPUT_EXTENSION))) {
+            assertSameTypeCheck(path, "-Xparallel-check");
+            assertSameTypeCheck(path, "-Xparallel-check", "-Xfused-check");
+        }
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Dispatch", "-O", "-Xparallel-check");
+    }
+
+    /*
+        Generating methods on several threads gives the same assembly as
+        generating them in order
+    */
+    @Test
+    public void testCodegenThreads() {
+        String file = Path.of(SAMPLE_FILES_LOCATION, "TreeVisitor" + TEST_FILES_INPUT_EXTENSION).toString();
+        for (String backend : List.of("-Xno-peephole", "-O")) {
+            ExecutionResult sequential = CSE401TestUtils.runCatchingExit(
+                    () -> MiniJava.main(new String[] { backend, file }));
+            for (String threads : List.of("-Xcodegen-threads=2", "-Xcodegen-threads=8")) {
+                ExecutionResult parallel = CSE401TestUtils.runCatchingExit(
+                        () -> MiniJava.main(new String[] { backend, threads, file }));
+                assertEquals("assembly with " + backend + " " + threads, sequential, parallel);
+            }
+        }
+        runCodeGenTestCase(TEST_FILES_LOCATION, "GarbageCollection", "-Xcodegen-threads=4");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "Inlining", "-O", "-Xcodegen-threads=4");
+    }
+
+    /*
+        Constructors of classes without methods
+    */
+    @Test
+    public void testEmptyClasses() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "EmptyClasses");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "EmptyClasses", "-O");
+    }
+
+    /*
+        -o writes the same assembly as standard output gets without it
+    */
+    @Test
+    public void testOutputFile() throws IOException {
+        String file = Path.of(SAMPLE_FILES_LOCATION, "BinaryTree" + TEST_FILES_INPUT_EXTENSION).toString();
+        for (String backend : List.of("-Xcodegen-threads=1", "-O")) {
+            File asm = File.createTempFile("testasm-BinaryTree-", ".s");
+            asm.deleteOnExit();
+            ExecutionResult toFile = CSE401TestUtils.runCatchingExit(
+                    () -> MiniJava.main(new String[] { backend, "-o", asm.getPath(), file }));
+            ExecutionResult toStdout = CSE401TestUtils.runCatchingExit(
+                    () -> MiniJava.main(new String[] { backend, file }));
+            assertEquals("exit status with " + backend, 0, toFile.exitStatus());
+            assertEquals("standard output with " + backend, "", toFile.systemOut());
+            assertEquals("assembly with " + backend, toStdout.systemOut(),
+                    Files.readString(asm.toPath()));
+        }
+    }
+
+    /*
+        A batch compile writes the same assembly as compiling each file on
+        its own, and reports the file that fails without stopping
+    */
+    @Test
+    public void testBatchCompile() throws IOException {
+        Path dir = Files.createTempDirectory("testbatch-");
+        for (String name : List.of("BinaryTree", "Factorial")) {
+            Files.copy(Path.of(SAMPLE_FILES_LOCATION, name + TEST_FILES_INPUT_EXTENSION),
+                    dir.resolve(name + TEST_FILES_INPUT_EXTENSION));
+        }
+        Files.copy(Path.of(TEST_FILES_LOCATION, "TypeErrors" + TEST_FILES_INPUT_EXTENSION),
+                dir.resolve("TypeErrors" + TEST_FILES_INPUT_EXTENSION));
+        ExecutionResult batch = CSE401TestUtils.runCatchingExit(() -> {
+            try {
+                BatchCompile.main(new String[] { "-threads=2", "-O", dir.toString() });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        assertEquals("exit status", 1, batch.exitStatus());
+        assertTrue("report", batch.systemOut().matches("(?s).*\nFAILED +\\d+ ms  \\S*TypeErrors.java\n.*"));
+        assertTrue("report", batch.systemOut().contains("\n3 files, 1 failed, "));
+        for (String name : List.of("BinaryTree", "Factorial")) {
+            Path file = dir.resolve(name + TEST_FILES_INPUT_EXTENSION);
+            ExecutionResult single = CSE401TestUtils.runCatchingExit(
+                    () -> MiniJava.main(new String[] { "-O", file.toString() }));
+            assertEquals("assembly of " + name, single.systemOut(),
+                    Files.readString(dir.resolve(name + ".s")));
+        }
+        assertFalse("assembly of TypeErrors", Files.exists(dir.resolve("TypeErrors.s")));
+    }
+
+    /*
+        -Xtime reports every phase on standard error and in the JSON file,
+        without changing the assembly
+    */
+    @Test
+    public void testTime() throws IOException {
+        String file = Path.of(SAMPLE_FILES_LOCATION, "BinaryTree" + TEST_FILES_INPUT_EXTENSION).toString();
+        File json = File.createTempFile("testtime-BinaryTree-", ".json");
+        json.deleteOnExit();
+        ExecutionResult timed = CSE401TestUtils.runCatchingExit(
+                () -> MiniJava.main(new String[] { "-O", "-Xtime-json=" + json.getPath(), file }));
+        ExecutionResult plain = CSE401TestUtils.runCatchingExit(
+                () -> MiniJava.main(new String[] { "-O", file }));
+        assertEquals("exit status", 0, timed.exitStatus());
+        assertEquals("assembly", plain.systemOut(), timed.systemOut());
+        String report = Files.readString(json.toPath());
+        for (String phase : List.of("scan", "parse", "P1", "P2", "P3", "P4", "P5", "P6",
+                "IR", "optimize", "codegen")) {
+            assertTrue("table row for " + phase, timed.systemErr().contains("\n" + phase + " "));
+            assertTrue("JSON for " + phase, report.contains("\"name\" : \"" + phase + "\""));
+        }
+        assertTrue("sizes", timed.systemErr().contains("tokens 1350, astNodes "));
+    }
+
+    /*
+        -profile leaves the output as it is, and the program prints a flat
+        profile with the calls of each method on standard error
+    */
+    @Test
+    public void testProfile() throws IOException, InterruptedException {
+        Path path = Path.of(SAMPLE_FILES_LOCATION, "Factorial" + TEST_FILES_INPUT_EXTENSION);
+        for (List<String> options : List.of(List.of("-profile"), List.of("-O", "-profile"))) {
+            ExecutionResult result = CSE401TestUtils.compileAndRunWithMiniJava(path, options);
+            assertEquals("exit status with " + options, 0, result.exitStatus());
+            assertEquals("standard output with " + options, "3628800\n", result.systemOut());
+            String profile = result.systemErr();
+            assertTrue("header with " + options, profile.startsWith("Flat profile: "));
+            assertTrue("main with " + options, profile.matches("(?s).* 1  main\n.*"));
+            // with -O the first call of the recursion is inlined into main
+            String calls = options.contains("-O") ? "10" : "11";
+            assertTrue("Fac$ComputeFac with " + options,
+                    profile.matches("(?s).* " + calls + "  Fac\\$ComputeFac\n.*"));
+        }
+    }
+
+    /*
+        Array loops whose bounds checks can and cannot be removed
+    */
+    @Test
+    public void testBoundsChecks() {
+        runCodeGenTestCase(TEST_FILES_LOCATION, "BoundsChecks");
+        runCodeGenTestCase(TEST_FILES_LOCATION, "BoundsChecks", "-O");
+
+        // without inlining, so that each method keeps its own checks: the
+        // four in the canonical loops of Run and the one in the loop up to n
+        // go, the ones indexed by j * 3 stay
+        String file = Path.of(TEST_FILES_LOCATION, "BoundsChecks" + TEST_FILES_INPUT_EXTENSION).toString();
+        ExecutionResult log = CSE401TestUtils.runCatchingExit(() -> MiniJava.main(
+                new String[] { "-I", "-Xinline-size=0", "-Xbounds-log", file }));
+        assertEquals("exit status", 0, log.exitStatus());
+        assertEquals("bounds log", "Arrays$Run: eliminated 5 of 9 bounds checks\n"
+                + "Arrays$Powers: eliminated 0 of 3 bounds checks\n", log.systemErr());
+    }
+
+    /*
+        An out-of-bounds store stops the program with Java's message
+    */
+    @Test
+    public void testOutOfBounds() {
+        Path path = Path.of(TEST_FILES_LOCATION, "OutOfBounds" + TEST_FILES_INPUT_EXTENSION);
+        for (List<String> options : List.of(List.<String>of(), List.of("-O"), List.of("-Xinline-print"))) {
+            try {
+                ExecutionResult result = CSE401TestUtils.compileAndRunWithMiniJava(path, options);
+                assertEquals("exit status with " + options, 1, result.exitStatus());
+                assertEquals("standard output with " + options, "8\n0\n", result.systemOut());
+                assertTrue("standard error with " + options, result.systemErr().startsWith(
+                        "Exception in thread \"main\" java.lang.ArrayIndexOutOfBoundsException: "
+                        + "Index -1 out of bounds for length 5"));
+            } catch (IOException | InterruptedException e) {
+                fail(e.getMessage());
+            }
+        }
+    }
+
+    /*
+        A negative array length and one whose size in bytes overflows stop
+        the program with Java's exceptions, so that the length word of an
+        array can always be trusted
+    */
+    @Test
+    public void testArraySizes() throws IOException, InterruptedException {
+        for (List<String> options : List.of(List.<String>of(), List.of("-O"))) {
+            ExecutionResult negative = CSE401TestUtils.compileAndRunWithMiniJava(
+                    Path.of(TEST_FILES_LOCATION, "NegativeArraySize" + TEST_FILES_INPUT_EXTENSION), options);
+            assertEquals("exit status with " + options, 1, negative.exitStatus());
+            assertEquals("standard output with " + options, "0\n", negative.systemOut());
+            assertEquals("standard error with " + options,
+                    "Exception in thread \"main\" java.lang.NegativeArraySizeException: -1\n",
+                    negative.systemErr());
+            ExecutionResult huge = CSE401TestUtils.compileAndRunWithMiniJava(
+                    Path.of(TEST_FILES_LOCATION, "HugeArray" + TEST_FILES_INPUT_EXTENSION), options);
+            assertEquals("exit status with " + options, 1, huge.exitStatus());
+            assertEquals("standard output with " + options, "1\n", huge.systemOut());
+            assertEquals("standard error with " + options, "Exception in thread \"main\" "
+                    + "java.lang.OutOfMemoryError: Requested array size exceeds VM limit\n", huge.systemErr());
+        }
+    }
+
+    /*
+        An index that passes j < a.length only because j * 3 wrapped around
+        to a negative number is still caught by the bounds check
+    */
+    @Test
+    public void testWrappingIndex() throws IOException, InterruptedException {
+        Path path = Path.of(TEST_FILES_LOCATION, "WrappingIndex" + TEST_FILES_INPUT_EXTENSION);
+        for (List<String> options : List.of(List.<String>of(), List.of("-O"))) {
+            ExecutionResult result = CSE401TestUtils.compileAndRunWithMiniJava(path, options);
+            assertEquals("exit status with " + options, 1, result.exitStatus());
+            assertEquals("standard output with " + options, "", result.systemOut());
+            assertTrue("standard error with " + options, result.systemErr().startsWith(
+                    "Exception in thread \"main\" java.lang.ArrayIndexOutOfBoundsException: "
+                    + "Index -6289078614652622815 out of bounds for length 10"));
+        }
+    }
+
+    /*
+        A direct call through a field that was never set faults like the
+        virtual call did, instead of running the method with this == 0
+    */
+    @Test
+    public void testNullReceiver() throws IOException, InterruptedException {
+        Path path = Path.of(TEST_FILES_LOCATION, "NullReceiver" + TEST_FILES_INPUT_EXTENSION);
+        for (List<String> options : List.of(List.<String>of(), List.of("-O"), List.of("-O", "-Xinline-size=0"))) {
+            ExecutionResult result = CSE401TestUtils.compileAndRunWithMiniJava(path, options);
+            assertNotEquals("exit status with " + options, 0, result.exitStatus());
+            assertFalse("standard output with " + options, result.systemOut().contains("7"));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+import java.io.*;
+import java.nio.file.Path;
+import java.util.List;
+
+import IR.*;
+import IR.Opt.SimplifyCFG;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+
+/*
+    Checks the optimized IR that -I prints against what is expected, and the
+    passes and checks behind it on IR built by hand.
+*/
+public class TestMiniJavaIR {
+
+    public static final String TEST_FILES_LOCATION = "test/resources/MiniJavaIRTests/";
+    public static final String TEST_FILES_INPUT_EXTENSION = ".java";
+    public static final String TEST_FILES_EXPECTED_EXTENSION = ".expected";
+
+    private void runIRTestCase(String testCaseName) {
+        try {
+            new MiniJavaTestBuilder()
+                    .assertSystemOutMatchesContentsOf(
+                            Path.of(TEST_FILES_LOCATION,
+                                    testCaseName + TEST_FILES_EXPECTED_EXTENSION))
+                    .testCompiler("-I", TEST_FILES_LOCATION + testCaseName + TEST_FILES_INPUT_EXTENSION);
+        } catch (IOException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    // x = 1; a jump to an empty block that jumps on, a branch whose two
+    // targets are the same, and a block that nothing reaches
+    private CFG unsimplified() {
+        CFG cfg = new CFG("Test$Run", null, null);
+        Temp x = cfg.newTemp("x", false);
+        BasicBlock entry = cfg.newBlock(), forward = cfg.newBlock(), branch = cfg.newBlock(),
+                exit = cfg.newBlock(), dead = cfg.newBlock();
+        entry.add(Instr.move(x, new Const(1)));
+        entry.add(Instr.jump(forward));
+        forward.add(Instr.jump(branch));
+        branch.add(Instr.cjump(Instr.Cond.LT, x, new Const(2), exit, exit));
+        dead.add(Instr.ret(new Const(0)));
+        exit.add(Instr.ret(x));
+        cfg.blocks.addAll(List.of(entry, forward, branch, dead, exit));
+        return cfg;
+    }
+
+    /*
+        Empty blocks, constant conditions and loops that never run
+    */
+    @Test
+    public void testSimplify() {
+        runIRTestCase("Simplify");
+    }
+
+    /*
+        SimplifyCFG folds the hand-built method into a single block
+    */
+    @Test
+    public void testSimplifyCFG() {
+        CFG cfg = unsimplified();
+        new SimplifyCFG().run(cfg);
+        Verifier.verify(cfg, "SimplifyCFG");
+        assertEquals("Test$Run():\n"
+                + ".LTest$Run$0:\n"
+                + "  x.0 = 1\n"
+                + "  return x.0\n", cfg.toString());
+    }
+
+    /*
+        The Verifier blames the pass after which the IR is malformed, not the
+        ones before it
+    */
+    @Test
+    public void testVerifierNamesPass() {
+        IRProgram program = new IRProgram(null);
+        program.methods.add(unsimplified());
+        PassManager pm = new PassManager()
+                .add(new SimplifyCFG())
+                .add(new Pass() {
+                    @Override
+                    public String name() {
+                        return "DropReturn";
+                    }
+
+                    @Override
+                    public void run(CFG cfg) {
+                        BasicBlock b = cfg.blocks.get(cfg.blocks.size() - 1);
+                        b.instrs.remove(b.instrs.size() - 1);
+                    }
+                });
+        try {
+            pm.run(program);
+            fail("the IR without a return was accepted");
+        } catch (IllegalStateException e) {
+            assertEquals("Malformed IR in Test$Run after DropReturn: "
+                    + ".LTest$Run$0 does not end in a terminator", e.getMessage());
+        }
+    }
+}
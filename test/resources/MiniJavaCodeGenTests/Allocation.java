@@ -0,0 +1,62 @@
+class Allocation {
+    public static void main(String[] a) {
+        System.out.println(new Maker().Run(1500000));
+    }
+}
+
+// Enough objects to fill more than one heap chunk, fields that must start
+// out zero, and an array large enough to get a mapping of its own.
+class Node {
+    int v;
+    Node next;
+
+    public int Init(int x, Node n) {
+        v = x;
+        next = n;
+        return 0;
+    }
+
+    public int Val() {
+        return v;
+    }
+
+    public Node Next() {
+        return next;
+    }
+}
+
+class Maker {
+    public int Run(int n) {
+        Node l;
+        Node t;
+        int i;
+        int s;
+        int d;
+        int[] big;
+        int[] small;
+        l = new Node();
+        System.out.println(l.Val());
+        i = 0;
+        while (i < n) {
+            t = new Node();
+            s = t.Val();
+            d = t.Init(s + 1, l);
+            l = t;
+            i = i + 1;
+        }
+        s = 0;
+        i = 0;
+        while (i < n) {
+            s = s + l.Val();
+            l = l.Next();
+            i = i + 1;
+        }
+        System.out.println(s);
+        small = new int[3];
+        big = new int[2000000];
+        big[1999999] = 5;
+        System.out.println(big[1999999] + big[0]);
+        System.out.println(small[0] + small[2]);
+        return small.length;
+    }
+}
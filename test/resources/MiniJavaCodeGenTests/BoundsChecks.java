@@ -0,0 +1,69 @@
+class BoundsChecks {
+    public static void main(String[] a) {
+        System.out.println(new Arrays().Run(6));
+    }
+}
+
+// Canonical while (i < a.length) loops, and one up to the length a was
+// allocated with, whose checks can be removed, next to accesses that must
+// stay checked.
+class Arrays {
+    public int Run(int n) {
+        int[] a;
+        int[] b;
+        int i;
+        int j;
+        int s;
+        int x;
+        a = new int[n];
+        b = new int[n + n];
+        i = 0;
+        while (i < a.length) {
+            a[i] = i * i;
+            i = i + 1;
+        }
+        i = 0;
+        while (i < b.length) {
+            j = 0;
+            while (j < a.length) {
+                x = a[j];
+                b[i] = x + b[i];
+                j = j + 1;
+            }
+            i = i + 2;
+        }
+        s = 0;
+        i = 0;
+        while (i < a.length) {
+            // b is longer than a, so these are in bounds but stay checked
+            x = b[i];
+            s = s + x;
+            x = b[i + 1];
+            s = s + x;
+            i = i + 1;
+        }
+        i = 0;
+        while (i < n) {
+            // a was made by new int[n], so its length is n
+            x = a[i];
+            s = s + x;
+            i = i + 1;
+        }
+        System.out.println(s);
+        System.out.println(a[n - 1]);
+        System.out.println(this.Powers(b));
+        return b[0];
+    }
+
+    // j * 3 may wrap around to a negative number, so j stays checked even
+    // below a.length
+    public int Powers(int[] a) {
+        int j;
+        j = 1;
+        while (j < a.length) {
+            a[j] = a[j] + 1;
+            j = j * 3;
+        }
+        return a[9];
+    }
+}
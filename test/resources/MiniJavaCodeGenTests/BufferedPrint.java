@@ -0,0 +1,33 @@
+class BufferedPrint {
+    public static void main(String[] a) {
+        System.out.println(new Printer().Run(12000));
+    }
+}
+
+// Prints more lines than the runtime's output buffer holds: zero,
+// negative numbers and numbers of every length up to ten digits, so that
+// the buffer is flushed in the middle of a run of prints.
+class Printer {
+    public int Run(int n) {
+        int i;
+        int p;
+        i = 0;
+        p = 1;
+        while (i < n) {
+            System.out.println(i * i);
+            System.out.println(0 - i);
+            i = i + 1;
+        }
+        i = 0;
+        while (i < 10) {
+            System.out.println(p);
+            System.out.println(p - 1);
+            System.out.println(0 - p);
+            p = p * 10;
+            i = i + 1;
+        }
+        System.out.println(2147483647);
+        System.out.println(0 - 2147483647);
+        return 0;
+    }
+}
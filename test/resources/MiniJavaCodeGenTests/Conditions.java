@@ -0,0 +1,47 @@
+class Conditions {
+    public static void main(String[] a) {
+        System.out.println(new Cond().Run(5, 9));
+    }
+}
+
+// If and While conditions built from <, !, && and boolean values, where
+// the right operand of && must only run when the left one holds.
+class Cond {
+    int calls;
+
+    public int Run(int x, int y) {
+        boolean z;
+        int i;
+        calls = 0;
+        z = true;
+        if (x < y) System.out.println(1); else System.out.println(0);
+        if (!(x < y)) System.out.println(1); else System.out.println(0);
+        if (y < 3) System.out.println(1); else System.out.println(0);
+        if (z) System.out.println(1); else System.out.println(0);
+        if (!z) System.out.println(1); else System.out.println(0);
+        if (true) System.out.println(1); else System.out.println(0);
+        if (!true) System.out.println(1); else System.out.println(0);
+        if ((y < x) && this.Count(true)) System.out.println(1); else System.out.println(0);
+        if ((x < y) && this.Count(false)) System.out.println(1); else System.out.println(0);
+        if (!((x < y) && this.Count(true))) System.out.println(1); else System.out.println(0);
+        if (((x < y) && z) && !(y < x)) System.out.println(1); else System.out.println(0);
+        System.out.println(calls);
+
+        i = 0;
+        while (!(y < x) && z) {
+            x = x + 1;
+            i = i + 1;
+            if (!(i < 3)) z = false; else z = true;
+        }
+        System.out.println(x);
+        i = 0;
+        while ((i < 10) && this.Count(i < 4)) i = i + 1;
+        System.out.println(i);
+        return calls;
+    }
+
+    public boolean Count(boolean b) {
+        calls = calls + 1;
+        return b;
+    }
+}
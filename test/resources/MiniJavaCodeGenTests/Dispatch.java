@@ -0,0 +1,44 @@
+class Dispatch {
+    public static void main(String[] a) {
+        System.out.println(new Driver().Run());
+    }
+}
+
+// Mixes call sites that must stay virtual (Name is overridden below the
+// static type) with ones that class hierarchy analysis can make direct.
+class Driver {
+    public int Run() {
+        Animal x;
+        Animal y;
+        Dog d;
+        Puppy p;
+        int s;
+        x = new Animal();
+        y = new Dog();
+        d = new Puppy();
+        p = new Puppy();
+        s = x.Name();
+        s = s + y.Name();
+        s = s + d.Name();
+        s = s + p.Name();
+        s = s + x.Legs();
+        s = s + d.Legs();
+        s = s + p.Twice(3);
+        return s;
+    }
+}
+
+class Animal {
+    public int Name() { return 1; }
+    public int Legs() { return 4; }
+    public int Twice(int k) { return k + k; }
+}
+
+class Dog extends Animal {
+    public int Name() { return 20; }
+}
+
+class Puppy extends Dog {
+    public int Name() { return 300; }
+    public int Legs() { return 4000; }
+}
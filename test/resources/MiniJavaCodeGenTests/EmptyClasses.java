@@ -0,0 +1,26 @@
+class EmptyClasses {
+    public static void main(String[] a) {
+        System.out.println(new User().Run(new Data()));
+    }
+}
+
+// Classes without methods, right after the main class and after another
+// class, whose constructors must still be code.
+class Data {
+    int x;
+    Data next;
+}
+
+class Nothing {
+}
+
+class User {
+    public int Run(Data d) {
+        Nothing n;
+        Data e;
+        n = new Nothing();
+        e = new Data();
+        System.out.println(7);
+        return 3;
+    }
+}
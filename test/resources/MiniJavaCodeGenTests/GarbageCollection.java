@@ -0,0 +1,111 @@
+class GarbageCollection {
+    public static void main(String[] a) {
+        System.out.println(new Churn().Run(200000));
+    }
+}
+
+// Allocates several times the default heap size in short-lived objects and
+// arrays while live data sits in fields, locals, stack parameters and
+// pushed temporaries (receivers, arguments, arrays being indexed), all of
+// which must survive every collection.
+class Node {
+    int v;
+    Node next;
+    int[] data;
+
+    public int Init(int x, Node n, int[] d) {
+        v = x;
+        next = n;
+        data = d;
+        return 0;
+    }
+
+    public int Val() {
+        return v;
+    }
+
+    public Node Next() {
+        return next;
+    }
+
+    public int[] Data() {
+        return data;
+    }
+
+    public Node Link(Node a, Node b) {
+        int d;
+        d = a.Init(1, b, new int[3]);
+        return a;
+    }
+}
+
+class Churn {
+    public int Run(int n) {
+        Node keep;
+        Node t;
+        Node g;
+        int i;
+        int d;
+        int s;
+        int[] arr;
+        keep = new Node();
+        d = keep.Init(0, keep, new int[2]);
+        i = 0;
+        while (i < 1000) {
+            t = new Node();
+            arr = new int[4];
+            arr[0] = 2;
+            d = t.Init(1, keep, arr);
+            keep = t;
+            i = i + 1;
+        }
+        i = 0;
+        while (i < n) {
+            g = new Node();
+            d = g.Init(i, g, new int[10]);
+            g = g.Link(new Node(), new Node());
+            arr = new int[50];
+            s = arr[this.Index(new Node())];
+            i = i + 1;
+        }
+        System.out.println(this.Sum(keep, 1000));
+        t = new Node();
+        d = t.Init(5, t, new int[1]);
+        System.out.println(this.Many(t, keep, t, keep, t, keep, t));
+        return i;
+    }
+
+    public int Index(Node x) {
+        int[] a;
+        a = new int[100];
+        return x.Val();
+    }
+
+    public int Sum(Node l, int n) {
+        int s;
+        int i;
+        int[] d;
+        s = 0;
+        i = 0;
+        while (i < n) {
+            d = l.Data();
+            s = s + l.Val();
+            s = s + d[0];
+            l = l.Next();
+            i = i + 1;
+        }
+        return s;
+    }
+
+    // the last two parameters are passed on the stack
+    public int Many(Node a, Node b, Node c, Node d, Node e, Node f, Node g) {
+        int i;
+        Node x;
+        i = 0;
+        while (i < 100000) {
+            x = new Node();
+            i = i + 1;
+        }
+        return a.Val() + b.Val() + c.Val() + d.Val() + e.Val() + f.Val() + g.Val();
+    }
+}
@@ -0,0 +1,130 @@
+class Generational {
+    public static void main(String[] a) {
+        System.out.println(new Mutator().Run(3000, 60000));
+    }
+}
+
+// Builds a list of cells that lives long enough to be promoted, then keeps
+// storing new items and arrays into its fields while allocating garbage.
+// The new objects are only reachable from the old cells, so they must be
+// found through the cards those stores dirtied.
+class Item {
+    int v;
+    Item prev;
+
+    public Item Init(int x, Item p) {
+        v = x;
+        prev = p;
+        return this;
+    }
+
+    public int Val() {
+        return v;
+    }
+
+    public Item Prev() {
+        return prev;
+    }
+
+    public int Cut() {
+        prev = new Item();
+        return 0;
+    }
+}
+
+class Cell {
+    Cell next;
+    Item item;
+    int[] hist;
+
+    public int Init(Cell n) {
+        next = n;
+        item = new Item();
+        hist = new int[4];
+        return 0;
+    }
+
+    public int Link(Cell n) {
+        next = n;
+        return 0;
+    }
+
+    public Cell Next() {
+        return next;
+    }
+
+    public Item Get() {
+        return item;
+    }
+
+    public int Put(Item x) {
+        item = x;
+        return 0;
+    }
+
+    public int[] Hist() {
+        return hist;
+    }
+
+    public int Fresh(int x) {
+        hist = new int[8];
+        hist[0] = x;
+        return 0;
+    }
+}
+
+class Mutator {
+    public int Run(int n, int steps) {
+        Cell head;
+        Cell last;
+        Cell c;
+        Item old;
+        int[] junk;
+        int i;
+        int d;
+        int s;
+        int h;
+        int k;
+        head = new Cell();
+        d = head.Init(head);
+        last = head;
+        i = 1;
+        while (i < n) {
+            c = new Cell();
+            d = c.Init(head);
+            head = c;
+            i = i + 1;
+        }
+        d = last.Link(head);
+        c = head;
+        i = 0;
+        k = 0;
+        while (i < steps) {
+            old = c.Get();
+            d = old.Cut();
+            d = c.Put(new Item().Init(i, old));
+            k = k + 1;
+            if (6 < k) {
+                d = c.Fresh(i);
+                k = 0;
+            } else d = 0;
+            junk = new int[1000];
+            junk[0] = i;
+            c = c.Next();
+            i = i + 1;
+        }
+        s = 0;
+        h = 0;
+        c = head;
+        i = 0;
+        while (i < n) {
+            s = s + (c.Get().Val() - c.Get().Prev().Val());
+            h = h + c.Hist()[0];
+            c = c.Next();
+            i = i + 1;
+        }
+        System.out.println(s);
+        System.out.println(h);
+        return i;
+    }
+}
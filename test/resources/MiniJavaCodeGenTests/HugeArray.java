@@ -0,0 +1,26 @@
+class HugeArray {
+    public static void main(String[] a) {
+        System.out.println(new Huge().Run(62));
+    }
+}
+
+// Asks for an array of 2^62 elements, whose size in bytes overflows, after
+// printing 1.
+class Huge {
+    public int Run(int bits) {
+        int[] arr;
+        int n;
+        int i;
+        n = 1;
+        i = 0;
+        while (i < bits) {
+            n = n + n;
+            i = i + 1;
+        }
+        arr = new int[1];
+        arr[0] = 1;
+        System.out.println(arr[0]);
+        arr = new int[n];
+        return arr.length;
+    }
+}
@@ -0,0 +1,63 @@
+class Inlining {
+    public static void main(String[] a) {
+        System.out.println(new Counter().Run(5));
+    }
+}
+
+// Small methods that the inliner copies into their callers: accessors,
+// callees that assign to their own parameters, calls whose result is
+// dropped, and recursion that may only be unrolled a limited number of times.
+class Counter {
+    int count;
+    Counter next;
+
+    public int Run(int n) {
+        int i;
+        int s;
+        Counter c;
+        count = 0;
+        c = new Counter();
+        i = this.SetNext(c);
+        i = 0;
+        s = 0;
+        while (i < n) {
+            s = s + this.Bump(i);
+            s = s + this.GetNext().Bump(2);
+            i = i + 1;
+        }
+        System.out.println(s);
+        System.out.println(this.GetCount());
+        System.out.println(this.GetNext().GetCount());
+        System.out.println(this.CountDown(n));
+        System.out.println(n);
+        return this.Fib(10);
+    }
+
+    public int Bump(int k) {
+        count = count + 1;
+        k = k * 2;
+        return k;
+    }
+
+    public int GetCount() { return count; }
+
+    public Counter GetNext() { return next; }
+
+    public int SetNext(Counter c) {
+        next = c;
+        return 0;
+    }
+
+    public int CountDown(int n) {
+        while (0 < n) {
+            n = n - 1;
+        }
+        return n;
+    }
+
+    public int Fib(int n) {
+        int r;
+        if (n < 2) r = n; else r = this.Fib(n - 1) + this.Fib(n - 2);
+        return r;
+    }
+}
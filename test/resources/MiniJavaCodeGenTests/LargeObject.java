@@ -0,0 +1,426 @@
+class LargeObject {
+    public static void main(String[] a) {
+        System.out.println(new Holder().Run(300, 100));
+    }
+}
+
+// Big has more fields than fit in a 256k nursery, so it is allocated in
+// the old space. The list hanging off it is only reachable through it, so
+// each minor collection must find the new nodes through the card that
+// storing into head dirtied. The Bigs dropped along the way are garbage
+// that only major collections reclaim.
+class Node {
+    int v;
+    Node next;
+
+    public Node Init(int x, Node n) {
+        v = x;
+        next = n;
+        return this;
+    }
+
+    public int Val() {
+        return v;
+    }
+
+    public Node Next() {
+        return next;
+    }
+}
+
+class Big {
+    Node head;
+    int count;
+    int f0; int f1; int f2; int f3; int f4; int f5; int f6; int f7; int f8; int f9; int f10; int f11; int f12; int f13; int f14; int f15; int f16; int f17; int f18; int f19; int f20; int f21; int f22; int f23; int f24; int f25; int f26; int f27; int f28; int f29; int f30; int f31; int f32; int f33; int f34; int f35; int f36; int f37; int f38; int f39; int f40; int f41; int f42; int f43; int f44; int f45; int f46; int f47; int f48; int f49; int f50; int f51; int f52; int f53; int f54; int f55; int f56; int f57; int f58; int f59; int f60; int f61; int f62; int f63; int f64; int f65; int f66; int f67; int f68; int f69; int f70; int f71; int f72; int f73; int f74; int f75; int f76; int f77; int f78; int f79; int f80; int f81; int f82; int f83; int f84; int f85; int f86; int f87; int f88; int f89; int f90; int f91; int f92; int f93; int f94; int f95; int f96; int f97; int f98; int f99;
+    int f100; int f101; int f102; int f103; int f104; int f105; int f106; int f107; int f108; int f109; int f110; int f111; int f112; int f113; int f114; int f115; int f116; int f117; int f118; int f119; int f120; int f121; int f122; int f123; int f124; int f125; int f126; int f127; int f128; int f129; int f130; int f131; int f132; int f133; int f134; int f135; int f136; int f137; int f138; int f139; int f140; int f141; int f142; int f143; int f144; int f145; int f146; int f147; int f148; int f149; int f150; int f151; int f152; int f153; int f154; int f155; int f156; int f157; int f158; int f159; int f160; int f161; int f162; int f163; int f164; int f165; int f166; int f167; int f168; int f169; int f170; int f171; int f172; int f173; int f174; int f175; int f176; int f177; int f178; int f179; int f180; int f181; int f182; int f183; int f184; int f185; int f186; int f187; int f188; int f189; int f190; int f191; int f192; int f193; int f194; int f195; int f196; int f197; int f198; int f199;
+    int f200; int f201; int f202; int f203; int f204; int f205; int f206; int f207; int f208; int f209; int f210; int f211; int f212; int f213; int f214; int f215; int f216; int f217; int f218; int f219; int f220; int f221; int f222; int f223; int f224; int f225; int f226; int f227; int f228; int f229; int f230; int f231; int f232; int f233; int f234; int f235; int f236; int f237; int f238; int f239; int f240; int f241; int f242; int f243; int f244; int f245; int f246; int f247; int f248; int f249; int f250; int f251; int f252; int f253; int f254; int f255; int f256; int f257; int f258; int f259; int f260; int f261; int f262; int f263; int f264; int f265; int f266; int f267; int f268; int f269; int f270; int f271; int f272; int f273; int f274; int f275; int f276; int f277; int f278; int f279; int f280; int f281; int f282; int f283; int f284; int f285; int f286; int f287; int f288; int f289; int f290; int f291; int f292; int f293; int f294; int f295; int f296; int f297; int f298; int f299;
+    int f300; int f301; int f302; int f303; int f304; int f305; int f306; int f307; int f308; int f309; int f310; int f311; int f312; int f313; int f314; int f315; int f316; int f317; int f318; int f319; int f320; int f321; int f322; int f323; int f324; int f325; int f326; int f327; int f328; int f329; int f330; int f331; int f332; int f333; int f334; int f335; int f336; int f337; int f338; int f339; int f340; int f341; int f342; int f343; int f344; int f345; int f346; int f347; int f348; int f349; int f350; int f351; int f352; int f353; int f354; int f355; int f356; int f357; int f358; int f359; int f360; int f361; int f362; int f363; int f364; int f365; int f366; int f367; int f368; int f369; int f370; int f371; int f372; int f373; int f374; int f375; int f376; int f377; int f378; int f379; int f380; int f381; int f382; int f383; int f384; int f385; int f386; int f387; int f388; int f389; int f390; int f391; int f392; int f393; int f394; int f395; int f396; int f397; int f398; int f399;
+    int f400; int f401; int f402; int f403; int f404; int f405; int f406; int f407; int f408; int f409; int f410; int f411; int f412; int f413; int f414; int f415; int f416; int f417; int f418; int f419; int f420; int f421; int f422; int f423; int f424; int f425; int f426; int f427; int f428; int f429; int f430; int f431; int f432; int f433; int f434; int f435; int f436; int f437; int f438; int f439; int f440; int f441; int f442; int f443; int f444; int f445; int f446; int f447; int f448; int f449; int f450; int f451; int f452; int f453; int f454; int f455; int f456; int f457; int f458; int f459; int f460; int f461; int f462; int f463; int f464; int f465; int f466; int f467; int f468; int f469; int f470; int f471; int f472; int f473; int f474; int f475; int f476; int f477; int f478; int f479; int f480; int f481; int f482; int f483; int f484; int f485; int f486; int f487; int f488; int f489; int f490; int f491; int f492; int f493; int f494; int f495; int f496; int f497; int f498; int f499;
+    int f500; int f501; int f502; int f503; int f504; int f505; int f506; int f507; int f508; int f509; int f510; int f511; int f512; int f513; int f514; int f515; int f516; int f517; int f518; int f519; int f520; int f521; int f522; int f523; int f524; int f525; int f526; int f527; int f528; int f529; int f530; int f531; int f532; int f533; int f534; int f535; int f536; int f537; int f538; int f539; int f540; int f541; int f542; int f543; int f544; int f545; int f546; int f547; int f548; int f549; int f550; int f551; int f552; int f553; int f554; int f555; int f556; int f557; int f558; int f559; int f560; int f561; int f562; int f563; int f564; int f565; int f566; int f567; int f568; int f569; int f570; int f571; int f572; int f573; int f574; int f575; int f576; int f577; int f578; int f579; int f580; int f581; int f582; int f583; int f584; int f585; int f586; int f587; int f588; int f589; int f590; int f591; int f592; int f593; int f594; int f595; int f596; int f597; int f598; int f599;
+    int f600; int f601; int f602; int f603; int f604; int f605; int f606; int f607; int f608; int f609; int f610; int f611; int f612; int f613; int f614; int f615; int f616; int f617; int f618; int f619; int f620; int f621; int f622; int f623; int f624; int f625; int f626; int f627; int f628; int f629; int f630; int f631; int f632; int f633; int f634; int f635; int f636; int f637; int f638; int f639; int f640; int f641; int f642; int f643; int f644; int f645; int f646; int f647; int f648; int f649; int f650; int f651; int f652; int f653; int f654; int f655; int f656; int f657; int f658; int f659; int f660; int f661; int f662; int f663; int f664; int f665; int f666; int f667; int f668; int f669; int f670; int f671; int f672; int f673; int f674; int f675; int f676; int f677; int f678; int f679; int f680; int f681; int f682; int f683; int f684; int f685; int f686; int f687; int f688; int f689; int f690; int f691; int f692; int f693; int f694; int f695; int f696; int f697; int f698; int f699;
+    int f700; int f701; int f702; int f703; int f704; int f705; int f706; int f707; int f708; int f709; int f710; int f711; int f712; int f713; int f714; int f715; int f716; int f717; int f718; int f719; int f720; int f721; int f722; int f723; int f724; int f725; int f726; int f727; int f728; int f729; int f730; int f731; int f732; int f733; int f734; int f735; int f736; int f737; int f738; int f739; int f740; int f741; int f742; int f743; int f744; int f745; int f746; int f747; int f748; int f749; int f750; int f751; int f752; int f753; int f754; int f755; int f756; int f757; int f758; int f759; int f760; int f761; int f762; int f763; int f764; int f765; int f766; int f767; int f768; int f769; int f770; int f771; int f772; int f773; int f774; int f775; int f776; int f777; int f778; int f779; int f780; int f781; int f782; int f783; int f784; int f785; int f786; int f787; int f788; int f789; int f790; int f791; int f792; int f793; int f794; int f795; int f796; int f797; int f798; int f799;
+    int f800; int f801; int f802; int f803; int f804; int f805; int f806; int f807; int f808; int f809; int f810; int f811; int f812; int f813; int f814; int f815; int f816; int f817; int f818; int f819; int f820; int f821; int f822; int f823; int f824; int f825; int f826; int f827; int f828; int f829; int f830; int f831; int f832; int f833; int f834; int f835; int f836; int f837; int f838; int f839; int f840; int f841; int f842; int f843; int f844; int f845; int f846; int f847; int f848; int f849; int f850; int f851; int f852; int f853; int f854; int f855; int f856; int f857; int f858; int f859; int f860; int f861; int f862; int f863; int f864; int f865; int f866; int f867; int f868; int f869; int f870; int f871; int f872; int f873; int f874; int f875; int f876; int f877; int f878; int f879; int f880; int f881; int f882; int f883; int f884; int f885; int f886; int f887; int f888; int f889; int f890; int f891; int f892; int f893; int f894; int f895; int f896; int f897; int f898; int f899;
+    int f900; int f901; int f902; int f903; int f904; int f905; int f906; int f907; int f908; int f909; int f910; int f911; int f912; int f913; int f914; int f915; int f916; int f917; int f918; int f919; int f920; int f921; int f922; int f923; int f924; int f925; int f926; int f927; int f928; int f929; int f930; int f931; int f932; int f933; int f934; int f935; int f936; int f937; int f938; int f939; int f940; int f941; int f942; int f943; int f944; int f945; int f946; int f947; int f948; int f949; int f950; int f951; int f952; int f953; int f954; int f955; int f956; int f957; int f958; int f959; int f960; int f961; int f962; int f963; int f964; int f965; int f966; int f967; int f968; int f969; int f970; int f971; int f972; int f973; int f974; int f975; int f976; int f977; int f978; int f979; int f980; int f981; int f982; int f983; int f984; int f985; int f986; int f987; int f988; int f989; int f990; int f991; int f992; int f993; int f994; int f995; int f996; int f997; int f998; int f999;
+    int f1000; int f1001; int f1002; int f1003; int f1004; int f1005; int f1006; int f1007; int f1008; int f1009; int f1010; int f1011; int f1012; int f1013; int f1014; int f1015; int f1016; int f1017; int f1018; int f1019; int f1020; int f1021; int f1022; int f1023; int f1024; int f1025; int f1026; int f1027; int f1028; int f1029; int f1030; int f1031; int f1032; int f1033; int f1034; int f1035; int f1036; int f1037; int f1038; int f1039; int f1040; int f1041; int f1042; int f1043; int f1044; int f1045; int f1046; int f1047; int f1048; int f1049; int f1050; int f1051; int f1052; int f1053; int f1054; int f1055; int f1056; int f1057; int f1058; int f1059; int f1060; int f1061; int f1062; int f1063; int f1064; int f1065; int f1066; int f1067; int f1068; int f1069; int f1070; int f1071; int f1072; int f1073; int f1074; int f1075; int f1076; int f1077; int f1078; int f1079; int f1080; int f1081; int f1082; int f1083; int f1084; int f1085; int f1086; int f1087; int f1088; int f1089; int f1090; int f1091; int f1092; int f1093; int f1094; int f1095; int f1096; int f1097; int f1098; int f1099;
+    int f1100; int f1101; int f1102; int f1103; int f1104; int f1105; int f1106; int f1107; int f1108; int f1109; int f1110; int f1111; int f1112; int f1113; int f1114; int f1115; int f1116; int f1117; int f1118; int f1119; int f1120; int f1121; int f1122; int f1123; int f1124; int f1125; int f1126; int f1127; int f1128; int f1129; int f1130; int f1131; int f1132; int f1133; int f1134; int f1135; int f1136; int f1137; int f1138; int f1139; int f1140; int f1141; int f1142; int f1143; int f1144; int f1145; int f1146; int f1147; int f1148; int f1149; int f1150; int f1151; int f1152; int f1153; int f1154; int f1155; int f1156; int f1157; int f1158; int f1159; int f1160; int f1161; int f1162; int f1163; int f1164; int f1165; int f1166; int f1167; int f1168; int f1169; int f1170; int f1171; int f1172; int f1173; int f1174; int f1175; int f1176; int f1177; int f1178; int f1179; int f1180; int f1181; int f1182; int f1183; int f1184; int f1185; int f1186; int f1187; int f1188; int f1189; int f1190; int f1191; int f1192; int f1193; int f1194; int f1195; int f1196; int f1197; int f1198; int f1199;
+    int f1200; int f1201; int f1202; int f1203; int f1204; int f1205; int f1206; int f1207; int f1208; int f1209; int f1210; int f1211; int f1212; int f1213; int f1214; int f1215; int f1216; int f1217; int f1218; int f1219; int f1220; int f1221; int f1222; int f1223; int f1224; int f1225; int f1226; int f1227; int f1228; int f1229; int f1230; int f1231; int f1232; int f1233; int f1234; int f1235; int f1236; int f1237; int f1238; int f1239; int f1240; int f1241; int f1242; int f1243; int f1244; int f1245; int f1246; int f1247; int f1248; int f1249; int f1250; int f1251; int f1252; int f1253; int f1254; int f1255; int f1256; int f1257; int f1258; int f1259; int f1260; int f1261; int f1262; int f1263; int f1264; int f1265; int f1266; int f1267; int f1268; int f1269; int f1270; int f1271; int f1272; int f1273; int f1274; int f1275; int f1276; int f1277; int f1278; int f1279; int f1280; int f1281; int f1282; int f1283; int f1284; int f1285; int f1286; int f1287; int f1288; int f1289; int f1290; int f1291; int f1292; int f1293; int f1294; int f1295; int f1296; int f1297; int f1298; int f1299;
+    int f1300; int f1301; int f1302; int f1303; int f1304; int f1305; int f1306; int f1307; int f1308; int f1309; int f1310; int f1311; int f1312; int f1313; int f1314; int f1315; int f1316; int f1317; int f1318; int f1319; int f1320; int f1321; int f1322; int f1323; int f1324; int f1325; int f1326; int f1327; int f1328; int f1329; int f1330; int f1331; int f1332; int f1333; int f1334; int f1335; int f1336; int f1337; int f1338; int f1339; int f1340; int f1341; int f1342; int f1343; int f1344; int f1345; int f1346; int f1347; int f1348; int f1349; int f1350; int f1351; int f1352; int f1353; int f1354; int f1355; int f1356; int f1357; int f1358; int f1359; int f1360; int f1361; int f1362; int f1363; int f1364; int f1365; int f1366; int f1367; int f1368; int f1369; int f1370; int f1371; int f1372; int f1373; int f1374; int f1375; int f1376; int f1377; int f1378; int f1379; int f1380; int f1381; int f1382; int f1383; int f1384; int f1385; int f1386; int f1387; int f1388; int f1389; int f1390; int f1391; int f1392; int f1393; int f1394; int f1395; int f1396; int f1397; int f1398; int f1399;
+    int f1400; int f1401; int f1402; int f1403; int f1404; int f1405; int f1406; int f1407; int f1408; int f1409; int f1410; int f1411; int f1412; int f1413; int f1414; int f1415; int f1416; int f1417; int f1418; int f1419; int f1420; int f1421; int f1422; int f1423; int f1424; int f1425; int f1426; int f1427; int f1428; int f1429; int f1430; int f1431; int f1432; int f1433; int f1434; int f1435; int f1436; int f1437; int f1438; int f1439; int f1440; int f1441; int f1442; int f1443; int f1444; int f1445; int f1446; int f1447; int f1448; int f1449; int f1450; int f1451; int f1452; int f1453; int f1454; int f1455; int f1456; int f1457; int f1458; int f1459; int f1460; int f1461; int f1462; int f1463; int f1464; int f1465; int f1466; int f1467; int f1468; int f1469; int f1470; int f1471; int f1472; int f1473; int f1474; int f1475; int f1476; int f1477; int f1478; int f1479; int f1480; int f1481; int f1482; int f1483; int f1484; int f1485; int f1486; int f1487; int f1488; int f1489; int f1490; int f1491; int f1492; int f1493; int f1494; int f1495; int f1496; int f1497; int f1498; int f1499;
+    int f1500; int f1501; int f1502; int f1503; int f1504; int f1505; int f1506; int f1507; int f1508; int f1509; int f1510; int f1511; int f1512; int f1513; int f1514; int f1515; int f1516; int f1517; int f1518; int f1519; int f1520; int f1521; int f1522; int f1523; int f1524; int f1525; int f1526; int f1527; int f1528; int f1529; int f1530; int f1531; int f1532; int f1533; int f1534; int f1535; int f1536; int f1537; int f1538; int f1539; int f1540; int f1541; int f1542; int f1543; int f1544; int f1545; int f1546; int f1547; int f1548; int f1549; int f1550; int f1551; int f1552; int f1553; int f1554; int f1555; int f1556; int f1557; int f1558; int f1559; int f1560; int f1561; int f1562; int f1563; int f1564; int f1565; int f1566; int f1567; int f1568; int f1569; int f1570; int f1571; int f1572; int f1573; int f1574; int f1575; int f1576; int f1577; int f1578; int f1579; int f1580; int f1581; int f1582; int f1583; int f1584; int f1585; int f1586; int f1587; int f1588; int f1589; int f1590; int f1591; int f1592; int f1593; int f1594; int f1595; int f1596; int f1597; int f1598; int f1599;
+    int f1600; int f1601; int f1602; int f1603; int f1604; int f1605; int f1606; int f1607; int f1608; int f1609; int f1610; int f1611; int f1612; int f1613; int f1614; int f1615; int f1616; int f1617; int f1618; int f1619; int f1620; int f1621; int f1622; int f1623; int f1624; int f1625; int f1626; int f1627; int f1628; int f1629; int f1630; int f1631; int f1632; int f1633; int f1634; int f1635; int f1636; int f1637; int f1638; int f1639; int f1640; int f1641; int f1642; int f1643; int f1644; int f1645; int f1646; int f1647; int f1648; int f1649; int f1650; int f1651; int f1652; int f1653; int f1654; int f1655; int f1656; int f1657; int f1658; int f1659; int f1660; int f1661; int f1662; int f1663; int f1664; int f1665; int f1666; int f1667; int f1668; int f1669; int f1670; int f1671; int f1672; int f1673; int f1674; int f1675; int f1676; int f1677; int f1678; int f1679; int f1680; int f1681; int f1682; int f1683; int f1684; int f1685; int f1686; int f1687; int f1688; int f1689; int f1690; int f1691; int f1692; int f1693; int f1694; int f1695; int f1696; int f1697; int f1698; int f1699;
+    int f1700; int f1701; int f1702; int f1703; int f1704; int f1705; int f1706; int f1707; int f1708; int f1709; int f1710; int f1711; int f1712; int f1713; int f1714; int f1715; int f1716; int f1717; int f1718; int f1719; int f1720; int f1721; int f1722; int f1723; int f1724; int f1725; int f1726; int f1727; int f1728; int f1729; int f1730; int f1731; int f1732; int f1733; int f1734; int f1735; int f1736; int f1737; int f1738; int f1739; int f1740; int f1741; int f1742; int f1743; int f1744; int f1745; int f1746; int f1747; int f1748; int f1749; int f1750; int f1751; int f1752; int f1753; int f1754; int f1755; int f1756; int f1757; int f1758; int f1759; int f1760; int f1761; int f1762; int f1763; int f1764; int f1765; int f1766; int f1767; int f1768; int f1769; int f1770; int f1771; int f1772; int f1773; int f1774; int f1775; int f1776; int f1777; int f1778; int f1779; int f1780; int f1781; int f1782; int f1783; int f1784; int f1785; int f1786; int f1787; int f1788; int f1789; int f1790; int f1791; int f1792; int f1793; int f1794; int f1795; int f1796; int f1797; int f1798; int f1799;
+    int f1800; int f1801; int f1802; int f1803; int f1804; int f1805; int f1806; int f1807; int f1808; int f1809; int f1810; int f1811; int f1812; int f1813; int f1814; int f1815; int f1816; int f1817; int f1818; int f1819; int f1820; int f1821; int f1822; int f1823; int f1824; int f1825; int f1826; int f1827; int f1828; int f1829; int f1830; int f1831; int f1832; int f1833; int f1834; int f1835; int f1836; int f1837; int f1838; int f1839; int f1840; int f1841; int f1842; int f1843; int f1844; int f1845; int f1846; int f1847; int f1848; int f1849; int f1850; int f1851; int f1852; int f1853; int f1854; int f1855; int f1856; int f1857; int f1858; int f1859; int f1860; int f1861; int f1862; int f1863; int f1864; int f1865; int f1866; int f1867; int f1868; int f1869; int f1870; int f1871; int f1872; int f1873; int f1874; int f1875; int f1876; int f1877; int f1878; int f1879; int f1880; int f1881; int f1882; int f1883; int f1884; int f1885; int f1886; int f1887; int f1888; int f1889; int f1890; int f1891; int f1892; int f1893; int f1894; int f1895; int f1896; int f1897; int f1898; int f1899;
+    int f1900; int f1901; int f1902; int f1903; int f1904; int f1905; int f1906; int f1907; int f1908; int f1909; int f1910; int f1911; int f1912; int f1913; int f1914; int f1915; int f1916; int f1917; int f1918; int f1919; int f1920; int f1921; int f1922; int f1923; int f1924; int f1925; int f1926; int f1927; int f1928; int f1929; int f1930; int f1931; int f1932; int f1933; int f1934; int f1935; int f1936; int f1937; int f1938; int f1939; int f1940; int f1941; int f1942; int f1943; int f1944; int f1945; int f1946; int f1947; int f1948; int f1949; int f1950; int f1951; int f1952; int f1953; int f1954; int f1955; int f1956; int f1957; int f1958; int f1959; int f1960; int f1961; int f1962; int f1963; int f1964; int f1965; int f1966; int f1967; int f1968; int f1969; int f1970; int f1971; int f1972; int f1973; int f1974; int f1975; int f1976; int f1977; int f1978; int f1979; int f1980; int f1981; int f1982; int f1983; int f1984; int f1985; int f1986; int f1987; int f1988; int f1989; int f1990; int f1991; int f1992; int f1993; int f1994; int f1995; int f1996; int f1997; int f1998; int f1999;
+    int f2000; int f2001; int f2002; int f2003; int f2004; int f2005; int f2006; int f2007; int f2008; int f2009; int f2010; int f2011; int f2012; int f2013; int f2014; int f2015; int f2016; int f2017; int f2018; int f2019; int f2020; int f2021; int f2022; int f2023; int f2024; int f2025; int f2026; int f2027; int f2028; int f2029; int f2030; int f2031; int f2032; int f2033; int f2034; int f2035; int f2036; int f2037; int f2038; int f2039; int f2040; int f2041; int f2042; int f2043; int f2044; int f2045; int f2046; int f2047; int f2048; int f2049; int f2050; int f2051; int f2052; int f2053; int f2054; int f2055; int f2056; int f2057; int f2058; int f2059; int f2060; int f2061; int f2062; int f2063; int f2064; int f2065; int f2066; int f2067; int f2068; int f2069; int f2070; int f2071; int f2072; int f2073; int f2074; int f2075; int f2076; int f2077; int f2078; int f2079; int f2080; int f2081; int f2082; int f2083; int f2084; int f2085; int f2086; int f2087; int f2088; int f2089; int f2090; int f2091; int f2092; int f2093; int f2094; int f2095; int f2096; int f2097; int f2098; int f2099;
+    int f2100; int f2101; int f2102; int f2103; int f2104; int f2105; int f2106; int f2107; int f2108; int f2109; int f2110; int f2111; int f2112; int f2113; int f2114; int f2115; int f2116; int f2117; int f2118; int f2119; int f2120; int f2121; int f2122; int f2123; int f2124; int f2125; int f2126; int f2127; int f2128; int f2129; int f2130; int f2131; int f2132; int f2133; int f2134; int f2135; int f2136; int f2137; int f2138; int f2139; int f2140; int f2141; int f2142; int f2143; int f2144; int f2145; int f2146; int f2147; int f2148; int f2149; int f2150; int f2151; int f2152; int f2153; int f2154; int f2155; int f2156; int f2157; int f2158; int f2159; int f2160; int f2161; int f2162; int f2163; int f2164; int f2165; int f2166; int f2167; int f2168; int f2169; int f2170; int f2171; int f2172; int f2173; int f2174; int f2175; int f2176; int f2177; int f2178; int f2179; int f2180; int f2181; int f2182; int f2183; int f2184; int f2185; int f2186; int f2187; int f2188; int f2189; int f2190; int f2191; int f2192; int f2193; int f2194; int f2195; int f2196; int f2197; int f2198; int f2199;
+    int f2200; int f2201; int f2202; int f2203; int f2204; int f2205; int f2206; int f2207; int f2208; int f2209; int f2210; int f2211; int f2212; int f2213; int f2214; int f2215; int f2216; int f2217; int f2218; int f2219; int f2220; int f2221; int f2222; int f2223; int f2224; int f2225; int f2226; int f2227; int f2228; int f2229; int f2230; int f2231; int f2232; int f2233; int f2234; int f2235; int f2236; int f2237; int f2238; int f2239; int f2240; int f2241; int f2242; int f2243; int f2244; int f2245; int f2246; int f2247; int f2248; int f2249; int f2250; int f2251; int f2252; int f2253; int f2254; int f2255; int f2256; int f2257; int f2258; int f2259; int f2260; int f2261; int f2262; int f2263; int f2264; int f2265; int f2266; int f2267; int f2268; int f2269; int f2270; int f2271; int f2272; int f2273; int f2274; int f2275; int f2276; int f2277; int f2278; int f2279; int f2280; int f2281; int f2282; int f2283; int f2284; int f2285; int f2286; int f2287; int f2288; int f2289; int f2290; int f2291; int f2292; int f2293; int f2294; int f2295; int f2296; int f2297; int f2298; int f2299;
+    int f2300; int f2301; int f2302; int f2303; int f2304; int f2305; int f2306; int f2307; int f2308; int f2309; int f2310; int f2311; int f2312; int f2313; int f2314; int f2315; int f2316; int f2317; int f2318; int f2319; int f2320; int f2321; int f2322; int f2323; int f2324; int f2325; int f2326; int f2327; int f2328; int f2329; int f2330; int f2331; int f2332; int f2333; int f2334; int f2335; int f2336; int f2337; int f2338; int f2339; int f2340; int f2341; int f2342; int f2343; int f2344; int f2345; int f2346; int f2347; int f2348; int f2349; int f2350; int f2351; int f2352; int f2353; int f2354; int f2355; int f2356; int f2357; int f2358; int f2359; int f2360; int f2361; int f2362; int f2363; int f2364; int f2365; int f2366; int f2367; int f2368; int f2369; int f2370; int f2371; int f2372; int f2373; int f2374; int f2375; int f2376; int f2377; int f2378; int f2379; int f2380; int f2381; int f2382; int f2383; int f2384; int f2385; int f2386; int f2387; int f2388; int f2389; int f2390; int f2391; int f2392; int f2393; int f2394; int f2395; int f2396; int f2397; int f2398; int f2399;
+    int f2400; int f2401; int f2402; int f2403; int f2404; int f2405; int f2406; int f2407; int f2408; int f2409; int f2410; int f2411; int f2412; int f2413; int f2414; int f2415; int f2416; int f2417; int f2418; int f2419; int f2420; int f2421; int f2422; int f2423; int f2424; int f2425; int f2426; int f2427; int f2428; int f2429; int f2430; int f2431; int f2432; int f2433; int f2434; int f2435; int f2436; int f2437; int f2438; int f2439; int f2440; int f2441; int f2442; int f2443; int f2444; int f2445; int f2446; int f2447; int f2448; int f2449; int f2450; int f2451; int f2452; int f2453; int f2454; int f2455; int f2456; int f2457; int f2458; int f2459; int f2460; int f2461; int f2462; int f2463; int f2464; int f2465; int f2466; int f2467; int f2468; int f2469; int f2470; int f2471; int f2472; int f2473; int f2474; int f2475; int f2476; int f2477; int f2478; int f2479; int f2480; int f2481; int f2482; int f2483; int f2484; int f2485; int f2486; int f2487; int f2488; int f2489; int f2490; int f2491; int f2492; int f2493; int f2494; int f2495; int f2496; int f2497; int f2498; int f2499;
+    int f2500; int f2501; int f2502; int f2503; int f2504; int f2505; int f2506; int f2507; int f2508; int f2509; int f2510; int f2511; int f2512; int f2513; int f2514; int f2515; int f2516; int f2517; int f2518; int f2519; int f2520; int f2521; int f2522; int f2523; int f2524; int f2525; int f2526; int f2527; int f2528; int f2529; int f2530; int f2531; int f2532; int f2533; int f2534; int f2535; int f2536; int f2537; int f2538; int f2539; int f2540; int f2541; int f2542; int f2543; int f2544; int f2545; int f2546; int f2547; int f2548; int f2549; int f2550; int f2551; int f2552; int f2553; int f2554; int f2555; int f2556; int f2557; int f2558; int f2559; int f2560; int f2561; int f2562; int f2563; int f2564; int f2565; int f2566; int f2567; int f2568; int f2569; int f2570; int f2571; int f2572; int f2573; int f2574; int f2575; int f2576; int f2577; int f2578; int f2579; int f2580; int f2581; int f2582; int f2583; int f2584; int f2585; int f2586; int f2587; int f2588; int f2589; int f2590; int f2591; int f2592; int f2593; int f2594; int f2595; int f2596; int f2597; int f2598; int f2599;
+    int f2600; int f2601; int f2602; int f2603; int f2604; int f2605; int f2606; int f2607; int f2608; int f2609; int f2610; int f2611; int f2612; int f2613; int f2614; int f2615; int f2616; int f2617; int f2618; int f2619; int f2620; int f2621; int f2622; int f2623; int f2624; int f2625; int f2626; int f2627; int f2628; int f2629; int f2630; int f2631; int f2632; int f2633; int f2634; int f2635; int f2636; int f2637; int f2638; int f2639; int f2640; int f2641; int f2642; int f2643; int f2644; int f2645; int f2646; int f2647; int f2648; int f2649; int f2650; int f2651; int f2652; int f2653; int f2654; int f2655; int f2656; int f2657; int f2658; int f2659; int f2660; int f2661; int f2662; int f2663; int f2664; int f2665; int f2666; int f2667; int f2668; int f2669; int f2670; int f2671; int f2672; int f2673; int f2674; int f2675; int f2676; int f2677; int f2678; int f2679; int f2680; int f2681; int f2682; int f2683; int f2684; int f2685; int f2686; int f2687; int f2688; int f2689; int f2690; int f2691; int f2692; int f2693; int f2694; int f2695; int f2696; int f2697; int f2698; int f2699;
+    int f2700; int f2701; int f2702; int f2703; int f2704; int f2705; int f2706; int f2707; int f2708; int f2709; int f2710; int f2711; int f2712; int f2713; int f2714; int f2715; int f2716; int f2717; int f2718; int f2719; int f2720; int f2721; int f2722; int f2723; int f2724; int f2725; int f2726; int f2727; int f2728; int f2729; int f2730; int f2731; int f2732; int f2733; int f2734; int f2735; int f2736; int f2737; int f2738; int f2739; int f2740; int f2741; int f2742; int f2743; int f2744; int f2745; int f2746; int f2747; int f2748; int f2749; int f2750; int f2751; int f2752; int f2753; int f2754; int f2755; int f2756; int f2757; int f2758; int f2759; int f2760; int f2761; int f2762; int f2763; int f2764; int f2765; int f2766; int f2767; int f2768; int f2769; int f2770; int f2771; int f2772; int f2773; int f2774; int f2775; int f2776; int f2777; int f2778; int f2779; int f2780; int f2781; int f2782; int f2783; int f2784; int f2785; int f2786; int f2787; int f2788; int f2789; int f2790; int f2791; int f2792; int f2793; int f2794; int f2795; int f2796; int f2797; int f2798; int f2799;
+    int f2800; int f2801; int f2802; int f2803; int f2804; int f2805; int f2806; int f2807; int f2808; int f2809; int f2810; int f2811; int f2812; int f2813; int f2814; int f2815; int f2816; int f2817; int f2818; int f2819; int f2820; int f2821; int f2822; int f2823; int f2824; int f2825; int f2826; int f2827; int f2828; int f2829; int f2830; int f2831; int f2832; int f2833; int f2834; int f2835; int f2836; int f2837; int f2838; int f2839; int f2840; int f2841; int f2842; int f2843; int f2844; int f2845; int f2846; int f2847; int f2848; int f2849; int f2850; int f2851; int f2852; int f2853; int f2854; int f2855; int f2856; int f2857; int f2858; int f2859; int f2860; int f2861; int f2862; int f2863; int f2864; int f2865; int f2866; int f2867; int f2868; int f2869; int f2870; int f2871; int f2872; int f2873; int f2874; int f2875; int f2876; int f2877; int f2878; int f2879; int f2880; int f2881; int f2882; int f2883; int f2884; int f2885; int f2886; int f2887; int f2888; int f2889; int f2890; int f2891; int f2892; int f2893; int f2894; int f2895; int f2896; int f2897; int f2898; int f2899;
+    int f2900; int f2901; int f2902; int f2903; int f2904; int f2905; int f2906; int f2907; int f2908; int f2909; int f2910; int f2911; int f2912; int f2913; int f2914; int f2915; int f2916; int f2917; int f2918; int f2919; int f2920; int f2921; int f2922; int f2923; int f2924; int f2925; int f2926; int f2927; int f2928; int f2929; int f2930; int f2931; int f2932; int f2933; int f2934; int f2935; int f2936; int f2937; int f2938; int f2939; int f2940; int f2941; int f2942; int f2943; int f2944; int f2945; int f2946; int f2947; int f2948; int f2949; int f2950; int f2951; int f2952; int f2953; int f2954; int f2955; int f2956; int f2957; int f2958; int f2959; int f2960; int f2961; int f2962; int f2963; int f2964; int f2965; int f2966; int f2967; int f2968; int f2969; int f2970; int f2971; int f2972; int f2973; int f2974; int f2975; int f2976; int f2977; int f2978; int f2979; int f2980; int f2981; int f2982; int f2983; int f2984; int f2985; int f2986; int f2987; int f2988; int f2989; int f2990; int f2991; int f2992; int f2993; int f2994; int f2995; int f2996; int f2997; int f2998; int f2999;
+    int f3000; int f3001; int f3002; int f3003; int f3004; int f3005; int f3006; int f3007; int f3008; int f3009; int f3010; int f3011; int f3012; int f3013; int f3014; int f3015; int f3016; int f3017; int f3018; int f3019; int f3020; int f3021; int f3022; int f3023; int f3024; int f3025; int f3026; int f3027; int f3028; int f3029; int f3030; int f3031; int f3032; int f3033; int f3034; int f3035; int f3036; int f3037; int f3038; int f3039; int f3040; int f3041; int f3042; int f3043; int f3044; int f3045; int f3046; int f3047; int f3048; int f3049; int f3050; int f3051; int f3052; int f3053; int f3054; int f3055; int f3056; int f3057; int f3058; int f3059; int f3060; int f3061; int f3062; int f3063; int f3064; int f3065; int f3066; int f3067; int f3068; int f3069; int f3070; int f3071; int f3072; int f3073; int f3074; int f3075; int f3076; int f3077; int f3078; int f3079; int f3080; int f3081; int f3082; int f3083; int f3084; int f3085; int f3086; int f3087; int f3088; int f3089; int f3090; int f3091; int f3092; int f3093; int f3094; int f3095; int f3096; int f3097; int f3098; int f3099;
+    int f3100; int f3101; int f3102; int f3103; int f3104; int f3105; int f3106; int f3107; int f3108; int f3109; int f3110; int f3111; int f3112; int f3113; int f3114; int f3115; int f3116; int f3117; int f3118; int f3119; int f3120; int f3121; int f3122; int f3123; int f3124; int f3125; int f3126; int f3127; int f3128; int f3129; int f3130; int f3131; int f3132; int f3133; int f3134; int f3135; int f3136; int f3137; int f3138; int f3139; int f3140; int f3141; int f3142; int f3143; int f3144; int f3145; int f3146; int f3147; int f3148; int f3149; int f3150; int f3151; int f3152; int f3153; int f3154; int f3155; int f3156; int f3157; int f3158; int f3159; int f3160; int f3161; int f3162; int f3163; int f3164; int f3165; int f3166; int f3167; int f3168; int f3169; int f3170; int f3171; int f3172; int f3173; int f3174; int f3175; int f3176; int f3177; int f3178; int f3179; int f3180; int f3181; int f3182; int f3183; int f3184; int f3185; int f3186; int f3187; int f3188; int f3189; int f3190; int f3191; int f3192; int f3193; int f3194; int f3195; int f3196; int f3197; int f3198; int f3199;
+    int f3200; int f3201; int f3202; int f3203; int f3204; int f3205; int f3206; int f3207; int f3208; int f3209; int f3210; int f3211; int f3212; int f3213; int f3214; int f3215; int f3216; int f3217; int f3218; int f3219; int f3220; int f3221; int f3222; int f3223; int f3224; int f3225; int f3226; int f3227; int f3228; int f3229; int f3230; int f3231; int f3232; int f3233; int f3234; int f3235; int f3236; int f3237; int f3238; int f3239; int f3240; int f3241; int f3242; int f3243; int f3244; int f3245; int f3246; int f3247; int f3248; int f3249; int f3250; int f3251; int f3252; int f3253; int f3254; int f3255; int f3256; int f3257; int f3258; int f3259; int f3260; int f3261; int f3262; int f3263; int f3264; int f3265; int f3266; int f3267; int f3268; int f3269; int f3270; int f3271; int f3272; int f3273; int f3274; int f3275; int f3276; int f3277; int f3278; int f3279; int f3280; int f3281; int f3282; int f3283; int f3284; int f3285; int f3286; int f3287; int f3288; int f3289; int f3290; int f3291; int f3292; int f3293; int f3294; int f3295; int f3296; int f3297; int f3298; int f3299;
+    int f3300; int f3301; int f3302; int f3303; int f3304; int f3305; int f3306; int f3307; int f3308; int f3309; int f3310; int f3311; int f3312; int f3313; int f3314; int f3315; int f3316; int f3317; int f3318; int f3319; int f3320; int f3321; int f3322; int f3323; int f3324; int f3325; int f3326; int f3327; int f3328; int f3329; int f3330; int f3331; int f3332; int f3333; int f3334; int f3335; int f3336; int f3337; int f3338; int f3339; int f3340; int f3341; int f3342; int f3343; int f3344; int f3345; int f3346; int f3347; int f3348; int f3349; int f3350; int f3351; int f3352; int f3353; int f3354; int f3355; int f3356; int f3357; int f3358; int f3359; int f3360; int f3361; int f3362; int f3363; int f3364; int f3365; int f3366; int f3367; int f3368; int f3369; int f3370; int f3371; int f3372; int f3373; int f3374; int f3375; int f3376; int f3377; int f3378; int f3379; int f3380; int f3381; int f3382; int f3383; int f3384; int f3385; int f3386; int f3387; int f3388; int f3389; int f3390; int f3391; int f3392; int f3393; int f3394; int f3395; int f3396; int f3397; int f3398; int f3399;
+    int f3400; int f3401; int f3402; int f3403; int f3404; int f3405; int f3406; int f3407; int f3408; int f3409; int f3410; int f3411; int f3412; int f3413; int f3414; int f3415; int f3416; int f3417; int f3418; int f3419; int f3420; int f3421; int f3422; int f3423; int f3424; int f3425; int f3426; int f3427; int f3428; int f3429; int f3430; int f3431; int f3432; int f3433; int f3434; int f3435; int f3436; int f3437; int f3438; int f3439; int f3440; int f3441; int f3442; int f3443; int f3444; int f3445; int f3446; int f3447; int f3448; int f3449; int f3450; int f3451; int f3452; int f3453; int f3454; int f3455; int f3456; int f3457; int f3458; int f3459; int f3460; int f3461; int f3462; int f3463; int f3464; int f3465; int f3466; int f3467; int f3468; int f3469; int f3470; int f3471; int f3472; int f3473; int f3474; int f3475; int f3476; int f3477; int f3478; int f3479; int f3480; int f3481; int f3482; int f3483; int f3484; int f3485; int f3486; int f3487; int f3488; int f3489; int f3490; int f3491; int f3492; int f3493; int f3494; int f3495; int f3496; int f3497; int f3498; int f3499;
+    int f3500; int f3501; int f3502; int f3503; int f3504; int f3505; int f3506; int f3507; int f3508; int f3509; int f3510; int f3511; int f3512; int f3513; int f3514; int f3515; int f3516; int f3517; int f3518; int f3519; int f3520; int f3521; int f3522; int f3523; int f3524; int f3525; int f3526; int f3527; int f3528; int f3529; int f3530; int f3531; int f3532; int f3533; int f3534; int f3535; int f3536; int f3537; int f3538; int f3539; int f3540; int f3541; int f3542; int f3543; int f3544; int f3545; int f3546; int f3547; int f3548; int f3549; int f3550; int f3551; int f3552; int f3553; int f3554; int f3555; int f3556; int f3557; int f3558; int f3559; int f3560; int f3561; int f3562; int f3563; int f3564; int f3565; int f3566; int f3567; int f3568; int f3569; int f3570; int f3571; int f3572; int f3573; int f3574; int f3575; int f3576; int f3577; int f3578; int f3579; int f3580; int f3581; int f3582; int f3583; int f3584; int f3585; int f3586; int f3587; int f3588; int f3589; int f3590; int f3591; int f3592; int f3593; int f3594; int f3595; int f3596; int f3597; int f3598; int f3599;
+    int f3600; int f3601; int f3602; int f3603; int f3604; int f3605; int f3606; int f3607; int f3608; int f3609; int f3610; int f3611; int f3612; int f3613; int f3614; int f3615; int f3616; int f3617; int f3618; int f3619; int f3620; int f3621; int f3622; int f3623; int f3624; int f3625; int f3626; int f3627; int f3628; int f3629; int f3630; int f3631; int f3632; int f3633; int f3634; int f3635; int f3636; int f3637; int f3638; int f3639; int f3640; int f3641; int f3642; int f3643; int f3644; int f3645; int f3646; int f3647; int f3648; int f3649; int f3650; int f3651; int f3652; int f3653; int f3654; int f3655; int f3656; int f3657; int f3658; int f3659; int f3660; int f3661; int f3662; int f3663; int f3664; int f3665; int f3666; int f3667; int f3668; int f3669; int f3670; int f3671; int f3672; int f3673; int f3674; int f3675; int f3676; int f3677; int f3678; int f3679; int f3680; int f3681; int f3682; int f3683; int f3684; int f3685; int f3686; int f3687; int f3688; int f3689; int f3690; int f3691; int f3692; int f3693; int f3694; int f3695; int f3696; int f3697; int f3698; int f3699;
+    int f3700; int f3701; int f3702; int f3703; int f3704; int f3705; int f3706; int f3707; int f3708; int f3709; int f3710; int f3711; int f3712; int f3713; int f3714; int f3715; int f3716; int f3717; int f3718; int f3719; int f3720; int f3721; int f3722; int f3723; int f3724; int f3725; int f3726; int f3727; int f3728; int f3729; int f3730; int f3731; int f3732; int f3733; int f3734; int f3735; int f3736; int f3737; int f3738; int f3739; int f3740; int f3741; int f3742; int f3743; int f3744; int f3745; int f3746; int f3747; int f3748; int f3749; int f3750; int f3751; int f3752; int f3753; int f3754; int f3755; int f3756; int f3757; int f3758; int f3759; int f3760; int f3761; int f3762; int f3763; int f3764; int f3765; int f3766; int f3767; int f3768; int f3769; int f3770; int f3771; int f3772; int f3773; int f3774; int f3775; int f3776; int f3777; int f3778; int f3779; int f3780; int f3781; int f3782; int f3783; int f3784; int f3785; int f3786; int f3787; int f3788; int f3789; int f3790; int f3791; int f3792; int f3793; int f3794; int f3795; int f3796; int f3797; int f3798; int f3799;
+    int f3800; int f3801; int f3802; int f3803; int f3804; int f3805; int f3806; int f3807; int f3808; int f3809; int f3810; int f3811; int f3812; int f3813; int f3814; int f3815; int f3816; int f3817; int f3818; int f3819; int f3820; int f3821; int f3822; int f3823; int f3824; int f3825; int f3826; int f3827; int f3828; int f3829; int f3830; int f3831; int f3832; int f3833; int f3834; int f3835; int f3836; int f3837; int f3838; int f3839; int f3840; int f3841; int f3842; int f3843; int f3844; int f3845; int f3846; int f3847; int f3848; int f3849; int f3850; int f3851; int f3852; int f3853; int f3854; int f3855; int f3856; int f3857; int f3858; int f3859; int f3860; int f3861; int f3862; int f3863; int f3864; int f3865; int f3866; int f3867; int f3868; int f3869; int f3870; int f3871; int f3872; int f3873; int f3874; int f3875; int f3876; int f3877; int f3878; int f3879; int f3880; int f3881; int f3882; int f3883; int f3884; int f3885; int f3886; int f3887; int f3888; int f3889; int f3890; int f3891; int f3892; int f3893; int f3894; int f3895; int f3896; int f3897; int f3898; int f3899;
+    int f3900; int f3901; int f3902; int f3903; int f3904; int f3905; int f3906; int f3907; int f3908; int f3909; int f3910; int f3911; int f3912; int f3913; int f3914; int f3915; int f3916; int f3917; int f3918; int f3919; int f3920; int f3921; int f3922; int f3923; int f3924; int f3925; int f3926; int f3927; int f3928; int f3929; int f3930; int f3931; int f3932; int f3933; int f3934; int f3935; int f3936; int f3937; int f3938; int f3939; int f3940; int f3941; int f3942; int f3943; int f3944; int f3945; int f3946; int f3947; int f3948; int f3949; int f3950; int f3951; int f3952; int f3953; int f3954; int f3955; int f3956; int f3957; int f3958; int f3959; int f3960; int f3961; int f3962; int f3963; int f3964; int f3965; int f3966; int f3967; int f3968; int f3969; int f3970; int f3971; int f3972; int f3973; int f3974; int f3975; int f3976; int f3977; int f3978; int f3979; int f3980; int f3981; int f3982; int f3983; int f3984; int f3985; int f3986; int f3987; int f3988; int f3989; int f3990; int f3991; int f3992; int f3993; int f3994; int f3995; int f3996; int f3997; int f3998; int f3999;
+    int f4000; int f4001; int f4002; int f4003; int f4004; int f4005; int f4006; int f4007; int f4008; int f4009; int f4010; int f4011; int f4012; int f4013; int f4014; int f4015; int f4016; int f4017; int f4018; int f4019; int f4020; int f4021; int f4022; int f4023; int f4024; int f4025; int f4026; int f4027; int f4028; int f4029; int f4030; int f4031; int f4032; int f4033; int f4034; int f4035; int f4036; int f4037; int f4038; int f4039; int f4040; int f4041; int f4042; int f4043; int f4044; int f4045; int f4046; int f4047; int f4048; int f4049; int f4050; int f4051; int f4052; int f4053; int f4054; int f4055; int f4056; int f4057; int f4058; int f4059; int f4060; int f4061; int f4062; int f4063; int f4064; int f4065; int f4066; int f4067; int f4068; int f4069; int f4070; int f4071; int f4072; int f4073; int f4074; int f4075; int f4076; int f4077; int f4078; int f4079; int f4080; int f4081; int f4082; int f4083; int f4084; int f4085; int f4086; int f4087; int f4088; int f4089; int f4090; int f4091; int f4092; int f4093; int f4094; int f4095; int f4096; int f4097; int f4098; int f4099;
+    int f4100; int f4101; int f4102; int f4103; int f4104; int f4105; int f4106; int f4107; int f4108; int f4109; int f4110; int f4111; int f4112; int f4113; int f4114; int f4115; int f4116; int f4117; int f4118; int f4119; int f4120; int f4121; int f4122; int f4123; int f4124; int f4125; int f4126; int f4127; int f4128; int f4129; int f4130; int f4131; int f4132; int f4133; int f4134; int f4135; int f4136; int f4137; int f4138; int f4139; int f4140; int f4141; int f4142; int f4143; int f4144; int f4145; int f4146; int f4147; int f4148; int f4149; int f4150; int f4151; int f4152; int f4153; int f4154; int f4155; int f4156; int f4157; int f4158; int f4159; int f4160; int f4161; int f4162; int f4163; int f4164; int f4165; int f4166; int f4167; int f4168; int f4169; int f4170; int f4171; int f4172; int f4173; int f4174; int f4175; int f4176; int f4177; int f4178; int f4179; int f4180; int f4181; int f4182; int f4183; int f4184; int f4185; int f4186; int f4187; int f4188; int f4189; int f4190; int f4191; int f4192; int f4193; int f4194; int f4195; int f4196; int f4197; int f4198; int f4199;
+    int f4200; int f4201; int f4202; int f4203; int f4204; int f4205; int f4206; int f4207; int f4208; int f4209; int f4210; int f4211; int f4212; int f4213; int f4214; int f4215; int f4216; int f4217; int f4218; int f4219; int f4220; int f4221; int f4222; int f4223; int f4224; int f4225; int f4226; int f4227; int f4228; int f4229; int f4230; int f4231; int f4232; int f4233; int f4234; int f4235; int f4236; int f4237; int f4238; int f4239; int f4240; int f4241; int f4242; int f4243; int f4244; int f4245; int f4246; int f4247; int f4248; int f4249; int f4250; int f4251; int f4252; int f4253; int f4254; int f4255; int f4256; int f4257; int f4258; int f4259; int f4260; int f4261; int f4262; int f4263; int f4264; int f4265; int f4266; int f4267; int f4268; int f4269; int f4270; int f4271; int f4272; int f4273; int f4274; int f4275; int f4276; int f4277; int f4278; int f4279; int f4280; int f4281; int f4282; int f4283; int f4284; int f4285; int f4286; int f4287; int f4288; int f4289; int f4290; int f4291; int f4292; int f4293; int f4294; int f4295; int f4296; int f4297; int f4298; int f4299;
+    int f4300; int f4301; int f4302; int f4303; int f4304; int f4305; int f4306; int f4307; int f4308; int f4309; int f4310; int f4311; int f4312; int f4313; int f4314; int f4315; int f4316; int f4317; int f4318; int f4319; int f4320; int f4321; int f4322; int f4323; int f4324; int f4325; int f4326; int f4327; int f4328; int f4329; int f4330; int f4331; int f4332; int f4333; int f4334; int f4335; int f4336; int f4337; int f4338; int f4339; int f4340; int f4341; int f4342; int f4343; int f4344; int f4345; int f4346; int f4347; int f4348; int f4349; int f4350; int f4351; int f4352; int f4353; int f4354; int f4355; int f4356; int f4357; int f4358; int f4359; int f4360; int f4361; int f4362; int f4363; int f4364; int f4365; int f4366; int f4367; int f4368; int f4369; int f4370; int f4371; int f4372; int f4373; int f4374; int f4375; int f4376; int f4377; int f4378; int f4379; int f4380; int f4381; int f4382; int f4383; int f4384; int f4385; int f4386; int f4387; int f4388; int f4389; int f4390; int f4391; int f4392; int f4393; int f4394; int f4395; int f4396; int f4397; int f4398; int f4399;
+    int f4400; int f4401; int f4402; int f4403; int f4404; int f4405; int f4406; int f4407; int f4408; int f4409; int f4410; int f4411; int f4412; int f4413; int f4414; int f4415; int f4416; int f4417; int f4418; int f4419; int f4420; int f4421; int f4422; int f4423; int f4424; int f4425; int f4426; int f4427; int f4428; int f4429; int f4430; int f4431; int f4432; int f4433; int f4434; int f4435; int f4436; int f4437; int f4438; int f4439; int f4440; int f4441; int f4442; int f4443; int f4444; int f4445; int f4446; int f4447; int f4448; int f4449; int f4450; int f4451; int f4452; int f4453; int f4454; int f4455; int f4456; int f4457; int f4458; int f4459; int f4460; int f4461; int f4462; int f4463; int f4464; int f4465; int f4466; int f4467; int f4468; int f4469; int f4470; int f4471; int f4472; int f4473; int f4474; int f4475; int f4476; int f4477; int f4478; int f4479; int f4480; int f4481; int f4482; int f4483; int f4484; int f4485; int f4486; int f4487; int f4488; int f4489; int f4490; int f4491; int f4492; int f4493; int f4494; int f4495; int f4496; int f4497; int f4498; int f4499;
+    int f4500; int f4501; int f4502; int f4503; int f4504; int f4505; int f4506; int f4507; int f4508; int f4509; int f4510; int f4511; int f4512; int f4513; int f4514; int f4515; int f4516; int f4517; int f4518; int f4519; int f4520; int f4521; int f4522; int f4523; int f4524; int f4525; int f4526; int f4527; int f4528; int f4529; int f4530; int f4531; int f4532; int f4533; int f4534; int f4535; int f4536; int f4537; int f4538; int f4539; int f4540; int f4541; int f4542; int f4543; int f4544; int f4545; int f4546; int f4547; int f4548; int f4549; int f4550; int f4551; int f4552; int f4553; int f4554; int f4555; int f4556; int f4557; int f4558; int f4559; int f4560; int f4561; int f4562; int f4563; int f4564; int f4565; int f4566; int f4567; int f4568; int f4569; int f4570; int f4571; int f4572; int f4573; int f4574; int f4575; int f4576; int f4577; int f4578; int f4579; int f4580; int f4581; int f4582; int f4583; int f4584; int f4585; int f4586; int f4587; int f4588; int f4589; int f4590; int f4591; int f4592; int f4593; int f4594; int f4595; int f4596; int f4597; int f4598; int f4599;
+    int f4600; int f4601; int f4602; int f4603; int f4604; int f4605; int f4606; int f4607; int f4608; int f4609; int f4610; int f4611; int f4612; int f4613; int f4614; int f4615; int f4616; int f4617; int f4618; int f4619; int f4620; int f4621; int f4622; int f4623; int f4624; int f4625; int f4626; int f4627; int f4628; int f4629; int f4630; int f4631; int f4632; int f4633; int f4634; int f4635; int f4636; int f4637; int f4638; int f4639; int f4640; int f4641; int f4642; int f4643; int f4644; int f4645; int f4646; int f4647; int f4648; int f4649; int f4650; int f4651; int f4652; int f4653; int f4654; int f4655; int f4656; int f4657; int f4658; int f4659; int f4660; int f4661; int f4662; int f4663; int f4664; int f4665; int f4666; int f4667; int f4668; int f4669; int f4670; int f4671; int f4672; int f4673; int f4674; int f4675; int f4676; int f4677; int f4678; int f4679; int f4680; int f4681; int f4682; int f4683; int f4684; int f4685; int f4686; int f4687; int f4688; int f4689; int f4690; int f4691; int f4692; int f4693; int f4694; int f4695; int f4696; int f4697; int f4698; int f4699;
+    int f4700; int f4701; int f4702; int f4703; int f4704; int f4705; int f4706; int f4707; int f4708; int f4709; int f4710; int f4711; int f4712; int f4713; int f4714; int f4715; int f4716; int f4717; int f4718; int f4719; int f4720; int f4721; int f4722; int f4723; int f4724; int f4725; int f4726; int f4727; int f4728; int f4729; int f4730; int f4731; int f4732; int f4733; int f4734; int f4735; int f4736; int f4737; int f4738; int f4739; int f4740; int f4741; int f4742; int f4743; int f4744; int f4745; int f4746; int f4747; int f4748; int f4749; int f4750; int f4751; int f4752; int f4753; int f4754; int f4755; int f4756; int f4757; int f4758; int f4759; int f4760; int f4761; int f4762; int f4763; int f4764; int f4765; int f4766; int f4767; int f4768; int f4769; int f4770; int f4771; int f4772; int f4773; int f4774; int f4775; int f4776; int f4777; int f4778; int f4779; int f4780; int f4781; int f4782; int f4783; int f4784; int f4785; int f4786; int f4787; int f4788; int f4789; int f4790; int f4791; int f4792; int f4793; int f4794; int f4795; int f4796; int f4797; int f4798; int f4799;
+    int f4800; int f4801; int f4802; int f4803; int f4804; int f4805; int f4806; int f4807; int f4808; int f4809; int f4810; int f4811; int f4812; int f4813; int f4814; int f4815; int f4816; int f4817; int f4818; int f4819; int f4820; int f4821; int f4822; int f4823; int f4824; int f4825; int f4826; int f4827; int f4828; int f4829; int f4830; int f4831; int f4832; int f4833; int f4834; int f4835; int f4836; int f4837; int f4838; int f4839; int f4840; int f4841; int f4842; int f4843; int f4844; int f4845; int f4846; int f4847; int f4848; int f4849; int f4850; int f4851; int f4852; int f4853; int f4854; int f4855; int f4856; int f4857; int f4858; int f4859; int f4860; int f4861; int f4862; int f4863; int f4864; int f4865; int f4866; int f4867; int f4868; int f4869; int f4870; int f4871; int f4872; int f4873; int f4874; int f4875; int f4876; int f4877; int f4878; int f4879; int f4880; int f4881; int f4882; int f4883; int f4884; int f4885; int f4886; int f4887; int f4888; int f4889; int f4890; int f4891; int f4892; int f4893; int f4894; int f4895; int f4896; int f4897; int f4898; int f4899;
+    int f4900; int f4901; int f4902; int f4903; int f4904; int f4905; int f4906; int f4907; int f4908; int f4909; int f4910; int f4911; int f4912; int f4913; int f4914; int f4915; int f4916; int f4917; int f4918; int f4919; int f4920; int f4921; int f4922; int f4923; int f4924; int f4925; int f4926; int f4927; int f4928; int f4929; int f4930; int f4931; int f4932; int f4933; int f4934; int f4935; int f4936; int f4937; int f4938; int f4939; int f4940; int f4941; int f4942; int f4943; int f4944; int f4945; int f4946; int f4947; int f4948; int f4949; int f4950; int f4951; int f4952; int f4953; int f4954; int f4955; int f4956; int f4957; int f4958; int f4959; int f4960; int f4961; int f4962; int f4963; int f4964; int f4965; int f4966; int f4967; int f4968; int f4969; int f4970; int f4971; int f4972; int f4973; int f4974; int f4975; int f4976; int f4977; int f4978; int f4979; int f4980; int f4981; int f4982; int f4983; int f4984; int f4985; int f4986; int f4987; int f4988; int f4989; int f4990; int f4991; int f4992; int f4993; int f4994; int f4995; int f4996; int f4997; int f4998; int f4999;
+    int f5000; int f5001; int f5002; int f5003; int f5004; int f5005; int f5006; int f5007; int f5008; int f5009; int f5010; int f5011; int f5012; int f5013; int f5014; int f5015; int f5016; int f5017; int f5018; int f5019; int f5020; int f5021; int f5022; int f5023; int f5024; int f5025; int f5026; int f5027; int f5028; int f5029; int f5030; int f5031; int f5032; int f5033; int f5034; int f5035; int f5036; int f5037; int f5038; int f5039; int f5040; int f5041; int f5042; int f5043; int f5044; int f5045; int f5046; int f5047; int f5048; int f5049; int f5050; int f5051; int f5052; int f5053; int f5054; int f5055; int f5056; int f5057; int f5058; int f5059; int f5060; int f5061; int f5062; int f5063; int f5064; int f5065; int f5066; int f5067; int f5068; int f5069; int f5070; int f5071; int f5072; int f5073; int f5074; int f5075; int f5076; int f5077; int f5078; int f5079; int f5080; int f5081; int f5082; int f5083; int f5084; int f5085; int f5086; int f5087; int f5088; int f5089; int f5090; int f5091; int f5092; int f5093; int f5094; int f5095; int f5096; int f5097; int f5098; int f5099;
+    int f5100; int f5101; int f5102; int f5103; int f5104; int f5105; int f5106; int f5107; int f5108; int f5109; int f5110; int f5111; int f5112; int f5113; int f5114; int f5115; int f5116; int f5117; int f5118; int f5119; int f5120; int f5121; int f5122; int f5123; int f5124; int f5125; int f5126; int f5127; int f5128; int f5129; int f5130; int f5131; int f5132; int f5133; int f5134; int f5135; int f5136; int f5137; int f5138; int f5139; int f5140; int f5141; int f5142; int f5143; int f5144; int f5145; int f5146; int f5147; int f5148; int f5149; int f5150; int f5151; int f5152; int f5153; int f5154; int f5155; int f5156; int f5157; int f5158; int f5159; int f5160; int f5161; int f5162; int f5163; int f5164; int f5165; int f5166; int f5167; int f5168; int f5169; int f5170; int f5171; int f5172; int f5173; int f5174; int f5175; int f5176; int f5177; int f5178; int f5179; int f5180; int f5181; int f5182; int f5183; int f5184; int f5185; int f5186; int f5187; int f5188; int f5189; int f5190; int f5191; int f5192; int f5193; int f5194; int f5195; int f5196; int f5197; int f5198; int f5199;
+    int f5200; int f5201; int f5202; int f5203; int f5204; int f5205; int f5206; int f5207; int f5208; int f5209; int f5210; int f5211; int f5212; int f5213; int f5214; int f5215; int f5216; int f5217; int f5218; int f5219; int f5220; int f5221; int f5222; int f5223; int f5224; int f5225; int f5226; int f5227; int f5228; int f5229; int f5230; int f5231; int f5232; int f5233; int f5234; int f5235; int f5236; int f5237; int f5238; int f5239; int f5240; int f5241; int f5242; int f5243; int f5244; int f5245; int f5246; int f5247; int f5248; int f5249; int f5250; int f5251; int f5252; int f5253; int f5254; int f5255; int f5256; int f5257; int f5258; int f5259; int f5260; int f5261; int f5262; int f5263; int f5264; int f5265; int f5266; int f5267; int f5268; int f5269; int f5270; int f5271; int f5272; int f5273; int f5274; int f5275; int f5276; int f5277; int f5278; int f5279; int f5280; int f5281; int f5282; int f5283; int f5284; int f5285; int f5286; int f5287; int f5288; int f5289; int f5290; int f5291; int f5292; int f5293; int f5294; int f5295; int f5296; int f5297; int f5298; int f5299;
+    int f5300; int f5301; int f5302; int f5303; int f5304; int f5305; int f5306; int f5307; int f5308; int f5309; int f5310; int f5311; int f5312; int f5313; int f5314; int f5315; int f5316; int f5317; int f5318; int f5319; int f5320; int f5321; int f5322; int f5323; int f5324; int f5325; int f5326; int f5327; int f5328; int f5329; int f5330; int f5331; int f5332; int f5333; int f5334; int f5335; int f5336; int f5337; int f5338; int f5339; int f5340; int f5341; int f5342; int f5343; int f5344; int f5345; int f5346; int f5347; int f5348; int f5349; int f5350; int f5351; int f5352; int f5353; int f5354; int f5355; int f5356; int f5357; int f5358; int f5359; int f5360; int f5361; int f5362; int f5363; int f5364; int f5365; int f5366; int f5367; int f5368; int f5369; int f5370; int f5371; int f5372; int f5373; int f5374; int f5375; int f5376; int f5377; int f5378; int f5379; int f5380; int f5381; int f5382; int f5383; int f5384; int f5385; int f5386; int f5387; int f5388; int f5389; int f5390; int f5391; int f5392; int f5393; int f5394; int f5395; int f5396; int f5397; int f5398; int f5399;
+    int f5400; int f5401; int f5402; int f5403; int f5404; int f5405; int f5406; int f5407; int f5408; int f5409; int f5410; int f5411; int f5412; int f5413; int f5414; int f5415; int f5416; int f5417; int f5418; int f5419; int f5420; int f5421; int f5422; int f5423; int f5424; int f5425; int f5426; int f5427; int f5428; int f5429; int f5430; int f5431; int f5432; int f5433; int f5434; int f5435; int f5436; int f5437; int f5438; int f5439; int f5440; int f5441; int f5442; int f5443; int f5444; int f5445; int f5446; int f5447; int f5448; int f5449; int f5450; int f5451; int f5452; int f5453; int f5454; int f5455; int f5456; int f5457; int f5458; int f5459; int f5460; int f5461; int f5462; int f5463; int f5464; int f5465; int f5466; int f5467; int f5468; int f5469; int f5470; int f5471; int f5472; int f5473; int f5474; int f5475; int f5476; int f5477; int f5478; int f5479; int f5480; int f5481; int f5482; int f5483; int f5484; int f5485; int f5486; int f5487; int f5488; int f5489; int f5490; int f5491; int f5492; int f5493; int f5494; int f5495; int f5496; int f5497; int f5498; int f5499;
+    int f5500; int f5501; int f5502; int f5503; int f5504; int f5505; int f5506; int f5507; int f5508; int f5509; int f5510; int f5511; int f5512; int f5513; int f5514; int f5515; int f5516; int f5517; int f5518; int f5519; int f5520; int f5521; int f5522; int f5523; int f5524; int f5525; int f5526; int f5527; int f5528; int f5529; int f5530; int f5531; int f5532; int f5533; int f5534; int f5535; int f5536; int f5537; int f5538; int f5539; int f5540; int f5541; int f5542; int f5543; int f5544; int f5545; int f5546; int f5547; int f5548; int f5549; int f5550; int f5551; int f5552; int f5553; int f5554; int f5555; int f5556; int f5557; int f5558; int f5559; int f5560; int f5561; int f5562; int f5563; int f5564; int f5565; int f5566; int f5567; int f5568; int f5569; int f5570; int f5571; int f5572; int f5573; int f5574; int f5575; int f5576; int f5577; int f5578; int f5579; int f5580; int f5581; int f5582; int f5583; int f5584; int f5585; int f5586; int f5587; int f5588; int f5589; int f5590; int f5591; int f5592; int f5593; int f5594; int f5595; int f5596; int f5597; int f5598; int f5599;
+    int f5600; int f5601; int f5602; int f5603; int f5604; int f5605; int f5606; int f5607; int f5608; int f5609; int f5610; int f5611; int f5612; int f5613; int f5614; int f5615; int f5616; int f5617; int f5618; int f5619; int f5620; int f5621; int f5622; int f5623; int f5624; int f5625; int f5626; int f5627; int f5628; int f5629; int f5630; int f5631; int f5632; int f5633; int f5634; int f5635; int f5636; int f5637; int f5638; int f5639; int f5640; int f5641; int f5642; int f5643; int f5644; int f5645; int f5646; int f5647; int f5648; int f5649; int f5650; int f5651; int f5652; int f5653; int f5654; int f5655; int f5656; int f5657; int f5658; int f5659; int f5660; int f5661; int f5662; int f5663; int f5664; int f5665; int f5666; int f5667; int f5668; int f5669; int f5670; int f5671; int f5672; int f5673; int f5674; int f5675; int f5676; int f5677; int f5678; int f5679; int f5680; int f5681; int f5682; int f5683; int f5684; int f5685; int f5686; int f5687; int f5688; int f5689; int f5690; int f5691; int f5692; int f5693; int f5694; int f5695; int f5696; int f5697; int f5698; int f5699;
+    int f5700; int f5701; int f5702; int f5703; int f5704; int f5705; int f5706; int f5707; int f5708; int f5709; int f5710; int f5711; int f5712; int f5713; int f5714; int f5715; int f5716; int f5717; int f5718; int f5719; int f5720; int f5721; int f5722; int f5723; int f5724; int f5725; int f5726; int f5727; int f5728; int f5729; int f5730; int f5731; int f5732; int f5733; int f5734; int f5735; int f5736; int f5737; int f5738; int f5739; int f5740; int f5741; int f5742; int f5743; int f5744; int f5745; int f5746; int f5747; int f5748; int f5749; int f5750; int f5751; int f5752; int f5753; int f5754; int f5755; int f5756; int f5757; int f5758; int f5759; int f5760; int f5761; int f5762; int f5763; int f5764; int f5765; int f5766; int f5767; int f5768; int f5769; int f5770; int f5771; int f5772; int f5773; int f5774; int f5775; int f5776; int f5777; int f5778; int f5779; int f5780; int f5781; int f5782; int f5783; int f5784; int f5785; int f5786; int f5787; int f5788; int f5789; int f5790; int f5791; int f5792; int f5793; int f5794; int f5795; int f5796; int f5797; int f5798; int f5799;
+    int f5800; int f5801; int f5802; int f5803; int f5804; int f5805; int f5806; int f5807; int f5808; int f5809; int f5810; int f5811; int f5812; int f5813; int f5814; int f5815; int f5816; int f5817; int f5818; int f5819; int f5820; int f5821; int f5822; int f5823; int f5824; int f5825; int f5826; int f5827; int f5828; int f5829; int f5830; int f5831; int f5832; int f5833; int f5834; int f5835; int f5836; int f5837; int f5838; int f5839; int f5840; int f5841; int f5842; int f5843; int f5844; int f5845; int f5846; int f5847; int f5848; int f5849; int f5850; int f5851; int f5852; int f5853; int f5854; int f5855; int f5856; int f5857; int f5858; int f5859; int f5860; int f5861; int f5862; int f5863; int f5864; int f5865; int f5866; int f5867; int f5868; int f5869; int f5870; int f5871; int f5872; int f5873; int f5874; int f5875; int f5876; int f5877; int f5878; int f5879; int f5880; int f5881; int f5882; int f5883; int f5884; int f5885; int f5886; int f5887; int f5888; int f5889; int f5890; int f5891; int f5892; int f5893; int f5894; int f5895; int f5896; int f5897; int f5898; int f5899;
+    int f5900; int f5901; int f5902; int f5903; int f5904; int f5905; int f5906; int f5907; int f5908; int f5909; int f5910; int f5911; int f5912; int f5913; int f5914; int f5915; int f5916; int f5917; int f5918; int f5919; int f5920; int f5921; int f5922; int f5923; int f5924; int f5925; int f5926; int f5927; int f5928; int f5929; int f5930; int f5931; int f5932; int f5933; int f5934; int f5935; int f5936; int f5937; int f5938; int f5939; int f5940; int f5941; int f5942; int f5943; int f5944; int f5945; int f5946; int f5947; int f5948; int f5949; int f5950; int f5951; int f5952; int f5953; int f5954; int f5955; int f5956; int f5957; int f5958; int f5959; int f5960; int f5961; int f5962; int f5963; int f5964; int f5965; int f5966; int f5967; int f5968; int f5969; int f5970; int f5971; int f5972; int f5973; int f5974; int f5975; int f5976; int f5977; int f5978; int f5979; int f5980; int f5981; int f5982; int f5983; int f5984; int f5985; int f5986; int f5987; int f5988; int f5989; int f5990; int f5991; int f5992; int f5993; int f5994; int f5995; int f5996; int f5997; int f5998; int f5999;
+    int f6000; int f6001; int f6002; int f6003; int f6004; int f6005; int f6006; int f6007; int f6008; int f6009; int f6010; int f6011; int f6012; int f6013; int f6014; int f6015; int f6016; int f6017; int f6018; int f6019; int f6020; int f6021; int f6022; int f6023; int f6024; int f6025; int f6026; int f6027; int f6028; int f6029; int f6030; int f6031; int f6032; int f6033; int f6034; int f6035; int f6036; int f6037; int f6038; int f6039; int f6040; int f6041; int f6042; int f6043; int f6044; int f6045; int f6046; int f6047; int f6048; int f6049; int f6050; int f6051; int f6052; int f6053; int f6054; int f6055; int f6056; int f6057; int f6058; int f6059; int f6060; int f6061; int f6062; int f6063; int f6064; int f6065; int f6066; int f6067; int f6068; int f6069; int f6070; int f6071; int f6072; int f6073; int f6074; int f6075; int f6076; int f6077; int f6078; int f6079; int f6080; int f6081; int f6082; int f6083; int f6084; int f6085; int f6086; int f6087; int f6088; int f6089; int f6090; int f6091; int f6092; int f6093; int f6094; int f6095; int f6096; int f6097; int f6098; int f6099;
+    int f6100; int f6101; int f6102; int f6103; int f6104; int f6105; int f6106; int f6107; int f6108; int f6109; int f6110; int f6111; int f6112; int f6113; int f6114; int f6115; int f6116; int f6117; int f6118; int f6119; int f6120; int f6121; int f6122; int f6123; int f6124; int f6125; int f6126; int f6127; int f6128; int f6129; int f6130; int f6131; int f6132; int f6133; int f6134; int f6135; int f6136; int f6137; int f6138; int f6139; int f6140; int f6141; int f6142; int f6143; int f6144; int f6145; int f6146; int f6147; int f6148; int f6149; int f6150; int f6151; int f6152; int f6153; int f6154; int f6155; int f6156; int f6157; int f6158; int f6159; int f6160; int f6161; int f6162; int f6163; int f6164; int f6165; int f6166; int f6167; int f6168; int f6169; int f6170; int f6171; int f6172; int f6173; int f6174; int f6175; int f6176; int f6177; int f6178; int f6179; int f6180; int f6181; int f6182; int f6183; int f6184; int f6185; int f6186; int f6187; int f6188; int f6189; int f6190; int f6191; int f6192; int f6193; int f6194; int f6195; int f6196; int f6197; int f6198; int f6199;
+    int f6200; int f6201; int f6202; int f6203; int f6204; int f6205; int f6206; int f6207; int f6208; int f6209; int f6210; int f6211; int f6212; int f6213; int f6214; int f6215; int f6216; int f6217; int f6218; int f6219; int f6220; int f6221; int f6222; int f6223; int f6224; int f6225; int f6226; int f6227; int f6228; int f6229; int f6230; int f6231; int f6232; int f6233; int f6234; int f6235; int f6236; int f6237; int f6238; int f6239; int f6240; int f6241; int f6242; int f6243; int f6244; int f6245; int f6246; int f6247; int f6248; int f6249; int f6250; int f6251; int f6252; int f6253; int f6254; int f6255; int f6256; int f6257; int f6258; int f6259; int f6260; int f6261; int f6262; int f6263; int f6264; int f6265; int f6266; int f6267; int f6268; int f6269; int f6270; int f6271; int f6272; int f6273; int f6274; int f6275; int f6276; int f6277; int f6278; int f6279; int f6280; int f6281; int f6282; int f6283; int f6284; int f6285; int f6286; int f6287; int f6288; int f6289; int f6290; int f6291; int f6292; int f6293; int f6294; int f6295; int f6296; int f6297; int f6298; int f6299;
+    int f6300; int f6301; int f6302; int f6303; int f6304; int f6305; int f6306; int f6307; int f6308; int f6309; int f6310; int f6311; int f6312; int f6313; int f6314; int f6315; int f6316; int f6317; int f6318; int f6319; int f6320; int f6321; int f6322; int f6323; int f6324; int f6325; int f6326; int f6327; int f6328; int f6329; int f6330; int f6331; int f6332; int f6333; int f6334; int f6335; int f6336; int f6337; int f6338; int f6339; int f6340; int f6341; int f6342; int f6343; int f6344; int f6345; int f6346; int f6347; int f6348; int f6349; int f6350; int f6351; int f6352; int f6353; int f6354; int f6355; int f6356; int f6357; int f6358; int f6359; int f6360; int f6361; int f6362; int f6363; int f6364; int f6365; int f6366; int f6367; int f6368; int f6369; int f6370; int f6371; int f6372; int f6373; int f6374; int f6375; int f6376; int f6377; int f6378; int f6379; int f6380; int f6381; int f6382; int f6383; int f6384; int f6385; int f6386; int f6387; int f6388; int f6389; int f6390; int f6391; int f6392; int f6393; int f6394; int f6395; int f6396; int f6397; int f6398; int f6399;
+    int f6400; int f6401; int f6402; int f6403; int f6404; int f6405; int f6406; int f6407; int f6408; int f6409; int f6410; int f6411; int f6412; int f6413; int f6414; int f6415; int f6416; int f6417; int f6418; int f6419; int f6420; int f6421; int f6422; int f6423; int f6424; int f6425; int f6426; int f6427; int f6428; int f6429; int f6430; int f6431; int f6432; int f6433; int f6434; int f6435; int f6436; int f6437; int f6438; int f6439; int f6440; int f6441; int f6442; int f6443; int f6444; int f6445; int f6446; int f6447; int f6448; int f6449; int f6450; int f6451; int f6452; int f6453; int f6454; int f6455; int f6456; int f6457; int f6458; int f6459; int f6460; int f6461; int f6462; int f6463; int f6464; int f6465; int f6466; int f6467; int f6468; int f6469; int f6470; int f6471; int f6472; int f6473; int f6474; int f6475; int f6476; int f6477; int f6478; int f6479; int f6480; int f6481; int f6482; int f6483; int f6484; int f6485; int f6486; int f6487; int f6488; int f6489; int f6490; int f6491; int f6492; int f6493; int f6494; int f6495; int f6496; int f6497; int f6498; int f6499;
+    int f6500; int f6501; int f6502; int f6503; int f6504; int f6505; int f6506; int f6507; int f6508; int f6509; int f6510; int f6511; int f6512; int f6513; int f6514; int f6515; int f6516; int f6517; int f6518; int f6519; int f6520; int f6521; int f6522; int f6523; int f6524; int f6525; int f6526; int f6527; int f6528; int f6529; int f6530; int f6531; int f6532; int f6533; int f6534; int f6535; int f6536; int f6537; int f6538; int f6539; int f6540; int f6541; int f6542; int f6543; int f6544; int f6545; int f6546; int f6547; int f6548; int f6549; int f6550; int f6551; int f6552; int f6553; int f6554; int f6555; int f6556; int f6557; int f6558; int f6559; int f6560; int f6561; int f6562; int f6563; int f6564; int f6565; int f6566; int f6567; int f6568; int f6569; int f6570; int f6571; int f6572; int f6573; int f6574; int f6575; int f6576; int f6577; int f6578; int f6579; int f6580; int f6581; int f6582; int f6583; int f6584; int f6585; int f6586; int f6587; int f6588; int f6589; int f6590; int f6591; int f6592; int f6593; int f6594; int f6595; int f6596; int f6597; int f6598; int f6599;
+    int f6600; int f6601; int f6602; int f6603; int f6604; int f6605; int f6606; int f6607; int f6608; int f6609; int f6610; int f6611; int f6612; int f6613; int f6614; int f6615; int f6616; int f6617; int f6618; int f6619; int f6620; int f6621; int f6622; int f6623; int f6624; int f6625; int f6626; int f6627; int f6628; int f6629; int f6630; int f6631; int f6632; int f6633; int f6634; int f6635; int f6636; int f6637; int f6638; int f6639; int f6640; int f6641; int f6642; int f6643; int f6644; int f6645; int f6646; int f6647; int f6648; int f6649; int f6650; int f6651; int f6652; int f6653; int f6654; int f6655; int f6656; int f6657; int f6658; int f6659; int f6660; int f6661; int f6662; int f6663; int f6664; int f6665; int f6666; int f6667; int f6668; int f6669; int f6670; int f6671; int f6672; int f6673; int f6674; int f6675; int f6676; int f6677; int f6678; int f6679; int f6680; int f6681; int f6682; int f6683; int f6684; int f6685; int f6686; int f6687; int f6688; int f6689; int f6690; int f6691; int f6692; int f6693; int f6694; int f6695; int f6696; int f6697; int f6698; int f6699;
+    int f6700; int f6701; int f6702; int f6703; int f6704; int f6705; int f6706; int f6707; int f6708; int f6709; int f6710; int f6711; int f6712; int f6713; int f6714; int f6715; int f6716; int f6717; int f6718; int f6719; int f6720; int f6721; int f6722; int f6723; int f6724; int f6725; int f6726; int f6727; int f6728; int f6729; int f6730; int f6731; int f6732; int f6733; int f6734; int f6735; int f6736; int f6737; int f6738; int f6739; int f6740; int f6741; int f6742; int f6743; int f6744; int f6745; int f6746; int f6747; int f6748; int f6749; int f6750; int f6751; int f6752; int f6753; int f6754; int f6755; int f6756; int f6757; int f6758; int f6759; int f6760; int f6761; int f6762; int f6763; int f6764; int f6765; int f6766; int f6767; int f6768; int f6769; int f6770; int f6771; int f6772; int f6773; int f6774; int f6775; int f6776; int f6777; int f6778; int f6779; int f6780; int f6781; int f6782; int f6783; int f6784; int f6785; int f6786; int f6787; int f6788; int f6789; int f6790; int f6791; int f6792; int f6793; int f6794; int f6795; int f6796; int f6797; int f6798; int f6799;
+    int f6800; int f6801; int f6802; int f6803; int f6804; int f6805; int f6806; int f6807; int f6808; int f6809; int f6810; int f6811; int f6812; int f6813; int f6814; int f6815; int f6816; int f6817; int f6818; int f6819; int f6820; int f6821; int f6822; int f6823; int f6824; int f6825; int f6826; int f6827; int f6828; int f6829; int f6830; int f6831; int f6832; int f6833; int f6834; int f6835; int f6836; int f6837; int f6838; int f6839; int f6840; int f6841; int f6842; int f6843; int f6844; int f6845; int f6846; int f6847; int f6848; int f6849; int f6850; int f6851; int f6852; int f6853; int f6854; int f6855; int f6856; int f6857; int f6858; int f6859; int f6860; int f6861; int f6862; int f6863; int f6864; int f6865; int f6866; int f6867; int f6868; int f6869; int f6870; int f6871; int f6872; int f6873; int f6874; int f6875; int f6876; int f6877; int f6878; int f6879; int f6880; int f6881; int f6882; int f6883; int f6884; int f6885; int f6886; int f6887; int f6888; int f6889; int f6890; int f6891; int f6892; int f6893; int f6894; int f6895; int f6896; int f6897; int f6898; int f6899;
+    int f6900; int f6901; int f6902; int f6903; int f6904; int f6905; int f6906; int f6907; int f6908; int f6909; int f6910; int f6911; int f6912; int f6913; int f6914; int f6915; int f6916; int f6917; int f6918; int f6919; int f6920; int f6921; int f6922; int f6923; int f6924; int f6925; int f6926; int f6927; int f6928; int f6929; int f6930; int f6931; int f6932; int f6933; int f6934; int f6935; int f6936; int f6937; int f6938; int f6939; int f6940; int f6941; int f6942; int f6943; int f6944; int f6945; int f6946; int f6947; int f6948; int f6949; int f6950; int f6951; int f6952; int f6953; int f6954; int f6955; int f6956; int f6957; int f6958; int f6959; int f6960; int f6961; int f6962; int f6963; int f6964; int f6965; int f6966; int f6967; int f6968; int f6969; int f6970; int f6971; int f6972; int f6973; int f6974; int f6975; int f6976; int f6977; int f6978; int f6979; int f6980; int f6981; int f6982; int f6983; int f6984; int f6985; int f6986; int f6987; int f6988; int f6989; int f6990; int f6991; int f6992; int f6993; int f6994; int f6995; int f6996; int f6997; int f6998; int f6999;
+    int f7000; int f7001; int f7002; int f7003; int f7004; int f7005; int f7006; int f7007; int f7008; int f7009; int f7010; int f7011; int f7012; int f7013; int f7014; int f7015; int f7016; int f7017; int f7018; int f7019; int f7020; int f7021; int f7022; int f7023; int f7024; int f7025; int f7026; int f7027; int f7028; int f7029; int f7030; int f7031; int f7032; int f7033; int f7034; int f7035; int f7036; int f7037; int f7038; int f7039; int f7040; int f7041; int f7042; int f7043; int f7044; int f7045; int f7046; int f7047; int f7048; int f7049; int f7050; int f7051; int f7052; int f7053; int f7054; int f7055; int f7056; int f7057; int f7058; int f7059; int f7060; int f7061; int f7062; int f7063; int f7064; int f7065; int f7066; int f7067; int f7068; int f7069; int f7070; int f7071; int f7072; int f7073; int f7074; int f7075; int f7076; int f7077; int f7078; int f7079; int f7080; int f7081; int f7082; int f7083; int f7084; int f7085; int f7086; int f7087; int f7088; int f7089; int f7090; int f7091; int f7092; int f7093; int f7094; int f7095; int f7096; int f7097; int f7098; int f7099;
+    int f7100; int f7101; int f7102; int f7103; int f7104; int f7105; int f7106; int f7107; int f7108; int f7109; int f7110; int f7111; int f7112; int f7113; int f7114; int f7115; int f7116; int f7117; int f7118; int f7119; int f7120; int f7121; int f7122; int f7123; int f7124; int f7125; int f7126; int f7127; int f7128; int f7129; int f7130; int f7131; int f7132; int f7133; int f7134; int f7135; int f7136; int f7137; int f7138; int f7139; int f7140; int f7141; int f7142; int f7143; int f7144; int f7145; int f7146; int f7147; int f7148; int f7149; int f7150; int f7151; int f7152; int f7153; int f7154; int f7155; int f7156; int f7157; int f7158; int f7159; int f7160; int f7161; int f7162; int f7163; int f7164; int f7165; int f7166; int f7167; int f7168; int f7169; int f7170; int f7171; int f7172; int f7173; int f7174; int f7175; int f7176; int f7177; int f7178; int f7179; int f7180; int f7181; int f7182; int f7183; int f7184; int f7185; int f7186; int f7187; int f7188; int f7189; int f7190; int f7191; int f7192; int f7193; int f7194; int f7195; int f7196; int f7197; int f7198; int f7199;
+    int f7200; int f7201; int f7202; int f7203; int f7204; int f7205; int f7206; int f7207; int f7208; int f7209; int f7210; int f7211; int f7212; int f7213; int f7214; int f7215; int f7216; int f7217; int f7218; int f7219; int f7220; int f7221; int f7222; int f7223; int f7224; int f7225; int f7226; int f7227; int f7228; int f7229; int f7230; int f7231; int f7232; int f7233; int f7234; int f7235; int f7236; int f7237; int f7238; int f7239; int f7240; int f7241; int f7242; int f7243; int f7244; int f7245; int f7246; int f7247; int f7248; int f7249; int f7250; int f7251; int f7252; int f7253; int f7254; int f7255; int f7256; int f7257; int f7258; int f7259; int f7260; int f7261; int f7262; int f7263; int f7264; int f7265; int f7266; int f7267; int f7268; int f7269; int f7270; int f7271; int f7272; int f7273; int f7274; int f7275; int f7276; int f7277; int f7278; int f7279; int f7280; int f7281; int f7282; int f7283; int f7284; int f7285; int f7286; int f7287; int f7288; int f7289; int f7290; int f7291; int f7292; int f7293; int f7294; int f7295; int f7296; int f7297; int f7298; int f7299;
+    int f7300; int f7301; int f7302; int f7303; int f7304; int f7305; int f7306; int f7307; int f7308; int f7309; int f7310; int f7311; int f7312; int f7313; int f7314; int f7315; int f7316; int f7317; int f7318; int f7319; int f7320; int f7321; int f7322; int f7323; int f7324; int f7325; int f7326; int f7327; int f7328; int f7329; int f7330; int f7331; int f7332; int f7333; int f7334; int f7335; int f7336; int f7337; int f7338; int f7339; int f7340; int f7341; int f7342; int f7343; int f7344; int f7345; int f7346; int f7347; int f7348; int f7349; int f7350; int f7351; int f7352; int f7353; int f7354; int f7355; int f7356; int f7357; int f7358; int f7359; int f7360; int f7361; int f7362; int f7363; int f7364; int f7365; int f7366; int f7367; int f7368; int f7369; int f7370; int f7371; int f7372; int f7373; int f7374; int f7375; int f7376; int f7377; int f7378; int f7379; int f7380; int f7381; int f7382; int f7383; int f7384; int f7385; int f7386; int f7387; int f7388; int f7389; int f7390; int f7391; int f7392; int f7393; int f7394; int f7395; int f7396; int f7397; int f7398; int f7399;
+    int f7400; int f7401; int f7402; int f7403; int f7404; int f7405; int f7406; int f7407; int f7408; int f7409; int f7410; int f7411; int f7412; int f7413; int f7414; int f7415; int f7416; int f7417; int f7418; int f7419; int f7420; int f7421; int f7422; int f7423; int f7424; int f7425; int f7426; int f7427; int f7428; int f7429; int f7430; int f7431; int f7432; int f7433; int f7434; int f7435; int f7436; int f7437; int f7438; int f7439; int f7440; int f7441; int f7442; int f7443; int f7444; int f7445; int f7446; int f7447; int f7448; int f7449; int f7450; int f7451; int f7452; int f7453; int f7454; int f7455; int f7456; int f7457; int f7458; int f7459; int f7460; int f7461; int f7462; int f7463; int f7464; int f7465; int f7466; int f7467; int f7468; int f7469; int f7470; int f7471; int f7472; int f7473; int f7474; int f7475; int f7476; int f7477; int f7478; int f7479; int f7480; int f7481; int f7482; int f7483; int f7484; int f7485; int f7486; int f7487; int f7488; int f7489; int f7490; int f7491; int f7492; int f7493; int f7494; int f7495; int f7496; int f7497; int f7498; int f7499;
+    int f7500; int f7501; int f7502; int f7503; int f7504; int f7505; int f7506; int f7507; int f7508; int f7509; int f7510; int f7511; int f7512; int f7513; int f7514; int f7515; int f7516; int f7517; int f7518; int f7519; int f7520; int f7521; int f7522; int f7523; int f7524; int f7525; int f7526; int f7527; int f7528; int f7529; int f7530; int f7531; int f7532; int f7533; int f7534; int f7535; int f7536; int f7537; int f7538; int f7539; int f7540; int f7541; int f7542; int f7543; int f7544; int f7545; int f7546; int f7547; int f7548; int f7549; int f7550; int f7551; int f7552; int f7553; int f7554; int f7555; int f7556; int f7557; int f7558; int f7559; int f7560; int f7561; int f7562; int f7563; int f7564; int f7565; int f7566; int f7567; int f7568; int f7569; int f7570; int f7571; int f7572; int f7573; int f7574; int f7575; int f7576; int f7577; int f7578; int f7579; int f7580; int f7581; int f7582; int f7583; int f7584; int f7585; int f7586; int f7587; int f7588; int f7589; int f7590; int f7591; int f7592; int f7593; int f7594; int f7595; int f7596; int f7597; int f7598; int f7599;
+    int f7600; int f7601; int f7602; int f7603; int f7604; int f7605; int f7606; int f7607; int f7608; int f7609; int f7610; int f7611; int f7612; int f7613; int f7614; int f7615; int f7616; int f7617; int f7618; int f7619; int f7620; int f7621; int f7622; int f7623; int f7624; int f7625; int f7626; int f7627; int f7628; int f7629; int f7630; int f7631; int f7632; int f7633; int f7634; int f7635; int f7636; int f7637; int f7638; int f7639; int f7640; int f7641; int f7642; int f7643; int f7644; int f7645; int f7646; int f7647; int f7648; int f7649; int f7650; int f7651; int f7652; int f7653; int f7654; int f7655; int f7656; int f7657; int f7658; int f7659; int f7660; int f7661; int f7662; int f7663; int f7664; int f7665; int f7666; int f7667; int f7668; int f7669; int f7670; int f7671; int f7672; int f7673; int f7674; int f7675; int f7676; int f7677; int f7678; int f7679; int f7680; int f7681; int f7682; int f7683; int f7684; int f7685; int f7686; int f7687; int f7688; int f7689; int f7690; int f7691; int f7692; int f7693; int f7694; int f7695; int f7696; int f7697; int f7698; int f7699;
+    int f7700; int f7701; int f7702; int f7703; int f7704; int f7705; int f7706; int f7707; int f7708; int f7709; int f7710; int f7711; int f7712; int f7713; int f7714; int f7715; int f7716; int f7717; int f7718; int f7719; int f7720; int f7721; int f7722; int f7723; int f7724; int f7725; int f7726; int f7727; int f7728; int f7729; int f7730; int f7731; int f7732; int f7733; int f7734; int f7735; int f7736; int f7737; int f7738; int f7739; int f7740; int f7741; int f7742; int f7743; int f7744; int f7745; int f7746; int f7747; int f7748; int f7749; int f7750; int f7751; int f7752; int f7753; int f7754; int f7755; int f7756; int f7757; int f7758; int f7759; int f7760; int f7761; int f7762; int f7763; int f7764; int f7765; int f7766; int f7767; int f7768; int f7769; int f7770; int f7771; int f7772; int f7773; int f7774; int f7775; int f7776; int f7777; int f7778; int f7779; int f7780; int f7781; int f7782; int f7783; int f7784; int f7785; int f7786; int f7787; int f7788; int f7789; int f7790; int f7791; int f7792; int f7793; int f7794; int f7795; int f7796; int f7797; int f7798; int f7799;
+    int f7800; int f7801; int f7802; int f7803; int f7804; int f7805; int f7806; int f7807; int f7808; int f7809; int f7810; int f7811; int f7812; int f7813; int f7814; int f7815; int f7816; int f7817; int f7818; int f7819; int f7820; int f7821; int f7822; int f7823; int f7824; int f7825; int f7826; int f7827; int f7828; int f7829; int f7830; int f7831; int f7832; int f7833; int f7834; int f7835; int f7836; int f7837; int f7838; int f7839; int f7840; int f7841; int f7842; int f7843; int f7844; int f7845; int f7846; int f7847; int f7848; int f7849; int f7850; int f7851; int f7852; int f7853; int f7854; int f7855; int f7856; int f7857; int f7858; int f7859; int f7860; int f7861; int f7862; int f7863; int f7864; int f7865; int f7866; int f7867; int f7868; int f7869; int f7870; int f7871; int f7872; int f7873; int f7874; int f7875; int f7876; int f7877; int f7878; int f7879; int f7880; int f7881; int f7882; int f7883; int f7884; int f7885; int f7886; int f7887; int f7888; int f7889; int f7890; int f7891; int f7892; int f7893; int f7894; int f7895; int f7896; int f7897; int f7898; int f7899;
+    int f7900; int f7901; int f7902; int f7903; int f7904; int f7905; int f7906; int f7907; int f7908; int f7909; int f7910; int f7911; int f7912; int f7913; int f7914; int f7915; int f7916; int f7917; int f7918; int f7919; int f7920; int f7921; int f7922; int f7923; int f7924; int f7925; int f7926; int f7927; int f7928; int f7929; int f7930; int f7931; int f7932; int f7933; int f7934; int f7935; int f7936; int f7937; int f7938; int f7939; int f7940; int f7941; int f7942; int f7943; int f7944; int f7945; int f7946; int f7947; int f7948; int f7949; int f7950; int f7951; int f7952; int f7953; int f7954; int f7955; int f7956; int f7957; int f7958; int f7959; int f7960; int f7961; int f7962; int f7963; int f7964; int f7965; int f7966; int f7967; int f7968; int f7969; int f7970; int f7971; int f7972; int f7973; int f7974; int f7975; int f7976; int f7977; int f7978; int f7979; int f7980; int f7981; int f7982; int f7983; int f7984; int f7985; int f7986; int f7987; int f7988; int f7989; int f7990; int f7991; int f7992; int f7993; int f7994; int f7995; int f7996; int f7997; int f7998; int f7999;
+    int f8000; int f8001; int f8002; int f8003; int f8004; int f8005; int f8006; int f8007; int f8008; int f8009; int f8010; int f8011; int f8012; int f8013; int f8014; int f8015; int f8016; int f8017; int f8018; int f8019; int f8020; int f8021; int f8022; int f8023; int f8024; int f8025; int f8026; int f8027; int f8028; int f8029; int f8030; int f8031; int f8032; int f8033; int f8034; int f8035; int f8036; int f8037; int f8038; int f8039; int f8040; int f8041; int f8042; int f8043; int f8044; int f8045; int f8046; int f8047; int f8048; int f8049; int f8050; int f8051; int f8052; int f8053; int f8054; int f8055; int f8056; int f8057; int f8058; int f8059; int f8060; int f8061; int f8062; int f8063; int f8064; int f8065; int f8066; int f8067; int f8068; int f8069; int f8070; int f8071; int f8072; int f8073; int f8074; int f8075; int f8076; int f8077; int f8078; int f8079; int f8080; int f8081; int f8082; int f8083; int f8084; int f8085; int f8086; int f8087; int f8088; int f8089; int f8090; int f8091; int f8092; int f8093; int f8094; int f8095; int f8096; int f8097; int f8098; int f8099;
+    int f8100; int f8101; int f8102; int f8103; int f8104; int f8105; int f8106; int f8107; int f8108; int f8109; int f8110; int f8111; int f8112; int f8113; int f8114; int f8115; int f8116; int f8117; int f8118; int f8119; int f8120; int f8121; int f8122; int f8123; int f8124; int f8125; int f8126; int f8127; int f8128; int f8129; int f8130; int f8131; int f8132; int f8133; int f8134; int f8135; int f8136; int f8137; int f8138; int f8139; int f8140; int f8141; int f8142; int f8143; int f8144; int f8145; int f8146; int f8147; int f8148; int f8149; int f8150; int f8151; int f8152; int f8153; int f8154; int f8155; int f8156; int f8157; int f8158; int f8159; int f8160; int f8161; int f8162; int f8163; int f8164; int f8165; int f8166; int f8167; int f8168; int f8169; int f8170; int f8171; int f8172; int f8173; int f8174; int f8175; int f8176; int f8177; int f8178; int f8179; int f8180; int f8181; int f8182; int f8183; int f8184; int f8185; int f8186; int f8187; int f8188; int f8189; int f8190; int f8191; int f8192; int f8193; int f8194; int f8195; int f8196; int f8197; int f8198; int f8199;
+    int f8200; int f8201; int f8202; int f8203; int f8204; int f8205; int f8206; int f8207; int f8208; int f8209; int f8210; int f8211; int f8212; int f8213; int f8214; int f8215; int f8216; int f8217; int f8218; int f8219; int f8220; int f8221; int f8222; int f8223; int f8224; int f8225; int f8226; int f8227; int f8228; int f8229; int f8230; int f8231; int f8232; int f8233; int f8234; int f8235; int f8236; int f8237; int f8238; int f8239; int f8240; int f8241; int f8242; int f8243; int f8244; int f8245; int f8246; int f8247; int f8248; int f8249; int f8250; int f8251; int f8252; int f8253; int f8254; int f8255; int f8256; int f8257; int f8258; int f8259; int f8260; int f8261; int f8262; int f8263; int f8264; int f8265; int f8266; int f8267; int f8268; int f8269; int f8270; int f8271; int f8272; int f8273; int f8274; int f8275; int f8276; int f8277; int f8278; int f8279; int f8280; int f8281; int f8282; int f8283; int f8284; int f8285; int f8286; int f8287; int f8288; int f8289; int f8290; int f8291; int f8292; int f8293; int f8294; int f8295; int f8296; int f8297; int f8298; int f8299;
+    int f8300; int f8301; int f8302; int f8303; int f8304; int f8305; int f8306; int f8307; int f8308; int f8309; int f8310; int f8311; int f8312; int f8313; int f8314; int f8315; int f8316; int f8317; int f8318; int f8319; int f8320; int f8321; int f8322; int f8323; int f8324; int f8325; int f8326; int f8327; int f8328; int f8329; int f8330; int f8331; int f8332; int f8333; int f8334; int f8335; int f8336; int f8337; int f8338; int f8339; int f8340; int f8341; int f8342; int f8343; int f8344; int f8345; int f8346; int f8347; int f8348; int f8349; int f8350; int f8351; int f8352; int f8353; int f8354; int f8355; int f8356; int f8357; int f8358; int f8359; int f8360; int f8361; int f8362; int f8363; int f8364; int f8365; int f8366; int f8367; int f8368; int f8369; int f8370; int f8371; int f8372; int f8373; int f8374; int f8375; int f8376; int f8377; int f8378; int f8379; int f8380; int f8381; int f8382; int f8383; int f8384; int f8385; int f8386; int f8387; int f8388; int f8389; int f8390; int f8391; int f8392; int f8393; int f8394; int f8395; int f8396; int f8397; int f8398; int f8399;
+    int f8400; int f8401; int f8402; int f8403; int f8404; int f8405; int f8406; int f8407; int f8408; int f8409; int f8410; int f8411; int f8412; int f8413; int f8414; int f8415; int f8416; int f8417; int f8418; int f8419; int f8420; int f8421; int f8422; int f8423; int f8424; int f8425; int f8426; int f8427; int f8428; int f8429; int f8430; int f8431; int f8432; int f8433; int f8434; int f8435; int f8436; int f8437; int f8438; int f8439; int f8440; int f8441; int f8442; int f8443; int f8444; int f8445; int f8446; int f8447; int f8448; int f8449; int f8450; int f8451; int f8452; int f8453; int f8454; int f8455; int f8456; int f8457; int f8458; int f8459; int f8460; int f8461; int f8462; int f8463; int f8464; int f8465; int f8466; int f8467; int f8468; int f8469; int f8470; int f8471; int f8472; int f8473; int f8474; int f8475; int f8476; int f8477; int f8478; int f8479; int f8480; int f8481; int f8482; int f8483; int f8484; int f8485; int f8486; int f8487; int f8488; int f8489; int f8490; int f8491; int f8492; int f8493; int f8494; int f8495; int f8496; int f8497; int f8498; int f8499;
+    int f8500; int f8501; int f8502; int f8503; int f8504; int f8505; int f8506; int f8507; int f8508; int f8509; int f8510; int f8511; int f8512; int f8513; int f8514; int f8515; int f8516; int f8517; int f8518; int f8519; int f8520; int f8521; int f8522; int f8523; int f8524; int f8525; int f8526; int f8527; int f8528; int f8529; int f8530; int f8531; int f8532; int f8533; int f8534; int f8535; int f8536; int f8537; int f8538; int f8539; int f8540; int f8541; int f8542; int f8543; int f8544; int f8545; int f8546; int f8547; int f8548; int f8549; int f8550; int f8551; int f8552; int f8553; int f8554; int f8555; int f8556; int f8557; int f8558; int f8559; int f8560; int f8561; int f8562; int f8563; int f8564; int f8565; int f8566; int f8567; int f8568; int f8569; int f8570; int f8571; int f8572; int f8573; int f8574; int f8575; int f8576; int f8577; int f8578; int f8579; int f8580; int f8581; int f8582; int f8583; int f8584; int f8585; int f8586; int f8587; int f8588; int f8589; int f8590; int f8591; int f8592; int f8593; int f8594; int f8595; int f8596; int f8597; int f8598; int f8599;
+    int f8600; int f8601; int f8602; int f8603; int f8604; int f8605; int f8606; int f8607; int f8608; int f8609; int f8610; int f8611; int f8612; int f8613; int f8614; int f8615; int f8616; int f8617; int f8618; int f8619; int f8620; int f8621; int f8622; int f8623; int f8624; int f8625; int f8626; int f8627; int f8628; int f8629; int f8630; int f8631; int f8632; int f8633; int f8634; int f8635; int f8636; int f8637; int f8638; int f8639; int f8640; int f8641; int f8642; int f8643; int f8644; int f8645; int f8646; int f8647; int f8648; int f8649; int f8650; int f8651; int f8652; int f8653; int f8654; int f8655; int f8656; int f8657; int f8658; int f8659; int f8660; int f8661; int f8662; int f8663; int f8664; int f8665; int f8666; int f8667; int f8668; int f8669; int f8670; int f8671; int f8672; int f8673; int f8674; int f8675; int f8676; int f8677; int f8678; int f8679; int f8680; int f8681; int f8682; int f8683; int f8684; int f8685; int f8686; int f8687; int f8688; int f8689; int f8690; int f8691; int f8692; int f8693; int f8694; int f8695; int f8696; int f8697; int f8698; int f8699;
+    int f8700; int f8701; int f8702; int f8703; int f8704; int f8705; int f8706; int f8707; int f8708; int f8709; int f8710; int f8711; int f8712; int f8713; int f8714; int f8715; int f8716; int f8717; int f8718; int f8719; int f8720; int f8721; int f8722; int f8723; int f8724; int f8725; int f8726; int f8727; int f8728; int f8729; int f8730; int f8731; int f8732; int f8733; int f8734; int f8735; int f8736; int f8737; int f8738; int f8739; int f8740; int f8741; int f8742; int f8743; int f8744; int f8745; int f8746; int f8747; int f8748; int f8749; int f8750; int f8751; int f8752; int f8753; int f8754; int f8755; int f8756; int f8757; int f8758; int f8759; int f8760; int f8761; int f8762; int f8763; int f8764; int f8765; int f8766; int f8767; int f8768; int f8769; int f8770; int f8771; int f8772; int f8773; int f8774; int f8775; int f8776; int f8777; int f8778; int f8779; int f8780; int f8781; int f8782; int f8783; int f8784; int f8785; int f8786; int f8787; int f8788; int f8789; int f8790; int f8791; int f8792; int f8793; int f8794; int f8795; int f8796; int f8797; int f8798; int f8799;
+    int f8800; int f8801; int f8802; int f8803; int f8804; int f8805; int f8806; int f8807; int f8808; int f8809; int f8810; int f8811; int f8812; int f8813; int f8814; int f8815; int f8816; int f8817; int f8818; int f8819; int f8820; int f8821; int f8822; int f8823; int f8824; int f8825; int f8826; int f8827; int f8828; int f8829; int f8830; int f8831; int f8832; int f8833; int f8834; int f8835; int f8836; int f8837; int f8838; int f8839; int f8840; int f8841; int f8842; int f8843; int f8844; int f8845; int f8846; int f8847; int f8848; int f8849; int f8850; int f8851; int f8852; int f8853; int f8854; int f8855; int f8856; int f8857; int f8858; int f8859; int f8860; int f8861; int f8862; int f8863; int f8864; int f8865; int f8866; int f8867; int f8868; int f8869; int f8870; int f8871; int f8872; int f8873; int f8874; int f8875; int f8876; int f8877; int f8878; int f8879; int f8880; int f8881; int f8882; int f8883; int f8884; int f8885; int f8886; int f8887; int f8888; int f8889; int f8890; int f8891; int f8892; int f8893; int f8894; int f8895; int f8896; int f8897; int f8898; int f8899;
+    int f8900; int f8901; int f8902; int f8903; int f8904; int f8905; int f8906; int f8907; int f8908; int f8909; int f8910; int f8911; int f8912; int f8913; int f8914; int f8915; int f8916; int f8917; int f8918; int f8919; int f8920; int f8921; int f8922; int f8923; int f8924; int f8925; int f8926; int f8927; int f8928; int f8929; int f8930; int f8931; int f8932; int f8933; int f8934; int f8935; int f8936; int f8937; int f8938; int f8939; int f8940; int f8941; int f8942; int f8943; int f8944; int f8945; int f8946; int f8947; int f8948; int f8949; int f8950; int f8951; int f8952; int f8953; int f8954; int f8955; int f8956; int f8957; int f8958; int f8959; int f8960; int f8961; int f8962; int f8963; int f8964; int f8965; int f8966; int f8967; int f8968; int f8969; int f8970; int f8971; int f8972; int f8973; int f8974; int f8975; int f8976; int f8977; int f8978; int f8979; int f8980; int f8981; int f8982; int f8983; int f8984; int f8985; int f8986; int f8987; int f8988; int f8989; int f8990; int f8991; int f8992; int f8993; int f8994; int f8995; int f8996; int f8997; int f8998; int f8999;
+    int f9000; int f9001; int f9002; int f9003; int f9004; int f9005; int f9006; int f9007; int f9008; int f9009; int f9010; int f9011; int f9012; int f9013; int f9014; int f9015; int f9016; int f9017; int f9018; int f9019; int f9020; int f9021; int f9022; int f9023; int f9024; int f9025; int f9026; int f9027; int f9028; int f9029; int f9030; int f9031; int f9032; int f9033; int f9034; int f9035; int f9036; int f9037; int f9038; int f9039; int f9040; int f9041; int f9042; int f9043; int f9044; int f9045; int f9046; int f9047; int f9048; int f9049; int f9050; int f9051; int f9052; int f9053; int f9054; int f9055; int f9056; int f9057; int f9058; int f9059; int f9060; int f9061; int f9062; int f9063; int f9064; int f9065; int f9066; int f9067; int f9068; int f9069; int f9070; int f9071; int f9072; int f9073; int f9074; int f9075; int f9076; int f9077; int f9078; int f9079; int f9080; int f9081; int f9082; int f9083; int f9084; int f9085; int f9086; int f9087; int f9088; int f9089; int f9090; int f9091; int f9092; int f9093; int f9094; int f9095; int f9096; int f9097; int f9098; int f9099;
+    int f9100; int f9101; int f9102; int f9103; int f9104; int f9105; int f9106; int f9107; int f9108; int f9109; int f9110; int f9111; int f9112; int f9113; int f9114; int f9115; int f9116; int f9117; int f9118; int f9119; int f9120; int f9121; int f9122; int f9123; int f9124; int f9125; int f9126; int f9127; int f9128; int f9129; int f9130; int f9131; int f9132; int f9133; int f9134; int f9135; int f9136; int f9137; int f9138; int f9139; int f9140; int f9141; int f9142; int f9143; int f9144; int f9145; int f9146; int f9147; int f9148; int f9149; int f9150; int f9151; int f9152; int f9153; int f9154; int f9155; int f9156; int f9157; int f9158; int f9159; int f9160; int f9161; int f9162; int f9163; int f9164; int f9165; int f9166; int f9167; int f9168; int f9169; int f9170; int f9171; int f9172; int f9173; int f9174; int f9175; int f9176; int f9177; int f9178; int f9179; int f9180; int f9181; int f9182; int f9183; int f9184; int f9185; int f9186; int f9187; int f9188; int f9189; int f9190; int f9191; int f9192; int f9193; int f9194; int f9195; int f9196; int f9197; int f9198; int f9199;
+    int f9200; int f9201; int f9202; int f9203; int f9204; int f9205; int f9206; int f9207; int f9208; int f9209; int f9210; int f9211; int f9212; int f9213; int f9214; int f9215; int f9216; int f9217; int f9218; int f9219; int f9220; int f9221; int f9222; int f9223; int f9224; int f9225; int f9226; int f9227; int f9228; int f9229; int f9230; int f9231; int f9232; int f9233; int f9234; int f9235; int f9236; int f9237; int f9238; int f9239; int f9240; int f9241; int f9242; int f9243; int f9244; int f9245; int f9246; int f9247; int f9248; int f9249; int f9250; int f9251; int f9252; int f9253; int f9254; int f9255; int f9256; int f9257; int f9258; int f9259; int f9260; int f9261; int f9262; int f9263; int f9264; int f9265; int f9266; int f9267; int f9268; int f9269; int f9270; int f9271; int f9272; int f9273; int f9274; int f9275; int f9276; int f9277; int f9278; int f9279; int f9280; int f9281; int f9282; int f9283; int f9284; int f9285; int f9286; int f9287; int f9288; int f9289; int f9290; int f9291; int f9292; int f9293; int f9294; int f9295; int f9296; int f9297; int f9298; int f9299;
+    int f9300; int f9301; int f9302; int f9303; int f9304; int f9305; int f9306; int f9307; int f9308; int f9309; int f9310; int f9311; int f9312; int f9313; int f9314; int f9315; int f9316; int f9317; int f9318; int f9319; int f9320; int f9321; int f9322; int f9323; int f9324; int f9325; int f9326; int f9327; int f9328; int f9329; int f9330; int f9331; int f9332; int f9333; int f9334; int f9335; int f9336; int f9337; int f9338; int f9339; int f9340; int f9341; int f9342; int f9343; int f9344; int f9345; int f9346; int f9347; int f9348; int f9349; int f9350; int f9351; int f9352; int f9353; int f9354; int f9355; int f9356; int f9357; int f9358; int f9359; int f9360; int f9361; int f9362; int f9363; int f9364; int f9365; int f9366; int f9367; int f9368; int f9369; int f9370; int f9371; int f9372; int f9373; int f9374; int f9375; int f9376; int f9377; int f9378; int f9379; int f9380; int f9381; int f9382; int f9383; int f9384; int f9385; int f9386; int f9387; int f9388; int f9389; int f9390; int f9391; int f9392; int f9393; int f9394; int f9395; int f9396; int f9397; int f9398; int f9399;
+    int f9400; int f9401; int f9402; int f9403; int f9404; int f9405; int f9406; int f9407; int f9408; int f9409; int f9410; int f9411; int f9412; int f9413; int f9414; int f9415; int f9416; int f9417; int f9418; int f9419; int f9420; int f9421; int f9422; int f9423; int f9424; int f9425; int f9426; int f9427; int f9428; int f9429; int f9430; int f9431; int f9432; int f9433; int f9434; int f9435; int f9436; int f9437; int f9438; int f9439; int f9440; int f9441; int f9442; int f9443; int f9444; int f9445; int f9446; int f9447; int f9448; int f9449; int f9450; int f9451; int f9452; int f9453; int f9454; int f9455; int f9456; int f9457; int f9458; int f9459; int f9460; int f9461; int f9462; int f9463; int f9464; int f9465; int f9466; int f9467; int f9468; int f9469; int f9470; int f9471; int f9472; int f9473; int f9474; int f9475; int f9476; int f9477; int f9478; int f9479; int f9480; int f9481; int f9482; int f9483; int f9484; int f9485; int f9486; int f9487; int f9488; int f9489; int f9490; int f9491; int f9492; int f9493; int f9494; int f9495; int f9496; int f9497; int f9498; int f9499;
+    int f9500; int f9501; int f9502; int f9503; int f9504; int f9505; int f9506; int f9507; int f9508; int f9509; int f9510; int f9511; int f9512; int f9513; int f9514; int f9515; int f9516; int f9517; int f9518; int f9519; int f9520; int f9521; int f9522; int f9523; int f9524; int f9525; int f9526; int f9527; int f9528; int f9529; int f9530; int f9531; int f9532; int f9533; int f9534; int f9535; int f9536; int f9537; int f9538; int f9539; int f9540; int f9541; int f9542; int f9543; int f9544; int f9545; int f9546; int f9547; int f9548; int f9549; int f9550; int f9551; int f9552; int f9553; int f9554; int f9555; int f9556; int f9557; int f9558; int f9559; int f9560; int f9561; int f9562; int f9563; int f9564; int f9565; int f9566; int f9567; int f9568; int f9569; int f9570; int f9571; int f9572; int f9573; int f9574; int f9575; int f9576; int f9577; int f9578; int f9579; int f9580; int f9581; int f9582; int f9583; int f9584; int f9585; int f9586; int f9587; int f9588; int f9589; int f9590; int f9591; int f9592; int f9593; int f9594; int f9595; int f9596; int f9597; int f9598; int f9599;
+    int f9600; int f9601; int f9602; int f9603; int f9604; int f9605; int f9606; int f9607; int f9608; int f9609; int f9610; int f9611; int f9612; int f9613; int f9614; int f9615; int f9616; int f9617; int f9618; int f9619; int f9620; int f9621; int f9622; int f9623; int f9624; int f9625; int f9626; int f9627; int f9628; int f9629; int f9630; int f9631; int f9632; int f9633; int f9634; int f9635; int f9636; int f9637; int f9638; int f9639; int f9640; int f9641; int f9642; int f9643; int f9644; int f9645; int f9646; int f9647; int f9648; int f9649; int f9650; int f9651; int f9652; int f9653; int f9654; int f9655; int f9656; int f9657; int f9658; int f9659; int f9660; int f9661; int f9662; int f9663; int f9664; int f9665; int f9666; int f9667; int f9668; int f9669; int f9670; int f9671; int f9672; int f9673; int f9674; int f9675; int f9676; int f9677; int f9678; int f9679; int f9680; int f9681; int f9682; int f9683; int f9684; int f9685; int f9686; int f9687; int f9688; int f9689; int f9690; int f9691; int f9692; int f9693; int f9694; int f9695; int f9696; int f9697; int f9698; int f9699;
+    int f9700; int f9701; int f9702; int f9703; int f9704; int f9705; int f9706; int f9707; int f9708; int f9709; int f9710; int f9711; int f9712; int f9713; int f9714; int f9715; int f9716; int f9717; int f9718; int f9719; int f9720; int f9721; int f9722; int f9723; int f9724; int f9725; int f9726; int f9727; int f9728; int f9729; int f9730; int f9731; int f9732; int f9733; int f9734; int f9735; int f9736; int f9737; int f9738; int f9739; int f9740; int f9741; int f9742; int f9743; int f9744; int f9745; int f9746; int f9747; int f9748; int f9749; int f9750; int f9751; int f9752; int f9753; int f9754; int f9755; int f9756; int f9757; int f9758; int f9759; int f9760; int f9761; int f9762; int f9763; int f9764; int f9765; int f9766; int f9767; int f9768; int f9769; int f9770; int f9771; int f9772; int f9773; int f9774; int f9775; int f9776; int f9777; int f9778; int f9779; int f9780; int f9781; int f9782; int f9783; int f9784; int f9785; int f9786; int f9787; int f9788; int f9789; int f9790; int f9791; int f9792; int f9793; int f9794; int f9795; int f9796; int f9797; int f9798; int f9799;
+    int f9800; int f9801; int f9802; int f9803; int f9804; int f9805; int f9806; int f9807; int f9808; int f9809; int f9810; int f9811; int f9812; int f9813; int f9814; int f9815; int f9816; int f9817; int f9818; int f9819; int f9820; int f9821; int f9822; int f9823; int f9824; int f9825; int f9826; int f9827; int f9828; int f9829; int f9830; int f9831; int f9832; int f9833; int f9834; int f9835; int f9836; int f9837; int f9838; int f9839; int f9840; int f9841; int f9842; int f9843; int f9844; int f9845; int f9846; int f9847; int f9848; int f9849; int f9850; int f9851; int f9852; int f9853; int f9854; int f9855; int f9856; int f9857; int f9858; int f9859; int f9860; int f9861; int f9862; int f9863; int f9864; int f9865; int f9866; int f9867; int f9868; int f9869; int f9870; int f9871; int f9872; int f9873; int f9874; int f9875; int f9876; int f9877; int f9878; int f9879; int f9880; int f9881; int f9882; int f9883; int f9884; int f9885; int f9886; int f9887; int f9888; int f9889; int f9890; int f9891; int f9892; int f9893; int f9894; int f9895; int f9896; int f9897; int f9898; int f9899;
+    int f9900; int f9901; int f9902; int f9903; int f9904; int f9905; int f9906; int f9907; int f9908; int f9909; int f9910; int f9911; int f9912; int f9913; int f9914; int f9915; int f9916; int f9917; int f9918; int f9919; int f9920; int f9921; int f9922; int f9923; int f9924; int f9925; int f9926; int f9927; int f9928; int f9929; int f9930; int f9931; int f9932; int f9933; int f9934; int f9935; int f9936; int f9937; int f9938; int f9939; int f9940; int f9941; int f9942; int f9943; int f9944; int f9945; int f9946; int f9947; int f9948; int f9949; int f9950; int f9951; int f9952; int f9953; int f9954; int f9955; int f9956; int f9957; int f9958; int f9959; int f9960; int f9961; int f9962; int f9963; int f9964; int f9965; int f9966; int f9967; int f9968; int f9969; int f9970; int f9971; int f9972; int f9973; int f9974; int f9975; int f9976; int f9977; int f9978; int f9979; int f9980; int f9981; int f9982; int f9983; int f9984; int f9985; int f9986; int f9987; int f9988; int f9989; int f9990; int f9991; int f9992; int f9993; int f9994; int f9995; int f9996; int f9997; int f9998; int f9999;
+    int f10000; int f10001; int f10002; int f10003; int f10004; int f10005; int f10006; int f10007; int f10008; int f10009; int f10010; int f10011; int f10012; int f10013; int f10014; int f10015; int f10016; int f10017; int f10018; int f10019; int f10020; int f10021; int f10022; int f10023; int f10024; int f10025; int f10026; int f10027; int f10028; int f10029; int f10030; int f10031; int f10032; int f10033; int f10034; int f10035; int f10036; int f10037; int f10038; int f10039; int f10040; int f10041; int f10042; int f10043; int f10044; int f10045; int f10046; int f10047; int f10048; int f10049; int f10050; int f10051; int f10052; int f10053; int f10054; int f10055; int f10056; int f10057; int f10058; int f10059; int f10060; int f10061; int f10062; int f10063; int f10064; int f10065; int f10066; int f10067; int f10068; int f10069; int f10070; int f10071; int f10072; int f10073; int f10074; int f10075; int f10076; int f10077; int f10078; int f10079; int f10080; int f10081; int f10082; int f10083; int f10084; int f10085; int f10086; int f10087; int f10088; int f10089; int f10090; int f10091; int f10092; int f10093; int f10094; int f10095; int f10096; int f10097; int f10098; int f10099;
+    int f10100; int f10101; int f10102; int f10103; int f10104; int f10105; int f10106; int f10107; int f10108; int f10109; int f10110; int f10111; int f10112; int f10113; int f10114; int f10115; int f10116; int f10117; int f10118; int f10119; int f10120; int f10121; int f10122; int f10123; int f10124; int f10125; int f10126; int f10127; int f10128; int f10129; int f10130; int f10131; int f10132; int f10133; int f10134; int f10135; int f10136; int f10137; int f10138; int f10139; int f10140; int f10141; int f10142; int f10143; int f10144; int f10145; int f10146; int f10147; int f10148; int f10149; int f10150; int f10151; int f10152; int f10153; int f10154; int f10155; int f10156; int f10157; int f10158; int f10159; int f10160; int f10161; int f10162; int f10163; int f10164; int f10165; int f10166; int f10167; int f10168; int f10169; int f10170; int f10171; int f10172; int f10173; int f10174; int f10175; int f10176; int f10177; int f10178; int f10179; int f10180; int f10181; int f10182; int f10183; int f10184; int f10185; int f10186; int f10187; int f10188; int f10189; int f10190; int f10191; int f10192; int f10193; int f10194; int f10195; int f10196; int f10197; int f10198; int f10199;
+    int f10200; int f10201; int f10202; int f10203; int f10204; int f10205; int f10206; int f10207; int f10208; int f10209; int f10210; int f10211; int f10212; int f10213; int f10214; int f10215; int f10216; int f10217; int f10218; int f10219; int f10220; int f10221; int f10222; int f10223; int f10224; int f10225; int f10226; int f10227; int f10228; int f10229; int f10230; int f10231; int f10232; int f10233; int f10234; int f10235; int f10236; int f10237; int f10238; int f10239; int f10240; int f10241; int f10242; int f10243; int f10244; int f10245; int f10246; int f10247; int f10248; int f10249; int f10250; int f10251; int f10252; int f10253; int f10254; int f10255; int f10256; int f10257; int f10258; int f10259; int f10260; int f10261; int f10262; int f10263; int f10264; int f10265; int f10266; int f10267; int f10268; int f10269; int f10270; int f10271; int f10272; int f10273; int f10274; int f10275; int f10276; int f10277; int f10278; int f10279; int f10280; int f10281; int f10282; int f10283; int f10284; int f10285; int f10286; int f10287; int f10288; int f10289; int f10290; int f10291; int f10292; int f10293; int f10294; int f10295; int f10296; int f10297; int f10298; int f10299;
+    int f10300; int f10301; int f10302; int f10303; int f10304; int f10305; int f10306; int f10307; int f10308; int f10309; int f10310; int f10311; int f10312; int f10313; int f10314; int f10315; int f10316; int f10317; int f10318; int f10319; int f10320; int f10321; int f10322; int f10323; int f10324; int f10325; int f10326; int f10327; int f10328; int f10329; int f10330; int f10331; int f10332; int f10333; int f10334; int f10335; int f10336; int f10337; int f10338; int f10339; int f10340; int f10341; int f10342; int f10343; int f10344; int f10345; int f10346; int f10347; int f10348; int f10349; int f10350; int f10351; int f10352; int f10353; int f10354; int f10355; int f10356; int f10357; int f10358; int f10359; int f10360; int f10361; int f10362; int f10363; int f10364; int f10365; int f10366; int f10367; int f10368; int f10369; int f10370; int f10371; int f10372; int f10373; int f10374; int f10375; int f10376; int f10377; int f10378; int f10379; int f10380; int f10381; int f10382; int f10383; int f10384; int f10385; int f10386; int f10387; int f10388; int f10389; int f10390; int f10391; int f10392; int f10393; int f10394; int f10395; int f10396; int f10397; int f10398; int f10399;
+    int f10400; int f10401; int f10402; int f10403; int f10404; int f10405; int f10406; int f10407; int f10408; int f10409; int f10410; int f10411; int f10412; int f10413; int f10414; int f10415; int f10416; int f10417; int f10418; int f10419; int f10420; int f10421; int f10422; int f10423; int f10424; int f10425; int f10426; int f10427; int f10428; int f10429; int f10430; int f10431; int f10432; int f10433; int f10434; int f10435; int f10436; int f10437; int f10438; int f10439; int f10440; int f10441; int f10442; int f10443; int f10444; int f10445; int f10446; int f10447; int f10448; int f10449; int f10450; int f10451; int f10452; int f10453; int f10454; int f10455; int f10456; int f10457; int f10458; int f10459; int f10460; int f10461; int f10462; int f10463; int f10464; int f10465; int f10466; int f10467; int f10468; int f10469; int f10470; int f10471; int f10472; int f10473; int f10474; int f10475; int f10476; int f10477; int f10478; int f10479; int f10480; int f10481; int f10482; int f10483; int f10484; int f10485; int f10486; int f10487; int f10488; int f10489; int f10490; int f10491; int f10492; int f10493; int f10494; int f10495; int f10496; int f10497; int f10498; int f10499;
+    int f10500; int f10501; int f10502; int f10503; int f10504; int f10505; int f10506; int f10507; int f10508; int f10509; int f10510; int f10511; int f10512; int f10513; int f10514; int f10515; int f10516; int f10517; int f10518; int f10519; int f10520; int f10521; int f10522; int f10523; int f10524; int f10525; int f10526; int f10527; int f10528; int f10529; int f10530; int f10531; int f10532; int f10533; int f10534; int f10535; int f10536; int f10537; int f10538; int f10539; int f10540; int f10541; int f10542; int f10543; int f10544; int f10545; int f10546; int f10547; int f10548; int f10549; int f10550; int f10551; int f10552; int f10553; int f10554; int f10555; int f10556; int f10557; int f10558; int f10559; int f10560; int f10561; int f10562; int f10563; int f10564; int f10565; int f10566; int f10567; int f10568; int f10569; int f10570; int f10571; int f10572; int f10573; int f10574; int f10575; int f10576; int f10577; int f10578; int f10579; int f10580; int f10581; int f10582; int f10583; int f10584; int f10585; int f10586; int f10587; int f10588; int f10589; int f10590; int f10591; int f10592; int f10593; int f10594; int f10595; int f10596; int f10597; int f10598; int f10599;
+    int f10600; int f10601; int f10602; int f10603; int f10604; int f10605; int f10606; int f10607; int f10608; int f10609; int f10610; int f10611; int f10612; int f10613; int f10614; int f10615; int f10616; int f10617; int f10618; int f10619; int f10620; int f10621; int f10622; int f10623; int f10624; int f10625; int f10626; int f10627; int f10628; int f10629; int f10630; int f10631; int f10632; int f10633; int f10634; int f10635; int f10636; int f10637; int f10638; int f10639; int f10640; int f10641; int f10642; int f10643; int f10644; int f10645; int f10646; int f10647; int f10648; int f10649; int f10650; int f10651; int f10652; int f10653; int f10654; int f10655; int f10656; int f10657; int f10658; int f10659; int f10660; int f10661; int f10662; int f10663; int f10664; int f10665; int f10666; int f10667; int f10668; int f10669; int f10670; int f10671; int f10672; int f10673; int f10674; int f10675; int f10676; int f10677; int f10678; int f10679; int f10680; int f10681; int f10682; int f10683; int f10684; int f10685; int f10686; int f10687; int f10688; int f10689; int f10690; int f10691; int f10692; int f10693; int f10694; int f10695; int f10696; int f10697; int f10698; int f10699;
+    int f10700; int f10701; int f10702; int f10703; int f10704; int f10705; int f10706; int f10707; int f10708; int f10709; int f10710; int f10711; int f10712; int f10713; int f10714; int f10715; int f10716; int f10717; int f10718; int f10719; int f10720; int f10721; int f10722; int f10723; int f10724; int f10725; int f10726; int f10727; int f10728; int f10729; int f10730; int f10731; int f10732; int f10733; int f10734; int f10735; int f10736; int f10737; int f10738; int f10739; int f10740; int f10741; int f10742; int f10743; int f10744; int f10745; int f10746; int f10747; int f10748; int f10749; int f10750; int f10751; int f10752; int f10753; int f10754; int f10755; int f10756; int f10757; int f10758; int f10759; int f10760; int f10761; int f10762; int f10763; int f10764; int f10765; int f10766; int f10767; int f10768; int f10769; int f10770; int f10771; int f10772; int f10773; int f10774; int f10775; int f10776; int f10777; int f10778; int f10779; int f10780; int f10781; int f10782; int f10783; int f10784; int f10785; int f10786; int f10787; int f10788; int f10789; int f10790; int f10791; int f10792; int f10793; int f10794; int f10795; int f10796; int f10797; int f10798; int f10799;
+    int f10800; int f10801; int f10802; int f10803; int f10804; int f10805; int f10806; int f10807; int f10808; int f10809; int f10810; int f10811; int f10812; int f10813; int f10814; int f10815; int f10816; int f10817; int f10818; int f10819; int f10820; int f10821; int f10822; int f10823; int f10824; int f10825; int f10826; int f10827; int f10828; int f10829; int f10830; int f10831; int f10832; int f10833; int f10834; int f10835; int f10836; int f10837; int f10838; int f10839; int f10840; int f10841; int f10842; int f10843; int f10844; int f10845; int f10846; int f10847; int f10848; int f10849; int f10850; int f10851; int f10852; int f10853; int f10854; int f10855; int f10856; int f10857; int f10858; int f10859; int f10860; int f10861; int f10862; int f10863; int f10864; int f10865; int f10866; int f10867; int f10868; int f10869; int f10870; int f10871; int f10872; int f10873; int f10874; int f10875; int f10876; int f10877; int f10878; int f10879; int f10880; int f10881; int f10882; int f10883; int f10884; int f10885; int f10886; int f10887; int f10888; int f10889; int f10890; int f10891; int f10892; int f10893; int f10894; int f10895; int f10896; int f10897; int f10898; int f10899;
+    int f10900; int f10901; int f10902; int f10903; int f10904; int f10905; int f10906; int f10907; int f10908; int f10909; int f10910; int f10911; int f10912; int f10913; int f10914; int f10915; int f10916; int f10917; int f10918; int f10919; int f10920; int f10921; int f10922; int f10923; int f10924; int f10925; int f10926; int f10927; int f10928; int f10929; int f10930; int f10931; int f10932; int f10933; int f10934; int f10935; int f10936; int f10937; int f10938; int f10939; int f10940; int f10941; int f10942; int f10943; int f10944; int f10945; int f10946; int f10947; int f10948; int f10949; int f10950; int f10951; int f10952; int f10953; int f10954; int f10955; int f10956; int f10957; int f10958; int f10959; int f10960; int f10961; int f10962; int f10963; int f10964; int f10965; int f10966; int f10967; int f10968; int f10969; int f10970; int f10971; int f10972; int f10973; int f10974; int f10975; int f10976; int f10977; int f10978; int f10979; int f10980; int f10981; int f10982; int f10983; int f10984; int f10985; int f10986; int f10987; int f10988; int f10989; int f10990; int f10991; int f10992; int f10993; int f10994; int f10995; int f10996; int f10997; int f10998; int f10999;
+    int f11000; int f11001; int f11002; int f11003; int f11004; int f11005; int f11006; int f11007; int f11008; int f11009; int f11010; int f11011; int f11012; int f11013; int f11014; int f11015; int f11016; int f11017; int f11018; int f11019; int f11020; int f11021; int f11022; int f11023; int f11024; int f11025; int f11026; int f11027; int f11028; int f11029; int f11030; int f11031; int f11032; int f11033; int f11034; int f11035; int f11036; int f11037; int f11038; int f11039; int f11040; int f11041; int f11042; int f11043; int f11044; int f11045; int f11046; int f11047; int f11048; int f11049; int f11050; int f11051; int f11052; int f11053; int f11054; int f11055; int f11056; int f11057; int f11058; int f11059; int f11060; int f11061; int f11062; int f11063; int f11064; int f11065; int f11066; int f11067; int f11068; int f11069; int f11070; int f11071; int f11072; int f11073; int f11074; int f11075; int f11076; int f11077; int f11078; int f11079; int f11080; int f11081; int f11082; int f11083; int f11084; int f11085; int f11086; int f11087; int f11088; int f11089; int f11090; int f11091; int f11092; int f11093; int f11094; int f11095; int f11096; int f11097; int f11098; int f11099;
+    int f11100; int f11101; int f11102; int f11103; int f11104; int f11105; int f11106; int f11107; int f11108; int f11109; int f11110; int f11111; int f11112; int f11113; int f11114; int f11115; int f11116; int f11117; int f11118; int f11119; int f11120; int f11121; int f11122; int f11123; int f11124; int f11125; int f11126; int f11127; int f11128; int f11129; int f11130; int f11131; int f11132; int f11133; int f11134; int f11135; int f11136; int f11137; int f11138; int f11139; int f11140; int f11141; int f11142; int f11143; int f11144; int f11145; int f11146; int f11147; int f11148; int f11149; int f11150; int f11151; int f11152; int f11153; int f11154; int f11155; int f11156; int f11157; int f11158; int f11159; int f11160; int f11161; int f11162; int f11163; int f11164; int f11165; int f11166; int f11167; int f11168; int f11169; int f11170; int f11171; int f11172; int f11173; int f11174; int f11175; int f11176; int f11177; int f11178; int f11179; int f11180; int f11181; int f11182; int f11183; int f11184; int f11185; int f11186; int f11187; int f11188; int f11189; int f11190; int f11191; int f11192; int f11193; int f11194; int f11195; int f11196; int f11197; int f11198; int f11199;
+    int f11200; int f11201; int f11202; int f11203; int f11204; int f11205; int f11206; int f11207; int f11208; int f11209; int f11210; int f11211; int f11212; int f11213; int f11214; int f11215; int f11216; int f11217; int f11218; int f11219; int f11220; int f11221; int f11222; int f11223; int f11224; int f11225; int f11226; int f11227; int f11228; int f11229; int f11230; int f11231; int f11232; int f11233; int f11234; int f11235; int f11236; int f11237; int f11238; int f11239; int f11240; int f11241; int f11242; int f11243; int f11244; int f11245; int f11246; int f11247; int f11248; int f11249; int f11250; int f11251; int f11252; int f11253; int f11254; int f11255; int f11256; int f11257; int f11258; int f11259; int f11260; int f11261; int f11262; int f11263; int f11264; int f11265; int f11266; int f11267; int f11268; int f11269; int f11270; int f11271; int f11272; int f11273; int f11274; int f11275; int f11276; int f11277; int f11278; int f11279; int f11280; int f11281; int f11282; int f11283; int f11284; int f11285; int f11286; int f11287; int f11288; int f11289; int f11290; int f11291; int f11292; int f11293; int f11294; int f11295; int f11296; int f11297; int f11298; int f11299;
+    int f11300; int f11301; int f11302; int f11303; int f11304; int f11305; int f11306; int f11307; int f11308; int f11309; int f11310; int f11311; int f11312; int f11313; int f11314; int f11315; int f11316; int f11317; int f11318; int f11319; int f11320; int f11321; int f11322; int f11323; int f11324; int f11325; int f11326; int f11327; int f11328; int f11329; int f11330; int f11331; int f11332; int f11333; int f11334; int f11335; int f11336; int f11337; int f11338; int f11339; int f11340; int f11341; int f11342; int f11343; int f11344; int f11345; int f11346; int f11347; int f11348; int f11349; int f11350; int f11351; int f11352; int f11353; int f11354; int f11355; int f11356; int f11357; int f11358; int f11359; int f11360; int f11361; int f11362; int f11363; int f11364; int f11365; int f11366; int f11367; int f11368; int f11369; int f11370; int f11371; int f11372; int f11373; int f11374; int f11375; int f11376; int f11377; int f11378; int f11379; int f11380; int f11381; int f11382; int f11383; int f11384; int f11385; int f11386; int f11387; int f11388; int f11389; int f11390; int f11391; int f11392; int f11393; int f11394; int f11395; int f11396; int f11397; int f11398; int f11399;
+    int f11400; int f11401; int f11402; int f11403; int f11404; int f11405; int f11406; int f11407; int f11408; int f11409; int f11410; int f11411; int f11412; int f11413; int f11414; int f11415; int f11416; int f11417; int f11418; int f11419; int f11420; int f11421; int f11422; int f11423; int f11424; int f11425; int f11426; int f11427; int f11428; int f11429; int f11430; int f11431; int f11432; int f11433; int f11434; int f11435; int f11436; int f11437; int f11438; int f11439; int f11440; int f11441; int f11442; int f11443; int f11444; int f11445; int f11446; int f11447; int f11448; int f11449; int f11450; int f11451; int f11452; int f11453; int f11454; int f11455; int f11456; int f11457; int f11458; int f11459; int f11460; int f11461; int f11462; int f11463; int f11464; int f11465; int f11466; int f11467; int f11468; int f11469; int f11470; int f11471; int f11472; int f11473; int f11474; int f11475; int f11476; int f11477; int f11478; int f11479; int f11480; int f11481; int f11482; int f11483; int f11484; int f11485; int f11486; int f11487; int f11488; int f11489; int f11490; int f11491; int f11492; int f11493; int f11494; int f11495; int f11496; int f11497; int f11498; int f11499;
+    int f11500; int f11501; int f11502; int f11503; int f11504; int f11505; int f11506; int f11507; int f11508; int f11509; int f11510; int f11511; int f11512; int f11513; int f11514; int f11515; int f11516; int f11517; int f11518; int f11519; int f11520; int f11521; int f11522; int f11523; int f11524; int f11525; int f11526; int f11527; int f11528; int f11529; int f11530; int f11531; int f11532; int f11533; int f11534; int f11535; int f11536; int f11537; int f11538; int f11539; int f11540; int f11541; int f11542; int f11543; int f11544; int f11545; int f11546; int f11547; int f11548; int f11549; int f11550; int f11551; int f11552; int f11553; int f11554; int f11555; int f11556; int f11557; int f11558; int f11559; int f11560; int f11561; int f11562; int f11563; int f11564; int f11565; int f11566; int f11567; int f11568; int f11569; int f11570; int f11571; int f11572; int f11573; int f11574; int f11575; int f11576; int f11577; int f11578; int f11579; int f11580; int f11581; int f11582; int f11583; int f11584; int f11585; int f11586; int f11587; int f11588; int f11589; int f11590; int f11591; int f11592; int f11593; int f11594; int f11595; int f11596; int f11597; int f11598; int f11599;
+    int f11600; int f11601; int f11602; int f11603; int f11604; int f11605; int f11606; int f11607; int f11608; int f11609; int f11610; int f11611; int f11612; int f11613; int f11614; int f11615; int f11616; int f11617; int f11618; int f11619; int f11620; int f11621; int f11622; int f11623; int f11624; int f11625; int f11626; int f11627; int f11628; int f11629; int f11630; int f11631; int f11632; int f11633; int f11634; int f11635; int f11636; int f11637; int f11638; int f11639; int f11640; int f11641; int f11642; int f11643; int f11644; int f11645; int f11646; int f11647; int f11648; int f11649; int f11650; int f11651; int f11652; int f11653; int f11654; int f11655; int f11656; int f11657; int f11658; int f11659; int f11660; int f11661; int f11662; int f11663; int f11664; int f11665; int f11666; int f11667; int f11668; int f11669; int f11670; int f11671; int f11672; int f11673; int f11674; int f11675; int f11676; int f11677; int f11678; int f11679; int f11680; int f11681; int f11682; int f11683; int f11684; int f11685; int f11686; int f11687; int f11688; int f11689; int f11690; int f11691; int f11692; int f11693; int f11694; int f11695; int f11696; int f11697; int f11698; int f11699;
+    int f11700; int f11701; int f11702; int f11703; int f11704; int f11705; int f11706; int f11707; int f11708; int f11709; int f11710; int f11711; int f11712; int f11713; int f11714; int f11715; int f11716; int f11717; int f11718; int f11719; int f11720; int f11721; int f11722; int f11723; int f11724; int f11725; int f11726; int f11727; int f11728; int f11729; int f11730; int f11731; int f11732; int f11733; int f11734; int f11735; int f11736; int f11737; int f11738; int f11739; int f11740; int f11741; int f11742; int f11743; int f11744; int f11745; int f11746; int f11747; int f11748; int f11749; int f11750; int f11751; int f11752; int f11753; int f11754; int f11755; int f11756; int f11757; int f11758; int f11759; int f11760; int f11761; int f11762; int f11763; int f11764; int f11765; int f11766; int f11767; int f11768; int f11769; int f11770; int f11771; int f11772; int f11773; int f11774; int f11775; int f11776; int f11777; int f11778; int f11779; int f11780; int f11781; int f11782; int f11783; int f11784; int f11785; int f11786; int f11787; int f11788; int f11789; int f11790; int f11791; int f11792; int f11793; int f11794; int f11795; int f11796; int f11797; int f11798; int f11799;
+    int f11800; int f11801; int f11802; int f11803; int f11804; int f11805; int f11806; int f11807; int f11808; int f11809; int f11810; int f11811; int f11812; int f11813; int f11814; int f11815; int f11816; int f11817; int f11818; int f11819; int f11820; int f11821; int f11822; int f11823; int f11824; int f11825; int f11826; int f11827; int f11828; int f11829; int f11830; int f11831; int f11832; int f11833; int f11834; int f11835; int f11836; int f11837; int f11838; int f11839; int f11840; int f11841; int f11842; int f11843; int f11844; int f11845; int f11846; int f11847; int f11848; int f11849; int f11850; int f11851; int f11852; int f11853; int f11854; int f11855; int f11856; int f11857; int f11858; int f11859; int f11860; int f11861; int f11862; int f11863; int f11864; int f11865; int f11866; int f11867; int f11868; int f11869; int f11870; int f11871; int f11872; int f11873; int f11874; int f11875; int f11876; int f11877; int f11878; int f11879; int f11880; int f11881; int f11882; int f11883; int f11884; int f11885; int f11886; int f11887; int f11888; int f11889; int f11890; int f11891; int f11892; int f11893; int f11894; int f11895; int f11896; int f11897; int f11898; int f11899;
+    int f11900; int f11901; int f11902; int f11903; int f11904; int f11905; int f11906; int f11907; int f11908; int f11909; int f11910; int f11911; int f11912; int f11913; int f11914; int f11915; int f11916; int f11917; int f11918; int f11919; int f11920; int f11921; int f11922; int f11923; int f11924; int f11925; int f11926; int f11927; int f11928; int f11929; int f11930; int f11931; int f11932; int f11933; int f11934; int f11935; int f11936; int f11937; int f11938; int f11939; int f11940; int f11941; int f11942; int f11943; int f11944; int f11945; int f11946; int f11947; int f11948; int f11949; int f11950; int f11951; int f11952; int f11953; int f11954; int f11955; int f11956; int f11957; int f11958; int f11959; int f11960; int f11961; int f11962; int f11963; int f11964; int f11965; int f11966; int f11967; int f11968; int f11969; int f11970; int f11971; int f11972; int f11973; int f11974; int f11975; int f11976; int f11977; int f11978; int f11979; int f11980; int f11981; int f11982; int f11983; int f11984; int f11985; int f11986; int f11987; int f11988; int f11989; int f11990; int f11991; int f11992; int f11993; int f11994; int f11995; int f11996; int f11997; int f11998; int f11999;
+    int f12000; int f12001; int f12002; int f12003; int f12004; int f12005; int f12006; int f12007; int f12008; int f12009; int f12010; int f12011; int f12012; int f12013; int f12014; int f12015; int f12016; int f12017; int f12018; int f12019; int f12020; int f12021; int f12022; int f12023; int f12024; int f12025; int f12026; int f12027; int f12028; int f12029; int f12030; int f12031; int f12032; int f12033; int f12034; int f12035; int f12036; int f12037; int f12038; int f12039; int f12040; int f12041; int f12042; int f12043; int f12044; int f12045; int f12046; int f12047; int f12048; int f12049; int f12050; int f12051; int f12052; int f12053; int f12054; int f12055; int f12056; int f12057; int f12058; int f12059; int f12060; int f12061; int f12062; int f12063; int f12064; int f12065; int f12066; int f12067; int f12068; int f12069; int f12070; int f12071; int f12072; int f12073; int f12074; int f12075; int f12076; int f12077; int f12078; int f12079; int f12080; int f12081; int f12082; int f12083; int f12084; int f12085; int f12086; int f12087; int f12088; int f12089; int f12090; int f12091; int f12092; int f12093; int f12094; int f12095; int f12096; int f12097; int f12098; int f12099;
+    int f12100; int f12101; int f12102; int f12103; int f12104; int f12105; int f12106; int f12107; int f12108; int f12109; int f12110; int f12111; int f12112; int f12113; int f12114; int f12115; int f12116; int f12117; int f12118; int f12119; int f12120; int f12121; int f12122; int f12123; int f12124; int f12125; int f12126; int f12127; int f12128; int f12129; int f12130; int f12131; int f12132; int f12133; int f12134; int f12135; int f12136; int f12137; int f12138; int f12139; int f12140; int f12141; int f12142; int f12143; int f12144; int f12145; int f12146; int f12147; int f12148; int f12149; int f12150; int f12151; int f12152; int f12153; int f12154; int f12155; int f12156; int f12157; int f12158; int f12159; int f12160; int f12161; int f12162; int f12163; int f12164; int f12165; int f12166; int f12167; int f12168; int f12169; int f12170; int f12171; int f12172; int f12173; int f12174; int f12175; int f12176; int f12177; int f12178; int f12179; int f12180; int f12181; int f12182; int f12183; int f12184; int f12185; int f12186; int f12187; int f12188; int f12189; int f12190; int f12191; int f12192; int f12193; int f12194; int f12195; int f12196; int f12197; int f12198; int f12199;
+    int f12200; int f12201; int f12202; int f12203; int f12204; int f12205; int f12206; int f12207; int f12208; int f12209; int f12210; int f12211; int f12212; int f12213; int f12214; int f12215; int f12216; int f12217; int f12218; int f12219; int f12220; int f12221; int f12222; int f12223; int f12224; int f12225; int f12226; int f12227; int f12228; int f12229; int f12230; int f12231; int f12232; int f12233; int f12234; int f12235; int f12236; int f12237; int f12238; int f12239; int f12240; int f12241; int f12242; int f12243; int f12244; int f12245; int f12246; int f12247; int f12248; int f12249; int f12250; int f12251; int f12252; int f12253; int f12254; int f12255; int f12256; int f12257; int f12258; int f12259; int f12260; int f12261; int f12262; int f12263; int f12264; int f12265; int f12266; int f12267; int f12268; int f12269; int f12270; int f12271; int f12272; int f12273; int f12274; int f12275; int f12276; int f12277; int f12278; int f12279; int f12280; int f12281; int f12282; int f12283; int f12284; int f12285; int f12286; int f12287; int f12288; int f12289; int f12290; int f12291; int f12292; int f12293; int f12294; int f12295; int f12296; int f12297; int f12298; int f12299;
+    int f12300; int f12301; int f12302; int f12303; int f12304; int f12305; int f12306; int f12307; int f12308; int f12309; int f12310; int f12311; int f12312; int f12313; int f12314; int f12315; int f12316; int f12317; int f12318; int f12319; int f12320; int f12321; int f12322; int f12323; int f12324; int f12325; int f12326; int f12327; int f12328; int f12329; int f12330; int f12331; int f12332; int f12333; int f12334; int f12335; int f12336; int f12337; int f12338; int f12339; int f12340; int f12341; int f12342; int f12343; int f12344; int f12345; int f12346; int f12347; int f12348; int f12349; int f12350; int f12351; int f12352; int f12353; int f12354; int f12355; int f12356; int f12357; int f12358; int f12359; int f12360; int f12361; int f12362; int f12363; int f12364; int f12365; int f12366; int f12367; int f12368; int f12369; int f12370; int f12371; int f12372; int f12373; int f12374; int f12375; int f12376; int f12377; int f12378; int f12379; int f12380; int f12381; int f12382; int f12383; int f12384; int f12385; int f12386; int f12387; int f12388; int f12389; int f12390; int f12391; int f12392; int f12393; int f12394; int f12395; int f12396; int f12397; int f12398; int f12399;
+    int f12400; int f12401; int f12402; int f12403; int f12404; int f12405; int f12406; int f12407; int f12408; int f12409; int f12410; int f12411; int f12412; int f12413; int f12414; int f12415; int f12416; int f12417; int f12418; int f12419; int f12420; int f12421; int f12422; int f12423; int f12424; int f12425; int f12426; int f12427; int f12428; int f12429; int f12430; int f12431; int f12432; int f12433; int f12434; int f12435; int f12436; int f12437; int f12438; int f12439; int f12440; int f12441; int f12442; int f12443; int f12444; int f12445; int f12446; int f12447; int f12448; int f12449; int f12450; int f12451; int f12452; int f12453; int f12454; int f12455; int f12456; int f12457; int f12458; int f12459; int f12460; int f12461; int f12462; int f12463; int f12464; int f12465; int f12466; int f12467; int f12468; int f12469; int f12470; int f12471; int f12472; int f12473; int f12474; int f12475; int f12476; int f12477; int f12478; int f12479; int f12480; int f12481; int f12482; int f12483; int f12484; int f12485; int f12486; int f12487; int f12488; int f12489; int f12490; int f12491; int f12492; int f12493; int f12494; int f12495; int f12496; int f12497; int f12498; int f12499;
+    int f12500; int f12501; int f12502; int f12503; int f12504; int f12505; int f12506; int f12507; int f12508; int f12509; int f12510; int f12511; int f12512; int f12513; int f12514; int f12515; int f12516; int f12517; int f12518; int f12519; int f12520; int f12521; int f12522; int f12523; int f12524; int f12525; int f12526; int f12527; int f12528; int f12529; int f12530; int f12531; int f12532; int f12533; int f12534; int f12535; int f12536; int f12537; int f12538; int f12539; int f12540; int f12541; int f12542; int f12543; int f12544; int f12545; int f12546; int f12547; int f12548; int f12549; int f12550; int f12551; int f12552; int f12553; int f12554; int f12555; int f12556; int f12557; int f12558; int f12559; int f12560; int f12561; int f12562; int f12563; int f12564; int f12565; int f12566; int f12567; int f12568; int f12569; int f12570; int f12571; int f12572; int f12573; int f12574; int f12575; int f12576; int f12577; int f12578; int f12579; int f12580; int f12581; int f12582; int f12583; int f12584; int f12585; int f12586; int f12587; int f12588; int f12589; int f12590; int f12591; int f12592; int f12593; int f12594; int f12595; int f12596; int f12597; int f12598; int f12599;
+    int f12600; int f12601; int f12602; int f12603; int f12604; int f12605; int f12606; int f12607; int f12608; int f12609; int f12610; int f12611; int f12612; int f12613; int f12614; int f12615; int f12616; int f12617; int f12618; int f12619; int f12620; int f12621; int f12622; int f12623; int f12624; int f12625; int f12626; int f12627; int f12628; int f12629; int f12630; int f12631; int f12632; int f12633; int f12634; int f12635; int f12636; int f12637; int f12638; int f12639; int f12640; int f12641; int f12642; int f12643; int f12644; int f12645; int f12646; int f12647; int f12648; int f12649; int f12650; int f12651; int f12652; int f12653; int f12654; int f12655; int f12656; int f12657; int f12658; int f12659; int f12660; int f12661; int f12662; int f12663; int f12664; int f12665; int f12666; int f12667; int f12668; int f12669; int f12670; int f12671; int f12672; int f12673; int f12674; int f12675; int f12676; int f12677; int f12678; int f12679; int f12680; int f12681; int f12682; int f12683; int f12684; int f12685; int f12686; int f12687; int f12688; int f12689; int f12690; int f12691; int f12692; int f12693; int f12694; int f12695; int f12696; int f12697; int f12698; int f12699;
+    int f12700; int f12701; int f12702; int f12703; int f12704; int f12705; int f12706; int f12707; int f12708; int f12709; int f12710; int f12711; int f12712; int f12713; int f12714; int f12715; int f12716; int f12717; int f12718; int f12719; int f12720; int f12721; int f12722; int f12723; int f12724; int f12725; int f12726; int f12727; int f12728; int f12729; int f12730; int f12731; int f12732; int f12733; int f12734; int f12735; int f12736; int f12737; int f12738; int f12739; int f12740; int f12741; int f12742; int f12743; int f12744; int f12745; int f12746; int f12747; int f12748; int f12749; int f12750; int f12751; int f12752; int f12753; int f12754; int f12755; int f12756; int f12757; int f12758; int f12759; int f12760; int f12761; int f12762; int f12763; int f12764; int f12765; int f12766; int f12767; int f12768; int f12769; int f12770; int f12771; int f12772; int f12773; int f12774; int f12775; int f12776; int f12777; int f12778; int f12779; int f12780; int f12781; int f12782; int f12783; int f12784; int f12785; int f12786; int f12787; int f12788; int f12789; int f12790; int f12791; int f12792; int f12793; int f12794; int f12795; int f12796; int f12797; int f12798; int f12799;
+    int f12800; int f12801; int f12802; int f12803; int f12804; int f12805; int f12806; int f12807; int f12808; int f12809; int f12810; int f12811; int f12812; int f12813; int f12814; int f12815; int f12816; int f12817; int f12818; int f12819; int f12820; int f12821; int f12822; int f12823; int f12824; int f12825; int f12826; int f12827; int f12828; int f12829; int f12830; int f12831; int f12832; int f12833; int f12834; int f12835; int f12836; int f12837; int f12838; int f12839; int f12840; int f12841; int f12842; int f12843; int f12844; int f12845; int f12846; int f12847; int f12848; int f12849; int f12850; int f12851; int f12852; int f12853; int f12854; int f12855; int f12856; int f12857; int f12858; int f12859; int f12860; int f12861; int f12862; int f12863; int f12864; int f12865; int f12866; int f12867; int f12868; int f12869; int f12870; int f12871; int f12872; int f12873; int f12874; int f12875; int f12876; int f12877; int f12878; int f12879; int f12880; int f12881; int f12882; int f12883; int f12884; int f12885; int f12886; int f12887; int f12888; int f12889; int f12890; int f12891; int f12892; int f12893; int f12894; int f12895; int f12896; int f12897; int f12898; int f12899;
+    int f12900; int f12901; int f12902; int f12903; int f12904; int f12905; int f12906; int f12907; int f12908; int f12909; int f12910; int f12911; int f12912; int f12913; int f12914; int f12915; int f12916; int f12917; int f12918; int f12919; int f12920; int f12921; int f12922; int f12923; int f12924; int f12925; int f12926; int f12927; int f12928; int f12929; int f12930; int f12931; int f12932; int f12933; int f12934; int f12935; int f12936; int f12937; int f12938; int f12939; int f12940; int f12941; int f12942; int f12943; int f12944; int f12945; int f12946; int f12947; int f12948; int f12949; int f12950; int f12951; int f12952; int f12953; int f12954; int f12955; int f12956; int f12957; int f12958; int f12959; int f12960; int f12961; int f12962; int f12963; int f12964; int f12965; int f12966; int f12967; int f12968; int f12969; int f12970; int f12971; int f12972; int f12973; int f12974; int f12975; int f12976; int f12977; int f12978; int f12979; int f12980; int f12981; int f12982; int f12983; int f12984; int f12985; int f12986; int f12987; int f12988; int f12989; int f12990; int f12991; int f12992; int f12993; int f12994; int f12995; int f12996; int f12997; int f12998; int f12999;
+    int f13000; int f13001; int f13002; int f13003; int f13004; int f13005; int f13006; int f13007; int f13008; int f13009; int f13010; int f13011; int f13012; int f13013; int f13014; int f13015; int f13016; int f13017; int f13018; int f13019; int f13020; int f13021; int f13022; int f13023; int f13024; int f13025; int f13026; int f13027; int f13028; int f13029; int f13030; int f13031; int f13032; int f13033; int f13034; int f13035; int f13036; int f13037; int f13038; int f13039; int f13040; int f13041; int f13042; int f13043; int f13044; int f13045; int f13046; int f13047; int f13048; int f13049; int f13050; int f13051; int f13052; int f13053; int f13054; int f13055; int f13056; int f13057; int f13058; int f13059; int f13060; int f13061; int f13062; int f13063; int f13064; int f13065; int f13066; int f13067; int f13068; int f13069; int f13070; int f13071; int f13072; int f13073; int f13074; int f13075; int f13076; int f13077; int f13078; int f13079; int f13080; int f13081; int f13082; int f13083; int f13084; int f13085; int f13086; int f13087; int f13088; int f13089; int f13090; int f13091; int f13092; int f13093; int f13094; int f13095; int f13096; int f13097; int f13098; int f13099;
+    int f13100; int f13101; int f13102; int f13103; int f13104; int f13105; int f13106; int f13107; int f13108; int f13109; int f13110; int f13111; int f13112; int f13113; int f13114; int f13115; int f13116; int f13117; int f13118; int f13119; int f13120; int f13121; int f13122; int f13123; int f13124; int f13125; int f13126; int f13127; int f13128; int f13129; int f13130; int f13131; int f13132; int f13133; int f13134; int f13135; int f13136; int f13137; int f13138; int f13139; int f13140; int f13141; int f13142; int f13143; int f13144; int f13145; int f13146; int f13147; int f13148; int f13149; int f13150; int f13151; int f13152; int f13153; int f13154; int f13155; int f13156; int f13157; int f13158; int f13159; int f13160; int f13161; int f13162; int f13163; int f13164; int f13165; int f13166; int f13167; int f13168; int f13169; int f13170; int f13171; int f13172; int f13173; int f13174; int f13175; int f13176; int f13177; int f13178; int f13179; int f13180; int f13181; int f13182; int f13183; int f13184; int f13185; int f13186; int f13187; int f13188; int f13189; int f13190; int f13191; int f13192; int f13193; int f13194; int f13195; int f13196; int f13197; int f13198; int f13199;
+    int f13200; int f13201; int f13202; int f13203; int f13204; int f13205; int f13206; int f13207; int f13208; int f13209; int f13210; int f13211; int f13212; int f13213; int f13214; int f13215; int f13216; int f13217; int f13218; int f13219; int f13220; int f13221; int f13222; int f13223; int f13224; int f13225; int f13226; int f13227; int f13228; int f13229; int f13230; int f13231; int f13232; int f13233; int f13234; int f13235; int f13236; int f13237; int f13238; int f13239; int f13240; int f13241; int f13242; int f13243; int f13244; int f13245; int f13246; int f13247; int f13248; int f13249; int f13250; int f13251; int f13252; int f13253; int f13254; int f13255; int f13256; int f13257; int f13258; int f13259; int f13260; int f13261; int f13262; int f13263; int f13264; int f13265; int f13266; int f13267; int f13268; int f13269; int f13270; int f13271; int f13272; int f13273; int f13274; int f13275; int f13276; int f13277; int f13278; int f13279; int f13280; int f13281; int f13282; int f13283; int f13284; int f13285; int f13286; int f13287; int f13288; int f13289; int f13290; int f13291; int f13292; int f13293; int f13294; int f13295; int f13296; int f13297; int f13298; int f13299;
+    int f13300; int f13301; int f13302; int f13303; int f13304; int f13305; int f13306; int f13307; int f13308; int f13309; int f13310; int f13311; int f13312; int f13313; int f13314; int f13315; int f13316; int f13317; int f13318; int f13319; int f13320; int f13321; int f13322; int f13323; int f13324; int f13325; int f13326; int f13327; int f13328; int f13329; int f13330; int f13331; int f13332; int f13333; int f13334; int f13335; int f13336; int f13337; int f13338; int f13339; int f13340; int f13341; int f13342; int f13343; int f13344; int f13345; int f13346; int f13347; int f13348; int f13349; int f13350; int f13351; int f13352; int f13353; int f13354; int f13355; int f13356; int f13357; int f13358; int f13359; int f13360; int f13361; int f13362; int f13363; int f13364; int f13365; int f13366; int f13367; int f13368; int f13369; int f13370; int f13371; int f13372; int f13373; int f13374; int f13375; int f13376; int f13377; int f13378; int f13379; int f13380; int f13381; int f13382; int f13383; int f13384; int f13385; int f13386; int f13387; int f13388; int f13389; int f13390; int f13391; int f13392; int f13393; int f13394; int f13395; int f13396; int f13397; int f13398; int f13399;
+    int f13400; int f13401; int f13402; int f13403; int f13404; int f13405; int f13406; int f13407; int f13408; int f13409; int f13410; int f13411; int f13412; int f13413; int f13414; int f13415; int f13416; int f13417; int f13418; int f13419; int f13420; int f13421; int f13422; int f13423; int f13424; int f13425; int f13426; int f13427; int f13428; int f13429; int f13430; int f13431; int f13432; int f13433; int f13434; int f13435; int f13436; int f13437; int f13438; int f13439; int f13440; int f13441; int f13442; int f13443; int f13444; int f13445; int f13446; int f13447; int f13448; int f13449; int f13450; int f13451; int f13452; int f13453; int f13454; int f13455; int f13456; int f13457; int f13458; int f13459; int f13460; int f13461; int f13462; int f13463; int f13464; int f13465; int f13466; int f13467; int f13468; int f13469; int f13470; int f13471; int f13472; int f13473; int f13474; int f13475; int f13476; int f13477; int f13478; int f13479; int f13480; int f13481; int f13482; int f13483; int f13484; int f13485; int f13486; int f13487; int f13488; int f13489; int f13490; int f13491; int f13492; int f13493; int f13494; int f13495; int f13496; int f13497; int f13498; int f13499;
+    int f13500; int f13501; int f13502; int f13503; int f13504; int f13505; int f13506; int f13507; int f13508; int f13509; int f13510; int f13511; int f13512; int f13513; int f13514; int f13515; int f13516; int f13517; int f13518; int f13519; int f13520; int f13521; int f13522; int f13523; int f13524; int f13525; int f13526; int f13527; int f13528; int f13529; int f13530; int f13531; int f13532; int f13533; int f13534; int f13535; int f13536; int f13537; int f13538; int f13539; int f13540; int f13541; int f13542; int f13543; int f13544; int f13545; int f13546; int f13547; int f13548; int f13549; int f13550; int f13551; int f13552; int f13553; int f13554; int f13555; int f13556; int f13557; int f13558; int f13559; int f13560; int f13561; int f13562; int f13563; int f13564; int f13565; int f13566; int f13567; int f13568; int f13569; int f13570; int f13571; int f13572; int f13573; int f13574; int f13575; int f13576; int f13577; int f13578; int f13579; int f13580; int f13581; int f13582; int f13583; int f13584; int f13585; int f13586; int f13587; int f13588; int f13589; int f13590; int f13591; int f13592; int f13593; int f13594; int f13595; int f13596; int f13597; int f13598; int f13599;
+    int f13600; int f13601; int f13602; int f13603; int f13604; int f13605; int f13606; int f13607; int f13608; int f13609; int f13610; int f13611; int f13612; int f13613; int f13614; int f13615; int f13616; int f13617; int f13618; int f13619; int f13620; int f13621; int f13622; int f13623; int f13624; int f13625; int f13626; int f13627; int f13628; int f13629; int f13630; int f13631; int f13632; int f13633; int f13634; int f13635; int f13636; int f13637; int f13638; int f13639; int f13640; int f13641; int f13642; int f13643; int f13644; int f13645; int f13646; int f13647; int f13648; int f13649; int f13650; int f13651; int f13652; int f13653; int f13654; int f13655; int f13656; int f13657; int f13658; int f13659; int f13660; int f13661; int f13662; int f13663; int f13664; int f13665; int f13666; int f13667; int f13668; int f13669; int f13670; int f13671; int f13672; int f13673; int f13674; int f13675; int f13676; int f13677; int f13678; int f13679; int f13680; int f13681; int f13682; int f13683; int f13684; int f13685; int f13686; int f13687; int f13688; int f13689; int f13690; int f13691; int f13692; int f13693; int f13694; int f13695; int f13696; int f13697; int f13698; int f13699;
+    int f13700; int f13701; int f13702; int f13703; int f13704; int f13705; int f13706; int f13707; int f13708; int f13709; int f13710; int f13711; int f13712; int f13713; int f13714; int f13715; int f13716; int f13717; int f13718; int f13719; int f13720; int f13721; int f13722; int f13723; int f13724; int f13725; int f13726; int f13727; int f13728; int f13729; int f13730; int f13731; int f13732; int f13733; int f13734; int f13735; int f13736; int f13737; int f13738; int f13739; int f13740; int f13741; int f13742; int f13743; int f13744; int f13745; int f13746; int f13747; int f13748; int f13749; int f13750; int f13751; int f13752; int f13753; int f13754; int f13755; int f13756; int f13757; int f13758; int f13759; int f13760; int f13761; int f13762; int f13763; int f13764; int f13765; int f13766; int f13767; int f13768; int f13769; int f13770; int f13771; int f13772; int f13773; int f13774; int f13775; int f13776; int f13777; int f13778; int f13779; int f13780; int f13781; int f13782; int f13783; int f13784; int f13785; int f13786; int f13787; int f13788; int f13789; int f13790; int f13791; int f13792; int f13793; int f13794; int f13795; int f13796; int f13797; int f13798; int f13799;
+    int f13800; int f13801; int f13802; int f13803; int f13804; int f13805; int f13806; int f13807; int f13808; int f13809; int f13810; int f13811; int f13812; int f13813; int f13814; int f13815; int f13816; int f13817; int f13818; int f13819; int f13820; int f13821; int f13822; int f13823; int f13824; int f13825; int f13826; int f13827; int f13828; int f13829; int f13830; int f13831; int f13832; int f13833; int f13834; int f13835; int f13836; int f13837; int f13838; int f13839; int f13840; int f13841; int f13842; int f13843; int f13844; int f13845; int f13846; int f13847; int f13848; int f13849; int f13850; int f13851; int f13852; int f13853; int f13854; int f13855; int f13856; int f13857; int f13858; int f13859; int f13860; int f13861; int f13862; int f13863; int f13864; int f13865; int f13866; int f13867; int f13868; int f13869; int f13870; int f13871; int f13872; int f13873; int f13874; int f13875; int f13876; int f13877; int f13878; int f13879; int f13880; int f13881; int f13882; int f13883; int f13884; int f13885; int f13886; int f13887; int f13888; int f13889; int f13890; int f13891; int f13892; int f13893; int f13894; int f13895; int f13896; int f13897; int f13898; int f13899;
+    int f13900; int f13901; int f13902; int f13903; int f13904; int f13905; int f13906; int f13907; int f13908; int f13909; int f13910; int f13911; int f13912; int f13913; int f13914; int f13915; int f13916; int f13917; int f13918; int f13919; int f13920; int f13921; int f13922; int f13923; int f13924; int f13925; int f13926; int f13927; int f13928; int f13929; int f13930; int f13931; int f13932; int f13933; int f13934; int f13935; int f13936; int f13937; int f13938; int f13939; int f13940; int f13941; int f13942; int f13943; int f13944; int f13945; int f13946; int f13947; int f13948; int f13949; int f13950; int f13951; int f13952; int f13953; int f13954; int f13955; int f13956; int f13957; int f13958; int f13959; int f13960; int f13961; int f13962; int f13963; int f13964; int f13965; int f13966; int f13967; int f13968; int f13969; int f13970; int f13971; int f13972; int f13973; int f13974; int f13975; int f13976; int f13977; int f13978; int f13979; int f13980; int f13981; int f13982; int f13983; int f13984; int f13985; int f13986; int f13987; int f13988; int f13989; int f13990; int f13991; int f13992; int f13993; int f13994; int f13995; int f13996; int f13997; int f13998; int f13999;
+    int f14000; int f14001; int f14002; int f14003; int f14004; int f14005; int f14006; int f14007; int f14008; int f14009; int f14010; int f14011; int f14012; int f14013; int f14014; int f14015; int f14016; int f14017; int f14018; int f14019; int f14020; int f14021; int f14022; int f14023; int f14024; int f14025; int f14026; int f14027; int f14028; int f14029; int f14030; int f14031; int f14032; int f14033; int f14034; int f14035; int f14036; int f14037; int f14038; int f14039; int f14040; int f14041; int f14042; int f14043; int f14044; int f14045; int f14046; int f14047; int f14048; int f14049; int f14050; int f14051; int f14052; int f14053; int f14054; int f14055; int f14056; int f14057; int f14058; int f14059; int f14060; int f14061; int f14062; int f14063; int f14064; int f14065; int f14066; int f14067; int f14068; int f14069; int f14070; int f14071; int f14072; int f14073; int f14074; int f14075; int f14076; int f14077; int f14078; int f14079; int f14080; int f14081; int f14082; int f14083; int f14084; int f14085; int f14086; int f14087; int f14088; int f14089; int f14090; int f14091; int f14092; int f14093; int f14094; int f14095; int f14096; int f14097; int f14098; int f14099;
+    int f14100; int f14101; int f14102; int f14103; int f14104; int f14105; int f14106; int f14107; int f14108; int f14109; int f14110; int f14111; int f14112; int f14113; int f14114; int f14115; int f14116; int f14117; int f14118; int f14119; int f14120; int f14121; int f14122; int f14123; int f14124; int f14125; int f14126; int f14127; int f14128; int f14129; int f14130; int f14131; int f14132; int f14133; int f14134; int f14135; int f14136; int f14137; int f14138; int f14139; int f14140; int f14141; int f14142; int f14143; int f14144; int f14145; int f14146; int f14147; int f14148; int f14149; int f14150; int f14151; int f14152; int f14153; int f14154; int f14155; int f14156; int f14157; int f14158; int f14159; int f14160; int f14161; int f14162; int f14163; int f14164; int f14165; int f14166; int f14167; int f14168; int f14169; int f14170; int f14171; int f14172; int f14173; int f14174; int f14175; int f14176; int f14177; int f14178; int f14179; int f14180; int f14181; int f14182; int f14183; int f14184; int f14185; int f14186; int f14187; int f14188; int f14189; int f14190; int f14191; int f14192; int f14193; int f14194; int f14195; int f14196; int f14197; int f14198; int f14199;
+    int f14200; int f14201; int f14202; int f14203; int f14204; int f14205; int f14206; int f14207; int f14208; int f14209; int f14210; int f14211; int f14212; int f14213; int f14214; int f14215; int f14216; int f14217; int f14218; int f14219; int f14220; int f14221; int f14222; int f14223; int f14224; int f14225; int f14226; int f14227; int f14228; int f14229; int f14230; int f14231; int f14232; int f14233; int f14234; int f14235; int f14236; int f14237; int f14238; int f14239; int f14240; int f14241; int f14242; int f14243; int f14244; int f14245; int f14246; int f14247; int f14248; int f14249; int f14250; int f14251; int f14252; int f14253; int f14254; int f14255; int f14256; int f14257; int f14258; int f14259; int f14260; int f14261; int f14262; int f14263; int f14264; int f14265; int f14266; int f14267; int f14268; int f14269; int f14270; int f14271; int f14272; int f14273; int f14274; int f14275; int f14276; int f14277; int f14278; int f14279; int f14280; int f14281; int f14282; int f14283; int f14284; int f14285; int f14286; int f14287; int f14288; int f14289; int f14290; int f14291; int f14292; int f14293; int f14294; int f14295; int f14296; int f14297; int f14298; int f14299;
+    int f14300; int f14301; int f14302; int f14303; int f14304; int f14305; int f14306; int f14307; int f14308; int f14309; int f14310; int f14311; int f14312; int f14313; int f14314; int f14315; int f14316; int f14317; int f14318; int f14319; int f14320; int f14321; int f14322; int f14323; int f14324; int f14325; int f14326; int f14327; int f14328; int f14329; int f14330; int f14331; int f14332; int f14333; int f14334; int f14335; int f14336; int f14337; int f14338; int f14339; int f14340; int f14341; int f14342; int f14343; int f14344; int f14345; int f14346; int f14347; int f14348; int f14349; int f14350; int f14351; int f14352; int f14353; int f14354; int f14355; int f14356; int f14357; int f14358; int f14359; int f14360; int f14361; int f14362; int f14363; int f14364; int f14365; int f14366; int f14367; int f14368; int f14369; int f14370; int f14371; int f14372; int f14373; int f14374; int f14375; int f14376; int f14377; int f14378; int f14379; int f14380; int f14381; int f14382; int f14383; int f14384; int f14385; int f14386; int f14387; int f14388; int f14389; int f14390; int f14391; int f14392; int f14393; int f14394; int f14395; int f14396; int f14397; int f14398; int f14399;
+    int f14400; int f14401; int f14402; int f14403; int f14404; int f14405; int f14406; int f14407; int f14408; int f14409; int f14410; int f14411; int f14412; int f14413; int f14414; int f14415; int f14416; int f14417; int f14418; int f14419; int f14420; int f14421; int f14422; int f14423; int f14424; int f14425; int f14426; int f14427; int f14428; int f14429; int f14430; int f14431; int f14432; int f14433; int f14434; int f14435; int f14436; int f14437; int f14438; int f14439; int f14440; int f14441; int f14442; int f14443; int f14444; int f14445; int f14446; int f14447; int f14448; int f14449; int f14450; int f14451; int f14452; int f14453; int f14454; int f14455; int f14456; int f14457; int f14458; int f14459; int f14460; int f14461; int f14462; int f14463; int f14464; int f14465; int f14466; int f14467; int f14468; int f14469; int f14470; int f14471; int f14472; int f14473; int f14474; int f14475; int f14476; int f14477; int f14478; int f14479; int f14480; int f14481; int f14482; int f14483; int f14484; int f14485; int f14486; int f14487; int f14488; int f14489; int f14490; int f14491; int f14492; int f14493; int f14494; int f14495; int f14496; int f14497; int f14498; int f14499;
+    int f14500; int f14501; int f14502; int f14503; int f14504; int f14505; int f14506; int f14507; int f14508; int f14509; int f14510; int f14511; int f14512; int f14513; int f14514; int f14515; int f14516; int f14517; int f14518; int f14519; int f14520; int f14521; int f14522; int f14523; int f14524; int f14525; int f14526; int f14527; int f14528; int f14529; int f14530; int f14531; int f14532; int f14533; int f14534; int f14535; int f14536; int f14537; int f14538; int f14539; int f14540; int f14541; int f14542; int f14543; int f14544; int f14545; int f14546; int f14547; int f14548; int f14549; int f14550; int f14551; int f14552; int f14553; int f14554; int f14555; int f14556; int f14557; int f14558; int f14559; int f14560; int f14561; int f14562; int f14563; int f14564; int f14565; int f14566; int f14567; int f14568; int f14569; int f14570; int f14571; int f14572; int f14573; int f14574; int f14575; int f14576; int f14577; int f14578; int f14579; int f14580; int f14581; int f14582; int f14583; int f14584; int f14585; int f14586; int f14587; int f14588; int f14589; int f14590; int f14591; int f14592; int f14593; int f14594; int f14595; int f14596; int f14597; int f14598; int f14599;
+    int f14600; int f14601; int f14602; int f14603; int f14604; int f14605; int f14606; int f14607; int f14608; int f14609; int f14610; int f14611; int f14612; int f14613; int f14614; int f14615; int f14616; int f14617; int f14618; int f14619; int f14620; int f14621; int f14622; int f14623; int f14624; int f14625; int f14626; int f14627; int f14628; int f14629; int f14630; int f14631; int f14632; int f14633; int f14634; int f14635; int f14636; int f14637; int f14638; int f14639; int f14640; int f14641; int f14642; int f14643; int f14644; int f14645; int f14646; int f14647; int f14648; int f14649; int f14650; int f14651; int f14652; int f14653; int f14654; int f14655; int f14656; int f14657; int f14658; int f14659; int f14660; int f14661; int f14662; int f14663; int f14664; int f14665; int f14666; int f14667; int f14668; int f14669; int f14670; int f14671; int f14672; int f14673; int f14674; int f14675; int f14676; int f14677; int f14678; int f14679; int f14680; int f14681; int f14682; int f14683; int f14684; int f14685; int f14686; int f14687; int f14688; int f14689; int f14690; int f14691; int f14692; int f14693; int f14694; int f14695; int f14696; int f14697; int f14698; int f14699;
+    int f14700; int f14701; int f14702; int f14703; int f14704; int f14705; int f14706; int f14707; int f14708; int f14709; int f14710; int f14711; int f14712; int f14713; int f14714; int f14715; int f14716; int f14717; int f14718; int f14719; int f14720; int f14721; int f14722; int f14723; int f14724; int f14725; int f14726; int f14727; int f14728; int f14729; int f14730; int f14731; int f14732; int f14733; int f14734; int f14735; int f14736; int f14737; int f14738; int f14739; int f14740; int f14741; int f14742; int f14743; int f14744; int f14745; int f14746; int f14747; int f14748; int f14749; int f14750; int f14751; int f14752; int f14753; int f14754; int f14755; int f14756; int f14757; int f14758; int f14759; int f14760; int f14761; int f14762; int f14763; int f14764; int f14765; int f14766; int f14767; int f14768; int f14769; int f14770; int f14771; int f14772; int f14773; int f14774; int f14775; int f14776; int f14777; int f14778; int f14779; int f14780; int f14781; int f14782; int f14783; int f14784; int f14785; int f14786; int f14787; int f14788; int f14789; int f14790; int f14791; int f14792; int f14793; int f14794; int f14795; int f14796; int f14797; int f14798; int f14799;
+    int f14800; int f14801; int f14802; int f14803; int f14804; int f14805; int f14806; int f14807; int f14808; int f14809; int f14810; int f14811; int f14812; int f14813; int f14814; int f14815; int f14816; int f14817; int f14818; int f14819; int f14820; int f14821; int f14822; int f14823; int f14824; int f14825; int f14826; int f14827; int f14828; int f14829; int f14830; int f14831; int f14832; int f14833; int f14834; int f14835; int f14836; int f14837; int f14838; int f14839; int f14840; int f14841; int f14842; int f14843; int f14844; int f14845; int f14846; int f14847; int f14848; int f14849; int f14850; int f14851; int f14852; int f14853; int f14854; int f14855; int f14856; int f14857; int f14858; int f14859; int f14860; int f14861; int f14862; int f14863; int f14864; int f14865; int f14866; int f14867; int f14868; int f14869; int f14870; int f14871; int f14872; int f14873; int f14874; int f14875; int f14876; int f14877; int f14878; int f14879; int f14880; int f14881; int f14882; int f14883; int f14884; int f14885; int f14886; int f14887; int f14888; int f14889; int f14890; int f14891; int f14892; int f14893; int f14894; int f14895; int f14896; int f14897; int f14898; int f14899;
+    int f14900; int f14901; int f14902; int f14903; int f14904; int f14905; int f14906; int f14907; int f14908; int f14909; int f14910; int f14911; int f14912; int f14913; int f14914; int f14915; int f14916; int f14917; int f14918; int f14919; int f14920; int f14921; int f14922; int f14923; int f14924; int f14925; int f14926; int f14927; int f14928; int f14929; int f14930; int f14931; int f14932; int f14933; int f14934; int f14935; int f14936; int f14937; int f14938; int f14939; int f14940; int f14941; int f14942; int f14943; int f14944; int f14945; int f14946; int f14947; int f14948; int f14949; int f14950; int f14951; int f14952; int f14953; int f14954; int f14955; int f14956; int f14957; int f14958; int f14959; int f14960; int f14961; int f14962; int f14963; int f14964; int f14965; int f14966; int f14967; int f14968; int f14969; int f14970; int f14971; int f14972; int f14973; int f14974; int f14975; int f14976; int f14977; int f14978; int f14979; int f14980; int f14981; int f14982; int f14983; int f14984; int f14985; int f14986; int f14987; int f14988; int f14989; int f14990; int f14991; int f14992; int f14993; int f14994; int f14995; int f14996; int f14997; int f14998; int f14999;
+    int f15000; int f15001; int f15002; int f15003; int f15004; int f15005; int f15006; int f15007; int f15008; int f15009; int f15010; int f15011; int f15012; int f15013; int f15014; int f15015; int f15016; int f15017; int f15018; int f15019; int f15020; int f15021; int f15022; int f15023; int f15024; int f15025; int f15026; int f15027; int f15028; int f15029; int f15030; int f15031; int f15032; int f15033; int f15034; int f15035; int f15036; int f15037; int f15038; int f15039; int f15040; int f15041; int f15042; int f15043; int f15044; int f15045; int f15046; int f15047; int f15048; int f15049; int f15050; int f15051; int f15052; int f15053; int f15054; int f15055; int f15056; int f15057; int f15058; int f15059; int f15060; int f15061; int f15062; int f15063; int f15064; int f15065; int f15066; int f15067; int f15068; int f15069; int f15070; int f15071; int f15072; int f15073; int f15074; int f15075; int f15076; int f15077; int f15078; int f15079; int f15080; int f15081; int f15082; int f15083; int f15084; int f15085; int f15086; int f15087; int f15088; int f15089; int f15090; int f15091; int f15092; int f15093; int f15094; int f15095; int f15096; int f15097; int f15098; int f15099;
+    int f15100; int f15101; int f15102; int f15103; int f15104; int f15105; int f15106; int f15107; int f15108; int f15109; int f15110; int f15111; int f15112; int f15113; int f15114; int f15115; int f15116; int f15117; int f15118; int f15119; int f15120; int f15121; int f15122; int f15123; int f15124; int f15125; int f15126; int f15127; int f15128; int f15129; int f15130; int f15131; int f15132; int f15133; int f15134; int f15135; int f15136; int f15137; int f15138; int f15139; int f15140; int f15141; int f15142; int f15143; int f15144; int f15145; int f15146; int f15147; int f15148; int f15149; int f15150; int f15151; int f15152; int f15153; int f15154; int f15155; int f15156; int f15157; int f15158; int f15159; int f15160; int f15161; int f15162; int f15163; int f15164; int f15165; int f15166; int f15167; int f15168; int f15169; int f15170; int f15171; int f15172; int f15173; int f15174; int f15175; int f15176; int f15177; int f15178; int f15179; int f15180; int f15181; int f15182; int f15183; int f15184; int f15185; int f15186; int f15187; int f15188; int f15189; int f15190; int f15191; int f15192; int f15193; int f15194; int f15195; int f15196; int f15197; int f15198; int f15199;
+    int f15200; int f15201; int f15202; int f15203; int f15204; int f15205; int f15206; int f15207; int f15208; int f15209; int f15210; int f15211; int f15212; int f15213; int f15214; int f15215; int f15216; int f15217; int f15218; int f15219; int f15220; int f15221; int f15222; int f15223; int f15224; int f15225; int f15226; int f15227; int f15228; int f15229; int f15230; int f15231; int f15232; int f15233; int f15234; int f15235; int f15236; int f15237; int f15238; int f15239; int f15240; int f15241; int f15242; int f15243; int f15244; int f15245; int f15246; int f15247; int f15248; int f15249; int f15250; int f15251; int f15252; int f15253; int f15254; int f15255; int f15256; int f15257; int f15258; int f15259; int f15260; int f15261; int f15262; int f15263; int f15264; int f15265; int f15266; int f15267; int f15268; int f15269; int f15270; int f15271; int f15272; int f15273; int f15274; int f15275; int f15276; int f15277; int f15278; int f15279; int f15280; int f15281; int f15282; int f15283; int f15284; int f15285; int f15286; int f15287; int f15288; int f15289; int f15290; int f15291; int f15292; int f15293; int f15294; int f15295; int f15296; int f15297; int f15298; int f15299;
+    int f15300; int f15301; int f15302; int f15303; int f15304; int f15305; int f15306; int f15307; int f15308; int f15309; int f15310; int f15311; int f15312; int f15313; int f15314; int f15315; int f15316; int f15317; int f15318; int f15319; int f15320; int f15321; int f15322; int f15323; int f15324; int f15325; int f15326; int f15327; int f15328; int f15329; int f15330; int f15331; int f15332; int f15333; int f15334; int f15335; int f15336; int f15337; int f15338; int f15339; int f15340; int f15341; int f15342; int f15343; int f15344; int f15345; int f15346; int f15347; int f15348; int f15349; int f15350; int f15351; int f15352; int f15353; int f15354; int f15355; int f15356; int f15357; int f15358; int f15359; int f15360; int f15361; int f15362; int f15363; int f15364; int f15365; int f15366; int f15367; int f15368; int f15369; int f15370; int f15371; int f15372; int f15373; int f15374; int f15375; int f15376; int f15377; int f15378; int f15379; int f15380; int f15381; int f15382; int f15383; int f15384; int f15385; int f15386; int f15387; int f15388; int f15389; int f15390; int f15391; int f15392; int f15393; int f15394; int f15395; int f15396; int f15397; int f15398; int f15399;
+    int f15400; int f15401; int f15402; int f15403; int f15404; int f15405; int f15406; int f15407; int f15408; int f15409; int f15410; int f15411; int f15412; int f15413; int f15414; int f15415; int f15416; int f15417; int f15418; int f15419; int f15420; int f15421; int f15422; int f15423; int f15424; int f15425; int f15426; int f15427; int f15428; int f15429; int f15430; int f15431; int f15432; int f15433; int f15434; int f15435; int f15436; int f15437; int f15438; int f15439; int f15440; int f15441; int f15442; int f15443; int f15444; int f15445; int f15446; int f15447; int f15448; int f15449; int f15450; int f15451; int f15452; int f15453; int f15454; int f15455; int f15456; int f15457; int f15458; int f15459; int f15460; int f15461; int f15462; int f15463; int f15464; int f15465; int f15466; int f15467; int f15468; int f15469; int f15470; int f15471; int f15472; int f15473; int f15474; int f15475; int f15476; int f15477; int f15478; int f15479; int f15480; int f15481; int f15482; int f15483; int f15484; int f15485; int f15486; int f15487; int f15488; int f15489; int f15490; int f15491; int f15492; int f15493; int f15494; int f15495; int f15496; int f15497; int f15498; int f15499;
+    int f15500; int f15501; int f15502; int f15503; int f15504; int f15505; int f15506; int f15507; int f15508; int f15509; int f15510; int f15511; int f15512; int f15513; int f15514; int f15515; int f15516; int f15517; int f15518; int f15519; int f15520; int f15521; int f15522; int f15523; int f15524; int f15525; int f15526; int f15527; int f15528; int f15529; int f15530; int f15531; int f15532; int f15533; int f15534; int f15535; int f15536; int f15537; int f15538; int f15539; int f15540; int f15541; int f15542; int f15543; int f15544; int f15545; int f15546; int f15547; int f15548; int f15549; int f15550; int f15551; int f15552; int f15553; int f15554; int f15555; int f15556; int f15557; int f15558; int f15559; int f15560; int f15561; int f15562; int f15563; int f15564; int f15565; int f15566; int f15567; int f15568; int f15569; int f15570; int f15571; int f15572; int f15573; int f15574; int f15575; int f15576; int f15577; int f15578; int f15579; int f15580; int f15581; int f15582; int f15583; int f15584; int f15585; int f15586; int f15587; int f15588; int f15589; int f15590; int f15591; int f15592; int f15593; int f15594; int f15595; int f15596; int f15597; int f15598; int f15599;
+    int f15600; int f15601; int f15602; int f15603; int f15604; int f15605; int f15606; int f15607; int f15608; int f15609; int f15610; int f15611; int f15612; int f15613; int f15614; int f15615; int f15616; int f15617; int f15618; int f15619; int f15620; int f15621; int f15622; int f15623; int f15624; int f15625; int f15626; int f15627; int f15628; int f15629; int f15630; int f15631; int f15632; int f15633; int f15634; int f15635; int f15636; int f15637; int f15638; int f15639; int f15640; int f15641; int f15642; int f15643; int f15644; int f15645; int f15646; int f15647; int f15648; int f15649; int f15650; int f15651; int f15652; int f15653; int f15654; int f15655; int f15656; int f15657; int f15658; int f15659; int f15660; int f15661; int f15662; int f15663; int f15664; int f15665; int f15666; int f15667; int f15668; int f15669; int f15670; int f15671; int f15672; int f15673; int f15674; int f15675; int f15676; int f15677; int f15678; int f15679; int f15680; int f15681; int f15682; int f15683; int f15684; int f15685; int f15686; int f15687; int f15688; int f15689; int f15690; int f15691; int f15692; int f15693; int f15694; int f15695; int f15696; int f15697; int f15698; int f15699;
+    int f15700; int f15701; int f15702; int f15703; int f15704; int f15705; int f15706; int f15707; int f15708; int f15709; int f15710; int f15711; int f15712; int f15713; int f15714; int f15715; int f15716; int f15717; int f15718; int f15719; int f15720; int f15721; int f15722; int f15723; int f15724; int f15725; int f15726; int f15727; int f15728; int f15729; int f15730; int f15731; int f15732; int f15733; int f15734; int f15735; int f15736; int f15737; int f15738; int f15739; int f15740; int f15741; int f15742; int f15743; int f15744; int f15745; int f15746; int f15747; int f15748; int f15749; int f15750; int f15751; int f15752; int f15753; int f15754; int f15755; int f15756; int f15757; int f15758; int f15759; int f15760; int f15761; int f15762; int f15763; int f15764; int f15765; int f15766; int f15767; int f15768; int f15769; int f15770; int f15771; int f15772; int f15773; int f15774; int f15775; int f15776; int f15777; int f15778; int f15779; int f15780; int f15781; int f15782; int f15783; int f15784; int f15785; int f15786; int f15787; int f15788; int f15789; int f15790; int f15791; int f15792; int f15793; int f15794; int f15795; int f15796; int f15797; int f15798; int f15799;
+    int f15800; int f15801; int f15802; int f15803; int f15804; int f15805; int f15806; int f15807; int f15808; int f15809; int f15810; int f15811; int f15812; int f15813; int f15814; int f15815; int f15816; int f15817; int f15818; int f15819; int f15820; int f15821; int f15822; int f15823; int f15824; int f15825; int f15826; int f15827; int f15828; int f15829; int f15830; int f15831; int f15832; int f15833; int f15834; int f15835; int f15836; int f15837; int f15838; int f15839; int f15840; int f15841; int f15842; int f15843; int f15844; int f15845; int f15846; int f15847; int f15848; int f15849; int f15850; int f15851; int f15852; int f15853; int f15854; int f15855; int f15856; int f15857; int f15858; int f15859; int f15860; int f15861; int f15862; int f15863; int f15864; int f15865; int f15866; int f15867; int f15868; int f15869; int f15870; int f15871; int f15872; int f15873; int f15874; int f15875; int f15876; int f15877; int f15878; int f15879; int f15880; int f15881; int f15882; int f15883; int f15884; int f15885; int f15886; int f15887; int f15888; int f15889; int f15890; int f15891; int f15892; int f15893; int f15894; int f15895; int f15896; int f15897; int f15898; int f15899;
+    int f15900; int f15901; int f15902; int f15903; int f15904; int f15905; int f15906; int f15907; int f15908; int f15909; int f15910; int f15911; int f15912; int f15913; int f15914; int f15915; int f15916; int f15917; int f15918; int f15919; int f15920; int f15921; int f15922; int f15923; int f15924; int f15925; int f15926; int f15927; int f15928; int f15929; int f15930; int f15931; int f15932; int f15933; int f15934; int f15935; int f15936; int f15937; int f15938; int f15939; int f15940; int f15941; int f15942; int f15943; int f15944; int f15945; int f15946; int f15947; int f15948; int f15949; int f15950; int f15951; int f15952; int f15953; int f15954; int f15955; int f15956; int f15957; int f15958; int f15959; int f15960; int f15961; int f15962; int f15963; int f15964; int f15965; int f15966; int f15967; int f15968; int f15969; int f15970; int f15971; int f15972; int f15973; int f15974; int f15975; int f15976; int f15977; int f15978; int f15979; int f15980; int f15981; int f15982; int f15983; int f15984; int f15985; int f15986; int f15987; int f15988; int f15989; int f15990; int f15991; int f15992; int f15993; int f15994; int f15995; int f15996; int f15997; int f15998; int f15999;
+    int f16000; int f16001; int f16002; int f16003; int f16004; int f16005; int f16006; int f16007; int f16008; int f16009; int f16010; int f16011; int f16012; int f16013; int f16014; int f16015; int f16016; int f16017; int f16018; int f16019; int f16020; int f16021; int f16022; int f16023; int f16024; int f16025; int f16026; int f16027; int f16028; int f16029; int f16030; int f16031; int f16032; int f16033; int f16034; int f16035; int f16036; int f16037; int f16038; int f16039; int f16040; int f16041; int f16042; int f16043; int f16044; int f16045; int f16046; int f16047; int f16048; int f16049; int f16050; int f16051; int f16052; int f16053; int f16054; int f16055; int f16056; int f16057; int f16058; int f16059; int f16060; int f16061; int f16062; int f16063; int f16064; int f16065; int f16066; int f16067; int f16068; int f16069; int f16070; int f16071; int f16072; int f16073; int f16074; int f16075; int f16076; int f16077; int f16078; int f16079; int f16080; int f16081; int f16082; int f16083; int f16084; int f16085; int f16086; int f16087; int f16088; int f16089; int f16090; int f16091; int f16092; int f16093; int f16094; int f16095; int f16096; int f16097; int f16098; int f16099;
+    int f16100; int f16101; int f16102; int f16103; int f16104; int f16105; int f16106; int f16107; int f16108; int f16109; int f16110; int f16111; int f16112; int f16113; int f16114; int f16115; int f16116; int f16117; int f16118; int f16119; int f16120; int f16121; int f16122; int f16123; int f16124; int f16125; int f16126; int f16127; int f16128; int f16129; int f16130; int f16131; int f16132; int f16133; int f16134; int f16135; int f16136; int f16137; int f16138; int f16139; int f16140; int f16141; int f16142; int f16143; int f16144; int f16145; int f16146; int f16147; int f16148; int f16149; int f16150; int f16151; int f16152; int f16153; int f16154; int f16155; int f16156; int f16157; int f16158; int f16159; int f16160; int f16161; int f16162; int f16163; int f16164; int f16165; int f16166; int f16167; int f16168; int f16169; int f16170; int f16171; int f16172; int f16173; int f16174; int f16175; int f16176; int f16177; int f16178; int f16179; int f16180; int f16181; int f16182; int f16183; int f16184; int f16185; int f16186; int f16187; int f16188; int f16189; int f16190; int f16191; int f16192; int f16193; int f16194; int f16195; int f16196; int f16197; int f16198; int f16199;
+    int f16200; int f16201; int f16202; int f16203; int f16204; int f16205; int f16206; int f16207; int f16208; int f16209; int f16210; int f16211; int f16212; int f16213; int f16214; int f16215; int f16216; int f16217; int f16218; int f16219; int f16220; int f16221; int f16222; int f16223; int f16224; int f16225; int f16226; int f16227; int f16228; int f16229; int f16230; int f16231; int f16232; int f16233; int f16234; int f16235; int f16236; int f16237; int f16238; int f16239; int f16240; int f16241; int f16242; int f16243; int f16244; int f16245; int f16246; int f16247; int f16248; int f16249; int f16250; int f16251; int f16252; int f16253; int f16254; int f16255; int f16256; int f16257; int f16258; int f16259; int f16260; int f16261; int f16262; int f16263; int f16264; int f16265; int f16266; int f16267; int f16268; int f16269; int f16270; int f16271; int f16272; int f16273; int f16274; int f16275; int f16276; int f16277; int f16278; int f16279; int f16280; int f16281; int f16282; int f16283; int f16284; int f16285; int f16286; int f16287; int f16288; int f16289; int f16290; int f16291; int f16292; int f16293; int f16294; int f16295; int f16296; int f16297; int f16298; int f16299;
+    int f16300; int f16301; int f16302; int f16303; int f16304; int f16305; int f16306; int f16307; int f16308; int f16309; int f16310; int f16311; int f16312; int f16313; int f16314; int f16315; int f16316; int f16317; int f16318; int f16319; int f16320; int f16321; int f16322; int f16323; int f16324; int f16325; int f16326; int f16327; int f16328; int f16329; int f16330; int f16331; int f16332; int f16333; int f16334; int f16335; int f16336; int f16337; int f16338; int f16339; int f16340; int f16341; int f16342; int f16343; int f16344; int f16345; int f16346; int f16347; int f16348; int f16349; int f16350; int f16351; int f16352; int f16353; int f16354; int f16355; int f16356; int f16357; int f16358; int f16359; int f16360; int f16361; int f16362; int f16363; int f16364; int f16365; int f16366; int f16367; int f16368; int f16369; int f16370; int f16371; int f16372; int f16373; int f16374; int f16375; int f16376; int f16377; int f16378; int f16379; int f16380; int f16381; int f16382; int f16383; int f16384; int f16385; int f16386; int f16387; int f16388; int f16389; int f16390; int f16391; int f16392; int f16393; int f16394; int f16395; int f16396; int f16397; int f16398; int f16399;
+    int f16400; int f16401; int f16402; int f16403; int f16404; int f16405; int f16406; int f16407; int f16408; int f16409; int f16410; int f16411; int f16412; int f16413; int f16414; int f16415; int f16416; int f16417; int f16418; int f16419; int f16420; int f16421; int f16422; int f16423; int f16424; int f16425; int f16426; int f16427; int f16428; int f16429; int f16430; int f16431; int f16432; int f16433; int f16434; int f16435; int f16436; int f16437; int f16438; int f16439; int f16440; int f16441; int f16442; int f16443; int f16444; int f16445; int f16446; int f16447; int f16448; int f16449; int f16450; int f16451; int f16452; int f16453; int f16454; int f16455; int f16456; int f16457; int f16458; int f16459; int f16460; int f16461; int f16462; int f16463; int f16464; int f16465; int f16466; int f16467; int f16468; int f16469; int f16470; int f16471; int f16472; int f16473; int f16474; int f16475; int f16476; int f16477; int f16478; int f16479; int f16480; int f16481; int f16482; int f16483; int f16484; int f16485; int f16486; int f16487; int f16488; int f16489; int f16490; int f16491; int f16492; int f16493; int f16494; int f16495; int f16496; int f16497; int f16498; int f16499;
+    int f16500; int f16501; int f16502; int f16503; int f16504; int f16505; int f16506; int f16507; int f16508; int f16509; int f16510; int f16511; int f16512; int f16513; int f16514; int f16515; int f16516; int f16517; int f16518; int f16519; int f16520; int f16521; int f16522; int f16523; int f16524; int f16525; int f16526; int f16527; int f16528; int f16529; int f16530; int f16531; int f16532; int f16533; int f16534; int f16535; int f16536; int f16537; int f16538; int f16539; int f16540; int f16541; int f16542; int f16543; int f16544; int f16545; int f16546; int f16547; int f16548; int f16549; int f16550; int f16551; int f16552; int f16553; int f16554; int f16555; int f16556; int f16557; int f16558; int f16559; int f16560; int f16561; int f16562; int f16563; int f16564; int f16565; int f16566; int f16567; int f16568; int f16569; int f16570; int f16571; int f16572; int f16573; int f16574; int f16575; int f16576; int f16577; int f16578; int f16579; int f16580; int f16581; int f16582; int f16583; int f16584; int f16585; int f16586; int f16587; int f16588; int f16589; int f16590; int f16591; int f16592; int f16593; int f16594; int f16595; int f16596; int f16597; int f16598; int f16599;
+    int f16600; int f16601; int f16602; int f16603; int f16604; int f16605; int f16606; int f16607; int f16608; int f16609; int f16610; int f16611; int f16612; int f16613; int f16614; int f16615; int f16616; int f16617; int f16618; int f16619; int f16620; int f16621; int f16622; int f16623; int f16624; int f16625; int f16626; int f16627; int f16628; int f16629; int f16630; int f16631; int f16632; int f16633; int f16634; int f16635; int f16636; int f16637; int f16638; int f16639; int f16640; int f16641; int f16642; int f16643; int f16644; int f16645; int f16646; int f16647; int f16648; int f16649; int f16650; int f16651; int f16652; int f16653; int f16654; int f16655; int f16656; int f16657; int f16658; int f16659; int f16660; int f16661; int f16662; int f16663; int f16664; int f16665; int f16666; int f16667; int f16668; int f16669; int f16670; int f16671; int f16672; int f16673; int f16674; int f16675; int f16676; int f16677; int f16678; int f16679; int f16680; int f16681; int f16682; int f16683; int f16684; int f16685; int f16686; int f16687; int f16688; int f16689; int f16690; int f16691; int f16692; int f16693; int f16694; int f16695; int f16696; int f16697; int f16698; int f16699;
+    int f16700; int f16701; int f16702; int f16703; int f16704; int f16705; int f16706; int f16707; int f16708; int f16709; int f16710; int f16711; int f16712; int f16713; int f16714; int f16715; int f16716; int f16717; int f16718; int f16719; int f16720; int f16721; int f16722; int f16723; int f16724; int f16725; int f16726; int f16727; int f16728; int f16729; int f16730; int f16731; int f16732; int f16733; int f16734; int f16735; int f16736; int f16737; int f16738; int f16739; int f16740; int f16741; int f16742; int f16743; int f16744; int f16745; int f16746; int f16747; int f16748; int f16749; int f16750; int f16751; int f16752; int f16753; int f16754; int f16755; int f16756; int f16757; int f16758; int f16759; int f16760; int f16761; int f16762; int f16763; int f16764; int f16765; int f16766; int f16767; int f16768; int f16769; int f16770; int f16771; int f16772; int f16773; int f16774; int f16775; int f16776; int f16777; int f16778; int f16779; int f16780; int f16781; int f16782; int f16783; int f16784; int f16785; int f16786; int f16787; int f16788; int f16789; int f16790; int f16791; int f16792; int f16793; int f16794; int f16795; int f16796; int f16797; int f16798; int f16799;
+    int f16800; int f16801; int f16802; int f16803; int f16804; int f16805; int f16806; int f16807; int f16808; int f16809; int f16810; int f16811; int f16812; int f16813; int f16814; int f16815; int f16816; int f16817; int f16818; int f16819; int f16820; int f16821; int f16822; int f16823; int f16824; int f16825; int f16826; int f16827; int f16828; int f16829; int f16830; int f16831; int f16832; int f16833; int f16834; int f16835; int f16836; int f16837; int f16838; int f16839; int f16840; int f16841; int f16842; int f16843; int f16844; int f16845; int f16846; int f16847; int f16848; int f16849; int f16850; int f16851; int f16852; int f16853; int f16854; int f16855; int f16856; int f16857; int f16858; int f16859; int f16860; int f16861; int f16862; int f16863; int f16864; int f16865; int f16866; int f16867; int f16868; int f16869; int f16870; int f16871; int f16872; int f16873; int f16874; int f16875; int f16876; int f16877; int f16878; int f16879; int f16880; int f16881; int f16882; int f16883; int f16884; int f16885; int f16886; int f16887; int f16888; int f16889; int f16890; int f16891; int f16892; int f16893; int f16894; int f16895; int f16896; int f16897; int f16898; int f16899;
+    int f16900; int f16901; int f16902; int f16903; int f16904; int f16905; int f16906; int f16907; int f16908; int f16909; int f16910; int f16911; int f16912; int f16913; int f16914; int f16915; int f16916; int f16917; int f16918; int f16919; int f16920; int f16921; int f16922; int f16923; int f16924; int f16925; int f16926; int f16927; int f16928; int f16929; int f16930; int f16931; int f16932; int f16933; int f16934; int f16935; int f16936; int f16937; int f16938; int f16939; int f16940; int f16941; int f16942; int f16943; int f16944; int f16945; int f16946; int f16947; int f16948; int f16949; int f16950; int f16951; int f16952; int f16953; int f16954; int f16955; int f16956; int f16957; int f16958; int f16959; int f16960; int f16961; int f16962; int f16963; int f16964; int f16965; int f16966; int f16967; int f16968; int f16969; int f16970; int f16971; int f16972; int f16973; int f16974; int f16975; int f16976; int f16977; int f16978; int f16979; int f16980; int f16981; int f16982; int f16983; int f16984; int f16985; int f16986; int f16987; int f16988; int f16989; int f16990; int f16991; int f16992; int f16993; int f16994; int f16995; int f16996; int f16997; int f16998; int f16999;
+    int f17000; int f17001; int f17002; int f17003; int f17004; int f17005; int f17006; int f17007; int f17008; int f17009; int f17010; int f17011; int f17012; int f17013; int f17014; int f17015; int f17016; int f17017; int f17018; int f17019; int f17020; int f17021; int f17022; int f17023; int f17024; int f17025; int f17026; int f17027; int f17028; int f17029; int f17030; int f17031; int f17032; int f17033; int f17034; int f17035; int f17036; int f17037; int f17038; int f17039; int f17040; int f17041; int f17042; int f17043; int f17044; int f17045; int f17046; int f17047; int f17048; int f17049; int f17050; int f17051; int f17052; int f17053; int f17054; int f17055; int f17056; int f17057; int f17058; int f17059; int f17060; int f17061; int f17062; int f17063; int f17064; int f17065; int f17066; int f17067; int f17068; int f17069; int f17070; int f17071; int f17072; int f17073; int f17074; int f17075; int f17076; int f17077; int f17078; int f17079; int f17080; int f17081; int f17082; int f17083; int f17084; int f17085; int f17086; int f17087; int f17088; int f17089; int f17090; int f17091; int f17092; int f17093; int f17094; int f17095; int f17096; int f17097; int f17098; int f17099;
+    int f17100; int f17101; int f17102; int f17103; int f17104; int f17105; int f17106; int f17107; int f17108; int f17109; int f17110; int f17111; int f17112; int f17113; int f17114; int f17115; int f17116; int f17117; int f17118; int f17119; int f17120; int f17121; int f17122; int f17123; int f17124; int f17125; int f17126; int f17127; int f17128; int f17129; int f17130; int f17131; int f17132; int f17133; int f17134; int f17135; int f17136; int f17137; int f17138; int f17139; int f17140; int f17141; int f17142; int f17143; int f17144; int f17145; int f17146; int f17147; int f17148; int f17149; int f17150; int f17151; int f17152; int f17153; int f17154; int f17155; int f17156; int f17157; int f17158; int f17159; int f17160; int f17161; int f17162; int f17163; int f17164; int f17165; int f17166; int f17167; int f17168; int f17169; int f17170; int f17171; int f17172; int f17173; int f17174; int f17175; int f17176; int f17177; int f17178; int f17179; int f17180; int f17181; int f17182; int f17183; int f17184; int f17185; int f17186; int f17187; int f17188; int f17189; int f17190; int f17191; int f17192; int f17193; int f17194; int f17195; int f17196; int f17197; int f17198; int f17199;
+    int f17200; int f17201; int f17202; int f17203; int f17204; int f17205; int f17206; int f17207; int f17208; int f17209; int f17210; int f17211; int f17212; int f17213; int f17214; int f17215; int f17216; int f17217; int f17218; int f17219; int f17220; int f17221; int f17222; int f17223; int f17224; int f17225; int f17226; int f17227; int f17228; int f17229; int f17230; int f17231; int f17232; int f17233; int f17234; int f17235; int f17236; int f17237; int f17238; int f17239; int f17240; int f17241; int f17242; int f17243; int f17244; int f17245; int f17246; int f17247; int f17248; int f17249; int f17250; int f17251; int f17252; int f17253; int f17254; int f17255; int f17256; int f17257; int f17258; int f17259; int f17260; int f17261; int f17262; int f17263; int f17264; int f17265; int f17266; int f17267; int f17268; int f17269; int f17270; int f17271; int f17272; int f17273; int f17274; int f17275; int f17276; int f17277; int f17278; int f17279; int f17280; int f17281; int f17282; int f17283; int f17284; int f17285; int f17286; int f17287; int f17288; int f17289; int f17290; int f17291; int f17292; int f17293; int f17294; int f17295; int f17296; int f17297; int f17298; int f17299;
+    int f17300; int f17301; int f17302; int f17303; int f17304; int f17305; int f17306; int f17307; int f17308; int f17309; int f17310; int f17311; int f17312; int f17313; int f17314; int f17315; int f17316; int f17317; int f17318; int f17319; int f17320; int f17321; int f17322; int f17323; int f17324; int f17325; int f17326; int f17327; int f17328; int f17329; int f17330; int f17331; int f17332; int f17333; int f17334; int f17335; int f17336; int f17337; int f17338; int f17339; int f17340; int f17341; int f17342; int f17343; int f17344; int f17345; int f17346; int f17347; int f17348; int f17349; int f17350; int f17351; int f17352; int f17353; int f17354; int f17355; int f17356; int f17357; int f17358; int f17359; int f17360; int f17361; int f17362; int f17363; int f17364; int f17365; int f17366; int f17367; int f17368; int f17369; int f17370; int f17371; int f17372; int f17373; int f17374; int f17375; int f17376; int f17377; int f17378; int f17379; int f17380; int f17381; int f17382; int f17383; int f17384; int f17385; int f17386; int f17387; int f17388; int f17389; int f17390; int f17391; int f17392; int f17393; int f17394; int f17395; int f17396; int f17397; int f17398; int f17399;
+    int f17400; int f17401; int f17402; int f17403; int f17404; int f17405; int f17406; int f17407; int f17408; int f17409; int f17410; int f17411; int f17412; int f17413; int f17414; int f17415; int f17416; int f17417; int f17418; int f17419; int f17420; int f17421; int f17422; int f17423; int f17424; int f17425; int f17426; int f17427; int f17428; int f17429; int f17430; int f17431; int f17432; int f17433; int f17434; int f17435; int f17436; int f17437; int f17438; int f17439; int f17440; int f17441; int f17442; int f17443; int f17444; int f17445; int f17446; int f17447; int f17448; int f17449; int f17450; int f17451; int f17452; int f17453; int f17454; int f17455; int f17456; int f17457; int f17458; int f17459; int f17460; int f17461; int f17462; int f17463; int f17464; int f17465; int f17466; int f17467; int f17468; int f17469; int f17470; int f17471; int f17472; int f17473; int f17474; int f17475; int f17476; int f17477; int f17478; int f17479; int f17480; int f17481; int f17482; int f17483; int f17484; int f17485; int f17486; int f17487; int f17488; int f17489; int f17490; int f17491; int f17492; int f17493; int f17494; int f17495; int f17496; int f17497; int f17498; int f17499;
+    int f17500; int f17501; int f17502; int f17503; int f17504; int f17505; int f17506; int f17507; int f17508; int f17509; int f17510; int f17511; int f17512; int f17513; int f17514; int f17515; int f17516; int f17517; int f17518; int f17519; int f17520; int f17521; int f17522; int f17523; int f17524; int f17525; int f17526; int f17527; int f17528; int f17529; int f17530; int f17531; int f17532; int f17533; int f17534; int f17535; int f17536; int f17537; int f17538; int f17539; int f17540; int f17541; int f17542; int f17543; int f17544; int f17545; int f17546; int f17547; int f17548; int f17549; int f17550; int f17551; int f17552; int f17553; int f17554; int f17555; int f17556; int f17557; int f17558; int f17559; int f17560; int f17561; int f17562; int f17563; int f17564; int f17565; int f17566; int f17567; int f17568; int f17569; int f17570; int f17571; int f17572; int f17573; int f17574; int f17575; int f17576; int f17577; int f17578; int f17579; int f17580; int f17581; int f17582; int f17583; int f17584; int f17585; int f17586; int f17587; int f17588; int f17589; int f17590; int f17591; int f17592; int f17593; int f17594; int f17595; int f17596; int f17597; int f17598; int f17599;
+    int f17600; int f17601; int f17602; int f17603; int f17604; int f17605; int f17606; int f17607; int f17608; int f17609; int f17610; int f17611; int f17612; int f17613; int f17614; int f17615; int f17616; int f17617; int f17618; int f17619; int f17620; int f17621; int f17622; int f17623; int f17624; int f17625; int f17626; int f17627; int f17628; int f17629; int f17630; int f17631; int f17632; int f17633; int f17634; int f17635; int f17636; int f17637; int f17638; int f17639; int f17640; int f17641; int f17642; int f17643; int f17644; int f17645; int f17646; int f17647; int f17648; int f17649; int f17650; int f17651; int f17652; int f17653; int f17654; int f17655; int f17656; int f17657; int f17658; int f17659; int f17660; int f17661; int f17662; int f17663; int f17664; int f17665; int f17666; int f17667; int f17668; int f17669; int f17670; int f17671; int f17672; int f17673; int f17674; int f17675; int f17676; int f17677; int f17678; int f17679; int f17680; int f17681; int f17682; int f17683; int f17684; int f17685; int f17686; int f17687; int f17688; int f17689; int f17690; int f17691; int f17692; int f17693; int f17694; int f17695; int f17696; int f17697; int f17698; int f17699;
+    int f17700; int f17701; int f17702; int f17703; int f17704; int f17705; int f17706; int f17707; int f17708; int f17709; int f17710; int f17711; int f17712; int f17713; int f17714; int f17715; int f17716; int f17717; int f17718; int f17719; int f17720; int f17721; int f17722; int f17723; int f17724; int f17725; int f17726; int f17727; int f17728; int f17729; int f17730; int f17731; int f17732; int f17733; int f17734; int f17735; int f17736; int f17737; int f17738; int f17739; int f17740; int f17741; int f17742; int f17743; int f17744; int f17745; int f17746; int f17747; int f17748; int f17749; int f17750; int f17751; int f17752; int f17753; int f17754; int f17755; int f17756; int f17757; int f17758; int f17759; int f17760; int f17761; int f17762; int f17763; int f17764; int f17765; int f17766; int f17767; int f17768; int f17769; int f17770; int f17771; int f17772; int f17773; int f17774; int f17775; int f17776; int f17777; int f17778; int f17779; int f17780; int f17781; int f17782; int f17783; int f17784; int f17785; int f17786; int f17787; int f17788; int f17789; int f17790; int f17791; int f17792; int f17793; int f17794; int f17795; int f17796; int f17797; int f17798; int f17799;
+    int f17800; int f17801; int f17802; int f17803; int f17804; int f17805; int f17806; int f17807; int f17808; int f17809; int f17810; int f17811; int f17812; int f17813; int f17814; int f17815; int f17816; int f17817; int f17818; int f17819; int f17820; int f17821; int f17822; int f17823; int f17824; int f17825; int f17826; int f17827; int f17828; int f17829; int f17830; int f17831; int f17832; int f17833; int f17834; int f17835; int f17836; int f17837; int f17838; int f17839; int f17840; int f17841; int f17842; int f17843; int f17844; int f17845; int f17846; int f17847; int f17848; int f17849; int f17850; int f17851; int f17852; int f17853; int f17854; int f17855; int f17856; int f17857; int f17858; int f17859; int f17860; int f17861; int f17862; int f17863; int f17864; int f17865; int f17866; int f17867; int f17868; int f17869; int f17870; int f17871; int f17872; int f17873; int f17874; int f17875; int f17876; int f17877; int f17878; int f17879; int f17880; int f17881; int f17882; int f17883; int f17884; int f17885; int f17886; int f17887; int f17888; int f17889; int f17890; int f17891; int f17892; int f17893; int f17894; int f17895; int f17896; int f17897; int f17898; int f17899;
+    int f17900; int f17901; int f17902; int f17903; int f17904; int f17905; int f17906; int f17907; int f17908; int f17909; int f17910; int f17911; int f17912; int f17913; int f17914; int f17915; int f17916; int f17917; int f17918; int f17919; int f17920; int f17921; int f17922; int f17923; int f17924; int f17925; int f17926; int f17927; int f17928; int f17929; int f17930; int f17931; int f17932; int f17933; int f17934; int f17935; int f17936; int f17937; int f17938; int f17939; int f17940; int f17941; int f17942; int f17943; int f17944; int f17945; int f17946; int f17947; int f17948; int f17949; int f17950; int f17951; int f17952; int f17953; int f17954; int f17955; int f17956; int f17957; int f17958; int f17959; int f17960; int f17961; int f17962; int f17963; int f17964; int f17965; int f17966; int f17967; int f17968; int f17969; int f17970; int f17971; int f17972; int f17973; int f17974; int f17975; int f17976; int f17977; int f17978; int f17979; int f17980; int f17981; int f17982; int f17983; int f17984; int f17985; int f17986; int f17987; int f17988; int f17989; int f17990; int f17991; int f17992; int f17993; int f17994; int f17995; int f17996; int f17997; int f17998; int f17999;
+    int f18000; int f18001; int f18002; int f18003; int f18004; int f18005; int f18006; int f18007; int f18008; int f18009; int f18010; int f18011; int f18012; int f18013; int f18014; int f18015; int f18016; int f18017; int f18018; int f18019; int f18020; int f18021; int f18022; int f18023; int f18024; int f18025; int f18026; int f18027; int f18028; int f18029; int f18030; int f18031; int f18032; int f18033; int f18034; int f18035; int f18036; int f18037; int f18038; int f18039; int f18040; int f18041; int f18042; int f18043; int f18044; int f18045; int f18046; int f18047; int f18048; int f18049; int f18050; int f18051; int f18052; int f18053; int f18054; int f18055; int f18056; int f18057; int f18058; int f18059; int f18060; int f18061; int f18062; int f18063; int f18064; int f18065; int f18066; int f18067; int f18068; int f18069; int f18070; int f18071; int f18072; int f18073; int f18074; int f18075; int f18076; int f18077; int f18078; int f18079; int f18080; int f18081; int f18082; int f18083; int f18084; int f18085; int f18086; int f18087; int f18088; int f18089; int f18090; int f18091; int f18092; int f18093; int f18094; int f18095; int f18096; int f18097; int f18098; int f18099;
+    int f18100; int f18101; int f18102; int f18103; int f18104; int f18105; int f18106; int f18107; int f18108; int f18109; int f18110; int f18111; int f18112; int f18113; int f18114; int f18115; int f18116; int f18117; int f18118; int f18119; int f18120; int f18121; int f18122; int f18123; int f18124; int f18125; int f18126; int f18127; int f18128; int f18129; int f18130; int f18131; int f18132; int f18133; int f18134; int f18135; int f18136; int f18137; int f18138; int f18139; int f18140; int f18141; int f18142; int f18143; int f18144; int f18145; int f18146; int f18147; int f18148; int f18149; int f18150; int f18151; int f18152; int f18153; int f18154; int f18155; int f18156; int f18157; int f18158; int f18159; int f18160; int f18161; int f18162; int f18163; int f18164; int f18165; int f18166; int f18167; int f18168; int f18169; int f18170; int f18171; int f18172; int f18173; int f18174; int f18175; int f18176; int f18177; int f18178; int f18179; int f18180; int f18181; int f18182; int f18183; int f18184; int f18185; int f18186; int f18187; int f18188; int f18189; int f18190; int f18191; int f18192; int f18193; int f18194; int f18195; int f18196; int f18197; int f18198; int f18199;
+    int f18200; int f18201; int f18202; int f18203; int f18204; int f18205; int f18206; int f18207; int f18208; int f18209; int f18210; int f18211; int f18212; int f18213; int f18214; int f18215; int f18216; int f18217; int f18218; int f18219; int f18220; int f18221; int f18222; int f18223; int f18224; int f18225; int f18226; int f18227; int f18228; int f18229; int f18230; int f18231; int f18232; int f18233; int f18234; int f18235; int f18236; int f18237; int f18238; int f18239; int f18240; int f18241; int f18242; int f18243; int f18244; int f18245; int f18246; int f18247; int f18248; int f18249; int f18250; int f18251; int f18252; int f18253; int f18254; int f18255; int f18256; int f18257; int f18258; int f18259; int f18260; int f18261; int f18262; int f18263; int f18264; int f18265; int f18266; int f18267; int f18268; int f18269; int f18270; int f18271; int f18272; int f18273; int f18274; int f18275; int f18276; int f18277; int f18278; int f18279; int f18280; int f18281; int f18282; int f18283; int f18284; int f18285; int f18286; int f18287; int f18288; int f18289; int f18290; int f18291; int f18292; int f18293; int f18294; int f18295; int f18296; int f18297; int f18298; int f18299;
+    int f18300; int f18301; int f18302; int f18303; int f18304; int f18305; int f18306; int f18307; int f18308; int f18309; int f18310; int f18311; int f18312; int f18313; int f18314; int f18315; int f18316; int f18317; int f18318; int f18319; int f18320; int f18321; int f18322; int f18323; int f18324; int f18325; int f18326; int f18327; int f18328; int f18329; int f18330; int f18331; int f18332; int f18333; int f18334; int f18335; int f18336; int f18337; int f18338; int f18339; int f18340; int f18341; int f18342; int f18343; int f18344; int f18345; int f18346; int f18347; int f18348; int f18349; int f18350; int f18351; int f18352; int f18353; int f18354; int f18355; int f18356; int f18357; int f18358; int f18359; int f18360; int f18361; int f18362; int f18363; int f18364; int f18365; int f18366; int f18367; int f18368; int f18369; int f18370; int f18371; int f18372; int f18373; int f18374; int f18375; int f18376; int f18377; int f18378; int f18379; int f18380; int f18381; int f18382; int f18383; int f18384; int f18385; int f18386; int f18387; int f18388; int f18389; int f18390; int f18391; int f18392; int f18393; int f18394; int f18395; int f18396; int f18397; int f18398; int f18399;
+    int f18400; int f18401; int f18402; int f18403; int f18404; int f18405; int f18406; int f18407; int f18408; int f18409; int f18410; int f18411; int f18412; int f18413; int f18414; int f18415; int f18416; int f18417; int f18418; int f18419; int f18420; int f18421; int f18422; int f18423; int f18424; int f18425; int f18426; int f18427; int f18428; int f18429; int f18430; int f18431; int f18432; int f18433; int f18434; int f18435; int f18436; int f18437; int f18438; int f18439; int f18440; int f18441; int f18442; int f18443; int f18444; int f18445; int f18446; int f18447; int f18448; int f18449; int f18450; int f18451; int f18452; int f18453; int f18454; int f18455; int f18456; int f18457; int f18458; int f18459; int f18460; int f18461; int f18462; int f18463; int f18464; int f18465; int f18466; int f18467; int f18468; int f18469; int f18470; int f18471; int f18472; int f18473; int f18474; int f18475; int f18476; int f18477; int f18478; int f18479; int f18480; int f18481; int f18482; int f18483; int f18484; int f18485; int f18486; int f18487; int f18488; int f18489; int f18490; int f18491; int f18492; int f18493; int f18494; int f18495; int f18496; int f18497; int f18498; int f18499;
+    int f18500; int f18501; int f18502; int f18503; int f18504; int f18505; int f18506; int f18507; int f18508; int f18509; int f18510; int f18511; int f18512; int f18513; int f18514; int f18515; int f18516; int f18517; int f18518; int f18519; int f18520; int f18521; int f18522; int f18523; int f18524; int f18525; int f18526; int f18527; int f18528; int f18529; int f18530; int f18531; int f18532; int f18533; int f18534; int f18535; int f18536; int f18537; int f18538; int f18539; int f18540; int f18541; int f18542; int f18543; int f18544; int f18545; int f18546; int f18547; int f18548; int f18549; int f18550; int f18551; int f18552; int f18553; int f18554; int f18555; int f18556; int f18557; int f18558; int f18559; int f18560; int f18561; int f18562; int f18563; int f18564; int f18565; int f18566; int f18567; int f18568; int f18569; int f18570; int f18571; int f18572; int f18573; int f18574; int f18575; int f18576; int f18577; int f18578; int f18579; int f18580; int f18581; int f18582; int f18583; int f18584; int f18585; int f18586; int f18587; int f18588; int f18589; int f18590; int f18591; int f18592; int f18593; int f18594; int f18595; int f18596; int f18597; int f18598; int f18599;
+    int f18600; int f18601; int f18602; int f18603; int f18604; int f18605; int f18606; int f18607; int f18608; int f18609; int f18610; int f18611; int f18612; int f18613; int f18614; int f18615; int f18616; int f18617; int f18618; int f18619; int f18620; int f18621; int f18622; int f18623; int f18624; int f18625; int f18626; int f18627; int f18628; int f18629; int f18630; int f18631; int f18632; int f18633; int f18634; int f18635; int f18636; int f18637; int f18638; int f18639; int f18640; int f18641; int f18642; int f18643; int f18644; int f18645; int f18646; int f18647; int f18648; int f18649; int f18650; int f18651; int f18652; int f18653; int f18654; int f18655; int f18656; int f18657; int f18658; int f18659; int f18660; int f18661; int f18662; int f18663; int f18664; int f18665; int f18666; int f18667; int f18668; int f18669; int f18670; int f18671; int f18672; int f18673; int f18674; int f18675; int f18676; int f18677; int f18678; int f18679; int f18680; int f18681; int f18682; int f18683; int f18684; int f18685; int f18686; int f18687; int f18688; int f18689; int f18690; int f18691; int f18692; int f18693; int f18694; int f18695; int f18696; int f18697; int f18698; int f18699;
+    int f18700; int f18701; int f18702; int f18703; int f18704; int f18705; int f18706; int f18707; int f18708; int f18709; int f18710; int f18711; int f18712; int f18713; int f18714; int f18715; int f18716; int f18717; int f18718; int f18719; int f18720; int f18721; int f18722; int f18723; int f18724; int f18725; int f18726; int f18727; int f18728; int f18729; int f18730; int f18731; int f18732; int f18733; int f18734; int f18735; int f18736; int f18737; int f18738; int f18739; int f18740; int f18741; int f18742; int f18743; int f18744; int f18745; int f18746; int f18747; int f18748; int f18749; int f18750; int f18751; int f18752; int f18753; int f18754; int f18755; int f18756; int f18757; int f18758; int f18759; int f18760; int f18761; int f18762; int f18763; int f18764; int f18765; int f18766; int f18767; int f18768; int f18769; int f18770; int f18771; int f18772; int f18773; int f18774; int f18775; int f18776; int f18777; int f18778; int f18779; int f18780; int f18781; int f18782; int f18783; int f18784; int f18785; int f18786; int f18787; int f18788; int f18789; int f18790; int f18791; int f18792; int f18793; int f18794; int f18795; int f18796; int f18797; int f18798; int f18799;
+    int f18800; int f18801; int f18802; int f18803; int f18804; int f18805; int f18806; int f18807; int f18808; int f18809; int f18810; int f18811; int f18812; int f18813; int f18814; int f18815; int f18816; int f18817; int f18818; int f18819; int f18820; int f18821; int f18822; int f18823; int f18824; int f18825; int f18826; int f18827; int f18828; int f18829; int f18830; int f18831; int f18832; int f18833; int f18834; int f18835; int f18836; int f18837; int f18838; int f18839; int f18840; int f18841; int f18842; int f18843; int f18844; int f18845; int f18846; int f18847; int f18848; int f18849; int f18850; int f18851; int f18852; int f18853; int f18854; int f18855; int f18856; int f18857; int f18858; int f18859; int f18860; int f18861; int f18862; int f18863; int f18864; int f18865; int f18866; int f18867; int f18868; int f18869; int f18870; int f18871; int f18872; int f18873; int f18874; int f18875; int f18876; int f18877; int f18878; int f18879; int f18880; int f18881; int f18882; int f18883; int f18884; int f18885; int f18886; int f18887; int f18888; int f18889; int f18890; int f18891; int f18892; int f18893; int f18894; int f18895; int f18896; int f18897; int f18898; int f18899;
+    int f18900; int f18901; int f18902; int f18903; int f18904; int f18905; int f18906; int f18907; int f18908; int f18909; int f18910; int f18911; int f18912; int f18913; int f18914; int f18915; int f18916; int f18917; int f18918; int f18919; int f18920; int f18921; int f18922; int f18923; int f18924; int f18925; int f18926; int f18927; int f18928; int f18929; int f18930; int f18931; int f18932; int f18933; int f18934; int f18935; int f18936; int f18937; int f18938; int f18939; int f18940; int f18941; int f18942; int f18943; int f18944; int f18945; int f18946; int f18947; int f18948; int f18949; int f18950; int f18951; int f18952; int f18953; int f18954; int f18955; int f18956; int f18957; int f18958; int f18959; int f18960; int f18961; int f18962; int f18963; int f18964; int f18965; int f18966; int f18967; int f18968; int f18969; int f18970; int f18971; int f18972; int f18973; int f18974; int f18975; int f18976; int f18977; int f18978; int f18979; int f18980; int f18981; int f18982; int f18983; int f18984; int f18985; int f18986; int f18987; int f18988; int f18989; int f18990; int f18991; int f18992; int f18993; int f18994; int f18995; int f18996; int f18997; int f18998; int f18999;
+    int f19000; int f19001; int f19002; int f19003; int f19004; int f19005; int f19006; int f19007; int f19008; int f19009; int f19010; int f19011; int f19012; int f19013; int f19014; int f19015; int f19016; int f19017; int f19018; int f19019; int f19020; int f19021; int f19022; int f19023; int f19024; int f19025; int f19026; int f19027; int f19028; int f19029; int f19030; int f19031; int f19032; int f19033; int f19034; int f19035; int f19036; int f19037; int f19038; int f19039; int f19040; int f19041; int f19042; int f19043; int f19044; int f19045; int f19046; int f19047; int f19048; int f19049; int f19050; int f19051; int f19052; int f19053; int f19054; int f19055; int f19056; int f19057; int f19058; int f19059; int f19060; int f19061; int f19062; int f19063; int f19064; int f19065; int f19066; int f19067; int f19068; int f19069; int f19070; int f19071; int f19072; int f19073; int f19074; int f19075; int f19076; int f19077; int f19078; int f19079; int f19080; int f19081; int f19082; int f19083; int f19084; int f19085; int f19086; int f19087; int f19088; int f19089; int f19090; int f19091; int f19092; int f19093; int f19094; int f19095; int f19096; int f19097; int f19098; int f19099;
+    int f19100; int f19101; int f19102; int f19103; int f19104; int f19105; int f19106; int f19107; int f19108; int f19109; int f19110; int f19111; int f19112; int f19113; int f19114; int f19115; int f19116; int f19117; int f19118; int f19119; int f19120; int f19121; int f19122; int f19123; int f19124; int f19125; int f19126; int f19127; int f19128; int f19129; int f19130; int f19131; int f19132; int f19133; int f19134; int f19135; int f19136; int f19137; int f19138; int f19139; int f19140; int f19141; int f19142; int f19143; int f19144; int f19145; int f19146; int f19147; int f19148; int f19149; int f19150; int f19151; int f19152; int f19153; int f19154; int f19155; int f19156; int f19157; int f19158; int f19159; int f19160; int f19161; int f19162; int f19163; int f19164; int f19165; int f19166; int f19167; int f19168; int f19169; int f19170; int f19171; int f19172; int f19173; int f19174; int f19175; int f19176; int f19177; int f19178; int f19179; int f19180; int f19181; int f19182; int f19183; int f19184; int f19185; int f19186; int f19187; int f19188; int f19189; int f19190; int f19191; int f19192; int f19193; int f19194; int f19195; int f19196; int f19197; int f19198; int f19199;
+    int f19200; int f19201; int f19202; int f19203; int f19204; int f19205; int f19206; int f19207; int f19208; int f19209; int f19210; int f19211; int f19212; int f19213; int f19214; int f19215; int f19216; int f19217; int f19218; int f19219; int f19220; int f19221; int f19222; int f19223; int f19224; int f19225; int f19226; int f19227; int f19228; int f19229; int f19230; int f19231; int f19232; int f19233; int f19234; int f19235; int f19236; int f19237; int f19238; int f19239; int f19240; int f19241; int f19242; int f19243; int f19244; int f19245; int f19246; int f19247; int f19248; int f19249; int f19250; int f19251; int f19252; int f19253; int f19254; int f19255; int f19256; int f19257; int f19258; int f19259; int f19260; int f19261; int f19262; int f19263; int f19264; int f19265; int f19266; int f19267; int f19268; int f19269; int f19270; int f19271; int f19272; int f19273; int f19274; int f19275; int f19276; int f19277; int f19278; int f19279; int f19280; int f19281; int f19282; int f19283; int f19284; int f19285; int f19286; int f19287; int f19288; int f19289; int f19290; int f19291; int f19292; int f19293; int f19294; int f19295; int f19296; int f19297; int f19298; int f19299;
+    int f19300; int f19301; int f19302; int f19303; int f19304; int f19305; int f19306; int f19307; int f19308; int f19309; int f19310; int f19311; int f19312; int f19313; int f19314; int f19315; int f19316; int f19317; int f19318; int f19319; int f19320; int f19321; int f19322; int f19323; int f19324; int f19325; int f19326; int f19327; int f19328; int f19329; int f19330; int f19331; int f19332; int f19333; int f19334; int f19335; int f19336; int f19337; int f19338; int f19339; int f19340; int f19341; int f19342; int f19343; int f19344; int f19345; int f19346; int f19347; int f19348; int f19349; int f19350; int f19351; int f19352; int f19353; int f19354; int f19355; int f19356; int f19357; int f19358; int f19359; int f19360; int f19361; int f19362; int f19363; int f19364; int f19365; int f19366; int f19367; int f19368; int f19369; int f19370; int f19371; int f19372; int f19373; int f19374; int f19375; int f19376; int f19377; int f19378; int f19379; int f19380; int f19381; int f19382; int f19383; int f19384; int f19385; int f19386; int f19387; int f19388; int f19389; int f19390; int f19391; int f19392; int f19393; int f19394; int f19395; int f19396; int f19397; int f19398; int f19399;
+    int f19400; int f19401; int f19402; int f19403; int f19404; int f19405; int f19406; int f19407; int f19408; int f19409; int f19410; int f19411; int f19412; int f19413; int f19414; int f19415; int f19416; int f19417; int f19418; int f19419; int f19420; int f19421; int f19422; int f19423; int f19424; int f19425; int f19426; int f19427; int f19428; int f19429; int f19430; int f19431; int f19432; int f19433; int f19434; int f19435; int f19436; int f19437; int f19438; int f19439; int f19440; int f19441; int f19442; int f19443; int f19444; int f19445; int f19446; int f19447; int f19448; int f19449; int f19450; int f19451; int f19452; int f19453; int f19454; int f19455; int f19456; int f19457; int f19458; int f19459; int f19460; int f19461; int f19462; int f19463; int f19464; int f19465; int f19466; int f19467; int f19468; int f19469; int f19470; int f19471; int f19472; int f19473; int f19474; int f19475; int f19476; int f19477; int f19478; int f19479; int f19480; int f19481; int f19482; int f19483; int f19484; int f19485; int f19486; int f19487; int f19488; int f19489; int f19490; int f19491; int f19492; int f19493; int f19494; int f19495; int f19496; int f19497; int f19498; int f19499;
+    int f19500; int f19501; int f19502; int f19503; int f19504; int f19505; int f19506; int f19507; int f19508; int f19509; int f19510; int f19511; int f19512; int f19513; int f19514; int f19515; int f19516; int f19517; int f19518; int f19519; int f19520; int f19521; int f19522; int f19523; int f19524; int f19525; int f19526; int f19527; int f19528; int f19529; int f19530; int f19531; int f19532; int f19533; int f19534; int f19535; int f19536; int f19537; int f19538; int f19539; int f19540; int f19541; int f19542; int f19543; int f19544; int f19545; int f19546; int f19547; int f19548; int f19549; int f19550; int f19551; int f19552; int f19553; int f19554; int f19555; int f19556; int f19557; int f19558; int f19559; int f19560; int f19561; int f19562; int f19563; int f19564; int f19565; int f19566; int f19567; int f19568; int f19569; int f19570; int f19571; int f19572; int f19573; int f19574; int f19575; int f19576; int f19577; int f19578; int f19579; int f19580; int f19581; int f19582; int f19583; int f19584; int f19585; int f19586; int f19587; int f19588; int f19589; int f19590; int f19591; int f19592; int f19593; int f19594; int f19595; int f19596; int f19597; int f19598; int f19599;
+    int f19600; int f19601; int f19602; int f19603; int f19604; int f19605; int f19606; int f19607; int f19608; int f19609; int f19610; int f19611; int f19612; int f19613; int f19614; int f19615; int f19616; int f19617; int f19618; int f19619; int f19620; int f19621; int f19622; int f19623; int f19624; int f19625; int f19626; int f19627; int f19628; int f19629; int f19630; int f19631; int f19632; int f19633; int f19634; int f19635; int f19636; int f19637; int f19638; int f19639; int f19640; int f19641; int f19642; int f19643; int f19644; int f19645; int f19646; int f19647; int f19648; int f19649; int f19650; int f19651; int f19652; int f19653; int f19654; int f19655; int f19656; int f19657; int f19658; int f19659; int f19660; int f19661; int f19662; int f19663; int f19664; int f19665; int f19666; int f19667; int f19668; int f19669; int f19670; int f19671; int f19672; int f19673; int f19674; int f19675; int f19676; int f19677; int f19678; int f19679; int f19680; int f19681; int f19682; int f19683; int f19684; int f19685; int f19686; int f19687; int f19688; int f19689; int f19690; int f19691; int f19692; int f19693; int f19694; int f19695; int f19696; int f19697; int f19698; int f19699;
+    int f19700; int f19701; int f19702; int f19703; int f19704; int f19705; int f19706; int f19707; int f19708; int f19709; int f19710; int f19711; int f19712; int f19713; int f19714; int f19715; int f19716; int f19717; int f19718; int f19719; int f19720; int f19721; int f19722; int f19723; int f19724; int f19725; int f19726; int f19727; int f19728; int f19729; int f19730; int f19731; int f19732; int f19733; int f19734; int f19735; int f19736; int f19737; int f19738; int f19739; int f19740; int f19741; int f19742; int f19743; int f19744; int f19745; int f19746; int f19747; int f19748; int f19749; int f19750; int f19751; int f19752; int f19753; int f19754; int f19755; int f19756; int f19757; int f19758; int f19759; int f19760; int f19761; int f19762; int f19763; int f19764; int f19765; int f19766; int f19767; int f19768; int f19769; int f19770; int f19771; int f19772; int f19773; int f19774; int f19775; int f19776; int f19777; int f19778; int f19779; int f19780; int f19781; int f19782; int f19783; int f19784; int f19785; int f19786; int f19787; int f19788; int f19789; int f19790; int f19791; int f19792; int f19793; int f19794; int f19795; int f19796; int f19797; int f19798; int f19799;
+    int f19800; int f19801; int f19802; int f19803; int f19804; int f19805; int f19806; int f19807; int f19808; int f19809; int f19810; int f19811; int f19812; int f19813; int f19814; int f19815; int f19816; int f19817; int f19818; int f19819; int f19820; int f19821; int f19822; int f19823; int f19824; int f19825; int f19826; int f19827; int f19828; int f19829; int f19830; int f19831; int f19832; int f19833; int f19834; int f19835; int f19836; int f19837; int f19838; int f19839; int f19840; int f19841; int f19842; int f19843; int f19844; int f19845; int f19846; int f19847; int f19848; int f19849; int f19850; int f19851; int f19852; int f19853; int f19854; int f19855; int f19856; int f19857; int f19858; int f19859; int f19860; int f19861; int f19862; int f19863; int f19864; int f19865; int f19866; int f19867; int f19868; int f19869; int f19870; int f19871; int f19872; int f19873; int f19874; int f19875; int f19876; int f19877; int f19878; int f19879; int f19880; int f19881; int f19882; int f19883; int f19884; int f19885; int f19886; int f19887; int f19888; int f19889; int f19890; int f19891; int f19892; int f19893; int f19894; int f19895; int f19896; int f19897; int f19898; int f19899;
+    int f19900; int f19901; int f19902; int f19903; int f19904; int f19905; int f19906; int f19907; int f19908; int f19909; int f19910; int f19911; int f19912; int f19913; int f19914; int f19915; int f19916; int f19917; int f19918; int f19919; int f19920; int f19921; int f19922; int f19923; int f19924; int f19925; int f19926; int f19927; int f19928; int f19929; int f19930; int f19931; int f19932; int f19933; int f19934; int f19935; int f19936; int f19937; int f19938; int f19939; int f19940; int f19941; int f19942; int f19943; int f19944; int f19945; int f19946; int f19947; int f19948; int f19949; int f19950; int f19951; int f19952; int f19953; int f19954; int f19955; int f19956; int f19957; int f19958; int f19959; int f19960; int f19961; int f19962; int f19963; int f19964; int f19965; int f19966; int f19967; int f19968; int f19969; int f19970; int f19971; int f19972; int f19973; int f19974; int f19975; int f19976; int f19977; int f19978; int f19979; int f19980; int f19981; int f19982; int f19983; int f19984; int f19985; int f19986; int f19987; int f19988; int f19989; int f19990; int f19991; int f19992; int f19993; int f19994; int f19995; int f19996; int f19997; int f19998; int f19999;
+    int f20000; int f20001; int f20002; int f20003; int f20004; int f20005; int f20006; int f20007; int f20008; int f20009; int f20010; int f20011; int f20012; int f20013; int f20014; int f20015; int f20016; int f20017; int f20018; int f20019; int f20020; int f20021; int f20022; int f20023; int f20024; int f20025; int f20026; int f20027; int f20028; int f20029; int f20030; int f20031; int f20032; int f20033; int f20034; int f20035; int f20036; int f20037; int f20038; int f20039; int f20040; int f20041; int f20042; int f20043; int f20044; int f20045; int f20046; int f20047; int f20048; int f20049; int f20050; int f20051; int f20052; int f20053; int f20054; int f20055; int f20056; int f20057; int f20058; int f20059; int f20060; int f20061; int f20062; int f20063; int f20064; int f20065; int f20066; int f20067; int f20068; int f20069; int f20070; int f20071; int f20072; int f20073; int f20074; int f20075; int f20076; int f20077; int f20078; int f20079; int f20080; int f20081; int f20082; int f20083; int f20084; int f20085; int f20086; int f20087; int f20088; int f20089; int f20090; int f20091; int f20092; int f20093; int f20094; int f20095; int f20096; int f20097; int f20098; int f20099;
+    int f20100; int f20101; int f20102; int f20103; int f20104; int f20105; int f20106; int f20107; int f20108; int f20109; int f20110; int f20111; int f20112; int f20113; int f20114; int f20115; int f20116; int f20117; int f20118; int f20119; int f20120; int f20121; int f20122; int f20123; int f20124; int f20125; int f20126; int f20127; int f20128; int f20129; int f20130; int f20131; int f20132; int f20133; int f20134; int f20135; int f20136; int f20137; int f20138; int f20139; int f20140; int f20141; int f20142; int f20143; int f20144; int f20145; int f20146; int f20147; int f20148; int f20149; int f20150; int f20151; int f20152; int f20153; int f20154; int f20155; int f20156; int f20157; int f20158; int f20159; int f20160; int f20161; int f20162; int f20163; int f20164; int f20165; int f20166; int f20167; int f20168; int f20169; int f20170; int f20171; int f20172; int f20173; int f20174; int f20175; int f20176; int f20177; int f20178; int f20179; int f20180; int f20181; int f20182; int f20183; int f20184; int f20185; int f20186; int f20187; int f20188; int f20189; int f20190; int f20191; int f20192; int f20193; int f20194; int f20195; int f20196; int f20197; int f20198; int f20199;
+    int f20200; int f20201; int f20202; int f20203; int f20204; int f20205; int f20206; int f20207; int f20208; int f20209; int f20210; int f20211; int f20212; int f20213; int f20214; int f20215; int f20216; int f20217; int f20218; int f20219; int f20220; int f20221; int f20222; int f20223; int f20224; int f20225; int f20226; int f20227; int f20228; int f20229; int f20230; int f20231; int f20232; int f20233; int f20234; int f20235; int f20236; int f20237; int f20238; int f20239; int f20240; int f20241; int f20242; int f20243; int f20244; int f20245; int f20246; int f20247; int f20248; int f20249; int f20250; int f20251; int f20252; int f20253; int f20254; int f20255; int f20256; int f20257; int f20258; int f20259; int f20260; int f20261; int f20262; int f20263; int f20264; int f20265; int f20266; int f20267; int f20268; int f20269; int f20270; int f20271; int f20272; int f20273; int f20274; int f20275; int f20276; int f20277; int f20278; int f20279; int f20280; int f20281; int f20282; int f20283; int f20284; int f20285; int f20286; int f20287; int f20288; int f20289; int f20290; int f20291; int f20292; int f20293; int f20294; int f20295; int f20296; int f20297; int f20298; int f20299;
+    int f20300; int f20301; int f20302; int f20303; int f20304; int f20305; int f20306; int f20307; int f20308; int f20309; int f20310; int f20311; int f20312; int f20313; int f20314; int f20315; int f20316; int f20317; int f20318; int f20319; int f20320; int f20321; int f20322; int f20323; int f20324; int f20325; int f20326; int f20327; int f20328; int f20329; int f20330; int f20331; int f20332; int f20333; int f20334; int f20335; int f20336; int f20337; int f20338; int f20339; int f20340; int f20341; int f20342; int f20343; int f20344; int f20345; int f20346; int f20347; int f20348; int f20349; int f20350; int f20351; int f20352; int f20353; int f20354; int f20355; int f20356; int f20357; int f20358; int f20359; int f20360; int f20361; int f20362; int f20363; int f20364; int f20365; int f20366; int f20367; int f20368; int f20369; int f20370; int f20371; int f20372; int f20373; int f20374; int f20375; int f20376; int f20377; int f20378; int f20379; int f20380; int f20381; int f20382; int f20383; int f20384; int f20385; int f20386; int f20387; int f20388; int f20389; int f20390; int f20391; int f20392; int f20393; int f20394; int f20395; int f20396; int f20397; int f20398; int f20399;
+    int f20400; int f20401; int f20402; int f20403; int f20404; int f20405; int f20406; int f20407; int f20408; int f20409; int f20410; int f20411; int f20412; int f20413; int f20414; int f20415; int f20416; int f20417; int f20418; int f20419; int f20420; int f20421; int f20422; int f20423; int f20424; int f20425; int f20426; int f20427; int f20428; int f20429; int f20430; int f20431; int f20432; int f20433; int f20434; int f20435; int f20436; int f20437; int f20438; int f20439; int f20440; int f20441; int f20442; int f20443; int f20444; int f20445; int f20446; int f20447; int f20448; int f20449; int f20450; int f20451; int f20452; int f20453; int f20454; int f20455; int f20456; int f20457; int f20458; int f20459; int f20460; int f20461; int f20462; int f20463; int f20464; int f20465; int f20466; int f20467; int f20468; int f20469; int f20470; int f20471; int f20472; int f20473; int f20474; int f20475; int f20476; int f20477; int f20478; int f20479; int f20480; int f20481; int f20482; int f20483; int f20484; int f20485; int f20486; int f20487; int f20488; int f20489; int f20490; int f20491; int f20492; int f20493; int f20494; int f20495; int f20496; int f20497; int f20498; int f20499;
+    int f20500; int f20501; int f20502; int f20503; int f20504; int f20505; int f20506; int f20507; int f20508; int f20509; int f20510; int f20511; int f20512; int f20513; int f20514; int f20515; int f20516; int f20517; int f20518; int f20519; int f20520; int f20521; int f20522; int f20523; int f20524; int f20525; int f20526; int f20527; int f20528; int f20529; int f20530; int f20531; int f20532; int f20533; int f20534; int f20535; int f20536; int f20537; int f20538; int f20539; int f20540; int f20541; int f20542; int f20543; int f20544; int f20545; int f20546; int f20547; int f20548; int f20549; int f20550; int f20551; int f20552; int f20553; int f20554; int f20555; int f20556; int f20557; int f20558; int f20559; int f20560; int f20561; int f20562; int f20563; int f20564; int f20565; int f20566; int f20567; int f20568; int f20569; int f20570; int f20571; int f20572; int f20573; int f20574; int f20575; int f20576; int f20577; int f20578; int f20579; int f20580; int f20581; int f20582; int f20583; int f20584; int f20585; int f20586; int f20587; int f20588; int f20589; int f20590; int f20591; int f20592; int f20593; int f20594; int f20595; int f20596; int f20597; int f20598; int f20599;
+    int f20600; int f20601; int f20602; int f20603; int f20604; int f20605; int f20606; int f20607; int f20608; int f20609; int f20610; int f20611; int f20612; int f20613; int f20614; int f20615; int f20616; int f20617; int f20618; int f20619; int f20620; int f20621; int f20622; int f20623; int f20624; int f20625; int f20626; int f20627; int f20628; int f20629; int f20630; int f20631; int f20632; int f20633; int f20634; int f20635; int f20636; int f20637; int f20638; int f20639; int f20640; int f20641; int f20642; int f20643; int f20644; int f20645; int f20646; int f20647; int f20648; int f20649; int f20650; int f20651; int f20652; int f20653; int f20654; int f20655; int f20656; int f20657; int f20658; int f20659; int f20660; int f20661; int f20662; int f20663; int f20664; int f20665; int f20666; int f20667; int f20668; int f20669; int f20670; int f20671; int f20672; int f20673; int f20674; int f20675; int f20676; int f20677; int f20678; int f20679; int f20680; int f20681; int f20682; int f20683; int f20684; int f20685; int f20686; int f20687; int f20688; int f20689; int f20690; int f20691; int f20692; int f20693; int f20694; int f20695; int f20696; int f20697; int f20698; int f20699;
+    int f20700; int f20701; int f20702; int f20703; int f20704; int f20705; int f20706; int f20707; int f20708; int f20709; int f20710; int f20711; int f20712; int f20713; int f20714; int f20715; int f20716; int f20717; int f20718; int f20719; int f20720; int f20721; int f20722; int f20723; int f20724; int f20725; int f20726; int f20727; int f20728; int f20729; int f20730; int f20731; int f20732; int f20733; int f20734; int f20735; int f20736; int f20737; int f20738; int f20739; int f20740; int f20741; int f20742; int f20743; int f20744; int f20745; int f20746; int f20747; int f20748; int f20749; int f20750; int f20751; int f20752; int f20753; int f20754; int f20755; int f20756; int f20757; int f20758; int f20759; int f20760; int f20761; int f20762; int f20763; int f20764; int f20765; int f20766; int f20767; int f20768; int f20769; int f20770; int f20771; int f20772; int f20773; int f20774; int f20775; int f20776; int f20777; int f20778; int f20779; int f20780; int f20781; int f20782; int f20783; int f20784; int f20785; int f20786; int f20787; int f20788; int f20789; int f20790; int f20791; int f20792; int f20793; int f20794; int f20795; int f20796; int f20797; int f20798; int f20799;
+    int f20800; int f20801; int f20802; int f20803; int f20804; int f20805; int f20806; int f20807; int f20808; int f20809; int f20810; int f20811; int f20812; int f20813; int f20814; int f20815; int f20816; int f20817; int f20818; int f20819; int f20820; int f20821; int f20822; int f20823; int f20824; int f20825; int f20826; int f20827; int f20828; int f20829; int f20830; int f20831; int f20832; int f20833; int f20834; int f20835; int f20836; int f20837; int f20838; int f20839; int f20840; int f20841; int f20842; int f20843; int f20844; int f20845; int f20846; int f20847; int f20848; int f20849; int f20850; int f20851; int f20852; int f20853; int f20854; int f20855; int f20856; int f20857; int f20858; int f20859; int f20860; int f20861; int f20862; int f20863; int f20864; int f20865; int f20866; int f20867; int f20868; int f20869; int f20870; int f20871; int f20872; int f20873; int f20874; int f20875; int f20876; int f20877; int f20878; int f20879; int f20880; int f20881; int f20882; int f20883; int f20884; int f20885; int f20886; int f20887; int f20888; int f20889; int f20890; int f20891; int f20892; int f20893; int f20894; int f20895; int f20896; int f20897; int f20898; int f20899;
+    int f20900; int f20901; int f20902; int f20903; int f20904; int f20905; int f20906; int f20907; int f20908; int f20909; int f20910; int f20911; int f20912; int f20913; int f20914; int f20915; int f20916; int f20917; int f20918; int f20919; int f20920; int f20921; int f20922; int f20923; int f20924; int f20925; int f20926; int f20927; int f20928; int f20929; int f20930; int f20931; int f20932; int f20933; int f20934; int f20935; int f20936; int f20937; int f20938; int f20939; int f20940; int f20941; int f20942; int f20943; int f20944; int f20945; int f20946; int f20947; int f20948; int f20949; int f20950; int f20951; int f20952; int f20953; int f20954; int f20955; int f20956; int f20957; int f20958; int f20959; int f20960; int f20961; int f20962; int f20963; int f20964; int f20965; int f20966; int f20967; int f20968; int f20969; int f20970; int f20971; int f20972; int f20973; int f20974; int f20975; int f20976; int f20977; int f20978; int f20979; int f20980; int f20981; int f20982; int f20983; int f20984; int f20985; int f20986; int f20987; int f20988; int f20989; int f20990; int f20991; int f20992; int f20993; int f20994; int f20995; int f20996; int f20997; int f20998; int f20999;
+    int f21000; int f21001; int f21002; int f21003; int f21004; int f21005; int f21006; int f21007; int f21008; int f21009; int f21010; int f21011; int f21012; int f21013; int f21014; int f21015; int f21016; int f21017; int f21018; int f21019; int f21020; int f21021; int f21022; int f21023; int f21024; int f21025; int f21026; int f21027; int f21028; int f21029; int f21030; int f21031; int f21032; int f21033; int f21034; int f21035; int f21036; int f21037; int f21038; int f21039; int f21040; int f21041; int f21042; int f21043; int f21044; int f21045; int f21046; int f21047; int f21048; int f21049; int f21050; int f21051; int f21052; int f21053; int f21054; int f21055; int f21056; int f21057; int f21058; int f21059; int f21060; int f21061; int f21062; int f21063; int f21064; int f21065; int f21066; int f21067; int f21068; int f21069; int f21070; int f21071; int f21072; int f21073; int f21074; int f21075; int f21076; int f21077; int f21078; int f21079; int f21080; int f21081; int f21082; int f21083; int f21084; int f21085; int f21086; int f21087; int f21088; int f21089; int f21090; int f21091; int f21092; int f21093; int f21094; int f21095; int f21096; int f21097; int f21098; int f21099;
+    int f21100; int f21101; int f21102; int f21103; int f21104; int f21105; int f21106; int f21107; int f21108; int f21109; int f21110; int f21111; int f21112; int f21113; int f21114; int f21115; int f21116; int f21117; int f21118; int f21119; int f21120; int f21121; int f21122; int f21123; int f21124; int f21125; int f21126; int f21127; int f21128; int f21129; int f21130; int f21131; int f21132; int f21133; int f21134; int f21135; int f21136; int f21137; int f21138; int f21139; int f21140; int f21141; int f21142; int f21143; int f21144; int f21145; int f21146; int f21147; int f21148; int f21149; int f21150; int f21151; int f21152; int f21153; int f21154; int f21155; int f21156; int f21157; int f21158; int f21159; int f21160; int f21161; int f21162; int f21163; int f21164; int f21165; int f21166; int f21167; int f21168; int f21169; int f21170; int f21171; int f21172; int f21173; int f21174; int f21175; int f21176; int f21177; int f21178; int f21179; int f21180; int f21181; int f21182; int f21183; int f21184; int f21185; int f21186; int f21187; int f21188; int f21189; int f21190; int f21191; int f21192; int f21193; int f21194; int f21195; int f21196; int f21197; int f21198; int f21199;
+    int f21200; int f21201; int f21202; int f21203; int f21204; int f21205; int f21206; int f21207; int f21208; int f21209; int f21210; int f21211; int f21212; int f21213; int f21214; int f21215; int f21216; int f21217; int f21218; int f21219; int f21220; int f21221; int f21222; int f21223; int f21224; int f21225; int f21226; int f21227; int f21228; int f21229; int f21230; int f21231; int f21232; int f21233; int f21234; int f21235; int f21236; int f21237; int f21238; int f21239; int f21240; int f21241; int f21242; int f21243; int f21244; int f21245; int f21246; int f21247; int f21248; int f21249; int f21250; int f21251; int f21252; int f21253; int f21254; int f21255; int f21256; int f21257; int f21258; int f21259; int f21260; int f21261; int f21262; int f21263; int f21264; int f21265; int f21266; int f21267; int f21268; int f21269; int f21270; int f21271; int f21272; int f21273; int f21274; int f21275; int f21276; int f21277; int f21278; int f21279; int f21280; int f21281; int f21282; int f21283; int f21284; int f21285; int f21286; int f21287; int f21288; int f21289; int f21290; int f21291; int f21292; int f21293; int f21294; int f21295; int f21296; int f21297; int f21298; int f21299;
+    int f21300; int f21301; int f21302; int f21303; int f21304; int f21305; int f21306; int f21307; int f21308; int f21309; int f21310; int f21311; int f21312; int f21313; int f21314; int f21315; int f21316; int f21317; int f21318; int f21319; int f21320; int f21321; int f21322; int f21323; int f21324; int f21325; int f21326; int f21327; int f21328; int f21329; int f21330; int f21331; int f21332; int f21333; int f21334; int f21335; int f21336; int f21337; int f21338; int f21339; int f21340; int f21341; int f21342; int f21343; int f21344; int f21345; int f21346; int f21347; int f21348; int f21349; int f21350; int f21351; int f21352; int f21353; int f21354; int f21355; int f21356; int f21357; int f21358; int f21359; int f21360; int f21361; int f21362; int f21363; int f21364; int f21365; int f21366; int f21367; int f21368; int f21369; int f21370; int f21371; int f21372; int f21373; int f21374; int f21375; int f21376; int f21377; int f21378; int f21379; int f21380; int f21381; int f21382; int f21383; int f21384; int f21385; int f21386; int f21387; int f21388; int f21389; int f21390; int f21391; int f21392; int f21393; int f21394; int f21395; int f21396; int f21397; int f21398; int f21399;
+    int f21400; int f21401; int f21402; int f21403; int f21404; int f21405; int f21406; int f21407; int f21408; int f21409; int f21410; int f21411; int f21412; int f21413; int f21414; int f21415; int f21416; int f21417; int f21418; int f21419; int f21420; int f21421; int f21422; int f21423; int f21424; int f21425; int f21426; int f21427; int f21428; int f21429; int f21430; int f21431; int f21432; int f21433; int f21434; int f21435; int f21436; int f21437; int f21438; int f21439; int f21440; int f21441; int f21442; int f21443; int f21444; int f21445; int f21446; int f21447; int f21448; int f21449; int f21450; int f21451; int f21452; int f21453; int f21454; int f21455; int f21456; int f21457; int f21458; int f21459; int f21460; int f21461; int f21462; int f21463; int f21464; int f21465; int f21466; int f21467; int f21468; int f21469; int f21470; int f21471; int f21472; int f21473; int f21474; int f21475; int f21476; int f21477; int f21478; int f21479; int f21480; int f21481; int f21482; int f21483; int f21484; int f21485; int f21486; int f21487; int f21488; int f21489; int f21490; int f21491; int f21492; int f21493; int f21494; int f21495; int f21496; int f21497; int f21498; int f21499;
+    int f21500; int f21501; int f21502; int f21503; int f21504; int f21505; int f21506; int f21507; int f21508; int f21509; int f21510; int f21511; int f21512; int f21513; int f21514; int f21515; int f21516; int f21517; int f21518; int f21519; int f21520; int f21521; int f21522; int f21523; int f21524; int f21525; int f21526; int f21527; int f21528; int f21529; int f21530; int f21531; int f21532; int f21533; int f21534; int f21535; int f21536; int f21537; int f21538; int f21539; int f21540; int f21541; int f21542; int f21543; int f21544; int f21545; int f21546; int f21547; int f21548; int f21549; int f21550; int f21551; int f21552; int f21553; int f21554; int f21555; int f21556; int f21557; int f21558; int f21559; int f21560; int f21561; int f21562; int f21563; int f21564; int f21565; int f21566; int f21567; int f21568; int f21569; int f21570; int f21571; int f21572; int f21573; int f21574; int f21575; int f21576; int f21577; int f21578; int f21579; int f21580; int f21581; int f21582; int f21583; int f21584; int f21585; int f21586; int f21587; int f21588; int f21589; int f21590; int f21591; int f21592; int f21593; int f21594; int f21595; int f21596; int f21597; int f21598; int f21599;
+    int f21600; int f21601; int f21602; int f21603; int f21604; int f21605; int f21606; int f21607; int f21608; int f21609; int f21610; int f21611; int f21612; int f21613; int f21614; int f21615; int f21616; int f21617; int f21618; int f21619; int f21620; int f21621; int f21622; int f21623; int f21624; int f21625; int f21626; int f21627; int f21628; int f21629; int f21630; int f21631; int f21632; int f21633; int f21634; int f21635; int f21636; int f21637; int f21638; int f21639; int f21640; int f21641; int f21642; int f21643; int f21644; int f21645; int f21646; int f21647; int f21648; int f21649; int f21650; int f21651; int f21652; int f21653; int f21654; int f21655; int f21656; int f21657; int f21658; int f21659; int f21660; int f21661; int f21662; int f21663; int f21664; int f21665; int f21666; int f21667; int f21668; int f21669; int f21670; int f21671; int f21672; int f21673; int f21674; int f21675; int f21676; int f21677; int f21678; int f21679; int f21680; int f21681; int f21682; int f21683; int f21684; int f21685; int f21686; int f21687; int f21688; int f21689; int f21690; int f21691; int f21692; int f21693; int f21694; int f21695; int f21696; int f21697; int f21698; int f21699;
+    int f21700; int f21701; int f21702; int f21703; int f21704; int f21705; int f21706; int f21707; int f21708; int f21709; int f21710; int f21711; int f21712; int f21713; int f21714; int f21715; int f21716; int f21717; int f21718; int f21719; int f21720; int f21721; int f21722; int f21723; int f21724; int f21725; int f21726; int f21727; int f21728; int f21729; int f21730; int f21731; int f21732; int f21733; int f21734; int f21735; int f21736; int f21737; int f21738; int f21739; int f21740; int f21741; int f21742; int f21743; int f21744; int f21745; int f21746; int f21747; int f21748; int f21749; int f21750; int f21751; int f21752; int f21753; int f21754; int f21755; int f21756; int f21757; int f21758; int f21759; int f21760; int f21761; int f21762; int f21763; int f21764; int f21765; int f21766; int f21767; int f21768; int f21769; int f21770; int f21771; int f21772; int f21773; int f21774; int f21775; int f21776; int f21777; int f21778; int f21779; int f21780; int f21781; int f21782; int f21783; int f21784; int f21785; int f21786; int f21787; int f21788; int f21789; int f21790; int f21791; int f21792; int f21793; int f21794; int f21795; int f21796; int f21797; int f21798; int f21799;
+    int f21800; int f21801; int f21802; int f21803; int f21804; int f21805; int f21806; int f21807; int f21808; int f21809; int f21810; int f21811; int f21812; int f21813; int f21814; int f21815; int f21816; int f21817; int f21818; int f21819; int f21820; int f21821; int f21822; int f21823; int f21824; int f21825; int f21826; int f21827; int f21828; int f21829; int f21830; int f21831; int f21832; int f21833; int f21834; int f21835; int f21836; int f21837; int f21838; int f21839; int f21840; int f21841; int f21842; int f21843; int f21844; int f21845; int f21846; int f21847; int f21848; int f21849; int f21850; int f21851; int f21852; int f21853; int f21854; int f21855; int f21856; int f21857; int f21858; int f21859; int f21860; int f21861; int f21862; int f21863; int f21864; int f21865; int f21866; int f21867; int f21868; int f21869; int f21870; int f21871; int f21872; int f21873; int f21874; int f21875; int f21876; int f21877; int f21878; int f21879; int f21880; int f21881; int f21882; int f21883; int f21884; int f21885; int f21886; int f21887; int f21888; int f21889; int f21890; int f21891; int f21892; int f21893; int f21894; int f21895; int f21896; int f21897; int f21898; int f21899;
+    int f21900; int f21901; int f21902; int f21903; int f21904; int f21905; int f21906; int f21907; int f21908; int f21909; int f21910; int f21911; int f21912; int f21913; int f21914; int f21915; int f21916; int f21917; int f21918; int f21919; int f21920; int f21921; int f21922; int f21923; int f21924; int f21925; int f21926; int f21927; int f21928; int f21929; int f21930; int f21931; int f21932; int f21933; int f21934; int f21935; int f21936; int f21937; int f21938; int f21939; int f21940; int f21941; int f21942; int f21943; int f21944; int f21945; int f21946; int f21947; int f21948; int f21949; int f21950; int f21951; int f21952; int f21953; int f21954; int f21955; int f21956; int f21957; int f21958; int f21959; int f21960; int f21961; int f21962; int f21963; int f21964; int f21965; int f21966; int f21967; int f21968; int f21969; int f21970; int f21971; int f21972; int f21973; int f21974; int f21975; int f21976; int f21977; int f21978; int f21979; int f21980; int f21981; int f21982; int f21983; int f21984; int f21985; int f21986; int f21987; int f21988; int f21989; int f21990; int f21991; int f21992; int f21993; int f21994; int f21995; int f21996; int f21997; int f21998; int f21999;
+    int f22000; int f22001; int f22002; int f22003; int f22004; int f22005; int f22006; int f22007; int f22008; int f22009; int f22010; int f22011; int f22012; int f22013; int f22014; int f22015; int f22016; int f22017; int f22018; int f22019; int f22020; int f22021; int f22022; int f22023; int f22024; int f22025; int f22026; int f22027; int f22028; int f22029; int f22030; int f22031; int f22032; int f22033; int f22034; int f22035; int f22036; int f22037; int f22038; int f22039; int f22040; int f22041; int f22042; int f22043; int f22044; int f22045; int f22046; int f22047; int f22048; int f22049; int f22050; int f22051; int f22052; int f22053; int f22054; int f22055; int f22056; int f22057; int f22058; int f22059; int f22060; int f22061; int f22062; int f22063; int f22064; int f22065; int f22066; int f22067; int f22068; int f22069; int f22070; int f22071; int f22072; int f22073; int f22074; int f22075; int f22076; int f22077; int f22078; int f22079; int f22080; int f22081; int f22082; int f22083; int f22084; int f22085; int f22086; int f22087; int f22088; int f22089; int f22090; int f22091; int f22092; int f22093; int f22094; int f22095; int f22096; int f22097; int f22098; int f22099;
+    int f22100; int f22101; int f22102; int f22103; int f22104; int f22105; int f22106; int f22107; int f22108; int f22109; int f22110; int f22111; int f22112; int f22113; int f22114; int f22115; int f22116; int f22117; int f22118; int f22119; int f22120; int f22121; int f22122; int f22123; int f22124; int f22125; int f22126; int f22127; int f22128; int f22129; int f22130; int f22131; int f22132; int f22133; int f22134; int f22135; int f22136; int f22137; int f22138; int f22139; int f22140; int f22141; int f22142; int f22143; int f22144; int f22145; int f22146; int f22147; int f22148; int f22149; int f22150; int f22151; int f22152; int f22153; int f22154; int f22155; int f22156; int f22157; int f22158; int f22159; int f22160; int f22161; int f22162; int f22163; int f22164; int f22165; int f22166; int f22167; int f22168; int f22169; int f22170; int f22171; int f22172; int f22173; int f22174; int f22175; int f22176; int f22177; int f22178; int f22179; int f22180; int f22181; int f22182; int f22183; int f22184; int f22185; int f22186; int f22187; int f22188; int f22189; int f22190; int f22191; int f22192; int f22193; int f22194; int f22195; int f22196; int f22197; int f22198; int f22199;
+    int f22200; int f22201; int f22202; int f22203; int f22204; int f22205; int f22206; int f22207; int f22208; int f22209; int f22210; int f22211; int f22212; int f22213; int f22214; int f22215; int f22216; int f22217; int f22218; int f22219; int f22220; int f22221; int f22222; int f22223; int f22224; int f22225; int f22226; int f22227; int f22228; int f22229; int f22230; int f22231; int f22232; int f22233; int f22234; int f22235; int f22236; int f22237; int f22238; int f22239; int f22240; int f22241; int f22242; int f22243; int f22244; int f22245; int f22246; int f22247; int f22248; int f22249; int f22250; int f22251; int f22252; int f22253; int f22254; int f22255; int f22256; int f22257; int f22258; int f22259; int f22260; int f22261; int f22262; int f22263; int f22264; int f22265; int f22266; int f22267; int f22268; int f22269; int f22270; int f22271; int f22272; int f22273; int f22274; int f22275; int f22276; int f22277; int f22278; int f22279; int f22280; int f22281; int f22282; int f22283; int f22284; int f22285; int f22286; int f22287; int f22288; int f22289; int f22290; int f22291; int f22292; int f22293; int f22294; int f22295; int f22296; int f22297; int f22298; int f22299;
+    int f22300; int f22301; int f22302; int f22303; int f22304; int f22305; int f22306; int f22307; int f22308; int f22309; int f22310; int f22311; int f22312; int f22313; int f22314; int f22315; int f22316; int f22317; int f22318; int f22319; int f22320; int f22321; int f22322; int f22323; int f22324; int f22325; int f22326; int f22327; int f22328; int f22329; int f22330; int f22331; int f22332; int f22333; int f22334; int f22335; int f22336; int f22337; int f22338; int f22339; int f22340; int f22341; int f22342; int f22343; int f22344; int f22345; int f22346; int f22347; int f22348; int f22349; int f22350; int f22351; int f22352; int f22353; int f22354; int f22355; int f22356; int f22357; int f22358; int f22359; int f22360; int f22361; int f22362; int f22363; int f22364; int f22365; int f22366; int f22367; int f22368; int f22369; int f22370; int f22371; int f22372; int f22373; int f22374; int f22375; int f22376; int f22377; int f22378; int f22379; int f22380; int f22381; int f22382; int f22383; int f22384; int f22385; int f22386; int f22387; int f22388; int f22389; int f22390; int f22391; int f22392; int f22393; int f22394; int f22395; int f22396; int f22397; int f22398; int f22399;
+    int f22400; int f22401; int f22402; int f22403; int f22404; int f22405; int f22406; int f22407; int f22408; int f22409; int f22410; int f22411; int f22412; int f22413; int f22414; int f22415; int f22416; int f22417; int f22418; int f22419; int f22420; int f22421; int f22422; int f22423; int f22424; int f22425; int f22426; int f22427; int f22428; int f22429; int f22430; int f22431; int f22432; int f22433; int f22434; int f22435; int f22436; int f22437; int f22438; int f22439; int f22440; int f22441; int f22442; int f22443; int f22444; int f22445; int f22446; int f22447; int f22448; int f22449; int f22450; int f22451; int f22452; int f22453; int f22454; int f22455; int f22456; int f22457; int f22458; int f22459; int f22460; int f22461; int f22462; int f22463; int f22464; int f22465; int f22466; int f22467; int f22468; int f22469; int f22470; int f22471; int f22472; int f22473; int f22474; int f22475; int f22476; int f22477; int f22478; int f22479; int f22480; int f22481; int f22482; int f22483; int f22484; int f22485; int f22486; int f22487; int f22488; int f22489; int f22490; int f22491; int f22492; int f22493; int f22494; int f22495; int f22496; int f22497; int f22498; int f22499;
+    int f22500; int f22501; int f22502; int f22503; int f22504; int f22505; int f22506; int f22507; int f22508; int f22509; int f22510; int f22511; int f22512; int f22513; int f22514; int f22515; int f22516; int f22517; int f22518; int f22519; int f22520; int f22521; int f22522; int f22523; int f22524; int f22525; int f22526; int f22527; int f22528; int f22529; int f22530; int f22531; int f22532; int f22533; int f22534; int f22535; int f22536; int f22537; int f22538; int f22539; int f22540; int f22541; int f22542; int f22543; int f22544; int f22545; int f22546; int f22547; int f22548; int f22549; int f22550; int f22551; int f22552; int f22553; int f22554; int f22555; int f22556; int f22557; int f22558; int f22559; int f22560; int f22561; int f22562; int f22563; int f22564; int f22565; int f22566; int f22567; int f22568; int f22569; int f22570; int f22571; int f22572; int f22573; int f22574; int f22575; int f22576; int f22577; int f22578; int f22579; int f22580; int f22581; int f22582; int f22583; int f22584; int f22585; int f22586; int f22587; int f22588; int f22589; int f22590; int f22591; int f22592; int f22593; int f22594; int f22595; int f22596; int f22597; int f22598; int f22599;
+    int f22600; int f22601; int f22602; int f22603; int f22604; int f22605; int f22606; int f22607; int f22608; int f22609; int f22610; int f22611; int f22612; int f22613; int f22614; int f22615; int f22616; int f22617; int f22618; int f22619; int f22620; int f22621; int f22622; int f22623; int f22624; int f22625; int f22626; int f22627; int f22628; int f22629; int f22630; int f22631; int f22632; int f22633; int f22634; int f22635; int f22636; int f22637; int f22638; int f22639; int f22640; int f22641; int f22642; int f22643; int f22644; int f22645; int f22646; int f22647; int f22648; int f22649; int f22650; int f22651; int f22652; int f22653; int f22654; int f22655; int f22656; int f22657; int f22658; int f22659; int f22660; int f22661; int f22662; int f22663; int f22664; int f22665; int f22666; int f22667; int f22668; int f22669; int f22670; int f22671; int f22672; int f22673; int f22674; int f22675; int f22676; int f22677; int f22678; int f22679; int f22680; int f22681; int f22682; int f22683; int f22684; int f22685; int f22686; int f22687; int f22688; int f22689; int f22690; int f22691; int f22692; int f22693; int f22694; int f22695; int f22696; int f22697; int f22698; int f22699;
+    int f22700; int f22701; int f22702; int f22703; int f22704; int f22705; int f22706; int f22707; int f22708; int f22709; int f22710; int f22711; int f22712; int f22713; int f22714; int f22715; int f22716; int f22717; int f22718; int f22719; int f22720; int f22721; int f22722; int f22723; int f22724; int f22725; int f22726; int f22727; int f22728; int f22729; int f22730; int f22731; int f22732; int f22733; int f22734; int f22735; int f22736; int f22737; int f22738; int f22739; int f22740; int f22741; int f22742; int f22743; int f22744; int f22745; int f22746; int f22747; int f22748; int f22749; int f22750; int f22751; int f22752; int f22753; int f22754; int f22755; int f22756; int f22757; int f22758; int f22759; int f22760; int f22761; int f22762; int f22763; int f22764; int f22765; int f22766; int f22767; int f22768; int f22769; int f22770; int f22771; int f22772; int f22773; int f22774; int f22775; int f22776; int f22777; int f22778; int f22779; int f22780; int f22781; int f22782; int f22783; int f22784; int f22785; int f22786; int f22787; int f22788; int f22789; int f22790; int f22791; int f22792; int f22793; int f22794; int f22795; int f22796; int f22797; int f22798; int f22799;
+    int f22800; int f22801; int f22802; int f22803; int f22804; int f22805; int f22806; int f22807; int f22808; int f22809; int f22810; int f22811; int f22812; int f22813; int f22814; int f22815; int f22816; int f22817; int f22818; int f22819; int f22820; int f22821; int f22822; int f22823; int f22824; int f22825; int f22826; int f22827; int f22828; int f22829; int f22830; int f22831; int f22832; int f22833; int f22834; int f22835; int f22836; int f22837; int f22838; int f22839; int f22840; int f22841; int f22842; int f22843; int f22844; int f22845; int f22846; int f22847; int f22848; int f22849; int f22850; int f22851; int f22852; int f22853; int f22854; int f22855; int f22856; int f22857; int f22858; int f22859; int f22860; int f22861; int f22862; int f22863; int f22864; int f22865; int f22866; int f22867; int f22868; int f22869; int f22870; int f22871; int f22872; int f22873; int f22874; int f22875; int f22876; int f22877; int f22878; int f22879; int f22880; int f22881; int f22882; int f22883; int f22884; int f22885; int f22886; int f22887; int f22888; int f22889; int f22890; int f22891; int f22892; int f22893; int f22894; int f22895; int f22896; int f22897; int f22898; int f22899;
+    int f22900; int f22901; int f22902; int f22903; int f22904; int f22905; int f22906; int f22907; int f22908; int f22909; int f22910; int f22911; int f22912; int f22913; int f22914; int f22915; int f22916; int f22917; int f22918; int f22919; int f22920; int f22921; int f22922; int f22923; int f22924; int f22925; int f22926; int f22927; int f22928; int f22929; int f22930; int f22931; int f22932; int f22933; int f22934; int f22935; int f22936; int f22937; int f22938; int f22939; int f22940; int f22941; int f22942; int f22943; int f22944; int f22945; int f22946; int f22947; int f22948; int f22949; int f22950; int f22951; int f22952; int f22953; int f22954; int f22955; int f22956; int f22957; int f22958; int f22959; int f22960; int f22961; int f22962; int f22963; int f22964; int f22965; int f22966; int f22967; int f22968; int f22969; int f22970; int f22971; int f22972; int f22973; int f22974; int f22975; int f22976; int f22977; int f22978; int f22979; int f22980; int f22981; int f22982; int f22983; int f22984; int f22985; int f22986; int f22987; int f22988; int f22989; int f22990; int f22991; int f22992; int f22993; int f22994; int f22995; int f22996; int f22997; int f22998; int f22999;
+    int f23000; int f23001; int f23002; int f23003; int f23004; int f23005; int f23006; int f23007; int f23008; int f23009; int f23010; int f23011; int f23012; int f23013; int f23014; int f23015; int f23016; int f23017; int f23018; int f23019; int f23020; int f23021; int f23022; int f23023; int f23024; int f23025; int f23026; int f23027; int f23028; int f23029; int f23030; int f23031; int f23032; int f23033; int f23034; int f23035; int f23036; int f23037; int f23038; int f23039; int f23040; int f23041; int f23042; int f23043; int f23044; int f23045; int f23046; int f23047; int f23048; int f23049; int f23050; int f23051; int f23052; int f23053; int f23054; int f23055; int f23056; int f23057; int f23058; int f23059; int f23060; int f23061; int f23062; int f23063; int f23064; int f23065; int f23066; int f23067; int f23068; int f23069; int f23070; int f23071; int f23072; int f23073; int f23074; int f23075; int f23076; int f23077; int f23078; int f23079; int f23080; int f23081; int f23082; int f23083; int f23084; int f23085; int f23086; int f23087; int f23088; int f23089; int f23090; int f23091; int f23092; int f23093; int f23094; int f23095; int f23096; int f23097; int f23098; int f23099;
+    int f23100; int f23101; int f23102; int f23103; int f23104; int f23105; int f23106; int f23107; int f23108; int f23109; int f23110; int f23111; int f23112; int f23113; int f23114; int f23115; int f23116; int f23117; int f23118; int f23119; int f23120; int f23121; int f23122; int f23123; int f23124; int f23125; int f23126; int f23127; int f23128; int f23129; int f23130; int f23131; int f23132; int f23133; int f23134; int f23135; int f23136; int f23137; int f23138; int f23139; int f23140; int f23141; int f23142; int f23143; int f23144; int f23145; int f23146; int f23147; int f23148; int f23149; int f23150; int f23151; int f23152; int f23153; int f23154; int f23155; int f23156; int f23157; int f23158; int f23159; int f23160; int f23161; int f23162; int f23163; int f23164; int f23165; int f23166; int f23167; int f23168; int f23169; int f23170; int f23171; int f23172; int f23173; int f23174; int f23175; int f23176; int f23177; int f23178; int f23179; int f23180; int f23181; int f23182; int f23183; int f23184; int f23185; int f23186; int f23187; int f23188; int f23189; int f23190; int f23191; int f23192; int f23193; int f23194; int f23195; int f23196; int f23197; int f23198; int f23199;
+    int f23200; int f23201; int f23202; int f23203; int f23204; int f23205; int f23206; int f23207; int f23208; int f23209; int f23210; int f23211; int f23212; int f23213; int f23214; int f23215; int f23216; int f23217; int f23218; int f23219; int f23220; int f23221; int f23222; int f23223; int f23224; int f23225; int f23226; int f23227; int f23228; int f23229; int f23230; int f23231; int f23232; int f23233; int f23234; int f23235; int f23236; int f23237; int f23238; int f23239; int f23240; int f23241; int f23242; int f23243; int f23244; int f23245; int f23246; int f23247; int f23248; int f23249; int f23250; int f23251; int f23252; int f23253; int f23254; int f23255; int f23256; int f23257; int f23258; int f23259; int f23260; int f23261; int f23262; int f23263; int f23264; int f23265; int f23266; int f23267; int f23268; int f23269; int f23270; int f23271; int f23272; int f23273; int f23274; int f23275; int f23276; int f23277; int f23278; int f23279; int f23280; int f23281; int f23282; int f23283; int f23284; int f23285; int f23286; int f23287; int f23288; int f23289; int f23290; int f23291; int f23292; int f23293; int f23294; int f23295; int f23296; int f23297; int f23298; int f23299;
+    int f23300; int f23301; int f23302; int f23303; int f23304; int f23305; int f23306; int f23307; int f23308; int f23309; int f23310; int f23311; int f23312; int f23313; int f23314; int f23315; int f23316; int f23317; int f23318; int f23319; int f23320; int f23321; int f23322; int f23323; int f23324; int f23325; int f23326; int f23327; int f23328; int f23329; int f23330; int f23331; int f23332; int f23333; int f23334; int f23335; int f23336; int f23337; int f23338; int f23339; int f23340; int f23341; int f23342; int f23343; int f23344; int f23345; int f23346; int f23347; int f23348; int f23349; int f23350; int f23351; int f23352; int f23353; int f23354; int f23355; int f23356; int f23357; int f23358; int f23359; int f23360; int f23361; int f23362; int f23363; int f23364; int f23365; int f23366; int f23367; int f23368; int f23369; int f23370; int f23371; int f23372; int f23373; int f23374; int f23375; int f23376; int f23377; int f23378; int f23379; int f23380; int f23381; int f23382; int f23383; int f23384; int f23385; int f23386; int f23387; int f23388; int f23389; int f23390; int f23391; int f23392; int f23393; int f23394; int f23395; int f23396; int f23397; int f23398; int f23399;
+    int f23400; int f23401; int f23402; int f23403; int f23404; int f23405; int f23406; int f23407; int f23408; int f23409; int f23410; int f23411; int f23412; int f23413; int f23414; int f23415; int f23416; int f23417; int f23418; int f23419; int f23420; int f23421; int f23422; int f23423; int f23424; int f23425; int f23426; int f23427; int f23428; int f23429; int f23430; int f23431; int f23432; int f23433; int f23434; int f23435; int f23436; int f23437; int f23438; int f23439; int f23440; int f23441; int f23442; int f23443; int f23444; int f23445; int f23446; int f23447; int f23448; int f23449; int f23450; int f23451; int f23452; int f23453; int f23454; int f23455; int f23456; int f23457; int f23458; int f23459; int f23460; int f23461; int f23462; int f23463; int f23464; int f23465; int f23466; int f23467; int f23468; int f23469; int f23470; int f23471; int f23472; int f23473; int f23474; int f23475; int f23476; int f23477; int f23478; int f23479; int f23480; int f23481; int f23482; int f23483; int f23484; int f23485; int f23486; int f23487; int f23488; int f23489; int f23490; int f23491; int f23492; int f23493; int f23494; int f23495; int f23496; int f23497; int f23498; int f23499;
+    int f23500; int f23501; int f23502; int f23503; int f23504; int f23505; int f23506; int f23507; int f23508; int f23509; int f23510; int f23511; int f23512; int f23513; int f23514; int f23515; int f23516; int f23517; int f23518; int f23519; int f23520; int f23521; int f23522; int f23523; int f23524; int f23525; int f23526; int f23527; int f23528; int f23529; int f23530; int f23531; int f23532; int f23533; int f23534; int f23535; int f23536; int f23537; int f23538; int f23539; int f23540; int f23541; int f23542; int f23543; int f23544; int f23545; int f23546; int f23547; int f23548; int f23549; int f23550; int f23551; int f23552; int f23553; int f23554; int f23555; int f23556; int f23557; int f23558; int f23559; int f23560; int f23561; int f23562; int f23563; int f23564; int f23565; int f23566; int f23567; int f23568; int f23569; int f23570; int f23571; int f23572; int f23573; int f23574; int f23575; int f23576; int f23577; int f23578; int f23579; int f23580; int f23581; int f23582; int f23583; int f23584; int f23585; int f23586; int f23587; int f23588; int f23589; int f23590; int f23591; int f23592; int f23593; int f23594; int f23595; int f23596; int f23597; int f23598; int f23599;
+    int f23600; int f23601; int f23602; int f23603; int f23604; int f23605; int f23606; int f23607; int f23608; int f23609; int f23610; int f23611; int f23612; int f23613; int f23614; int f23615; int f23616; int f23617; int f23618; int f23619; int f23620; int f23621; int f23622; int f23623; int f23624; int f23625; int f23626; int f23627; int f23628; int f23629; int f23630; int f23631; int f23632; int f23633; int f23634; int f23635; int f23636; int f23637; int f23638; int f23639; int f23640; int f23641; int f23642; int f23643; int f23644; int f23645; int f23646; int f23647; int f23648; int f23649; int f23650; int f23651; int f23652; int f23653; int f23654; int f23655; int f23656; int f23657; int f23658; int f23659; int f23660; int f23661; int f23662; int f23663; int f23664; int f23665; int f23666; int f23667; int f23668; int f23669; int f23670; int f23671; int f23672; int f23673; int f23674; int f23675; int f23676; int f23677; int f23678; int f23679; int f23680; int f23681; int f23682; int f23683; int f23684; int f23685; int f23686; int f23687; int f23688; int f23689; int f23690; int f23691; int f23692; int f23693; int f23694; int f23695; int f23696; int f23697; int f23698; int f23699;
+    int f23700; int f23701; int f23702; int f23703; int f23704; int f23705; int f23706; int f23707; int f23708; int f23709; int f23710; int f23711; int f23712; int f23713; int f23714; int f23715; int f23716; int f23717; int f23718; int f23719; int f23720; int f23721; int f23722; int f23723; int f23724; int f23725; int f23726; int f23727; int f23728; int f23729; int f23730; int f23731; int f23732; int f23733; int f23734; int f23735; int f23736; int f23737; int f23738; int f23739; int f23740; int f23741; int f23742; int f23743; int f23744; int f23745; int f23746; int f23747; int f23748; int f23749; int f23750; int f23751; int f23752; int f23753; int f23754; int f23755; int f23756; int f23757; int f23758; int f23759; int f23760; int f23761; int f23762; int f23763; int f23764; int f23765; int f23766; int f23767; int f23768; int f23769; int f23770; int f23771; int f23772; int f23773; int f23774; int f23775; int f23776; int f23777; int f23778; int f23779; int f23780; int f23781; int f23782; int f23783; int f23784; int f23785; int f23786; int f23787; int f23788; int f23789; int f23790; int f23791; int f23792; int f23793; int f23794; int f23795; int f23796; int f23797; int f23798; int f23799;
+    int f23800; int f23801; int f23802; int f23803; int f23804; int f23805; int f23806; int f23807; int f23808; int f23809; int f23810; int f23811; int f23812; int f23813; int f23814; int f23815; int f23816; int f23817; int f23818; int f23819; int f23820; int f23821; int f23822; int f23823; int f23824; int f23825; int f23826; int f23827; int f23828; int f23829; int f23830; int f23831; int f23832; int f23833; int f23834; int f23835; int f23836; int f23837; int f23838; int f23839; int f23840; int f23841; int f23842; int f23843; int f23844; int f23845; int f23846; int f23847; int f23848; int f23849; int f23850; int f23851; int f23852; int f23853; int f23854; int f23855; int f23856; int f23857; int f23858; int f23859; int f23860; int f23861; int f23862; int f23863; int f23864; int f23865; int f23866; int f23867; int f23868; int f23869; int f23870; int f23871; int f23872; int f23873; int f23874; int f23875; int f23876; int f23877; int f23878; int f23879; int f23880; int f23881; int f23882; int f23883; int f23884; int f23885; int f23886; int f23887; int f23888; int f23889; int f23890; int f23891; int f23892; int f23893; int f23894; int f23895; int f23896; int f23897; int f23898; int f23899;
+    int f23900; int f23901; int f23902; int f23903; int f23904; int f23905; int f23906; int f23907; int f23908; int f23909; int f23910; int f23911; int f23912; int f23913; int f23914; int f23915; int f23916; int f23917; int f23918; int f23919; int f23920; int f23921; int f23922; int f23923; int f23924; int f23925; int f23926; int f23927; int f23928; int f23929; int f23930; int f23931; int f23932; int f23933; int f23934; int f23935; int f23936; int f23937; int f23938; int f23939; int f23940; int f23941; int f23942; int f23943; int f23944; int f23945; int f23946; int f23947; int f23948; int f23949; int f23950; int f23951; int f23952; int f23953; int f23954; int f23955; int f23956; int f23957; int f23958; int f23959; int f23960; int f23961; int f23962; int f23963; int f23964; int f23965; int f23966; int f23967; int f23968; int f23969; int f23970; int f23971; int f23972; int f23973; int f23974; int f23975; int f23976; int f23977; int f23978; int f23979; int f23980; int f23981; int f23982; int f23983; int f23984; int f23985; int f23986; int f23987; int f23988; int f23989; int f23990; int f23991; int f23992; int f23993; int f23994; int f23995; int f23996; int f23997; int f23998; int f23999;
+    int f24000; int f24001; int f24002; int f24003; int f24004; int f24005; int f24006; int f24007; int f24008; int f24009; int f24010; int f24011; int f24012; int f24013; int f24014; int f24015; int f24016; int f24017; int f24018; int f24019; int f24020; int f24021; int f24022; int f24023; int f24024; int f24025; int f24026; int f24027; int f24028; int f24029; int f24030; int f24031; int f24032; int f24033; int f24034; int f24035; int f24036; int f24037; int f24038; int f24039; int f24040; int f24041; int f24042; int f24043; int f24044; int f24045; int f24046; int f24047; int f24048; int f24049; int f24050; int f24051; int f24052; int f24053; int f24054; int f24055; int f24056; int f24057; int f24058; int f24059; int f24060; int f24061; int f24062; int f24063; int f24064; int f24065; int f24066; int f24067; int f24068; int f24069; int f24070; int f24071; int f24072; int f24073; int f24074; int f24075; int f24076; int f24077; int f24078; int f24079; int f24080; int f24081; int f24082; int f24083; int f24084; int f24085; int f24086; int f24087; int f24088; int f24089; int f24090; int f24091; int f24092; int f24093; int f24094; int f24095; int f24096; int f24097; int f24098; int f24099;
+    int f24100; int f24101; int f24102; int f24103; int f24104; int f24105; int f24106; int f24107; int f24108; int f24109; int f24110; int f24111; int f24112; int f24113; int f24114; int f24115; int f24116; int f24117; int f24118; int f24119; int f24120; int f24121; int f24122; int f24123; int f24124; int f24125; int f24126; int f24127; int f24128; int f24129; int f24130; int f24131; int f24132; int f24133; int f24134; int f24135; int f24136; int f24137; int f24138; int f24139; int f24140; int f24141; int f24142; int f24143; int f24144; int f24145; int f24146; int f24147; int f24148; int f24149; int f24150; int f24151; int f24152; int f24153; int f24154; int f24155; int f24156; int f24157; int f24158; int f24159; int f24160; int f24161; int f24162; int f24163; int f24164; int f24165; int f24166; int f24167; int f24168; int f24169; int f24170; int f24171; int f24172; int f24173; int f24174; int f24175; int f24176; int f24177; int f24178; int f24179; int f24180; int f24181; int f24182; int f24183; int f24184; int f24185; int f24186; int f24187; int f24188; int f24189; int f24190; int f24191; int f24192; int f24193; int f24194; int f24195; int f24196; int f24197; int f24198; int f24199;
+    int f24200; int f24201; int f24202; int f24203; int f24204; int f24205; int f24206; int f24207; int f24208; int f24209; int f24210; int f24211; int f24212; int f24213; int f24214; int f24215; int f24216; int f24217; int f24218; int f24219; int f24220; int f24221; int f24222; int f24223; int f24224; int f24225; int f24226; int f24227; int f24228; int f24229; int f24230; int f24231; int f24232; int f24233; int f24234; int f24235; int f24236; int f24237; int f24238; int f24239; int f24240; int f24241; int f24242; int f24243; int f24244; int f24245; int f24246; int f24247; int f24248; int f24249; int f24250; int f24251; int f24252; int f24253; int f24254; int f24255; int f24256; int f24257; int f24258; int f24259; int f24260; int f24261; int f24262; int f24263; int f24264; int f24265; int f24266; int f24267; int f24268; int f24269; int f24270; int f24271; int f24272; int f24273; int f24274; int f24275; int f24276; int f24277; int f24278; int f24279; int f24280; int f24281; int f24282; int f24283; int f24284; int f24285; int f24286; int f24287; int f24288; int f24289; int f24290; int f24291; int f24292; int f24293; int f24294; int f24295; int f24296; int f24297; int f24298; int f24299;
+    int f24300; int f24301; int f24302; int f24303; int f24304; int f24305; int f24306; int f24307; int f24308; int f24309; int f24310; int f24311; int f24312; int f24313; int f24314; int f24315; int f24316; int f24317; int f24318; int f24319; int f24320; int f24321; int f24322; int f24323; int f24324; int f24325; int f24326; int f24327; int f24328; int f24329; int f24330; int f24331; int f24332; int f24333; int f24334; int f24335; int f24336; int f24337; int f24338; int f24339; int f24340; int f24341; int f24342; int f24343; int f24344; int f24345; int f24346; int f24347; int f24348; int f24349; int f24350; int f24351; int f24352; int f24353; int f24354; int f24355; int f24356; int f24357; int f24358; int f24359; int f24360; int f24361; int f24362; int f24363; int f24364; int f24365; int f24366; int f24367; int f24368; int f24369; int f24370; int f24371; int f24372; int f24373; int f24374; int f24375; int f24376; int f24377; int f24378; int f24379; int f24380; int f24381; int f24382; int f24383; int f24384; int f24385; int f24386; int f24387; int f24388; int f24389; int f24390; int f24391; int f24392; int f24393; int f24394; int f24395; int f24396; int f24397; int f24398; int f24399;
+    int f24400; int f24401; int f24402; int f24403; int f24404; int f24405; int f24406; int f24407; int f24408; int f24409; int f24410; int f24411; int f24412; int f24413; int f24414; int f24415; int f24416; int f24417; int f24418; int f24419; int f24420; int f24421; int f24422; int f24423; int f24424; int f24425; int f24426; int f24427; int f24428; int f24429; int f24430; int f24431; int f24432; int f24433; int f24434; int f24435; int f24436; int f24437; int f24438; int f24439; int f24440; int f24441; int f24442; int f24443; int f24444; int f24445; int f24446; int f24447; int f24448; int f24449; int f24450; int f24451; int f24452; int f24453; int f24454; int f24455; int f24456; int f24457; int f24458; int f24459; int f24460; int f24461; int f24462; int f24463; int f24464; int f24465; int f24466; int f24467; int f24468; int f24469; int f24470; int f24471; int f24472; int f24473; int f24474; int f24475; int f24476; int f24477; int f24478; int f24479; int f24480; int f24481; int f24482; int f24483; int f24484; int f24485; int f24486; int f24487; int f24488; int f24489; int f24490; int f24491; int f24492; int f24493; int f24494; int f24495; int f24496; int f24497; int f24498; int f24499;
+    int f24500; int f24501; int f24502; int f24503; int f24504; int f24505; int f24506; int f24507; int f24508; int f24509; int f24510; int f24511; int f24512; int f24513; int f24514; int f24515; int f24516; int f24517; int f24518; int f24519; int f24520; int f24521; int f24522; int f24523; int f24524; int f24525; int f24526; int f24527; int f24528; int f24529; int f24530; int f24531; int f24532; int f24533; int f24534; int f24535; int f24536; int f24537; int f24538; int f24539; int f24540; int f24541; int f24542; int f24543; int f24544; int f24545; int f24546; int f24547; int f24548; int f24549; int f24550; int f24551; int f24552; int f24553; int f24554; int f24555; int f24556; int f24557; int f24558; int f24559; int f24560; int f24561; int f24562; int f24563; int f24564; int f24565; int f24566; int f24567; int f24568; int f24569; int f24570; int f24571; int f24572; int f24573; int f24574; int f24575; int f24576; int f24577; int f24578; int f24579; int f24580; int f24581; int f24582; int f24583; int f24584; int f24585; int f24586; int f24587; int f24588; int f24589; int f24590; int f24591; int f24592; int f24593; int f24594; int f24595; int f24596; int f24597; int f24598; int f24599;
+    int f24600; int f24601; int f24602; int f24603; int f24604; int f24605; int f24606; int f24607; int f24608; int f24609; int f24610; int f24611; int f24612; int f24613; int f24614; int f24615; int f24616; int f24617; int f24618; int f24619; int f24620; int f24621; int f24622; int f24623; int f24624; int f24625; int f24626; int f24627; int f24628; int f24629; int f24630; int f24631; int f24632; int f24633; int f24634; int f24635; int f24636; int f24637; int f24638; int f24639; int f24640; int f24641; int f24642; int f24643; int f24644; int f24645; int f24646; int f24647; int f24648; int f24649; int f24650; int f24651; int f24652; int f24653; int f24654; int f24655; int f24656; int f24657; int f24658; int f24659; int f24660; int f24661; int f24662; int f24663; int f24664; int f24665; int f24666; int f24667; int f24668; int f24669; int f24670; int f24671; int f24672; int f24673; int f24674; int f24675; int f24676; int f24677; int f24678; int f24679; int f24680; int f24681; int f24682; int f24683; int f24684; int f24685; int f24686; int f24687; int f24688; int f24689; int f24690; int f24691; int f24692; int f24693; int f24694; int f24695; int f24696; int f24697; int f24698; int f24699;
+    int f24700; int f24701; int f24702; int f24703; int f24704; int f24705; int f24706; int f24707; int f24708; int f24709; int f24710; int f24711; int f24712; int f24713; int f24714; int f24715; int f24716; int f24717; int f24718; int f24719; int f24720; int f24721; int f24722; int f24723; int f24724; int f24725; int f24726; int f24727; int f24728; int f24729; int f24730; int f24731; int f24732; int f24733; int f24734; int f24735; int f24736; int f24737; int f24738; int f24739; int f24740; int f24741; int f24742; int f24743; int f24744; int f24745; int f24746; int f24747; int f24748; int f24749; int f24750; int f24751; int f24752; int f24753; int f24754; int f24755; int f24756; int f24757; int f24758; int f24759; int f24760; int f24761; int f24762; int f24763; int f24764; int f24765; int f24766; int f24767; int f24768; int f24769; int f24770; int f24771; int f24772; int f24773; int f24774; int f24775; int f24776; int f24777; int f24778; int f24779; int f24780; int f24781; int f24782; int f24783; int f24784; int f24785; int f24786; int f24787; int f24788; int f24789; int f24790; int f24791; int f24792; int f24793; int f24794; int f24795; int f24796; int f24797; int f24798; int f24799;
+    int f24800; int f24801; int f24802; int f24803; int f24804; int f24805; int f24806; int f24807; int f24808; int f24809; int f24810; int f24811; int f24812; int f24813; int f24814; int f24815; int f24816; int f24817; int f24818; int f24819; int f24820; int f24821; int f24822; int f24823; int f24824; int f24825; int f24826; int f24827; int f24828; int f24829; int f24830; int f24831; int f24832; int f24833; int f24834; int f24835; int f24836; int f24837; int f24838; int f24839; int f24840; int f24841; int f24842; int f24843; int f24844; int f24845; int f24846; int f24847; int f24848; int f24849; int f24850; int f24851; int f24852; int f24853; int f24854; int f24855; int f24856; int f24857; int f24858; int f24859; int f24860; int f24861; int f24862; int f24863; int f24864; int f24865; int f24866; int f24867; int f24868; int f24869; int f24870; int f24871; int f24872; int f24873; int f24874; int f24875; int f24876; int f24877; int f24878; int f24879; int f24880; int f24881; int f24882; int f24883; int f24884; int f24885; int f24886; int f24887; int f24888; int f24889; int f24890; int f24891; int f24892; int f24893; int f24894; int f24895; int f24896; int f24897; int f24898; int f24899;
+    int f24900; int f24901; int f24902; int f24903; int f24904; int f24905; int f24906; int f24907; int f24908; int f24909; int f24910; int f24911; int f24912; int f24913; int f24914; int f24915; int f24916; int f24917; int f24918; int f24919; int f24920; int f24921; int f24922; int f24923; int f24924; int f24925; int f24926; int f24927; int f24928; int f24929; int f24930; int f24931; int f24932; int f24933; int f24934; int f24935; int f24936; int f24937; int f24938; int f24939; int f24940; int f24941; int f24942; int f24943; int f24944; int f24945; int f24946; int f24947; int f24948; int f24949; int f24950; int f24951; int f24952; int f24953; int f24954; int f24955; int f24956; int f24957; int f24958; int f24959; int f24960; int f24961; int f24962; int f24963; int f24964; int f24965; int f24966; int f24967; int f24968; int f24969; int f24970; int f24971; int f24972; int f24973; int f24974; int f24975; int f24976; int f24977; int f24978; int f24979; int f24980; int f24981; int f24982; int f24983; int f24984; int f24985; int f24986; int f24987; int f24988; int f24989; int f24990; int f24991; int f24992; int f24993; int f24994; int f24995; int f24996; int f24997; int f24998; int f24999;
+    int f25000; int f25001; int f25002; int f25003; int f25004; int f25005; int f25006; int f25007; int f25008; int f25009; int f25010; int f25011; int f25012; int f25013; int f25014; int f25015; int f25016; int f25017; int f25018; int f25019; int f25020; int f25021; int f25022; int f25023; int f25024; int f25025; int f25026; int f25027; int f25028; int f25029; int f25030; int f25031; int f25032; int f25033; int f25034; int f25035; int f25036; int f25037; int f25038; int f25039; int f25040; int f25041; int f25042; int f25043; int f25044; int f25045; int f25046; int f25047; int f25048; int f25049; int f25050; int f25051; int f25052; int f25053; int f25054; int f25055; int f25056; int f25057; int f25058; int f25059; int f25060; int f25061; int f25062; int f25063; int f25064; int f25065; int f25066; int f25067; int f25068; int f25069; int f25070; int f25071; int f25072; int f25073; int f25074; int f25075; int f25076; int f25077; int f25078; int f25079; int f25080; int f25081; int f25082; int f25083; int f25084; int f25085; int f25086; int f25087; int f25088; int f25089; int f25090; int f25091; int f25092; int f25093; int f25094; int f25095; int f25096; int f25097; int f25098; int f25099;
+    int f25100; int f25101; int f25102; int f25103; int f25104; int f25105; int f25106; int f25107; int f25108; int f25109; int f25110; int f25111; int f25112; int f25113; int f25114; int f25115; int f25116; int f25117; int f25118; int f25119; int f25120; int f25121; int f25122; int f25123; int f25124; int f25125; int f25126; int f25127; int f25128; int f25129; int f25130; int f25131; int f25132; int f25133; int f25134; int f25135; int f25136; int f25137; int f25138; int f25139; int f25140; int f25141; int f25142; int f25143; int f25144; int f25145; int f25146; int f25147; int f25148; int f25149; int f25150; int f25151; int f25152; int f25153; int f25154; int f25155; int f25156; int f25157; int f25158; int f25159; int f25160; int f25161; int f25162; int f25163; int f25164; int f25165; int f25166; int f25167; int f25168; int f25169; int f25170; int f25171; int f25172; int f25173; int f25174; int f25175; int f25176; int f25177; int f25178; int f25179; int f25180; int f25181; int f25182; int f25183; int f25184; int f25185; int f25186; int f25187; int f25188; int f25189; int f25190; int f25191; int f25192; int f25193; int f25194; int f25195; int f25196; int f25197; int f25198; int f25199;
+    int f25200; int f25201; int f25202; int f25203; int f25204; int f25205; int f25206; int f25207; int f25208; int f25209; int f25210; int f25211; int f25212; int f25213; int f25214; int f25215; int f25216; int f25217; int f25218; int f25219; int f25220; int f25221; int f25222; int f25223; int f25224; int f25225; int f25226; int f25227; int f25228; int f25229; int f25230; int f25231; int f25232; int f25233; int f25234; int f25235; int f25236; int f25237; int f25238; int f25239; int f25240; int f25241; int f25242; int f25243; int f25244; int f25245; int f25246; int f25247; int f25248; int f25249; int f25250; int f25251; int f25252; int f25253; int f25254; int f25255; int f25256; int f25257; int f25258; int f25259; int f25260; int f25261; int f25262; int f25263; int f25264; int f25265; int f25266; int f25267; int f25268; int f25269; int f25270; int f25271; int f25272; int f25273; int f25274; int f25275; int f25276; int f25277; int f25278; int f25279; int f25280; int f25281; int f25282; int f25283; int f25284; int f25285; int f25286; int f25287; int f25288; int f25289; int f25290; int f25291; int f25292; int f25293; int f25294; int f25295; int f25296; int f25297; int f25298; int f25299;
+    int f25300; int f25301; int f25302; int f25303; int f25304; int f25305; int f25306; int f25307; int f25308; int f25309; int f25310; int f25311; int f25312; int f25313; int f25314; int f25315; int f25316; int f25317; int f25318; int f25319; int f25320; int f25321; int f25322; int f25323; int f25324; int f25325; int f25326; int f25327; int f25328; int f25329; int f25330; int f25331; int f25332; int f25333; int f25334; int f25335; int f25336; int f25337; int f25338; int f25339; int f25340; int f25341; int f25342; int f25343; int f25344; int f25345; int f25346; int f25347; int f25348; int f25349; int f25350; int f25351; int f25352; int f25353; int f25354; int f25355; int f25356; int f25357; int f25358; int f25359; int f25360; int f25361; int f25362; int f25363; int f25364; int f25365; int f25366; int f25367; int f25368; int f25369; int f25370; int f25371; int f25372; int f25373; int f25374; int f25375; int f25376; int f25377; int f25378; int f25379; int f25380; int f25381; int f25382; int f25383; int f25384; int f25385; int f25386; int f25387; int f25388; int f25389; int f25390; int f25391; int f25392; int f25393; int f25394; int f25395; int f25396; int f25397; int f25398; int f25399;
+    int f25400; int f25401; int f25402; int f25403; int f25404; int f25405; int f25406; int f25407; int f25408; int f25409; int f25410; int f25411; int f25412; int f25413; int f25414; int f25415; int f25416; int f25417; int f25418; int f25419; int f25420; int f25421; int f25422; int f25423; int f25424; int f25425; int f25426; int f25427; int f25428; int f25429; int f25430; int f25431; int f25432; int f25433; int f25434; int f25435; int f25436; int f25437; int f25438; int f25439; int f25440; int f25441; int f25442; int f25443; int f25444; int f25445; int f25446; int f25447; int f25448; int f25449; int f25450; int f25451; int f25452; int f25453; int f25454; int f25455; int f25456; int f25457; int f25458; int f25459; int f25460; int f25461; int f25462; int f25463; int f25464; int f25465; int f25466; int f25467; int f25468; int f25469; int f25470; int f25471; int f25472; int f25473; int f25474; int f25475; int f25476; int f25477; int f25478; int f25479; int f25480; int f25481; int f25482; int f25483; int f25484; int f25485; int f25486; int f25487; int f25488; int f25489; int f25490; int f25491; int f25492; int f25493; int f25494; int f25495; int f25496; int f25497; int f25498; int f25499;
+    int f25500; int f25501; int f25502; int f25503; int f25504; int f25505; int f25506; int f25507; int f25508; int f25509; int f25510; int f25511; int f25512; int f25513; int f25514; int f25515; int f25516; int f25517; int f25518; int f25519; int f25520; int f25521; int f25522; int f25523; int f25524; int f25525; int f25526; int f25527; int f25528; int f25529; int f25530; int f25531; int f25532; int f25533; int f25534; int f25535; int f25536; int f25537; int f25538; int f25539; int f25540; int f25541; int f25542; int f25543; int f25544; int f25545; int f25546; int f25547; int f25548; int f25549; int f25550; int f25551; int f25552; int f25553; int f25554; int f25555; int f25556; int f25557; int f25558; int f25559; int f25560; int f25561; int f25562; int f25563; int f25564; int f25565; int f25566; int f25567; int f25568; int f25569; int f25570; int f25571; int f25572; int f25573; int f25574; int f25575; int f25576; int f25577; int f25578; int f25579; int f25580; int f25581; int f25582; int f25583; int f25584; int f25585; int f25586; int f25587; int f25588; int f25589; int f25590; int f25591; int f25592; int f25593; int f25594; int f25595; int f25596; int f25597; int f25598; int f25599;
+    int f25600; int f25601; int f25602; int f25603; int f25604; int f25605; int f25606; int f25607; int f25608; int f25609; int f25610; int f25611; int f25612; int f25613; int f25614; int f25615; int f25616; int f25617; int f25618; int f25619; int f25620; int f25621; int f25622; int f25623; int f25624; int f25625; int f25626; int f25627; int f25628; int f25629; int f25630; int f25631; int f25632; int f25633; int f25634; int f25635; int f25636; int f25637; int f25638; int f25639; int f25640; int f25641; int f25642; int f25643; int f25644; int f25645; int f25646; int f25647; int f25648; int f25649; int f25650; int f25651; int f25652; int f25653; int f25654; int f25655; int f25656; int f25657; int f25658; int f25659; int f25660; int f25661; int f25662; int f25663; int f25664; int f25665; int f25666; int f25667; int f25668; int f25669; int f25670; int f25671; int f25672; int f25673; int f25674; int f25675; int f25676; int f25677; int f25678; int f25679; int f25680; int f25681; int f25682; int f25683; int f25684; int f25685; int f25686; int f25687; int f25688; int f25689; int f25690; int f25691; int f25692; int f25693; int f25694; int f25695; int f25696; int f25697; int f25698; int f25699;
+    int f25700; int f25701; int f25702; int f25703; int f25704; int f25705; int f25706; int f25707; int f25708; int f25709; int f25710; int f25711; int f25712; int f25713; int f25714; int f25715; int f25716; int f25717; int f25718; int f25719; int f25720; int f25721; int f25722; int f25723; int f25724; int f25725; int f25726; int f25727; int f25728; int f25729; int f25730; int f25731; int f25732; int f25733; int f25734; int f25735; int f25736; int f25737; int f25738; int f25739; int f25740; int f25741; int f25742; int f25743; int f25744; int f25745; int f25746; int f25747; int f25748; int f25749; int f25750; int f25751; int f25752; int f25753; int f25754; int f25755; int f25756; int f25757; int f25758; int f25759; int f25760; int f25761; int f25762; int f25763; int f25764; int f25765; int f25766; int f25767; int f25768; int f25769; int f25770; int f25771; int f25772; int f25773; int f25774; int f25775; int f25776; int f25777; int f25778; int f25779; int f25780; int f25781; int f25782; int f25783; int f25784; int f25785; int f25786; int f25787; int f25788; int f25789; int f25790; int f25791; int f25792; int f25793; int f25794; int f25795; int f25796; int f25797; int f25798; int f25799;
+    int f25800; int f25801; int f25802; int f25803; int f25804; int f25805; int f25806; int f25807; int f25808; int f25809; int f25810; int f25811; int f25812; int f25813; int f25814; int f25815; int f25816; int f25817; int f25818; int f25819; int f25820; int f25821; int f25822; int f25823; int f25824; int f25825; int f25826; int f25827; int f25828; int f25829; int f25830; int f25831; int f25832; int f25833; int f25834; int f25835; int f25836; int f25837; int f25838; int f25839; int f25840; int f25841; int f25842; int f25843; int f25844; int f25845; int f25846; int f25847; int f25848; int f25849; int f25850; int f25851; int f25852; int f25853; int f25854; int f25855; int f25856; int f25857; int f25858; int f25859; int f25860; int f25861; int f25862; int f25863; int f25864; int f25865; int f25866; int f25867; int f25868; int f25869; int f25870; int f25871; int f25872; int f25873; int f25874; int f25875; int f25876; int f25877; int f25878; int f25879; int f25880; int f25881; int f25882; int f25883; int f25884; int f25885; int f25886; int f25887; int f25888; int f25889; int f25890; int f25891; int f25892; int f25893; int f25894; int f25895; int f25896; int f25897; int f25898; int f25899;
+    int f25900; int f25901; int f25902; int f25903; int f25904; int f25905; int f25906; int f25907; int f25908; int f25909; int f25910; int f25911; int f25912; int f25913; int f25914; int f25915; int f25916; int f25917; int f25918; int f25919; int f25920; int f25921; int f25922; int f25923; int f25924; int f25925; int f25926; int f25927; int f25928; int f25929; int f25930; int f25931; int f25932; int f25933; int f25934; int f25935; int f25936; int f25937; int f25938; int f25939; int f25940; int f25941; int f25942; int f25943; int f25944; int f25945; int f25946; int f25947; int f25948; int f25949; int f25950; int f25951; int f25952; int f25953; int f25954; int f25955; int f25956; int f25957; int f25958; int f25959; int f25960; int f25961; int f25962; int f25963; int f25964; int f25965; int f25966; int f25967; int f25968; int f25969; int f25970; int f25971; int f25972; int f25973; int f25974; int f25975; int f25976; int f25977; int f25978; int f25979; int f25980; int f25981; int f25982; int f25983; int f25984; int f25985; int f25986; int f25987; int f25988; int f25989; int f25990; int f25991; int f25992; int f25993; int f25994; int f25995; int f25996; int f25997; int f25998; int f25999;
+    int f26000; int f26001; int f26002; int f26003; int f26004; int f26005; int f26006; int f26007; int f26008; int f26009; int f26010; int f26011; int f26012; int f26013; int f26014; int f26015; int f26016; int f26017; int f26018; int f26019; int f26020; int f26021; int f26022; int f26023; int f26024; int f26025; int f26026; int f26027; int f26028; int f26029; int f26030; int f26031; int f26032; int f26033; int f26034; int f26035; int f26036; int f26037; int f26038; int f26039; int f26040; int f26041; int f26042; int f26043; int f26044; int f26045; int f26046; int f26047; int f26048; int f26049; int f26050; int f26051; int f26052; int f26053; int f26054; int f26055; int f26056; int f26057; int f26058; int f26059; int f26060; int f26061; int f26062; int f26063; int f26064; int f26065; int f26066; int f26067; int f26068; int f26069; int f26070; int f26071; int f26072; int f26073; int f26074; int f26075; int f26076; int f26077; int f26078; int f26079; int f26080; int f26081; int f26082; int f26083; int f26084; int f26085; int f26086; int f26087; int f26088; int f26089; int f26090; int f26091; int f26092; int f26093; int f26094; int f26095; int f26096; int f26097; int f26098; int f26099;
+    int f26100; int f26101; int f26102; int f26103; int f26104; int f26105; int f26106; int f26107; int f26108; int f26109; int f26110; int f26111; int f26112; int f26113; int f26114; int f26115; int f26116; int f26117; int f26118; int f26119; int f26120; int f26121; int f26122; int f26123; int f26124; int f26125; int f26126; int f26127; int f26128; int f26129; int f26130; int f26131; int f26132; int f26133; int f26134; int f26135; int f26136; int f26137; int f26138; int f26139; int f26140; int f26141; int f26142; int f26143; int f26144; int f26145; int f26146; int f26147; int f26148; int f26149; int f26150; int f26151; int f26152; int f26153; int f26154; int f26155; int f26156; int f26157; int f26158; int f26159; int f26160; int f26161; int f26162; int f26163; int f26164; int f26165; int f26166; int f26167; int f26168; int f26169; int f26170; int f26171; int f26172; int f26173; int f26174; int f26175; int f26176; int f26177; int f26178; int f26179; int f26180; int f26181; int f26182; int f26183; int f26184; int f26185; int f26186; int f26187; int f26188; int f26189; int f26190; int f26191; int f26192; int f26193; int f26194; int f26195; int f26196; int f26197; int f26198; int f26199;
+    int f26200; int f26201; int f26202; int f26203; int f26204; int f26205; int f26206; int f26207; int f26208; int f26209; int f26210; int f26211; int f26212; int f26213; int f26214; int f26215; int f26216; int f26217; int f26218; int f26219; int f26220; int f26221; int f26222; int f26223; int f26224; int f26225; int f26226; int f26227; int f26228; int f26229; int f26230; int f26231; int f26232; int f26233; int f26234; int f26235; int f26236; int f26237; int f26238; int f26239; int f26240; int f26241; int f26242; int f26243; int f26244; int f26245; int f26246; int f26247; int f26248; int f26249; int f26250; int f26251; int f26252; int f26253; int f26254; int f26255; int f26256; int f26257; int f26258; int f26259; int f26260; int f26261; int f26262; int f26263; int f26264; int f26265; int f26266; int f26267; int f26268; int f26269; int f26270; int f26271; int f26272; int f26273; int f26274; int f26275; int f26276; int f26277; int f26278; int f26279; int f26280; int f26281; int f26282; int f26283; int f26284; int f26285; int f26286; int f26287; int f26288; int f26289; int f26290; int f26291; int f26292; int f26293; int f26294; int f26295; int f26296; int f26297; int f26298; int f26299;
+    int f26300; int f26301; int f26302; int f26303; int f26304; int f26305; int f26306; int f26307; int f26308; int f26309; int f26310; int f26311; int f26312; int f26313; int f26314; int f26315; int f26316; int f26317; int f26318; int f26319; int f26320; int f26321; int f26322; int f26323; int f26324; int f26325; int f26326; int f26327; int f26328; int f26329; int f26330; int f26331; int f26332; int f26333; int f26334; int f26335; int f26336; int f26337; int f26338; int f26339; int f26340; int f26341; int f26342; int f26343; int f26344; int f26345; int f26346; int f26347; int f26348; int f26349; int f26350; int f26351; int f26352; int f26353; int f26354; int f26355; int f26356; int f26357; int f26358; int f26359; int f26360; int f26361; int f26362; int f26363; int f26364; int f26365; int f26366; int f26367; int f26368; int f26369; int f26370; int f26371; int f26372; int f26373; int f26374; int f26375; int f26376; int f26377; int f26378; int f26379; int f26380; int f26381; int f26382; int f26383; int f26384; int f26385; int f26386; int f26387; int f26388; int f26389; int f26390; int f26391; int f26392; int f26393; int f26394; int f26395; int f26396; int f26397; int f26398; int f26399;
+    int f26400; int f26401; int f26402; int f26403; int f26404; int f26405; int f26406; int f26407; int f26408; int f26409; int f26410; int f26411; int f26412; int f26413; int f26414; int f26415; int f26416; int f26417; int f26418; int f26419; int f26420; int f26421; int f26422; int f26423; int f26424; int f26425; int f26426; int f26427; int f26428; int f26429; int f26430; int f26431; int f26432; int f26433; int f26434; int f26435; int f26436; int f26437; int f26438; int f26439; int f26440; int f26441; int f26442; int f26443; int f26444; int f26445; int f26446; int f26447; int f26448; int f26449; int f26450; int f26451; int f26452; int f26453; int f26454; int f26455; int f26456; int f26457; int f26458; int f26459; int f26460; int f26461; int f26462; int f26463; int f26464; int f26465; int f26466; int f26467; int f26468; int f26469; int f26470; int f26471; int f26472; int f26473; int f26474; int f26475; int f26476; int f26477; int f26478; int f26479; int f26480; int f26481; int f26482; int f26483; int f26484; int f26485; int f26486; int f26487; int f26488; int f26489; int f26490; int f26491; int f26492; int f26493; int f26494; int f26495; int f26496; int f26497; int f26498; int f26499;
+    int f26500; int f26501; int f26502; int f26503; int f26504; int f26505; int f26506; int f26507; int f26508; int f26509; int f26510; int f26511; int f26512; int f26513; int f26514; int f26515; int f26516; int f26517; int f26518; int f26519; int f26520; int f26521; int f26522; int f26523; int f26524; int f26525; int f26526; int f26527; int f26528; int f26529; int f26530; int f26531; int f26532; int f26533; int f26534; int f26535; int f26536; int f26537; int f26538; int f26539; int f26540; int f26541; int f26542; int f26543; int f26544; int f26545; int f26546; int f26547; int f26548; int f26549; int f26550; int f26551; int f26552; int f26553; int f26554; int f26555; int f26556; int f26557; int f26558; int f26559; int f26560; int f26561; int f26562; int f26563; int f26564; int f26565; int f26566; int f26567; int f26568; int f26569; int f26570; int f26571; int f26572; int f26573; int f26574; int f26575; int f26576; int f26577; int f26578; int f26579; int f26580; int f26581; int f26582; int f26583; int f26584; int f26585; int f26586; int f26587; int f26588; int f26589; int f26590; int f26591; int f26592; int f26593; int f26594; int f26595; int f26596; int f26597; int f26598; int f26599;
+    int f26600; int f26601; int f26602; int f26603; int f26604; int f26605; int f26606; int f26607; int f26608; int f26609; int f26610; int f26611; int f26612; int f26613; int f26614; int f26615; int f26616; int f26617; int f26618; int f26619; int f26620; int f26621; int f26622; int f26623; int f26624; int f26625; int f26626; int f26627; int f26628; int f26629; int f26630; int f26631; int f26632; int f26633; int f26634; int f26635; int f26636; int f26637; int f26638; int f26639; int f26640; int f26641; int f26642; int f26643; int f26644; int f26645; int f26646; int f26647; int f26648; int f26649; int f26650; int f26651; int f26652; int f26653; int f26654; int f26655; int f26656; int f26657; int f26658; int f26659; int f26660; int f26661; int f26662; int f26663; int f26664; int f26665; int f26666; int f26667; int f26668; int f26669; int f26670; int f26671; int f26672; int f26673; int f26674; int f26675; int f26676; int f26677; int f26678; int f26679; int f26680; int f26681; int f26682; int f26683; int f26684; int f26685; int f26686; int f26687; int f26688; int f26689; int f26690; int f26691; int f26692; int f26693; int f26694; int f26695; int f26696; int f26697; int f26698; int f26699;
+    int f26700; int f26701; int f26702; int f26703; int f26704; int f26705; int f26706; int f26707; int f26708; int f26709; int f26710; int f26711; int f26712; int f26713; int f26714; int f26715; int f26716; int f26717; int f26718; int f26719; int f26720; int f26721; int f26722; int f26723; int f26724; int f26725; int f26726; int f26727; int f26728; int f26729; int f26730; int f26731; int f26732; int f26733; int f26734; int f26735; int f26736; int f26737; int f26738; int f26739; int f26740; int f26741; int f26742; int f26743; int f26744; int f26745; int f26746; int f26747; int f26748; int f26749; int f26750; int f26751; int f26752; int f26753; int f26754; int f26755; int f26756; int f26757; int f26758; int f26759; int f26760; int f26761; int f26762; int f26763; int f26764; int f26765; int f26766; int f26767; int f26768; int f26769; int f26770; int f26771; int f26772; int f26773; int f26774; int f26775; int f26776; int f26777; int f26778; int f26779; int f26780; int f26781; int f26782; int f26783; int f26784; int f26785; int f26786; int f26787; int f26788; int f26789; int f26790; int f26791; int f26792; int f26793; int f26794; int f26795; int f26796; int f26797; int f26798; int f26799;
+    int f26800; int f26801; int f26802; int f26803; int f26804; int f26805; int f26806; int f26807; int f26808; int f26809; int f26810; int f26811; int f26812; int f26813; int f26814; int f26815; int f26816; int f26817; int f26818; int f26819; int f26820; int f26821; int f26822; int f26823; int f26824; int f26825; int f26826; int f26827; int f26828; int f26829; int f26830; int f26831; int f26832; int f26833; int f26834; int f26835; int f26836; int f26837; int f26838; int f26839; int f26840; int f26841; int f26842; int f26843; int f26844; int f26845; int f26846; int f26847; int f26848; int f26849; int f26850; int f26851; int f26852; int f26853; int f26854; int f26855; int f26856; int f26857; int f26858; int f26859; int f26860; int f26861; int f26862; int f26863; int f26864; int f26865; int f26866; int f26867; int f26868; int f26869; int f26870; int f26871; int f26872; int f26873; int f26874; int f26875; int f26876; int f26877; int f26878; int f26879; int f26880; int f26881; int f26882; int f26883; int f26884; int f26885; int f26886; int f26887; int f26888; int f26889; int f26890; int f26891; int f26892; int f26893; int f26894; int f26895; int f26896; int f26897; int f26898; int f26899;
+    int f26900; int f26901; int f26902; int f26903; int f26904; int f26905; int f26906; int f26907; int f26908; int f26909; int f26910; int f26911; int f26912; int f26913; int f26914; int f26915; int f26916; int f26917; int f26918; int f26919; int f26920; int f26921; int f26922; int f26923; int f26924; int f26925; int f26926; int f26927; int f26928; int f26929; int f26930; int f26931; int f26932; int f26933; int f26934; int f26935; int f26936; int f26937; int f26938; int f26939; int f26940; int f26941; int f26942; int f26943; int f26944; int f26945; int f26946; int f26947; int f26948; int f26949; int f26950; int f26951; int f26952; int f26953; int f26954; int f26955; int f26956; int f26957; int f26958; int f26959; int f26960; int f26961; int f26962; int f26963; int f26964; int f26965; int f26966; int f26967; int f26968; int f26969; int f26970; int f26971; int f26972; int f26973; int f26974; int f26975; int f26976; int f26977; int f26978; int f26979; int f26980; int f26981; int f26982; int f26983; int f26984; int f26985; int f26986; int f26987; int f26988; int f26989; int f26990; int f26991; int f26992; int f26993; int f26994; int f26995; int f26996; int f26997; int f26998; int f26999;
+    int f27000; int f27001; int f27002; int f27003; int f27004; int f27005; int f27006; int f27007; int f27008; int f27009; int f27010; int f27011; int f27012; int f27013; int f27014; int f27015; int f27016; int f27017; int f27018; int f27019; int f27020; int f27021; int f27022; int f27023; int f27024; int f27025; int f27026; int f27027; int f27028; int f27029; int f27030; int f27031; int f27032; int f27033; int f27034; int f27035; int f27036; int f27037; int f27038; int f27039; int f27040; int f27041; int f27042; int f27043; int f27044; int f27045; int f27046; int f27047; int f27048; int f27049; int f27050; int f27051; int f27052; int f27053; int f27054; int f27055; int f27056; int f27057; int f27058; int f27059; int f27060; int f27061; int f27062; int f27063; int f27064; int f27065; int f27066; int f27067; int f27068; int f27069; int f27070; int f27071; int f27072; int f27073; int f27074; int f27075; int f27076; int f27077; int f27078; int f27079; int f27080; int f27081; int f27082; int f27083; int f27084; int f27085; int f27086; int f27087; int f27088; int f27089; int f27090; int f27091; int f27092; int f27093; int f27094; int f27095; int f27096; int f27097; int f27098; int f27099;
+    int f27100; int f27101; int f27102; int f27103; int f27104; int f27105; int f27106; int f27107; int f27108; int f27109; int f27110; int f27111; int f27112; int f27113; int f27114; int f27115; int f27116; int f27117; int f27118; int f27119; int f27120; int f27121; int f27122; int f27123; int f27124; int f27125; int f27126; int f27127; int f27128; int f27129; int f27130; int f27131; int f27132; int f27133; int f27134; int f27135; int f27136; int f27137; int f27138; int f27139; int f27140; int f27141; int f27142; int f27143; int f27144; int f27145; int f27146; int f27147; int f27148; int f27149; int f27150; int f27151; int f27152; int f27153; int f27154; int f27155; int f27156; int f27157; int f27158; int f27159; int f27160; int f27161; int f27162; int f27163; int f27164; int f27165; int f27166; int f27167; int f27168; int f27169; int f27170; int f27171; int f27172; int f27173; int f27174; int f27175; int f27176; int f27177; int f27178; int f27179; int f27180; int f27181; int f27182; int f27183; int f27184; int f27185; int f27186; int f27187; int f27188; int f27189; int f27190; int f27191; int f27192; int f27193; int f27194; int f27195; int f27196; int f27197; int f27198; int f27199;
+    int f27200; int f27201; int f27202; int f27203; int f27204; int f27205; int f27206; int f27207; int f27208; int f27209; int f27210; int f27211; int f27212; int f27213; int f27214; int f27215; int f27216; int f27217; int f27218; int f27219; int f27220; int f27221; int f27222; int f27223; int f27224; int f27225; int f27226; int f27227; int f27228; int f27229; int f27230; int f27231; int f27232; int f27233; int f27234; int f27235; int f27236; int f27237; int f27238; int f27239; int f27240; int f27241; int f27242; int f27243; int f27244; int f27245; int f27246; int f27247; int f27248; int f27249; int f27250; int f27251; int f27252; int f27253; int f27254; int f27255; int f27256; int f27257; int f27258; int f27259; int f27260; int f27261; int f27262; int f27263; int f27264; int f27265; int f27266; int f27267; int f27268; int f27269; int f27270; int f27271; int f27272; int f27273; int f27274; int f27275; int f27276; int f27277; int f27278; int f27279; int f27280; int f27281; int f27282; int f27283; int f27284; int f27285; int f27286; int f27287; int f27288; int f27289; int f27290; int f27291; int f27292; int f27293; int f27294; int f27295; int f27296; int f27297; int f27298; int f27299;
+    int f27300; int f27301; int f27302; int f27303; int f27304; int f27305; int f27306; int f27307; int f27308; int f27309; int f27310; int f27311; int f27312; int f27313; int f27314; int f27315; int f27316; int f27317; int f27318; int f27319; int f27320; int f27321; int f27322; int f27323; int f27324; int f27325; int f27326; int f27327; int f27328; int f27329; int f27330; int f27331; int f27332; int f27333; int f27334; int f27335; int f27336; int f27337; int f27338; int f27339; int f27340; int f27341; int f27342; int f27343; int f27344; int f27345; int f27346; int f27347; int f27348; int f27349; int f27350; int f27351; int f27352; int f27353; int f27354; int f27355; int f27356; int f27357; int f27358; int f27359; int f27360; int f27361; int f27362; int f27363; int f27364; int f27365; int f27366; int f27367; int f27368; int f27369; int f27370; int f27371; int f27372; int f27373; int f27374; int f27375; int f27376; int f27377; int f27378; int f27379; int f27380; int f27381; int f27382; int f27383; int f27384; int f27385; int f27386; int f27387; int f27388; int f27389; int f27390; int f27391; int f27392; int f27393; int f27394; int f27395; int f27396; int f27397; int f27398; int f27399;
+    int f27400; int f27401; int f27402; int f27403; int f27404; int f27405; int f27406; int f27407; int f27408; int f27409; int f27410; int f27411; int f27412; int f27413; int f27414; int f27415; int f27416; int f27417; int f27418; int f27419; int f27420; int f27421; int f27422; int f27423; int f27424; int f27425; int f27426; int f27427; int f27428; int f27429; int f27430; int f27431; int f27432; int f27433; int f27434; int f27435; int f27436; int f27437; int f27438; int f27439; int f27440; int f27441; int f27442; int f27443; int f27444; int f27445; int f27446; int f27447; int f27448; int f27449; int f27450; int f27451; int f27452; int f27453; int f27454; int f27455; int f27456; int f27457; int f27458; int f27459; int f27460; int f27461; int f27462; int f27463; int f27464; int f27465; int f27466; int f27467; int f27468; int f27469; int f27470; int f27471; int f27472; int f27473; int f27474; int f27475; int f27476; int f27477; int f27478; int f27479; int f27480; int f27481; int f27482; int f27483; int f27484; int f27485; int f27486; int f27487; int f27488; int f27489; int f27490; int f27491; int f27492; int f27493; int f27494; int f27495; int f27496; int f27497; int f27498; int f27499;
+    int f27500; int f27501; int f27502; int f27503; int f27504; int f27505; int f27506; int f27507; int f27508; int f27509; int f27510; int f27511; int f27512; int f27513; int f27514; int f27515; int f27516; int f27517; int f27518; int f27519; int f27520; int f27521; int f27522; int f27523; int f27524; int f27525; int f27526; int f27527; int f27528; int f27529; int f27530; int f27531; int f27532; int f27533; int f27534; int f27535; int f27536; int f27537; int f27538; int f27539; int f27540; int f27541; int f27542; int f27543; int f27544; int f27545; int f27546; int f27547; int f27548; int f27549; int f27550; int f27551; int f27552; int f27553; int f27554; int f27555; int f27556; int f27557; int f27558; int f27559; int f27560; int f27561; int f27562; int f27563; int f27564; int f27565; int f27566; int f27567; int f27568; int f27569; int f27570; int f27571; int f27572; int f27573; int f27574; int f27575; int f27576; int f27577; int f27578; int f27579; int f27580; int f27581; int f27582; int f27583; int f27584; int f27585; int f27586; int f27587; int f27588; int f27589; int f27590; int f27591; int f27592; int f27593; int f27594; int f27595; int f27596; int f27597; int f27598; int f27599;
+    int f27600; int f27601; int f27602; int f27603; int f27604; int f27605; int f27606; int f27607; int f27608; int f27609; int f27610; int f27611; int f27612; int f27613; int f27614; int f27615; int f27616; int f27617; int f27618; int f27619; int f27620; int f27621; int f27622; int f27623; int f27624; int f27625; int f27626; int f27627; int f27628; int f27629; int f27630; int f27631; int f27632; int f27633; int f27634; int f27635; int f27636; int f27637; int f27638; int f27639; int f27640; int f27641; int f27642; int f27643; int f27644; int f27645; int f27646; int f27647; int f27648; int f27649; int f27650; int f27651; int f27652; int f27653; int f27654; int f27655; int f27656; int f27657; int f27658; int f27659; int f27660; int f27661; int f27662; int f27663; int f27664; int f27665; int f27666; int f27667; int f27668; int f27669; int f27670; int f27671; int f27672; int f27673; int f27674; int f27675; int f27676; int f27677; int f27678; int f27679; int f27680; int f27681; int f27682; int f27683; int f27684; int f27685; int f27686; int f27687; int f27688; int f27689; int f27690; int f27691; int f27692; int f27693; int f27694; int f27695; int f27696; int f27697; int f27698; int f27699;
+    int f27700; int f27701; int f27702; int f27703; int f27704; int f27705; int f27706; int f27707; int f27708; int f27709; int f27710; int f27711; int f27712; int f27713; int f27714; int f27715; int f27716; int f27717; int f27718; int f27719; int f27720; int f27721; int f27722; int f27723; int f27724; int f27725; int f27726; int f27727; int f27728; int f27729; int f27730; int f27731; int f27732; int f27733; int f27734; int f27735; int f27736; int f27737; int f27738; int f27739; int f27740; int f27741; int f27742; int f27743; int f27744; int f27745; int f27746; int f27747; int f27748; int f27749; int f27750; int f27751; int f27752; int f27753; int f27754; int f27755; int f27756; int f27757; int f27758; int f27759; int f27760; int f27761; int f27762; int f27763; int f27764; int f27765; int f27766; int f27767; int f27768; int f27769; int f27770; int f27771; int f27772; int f27773; int f27774; int f27775; int f27776; int f27777; int f27778; int f27779; int f27780; int f27781; int f27782; int f27783; int f27784; int f27785; int f27786; int f27787; int f27788; int f27789; int f27790; int f27791; int f27792; int f27793; int f27794; int f27795; int f27796; int f27797; int f27798; int f27799;
+    int f27800; int f27801; int f27802; int f27803; int f27804; int f27805; int f27806; int f27807; int f27808; int f27809; int f27810; int f27811; int f27812; int f27813; int f27814; int f27815; int f27816; int f27817; int f27818; int f27819; int f27820; int f27821; int f27822; int f27823; int f27824; int f27825; int f27826; int f27827; int f27828; int f27829; int f27830; int f27831; int f27832; int f27833; int f27834; int f27835; int f27836; int f27837; int f27838; int f27839; int f27840; int f27841; int f27842; int f27843; int f27844; int f27845; int f27846; int f27847; int f27848; int f27849; int f27850; int f27851; int f27852; int f27853; int f27854; int f27855; int f27856; int f27857; int f27858; int f27859; int f27860; int f27861; int f27862; int f27863; int f27864; int f27865; int f27866; int f27867; int f27868; int f27869; int f27870; int f27871; int f27872; int f27873; int f27874; int f27875; int f27876; int f27877; int f27878; int f27879; int f27880; int f27881; int f27882; int f27883; int f27884; int f27885; int f27886; int f27887; int f27888; int f27889; int f27890; int f27891; int f27892; int f27893; int f27894; int f27895; int f27896; int f27897; int f27898; int f27899;
+    int f27900; int f27901; int f27902; int f27903; int f27904; int f27905; int f27906; int f27907; int f27908; int f27909; int f27910; int f27911; int f27912; int f27913; int f27914; int f27915; int f27916; int f27917; int f27918; int f27919; int f27920; int f27921; int f27922; int f27923; int f27924; int f27925; int f27926; int f27927; int f27928; int f27929; int f27930; int f27931; int f27932; int f27933; int f27934; int f27935; int f27936; int f27937; int f27938; int f27939; int f27940; int f27941; int f27942; int f27943; int f27944; int f27945; int f27946; int f27947; int f27948; int f27949; int f27950; int f27951; int f27952; int f27953; int f27954; int f27955; int f27956; int f27957; int f27958; int f27959; int f27960; int f27961; int f27962; int f27963; int f27964; int f27965; int f27966; int f27967; int f27968; int f27969; int f27970; int f27971; int f27972; int f27973; int f27974; int f27975; int f27976; int f27977; int f27978; int f27979; int f27980; int f27981; int f27982; int f27983; int f27984; int f27985; int f27986; int f27987; int f27988; int f27989; int f27990; int f27991; int f27992; int f27993; int f27994; int f27995; int f27996; int f27997; int f27998; int f27999;
+    int f28000; int f28001; int f28002; int f28003; int f28004; int f28005; int f28006; int f28007; int f28008; int f28009; int f28010; int f28011; int f28012; int f28013; int f28014; int f28015; int f28016; int f28017; int f28018; int f28019; int f28020; int f28021; int f28022; int f28023; int f28024; int f28025; int f28026; int f28027; int f28028; int f28029; int f28030; int f28031; int f28032; int f28033; int f28034; int f28035; int f28036; int f28037; int f28038; int f28039; int f28040; int f28041; int f28042; int f28043; int f28044; int f28045; int f28046; int f28047; int f28048; int f28049; int f28050; int f28051; int f28052; int f28053; int f28054; int f28055; int f28056; int f28057; int f28058; int f28059; int f28060; int f28061; int f28062; int f28063; int f28064; int f28065; int f28066; int f28067; int f28068; int f28069; int f28070; int f28071; int f28072; int f28073; int f28074; int f28075; int f28076; int f28077; int f28078; int f28079; int f28080; int f28081; int f28082; int f28083; int f28084; int f28085; int f28086; int f28087; int f28088; int f28089; int f28090; int f28091; int f28092; int f28093; int f28094; int f28095; int f28096; int f28097; int f28098; int f28099;
+    int f28100; int f28101; int f28102; int f28103; int f28104; int f28105; int f28106; int f28107; int f28108; int f28109; int f28110; int f28111; int f28112; int f28113; int f28114; int f28115; int f28116; int f28117; int f28118; int f28119; int f28120; int f28121; int f28122; int f28123; int f28124; int f28125; int f28126; int f28127; int f28128; int f28129; int f28130; int f28131; int f28132; int f28133; int f28134; int f28135; int f28136; int f28137; int f28138; int f28139; int f28140; int f28141; int f28142; int f28143; int f28144; int f28145; int f28146; int f28147; int f28148; int f28149; int f28150; int f28151; int f28152; int f28153; int f28154; int f28155; int f28156; int f28157; int f28158; int f28159; int f28160; int f28161; int f28162; int f28163; int f28164; int f28165; int f28166; int f28167; int f28168; int f28169; int f28170; int f28171; int f28172; int f28173; int f28174; int f28175; int f28176; int f28177; int f28178; int f28179; int f28180; int f28181; int f28182; int f28183; int f28184; int f28185; int f28186; int f28187; int f28188; int f28189; int f28190; int f28191; int f28192; int f28193; int f28194; int f28195; int f28196; int f28197; int f28198; int f28199;
+    int f28200; int f28201; int f28202; int f28203; int f28204; int f28205; int f28206; int f28207; int f28208; int f28209; int f28210; int f28211; int f28212; int f28213; int f28214; int f28215; int f28216; int f28217; int f28218; int f28219; int f28220; int f28221; int f28222; int f28223; int f28224; int f28225; int f28226; int f28227; int f28228; int f28229; int f28230; int f28231; int f28232; int f28233; int f28234; int f28235; int f28236; int f28237; int f28238; int f28239; int f28240; int f28241; int f28242; int f28243; int f28244; int f28245; int f28246; int f28247; int f28248; int f28249; int f28250; int f28251; int f28252; int f28253; int f28254; int f28255; int f28256; int f28257; int f28258; int f28259; int f28260; int f28261; int f28262; int f28263; int f28264; int f28265; int f28266; int f28267; int f28268; int f28269; int f28270; int f28271; int f28272; int f28273; int f28274; int f28275; int f28276; int f28277; int f28278; int f28279; int f28280; int f28281; int f28282; int f28283; int f28284; int f28285; int f28286; int f28287; int f28288; int f28289; int f28290; int f28291; int f28292; int f28293; int f28294; int f28295; int f28296; int f28297; int f28298; int f28299;
+    int f28300; int f28301; int f28302; int f28303; int f28304; int f28305; int f28306; int f28307; int f28308; int f28309; int f28310; int f28311; int f28312; int f28313; int f28314; int f28315; int f28316; int f28317; int f28318; int f28319; int f28320; int f28321; int f28322; int f28323; int f28324; int f28325; int f28326; int f28327; int f28328; int f28329; int f28330; int f28331; int f28332; int f28333; int f28334; int f28335; int f28336; int f28337; int f28338; int f28339; int f28340; int f28341; int f28342; int f28343; int f28344; int f28345; int f28346; int f28347; int f28348; int f28349; int f28350; int f28351; int f28352; int f28353; int f28354; int f28355; int f28356; int f28357; int f28358; int f28359; int f28360; int f28361; int f28362; int f28363; int f28364; int f28365; int f28366; int f28367; int f28368; int f28369; int f28370; int f28371; int f28372; int f28373; int f28374; int f28375; int f28376; int f28377; int f28378; int f28379; int f28380; int f28381; int f28382; int f28383; int f28384; int f28385; int f28386; int f28387; int f28388; int f28389; int f28390; int f28391; int f28392; int f28393; int f28394; int f28395; int f28396; int f28397; int f28398; int f28399;
+    int f28400; int f28401; int f28402; int f28403; int f28404; int f28405; int f28406; int f28407; int f28408; int f28409; int f28410; int f28411; int f28412; int f28413; int f28414; int f28415; int f28416; int f28417; int f28418; int f28419; int f28420; int f28421; int f28422; int f28423; int f28424; int f28425; int f28426; int f28427; int f28428; int f28429; int f28430; int f28431; int f28432; int f28433; int f28434; int f28435; int f28436; int f28437; int f28438; int f28439; int f28440; int f28441; int f28442; int f28443; int f28444; int f28445; int f28446; int f28447; int f28448; int f28449; int f28450; int f28451; int f28452; int f28453; int f28454; int f28455; int f28456; int f28457; int f28458; int f28459; int f28460; int f28461; int f28462; int f28463; int f28464; int f28465; int f28466; int f28467; int f28468; int f28469; int f28470; int f28471; int f28472; int f28473; int f28474; int f28475; int f28476; int f28477; int f28478; int f28479; int f28480; int f28481; int f28482; int f28483; int f28484; int f28485; int f28486; int f28487; int f28488; int f28489; int f28490; int f28491; int f28492; int f28493; int f28494; int f28495; int f28496; int f28497; int f28498; int f28499;
+    int f28500; int f28501; int f28502; int f28503; int f28504; int f28505; int f28506; int f28507; int f28508; int f28509; int f28510; int f28511; int f28512; int f28513; int f28514; int f28515; int f28516; int f28517; int f28518; int f28519; int f28520; int f28521; int f28522; int f28523; int f28524; int f28525; int f28526; int f28527; int f28528; int f28529; int f28530; int f28531; int f28532; int f28533; int f28534; int f28535; int f28536; int f28537; int f28538; int f28539; int f28540; int f28541; int f28542; int f28543; int f28544; int f28545; int f28546; int f28547; int f28548; int f28549; int f28550; int f28551; int f28552; int f28553; int f28554; int f28555; int f28556; int f28557; int f28558; int f28559; int f28560; int f28561; int f28562; int f28563; int f28564; int f28565; int f28566; int f28567; int f28568; int f28569; int f28570; int f28571; int f28572; int f28573; int f28574; int f28575; int f28576; int f28577; int f28578; int f28579; int f28580; int f28581; int f28582; int f28583; int f28584; int f28585; int f28586; int f28587; int f28588; int f28589; int f28590; int f28591; int f28592; int f28593; int f28594; int f28595; int f28596; int f28597; int f28598; int f28599;
+    int f28600; int f28601; int f28602; int f28603; int f28604; int f28605; int f28606; int f28607; int f28608; int f28609; int f28610; int f28611; int f28612; int f28613; int f28614; int f28615; int f28616; int f28617; int f28618; int f28619; int f28620; int f28621; int f28622; int f28623; int f28624; int f28625; int f28626; int f28627; int f28628; int f28629; int f28630; int f28631; int f28632; int f28633; int f28634; int f28635; int f28636; int f28637; int f28638; int f28639; int f28640; int f28641; int f28642; int f28643; int f28644; int f28645; int f28646; int f28647; int f28648; int f28649; int f28650; int f28651; int f28652; int f28653; int f28654; int f28655; int f28656; int f28657; int f28658; int f28659; int f28660; int f28661; int f28662; int f28663; int f28664; int f28665; int f28666; int f28667; int f28668; int f28669; int f28670; int f28671; int f28672; int f28673; int f28674; int f28675; int f28676; int f28677; int f28678; int f28679; int f28680; int f28681; int f28682; int f28683; int f28684; int f28685; int f28686; int f28687; int f28688; int f28689; int f28690; int f28691; int f28692; int f28693; int f28694; int f28695; int f28696; int f28697; int f28698; int f28699;
+    int f28700; int f28701; int f28702; int f28703; int f28704; int f28705; int f28706; int f28707; int f28708; int f28709; int f28710; int f28711; int f28712; int f28713; int f28714; int f28715; int f28716; int f28717; int f28718; int f28719; int f28720; int f28721; int f28722; int f28723; int f28724; int f28725; int f28726; int f28727; int f28728; int f28729; int f28730; int f28731; int f28732; int f28733; int f28734; int f28735; int f28736; int f28737; int f28738; int f28739; int f28740; int f28741; int f28742; int f28743; int f28744; int f28745; int f28746; int f28747; int f28748; int f28749; int f28750; int f28751; int f28752; int f28753; int f28754; int f28755; int f28756; int f28757; int f28758; int f28759; int f28760; int f28761; int f28762; int f28763; int f28764; int f28765; int f28766; int f28767; int f28768; int f28769; int f28770; int f28771; int f28772; int f28773; int f28774; int f28775; int f28776; int f28777; int f28778; int f28779; int f28780; int f28781; int f28782; int f28783; int f28784; int f28785; int f28786; int f28787; int f28788; int f28789; int f28790; int f28791; int f28792; int f28793; int f28794; int f28795; int f28796; int f28797; int f28798; int f28799;
+    int f28800; int f28801; int f28802; int f28803; int f28804; int f28805; int f28806; int f28807; int f28808; int f28809; int f28810; int f28811; int f28812; int f28813; int f28814; int f28815; int f28816; int f28817; int f28818; int f28819; int f28820; int f28821; int f28822; int f28823; int f28824; int f28825; int f28826; int f28827; int f28828; int f28829; int f28830; int f28831; int f28832; int f28833; int f28834; int f28835; int f28836; int f28837; int f28838; int f28839; int f28840; int f28841; int f28842; int f28843; int f28844; int f28845; int f28846; int f28847; int f28848; int f28849; int f28850; int f28851; int f28852; int f28853; int f28854; int f28855; int f28856; int f28857; int f28858; int f28859; int f28860; int f28861; int f28862; int f28863; int f28864; int f28865; int f28866; int f28867; int f28868; int f28869; int f28870; int f28871; int f28872; int f28873; int f28874; int f28875; int f28876; int f28877; int f28878; int f28879; int f28880; int f28881; int f28882; int f28883; int f28884; int f28885; int f28886; int f28887; int f28888; int f28889; int f28890; int f28891; int f28892; int f28893; int f28894; int f28895; int f28896; int f28897; int f28898; int f28899;
+    int f28900; int f28901; int f28902; int f28903; int f28904; int f28905; int f28906; int f28907; int f28908; int f28909; int f28910; int f28911; int f28912; int f28913; int f28914; int f28915; int f28916; int f28917; int f28918; int f28919; int f28920; int f28921; int f28922; int f28923; int f28924; int f28925; int f28926; int f28927; int f28928; int f28929; int f28930; int f28931; int f28932; int f28933; int f28934; int f28935; int f28936; int f28937; int f28938; int f28939; int f28940; int f28941; int f28942; int f28943; int f28944; int f28945; int f28946; int f28947; int f28948; int f28949; int f28950; int f28951; int f28952; int f28953; int f28954; int f28955; int f28956; int f28957; int f28958; int f28959; int f28960; int f28961; int f28962; int f28963; int f28964; int f28965; int f28966; int f28967; int f28968; int f28969; int f28970; int f28971; int f28972; int f28973; int f28974; int f28975; int f28976; int f28977; int f28978; int f28979; int f28980; int f28981; int f28982; int f28983; int f28984; int f28985; int f28986; int f28987; int f28988; int f28989; int f28990; int f28991; int f28992; int f28993; int f28994; int f28995; int f28996; int f28997; int f28998; int f28999;
+    int f29000; int f29001; int f29002; int f29003; int f29004; int f29005; int f29006; int f29007; int f29008; int f29009; int f29010; int f29011; int f29012; int f29013; int f29014; int f29015; int f29016; int f29017; int f29018; int f29019; int f29020; int f29021; int f29022; int f29023; int f29024; int f29025; int f29026; int f29027; int f29028; int f29029; int f29030; int f29031; int f29032; int f29033; int f29034; int f29035; int f29036; int f29037; int f29038; int f29039; int f29040; int f29041; int f29042; int f29043; int f29044; int f29045; int f29046; int f29047; int f29048; int f29049; int f29050; int f29051; int f29052; int f29053; int f29054; int f29055; int f29056; int f29057; int f29058; int f29059; int f29060; int f29061; int f29062; int f29063; int f29064; int f29065; int f29066; int f29067; int f29068; int f29069; int f29070; int f29071; int f29072; int f29073; int f29074; int f29075; int f29076; int f29077; int f29078; int f29079; int f29080; int f29081; int f29082; int f29083; int f29084; int f29085; int f29086; int f29087; int f29088; int f29089; int f29090; int f29091; int f29092; int f29093; int f29094; int f29095; int f29096; int f29097; int f29098; int f29099;
+    int f29100; int f29101; int f29102; int f29103; int f29104; int f29105; int f29106; int f29107; int f29108; int f29109; int f29110; int f29111; int f29112; int f29113; int f29114; int f29115; int f29116; int f29117; int f29118; int f29119; int f29120; int f29121; int f29122; int f29123; int f29124; int f29125; int f29126; int f29127; int f29128; int f29129; int f29130; int f29131; int f29132; int f29133; int f29134; int f29135; int f29136; int f29137; int f29138; int f29139; int f29140; int f29141; int f29142; int f29143; int f29144; int f29145; int f29146; int f29147; int f29148; int f29149; int f29150; int f29151; int f29152; int f29153; int f29154; int f29155; int f29156; int f29157; int f29158; int f29159; int f29160; int f29161; int f29162; int f29163; int f29164; int f29165; int f29166; int f29167; int f29168; int f29169; int f29170; int f29171; int f29172; int f29173; int f29174; int f29175; int f29176; int f29177; int f29178; int f29179; int f29180; int f29181; int f29182; int f29183; int f29184; int f29185; int f29186; int f29187; int f29188; int f29189; int f29190; int f29191; int f29192; int f29193; int f29194; int f29195; int f29196; int f29197; int f29198; int f29199;
+    int f29200; int f29201; int f29202; int f29203; int f29204; int f29205; int f29206; int f29207; int f29208; int f29209; int f29210; int f29211; int f29212; int f29213; int f29214; int f29215; int f29216; int f29217; int f29218; int f29219; int f29220; int f29221; int f29222; int f29223; int f29224; int f29225; int f29226; int f29227; int f29228; int f29229; int f29230; int f29231; int f29232; int f29233; int f29234; int f29235; int f29236; int f29237; int f29238; int f29239; int f29240; int f29241; int f29242; int f29243; int f29244; int f29245; int f29246; int f29247; int f29248; int f29249; int f29250; int f29251; int f29252; int f29253; int f29254; int f29255; int f29256; int f29257; int f29258; int f29259; int f29260; int f29261; int f29262; int f29263; int f29264; int f29265; int f29266; int f29267; int f29268; int f29269; int f29270; int f29271; int f29272; int f29273; int f29274; int f29275; int f29276; int f29277; int f29278; int f29279; int f29280; int f29281; int f29282; int f29283; int f29284; int f29285; int f29286; int f29287; int f29288; int f29289; int f29290; int f29291; int f29292; int f29293; int f29294; int f29295; int f29296; int f29297; int f29298; int f29299;
+    int f29300; int f29301; int f29302; int f29303; int f29304; int f29305; int f29306; int f29307; int f29308; int f29309; int f29310; int f29311; int f29312; int f29313; int f29314; int f29315; int f29316; int f29317; int f29318; int f29319; int f29320; int f29321; int f29322; int f29323; int f29324; int f29325; int f29326; int f29327; int f29328; int f29329; int f29330; int f29331; int f29332; int f29333; int f29334; int f29335; int f29336; int f29337; int f29338; int f29339; int f29340; int f29341; int f29342; int f29343; int f29344; int f29345; int f29346; int f29347; int f29348; int f29349; int f29350; int f29351; int f29352; int f29353; int f29354; int f29355; int f29356; int f29357; int f29358; int f29359; int f29360; int f29361; int f29362; int f29363; int f29364; int f29365; int f29366; int f29367; int f29368; int f29369; int f29370; int f29371; int f29372; int f29373; int f29374; int f29375; int f29376; int f29377; int f29378; int f29379; int f29380; int f29381; int f29382; int f29383; int f29384; int f29385; int f29386; int f29387; int f29388; int f29389; int f29390; int f29391; int f29392; int f29393; int f29394; int f29395; int f29396; int f29397; int f29398; int f29399;
+    int f29400; int f29401; int f29402; int f29403; int f29404; int f29405; int f29406; int f29407; int f29408; int f29409; int f29410; int f29411; int f29412; int f29413; int f29414; int f29415; int f29416; int f29417; int f29418; int f29419; int f29420; int f29421; int f29422; int f29423; int f29424; int f29425; int f29426; int f29427; int f29428; int f29429; int f29430; int f29431; int f29432; int f29433; int f29434; int f29435; int f29436; int f29437; int f29438; int f29439; int f29440; int f29441; int f29442; int f29443; int f29444; int f29445; int f29446; int f29447; int f29448; int f29449; int f29450; int f29451; int f29452; int f29453; int f29454; int f29455; int f29456; int f29457; int f29458; int f29459; int f29460; int f29461; int f29462; int f29463; int f29464; int f29465; int f29466; int f29467; int f29468; int f29469; int f29470; int f29471; int f29472; int f29473; int f29474; int f29475; int f29476; int f29477; int f29478; int f29479; int f29480; int f29481; int f29482; int f29483; int f29484; int f29485; int f29486; int f29487; int f29488; int f29489; int f29490; int f29491; int f29492; int f29493; int f29494; int f29495; int f29496; int f29497; int f29498; int f29499;
+    int f29500; int f29501; int f29502; int f29503; int f29504; int f29505; int f29506; int f29507; int f29508; int f29509; int f29510; int f29511; int f29512; int f29513; int f29514; int f29515; int f29516; int f29517; int f29518; int f29519; int f29520; int f29521; int f29522; int f29523; int f29524; int f29525; int f29526; int f29527; int f29528; int f29529; int f29530; int f29531; int f29532; int f29533; int f29534; int f29535; int f29536; int f29537; int f29538; int f29539; int f29540; int f29541; int f29542; int f29543; int f29544; int f29545; int f29546; int f29547; int f29548; int f29549; int f29550; int f29551; int f29552; int f29553; int f29554; int f29555; int f29556; int f29557; int f29558; int f29559; int f29560; int f29561; int f29562; int f29563; int f29564; int f29565; int f29566; int f29567; int f29568; int f29569; int f29570; int f29571; int f29572; int f29573; int f29574; int f29575; int f29576; int f29577; int f29578; int f29579; int f29580; int f29581; int f29582; int f29583; int f29584; int f29585; int f29586; int f29587; int f29588; int f29589; int f29590; int f29591; int f29592; int f29593; int f29594; int f29595; int f29596; int f29597; int f29598; int f29599;
+    int f29600; int f29601; int f29602; int f29603; int f29604; int f29605; int f29606; int f29607; int f29608; int f29609; int f29610; int f29611; int f29612; int f29613; int f29614; int f29615; int f29616; int f29617; int f29618; int f29619; int f29620; int f29621; int f29622; int f29623; int f29624; int f29625; int f29626; int f29627; int f29628; int f29629; int f29630; int f29631; int f29632; int f29633; int f29634; int f29635; int f29636; int f29637; int f29638; int f29639; int f29640; int f29641; int f29642; int f29643; int f29644; int f29645; int f29646; int f29647; int f29648; int f29649; int f29650; int f29651; int f29652; int f29653; int f29654; int f29655; int f29656; int f29657; int f29658; int f29659; int f29660; int f29661; int f29662; int f29663; int f29664; int f29665; int f29666; int f29667; int f29668; int f29669; int f29670; int f29671; int f29672; int f29673; int f29674; int f29675; int f29676; int f29677; int f29678; int f29679; int f29680; int f29681; int f29682; int f29683; int f29684; int f29685; int f29686; int f29687; int f29688; int f29689; int f29690; int f29691; int f29692; int f29693; int f29694; int f29695; int f29696; int f29697; int f29698; int f29699;
+    int f29700; int f29701; int f29702; int f29703; int f29704; int f29705; int f29706; int f29707; int f29708; int f29709; int f29710; int f29711; int f29712; int f29713; int f29714; int f29715; int f29716; int f29717; int f29718; int f29719; int f29720; int f29721; int f29722; int f29723; int f29724; int f29725; int f29726; int f29727; int f29728; int f29729; int f29730; int f29731; int f29732; int f29733; int f29734; int f29735; int f29736; int f29737; int f29738; int f29739; int f29740; int f29741; int f29742; int f29743; int f29744; int f29745; int f29746; int f29747; int f29748; int f29749; int f29750; int f29751; int f29752; int f29753; int f29754; int f29755; int f29756; int f29757; int f29758; int f29759; int f29760; int f29761; int f29762; int f29763; int f29764; int f29765; int f29766; int f29767; int f29768; int f29769; int f29770; int f29771; int f29772; int f29773; int f29774; int f29775; int f29776; int f29777; int f29778; int f29779; int f29780; int f29781; int f29782; int f29783; int f29784; int f29785; int f29786; int f29787; int f29788; int f29789; int f29790; int f29791; int f29792; int f29793; int f29794; int f29795; int f29796; int f29797; int f29798; int f29799;
+    int f29800; int f29801; int f29802; int f29803; int f29804; int f29805; int f29806; int f29807; int f29808; int f29809; int f29810; int f29811; int f29812; int f29813; int f29814; int f29815; int f29816; int f29817; int f29818; int f29819; int f29820; int f29821; int f29822; int f29823; int f29824; int f29825; int f29826; int f29827; int f29828; int f29829; int f29830; int f29831; int f29832; int f29833; int f29834; int f29835; int f29836; int f29837; int f29838; int f29839; int f29840; int f29841; int f29842; int f29843; int f29844; int f29845; int f29846; int f29847; int f29848; int f29849; int f29850; int f29851; int f29852; int f29853; int f29854; int f29855; int f29856; int f29857; int f29858; int f29859; int f29860; int f29861; int f29862; int f29863; int f29864; int f29865; int f29866; int f29867; int f29868; int f29869; int f29870; int f29871; int f29872; int f29873; int f29874; int f29875; int f29876; int f29877; int f29878; int f29879; int f29880; int f29881; int f29882; int f29883; int f29884; int f29885; int f29886; int f29887; int f29888; int f29889; int f29890; int f29891; int f29892; int f29893; int f29894; int f29895; int f29896; int f29897; int f29898; int f29899;
+    int f29900; int f29901; int f29902; int f29903; int f29904; int f29905; int f29906; int f29907; int f29908; int f29909; int f29910; int f29911; int f29912; int f29913; int f29914; int f29915; int f29916; int f29917; int f29918; int f29919; int f29920; int f29921; int f29922; int f29923; int f29924; int f29925; int f29926; int f29927; int f29928; int f29929; int f29930; int f29931; int f29932; int f29933; int f29934; int f29935; int f29936; int f29937; int f29938; int f29939; int f29940; int f29941; int f29942; int f29943; int f29944; int f29945; int f29946; int f29947; int f29948; int f29949; int f29950; int f29951; int f29952; int f29953; int f29954; int f29955; int f29956; int f29957; int f29958; int f29959; int f29960; int f29961; int f29962; int f29963; int f29964; int f29965; int f29966; int f29967; int f29968; int f29969; int f29970; int f29971; int f29972; int f29973; int f29974; int f29975; int f29976; int f29977; int f29978; int f29979; int f29980; int f29981; int f29982; int f29983; int f29984; int f29985; int f29986; int f29987; int f29988; int f29989; int f29990; int f29991; int f29992; int f29993; int f29994; int f29995; int f29996; int f29997; int f29998; int f29999;
+    int f30000; int f30001; int f30002; int f30003; int f30004; int f30005; int f30006; int f30007; int f30008; int f30009; int f30010; int f30011; int f30012; int f30013; int f30014; int f30015; int f30016; int f30017; int f30018; int f30019; int f30020; int f30021; int f30022; int f30023; int f30024; int f30025; int f30026; int f30027; int f30028; int f30029; int f30030; int f30031; int f30032; int f30033; int f30034; int f30035; int f30036; int f30037; int f30038; int f30039; int f30040; int f30041; int f30042; int f30043; int f30044; int f30045; int f30046; int f30047; int f30048; int f30049; int f30050; int f30051; int f30052; int f30053; int f30054; int f30055; int f30056; int f30057; int f30058; int f30059; int f30060; int f30061; int f30062; int f30063; int f30064; int f30065; int f30066; int f30067; int f30068; int f30069; int f30070; int f30071; int f30072; int f30073; int f30074; int f30075; int f30076; int f30077; int f30078; int f30079; int f30080; int f30081; int f30082; int f30083; int f30084; int f30085; int f30086; int f30087; int f30088; int f30089; int f30090; int f30091; int f30092; int f30093; int f30094; int f30095; int f30096; int f30097; int f30098; int f30099;
+    int f30100; int f30101; int f30102; int f30103; int f30104; int f30105; int f30106; int f30107; int f30108; int f30109; int f30110; int f30111; int f30112; int f30113; int f30114; int f30115; int f30116; int f30117; int f30118; int f30119; int f30120; int f30121; int f30122; int f30123; int f30124; int f30125; int f30126; int f30127; int f30128; int f30129; int f30130; int f30131; int f30132; int f30133; int f30134; int f30135; int f30136; int f30137; int f30138; int f30139; int f30140; int f30141; int f30142; int f30143; int f30144; int f30145; int f30146; int f30147; int f30148; int f30149; int f30150; int f30151; int f30152; int f30153; int f30154; int f30155; int f30156; int f30157; int f30158; int f30159; int f30160; int f30161; int f30162; int f30163; int f30164; int f30165; int f30166; int f30167; int f30168; int f30169; int f30170; int f30171; int f30172; int f30173; int f30174; int f30175; int f30176; int f30177; int f30178; int f30179; int f30180; int f30181; int f30182; int f30183; int f30184; int f30185; int f30186; int f30187; int f30188; int f30189; int f30190; int f30191; int f30192; int f30193; int f30194; int f30195; int f30196; int f30197; int f30198; int f30199;
+    int f30200; int f30201; int f30202; int f30203; int f30204; int f30205; int f30206; int f30207; int f30208; int f30209; int f30210; int f30211; int f30212; int f30213; int f30214; int f30215; int f30216; int f30217; int f30218; int f30219; int f30220; int f30221; int f30222; int f30223; int f30224; int f30225; int f30226; int f30227; int f30228; int f30229; int f30230; int f30231; int f30232; int f30233; int f30234; int f30235; int f30236; int f30237; int f30238; int f30239; int f30240; int f30241; int f30242; int f30243; int f30244; int f30245; int f30246; int f30247; int f30248; int f30249; int f30250; int f30251; int f30252; int f30253; int f30254; int f30255; int f30256; int f30257; int f30258; int f30259; int f30260; int f30261; int f30262; int f30263; int f30264; int f30265; int f30266; int f30267; int f30268; int f30269; int f30270; int f30271; int f30272; int f30273; int f30274; int f30275; int f30276; int f30277; int f30278; int f30279; int f30280; int f30281; int f30282; int f30283; int f30284; int f30285; int f30286; int f30287; int f30288; int f30289; int f30290; int f30291; int f30292; int f30293; int f30294; int f30295; int f30296; int f30297; int f30298; int f30299;
+    int f30300; int f30301; int f30302; int f30303; int f30304; int f30305; int f30306; int f30307; int f30308; int f30309; int f30310; int f30311; int f30312; int f30313; int f30314; int f30315; int f30316; int f30317; int f30318; int f30319; int f30320; int f30321; int f30322; int f30323; int f30324; int f30325; int f30326; int f30327; int f30328; int f30329; int f30330; int f30331; int f30332; int f30333; int f30334; int f30335; int f30336; int f30337; int f30338; int f30339; int f30340; int f30341; int f30342; int f30343; int f30344; int f30345; int f30346; int f30347; int f30348; int f30349; int f30350; int f30351; int f30352; int f30353; int f30354; int f30355; int f30356; int f30357; int f30358; int f30359; int f30360; int f30361; int f30362; int f30363; int f30364; int f30365; int f30366; int f30367; int f30368; int f30369; int f30370; int f30371; int f30372; int f30373; int f30374; int f30375; int f30376; int f30377; int f30378; int f30379; int f30380; int f30381; int f30382; int f30383; int f30384; int f30385; int f30386; int f30387; int f30388; int f30389; int f30390; int f30391; int f30392; int f30393; int f30394; int f30395; int f30396; int f30397; int f30398; int f30399;
+    int f30400; int f30401; int f30402; int f30403; int f30404; int f30405; int f30406; int f30407; int f30408; int f30409; int f30410; int f30411; int f30412; int f30413; int f30414; int f30415; int f30416; int f30417; int f30418; int f30419; int f30420; int f30421; int f30422; int f30423; int f30424; int f30425; int f30426; int f30427; int f30428; int f30429; int f30430; int f30431; int f30432; int f30433; int f30434; int f30435; int f30436; int f30437; int f30438; int f30439; int f30440; int f30441; int f30442; int f30443; int f30444; int f30445; int f30446; int f30447; int f30448; int f30449; int f30450; int f30451; int f30452; int f30453; int f30454; int f30455; int f30456; int f30457; int f30458; int f30459; int f30460; int f30461; int f30462; int f30463; int f30464; int f30465; int f30466; int f30467; int f30468; int f30469; int f30470; int f30471; int f30472; int f30473; int f30474; int f30475; int f30476; int f30477; int f30478; int f30479; int f30480; int f30481; int f30482; int f30483; int f30484; int f30485; int f30486; int f30487; int f30488; int f30489; int f30490; int f30491; int f30492; int f30493; int f30494; int f30495; int f30496; int f30497; int f30498; int f30499;
+    int f30500; int f30501; int f30502; int f30503; int f30504; int f30505; int f30506; int f30507; int f30508; int f30509; int f30510; int f30511; int f30512; int f30513; int f30514; int f30515; int f30516; int f30517; int f30518; int f30519; int f30520; int f30521; int f30522; int f30523; int f30524; int f30525; int f30526; int f30527; int f30528; int f30529; int f30530; int f30531; int f30532; int f30533; int f30534; int f30535; int f30536; int f30537; int f30538; int f30539; int f30540; int f30541; int f30542; int f30543; int f30544; int f30545; int f30546; int f30547; int f30548; int f30549; int f30550; int f30551; int f30552; int f30553; int f30554; int f30555; int f30556; int f30557; int f30558; int f30559; int f30560; int f30561; int f30562; int f30563; int f30564; int f30565; int f30566; int f30567; int f30568; int f30569; int f30570; int f30571; int f30572; int f30573; int f30574; int f30575; int f30576; int f30577; int f30578; int f30579; int f30580; int f30581; int f30582; int f30583; int f30584; int f30585; int f30586; int f30587; int f30588; int f30589; int f30590; int f30591; int f30592; int f30593; int f30594; int f30595; int f30596; int f30597; int f30598; int f30599;
+    int f30600; int f30601; int f30602; int f30603; int f30604; int f30605; int f30606; int f30607; int f30608; int f30609; int f30610; int f30611; int f30612; int f30613; int f30614; int f30615; int f30616; int f30617; int f30618; int f30619; int f30620; int f30621; int f30622; int f30623; int f30624; int f30625; int f30626; int f30627; int f30628; int f30629; int f30630; int f30631; int f30632; int f30633; int f30634; int f30635; int f30636; int f30637; int f30638; int f30639; int f30640; int f30641; int f30642; int f30643; int f30644; int f30645; int f30646; int f30647; int f30648; int f30649; int f30650; int f30651; int f30652; int f30653; int f30654; int f30655; int f30656; int f30657; int f30658; int f30659; int f30660; int f30661; int f30662; int f30663; int f30664; int f30665; int f30666; int f30667; int f30668; int f30669; int f30670; int f30671; int f30672; int f30673; int f30674; int f30675; int f30676; int f30677; int f30678; int f30679; int f30680; int f30681; int f30682; int f30683; int f30684; int f30685; int f30686; int f30687; int f30688; int f30689; int f30690; int f30691; int f30692; int f30693; int f30694; int f30695; int f30696; int f30697; int f30698; int f30699;
+    int f30700; int f30701; int f30702; int f30703; int f30704; int f30705; int f30706; int f30707; int f30708; int f30709; int f30710; int f30711; int f30712; int f30713; int f30714; int f30715; int f30716; int f30717; int f30718; int f30719; int f30720; int f30721; int f30722; int f30723; int f30724; int f30725; int f30726; int f30727; int f30728; int f30729; int f30730; int f30731; int f30732; int f30733; int f30734; int f30735; int f30736; int f30737; int f30738; int f30739; int f30740; int f30741; int f30742; int f30743; int f30744; int f30745; int f30746; int f30747; int f30748; int f30749; int f30750; int f30751; int f30752; int f30753; int f30754; int f30755; int f30756; int f30757; int f30758; int f30759; int f30760; int f30761; int f30762; int f30763; int f30764; int f30765; int f30766; int f30767; int f30768; int f30769; int f30770; int f30771; int f30772; int f30773; int f30774; int f30775; int f30776; int f30777; int f30778; int f30779; int f30780; int f30781; int f30782; int f30783; int f30784; int f30785; int f30786; int f30787; int f30788; int f30789; int f30790; int f30791; int f30792; int f30793; int f30794; int f30795; int f30796; int f30797; int f30798; int f30799;
+    int f30800; int f30801; int f30802; int f30803; int f30804; int f30805; int f30806; int f30807; int f30808; int f30809; int f30810; int f30811; int f30812; int f30813; int f30814; int f30815; int f30816; int f30817; int f30818; int f30819; int f30820; int f30821; int f30822; int f30823; int f30824; int f30825; int f30826; int f30827; int f30828; int f30829; int f30830; int f30831; int f30832; int f30833; int f30834; int f30835; int f30836; int f30837; int f30838; int f30839; int f30840; int f30841; int f30842; int f30843; int f30844; int f30845; int f30846; int f30847; int f30848; int f30849; int f30850; int f30851; int f30852; int f30853; int f30854; int f30855; int f30856; int f30857; int f30858; int f30859; int f30860; int f30861; int f30862; int f30863; int f30864; int f30865; int f30866; int f30867; int f30868; int f30869; int f30870; int f30871; int f30872; int f30873; int f30874; int f30875; int f30876; int f30877; int f30878; int f30879; int f30880; int f30881; int f30882; int f30883; int f30884; int f30885; int f30886; int f30887; int f30888; int f30889; int f30890; int f30891; int f30892; int f30893; int f30894; int f30895; int f30896; int f30897; int f30898; int f30899;
+    int f30900; int f30901; int f30902; int f30903; int f30904; int f30905; int f30906; int f30907; int f30908; int f30909; int f30910; int f30911; int f30912; int f30913; int f30914; int f30915; int f30916; int f30917; int f30918; int f30919; int f30920; int f30921; int f30922; int f30923; int f30924; int f30925; int f30926; int f30927; int f30928; int f30929; int f30930; int f30931; int f30932; int f30933; int f30934; int f30935; int f30936; int f30937; int f30938; int f30939; int f30940; int f30941; int f30942; int f30943; int f30944; int f30945; int f30946; int f30947; int f30948; int f30949; int f30950; int f30951; int f30952; int f30953; int f30954; int f30955; int f30956; int f30957; int f30958; int f30959; int f30960; int f30961; int f30962; int f30963; int f30964; int f30965; int f30966; int f30967; int f30968; int f30969; int f30970; int f30971; int f30972; int f30973; int f30974; int f30975; int f30976; int f30977; int f30978; int f30979; int f30980; int f30981; int f30982; int f30983; int f30984; int f30985; int f30986; int f30987; int f30988; int f30989; int f30990; int f30991; int f30992; int f30993; int f30994; int f30995; int f30996; int f30997; int f30998; int f30999;
+    int f31000; int f31001; int f31002; int f31003; int f31004; int f31005; int f31006; int f31007; int f31008; int f31009; int f31010; int f31011; int f31012; int f31013; int f31014; int f31015; int f31016; int f31017; int f31018; int f31019; int f31020; int f31021; int f31022; int f31023; int f31024; int f31025; int f31026; int f31027; int f31028; int f31029; int f31030; int f31031; int f31032; int f31033; int f31034; int f31035; int f31036; int f31037; int f31038; int f31039; int f31040; int f31041; int f31042; int f31043; int f31044; int f31045; int f31046; int f31047; int f31048; int f31049; int f31050; int f31051; int f31052; int f31053; int f31054; int f31055; int f31056; int f31057; int f31058; int f31059; int f31060; int f31061; int f31062; int f31063; int f31064; int f31065; int f31066; int f31067; int f31068; int f31069; int f31070; int f31071; int f31072; int f31073; int f31074; int f31075; int f31076; int f31077; int f31078; int f31079; int f31080; int f31081; int f31082; int f31083; int f31084; int f31085; int f31086; int f31087; int f31088; int f31089; int f31090; int f31091; int f31092; int f31093; int f31094; int f31095; int f31096; int f31097; int f31098; int f31099;
+    int f31100; int f31101; int f31102; int f31103; int f31104; int f31105; int f31106; int f31107; int f31108; int f31109; int f31110; int f31111; int f31112; int f31113; int f31114; int f31115; int f31116; int f31117; int f31118; int f31119; int f31120; int f31121; int f31122; int f31123; int f31124; int f31125; int f31126; int f31127; int f31128; int f31129; int f31130; int f31131; int f31132; int f31133; int f31134; int f31135; int f31136; int f31137; int f31138; int f31139; int f31140; int f31141; int f31142; int f31143; int f31144; int f31145; int f31146; int f31147; int f31148; int f31149; int f31150; int f31151; int f31152; int f31153; int f31154; int f31155; int f31156; int f31157; int f31158; int f31159; int f31160; int f31161; int f31162; int f31163; int f31164; int f31165; int f31166; int f31167; int f31168; int f31169; int f31170; int f31171; int f31172; int f31173; int f31174; int f31175; int f31176; int f31177; int f31178; int f31179; int f31180; int f31181; int f31182; int f31183; int f31184; int f31185; int f31186; int f31187; int f31188; int f31189; int f31190; int f31191; int f31192; int f31193; int f31194; int f31195; int f31196; int f31197; int f31198; int f31199;
+    int f31200; int f31201; int f31202; int f31203; int f31204; int f31205; int f31206; int f31207; int f31208; int f31209; int f31210; int f31211; int f31212; int f31213; int f31214; int f31215; int f31216; int f31217; int f31218; int f31219; int f31220; int f31221; int f31222; int f31223; int f31224; int f31225; int f31226; int f31227; int f31228; int f31229; int f31230; int f31231; int f31232; int f31233; int f31234; int f31235; int f31236; int f31237; int f31238; int f31239; int f31240; int f31241; int f31242; int f31243; int f31244; int f31245; int f31246; int f31247; int f31248; int f31249; int f31250; int f31251; int f31252; int f31253; int f31254; int f31255; int f31256; int f31257; int f31258; int f31259; int f31260; int f31261; int f31262; int f31263; int f31264; int f31265; int f31266; int f31267; int f31268; int f31269; int f31270; int f31271; int f31272; int f31273; int f31274; int f31275; int f31276; int f31277; int f31278; int f31279; int f31280; int f31281; int f31282; int f31283; int f31284; int f31285; int f31286; int f31287; int f31288; int f31289; int f31290; int f31291; int f31292; int f31293; int f31294; int f31295; int f31296; int f31297; int f31298; int f31299;
+    int f31300; int f31301; int f31302; int f31303; int f31304; int f31305; int f31306; int f31307; int f31308; int f31309; int f31310; int f31311; int f31312; int f31313; int f31314; int f31315; int f31316; int f31317; int f31318; int f31319; int f31320; int f31321; int f31322; int f31323; int f31324; int f31325; int f31326; int f31327; int f31328; int f31329; int f31330; int f31331; int f31332; int f31333; int f31334; int f31335; int f31336; int f31337; int f31338; int f31339; int f31340; int f31341; int f31342; int f31343; int f31344; int f31345; int f31346; int f31347; int f31348; int f31349; int f31350; int f31351; int f31352; int f31353; int f31354; int f31355; int f31356; int f31357; int f31358; int f31359; int f31360; int f31361; int f31362; int f31363; int f31364; int f31365; int f31366; int f31367; int f31368; int f31369; int f31370; int f31371; int f31372; int f31373; int f31374; int f31375; int f31376; int f31377; int f31378; int f31379; int f31380; int f31381; int f31382; int f31383; int f31384; int f31385; int f31386; int f31387; int f31388; int f31389; int f31390; int f31391; int f31392; int f31393; int f31394; int f31395; int f31396; int f31397; int f31398; int f31399;
+    int f31400; int f31401; int f31402; int f31403; int f31404; int f31405; int f31406; int f31407; int f31408; int f31409; int f31410; int f31411; int f31412; int f31413; int f31414; int f31415; int f31416; int f31417; int f31418; int f31419; int f31420; int f31421; int f31422; int f31423; int f31424; int f31425; int f31426; int f31427; int f31428; int f31429; int f31430; int f31431; int f31432; int f31433; int f31434; int f31435; int f31436; int f31437; int f31438; int f31439; int f31440; int f31441; int f31442; int f31443; int f31444; int f31445; int f31446; int f31447; int f31448; int f31449; int f31450; int f31451; int f31452; int f31453; int f31454; int f31455; int f31456; int f31457; int f31458; int f31459; int f31460; int f31461; int f31462; int f31463; int f31464; int f31465; int f31466; int f31467; int f31468; int f31469; int f31470; int f31471; int f31472; int f31473; int f31474; int f31475; int f31476; int f31477; int f31478; int f31479; int f31480; int f31481; int f31482; int f31483; int f31484; int f31485; int f31486; int f31487; int f31488; int f31489; int f31490; int f31491; int f31492; int f31493; int f31494; int f31495; int f31496; int f31497; int f31498; int f31499;
+    int f31500; int f31501; int f31502; int f31503; int f31504; int f31505; int f31506; int f31507; int f31508; int f31509; int f31510; int f31511; int f31512; int f31513; int f31514; int f31515; int f31516; int f31517; int f31518; int f31519; int f31520; int f31521; int f31522; int f31523; int f31524; int f31525; int f31526; int f31527; int f31528; int f31529; int f31530; int f31531; int f31532; int f31533; int f31534; int f31535; int f31536; int f31537; int f31538; int f31539; int f31540; int f31541; int f31542; int f31543; int f31544; int f31545; int f31546; int f31547; int f31548; int f31549; int f31550; int f31551; int f31552; int f31553; int f31554; int f31555; int f31556; int f31557; int f31558; int f31559; int f31560; int f31561; int f31562; int f31563; int f31564; int f31565; int f31566; int f31567; int f31568; int f31569; int f31570; int f31571; int f31572; int f31573; int f31574; int f31575; int f31576; int f31577; int f31578; int f31579; int f31580; int f31581; int f31582; int f31583; int f31584; int f31585; int f31586; int f31587; int f31588; int f31589; int f31590; int f31591; int f31592; int f31593; int f31594; int f31595; int f31596; int f31597; int f31598; int f31599;
+    int f31600; int f31601; int f31602; int f31603; int f31604; int f31605; int f31606; int f31607; int f31608; int f31609; int f31610; int f31611; int f31612; int f31613; int f31614; int f31615; int f31616; int f31617; int f31618; int f31619; int f31620; int f31621; int f31622; int f31623; int f31624; int f31625; int f31626; int f31627; int f31628; int f31629; int f31630; int f31631; int f31632; int f31633; int f31634; int f31635; int f31636; int f31637; int f31638; int f31639; int f31640; int f31641; int f31642; int f31643; int f31644; int f31645; int f31646; int f31647; int f31648; int f31649; int f31650; int f31651; int f31652; int f31653; int f31654; int f31655; int f31656; int f31657; int f31658; int f31659; int f31660; int f31661; int f31662; int f31663; int f31664; int f31665; int f31666; int f31667; int f31668; int f31669; int f31670; int f31671; int f31672; int f31673; int f31674; int f31675; int f31676; int f31677; int f31678; int f31679; int f31680; int f31681; int f31682; int f31683; int f31684; int f31685; int f31686; int f31687; int f31688; int f31689; int f31690; int f31691; int f31692; int f31693; int f31694; int f31695; int f31696; int f31697; int f31698; int f31699;
+    int f31700; int f31701; int f31702; int f31703; int f31704; int f31705; int f31706; int f31707; int f31708; int f31709; int f31710; int f31711; int f31712; int f31713; int f31714; int f31715; int f31716; int f31717; int f31718; int f31719; int f31720; int f31721; int f31722; int f31723; int f31724; int f31725; int f31726; int f31727; int f31728; int f31729; int f31730; int f31731; int f31732; int f31733; int f31734; int f31735; int f31736; int f31737; int f31738; int f31739; int f31740; int f31741; int f31742; int f31743; int f31744; int f31745; int f31746; int f31747; int f31748; int f31749; int f31750; int f31751; int f31752; int f31753; int f31754; int f31755; int f31756; int f31757; int f31758; int f31759; int f31760; int f31761; int f31762; int f31763; int f31764; int f31765; int f31766; int f31767; int f31768; int f31769; int f31770; int f31771; int f31772; int f31773; int f31774; int f31775; int f31776; int f31777; int f31778; int f31779; int f31780; int f31781; int f31782; int f31783; int f31784; int f31785; int f31786; int f31787; int f31788; int f31789; int f31790; int f31791; int f31792; int f31793; int f31794; int f31795; int f31796; int f31797; int f31798; int f31799;
+    int f31800; int f31801; int f31802; int f31803; int f31804; int f31805; int f31806; int f31807; int f31808; int f31809; int f31810; int f31811; int f31812; int f31813; int f31814; int f31815; int f31816; int f31817; int f31818; int f31819; int f31820; int f31821; int f31822; int f31823; int f31824; int f31825; int f31826; int f31827; int f31828; int f31829; int f31830; int f31831; int f31832; int f31833; int f31834; int f31835; int f31836; int f31837; int f31838; int f31839; int f31840; int f31841; int f31842; int f31843; int f31844; int f31845; int f31846; int f31847; int f31848; int f31849; int f31850; int f31851; int f31852; int f31853; int f31854; int f31855; int f31856; int f31857; int f31858; int f31859; int f31860; int f31861; int f31862; int f31863; int f31864; int f31865; int f31866; int f31867; int f31868; int f31869; int f31870; int f31871; int f31872; int f31873; int f31874; int f31875; int f31876; int f31877; int f31878; int f31879; int f31880; int f31881; int f31882; int f31883; int f31884; int f31885; int f31886; int f31887; int f31888; int f31889; int f31890; int f31891; int f31892; int f31893; int f31894; int f31895; int f31896; int f31897; int f31898; int f31899;
+    int f31900; int f31901; int f31902; int f31903; int f31904; int f31905; int f31906; int f31907; int f31908; int f31909; int f31910; int f31911; int f31912; int f31913; int f31914; int f31915; int f31916; int f31917; int f31918; int f31919; int f31920; int f31921; int f31922; int f31923; int f31924; int f31925; int f31926; int f31927; int f31928; int f31929; int f31930; int f31931; int f31932; int f31933; int f31934; int f31935; int f31936; int f31937; int f31938; int f31939; int f31940; int f31941; int f31942; int f31943; int f31944; int f31945; int f31946; int f31947; int f31948; int f31949; int f31950; int f31951; int f31952; int f31953; int f31954; int f31955; int f31956; int f31957; int f31958; int f31959; int f31960; int f31961; int f31962; int f31963; int f31964; int f31965; int f31966; int f31967; int f31968; int f31969; int f31970; int f31971; int f31972; int f31973; int f31974; int f31975; int f31976; int f31977; int f31978; int f31979; int f31980; int f31981; int f31982; int f31983; int f31984; int f31985; int f31986; int f31987; int f31988; int f31989; int f31990; int f31991; int f31992; int f31993; int f31994; int f31995; int f31996; int f31997; int f31998; int f31999;
+    int f32000; int f32001; int f32002; int f32003; int f32004; int f32005; int f32006; int f32007; int f32008; int f32009; int f32010; int f32011; int f32012; int f32013; int f32014; int f32015; int f32016; int f32017; int f32018; int f32019; int f32020; int f32021; int f32022; int f32023; int f32024; int f32025; int f32026; int f32027; int f32028; int f32029; int f32030; int f32031; int f32032; int f32033; int f32034; int f32035; int f32036; int f32037; int f32038; int f32039; int f32040; int f32041; int f32042; int f32043; int f32044; int f32045; int f32046; int f32047; int f32048; int f32049; int f32050; int f32051; int f32052; int f32053; int f32054; int f32055; int f32056; int f32057; int f32058; int f32059; int f32060; int f32061; int f32062; int f32063; int f32064; int f32065; int f32066; int f32067; int f32068; int f32069; int f32070; int f32071; int f32072; int f32073; int f32074; int f32075; int f32076; int f32077; int f32078; int f32079; int f32080; int f32081; int f32082; int f32083; int f32084; int f32085; int f32086; int f32087; int f32088; int f32089; int f32090; int f32091; int f32092; int f32093; int f32094; int f32095; int f32096; int f32097; int f32098; int f32099;
+    int f32100; int f32101; int f32102; int f32103; int f32104; int f32105; int f32106; int f32107; int f32108; int f32109; int f32110; int f32111; int f32112; int f32113; int f32114; int f32115; int f32116; int f32117; int f32118; int f32119; int f32120; int f32121; int f32122; int f32123; int f32124; int f32125; int f32126; int f32127; int f32128; int f32129; int f32130; int f32131; int f32132; int f32133; int f32134; int f32135; int f32136; int f32137; int f32138; int f32139; int f32140; int f32141; int f32142; int f32143; int f32144; int f32145; int f32146; int f32147; int f32148; int f32149; int f32150; int f32151; int f32152; int f32153; int f32154; int f32155; int f32156; int f32157; int f32158; int f32159; int f32160; int f32161; int f32162; int f32163; int f32164; int f32165; int f32166; int f32167; int f32168; int f32169; int f32170; int f32171; int f32172; int f32173; int f32174; int f32175; int f32176; int f32177; int f32178; int f32179; int f32180; int f32181; int f32182; int f32183; int f32184; int f32185; int f32186; int f32187; int f32188; int f32189; int f32190; int f32191; int f32192; int f32193; int f32194; int f32195; int f32196; int f32197; int f32198; int f32199;
+    int f32200; int f32201; int f32202; int f32203; int f32204; int f32205; int f32206; int f32207; int f32208; int f32209; int f32210; int f32211; int f32212; int f32213; int f32214; int f32215; int f32216; int f32217; int f32218; int f32219; int f32220; int f32221; int f32222; int f32223; int f32224; int f32225; int f32226; int f32227; int f32228; int f32229; int f32230; int f32231; int f32232; int f32233; int f32234; int f32235; int f32236; int f32237; int f32238; int f32239; int f32240; int f32241; int f32242; int f32243; int f32244; int f32245; int f32246; int f32247; int f32248; int f32249; int f32250; int f32251; int f32252; int f32253; int f32254; int f32255; int f32256; int f32257; int f32258; int f32259; int f32260; int f32261; int f32262; int f32263; int f32264; int f32265; int f32266; int f32267; int f32268; int f32269; int f32270; int f32271; int f32272; int f32273; int f32274; int f32275; int f32276; int f32277; int f32278; int f32279; int f32280; int f32281; int f32282; int f32283; int f32284; int f32285; int f32286; int f32287; int f32288; int f32289; int f32290; int f32291; int f32292; int f32293; int f32294; int f32295; int f32296; int f32297; int f32298; int f32299;
+    int f32300; int f32301; int f32302; int f32303; int f32304; int f32305; int f32306; int f32307; int f32308; int f32309; int f32310; int f32311; int f32312; int f32313; int f32314; int f32315; int f32316; int f32317; int f32318; int f32319; int f32320; int f32321; int f32322; int f32323; int f32324; int f32325; int f32326; int f32327; int f32328; int f32329; int f32330; int f32331; int f32332; int f32333; int f32334; int f32335; int f32336; int f32337; int f32338; int f32339; int f32340; int f32341; int f32342; int f32343; int f32344; int f32345; int f32346; int f32347; int f32348; int f32349; int f32350; int f32351; int f32352; int f32353; int f32354; int f32355; int f32356; int f32357; int f32358; int f32359; int f32360; int f32361; int f32362; int f32363; int f32364; int f32365; int f32366; int f32367; int f32368; int f32369; int f32370; int f32371; int f32372; int f32373; int f32374; int f32375; int f32376; int f32377; int f32378; int f32379; int f32380; int f32381; int f32382; int f32383; int f32384; int f32385; int f32386; int f32387; int f32388; int f32389; int f32390; int f32391; int f32392; int f32393; int f32394; int f32395; int f32396; int f32397; int f32398; int f32399;
+    int f32400; int f32401; int f32402; int f32403; int f32404; int f32405; int f32406; int f32407; int f32408; int f32409; int f32410; int f32411; int f32412; int f32413; int f32414; int f32415; int f32416; int f32417; int f32418; int f32419; int f32420; int f32421; int f32422; int f32423; int f32424; int f32425; int f32426; int f32427; int f32428; int f32429; int f32430; int f32431; int f32432; int f32433; int f32434; int f32435; int f32436; int f32437; int f32438; int f32439; int f32440; int f32441; int f32442; int f32443; int f32444; int f32445; int f32446; int f32447; int f32448; int f32449; int f32450; int f32451; int f32452; int f32453; int f32454; int f32455; int f32456; int f32457; int f32458; int f32459; int f32460; int f32461; int f32462; int f32463; int f32464; int f32465; int f32466; int f32467; int f32468; int f32469; int f32470; int f32471; int f32472; int f32473; int f32474; int f32475; int f32476; int f32477; int f32478; int f32479; int f32480; int f32481; int f32482; int f32483; int f32484; int f32485; int f32486; int f32487; int f32488; int f32489; int f32490; int f32491; int f32492; int f32493; int f32494; int f32495; int f32496; int f32497; int f32498; int f32499;
+    int f32500; int f32501; int f32502; int f32503; int f32504; int f32505; int f32506; int f32507; int f32508; int f32509; int f32510; int f32511; int f32512; int f32513; int f32514; int f32515; int f32516; int f32517; int f32518; int f32519; int f32520; int f32521; int f32522; int f32523; int f32524; int f32525; int f32526; int f32527; int f32528; int f32529; int f32530; int f32531; int f32532; int f32533; int f32534; int f32535; int f32536; int f32537; int f32538; int f32539; int f32540; int f32541; int f32542; int f32543; int f32544; int f32545; int f32546; int f32547; int f32548; int f32549; int f32550; int f32551; int f32552; int f32553; int f32554; int f32555; int f32556; int f32557; int f32558; int f32559; int f32560; int f32561; int f32562; int f32563; int f32564; int f32565; int f32566; int f32567; int f32568; int f32569; int f32570; int f32571; int f32572; int f32573; int f32574; int f32575; int f32576; int f32577; int f32578; int f32579; int f32580; int f32581; int f32582; int f32583; int f32584; int f32585; int f32586; int f32587; int f32588; int f32589; int f32590; int f32591; int f32592; int f32593; int f32594; int f32595; int f32596; int f32597; int f32598; int f32599;
+    int f32600; int f32601; int f32602; int f32603; int f32604; int f32605; int f32606; int f32607; int f32608; int f32609; int f32610; int f32611; int f32612; int f32613; int f32614; int f32615; int f32616; int f32617; int f32618; int f32619; int f32620; int f32621; int f32622; int f32623; int f32624; int f32625; int f32626; int f32627; int f32628; int f32629; int f32630; int f32631; int f32632; int f32633; int f32634; int f32635; int f32636; int f32637; int f32638; int f32639; int f32640; int f32641; int f32642; int f32643; int f32644; int f32645; int f32646; int f32647; int f32648; int f32649; int f32650; int f32651; int f32652; int f32653; int f32654; int f32655; int f32656; int f32657; int f32658; int f32659; int f32660; int f32661; int f32662; int f32663; int f32664; int f32665; int f32666; int f32667; int f32668; int f32669; int f32670; int f32671; int f32672; int f32673; int f32674; int f32675; int f32676; int f32677; int f32678; int f32679; int f32680; int f32681; int f32682; int f32683; int f32684; int f32685; int f32686; int f32687; int f32688; int f32689; int f32690; int f32691; int f32692; int f32693; int f32694; int f32695; int f32696; int f32697; int f32698; int f32699;
+    int f32700; int f32701; int f32702; int f32703; int f32704; int f32705; int f32706; int f32707; int f32708; int f32709; int f32710; int f32711; int f32712; int f32713; int f32714; int f32715; int f32716; int f32717; int f32718; int f32719; int f32720; int f32721; int f32722; int f32723; int f32724; int f32725; int f32726; int f32727; int f32728; int f32729; int f32730; int f32731; int f32732; int f32733; int f32734; int f32735; int f32736; int f32737; int f32738; int f32739; int f32740; int f32741; int f32742; int f32743; int f32744; int f32745; int f32746; int f32747; int f32748; int f32749; int f32750; int f32751; int f32752; int f32753; int f32754; int f32755; int f32756; int f32757; int f32758; int f32759; int f32760; int f32761; int f32762; int f32763; int f32764; int f32765; int f32766; int f32767; int f32768; int f32769; int f32770; int f32771; int f32772; int f32773; int f32774; int f32775; int f32776; int f32777; int f32778; int f32779; int f32780; int f32781; int f32782; int f32783; int f32784; int f32785; int f32786; int f32787; int f32788; int f32789; int f32790; int f32791; int f32792; int f32793; int f32794; int f32795; int f32796; int f32797; int f32798; int f32799;
+    int f32800; int f32801; int f32802; int f32803; int f32804; int f32805; int f32806; int f32807; int f32808; int f32809; int f32810; int f32811; int f32812; int f32813; int f32814; int f32815; int f32816; int f32817; int f32818; int f32819; int f32820; int f32821; int f32822; int f32823; int f32824; int f32825; int f32826; int f32827; int f32828; int f32829; int f32830; int f32831; int f32832; int f32833; int f32834; int f32835; int f32836; int f32837; int f32838; int f32839; int f32840; int f32841; int f32842; int f32843; int f32844; int f32845; int f32846; int f32847; int f32848; int f32849; int f32850; int f32851; int f32852; int f32853; int f32854; int f32855; int f32856; int f32857; int f32858; int f32859; int f32860; int f32861; int f32862; int f32863; int f32864; int f32865; int f32866; int f32867; int f32868; int f32869; int f32870; int f32871; int f32872; int f32873; int f32874; int f32875; int f32876; int f32877; int f32878; int f32879; int f32880; int f32881; int f32882; int f32883; int f32884; int f32885; int f32886; int f32887; int f32888; int f32889; int f32890; int f32891; int f32892; int f32893; int f32894; int f32895; int f32896; int f32897; int f32898; int f32899;
+    int f32900; int f32901; int f32902; int f32903; int f32904; int f32905; int f32906; int f32907; int f32908; int f32909; int f32910; int f32911; int f32912; int f32913; int f32914; int f32915; int f32916; int f32917; int f32918; int f32919; int f32920; int f32921; int f32922; int f32923; int f32924; int f32925; int f32926; int f32927; int f32928; int f32929; int f32930; int f32931; int f32932; int f32933; int f32934; int f32935; int f32936; int f32937; int f32938; int f32939; int f32940; int f32941; int f32942; int f32943; int f32944; int f32945; int f32946; int f32947; int f32948; int f32949; int f32950; int f32951; int f32952; int f32953; int f32954; int f32955; int f32956; int f32957; int f32958; int f32959; int f32960; int f32961; int f32962; int f32963; int f32964; int f32965; int f32966; int f32967; int f32968; int f32969; int f32970; int f32971; int f32972; int f32973; int f32974; int f32975; int f32976; int f32977; int f32978; int f32979; int f32980; int f32981; int f32982; int f32983; int f32984; int f32985; int f32986; int f32987; int f32988; int f32989; int f32990; int f32991; int f32992; int f32993; int f32994; int f32995; int f32996; int f32997; int f32998; int f32999;
+
+    public int Push(int v) {
+        head = new Node().Init(v, head);
+        count = count + 1;
+        f32999 = f32999 + v;
+        return count;
+    }
+
+    // sum of the values in the list, which must be the same as f32999
+    public int Sum() {
+        int i;
+        int s;
+        Node n;
+        i = 0;
+        s = 0;
+        n = head;
+        while (i < count) {
+            s = s + n.Val();
+            n = n.Next();
+            i = i + 1;
+        }
+        return s;
+    }
+
+    public int Total() {
+        return f32999;
+    }
+}
+
+class Holder {
+    public int Run(int rounds, int garbage) {
+        Big big;
+        Big dropped;
+        Node junk;
+        int i;
+        int j;
+        int k;
+        big = new Big();
+        dropped = big;
+        junk = new Node();
+        i = 0;
+        k = 0;
+        while (i < rounds) {
+            j = big.Push(i * 7);
+            j = 0;
+            while (j < garbage) {
+                junk = new Node().Init(j, junk);
+                j = j + 1;
+            }
+            junk = new Node();
+            k = k + 1;
+            if (9 < k) {
+                dropped = new Big();
+                k = 0;
+            } else {
+            }
+            i = i + 1;
+        }
+        System.out.println(big.Sum());
+        System.out.println(big.Total());
+        return dropped.Push(1) + big.Push(1);
+    }
+}
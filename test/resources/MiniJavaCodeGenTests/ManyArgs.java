@@ -0,0 +1,54 @@
+class ManyArgs {
+    public static void main(String[] a) {
+        System.out.println(new M().Start());
+    }
+}
+// Calls with more arguments than argument registers, calls nested inside
+// argument lists, and argument registers that have to be rotated.
+class M {
+    public int Start() {
+        int r;
+        r = this.Seven(1, 2, 3, 4, 5, 6, 7);
+        System.out.println(r);
+        r = this.Seven(this.Id(1), 2, this.Five(0, 0, 0, 0, this.Id(3)), 4, 5, this.Id(6), 7);
+        System.out.println(r);
+        r = this.Rot(1, 2, 3, 4, 5, 0);
+        System.out.println(r);
+        r = this.Six(1, 2, 3, 4, 5, 6);
+        System.out.println(r);
+        return new N().Inherited(3);
+    }
+    public int Id(int x) { return x; }
+    public int Seven(int a, int b, int c, int d, int e, int f, int g) {
+        int r;
+        System.out.println(a); System.out.println(g);
+        r = a; r = r * 10; r = r + b; r = r * 10; r = r + c; r = r * 10; r = r + d;
+        r = r * 10; r = r + e; r = r * 10; r = r + f; r = r * 10; r = r + g;
+        return r;
+    }
+    // rotates its arguments in the recursive call: a cycle of register moves
+    public int Rot(int a, int b, int c, int d, int e, int n) {
+        int r;
+        if (n < 3) r = this.Rot(b, c, d, e, a, n + 1); else {
+            r = a; r = r * 10; r = r + b; r = r * 10; r = r + c; r = r * 10; r = r + d; r = r * 10; r = r + e;
+        }
+        return r;
+    }
+    public int Six(int a, int b, int c, int d, int e, int f) {
+        int r;
+        r = this.Five(f, e, d, c, b);
+        return r + a;
+    }
+    public int Five(int a, int b, int c, int d, int e) {
+        int r;
+        r = a; r = r * 10; r = r + b; r = r * 10; r = r + c; r = r * 10; r = r + d; r = r * 10; r = r + e;
+        return r;
+    }
+}
+class N extends M {
+    public int Inherited(int k) {
+        int r;
+        r = this.Id(k);
+        return r + this.Six(k, k, k, k, k, k);
+    }
+}
@@ -0,0 +1,17 @@
+class NegativeArraySize {
+    public static void main(String[] a) {
+        System.out.println(new Sizes().Run(0 - 1));
+    }
+}
+
+// Stops at the array of length -1, after printing 0 for an empty one.
+class Sizes {
+    public int Run(int n) {
+        int[] empty;
+        int[] negative;
+        empty = new int[n + 1];
+        System.out.println(empty.length);
+        negative = new int[n];
+        return negative.length;
+    }
+}
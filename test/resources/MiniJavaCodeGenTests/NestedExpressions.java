@@ -0,0 +1,29 @@
+class NestedExpressions {
+    public static void main(String[] a) {
+        System.out.println(new Nest().Run(3, 4));
+    }
+}
+
+// Operands that are themselves expressions (evaluated left to right), and
+// the push/pop and compare/branch sequences the peephole pass rewrites.
+class Nest {
+    public int Run(int x, int y) {
+        int[] arr;
+        boolean b;
+        arr = new int[3];
+        arr[1] = 7;
+        System.out.println(x * 10 + y);
+        System.out.println((x + y) * (y - x) - arr[1] * 2);
+        System.out.println(arr[x - 2] + arr[1] * x);
+        System.out.println(this.Sum(x * y, x + y) - this.Sum(y, x - y));
+        b = false;
+        if (!(x < y)) System.out.println(1); else System.out.println(0);
+        if ((x < y) && !b) System.out.println(1); else System.out.println(0);
+        while (!(y < x)) x = x + 2;
+        return x - y - 1;
+    }
+
+    public int Sum(int p, int q) {
+        return p + q;
+    }
+}
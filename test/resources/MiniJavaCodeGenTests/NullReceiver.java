@@ -0,0 +1,21 @@
+class NullReceiver {
+    public static void main(String[] args) {
+        System.out.println(new Holder().Run());
+    }
+}
+
+class Holder {
+    Value v;
+
+    // v is never set; Get does not read any field of it
+    public int Run() {
+        System.out.println(1);
+        return v.Get();
+    }
+}
+
+class Value {
+    public int Get() {
+        return 7;
+    }
+}
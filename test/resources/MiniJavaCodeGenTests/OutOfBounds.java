@@ -0,0 +1,23 @@
+class OutOfBounds {
+    public static void main(String[] a) {
+        System.out.println(new Indexer().Run(5));
+    }
+}
+
+// Stops at the store to index -1, after printing 8 and 0.
+class Indexer {
+    public int Run(int n) {
+        int[] arr;
+        int i;
+        arr = new int[n];
+        i = 0;
+        while (i < arr.length) {
+            arr[i] = i * 2;
+            i = i + 1;
+        }
+        System.out.println(arr[4]);
+        System.out.println(arr[i - 5]);
+        arr[0 - 1] = 3;
+        return arr[n];
+    }
+}
@@ -0,0 +1,47 @@
+class Overloads {
+    public static void main(String[] a) {
+        System.out.println(new A().F());
+    }
+}
+
+// Does not type check: several chains of subclasses overload methods of
+// their superclasses, which must be reported in the same order every time.
+class A {
+    public int F() {
+        return 1;
+    }
+
+    public int G(int x) {
+        return x;
+    }
+}
+
+class B extends A {
+    public int F(int y) {
+        return y;
+    }
+}
+
+class C extends B {
+    public boolean G(int x) {
+        return true;
+    }
+}
+
+class D extends A {
+    public int[] F() {
+        return new int[1];
+    }
+}
+
+class E extends D {
+    public int G() {
+        return 1;
+    }
+}
+
+class H extends A {
+    public int G(boolean b) {
+        return 1;
+    }
+}
@@ -0,0 +1,50 @@
+class RegisterPressure {
+    public static void main(String[] a) {
+        System.out.println(new Pressure().Run(7));
+    }
+}
+
+// Keeps more values live at once than there are registers, across calls,
+// so the register allocator has to spill.
+class Pressure {
+    int[] arr;
+    int f;
+
+    public int Run(int n) {
+        int a1; int a2; int a3; int a4; int a5; int a6; int a7; int a8;
+        int a9; int a10; int a11; int a12; int a13; int a14; int i;
+        boolean b;
+        arr = new int[n + 3];
+        f = 5;
+        a1 = n + 1; a2 = n + 2; a3 = n * 3; a4 = a1 * a2; a5 = a3 - a1;
+        a6 = this.Id(a5); a7 = a6 + a4; a8 = a7 * 2; a9 = this.Sum(a1, a2, a3, a4, a5, a6, a7);
+        a10 = a9 - a8; a11 = a10 + f; a12 = this.Id(a11) + a1; a13 = a12 * a2; a14 = a13 - a3;
+        i = 0;
+        while (i < arr.length) {
+            arr[i] = a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9 + a10 + a11 + a12 + a13 + a14 + i;
+            i = i + 1;
+        }
+        i = 0;
+        b = true;
+        while (b && i < arr.length) {
+            System.out.println(arr[i]);
+            if (!(i < 3)) b = false; else b = true;
+            i = i + 1;
+        }
+        System.out.println(a1); System.out.println(a2); System.out.println(a3);
+        System.out.println(a4); System.out.println(a5); System.out.println(a6);
+        System.out.println(a7); System.out.println(a8); System.out.println(a9);
+        System.out.println(a10); System.out.println(a11); System.out.println(a12);
+        System.out.println(a13); System.out.println(a14);
+        return this.Sum(a14, a13, a12, a11, a10, a9, a8) - this.Sum(a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public int Id(int x) {
+        f = f + x;
+        return x;
+    }
+
+    public int Sum(int x1, int x2, int x3, int x4, int x5, int x6, int x7) {
+        return x1 - x2 + x3 - x4 + x5 - x6 + x7 + f;
+    }
+}
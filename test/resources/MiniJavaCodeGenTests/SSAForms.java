@@ -0,0 +1,64 @@
+class SSAForms {
+    public static void main(String[] a) {
+        System.out.println(new Forms().Run(6));
+    }
+}
+
+// Loops whose variables turn into interdependent phis once copies are
+// folded, plus branches that constant propagation can decide.
+class Forms {
+    public int Run(int n) {
+        int x;
+        int y;
+        int t;
+        int i;
+        int last;
+        int k;
+        boolean debug;
+
+        // swap: x and y flow into each other's phi
+        x = 1;
+        y = 2;
+        i = 0;
+        while (i < n) {
+            t = x;
+            x = y;
+            y = t;
+            i = i + 1;
+        }
+        System.out.println(x);
+        System.out.println(y);
+
+        // the value of i from before the last increment is used after the loop
+        i = 0;
+        last = 0;
+        while (i < n) {
+            last = i;
+            i = i + 1;
+        }
+        System.out.println(last);
+
+        // constant conditions, including one that only becomes constant
+        // because the loop never changes k
+        debug = false;
+        k = 3;
+        i = 0;
+        while (i < n) {
+            if (debug) k = k + 1; else k = k * 1;
+            if (k < 4) x = x + k; else x = 0 - 1;
+            i = i + 1;
+        }
+        System.out.println(x);
+        if (!debug && k < 4) System.out.println(k); else System.out.println(0 - k);
+        return this.Param(n, 0);
+    }
+
+    // reassigned parameters keep their incoming value until redefined
+    public int Param(int n, int acc) {
+        while (0 < n) {
+            acc = acc + n;
+            n = n - 1;
+        }
+        return acc;
+    }
+}
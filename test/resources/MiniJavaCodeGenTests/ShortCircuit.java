@@ -0,0 +1,54 @@
+class ShortCircuit {
+    public static void main(String[] a) {
+        System.out.println(new Sc().Run(4));
+    }
+}
+
+// && used as a value: calls and array accesses on the right must be skipped
+// when the left is false; cheap pure operands may be evaluated either way.
+class Sc {
+    int calls;
+
+    public int Run(int n) {
+        boolean b;
+        boolean z;
+        int[] arr;
+        int i;
+        calls = 0;
+        arr = new int[n];
+        z = true;
+
+        b = (n < 2) && this.Count(true);
+        System.out.println(this.Int(b));
+        b = (2 < n) && this.Count(true);
+        System.out.println(this.Int(b));
+        b = z && !(n < 3);
+        System.out.println(this.Int(b));
+        b = !z && (n < 3);
+        System.out.println(this.Int(b));
+        b = ((1 < n) && z) && ((n - 1) < (n * 2));
+        System.out.println(this.Int(b));
+        System.out.println(calls);
+
+        // the right operand would be out of bounds once i reaches n
+        i = 0;
+        b = true;
+        while (b) {
+            b = (i < arr.length) && (arr[i] < 1);
+            i = i + 1;
+        }
+        System.out.println(i);
+        return calls;
+    }
+
+    public boolean Count(boolean b) {
+        calls = calls + 1;
+        return b;
+    }
+
+    public int Int(boolean b) {
+        int r;
+        if (b) r = 1; else r = 0;
+        return r;
+    }
+}
@@ -0,0 +1,57 @@
+class TypeErrors {
+    public static void main(String[] a) {
+        System.out.println(new A().F(q));
+    }
+}
+
+// Does not type check: more errors than are reported, spread over several
+// methods. Undefined variables and methods are reported at their first use
+// only, even when that use is in an earlier method.
+class A {
+    int x;
+    B y;
+
+    public int F(int p) {
+        x = w;
+        x = w;
+        x = v;
+        x = this.Nope();
+        x = this.Nope();
+        return 1;
+    }
+
+    public int G(int p) {
+        x = this.Nope();
+        x = this.Other();
+        x = w;
+        x = y.Nope();
+        x = y.Nope();
+        x = y;
+        return x;
+    }
+
+    public int H() {
+        x = this.Nope2();
+        x = this.Other();
+        x = u;
+        x = u;
+        x = true;
+        x = false;
+        return x;
+    }
+}
+
+class B extends A {
+    public int K() {
+        boolean t;
+        t = 1;
+        t = 2;
+        t = 3;
+        t = 4;
+        x = this.Nope2();
+        x = this.Nope3();
+        t = 5;
+        t = 6;
+        return t;
+    }
+}
@@ -0,0 +1,26 @@
+class WrappingIndex {
+    public static void main(String[] a) {
+        System.out.println(new Powers().Run(new int[10]));
+    }
+}
+
+// j * 3 wraps around to a negative index after 40 steps (of 64-bit
+// arithmetic), which passes the j < a.length test but must still fail
+// the bounds check
+class Powers {
+    public int Run(int[] a) {
+        int j;
+        int k;
+        j = 1;
+        k = 0;
+        while (k < 60) {
+            if (j < a.length) {
+                a[j] = 1;
+            } else {
+            }
+            j = j * 3;
+            k = k + 1;
+        }
+        return j;
+    }
+}
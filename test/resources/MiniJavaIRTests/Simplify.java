@@ -0,0 +1,38 @@
+class Simplify {
+    public static void main(String[] a) {
+        System.out.println(new Shapes().Run(10));
+    }
+}
+
+// Control flow that lowering leaves full of empty blocks and jumps to jumps,
+// some of it behind conditions that are always true or always false.
+class Shapes {
+    public int Run(int n) {
+        int i;
+        int s;
+        boolean never;
+        never = false;
+        s = 0;
+        i = 0;
+        while (i < n) {
+            if (i < 5) {
+            } else {
+                s = s + i;
+            }
+            if (never) {
+                s = 0;
+            } else {
+            }
+            i = i + 1;
+        }
+        while (never) {
+            s = s + 1;
+        }
+        if (true) {
+            System.out.println(s);
+        } else {
+            System.out.println(0);
+        }
+        return s;
+    }
+}
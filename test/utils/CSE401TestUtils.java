@@ -7,6 +7,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -263,6 +264,64 @@ public final class CSE401TestUtils {
     public static ExecutionResult compileAndRunWithMiniJava(
             Path pathToMiniJavaSourceFile,
             String... argsForCompiledMiniJavaProgram
+    ) throws IOException, InterruptedException {
+        return compileAndRunWithMiniJava(pathToMiniJavaSourceFile, List.of(),
+                argsForCompiledMiniJavaProgram);
+    }
+
+    /**
+     * Same as {@link #compileAndRunWithMiniJava(Path, String...)}, but passes
+     * the given options (e.g. {@code "-O"}) to the MiniJava compiler.
+     *
+     * @param pathToMiniJavaSourceFile       path to the MiniJava source code to
+     *                                       be compiled.
+     * @param compilerOptions                options to pass to the MiniJava
+     *                                       compiler before the source file.
+     * @param argsForCompiledMiniJavaProgram arguments to pass to the compiled
+     *                                       MiniJava program.
+     * @return the exit status, and printed contents in {@code System.out} and
+     * {@code System.err}.
+     * @throws IOException          if the given MiniJava source file
+     *                              can't be read.
+     * @throws InterruptedException if either the MiniJava compiler, gcc, or the
+     *                              compiled program didn't finish running in
+     *                              reasonable time.
+     */
+    public static ExecutionResult compileAndRunWithMiniJava(
+            Path pathToMiniJavaSourceFile,
+            List<String> compilerOptions,
+            String... argsForCompiledMiniJavaProgram
+    ) throws IOException, InterruptedException {
+        return compileAndRunWithMiniJava(pathToMiniJavaSourceFile, compilerOptions, Map.of(),
+                argsForCompiledMiniJavaProgram);
+    }
+
+    /**
+     * Same as {@link #compileAndRunWithMiniJava(Path, List, String...)}, but
+     * runs the compiled program with the given environment variables set
+     * (e.g. {@code MJ_HEAP_MAX}, see boot.c).
+     *
+     * @param pathToMiniJavaSourceFile       path to the MiniJava source code to
+     *                                       be compiled.
+     * @param compilerOptions                options to pass to the MiniJava
+     *                                       compiler before the source file.
+     * @param environment                    variables to add to the environment
+     *                                       of the compiled program.
+     * @param argsForCompiledMiniJavaProgram arguments to pass to the compiled
+     *                                       MiniJava program.
+     * @return the exit status, and printed contents in {@code System.out} and
+     * {@code System.err}.
+     * @throws IOException          if the given MiniJava source file
+     *                              can't be read.
+     * @throws InterruptedException if either the MiniJava compiler, gcc, or the
+     *                              compiled program didn't finish running in
+     *                              reasonable time.
+     */
+    public static ExecutionResult compileAndRunWithMiniJava(
+            Path pathToMiniJavaSourceFile,
+            List<String> compilerOptions,
+            Map<String, String> environment,
+            String... argsForCompiledMiniJavaProgram
     ) throws IOException, InterruptedException {
         String filename = pathToMiniJavaSourceFile.getFileName().toString();
 
@@ -279,12 +338,13 @@ public final class CSE401TestUtils {
 
         // Compile MiniJava code using the MiniJava compiler to assembly
         String root = CSE401TestUtils.shouldUseRootRelativePath() ? "." : "..";
-        ExecutionResult compileResult = CSE401TestUtils.exec(
+        List<String> compileArgs = new ArrayList<>(List.of(
                 "java",
                 "-cp", String.format("%s/build/classes%s%s/lib/java-cup-11b.jar", root, System.getProperty("path.separator"), root),
-                "MiniJava",
-                pathToMiniJavaSourceFile.toString()
-        );
+                "MiniJava"));
+        compileArgs.addAll(compilerOptions);
+        compileArgs.add(pathToMiniJavaSourceFile.toString());
+        ExecutionResult compileResult = CSE401TestUtils.exec(compileArgs);
         assertEquals("MiniJava compiler failed to compile " + pathToMiniJavaSourceFile + ".",
                 "", compileResult.systemErr());
         assertEquals("MiniJava compiler didn't exit with status 0.",
@@ -311,7 +371,7 @@ public final class CSE401TestUtils {
         List<String> argsForExec = new ArrayList<>();
         argsForExec.add(outputFile);
         argsForExec.addAll(Arrays.asList(argsForCompiledMiniJavaProgram));
-        return exec(argsForExec);
+        return exec(argsForExec, environment);
     }
 
     /**
@@ -348,7 +408,14 @@ public final class CSE401TestUtils {
 
     private static ExecutionResult exec(List<String> args)
             throws IOException, InterruptedException {
-        Process process = new ProcessBuilder(args).start();
+        return exec(args, Map.of());
+    }
+
+    private static ExecutionResult exec(List<String> args, Map<String, String> environment)
+            throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(args);
+        builder.environment().putAll(environment);
+        Process process = builder.start();
         // yes, input stream contains contents of stdout
         String systemOut = new String(process.getInputStream().readAllBytes());
         String systemErr = new String(process.getErrorStream().readAllBytes());
@@ -2,7 +2,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static org.junit.Assert.*;
@@ -63,6 +65,8 @@ import static org.junit.Assert.*;
  */
 public class MiniJavaTestBuilder {
     private final List<Consumer<ExecutionResult>> assertions = new ArrayList<>();
+    private final List<String> compilerOptions = new ArrayList<>();
+    private final Map<String, String> environment = new HashMap<>();
 
     /**
      * Constructs a {@code MiniJavaTestBuilder}.
@@ -70,6 +74,32 @@ public class MiniJavaTestBuilder {
     public MiniJavaTestBuilder() {
     }
 
+    /**
+     * Passes the given options (e.g. {@code "-O"}) to the MiniJava compiler
+     * in {@link #testCompiledProgramOutputMatchesJava}.
+     *
+     * @param options the options to pass before the source file.
+     * @return this.
+     */
+    public MiniJavaTestBuilder withCompilerOptions(String... options) {
+        compilerOptions.addAll(List.of(options));
+        return this;
+    }
+
+    /**
+     * Sets an environment variable of the program compiled by MiniJava in
+     * {@link #testCompiledProgramOutputMatchesJava} (e.g. one of the
+     * runtime's settings, like {@code MJ_HEAP_MAX}).
+     *
+     * @param name  the name of the variable.
+     * @param value its value.
+     * @return this.
+     */
+    public MiniJavaTestBuilder withEnvironment(String name, String value) {
+        environment.put(name, value);
+        return this;
+    }
+
     public MiniJavaTestBuilder assertExecutionResult(Consumer<ExecutionResult> consumer) {
         assertions.add(consumer);
         return this;
@@ -469,7 +499,7 @@ public class MiniJavaTestBuilder {
         assertEquals("failed to compile and run with Java.",
                 0, expectedResult.exitStatus());
         ExecutionResult miniJavaResult = CSE401TestUtils
-                .compileAndRunWithMiniJava(path, argsForCompiledMiniJavaProgram);
+                .compileAndRunWithMiniJava(path, compilerOptions, environment, argsForCompiledMiniJavaProgram);
         // Note that here we use "standard output" instead of "System.out" to
         // signify that this describing the behavior of the compiled program,
         // not the MiniJava compiler itself.